@@ -0,0 +1,45 @@
+package com.ldbc.driver;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+
+/**
+ * Operation handler that does not block the calling thread for the duration of the database round trip.
+ * <p>
+ * The handler issues the request and returns immediately, completing the returned future once the result has been
+ * reported to the ResultReporter. Latency, completion time and metrics are recorded when the future completes,
+ * so the driver thread that submitted the operation is free to start other operations in the meantime.
+ * <p>
+ * When executed by an executor that can not track completion (e.g., blocking streams, child operations) the driver
+ * falls back to executeOperation(), which waits for the future to complete.
+ */
+public interface AsynchronousOperationHandler<OPERATION_TYPE extends Operation,
+        DB_CONNECTION_STATE_TYPE extends DbConnectionState>
+        extends OperationHandler<OPERATION_TYPE,DB_CONNECTION_STATE_TYPE>
+{
+    CompletableFuture<Void> executeOperationAsynchronously(
+            OPERATION_TYPE operation,
+            DB_CONNECTION_STATE_TYPE dbConnectionState,
+            ResultReporter resultReporter ) throws DbException;
+
+    @Override
+    default void executeOperation(
+            OPERATION_TYPE operation,
+            DB_CONNECTION_STATE_TYPE dbConnectionState,
+            ResultReporter resultReporter ) throws DbException
+    {
+        try
+        {
+            executeOperationAsynchronously( operation, dbConnectionState, resultReporter ).get();
+        }
+        catch ( InterruptedException e )
+        {
+            Thread.currentThread().interrupt();
+            throw new DbException( "Interrupted while waiting for asynchronous operation to complete", e );
+        }
+        catch ( ExecutionException e )
+        {
+            throw new DbException( "Error encountered while executing asynchronous operation", e.getCause() );
+        }
+    }
+}
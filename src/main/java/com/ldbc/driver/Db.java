@@ -19,7 +19,7 @@ public abstract class Db implements Closeable
     private DbConnectionState dbConnectionState = null;
     private Map<Class<? extends Operation>,OperationHandler> operationHandlers = new HashMap<>();
     private OperationHandler[] operationHandlersArray = null;
-    private OperationHandlerRunnerFactory operationHandlerRunnableContextFactory = null;
+    private RecyclingOperationHandlerRunnerFactory operationHandlerRunnableContextFactory = null;
 
     synchronized public final void init(
             Map<String,String> params,
@@ -33,7 +33,7 @@ public abstract class Db implements Closeable
         }
         onInit( params, loggingService );
         dbConnectionState = getConnectionState();
-        operationHandlerRunnableContextFactory = new PoolingOperationHandlerRunnerFactory(
+        operationHandlerRunnableContextFactory = new RecyclingOperationHandlerRunnerFactory(
                 new InstantiatingOperationHandlerRunnerFactory()
         );
         operationHandlersArray = toOperationHandlerArray( operationTypeToClassMapping, operationHandlers );
@@ -65,21 +65,25 @@ public abstract class Db implements Closeable
         }
     }
 
-    // TODO this is a temporary hack to support warmup more easily, because the runnable contexts need to be cleared
-    // TODO ultimately this would be done in another way
+    /**
+     * Makes recycled runnable contexts drop the services they were initialized with, e.g., between warmup and run.
+     * Must only be called while no operations are executing.
+     */
     synchronized public final void reInit() throws DbException
     {
-        try
-        {
-            operationHandlerRunnableContextFactory.shutdown();
-        }
-        catch ( OperationException e )
+        if ( !isInitialized )
         {
-            throw new DbException( "Error shutting down operation handler runnable factory", e );
+            throw new DbException( "DB must be initialized before it can be reinitialized" );
         }
-        operationHandlerRunnableContextFactory = new PoolingOperationHandlerRunnerFactory(
-                new InstantiatingOperationHandlerRunnerFactory()
-        );
+        operationHandlerRunnableContextFactory.reset();
+    }
+
+    /**
+     * @return hit/miss/allocation counters of runnable context recycling, since init() or the last reInit()
+     */
+    public final RecyclingOperationHandlerRunnerFactory.RecyclingStats operationHandlerRunnableContextRecyclingStats()
+    {
+        return operationHandlerRunnableContextFactory.stats();
     }
 
     /**
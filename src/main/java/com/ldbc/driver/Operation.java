@@ -3,17 +3,30 @@ package com.ldbc.driver;
 import com.ldbc.driver.temporal.TemporalUtil;
 
 import java.util.Map;
+import java.util.concurrent.TimeUnit;
 
 public abstract class Operation<RESULT_TYPE>
 {
     private static final TemporalUtil temporalutil = new TemporalUtil();
     private long scheduledStartTimeAsMilli = -1;
+    private long scheduledStartTimeAsNano = -1;
     private long timeStamp = -1;
     private long dependencyTimeStamp = -1;
 
     public final void setScheduledStartTimeAsMilli( long scheduledStartTimeAsMilli )
     {
         this.scheduledStartTimeAsMilli = scheduledStartTimeAsMilli;
+        this.scheduledStartTimeAsNano = TimeUnit.MILLISECONDS.toNanos( scheduledStartTimeAsMilli );
+    }
+
+    /**
+     * Sets scheduled start time at sub-millisecond resolution, millisecond scheduled start time is rounded from it.
+     * Operations are released at their nanosecond scheduled start time.
+     */
+    public final void setScheduledStartTimeAsNano( long scheduledStartTimeAsNano )
+    {
+        this.scheduledStartTimeAsNano = scheduledStartTimeAsNano;
+        this.scheduledStartTimeAsMilli = TemporalUtil.nanoTimeToRoundedMilli( scheduledStartTimeAsNano );
     }
 
     public final void setDependencyTimeStamp( long dependencyTimeStamp )
@@ -26,6 +39,11 @@ public abstract class Operation<RESULT_TYPE>
         return scheduledStartTimeAsMilli;
     }
 
+    public final long scheduledStartTimeAsNano()
+    {
+        return scheduledStartTimeAsNano;
+    }
+
     public final long dependencyTimeStamp()
     {
         return dependencyTimeStamp;
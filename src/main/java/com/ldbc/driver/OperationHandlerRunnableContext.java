@@ -1,21 +1,26 @@
 package com.ldbc.driver;
 
 import com.ldbc.driver.runtime.ConcurrentErrorReporter;
+import com.ldbc.driver.runtime.coordination.CompletionTimeException;
 import com.ldbc.driver.runtime.coordination.CompletionTimeWriter;
 import com.ldbc.driver.runtime.metrics.MetricsCollectionException;
 import com.ldbc.driver.runtime.metrics.MetricsService;
 import com.ldbc.driver.runtime.scheduling.Spinner;
 import com.ldbc.driver.runtime.scheduling.SpinnerCheck;
 import com.ldbc.driver.temporal.TimeSource;
-import stormpot.Poolable;
-import stormpot.Slot;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
 
 import static java.lang.String.format;
 
-public class OperationHandlerRunnableContext implements Runnable, Poolable
+public class OperationHandlerRunnableContext implements Runnable
 {
-    // set by OperationHandlerRunnerFactory
-    private Slot slot = null;
+    // set by RecyclingOperationHandlerRunnerFactory
+    private RecyclingOperationHandlerRunnerFactory recycler = null;
+    private int recyclingGeneration = 0;
+    private OperationHandlerRunnableContext nextFree = null;
 
     // set by Db
     private DbConnectionState dbConnectionState = null;
@@ -32,13 +37,48 @@ public class OperationHandlerRunnableContext implements Runnable, Poolable
     // set by DependencyAndNonDependencyHandlersRetriever
     private SpinnerCheck beforeExecuteCheck = null;
 
+    // set by executors that are able to track completion of asynchronous handlers
+    private AsynchronousCompletionListener asynchronousCompletionListener = null;
+
     private boolean initialized = false;
 
     private ResultReporter.SimpleResultReporter resultReporter = null;
 
-    final void setSlot( Slot slot )
+    final void setRecycler( RecyclingOperationHandlerRunnerFactory recycler, int recyclingGeneration )
+    {
+        this.recycler = recycler;
+        this.recyclingGeneration = recyclingGeneration;
+    }
+
+    final int recyclingGeneration()
     {
-        this.slot = slot;
+        return recyclingGeneration;
+    }
+
+    final OperationHandlerRunnableContext nextFree()
+    {
+        return nextFree;
+    }
+
+    final void setNextFree( OperationHandlerRunnableContext nextFree )
+    {
+        this.nextFree = nextFree;
+    }
+
+    /**
+     * Drops services retained from previous initializations, so the next init() retrieves them again
+     */
+    final void clearServices( int recyclingGeneration )
+    {
+        this.timeSource = null;
+        this.spinner = null;
+        this.errorReporter = null;
+        this.resultReporter = null;
+        this.metricsServiceWriter = null;
+        this.operation = null;
+        this.completionTimeWriter = null;
+        this.beforeExecuteCheck = null;
+        this.recyclingGeneration = recyclingGeneration;
     }
 
     public final void init( TimeSource timeSource,
@@ -91,6 +131,26 @@ public class OperationHandlerRunnableContext implements Runnable, Poolable
         beforeExecuteCheck = check;
     }
 
+    /**
+     * If set, handlers that implement AsynchronousOperationHandler are not waited on by run().
+     * Instead, once the handler completes, results are recorded and the listener is notified on the executor of the
+     * listener. Listener is cleared when the context is released.
+     */
+    public final void setAsynchronousCompletionListener( AsynchronousCompletionListener asynchronousCompletionListener )
+    {
+        this.asynchronousCompletionListener = asynchronousCompletionListener;
+    }
+
+    /**
+     * Must be checked before calling run().
+     * If true, run() may return before the operation has completed, in which case the asynchronous completion
+     * listener is responsible for post-execution work (child operations, cleanup, etc.)
+     */
+    public final boolean executesAsynchronously()
+    {
+        return null != asynchronousCompletionListener && operationHandler instanceof AsynchronousOperationHandler;
+    }
+
     public final Operation operation()
     {
         return operation;
@@ -128,6 +188,10 @@ public class OperationHandlerRunnableContext implements Runnable, Poolable
             errorReporter.reportError( this, "Handler was executed before being initialized" );
             return;
         }
+        // if true, the asynchronous completion listener must be called exactly once, from whichever thread
+        // finishes with this context
+        boolean asynchronous = executesAsynchronously();
+        boolean completionDelegated = false;
         try
         {
             if ( !spinner.waitForScheduledStartTime( operation, beforeExecuteCheck ) )
@@ -137,26 +201,23 @@ public class OperationHandlerRunnableContext implements Runnable, Poolable
                 // Spinner result indicates operation should not be processed
                 return;
             }
-            resultReporter.setActualStartTimeAsMilli( timeSource.nowAsMilli() );
-            long startOfLatencyMeasurementAsNano = timeSource.nanoSnapshot();
-            operationHandler.executeOperation( operation, dbConnectionState, resultReporter );
-            long endOfLatencyMeasurementAsNano = timeSource.nanoSnapshot();
-            resultReporter.setRunDurationAsNano( endOfLatencyMeasurementAsNano - startOfLatencyMeasurementAsNano );
-            if ( null == resultReporter().result() )
+            resultReporter.setActualStartTimeAsNano( timeSource.nowAsNano() );
+            final long startOfLatencyMeasurementAsNano = timeSource.nanoSnapshot();
+            if ( asynchronous )
             {
-                errorReporter.reportError( this, format( "Operation result is null\nOperation: %s", operation ) );
+                CompletableFuture<Void> completion = ((AsynchronousOperationHandler) operationHandler)
+                        .executeOperationAsynchronously( operation, dbConnectionState, resultReporter );
+                // --- NON-BLOCKING CALL (handler thread is released before operation completes) ---
+                completion.whenComplete( ( ignore, throwable ) -> onAsynchronousCompletion(
+                        timeSource.nanoSnapshot() - startOfLatencyMeasurementAsNano,
+                        throwable
+                ) );
+                completionDelegated = true;
             }
             else
             {
-                completionTimeWriter.submitCompletedTime( operation.timeStamp() );
-                metricsServiceWriter.submitOperationResult(
-                        operation.type(),
-                        operation.scheduledStartTimeAsMilli(),
-                        resultReporter.actualStartTimeAsMilli(),
-                        resultReporter.runDurationAsNano(),
-                        resultReporter.resultCode(),
-                        operation.timeStamp()
-                );
+                operationHandler.executeOperation( operation, dbConnectionState, resultReporter );
+                recordCompletion( timeSource.nanoSnapshot() - startOfLatencyMeasurementAsNano );
             }
         }
         catch ( Throwable e )
@@ -166,18 +227,94 @@ public class OperationHandlerRunnableContext implements Runnable, Poolable
                     ConcurrentErrorReporter.stackTraceToString( e ) );
             errorReporter.reportError( this, errMsg );
         }
+        finally
+        {
+            if ( asynchronous && !completionDelegated )
+            {
+                asynchronousCompletionListener.onCompletion( this );
+            }
+        }
+    }
+
+    // Called from the thread that completed the handler, often an I/O thread of the database client, so only the
+    // latency measurement is taken here and everything else is handed to the executor of the listener
+    private void onAsynchronousCompletion( final long runDurationAsNano, final Throwable throwable )
+    {
+        // copy reference, as listener may release (and clear) this context
+        final AsynchronousCompletionListener listener = asynchronousCompletionListener;
+        try
+        {
+            listener.completionExecutor().execute( () -> completeAsynchronously( listener, runDurationAsNano,
+                    throwable ) );
+        }
+        catch ( RejectedExecutionException e )
+        {
+            // executor is shutting down, there is nowhere else to complete the handler
+            completeAsynchronously( listener, runDurationAsNano, throwable );
+        }
     }
 
+    private void completeAsynchronously( AsynchronousCompletionListener listener,
+            long runDurationAsNano,
+            Throwable throwable )
+    {
+        try
+        {
+            if ( null == throwable )
+            {
+                recordCompletion( runDurationAsNano );
+            }
+            else
+            {
+                errorReporter.reportError( this, format( "Error encountered\n%s\n%s",
+                        operation,
+                        ConcurrentErrorReporter.stackTraceToString( throwable ) ) );
+            }
+        }
+        catch ( Throwable e )
+        {
+            errorReporter.reportError( this, format( "Error encountered\n%s\n%s",
+                    operation,
+                    ConcurrentErrorReporter.stackTraceToString( e ) ) );
+        }
+        finally
+        {
+            listener.onCompletion( this );
+        }
+    }
+
+    private void recordCompletion( long runDurationAsNano )
+            throws MetricsCollectionException, CompletionTimeException
+    {
+        resultReporter.setRunDurationAsNano( runDurationAsNano );
+        if ( null == resultReporter().result() )
+        {
+            errorReporter.reportError( this, format( "Operation result is null\nOperation: %s", operation ) );
+        }
+        else
+        {
+            completionTimeWriter.submitCompletedTime( operation.timeStamp() );
+            metricsServiceWriter.submitOperationResultAsNano(
+                    operation.type(),
+                    operation.scheduledStartTimeAsNano(),
+                    resultReporter.actualStartTimeAsNano(),
+                    resultReporter.runDurationAsNano(),
+                    resultReporter.resultCode(),
+                    operation.timeStamp()
+            );
+        }
+    }
 
     @Override
     public String toString()
     {
         return "OperationHandlerRunner\n" +
                "    -> resultReporter=" + resultReporter + "\n" +
-               "    -> slot=" + slot + "\n" +
+               "    -> recycler=" + recycler + "\n" +
                "    -> operation=" + operation + "\n" +
                "    -> beforeExecuteCheck=" + beforeExecuteCheck + "\n" +
                "    -> operationHandler=" + operationHandler + "\n" +
+               "    -> asynchronousCompletionListener=" + asynchronousCompletionListener + "\n" +
                "    -> initialized=" + initialized;
     }
 
@@ -186,14 +323,30 @@ public class OperationHandlerRunnableContext implements Runnable, Poolable
         release();
     }
 
-    // Note, this should not really be public API, it is from the StormPot Poolable interface
-    @Override
+    // Note, this should not really be public API, contexts should be released via cleanup()
     public final void release()
     {
         initialized = false;
-        if ( null != slot )
+        asynchronousCompletionListener = null;
+        if ( null != recycler )
         {
-            slot.release( this );
+            recycler.recycle( this );
         }
     }
+
+    public interface AsynchronousCompletionListener
+    {
+        /**
+         * Called exactly once, from a thread of completionExecutor(), after results have been recorded (or the error
+         * has been reported)
+         */
+        void onCompletion( OperationHandlerRunnableContext operationHandlerRunnableContext );
+
+        /**
+         * Executor on which results of asynchronous handlers are recorded and onCompletion() is called, rather than
+         * on the thread that completed the handler, which may belong to the database client.
+         * If it rejects the work, e.g., during shutdown, the completing thread does it instead.
+         */
+        Executor completionExecutor();
+    }
 }
@@ -0,0 +1,328 @@
+package com.ldbc.driver;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+
+import static java.lang.String.format;
+
+/**
+ * Recycles runnable contexts, so operation handler execution does not allocate once the number of contexts in use
+ * stops growing.
+ * <p>
+ * Long-lived platform threads that claim contexts, e.g., stream feeders and pool workers, own a free list.
+ * Released contexts are pushed onto the free list of the releasing thread. When the releasing thread has no free
+ * list, e.g., one-shot virtual threads or database client completion threads, or once its list holds
+ * LOCAL_FREE_LIST_CAPACITY contexts, releases go to a shared lock-free stack instead. Claims pop from the free list of
+ * the claiming thread, when it is empty they take the entire shared stack, and when that is also empty a new context
+ * is allocated. Threads without a free list keep the first context of the shared stack and push the rest back.
+ * Claims never wait and there is no global resize, the number of contexts simply follows the number in use.
+ * <p>
+ * Both lists are linked through the contexts themselves. The shared stack is only ever pushed to and drained as a
+ * whole, never popped one context at a time, so it is not subject to ABA.
+ * <p>
+ * reset() makes every context, including those currently free, drop the services it was initialized with the next
+ * time it is claimed, e.g., between warmup and run.
+ */
+public class RecyclingOperationHandlerRunnerFactory implements OperationHandlerRunnerFactory
+{
+    static final int LOCAL_FREE_LIST_CAPACITY = 256;
+    // Thread.isVirtual() is looked up reflectively, as the driver is compiled for Java 8
+    private static final Method IS_VIRTUAL = isVirtualMethodOrNull();
+
+    private final OperationHandlerRunnerFactory innerOperationHandlerRunnerFactory;
+    private final ThreadLocal<LocalFreeList> localFreeLists = new ThreadLocal<>();
+    private final AtomicReference<OperationHandlerRunnableContext> sharedFreeStack = new AtomicReference<>();
+    private final LongAdder localHitCount = new LongAdder();
+    private final LongAdder sharedHitCount = new LongAdder();
+    private final LongAdder allocationCount = new LongAdder();
+    private final LongAdder overflowCount = new LongAdder();
+    private volatile int generation = 0;
+    private volatile boolean shutdown = false;
+
+    public RecyclingOperationHandlerRunnerFactory( OperationHandlerRunnerFactory operationHandlerRunnerFactory )
+    {
+        this.innerOperationHandlerRunnerFactory = operationHandlerRunnerFactory;
+    }
+
+    @Override
+    public OperationHandlerRunnableContext newOperationHandlerRunner() throws OperationException
+    {
+        if ( shutdown )
+        {
+            throw new OperationException( "Can not claim runnable context after shutdown" );
+        }
+        LocalFreeList localFreeList = localFreeListOfClaimingThread();
+        OperationHandlerRunnableContext operationHandlerRunner = (null == localFreeList) ? null : localFreeList.pop();
+        if ( null != operationHandlerRunner )
+        {
+            localHitCount.increment();
+        }
+        else
+        {
+            operationHandlerRunner = sharedFreeStack.getAndSet( null );
+            if ( null != operationHandlerRunner )
+            {
+                sharedHitCount.increment();
+                // keep the first context, the rest of the stack becomes the free list of this thread
+                OperationHandlerRunnableContext rest = operationHandlerRunner.nextFree();
+                operationHandlerRunner.setNextFree( null );
+                if ( null == localFreeList )
+                {
+                    pushToSharedFreeStack( rest );
+                }
+                else
+                {
+                    localFreeList.adopt( rest );
+                }
+            }
+            else
+            {
+                allocationCount.increment();
+                operationHandlerRunner = innerOperationHandlerRunnerFactory.newOperationHandlerRunner();
+                operationHandlerRunner.setRecycler( this, generation );
+                return operationHandlerRunner;
+            }
+        }
+        int currentGeneration = generation;
+        if ( currentGeneration != operationHandlerRunner.recyclingGeneration() )
+        {
+            operationHandlerRunner.clearServices( currentGeneration );
+        }
+        return operationHandlerRunner;
+    }
+
+    /**
+     * Called by contexts when they are released
+     */
+    void recycle( OperationHandlerRunnableContext operationHandlerRunner )
+    {
+        if ( shutdown )
+        {
+            return;
+        }
+        LocalFreeList localFreeList = (isVirtual( Thread.currentThread() )) ? null : localFreeLists.get();
+        if ( null == localFreeList )
+        {
+            operationHandlerRunner.setNextFree( null );
+            pushToSharedFreeStack( operationHandlerRunner );
+        }
+        else if ( localFreeList.size < LOCAL_FREE_LIST_CAPACITY )
+        {
+            localFreeList.push( operationHandlerRunner );
+        }
+        else
+        {
+            overflowCount.increment();
+            operationHandlerRunner.setNextFree( null );
+            pushToSharedFreeStack( operationHandlerRunner );
+        }
+    }
+
+    /**
+     * Free lists are only created for platform threads, once they claim a context.
+     * Virtual threads are one-shot, contexts released to their free lists would never be claimed again.
+     */
+    private LocalFreeList localFreeListOfClaimingThread()
+    {
+        if ( isVirtual( Thread.currentThread() ) )
+        {
+            return null;
+        }
+        LocalFreeList localFreeList = localFreeLists.get();
+        if ( null == localFreeList )
+        {
+            localFreeList = new LocalFreeList();
+            localFreeLists.set( localFreeList );
+        }
+        return localFreeList;
+    }
+
+    /**
+     * Pushes a chain of contexts, linked via nextFree, onto the shared stack
+     */
+    private void pushToSharedFreeStack( OperationHandlerRunnableContext chainHead )
+    {
+        if ( null == chainHead )
+        {
+            return;
+        }
+        OperationHandlerRunnableContext chainTail = chainHead;
+        while ( null != chainTail.nextFree() )
+        {
+            chainTail = chainTail.nextFree();
+        }
+        OperationHandlerRunnableContext head;
+        do
+        {
+            head = sharedFreeStack.get();
+            chainTail.setNextFree( head );
+        }
+        while ( !sharedFreeStack.compareAndSet( head, chainHead ) );
+    }
+
+    private static boolean isVirtual( Thread thread )
+    {
+        if ( null == IS_VIRTUAL )
+        {
+            return false;
+        }
+        try
+        {
+            return (Boolean) IS_VIRTUAL.invoke( thread );
+        }
+        catch ( Exception e )
+        {
+            return false;
+        }
+    }
+
+    private static Method isVirtualMethodOrNull()
+    {
+        try
+        {
+            return Thread.class.getMethod( "isVirtual" );
+        }
+        catch ( Exception e )
+        {
+            // not available, pre Java 21
+            return null;
+        }
+    }
+
+    /**
+     * Contexts keep references to the services they were first initialized with. After reset those references are
+     * dropped, and contexts are initialized with new services when next claimed.
+     * Must only be called while no contexts are in use, e.g., between warmup and run.
+     */
+    public void reset()
+    {
+        generation++;
+        localHitCount.reset();
+        sharedHitCount.reset();
+        allocationCount.reset();
+        overflowCount.reset();
+    }
+
+    public RecyclingStats stats()
+    {
+        return new RecyclingStats(
+                localHitCount.sum(),
+                sharedHitCount.sum(),
+                allocationCount.sum(),
+                overflowCount.sum()
+        );
+    }
+
+    @Override
+    public void shutdown() throws OperationException
+    {
+        shutdown = true;
+        sharedFreeStack.set( null );
+        innerOperationHandlerRunnerFactory.shutdown();
+    }
+
+    @Override
+    public String toString()
+    {
+        return RecyclingOperationHandlerRunnerFactory.class.getSimpleName() + "{" +
+               innerOperationHandlerRunnerFactory.toString() + ", " + stats() + "}";
+    }
+
+    // only ever accessed by its owning thread
+    private static class LocalFreeList
+    {
+        private OperationHandlerRunnableContext head = null;
+        private int size = 0;
+
+        private OperationHandlerRunnableContext pop()
+        {
+            OperationHandlerRunnableContext operationHandlerRunner = head;
+            if ( null != operationHandlerRunner )
+            {
+                head = operationHandlerRunner.nextFree();
+                operationHandlerRunner.setNextFree( null );
+                size--;
+            }
+            return operationHandlerRunner;
+        }
+
+        private void push( OperationHandlerRunnableContext operationHandlerRunner )
+        {
+            operationHandlerRunner.setNextFree( head );
+            head = operationHandlerRunner;
+            size++;
+        }
+
+        // only called when list is empty
+        private void adopt( OperationHandlerRunnableContext newHead )
+        {
+            head = newHead;
+            size = 0;
+            for ( OperationHandlerRunnableContext context = newHead; null != context; context = context.nextFree() )
+            {
+                size++;
+            }
+        }
+    }
+
+    public static class RecyclingStats
+    {
+        private final long localHitCount;
+        private final long sharedHitCount;
+        private final long allocationCount;
+        private final long overflowCount;
+
+        private RecyclingStats( long localHitCount, long sharedHitCount, long allocationCount, long overflowCount )
+        {
+            this.localHitCount = localHitCount;
+            this.sharedHitCount = sharedHitCount;
+            this.allocationCount = allocationCount;
+            this.overflowCount = overflowCount;
+        }
+
+        /**
+         * @return claims served from the free list of the claiming thread
+         */
+        public long localHitCount()
+        {
+            return localHitCount;
+        }
+
+        /**
+         * @return claims served from the shared stack
+         */
+        public long sharedHitCount()
+        {
+            return sharedHitCount;
+        }
+
+        /**
+         * @return claims that found no free context, and so allocated a new one
+         */
+        public long missCount()
+        {
+            return allocationCount;
+        }
+
+        public long allocationCount()
+        {
+            return allocationCount;
+        }
+
+        /**
+         * @return releases that found the free list of the releasing thread full
+         */
+        public long overflowCount()
+        {
+            return overflowCount;
+        }
+
+        @Override
+        public String toString()
+        {
+            return format( "RecyclingStats{localHits=%s, sharedHits=%s, misses=%s, allocations=%s, overflows=%s}",
+                    localHitCount, sharedHitCount, missCount(), allocationCount, overflowCount );
+        }
+    }
+}
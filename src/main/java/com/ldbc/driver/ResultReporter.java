@@ -1,6 +1,9 @@
 package com.ldbc.driver;
 
 import com.ldbc.driver.runtime.ConcurrentErrorReporter;
+import com.ldbc.driver.temporal.TemporalUtil;
+
+import java.util.concurrent.TimeUnit;
 
 import static java.lang.String.format;
 
@@ -19,12 +22,15 @@ public interface ResultReporter
 
     long actualStartTimeAsMilli();
 
+    long actualStartTimeAsNano();
+
     class SimpleResultReporter implements ResultReporter
     {
         private final ConcurrentErrorReporter errorReporter;
         private Object result = null;
         private int resultCode = -1;
         private long actualStartTimeAsMilli = -1;
+        private long actualStartTimeAsNano = -1;
         private long runDurationAsNano = -1;
 
         public SimpleResultReporter( ConcurrentErrorReporter errorReporter )
@@ -73,6 +79,13 @@ public interface ResultReporter
         public void setActualStartTimeAsMilli( long actualStartTimeAsMilli )
         {
             this.actualStartTimeAsMilli = actualStartTimeAsMilli;
+            this.actualStartTimeAsNano = TimeUnit.MILLISECONDS.toNanos( actualStartTimeAsMilli );
+        }
+
+        public void setActualStartTimeAsNano( long actualStartTimeAsNano )
+        {
+            this.actualStartTimeAsNano = actualStartTimeAsNano;
+            this.actualStartTimeAsMilli = TemporalUtil.nanoTimeToRoundedMilli( actualStartTimeAsNano );
         }
 
         @Override
@@ -81,6 +94,12 @@ public interface ResultReporter
             return actualStartTimeAsMilli;
         }
 
+        @Override
+        public long actualStartTimeAsNano()
+        {
+            return actualStartTimeAsNano;
+        }
+
         @Override
         public Object result()
         {
@@ -95,6 +114,7 @@ public interface ResultReporter
                    "\t-->result=" + result + "\n" +
                    "\t-->resultCode=" + resultCode + "\n" +
                    "\t-->actualStartTimeAsMilli=" + actualStartTimeAsMilli + "\n" +
+                   "\t-->actualStartTimeAsNano=" + actualStartTimeAsNano + "\n" +
                    "\t-->runDurationAsNano=" + runDurationAsNano + "\n" +
                    '}';
         }
@@ -6,11 +6,16 @@ import com.ldbc.driver.generator.GeneratorFactory;
 import com.ldbc.driver.validation.ResultsLogValidationTolerances;
 
 import java.io.Closeable;
+import java.io.File;
 import java.io.IOException;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.concurrent.TimeUnit;
 
+import static java.lang.String.format;
+
 public abstract class Workload implements Closeable {
 
     public static final long DEFAULT_MAXIMUM_EXPECTED_INTERLEAVE_AS_MILLI = TimeUnit.HOURS.toMillis(1);
@@ -88,12 +93,71 @@ public abstract class Workload implements Closeable {
     protected abstract WorkloadStreams getStreams(GeneratorFactory generators, boolean hasDbConnected)
             throws WorkloadException;
 
+    /**
+     * Get workload streams without the operations that have a lower time stamp than fromTimeStamp, with readers
+     * opened at the given offsets of the files they are read from, rather than at the beginning of those files
+     * @param gf random number generator factory
+     * @param hasDbConnected if database has been connected to
+     * @param fromTimeStamp time stamp of the first operation to retrieve
+     * @param streamFileOffsets offsets returned by operationStreamFileOffsets() for fromTimeStamp
+     * @return workload streams
+     * @throws WorkloadException workload exception
+     */
+    public final WorkloadStreams streams(
+            GeneratorFactory gf,
+            boolean hasDbConnected,
+            long fromTimeStamp,
+            long[] streamFileOffsets) throws WorkloadException {
+        if (!isInitialized) {
+            throw new WorkloadException("Workload has not been initialized");
+        }
+        return getStreams(gf, hasDbConnected, fromTimeStamp, streamFileOffsets);
+    }
+
+    protected WorkloadStreams getStreams(
+            GeneratorFactory generators,
+            boolean hasDbConnected,
+            long fromTimeStamp,
+            long[] streamFileOffsets) throws WorkloadException {
+        throw new WorkloadException(format("Streams of %s can not be opened at an offset", getClass().getName()));
+    }
+
+    /**
+     * Files the workload streams are read from, used to fingerprint the index of stream positions
+     * (see WorkloadStreamsIndex). Workloads that return files must produce the same streams whenever the files and
+     * configuration are the same, regardless of generator factory state.
+     * @return operation stream files, or an empty list to disable the index
+     */
+    public List<File> operationStreamFiles() {
+        return Collections.emptyList();
+    }
+
+    /**
+     * Offsets at which to open the files the workload streams are read from, to start streams at each of the given
+     * time stamps (see streams(GeneratorFactory, boolean, long, long[])). Only workloads whose streams are ordered by
+     * time stamp can support it.
+     * @param timeStamps time stamps, in ascending order
+     * @return offsets for each time stamp, or null if streams can not be opened at an offset
+     * @throws WorkloadException workload exception
+     */
+    public long[][] operationStreamFileOffsets(long[] timeStamps) throws WorkloadException {
+        return null;
+    }
+
     public abstract DbValidationParametersFilter getDbValidationParametersFilter(int requiredValidationParameterCount);
 
     public long maxExpectedInterleaveAsMilli() {
         return DEFAULT_MAXIMUM_EXPECTED_INTERLEAVE_AS_MILLI;
     }
 
+    /**
+     * @return true if every blocking stream is an independent session, e.g., of a throughput test, in which case
+     * per-stream metrics are reported along with the workload results
+     */
+    public boolean blockingStreamsAreSessions() {
+        return false;
+    }
+
     public abstract String serializeOperation(Operation operation) throws SerializingMarshallingException;
 
     public abstract Operation marshalOperation(String serializedOperation) throws SerializingMarshallingException;
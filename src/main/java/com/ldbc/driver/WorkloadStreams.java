@@ -242,16 +242,41 @@ public class WorkloadStreams {
             childOperationGenerators.add(stream.childOperationGenerator());
         }
 
-        // stream through streams once, to calculate how many operations are needed from each,
-        // to get operation_count in total
+        // look up how many operations are needed from each stream, to get operation_count in total,
+        // in the index of positions recorded by previous runs over the same streams
+        LoggingService loggingService =
+                loggingServiceFactory.loggingServiceFor(WorkloadStreams.class.getSimpleName());
+        WorkloadStreamsIndex index = WorkloadStreamsIndex.forWorkload(workload, configuration, streams.size());
         Tuple3<long[], long[], Long> limitsAndMinimumsForStream =
-                WorkloadStreams.fromAmongAllRetrieveTopCountFromOffset(
-                        streams,
-                        offset,
-                        limit,
-                        childOperationGenerators,
-                        loggingServiceFactory
-                );
+                (null == index) ? null : index.lookup(offset, limit);
+        if (null != limitsAndMinimumsForStream) {
+            loggingService.info(format("Retrieved offset & limit of workload streams from index: %s",
+                    index.indexFile().getAbsolutePath()));
+        } else {
+            // stream through streams once, to calculate how many operations are needed from each,
+            // to get operation_count in total
+            limitsAndMinimumsForStream =
+                    WorkloadStreams.fromAmongAllRetrieveTopCountFromOffset(
+                            streams,
+                            offset,
+                            limit,
+                            childOperationGenerators,
+                            loggingServiceFactory,
+                            index
+                    );
+            if (null != index) {
+                index.addStreamFileOffsets(workload);
+            }
+            if (null != index && index.isModified()) {
+                try {
+                    index.save();
+                } catch (IOException e) {
+                    // index is an optimization, runs do not depend on it
+                    loggingService.info(format("Unable to write workload streams index: %s\n%s",
+                            index.indexFile().getAbsolutePath(), e.getMessage()));
+                }
+            }
+        }
         long[] startForStream = limitsAndMinimumsForStream.getElement1();
         long[] limitForStream = limitsAndMinimumsForStream.getElement2();
         long minimumTimeStamp = limitsAndMinimumsForStream.getElement3();
@@ -268,16 +293,37 @@ public class WorkloadStreams {
         workload = workloadFactory.createWorkload();
         workload.init(configuration);
 
-        // retrieve unbounded streams
-        unlimitedWorkloadStreams = workload.streams(gf, returnStreamsWithDbConnector);
+        // retrieve unbounded streams, opened at the last indexed position before the offsets if there is one,
+        // otherwise at their beginning
+        Tuple3<Long, long[], long[]> streamFileOffsets =
+                (null == index) ? null : index.lookupStreamFileOffsets(startForStream);
+        long[] skippedForStream;
+        if (null != streamFileOffsets) {
+            loggingService.info(format("Opened workload streams at time stamp %s, from index: %s",
+                    streamFileOffsets.getElement1(), index.indexFile().getAbsolutePath()));
+            unlimitedWorkloadStreams = workload.streams(
+                    gf,
+                    returnStreamsWithDbConnector,
+                    streamFileOffsets.getElement1(),
+                    streamFileOffsets.getElement3()
+            );
+            skippedForStream = streamFileOffsets.getElement2();
+        } else {
+            unlimitedWorkloadStreams = workload.streams(gf, returnStreamsWithDbConnector);
+            skippedForStream = new long[startForStream.length];
+        }
         List<WorkloadStreamDefinition> unlimitedBlockingStreams = unlimitedWorkloadStreams.blockingStreamDefinitions();
 
-        // advance to offsets
-        gf.consume(unlimitedWorkloadStreams.asynchronousStream().dependencyOperations(), startForStream[0]);
-        gf.consume(unlimitedWorkloadStreams.asynchronousStream().nonDependencyOperations(), startForStream[1]);
+        // advance to offsets, reading the operations between where streams were opened and their offsets
+        gf.consume(unlimitedWorkloadStreams.asynchronousStream().dependencyOperations(),
+                startForStream[0] - skippedForStream[0]);
+        gf.consume(unlimitedWorkloadStreams.asynchronousStream().nonDependencyOperations(),
+                startForStream[1] - skippedForStream[1]);
         for (int i = 0; i < unlimitedBlockingStreams.size(); i++) {
-            gf.consume(unlimitedBlockingStreams.get(i).dependencyOperations(), startForStream[i * 2 + 2]);
-            gf.consume(unlimitedBlockingStreams.get(i).nonDependencyOperations(), startForStream[i * 2 + 3]);
+            gf.consume(unlimitedBlockingStreams.get(i).dependencyOperations(),
+                    startForStream[i * 2 + 2] - skippedForStream[i * 2 + 2]);
+            gf.consume(unlimitedBlockingStreams.get(i).nonDependencyOperations(),
+                    startForStream[i * 2 + 3] - skippedForStream[i * 2 + 3]);
         }
 
         // copy unbounded streams to new workload streams instance, from offsets, applying limits
@@ -312,6 +358,25 @@ public class WorkloadStreams {
             long limit,
             List<ChildOperationGenerator> childOperationGenerators,
             LoggingServiceFactory loggingServiceFactory) throws WorkloadException {
+        return fromAmongAllRetrieveTopCountFromOffset(
+                streams,
+                offset,
+                limit,
+                childOperationGenerators,
+                loggingServiceFactory,
+                null
+        );
+    }
+
+    // returns (start_per_stream, end_per_stream, minimum_timestamp)
+    // positions reached along the way are recorded in index, unless it is null
+    public static Tuple3<long[], long[], Long> fromAmongAllRetrieveTopCountFromOffset(
+            List<Iterator<Operation>> streams,
+            long offset,
+            long limit,
+            List<ChildOperationGenerator> childOperationGenerators,
+            LoggingServiceFactory loggingServiceFactory,
+            WorkloadStreamsIndex index) throws WorkloadException {
         LoggingService loggingService =
                 loggingServiceFactory.loggingServiceFor(WorkloadStreams.class.getSimpleName());
         final DecimalFormat numberFormat = new DecimalFormat("###,###,###,###,###");
@@ -323,6 +388,10 @@ public class WorkloadStreams {
         for (int i = 0; i < streams.size(); i++) {
             streamHeads[i] = null;
         }
+        // count of operations retrieved from that particular stream, across offset and run, for index
+        long[] kForStreamSoFar = new long[streams.size()];
+        long previousPosition = -1;
+        long previousTimeStamp = Long.MIN_VALUE;
 
         // ================================================
         // ===== advance to start point of each stream =====
@@ -366,6 +435,12 @@ public class WorkloadStreams {
                 // iterators are empty, nothing left to retrieve
                 break;
             }
+            if (null != index) {
+                index.recordRetrieval(kSoFarOffset, previousPosition, kForStreamSoFar, previousTimeStamp, minAsMilli);
+            }
+            previousPosition = kSoFarOffset;
+            previousTimeStamp = minAsMilli;
+            kForStreamSoFar[indexOfMin] = kForStreamSoFar[indexOfMin] + 1;
             kForStreamOffset[indexOfMin] = kForStreamOffset[indexOfMin] + 1;
             kSoFarOffset = kSoFarOffset + 1;
 
@@ -399,6 +474,15 @@ public class WorkloadStreams {
                         numberFormat.format(offset)
                 )
         );
+        if (null != index) {
+            index.recordStop(
+                    kSoFarOffset,
+                    previousPosition,
+                    kForStreamSoFar,
+                    previousTimeStamp,
+                    nextTimeStampAmongStreamHeads(streams, streamHeads)
+            );
+        }
 
         // ================================================
         // ===== calculate end points for each stream =====
@@ -448,6 +532,18 @@ public class WorkloadStreams {
                 // iterators are empty, nothing left to retrieve
                 break;
             }
+            if (null != index) {
+                index.recordRetrieval(
+                        kSoFarOffset + kSoFarRun,
+                        previousPosition,
+                        kForStreamSoFar,
+                        previousTimeStamp,
+                        minAsMilli
+                );
+            }
+            previousPosition = kSoFarOffset + kSoFarRun;
+            previousTimeStamp = minAsMilli;
+            kForStreamSoFar[indexOfMin] = kForStreamSoFar[indexOfMin] + 1;
             kForStreamRun[indexOfMin] = kForStreamRun[indexOfMin] + 1;
             kSoFarRun = kSoFarRun + 1;
 
@@ -480,6 +576,15 @@ public class WorkloadStreams {
                         numberFormat.format(limit)
                 )
         );
+        if (null != index) {
+            index.recordStop(
+                    kSoFarOffset + kSoFarRun,
+                    previousPosition,
+                    kForStreamSoFar,
+                    previousTimeStamp,
+                    nextTimeStampAmongStreamHeads(streams, streamHeads)
+            );
+        }
 
         return Tuple.tuple3(
                 kForStreamOffset,
@@ -488,6 +593,20 @@ public class WorkloadStreams {
         );
     }
 
+    // returns time stamp of the operation that would be retrieved next, or Long.MAX_VALUE if streams are empty
+    private static long nextTimeStampAmongStreamHeads(List<Iterator<Operation>> streams, Operation[] streamHeads) {
+        long minAsMilli = Long.MAX_VALUE;
+        for (int i = 0; i < streams.size(); i++) {
+            if (null != streamHeads[i] || streams.get(i).hasNext()) {
+                if (null == streamHeads[i]) {
+                    streamHeads[i] = streams.get(i).next();
+                }
+                minAsMilli = Math.min(minAsMilli, streamHeads[i].timeStamp());
+            }
+        }
+        return minAsMilli;
+    }
+
     public WorkloadStreamDefinition asynchronousStream() {
         if (null != asynchronousStream) {
             return asynchronousStream;
@@ -0,0 +1,391 @@
+package com.ldbc.driver;
+
+import com.google.common.base.Charsets;
+import com.google.common.collect.Sets;
+import com.google.common.hash.Hasher;
+import com.google.common.hash.Hashing;
+import com.ldbc.driver.control.ConsoleAndFileDriverConfiguration;
+import com.ldbc.driver.control.DriverConfiguration;
+import com.ldbc.driver.util.Tuple;
+import com.ldbc.driver.util.Tuple3;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+
+import static java.lang.String.format;
+
+/**
+ * On-disk index of the positions reached while scanning workload streams in
+ * {@link WorkloadStreams#fromAmongAllRetrieveTopCountFromOffset}.
+ * <p>
+ * Operations are retrieved from streams in merged timestamp order, so the global position reached after N retrievals
+ * fully determines how many operations have been retrieved from each individual stream. The index records that
+ * per-stream count, at every checkpoint interval and wherever a scan stops, together with the timestamp of the next
+ * operation to be retrieved. Once recorded, the start and limit of every stream for an offset & limit that map onto
+ * checkpoints are known without scanning the streams again.
+ * <p>
+ * Within every checkpoint interval, the index also records the first position at which every operation retrieved so
+ * far has a lower timestamp than the next one. As streams are ordered by timestamp, the operations before such a
+ * position are exactly those with a lower timestamp than the next, so workloads that support it (see
+ * {@link Workload#operationStreamFileOffsets}) provide the offsets in their stream files of the first operation at or
+ * after that timestamp. The executed workload then opens its streams there, and only reads and discards the
+ * operations between that position and the start of each stream, rather than every operation before it.
+ * <p>
+ * The index file is written next to the files the streams are read from, and is named after a fingerprint of the
+ * workload class, the stream related configuration, and the names, sizes and modification times of those files, so
+ * it is ignored as soon as any of them changes.
+ */
+public class WorkloadStreamsIndex {
+    public static final long DEFAULT_CHECKPOINT_INTERVAL = 10_000;
+    static final String INDEX_FILE_NAME_PREFIX = "operation_streams_";
+    static final String INDEX_FILE_NAME_SUFFIX = ".index";
+    private static final int FORMAT_VERSION = 2;
+    // configuration parameters that select which part of the streams is executed, or how, but not their contents
+    private static final Set<String> NON_STREAM_CONFIGURATION_KEYS = Sets.newHashSet(
+            ConsoleAndFileDriverConfiguration.OPERATION_COUNT_ARG,
+            ConsoleAndFileDriverConfiguration.WARMUP_COUNT_ARG,
+            ConsoleAndFileDriverConfiguration.SKIP_COUNT_ARG,
+            ConsoleAndFileDriverConfiguration.NAME_ARG,
+            ConsoleAndFileDriverConfiguration.RESULT_DIR_PATH_ARG,
+            ConsoleAndFileDriverConfiguration.DB_ARG,
+            ConsoleAndFileDriverConfiguration.THREADS_ARG,
+            ConsoleAndFileDriverConfiguration.SHOW_STATUS_ARG
+    );
+
+    private final File indexFile;
+    private final String fingerprint;
+    private final int streamCount;
+    private final long checkpointInterval;
+    // position -> checkpoint at that position
+    private final TreeMap<Long, Checkpoint> checkpoints = new TreeMap<>();
+    private boolean modified = false;
+
+    /**
+     * Returns index for the streams of given workload, loaded from disk if a matching index file exists,
+     * or null if the workload does not declare which files its streams are read from.
+     */
+    public static WorkloadStreamsIndex forWorkload(
+            Workload workload,
+            DriverConfiguration configuration,
+            int streamCount) {
+        List<File> operationStreamFiles = workload.operationStreamFiles();
+        if (operationStreamFiles.isEmpty()) {
+            return null;
+        }
+        String fingerprint = fingerprint(workload, configuration.asMap(), operationStreamFiles, streamCount);
+        File indexDirectory = operationStreamFiles.get(0).getAbsoluteFile().getParentFile();
+        File indexFile = new File(indexDirectory, INDEX_FILE_NAME_PREFIX + fingerprint + INDEX_FILE_NAME_SUFFIX);
+        return load(indexFile, fingerprint, streamCount, DEFAULT_CHECKPOINT_INTERVAL);
+    }
+
+    static WorkloadStreamsIndex load(File indexFile, String fingerprint, int streamCount, long checkpointInterval) {
+        WorkloadStreamsIndex index = new WorkloadStreamsIndex(indexFile, fingerprint, streamCount, checkpointInterval);
+        if (indexFile.exists()) {
+            try {
+                index.read();
+            } catch (IOException e) {
+                // unreadable or stale index, it is rebuilt by the next scan
+                index.checkpoints.clear();
+                index.modified = true;
+            }
+        }
+        return index;
+    }
+
+    WorkloadStreamsIndex(File indexFile, String fingerprint, int streamCount, long checkpointInterval) {
+        this.indexFile = indexFile;
+        this.fingerprint = fingerprint;
+        this.streamCount = streamCount;
+        this.checkpointInterval = checkpointInterval;
+    }
+
+    public File indexFile() {
+        return indexFile;
+    }
+
+    public boolean isModified() {
+        return modified;
+    }
+
+    // returns (start_per_stream, limit_per_stream, minimum_timestamp), same as a scan from offset would,
+    // or null if offset or end of run are not at an indexed position
+    public Tuple3<long[], long[], Long> lookup(long offset, long limit) {
+        Checkpoint start = checkpointReachedBy(offset);
+        if (null == start) {
+            return null;
+        }
+        Checkpoint end = (0 == limit) ? start : checkpointReachedBy(start.position + limit);
+        if (null == end) {
+            return null;
+        }
+        long[] limitForStream = new long[streamCount];
+        for (int i = 0; i < streamCount; i++) {
+            limitForStream[i] = end.countForStream[i] - start.countForStream[i];
+        }
+        long minimumTimeStamp = (0 == limit) ? Long.MAX_VALUE : start.nextTimeStamp;
+        return Tuple.tuple3(start.countForStream.clone(), limitForStream, minimumTimeStamp);
+    }
+
+    // returns (time_stamp, count_per_stream, stream_file_offsets) of the last position at which streams can be opened
+    // that is not beyond the start of any stream, or null if there is none
+    public Tuple3<Long, long[], long[]> lookupStreamFileOffsets(long[] startForStream) {
+        for (Checkpoint checkpoint : checkpoints.descendingMap().values()) {
+            if (null != checkpoint.streamFileOffsets && checkpoint.isNotBeyond(startForStream)) {
+                return Tuple.tuple3(
+                        checkpoint.nextTimeStamp,
+                        checkpoint.countForStream.clone(),
+                        checkpoint.streamFileOffsets.clone()
+                );
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Retrieves from workload the stream file offsets of the checkpoints at which streams can be opened,
+     * unless it has them already
+     */
+    public void addStreamFileOffsets(Workload workload) throws WorkloadException {
+        List<Checkpoint> checkpointsWithoutOffsets = new ArrayList<>();
+        for (Checkpoint checkpoint : checkpoints.values()) {
+            if (checkpoint.isOpenable && null == checkpoint.streamFileOffsets) {
+                checkpointsWithoutOffsets.add(checkpoint);
+            }
+        }
+        if (checkpointsWithoutOffsets.isEmpty()) {
+            return;
+        }
+        // time stamps of openable checkpoints increase with their position
+        long[] timeStamps = new long[checkpointsWithoutOffsets.size()];
+        for (int i = 0; i < timeStamps.length; i++) {
+            timeStamps[i] = checkpointsWithoutOffsets.get(i).nextTimeStamp;
+        }
+        long[][] streamFileOffsets = workload.operationStreamFileOffsets(timeStamps);
+        if (null == streamFileOffsets) {
+            return;
+        }
+        for (int i = 0; i < timeStamps.length; i++) {
+            checkpointsWithoutOffsets.get(i).streamFileOffsets = streamFileOffsets[i];
+        }
+        modified = true;
+    }
+
+    /**
+     * Called by a scan before it retrieves the next operation
+     *
+     * @param position          operations retrieved so far, including those of child operation generators
+     * @param previousPosition  position before the previous retrieval, -1 if there was none
+     * @param countForStream    operations retrieved so far from each stream
+     * @param previousTimeStamp time stamp of operation that was retrieved last, Long.MIN_VALUE if there was none
+     * @param nextTimeStamp     time stamp of operation that is about to be retrieved
+     */
+    void recordRetrieval(
+            long position,
+            long previousPosition,
+            long[] countForStream,
+            long previousTimeStamp,
+            long nextTimeStamp) {
+        boolean isOpenable = previousTimeStamp < nextTimeStamp;
+        if (0 == position || position / checkpointInterval > previousPosition / checkpointInterval ||
+                (isOpenable && !hasOpenableCheckpointInIntervalOf(position))) {
+            record(position, previousPosition, countForStream, nextTimeStamp, isOpenable);
+        }
+    }
+
+    /**
+     * Called by a scan when it stops retrieving operations
+     *
+     * @param position          operations retrieved so far, including those of child operation generators
+     * @param previousPosition  position before the previous retrieval, -1 if there was none
+     * @param countForStream    operations retrieved so far from each stream
+     * @param previousTimeStamp time stamp of operation that was retrieved last, Long.MIN_VALUE if there was none
+     * @param nextTimeStamp     time stamp of operation that would be retrieved next, Long.MAX_VALUE if none is left
+     */
+    void recordStop(
+            long position,
+            long previousPosition,
+            long[] countForStream,
+            long previousTimeStamp,
+            long nextTimeStamp) {
+        // streams are not opened beyond their end, all they would return is nothing
+        boolean isOpenable = previousTimeStamp < nextTimeStamp && Long.MAX_VALUE != nextTimeStamp;
+        record(position, previousPosition, countForStream, nextTimeStamp, isOpenable);
+    }
+
+    public void save() throws IOException {
+        File tempIndexFile = new File(indexFile.getParentFile(), indexFile.getName() + ".tmp");
+        try (DataOutputStream out =
+                     new DataOutputStream(new BufferedOutputStream(new FileOutputStream(tempIndexFile)))) {
+            out.writeInt(FORMAT_VERSION);
+            out.writeUTF(fingerprint);
+            out.writeInt(streamCount);
+            out.writeInt(checkpoints.size());
+            for (Checkpoint checkpoint : checkpoints.values()) {
+                out.writeLong(checkpoint.position);
+                out.writeLong(checkpoint.previousPosition);
+                out.writeLong(checkpoint.nextTimeStamp);
+                for (long count : checkpoint.countForStream) {
+                    out.writeLong(count);
+                }
+                out.writeBoolean(checkpoint.isOpenable);
+                if (null == checkpoint.streamFileOffsets) {
+                    out.writeInt(-1);
+                } else {
+                    out.writeInt(checkpoint.streamFileOffsets.length);
+                    for (long streamFileOffset : checkpoint.streamFileOffsets) {
+                        out.writeLong(streamFileOffset);
+                    }
+                }
+            }
+        }
+        Files.move(tempIndexFile.toPath(), indexFile.toPath(), StandardCopyOption.REPLACE_EXISTING);
+        modified = false;
+    }
+
+    private void read() throws IOException {
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(new FileInputStream(indexFile)))) {
+            int formatVersion = in.readInt();
+            String fileFingerprint = in.readUTF();
+            int fileStreamCount = in.readInt();
+            if (FORMAT_VERSION != formatVersion || !fingerprint.equals(fileFingerprint) ||
+                    streamCount != fileStreamCount) {
+                throw new IOException(format("Index file does not match workload streams: %s",
+                        indexFile.getAbsolutePath()));
+            }
+            int checkpointCount = in.readInt();
+            for (int i = 0; i < checkpointCount; i++) {
+                long position = in.readLong();
+                long previousPosition = in.readLong();
+                long nextTimeStamp = in.readLong();
+                long[] countForStream = new long[streamCount];
+                for (int j = 0; j < streamCount; j++) {
+                    countForStream[j] = in.readLong();
+                }
+                boolean isOpenable = in.readBoolean();
+                Checkpoint checkpoint =
+                        new Checkpoint(position, previousPosition, nextTimeStamp, countForStream, isOpenable);
+                int streamFileOffsetCount = in.readInt();
+                if (-1 != streamFileOffsetCount) {
+                    checkpoint.streamFileOffsets = new long[streamFileOffsetCount];
+                    for (int j = 0; j < streamFileOffsetCount; j++) {
+                        checkpoint.streamFileOffsets[j] = in.readLong();
+                    }
+                }
+                checkpoints.put(position, checkpoint);
+            }
+        }
+    }
+
+    private void record(
+            long position,
+            long previousPosition,
+            long[] countForStream,
+            long nextTimeStamp,
+            boolean isOpenable) {
+        // streams are deterministic, so a position that is already indexed was reached in the same way
+        if (!checkpoints.containsKey(position)) {
+            checkpoints.put(
+                    position,
+                    new Checkpoint(position, previousPosition, nextTimeStamp, countForStream.clone(), isOpenable)
+            );
+            modified = true;
+        }
+    }
+
+    private boolean hasOpenableCheckpointInIntervalOf(long position) {
+        long intervalStart = (position / checkpointInterval) * checkpointInterval;
+        for (Checkpoint checkpoint : checkpoints.subMap(intervalStart, true, position, true).values()) {
+            if (checkpoint.isOpenable) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    // scans stop at the first position that is not lower than the target, i.e., the position after the retrieval
+    // that crossed it, and child operations may make a retrieval advance position by more than one
+    private Checkpoint checkpointReachedBy(long targetPosition) {
+        Map.Entry<Long, Checkpoint> ceiling = checkpoints.ceilingEntry(targetPosition);
+        if (null != ceiling && ceiling.getValue().previousPosition < targetPosition) {
+            return ceiling.getValue();
+        }
+        Map.Entry<Long, Checkpoint> floor = checkpoints.floorEntry(targetPosition);
+        if (null != floor && floor.getValue().isExhausted()) {
+            return floor.getValue();
+        }
+        return null;
+    }
+
+    static String fingerprint(
+            Workload workload,
+            Map<String, String> configuration,
+            List<File> operationStreamFiles,
+            int streamCount) {
+        Hasher hasher = Hashing.sha1().newHasher();
+        hasher.putInt(FORMAT_VERSION);
+        hasher.putString(workload.getClass().getName(), Charsets.UTF_8);
+        hasher.putInt(streamCount);
+        for (Map.Entry<String, String> entry : new TreeMap<>(configuration).entrySet()) {
+            if (!NON_STREAM_CONFIGURATION_KEYS.contains(entry.getKey())) {
+                hasher.putString(entry.getKey(), Charsets.UTF_8).putChar('=');
+                hasher.putString(String.valueOf(entry.getValue()), Charsets.UTF_8).putChar('\n');
+            }
+        }
+        for (File operationStreamFile : operationStreamFiles) {
+            hasher.putString(operationStreamFile.getAbsolutePath(), Charsets.UTF_8).putChar('\n');
+            hasher.putLong(operationStreamFile.length());
+            hasher.putLong(operationStreamFile.lastModified());
+        }
+        return hasher.hash().toString();
+    }
+
+    private static class Checkpoint {
+        private final long position;
+        private final long previousPosition;
+        private final long nextTimeStamp;
+        private final long[] countForStream;
+        // every operation retrieved before this position has a lower time stamp than nextTimeStamp
+        private final boolean isOpenable;
+        // offsets at which workload opens its stream files to start streams at nextTimeStamp, null if not known
+        private long[] streamFileOffsets = null;
+
+        private Checkpoint(
+                long position,
+                long previousPosition,
+                long nextTimeStamp,
+                long[] countForStream,
+                boolean isOpenable) {
+            this.position = position;
+            this.previousPosition = previousPosition;
+            this.nextTimeStamp = nextTimeStamp;
+            this.countForStream = countForStream;
+            this.isOpenable = isOpenable;
+        }
+
+        private boolean isNotBeyond(long[] startForStream) {
+            for (int i = 0; i < countForStream.length; i++) {
+                if (countForStream[i] > startForStream[i]) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        private boolean isExhausted() {
+            return Long.MAX_VALUE == nextTimeStamp;
+        }
+    }
+}
@@ -4,6 +4,10 @@ import com.google.common.collect.Lists;
 import com.google.common.collect.Sets;
 import com.ldbc.driver.Client;
 import com.ldbc.driver.modes.DriverModeType;
+import com.ldbc.driver.runtime.executor.OperationExecutorType;
+import com.ldbc.driver.runtime.metrics.MetricsServiceType;
+import com.ldbc.driver.runtime.metrics.MetricsWaitStrategyType;
+import com.ldbc.driver.runtime.metrics.ResultsLogFormat;
 import com.ldbc.driver.temporal.TemporalUtil;
 import com.ldbc.driver.util.MapUtils;
 import com.ldbc.driver.workloads.ldbc.snb.interactive.LdbcSnbInteractiveWorkload;
@@ -52,7 +56,7 @@ public class ConsoleAndFileDriverConfiguration implements DriverConfiguration
     private static final String DRIVER_MODE_DESCRIPTION =
             "driver execution mode. default:" +
                     "PRINT_HELP, valid:[CREATE_VALIDATION_PARAMS, VALIDATE_DATABASE, " +
-                    "CALCULATE_WORKLOAD_STATS, EXECUTE_WORKLOAD]";
+                    "CALCULATE_WORKLOAD_STATS, EXECUTE_WORKLOAD, CONVERT_UPDATE_STREAMS, CONVERT_RESULTS_LOG]";
 
     public static final String OPERATION_COUNT_ARG = "oc";
     public static final long OPERATION_COUNT_DEFAULT = 0;
@@ -177,6 +181,85 @@ public class ConsoleAndFileDriverConfiguration implements DriverConfiguration
             format( "number of operations to execute during warmup phase (default: %s)",
                     WARMUP_COUNT_DEFAULT_STRING );
 
+    public static final String OPERATION_EXECUTOR_ARG = "et";
+    private static final String OPERATION_EXECUTOR_ARG_LONG = "executor_type";
+    public static final OperationExecutorType OPERATION_EXECUTOR_DEFAULT = OperationExecutorType.THREAD_POOL;
+    public static final String OPERATION_EXECUTOR_DEFAULT_STRING = OPERATION_EXECUTOR_DEFAULT.name();
+    private static final String OPERATION_EXECUTOR_DESCRIPTION =
+            format( "executor for operation handlers, %s (fixed pool of -%s threads) or %s (one virtual thread per " +
+                    "handler, at most -%s handlers in flight). default:%s",
+                    OperationExecutorType.THREAD_POOL.name(), THREADS_ARG, OperationExecutorType.VIRTUAL_THREAD.name(),
+                    THREADS_ARG, OPERATION_EXECUTOR_DEFAULT_STRING );
+
+    public static final String TIMESTAMP_UNIT_ARG = "tsu";
+    private static final String TIMESTAMP_UNIT_ARG_LONG = "timestamp_unit";
+    public static final TimeUnit TIMESTAMP_UNIT_DEFAULT = TimeUnit.MILLISECONDS;
+    public static final String TIMESTAMP_UNIT_DEFAULT_STRING = TIMESTAMP_UNIT_DEFAULT.name();
+    private static final TimeUnit[] VALID_TIMESTAMP_UNITS = new TimeUnit[]{TimeUnit.NANOSECONDS,
+            TimeUnit.MICROSECONDS, TimeUnit.MILLISECONDS};
+    private static final String TIMESTAMP_UNIT_DESCRIPTION = format(
+            "resolution of scheduled & actual start times, finer resolutions keep operations that start within " +
+            "the same millisecond apart in results log. default:%s, valid:%s", TIMESTAMP_UNIT_DEFAULT_STRING,
+            Arrays.toString( VALID_TIMESTAMP_UNITS ) );
+
+    public static final String METRICS_RING_SIZE_ARG = "mrs";
+    private static final String METRICS_RING_SIZE_ARG_LONG = "metrics_ring_size";
+    public static final int METRICS_RING_SIZE_DEFAULT = 1024;
+    public static final String METRICS_RING_SIZE_DEFAULT_STRING = Integer.toString( METRICS_RING_SIZE_DEFAULT );
+    private static final String METRICS_RING_SIZE_DESCRIPTION =
+            format( "number of slots in metrics ring buffer, must be a power of 2. default:%s",
+                    METRICS_RING_SIZE_DEFAULT_STRING );
+
+    public static final String METRICS_WAIT_STRATEGY_ARG = "mws";
+    private static final String METRICS_WAIT_STRATEGY_ARG_LONG = "metrics_wait_strategy";
+    public static final MetricsWaitStrategyType METRICS_WAIT_STRATEGY_DEFAULT = MetricsWaitStrategyType.BLOCKING;
+    public static final String METRICS_WAIT_STRATEGY_DEFAULT_STRING = METRICS_WAIT_STRATEGY_DEFAULT.name();
+    private static final String METRICS_WAIT_STRATEGY_DESCRIPTION =
+            format( "how metrics consumer waits for operation results, spinning strategies need a dedicated core. " +
+                    "default:%s, valid:%s", METRICS_WAIT_STRATEGY_DEFAULT_STRING,
+                    Arrays.toString( MetricsWaitStrategyType.values() ) );
+
+    public static final String METRICS_RING_PER_CPU_ARG = "metrics_ring_per_cpu";
+    public static final boolean METRICS_RING_PER_CPU_DEFAULT = false;
+    public static final String METRICS_RING_PER_CPU_DEFAULT_STRING =
+            Boolean.toString( METRICS_RING_PER_CPU_DEFAULT );
+    private static final String METRICS_RING_PER_CPU_DESCRIPTION =
+            "spreads metrics writers over one ring buffer per core, picked by writer thread, instead of one ring " +
+            "buffer shared by all writers";
+
+    public static final String METRICS_SERVICE_ARG = "ms";
+    private static final String METRICS_SERVICE_ARG_LONG = "metrics_service";
+    public static final MetricsServiceType METRICS_SERVICE_DEFAULT = MetricsServiceType.DISRUPTOR;
+    public static final String METRICS_SERVICE_DEFAULT_STRING = METRICS_SERVICE_DEFAULT.name();
+    private static final String METRICS_SERVICE_DESCRIPTION =
+            format( "how operation results are collected. default:%s, valid:%s",
+                    METRICS_SERVICE_DEFAULT_STRING, Arrays.toString( MetricsServiceType.values() ) );
+
+    public static final String RESULTS_LOG_FORMAT_ARG = "rlf";
+    private static final String RESULTS_LOG_FORMAT_ARG_LONG = "results_log_format";
+    public static final ResultsLogFormat RESULTS_LOG_FORMAT_DEFAULT = ResultsLogFormat.CSV;
+    public static final String RESULTS_LOG_FORMAT_DEFAULT_STRING = RESULTS_LOG_FORMAT_DEFAULT.name();
+    private static final String RESULTS_LOG_FORMAT_DESCRIPTION =
+            format( "format of results log, binary formats are written by a background thread. default:%s, valid:%s",
+                    RESULTS_LOG_FORMAT_DEFAULT_STRING, Arrays.toString( ResultsLogFormat.values() ) );
+
+    public static final String BLOCKING_STREAM_THREAD_COUNT_ARG = "bst";
+    private static final String BLOCKING_STREAM_THREAD_COUNT_ARG_LONG = "blocking_stream_threads";
+    public static final int BLOCKING_STREAM_THREAD_COUNT_DEFAULT = 0;
+    public static final String BLOCKING_STREAM_THREAD_COUNT_DEFAULT_STRING =
+            Integer.toString( BLOCKING_STREAM_THREAD_COUNT_DEFAULT );
+    private static final String BLOCKING_STREAM_THREAD_COUNT_DESCRIPTION =
+            format( "number of threads blocking streams are multiplexed onto, 0 for one thread per stream. default:%s",
+                    BLOCKING_STREAM_THREAD_COUNT_DEFAULT_STRING );
+
+    public static final String TELEMETRY_PORT_ARG = "tp";
+    private static final String TELEMETRY_PORT_ARG_LONG = "telemetry_port";
+    public static final int TELEMETRY_PORT_DEFAULT = 0;
+    public static final String TELEMETRY_PORT_DEFAULT_STRING = Integer.toString( TELEMETRY_PORT_DEFAULT );
+    private static final String TELEMETRY_PORT_DESCRIPTION =
+            format( "local port live status is served on, as Prometheus text (/metrics) and JSON (/status), " +
+                    "0 to disable. default:%s", TELEMETRY_PORT_DEFAULT_STRING );
+
     public static final String PROPERTY_FILE_ARG = "P";
     private static final String PROPERTY_FILE_DESCRIPTION =
             "load properties from file(s) - files will be loaded in the order provided\n" +
@@ -219,6 +302,15 @@ public class ConsoleAndFileDriverConfiguration implements DriverConfiguration
         defaultParamsMap.put( SPINNER_SLEEP_DURATION_ARG, SPINNER_SLEEP_DURATION_DEFAULT_STRING );
         defaultParamsMap.put( WARMUP_COUNT_ARG, WARMUP_COUNT_DEFAULT_STRING );
         defaultParamsMap.put( SKIP_COUNT_ARG, SKIP_COUNT_DEFAULT_STRING );
+        defaultParamsMap.put( OPERATION_EXECUTOR_ARG, OPERATION_EXECUTOR_DEFAULT_STRING );
+        defaultParamsMap.put( TIMESTAMP_UNIT_ARG, TIMESTAMP_UNIT_DEFAULT_STRING );
+        defaultParamsMap.put( METRICS_RING_SIZE_ARG, METRICS_RING_SIZE_DEFAULT_STRING );
+        defaultParamsMap.put( METRICS_WAIT_STRATEGY_ARG, METRICS_WAIT_STRATEGY_DEFAULT_STRING );
+        defaultParamsMap.put( METRICS_RING_PER_CPU_ARG, METRICS_RING_PER_CPU_DEFAULT_STRING );
+        defaultParamsMap.put( METRICS_SERVICE_ARG, METRICS_SERVICE_DEFAULT_STRING );
+        defaultParamsMap.put( RESULTS_LOG_FORMAT_ARG, RESULTS_LOG_FORMAT_DEFAULT_STRING );
+        defaultParamsMap.put( BLOCKING_STREAM_THREAD_COUNT_ARG, BLOCKING_STREAM_THREAD_COUNT_DEFAULT_STRING );
+        defaultParamsMap.put( TELEMETRY_PORT_ARG, TELEMETRY_PORT_DEFAULT_STRING );
         return defaultParamsMap;
     }
 
@@ -264,7 +356,12 @@ public class ConsoleAndFileDriverConfiguration implements DriverConfiguration
 
             if ( paramsMap.containsKey( TIME_UNIT_ARG ) )
             {
-                assertValidTimeUnit( paramsMap.get( TIME_UNIT_ARG ) );
+                assertValidTimeUnit( paramsMap.get( TIME_UNIT_ARG ), VALID_TIME_UNITS );
+            }
+
+            if ( paramsMap.containsKey( TIMESTAMP_UNIT_ARG ) )
+            {
+                assertValidTimeUnit( paramsMap.get( TIMESTAMP_UNIT_ARG ), VALID_TIMESTAMP_UNITS );
             }
 
             paramsMap = MapUtils.mergeMaps( paramsMap, defaultsAsMap(), false );
@@ -293,6 +390,17 @@ public class ConsoleAndFileDriverConfiguration implements DriverConfiguration
             boolean printHelp = Boolean.parseBoolean( paramsMap.get( HELP_ARG ) );
             boolean ignoreScheduledStartTimes =
                     Boolean.parseBoolean( paramsMap.get( IGNORE_SCHEDULED_START_TIMES_ARG ) );
+            OperationExecutorType operationExecutorType =
+                    OperationExecutorType.valueOf( paramsMap.get( OPERATION_EXECUTOR_ARG ) );
+            TimeUnit timestampUnit = TimeUnit.valueOf( paramsMap.get( TIMESTAMP_UNIT_ARG ) );
+            int metricsRingSize = Integer.parseInt( paramsMap.get( METRICS_RING_SIZE_ARG ) );
+            MetricsWaitStrategyType metricsWaitStrategy =
+                    MetricsWaitStrategyType.valueOf( paramsMap.get( METRICS_WAIT_STRATEGY_ARG ) );
+            boolean metricsRingPerCpu = Boolean.parseBoolean( paramsMap.get( METRICS_RING_PER_CPU_ARG ) );
+            MetricsServiceType metricsService = MetricsServiceType.valueOf( paramsMap.get( METRICS_SERVICE_ARG ) );
+            ResultsLogFormat resultsLogFormat = ResultsLogFormat.valueOf( paramsMap.get( RESULTS_LOG_FORMAT_ARG ) );
+            int blockingStreamThreadCount = Integer.parseInt( paramsMap.get( BLOCKING_STREAM_THREAD_COUNT_ARG ) );
+            int telemetryPort = Integer.parseInt( paramsMap.get( TELEMETRY_PORT_ARG ) );
             return new ConsoleAndFileDriverConfiguration(
                     paramsMap,
                     driverMode,
@@ -312,7 +420,16 @@ public class ConsoleAndFileDriverConfiguration implements DriverConfiguration
                     printHelp,
                     ignoreScheduledStartTimes,
                     warmupCount,
-                    skipCount
+                    skipCount,
+                    operationExecutorType,
+                    timestampUnit,
+                    metricsRingSize,
+                    metricsWaitStrategy,
+                    metricsRingPerCpu,
+                    metricsService,
+                    resultsLogFormat,
+                    blockingStreamThreadCount,
+                    telemetryPort
             );
         }
         catch ( DriverConfigurationException e )
@@ -322,13 +439,14 @@ public class ConsoleAndFileDriverConfiguration implements DriverConfiguration
         }
     }
 
-    private static void assertValidTimeUnit( String timeUnitString ) throws DriverConfigurationException
+    private static void assertValidTimeUnit( String timeUnitString, TimeUnit[] validTimeUnitsArray )
+            throws DriverConfigurationException
     {
         try
         {
             TimeUnit timeUnit = TimeUnit.valueOf( timeUnitString );
             Set<TimeUnit> validTimeUnits = new HashSet<>();
-            validTimeUnits.addAll( Arrays.asList( VALID_TIME_UNITS ) );
+            validTimeUnits.addAll( Arrays.asList( validTimeUnitsArray ) );
             if ( !validTimeUnits.contains( timeUnit ) )
             {
                 throw new IllegalArgumentException();
@@ -451,6 +569,51 @@ public class ConsoleAndFileDriverConfiguration implements DriverConfiguration
             cmdParams.put( SKIP_COUNT_ARG, cmd.getOptionValue( SKIP_COUNT_ARG ) );
         }
 
+        if ( cmd.hasOption( OPERATION_EXECUTOR_ARG ) )
+        {
+            cmdParams.put( OPERATION_EXECUTOR_ARG, cmd.getOptionValue( OPERATION_EXECUTOR_ARG ) );
+        }
+
+        if ( cmd.hasOption( TIMESTAMP_UNIT_ARG ) )
+        {
+            cmdParams.put( TIMESTAMP_UNIT_ARG, cmd.getOptionValue( TIMESTAMP_UNIT_ARG ) );
+        }
+
+        if ( cmd.hasOption( METRICS_RING_SIZE_ARG ) )
+        {
+            cmdParams.put( METRICS_RING_SIZE_ARG, cmd.getOptionValue( METRICS_RING_SIZE_ARG ) );
+        }
+
+        if ( cmd.hasOption( METRICS_WAIT_STRATEGY_ARG ) )
+        {
+            cmdParams.put( METRICS_WAIT_STRATEGY_ARG, cmd.getOptionValue( METRICS_WAIT_STRATEGY_ARG ) );
+        }
+
+        if ( cmd.hasOption( METRICS_RING_PER_CPU_ARG ) )
+        {
+            cmdParams.put( METRICS_RING_PER_CPU_ARG, Boolean.toString( true ) );
+        }
+
+        if ( cmd.hasOption( METRICS_SERVICE_ARG ) )
+        {
+            cmdParams.put( METRICS_SERVICE_ARG, cmd.getOptionValue( METRICS_SERVICE_ARG ) );
+        }
+
+        if ( cmd.hasOption( RESULTS_LOG_FORMAT_ARG ) )
+        {
+            cmdParams.put( RESULTS_LOG_FORMAT_ARG, cmd.getOptionValue( RESULTS_LOG_FORMAT_ARG ) );
+        }
+
+        if ( cmd.hasOption( BLOCKING_STREAM_THREAD_COUNT_ARG ) )
+        {
+            cmdParams.put( BLOCKING_STREAM_THREAD_COUNT_ARG, cmd.getOptionValue( BLOCKING_STREAM_THREAD_COUNT_ARG ) );
+        }
+
+        if ( cmd.hasOption( TELEMETRY_PORT_ARG ) )
+        {
+            cmdParams.put( TELEMETRY_PORT_ARG, cmd.getOptionValue( TELEMETRY_PORT_ARG ) );
+        }
+
         if ( cmd.hasOption( CREATE_VALIDATION_PARAMS_ARG ) )
         {
             String[] validationParams = cmd.getOptionValues( CREATE_VALIDATION_PARAMS_ARG );
@@ -517,6 +680,14 @@ public class ConsoleAndFileDriverConfiguration implements DriverConfiguration
         paramsMap = replaceKey( paramsMap, SPINNER_SLEEP_DURATION_ARG_LONG, SPINNER_SLEEP_DURATION_ARG );
         paramsMap = replaceKey( paramsMap, WARMUP_COUNT_ARG_LONG, WARMUP_COUNT_ARG );
         paramsMap = replaceKey( paramsMap, SKIP_COUNT_ARG_LONG, SKIP_COUNT_ARG );
+        paramsMap = replaceKey( paramsMap, OPERATION_EXECUTOR_ARG_LONG, OPERATION_EXECUTOR_ARG );
+        paramsMap = replaceKey( paramsMap, TIMESTAMP_UNIT_ARG_LONG, TIMESTAMP_UNIT_ARG );
+        paramsMap = replaceKey( paramsMap, METRICS_RING_SIZE_ARG_LONG, METRICS_RING_SIZE_ARG );
+        paramsMap = replaceKey( paramsMap, METRICS_WAIT_STRATEGY_ARG_LONG, METRICS_WAIT_STRATEGY_ARG );
+        paramsMap = replaceKey( paramsMap, METRICS_SERVICE_ARG_LONG, METRICS_SERVICE_ARG );
+        paramsMap = replaceKey( paramsMap, RESULTS_LOG_FORMAT_ARG_LONG, RESULTS_LOG_FORMAT_ARG );
+        paramsMap = replaceKey( paramsMap, BLOCKING_STREAM_THREAD_COUNT_ARG_LONG, BLOCKING_STREAM_THREAD_COUNT_ARG );
+        paramsMap = replaceKey( paramsMap, TELEMETRY_PORT_ARG_LONG, TELEMETRY_PORT_ARG );
         return paramsMap;
     }
 
@@ -628,6 +799,56 @@ public class ConsoleAndFileDriverConfiguration implements DriverConfiguration
                         .withLongOpt( SKIP_COUNT_ARG_LONG ).create( SKIP_COUNT_ARG );
         options.addOption( skipCountOption );
 
+        Option operationExecutorTypeOption =
+                OptionBuilder.hasArgs( 1 ).withArgName( "type" ).withDescription( OPERATION_EXECUTOR_DESCRIPTION )
+                        .withLongOpt( OPERATION_EXECUTOR_ARG_LONG ).create( OPERATION_EXECUTOR_ARG );
+        options.addOption( operationExecutorTypeOption );
+
+        Option timestampUnitOption =
+                OptionBuilder.hasArgs( 1 ).withArgName( "unit" ).withDescription( TIMESTAMP_UNIT_DESCRIPTION )
+                        .withLongOpt( TIMESTAMP_UNIT_ARG_LONG ).create( TIMESTAMP_UNIT_ARG );
+        options.addOption( timestampUnitOption );
+
+        Option metricsRingSizeOption =
+                OptionBuilder.hasArgs( 1 ).withArgName( "size" ).withDescription( METRICS_RING_SIZE_DESCRIPTION )
+                        .withLongOpt( METRICS_RING_SIZE_ARG_LONG ).create( METRICS_RING_SIZE_ARG );
+        options.addOption( metricsRingSizeOption );
+
+        Option metricsWaitStrategyOption =
+                OptionBuilder.hasArgs( 1 ).withArgName( "strategy" )
+                        .withDescription( METRICS_WAIT_STRATEGY_DESCRIPTION )
+                        .withLongOpt( METRICS_WAIT_STRATEGY_ARG_LONG ).create( METRICS_WAIT_STRATEGY_ARG );
+        options.addOption( metricsWaitStrategyOption );
+
+        Option metricsRingPerCpuOption =
+                OptionBuilder.withDescription( METRICS_RING_PER_CPU_DESCRIPTION )
+                        .create( METRICS_RING_PER_CPU_ARG );
+        options.addOption( metricsRingPerCpuOption );
+
+        Option metricsServiceOption =
+                OptionBuilder.hasArgs( 1 ).withArgName( "service" ).withDescription( METRICS_SERVICE_DESCRIPTION )
+                        .withLongOpt( METRICS_SERVICE_ARG_LONG ).create( METRICS_SERVICE_ARG );
+        options.addOption( metricsServiceOption );
+
+        Option resultsLogFormatOption =
+                OptionBuilder.hasArgs( 1 ).withArgName( "format" ).withDescription( RESULTS_LOG_FORMAT_DESCRIPTION )
+                        .withLongOpt( RESULTS_LOG_FORMAT_ARG_LONG ).create( RESULTS_LOG_FORMAT_ARG );
+        options.addOption( resultsLogFormatOption );
+
+        Option blockingStreamThreadCountOption =
+                OptionBuilder.hasArgs( 1 ).withArgName( "count" )
+                        .withDescription( BLOCKING_STREAM_THREAD_COUNT_DESCRIPTION )
+                        .withLongOpt( BLOCKING_STREAM_THREAD_COUNT_ARG_LONG )
+                        .create( BLOCKING_STREAM_THREAD_COUNT_ARG );
+        options.addOption( blockingStreamThreadCountOption );
+
+        Option telemetryPortOption =
+                OptionBuilder.hasArgs( 1 ).withArgName( "port" )
+                        .withDescription( TELEMETRY_PORT_DESCRIPTION )
+                        .withLongOpt( TELEMETRY_PORT_ARG_LONG )
+                        .create( TELEMETRY_PORT_ARG );
+        options.addOption( telemetryPortOption );
+
         Option printHelpOption = OptionBuilder.withDescription( HELP_DESCRIPTION ).create( HELP_ARG );
         options.addOption( printHelpOption );
 
@@ -669,7 +890,16 @@ public class ConsoleAndFileDriverConfiguration implements DriverConfiguration
                 HELP_ARG,
                 IGNORE_SCHEDULED_START_TIMES_ARG,
                 WARMUP_COUNT_ARG,
-                SKIP_COUNT_ARG
+                SKIP_COUNT_ARG,
+                OPERATION_EXECUTOR_ARG,
+                TIMESTAMP_UNIT_ARG,
+                METRICS_RING_SIZE_ARG,
+                METRICS_WAIT_STRATEGY_ARG,
+                METRICS_RING_PER_CPU_ARG,
+                METRICS_SERVICE_ARG,
+                RESULTS_LOG_FORMAT_ARG,
+                BLOCKING_STREAM_THREAD_COUNT_ARG,
+                TELEMETRY_PORT_ARG
         );
     }
 
@@ -712,6 +942,15 @@ public class ConsoleAndFileDriverConfiguration implements DriverConfiguration
     private final boolean ignoreScheduledStartTimes;
     private final long warmupCount;
     private final long skipCount;
+    private final OperationExecutorType operationExecutorType;
+    private final TimeUnit timestampUnit;
+    private final int metricsRingSize;
+    private final MetricsWaitStrategyType metricsWaitStrategy;
+    private final boolean metricsRingPerCpu;
+    private final MetricsServiceType metricsService;
+    private final ResultsLogFormat resultsLogFormat;
+    private final int blockingStreamThreadCount;
+    private final int telemetryPort;
 
     public ConsoleAndFileDriverConfiguration( Map<String,String> paramsMap,
             DriverModeType driverMode,
@@ -731,7 +970,16 @@ public class ConsoleAndFileDriverConfiguration implements DriverConfiguration
             boolean printHelp,
             boolean ignoreScheduledStartTimes,
             long warmupCount,
-            long skipCount )
+            long skipCount,
+            OperationExecutorType operationExecutorType,
+            TimeUnit timestampUnit,
+            int metricsRingSize,
+            MetricsWaitStrategyType metricsWaitStrategy,
+            boolean metricsRingPerCpu,
+            MetricsServiceType metricsService,
+            ResultsLogFormat resultsLogFormat,
+            int blockingStreamThreadCount,
+            int telemetryPort )
     {
         if ( null == paramsMap )
         {
@@ -756,6 +1004,15 @@ public class ConsoleAndFileDriverConfiguration implements DriverConfiguration
         this.ignoreScheduledStartTimes = ignoreScheduledStartTimes;
         this.warmupCount = warmupCount;
         this.skipCount = skipCount;
+        this.operationExecutorType = operationExecutorType;
+        this.timestampUnit = timestampUnit;
+        this.metricsRingSize = metricsRingSize;
+        this.metricsWaitStrategy = metricsWaitStrategy;
+        this.metricsRingPerCpu = metricsRingPerCpu;
+        this.metricsService = metricsService;
+        this.resultsLogFormat = resultsLogFormat;
+        this.blockingStreamThreadCount = blockingStreamThreadCount;
+        this.telemetryPort = telemetryPort;
 
         if ( null != name )
         {
@@ -792,6 +1049,15 @@ public class ConsoleAndFileDriverConfiguration implements DriverConfiguration
         paramsMap.put( IGNORE_SCHEDULED_START_TIMES_ARG, Boolean.toString( ignoreScheduledStartTimes ) );
         paramsMap.put( WARMUP_COUNT_ARG, Long.toString( warmupCount ) );
         paramsMap.put( SKIP_COUNT_ARG, Long.toString( skipCount ) );
+        paramsMap.put( OPERATION_EXECUTOR_ARG, operationExecutorType.name() );
+        paramsMap.put( TIMESTAMP_UNIT_ARG, timestampUnit.name() );
+        paramsMap.put( METRICS_RING_SIZE_ARG, Integer.toString( metricsRingSize ) );
+        paramsMap.put( METRICS_WAIT_STRATEGY_ARG, metricsWaitStrategy.name() );
+        paramsMap.put( METRICS_RING_PER_CPU_ARG, Boolean.toString( metricsRingPerCpu ) );
+        paramsMap.put( METRICS_SERVICE_ARG, metricsService.name() );
+        paramsMap.put( RESULTS_LOG_FORMAT_ARG, resultsLogFormat.name() );
+        paramsMap.put( BLOCKING_STREAM_THREAD_COUNT_ARG, Integer.toString( blockingStreamThreadCount ) );
+        paramsMap.put( TELEMETRY_PORT_ARG, Integer.toString( telemetryPort ) );
     }
 
     @Override
@@ -914,6 +1180,60 @@ public class ConsoleAndFileDriverConfiguration implements DriverConfiguration
         return skipCount;
     }
 
+    @Override
+    public OperationExecutorType operationExecutorType()
+    {
+        return operationExecutorType;
+    }
+
+    @Override
+    public TimeUnit timestampUnit()
+    {
+        return timestampUnit;
+    }
+
+    @Override
+    public int metricsRingSize()
+    {
+        return metricsRingSize;
+    }
+
+    @Override
+    public MetricsWaitStrategyType metricsWaitStrategy()
+    {
+        return metricsWaitStrategy;
+    }
+
+    @Override
+    public boolean metricsRingPerCpu()
+    {
+        return metricsRingPerCpu;
+    }
+
+    @Override
+    public MetricsServiceType metricsService()
+    {
+        return metricsService;
+    }
+
+    @Override
+    public ResultsLogFormat resultsLogFormat()
+    {
+        return resultsLogFormat;
+    }
+
+    @Override
+    public int blockingStreamThreadCount()
+    {
+        return blockingStreamThreadCount;
+    }
+
+    @Override
+    public int telemetryPort()
+    {
+        return telemetryPort;
+    }
+
     @Override
     public Map<String,String> asMap()
     {
@@ -1034,6 +1354,36 @@ public class ConsoleAndFileDriverConfiguration implements DriverConfiguration
         long newSkipCount = (newParamsMapWithShortKeys.containsKey( SKIP_COUNT_ARG )) ?
                             Long.parseLong( newParamsMapWithShortKeys.get( SKIP_COUNT_ARG ) ) :
                             skipCount;
+        OperationExecutorType newOperationExecutorType =
+                (newParamsMapWithShortKeys.containsKey( OPERATION_EXECUTOR_ARG )) ?
+                OperationExecutorType.valueOf( newParamsMapWithShortKeys.get( OPERATION_EXECUTOR_ARG ) ) :
+                operationExecutorType;
+        TimeUnit newTimestampUnit = (newParamsMapWithShortKeys.containsKey( TIMESTAMP_UNIT_ARG )) ?
+                TimeUnit.valueOf( newParamsMapWithShortKeys.get( TIMESTAMP_UNIT_ARG ) ) :
+                timestampUnit;
+        int newMetricsRingSize = (newParamsMapWithShortKeys.containsKey( METRICS_RING_SIZE_ARG )) ?
+                Integer.parseInt( newParamsMapWithShortKeys.get( METRICS_RING_SIZE_ARG ) ) :
+                metricsRingSize;
+        MetricsWaitStrategyType newMetricsWaitStrategy =
+                (newParamsMapWithShortKeys.containsKey( METRICS_WAIT_STRATEGY_ARG )) ?
+                MetricsWaitStrategyType.valueOf( newParamsMapWithShortKeys.get( METRICS_WAIT_STRATEGY_ARG ) ) :
+                metricsWaitStrategy;
+        boolean newMetricsRingPerCpu =
+                (newParamsMapWithShortKeys.containsKey( METRICS_RING_PER_CPU_ARG )) ?
+                Boolean.parseBoolean( newParamsMapWithShortKeys.get( METRICS_RING_PER_CPU_ARG ) ) :
+                metricsRingPerCpu;
+        MetricsServiceType newMetricsService = (newParamsMapWithShortKeys.containsKey( METRICS_SERVICE_ARG )) ?
+                MetricsServiceType.valueOf( newParamsMapWithShortKeys.get( METRICS_SERVICE_ARG ) ) :
+                metricsService;
+        ResultsLogFormat newResultsLogFormat = (newParamsMapWithShortKeys.containsKey( RESULTS_LOG_FORMAT_ARG )) ?
+                ResultsLogFormat.valueOf( newParamsMapWithShortKeys.get( RESULTS_LOG_FORMAT_ARG ) ) :
+                resultsLogFormat;
+        int newBlockingStreamThreadCount = (newParamsMapWithShortKeys.containsKey( BLOCKING_STREAM_THREAD_COUNT_ARG )) ?
+                Integer.parseInt( newParamsMapWithShortKeys.get( BLOCKING_STREAM_THREAD_COUNT_ARG ) ) :
+                blockingStreamThreadCount;
+        int newTelemetryPort = (newParamsMapWithShortKeys.containsKey( TELEMETRY_PORT_ARG )) ?
+                Integer.parseInt( newParamsMapWithShortKeys.get( TELEMETRY_PORT_ARG ) ) :
+                telemetryPort;
 
         return new ConsoleAndFileDriverConfiguration(
                 newOtherParams,
@@ -1054,7 +1404,16 @@ public class ConsoleAndFileDriverConfiguration implements DriverConfiguration
                 newPrintHelp,
                 newIgnoreScheduledStartTimes,
                 newWarmupCount,
-                newSkipCount
+                newSkipCount,
+                newOperationExecutorType,
+                newTimestampUnit,
+                newMetricsRingSize,
+                newMetricsWaitStrategy,
+                newMetricsRingPerCpu,
+                newMetricsService,
+                newResultsLogFormat,
+                newBlockingStreamThreadCount,
+                newTelemetryPort
         );
     }
 
@@ -1110,6 +1469,19 @@ public class ConsoleAndFileDriverConfiguration implements DriverConfiguration
         {
             argsList.add( "-" + IGNORE_SCHEDULED_START_TIMES_ARG );
         }
+        argsList.addAll( Lists.newArrayList( "-" + OPERATION_EXECUTOR_ARG, operationExecutorType.name() ) );
+        argsList.addAll( Lists.newArrayList( "-" + TIMESTAMP_UNIT_ARG, timestampUnit.name() ) );
+        argsList.addAll( Lists.newArrayList( "-" + METRICS_RING_SIZE_ARG, Integer.toString( metricsRingSize ) ) );
+        argsList.addAll( Lists.newArrayList( "-" + METRICS_WAIT_STRATEGY_ARG, metricsWaitStrategy.name() ) );
+        if ( metricsRingPerCpu )
+        {
+            argsList.add( "-" + METRICS_RING_PER_CPU_ARG );
+        }
+        argsList.addAll( Lists.newArrayList( "-" + METRICS_SERVICE_ARG, metricsService.name() ) );
+        argsList.addAll( Lists.newArrayList( "-" + RESULTS_LOG_FORMAT_ARG, resultsLogFormat.name() ) );
+        argsList.addAll( Lists.newArrayList(
+                "-" + BLOCKING_STREAM_THREAD_COUNT_ARG, Integer.toString( blockingStreamThreadCount ) ) );
+        argsList.addAll( Lists.newArrayList( "-" + TELEMETRY_PORT_ARG, Integer.toString( telemetryPort ) ) );
         // additional, workload/database-related params
         Map<String,String> additionalParameters =
                 MapUtils.copyExcludingKeys( paramsMap, coreConfigurationParameterKeys() );
@@ -1256,6 +1628,77 @@ public class ConsoleAndFileDriverConfiguration implements DriverConfiguration
         sb.append( "# COMMAND: " ).append( "-" ).append( IGNORE_SCHEDULED_START_TIMES_ARG ).append( "\n" );
         sb.append( IGNORE_SCHEDULED_START_TIMES_ARG ).append( "=" ).append( ignoreScheduledStartTimes ).append( "\n" );
         sb.append( "\n" );
+        sb.append( "# executor used to run operation handlers\n" );
+        sb.append( "# THREAD_POOL: fixed size pool of thread_count threads\n" );
+        sb.append( "# VIRTUAL_THREAD: one thread (virtual, where supported) per handler,\n" );
+        sb.append( "#                 at most thread_count handlers in flight\n" );
+        sb.append( "# ENUM ([THREAD_POOL, VIRTUAL_THREAD])\n" );
+        sb.append( "# COMMAND: " ).append( "-" ).append( OPERATION_EXECUTOR_ARG ).append( "/--" )
+                .append( OPERATION_EXECUTOR_ARG_LONG ).append( "\n" );
+        sb.append( OPERATION_EXECUTOR_ARG_LONG ).append( "=" ).append( operationExecutorType ).append( "\n" );
+        sb.append( "\n" );
+        sb.append( "# resolution of scheduled & actual start times written to results log\n" );
+        sb.append( "# finer resolutions keep operations that start within the same millisecond apart\n" );
+        sb.append( "# ENUM ([NANOSECONDS, MICROSECONDS, MILLISECONDS])\n" );
+        sb.append( "# COMMAND: " ).append( "-" ).append( TIMESTAMP_UNIT_ARG ).append( "/--" )
+                .append( TIMESTAMP_UNIT_ARG_LONG ).append( "\n" );
+        sb.append( TIMESTAMP_UNIT_ARG_LONG ).append( "=" ).append( timestampUnit ).append( "\n" );
+        sb.append( "\n" );
+        sb.append( "# number of slots in ring buffer operation results are published to, must be a power of 2\n" );
+        sb.append( "# with metrics_ring_per_cpu, every one of the per CPU ring buffers has this size\n" );
+        sb.append( "# INTEGER (e.g., 1024)\n" );
+        sb.append( "# COMMAND: " ).append( "-" ).append( METRICS_RING_SIZE_ARG ).append( "/--" )
+                .append( METRICS_RING_SIZE_ARG_LONG ).append( "\n" );
+        sb.append( METRICS_RING_SIZE_ARG_LONG ).append( "=" ).append( metricsRingSize ).append( "\n" );
+        sb.append( "\n" );
+        sb.append( "# how the metrics consumer thread waits for operation results\n" );
+        sb.append( "# BUSY_SPIN, YIELDING & PHASED_BACKOFF lower latency at the cost of a busy core\n" );
+        sb.append( "# ENUM ([BLOCKING, SLEEPING, YIELDING, BUSY_SPIN, PHASED_BACKOFF])\n" );
+        sb.append( "# COMMAND: " ).append( "-" ).append( METRICS_WAIT_STRATEGY_ARG ).append( "/--" )
+                .append( METRICS_WAIT_STRATEGY_ARG_LONG ).append( "\n" );
+        sb.append( METRICS_WAIT_STRATEGY_ARG_LONG ).append( "=" ).append( metricsWaitStrategy ).append( "\n" );
+        sb.append( "\n" );
+        sb.append( "# spreads metrics writers over one ring buffer per core, picked by writer thread,\n" );
+        sb.append( "# instead of one ring buffer shared by all writers\n" );
+        sb.append( "# BOOLEAN\n" );
+        sb.append( "# COMMAND: " ).append( "-" ).append( METRICS_RING_PER_CPU_ARG ).append( "\n" );
+        sb.append( METRICS_RING_PER_CPU_ARG ).append( "=" ).append( metricsRingPerCpu ).append( "\n" );
+        sb.append( "\n" );
+        sb.append( "# how operation results are collected\n" );
+        sb.append( "# DISRUPTOR: writers publish to ring buffers, one consumer thread records results\n" );
+        sb.append( "# HISTOGRAM_PER_WRITER: writers record into own histograms, merged on status requests\n" );
+        sb.append( "# ENUM ([DISRUPTOR, HISTOGRAM_PER_WRITER])\n" );
+        sb.append( "# COMMAND: " ).append( "-" ).append( METRICS_SERVICE_ARG ).append( "/--" )
+                .append( METRICS_SERVICE_ARG_LONG ).append( "\n" );
+        sb.append( METRICS_SERVICE_ARG_LONG ).append( "=" ).append( metricsService ).append( "\n" );
+        sb.append( "\n" );
+        sb.append( "# format of results log\n" );
+        sb.append( "# CSV: one row per operation\n" );
+        sb.append( "# BINARY & BINARY_COMPRESSED: fixed width records, written by a background thread\n" );
+        sb.append( "# binary results logs can be exported to csv with the CONVERT_RESULTS_LOG driver mode\n" );
+        sb.append( "# ENUM ([CSV, BINARY, BINARY_COMPRESSED])\n" );
+        sb.append( "# COMMAND: " ).append( "-" ).append( RESULTS_LOG_FORMAT_ARG ).append( "/--" )
+                .append( RESULTS_LOG_FORMAT_ARG_LONG ).append( "\n" );
+        sb.append( RESULTS_LOG_FORMAT_ARG_LONG ).append( "=" ).append( resultsLogFormat ).append( "\n" );
+        sb.append( "\n" );
+        sb.append( "# number of threads the blocking streams of a workload are multiplexed onto\n" );
+        sb.append( "# each stream still executes one operation at a time, in order\n" );
+        sb.append( "# streams are run in order of the scheduled start time of their next operation\n" );
+        sb.append( "# 0 for one thread per blocking stream\n" );
+        sb.append( "# INTEGER (e.g., 4)\n" );
+        sb.append( "# COMMAND: " ).append( "-" ).append( BLOCKING_STREAM_THREAD_COUNT_ARG ).append( "/--" )
+                .append( BLOCKING_STREAM_THREAD_COUNT_ARG_LONG ).append( "\n" );
+        sb.append( BLOCKING_STREAM_THREAD_COUNT_ARG_LONG ).append( "=" ).append( blockingStreamThreadCount )
+                .append( "\n" );
+        sb.append( "\n" );
+        sb.append( "# local port on which live status is served while the workload runs\n" );
+        sb.append( "# Prometheus text format at /metrics, JSON at /status\n" );
+        sb.append( "# 0 to disable\n" );
+        sb.append( "# INTEGER (e.g., 9464)\n" );
+        sb.append( "# COMMAND: " ).append( "-" ).append( TELEMETRY_PORT_ARG ).append( "/--" )
+                .append( TELEMETRY_PORT_ARG_LONG ).append( "\n" );
+        sb.append( TELEMETRY_PORT_ARG_LONG ).append( "=" ).append( telemetryPort ).append( "\n" );
+        sb.append( "\n" );
         sb.append( "# ***************************************************************\n" );
         sb.append( "# *** the following should be set by workload implementations ***\n" );
         sb.append( "# ***************************************************************\n" );
@@ -1368,6 +1811,24 @@ public class ConsoleAndFileDriverConfiguration implements DriverConfiguration
                 .append( "\n" );
         sb.append( "\t" ).append( format( "%1$-" + padRightDistance + "s", "Ignore Scheduled Start Times:" ) )
                 .append( ignoreScheduledStartTimes ).append( "\n" );
+        sb.append( "\t" ).append( format( "%1$-" + padRightDistance + "s", "Operation Executor:" ) )
+                .append( operationExecutorType ).append( "\n" );
+        sb.append( "\t" ).append( format( "%1$-" + padRightDistance + "s", "Timestamp Unit:" ) )
+                .append( timestampUnit ).append( "\n" );
+        sb.append( "\t" ).append( format( "%1$-" + padRightDistance + "s", "Metrics Ring Size:" ) )
+                .append( metricsRingSize ).append( "\n" );
+        sb.append( "\t" ).append( format( "%1$-" + padRightDistance + "s", "Metrics Wait Strategy:" ) )
+                .append( metricsWaitStrategy ).append( "\n" );
+        sb.append( "\t" ).append( format( "%1$-" + padRightDistance + "s", "Metrics Ring Per CPU:" ) )
+                .append( metricsRingPerCpu ).append( "\n" );
+        sb.append( "\t" ).append( format( "%1$-" + padRightDistance + "s", "Metrics Service:" ) )
+                .append( metricsService ).append( "\n" );
+        sb.append( "\t" ).append( format( "%1$-" + padRightDistance + "s", "Results Log Format:" ) )
+                .append( resultsLogFormat ).append( "\n" );
+        sb.append( "\t" ).append( format( "%1$-" + padRightDistance + "s", "Blocking Stream Thread Count:" ) )
+                .append( blockingStreamThreadCount ).append( "\n" );
+        sb.append( "\t" ).append( format( "%1$-" + padRightDistance + "s", "Telemetry Port:" ) )
+                .append( telemetryPort ).append( "\n" );
 
         Set<String> excludedKeys = coreConfigurationParameterKeys();
 
@@ -1468,6 +1929,51 @@ public class ConsoleAndFileDriverConfiguration implements DriverConfiguration
             return false;
         }
 
+        if ( operationExecutorType != that.operationExecutorType )
+        {
+            return false;
+        }
+
+        if ( timestampUnit != that.timestampUnit )
+        {
+            return false;
+        }
+
+        if ( metricsRingSize != that.metricsRingSize )
+        {
+            return false;
+        }
+
+        if ( metricsWaitStrategy != that.metricsWaitStrategy )
+        {
+            return false;
+        }
+
+        if ( metricsRingPerCpu != that.metricsRingPerCpu )
+        {
+            return false;
+        }
+
+        if ( metricsService != that.metricsService )
+        {
+            return false;
+        }
+
+        if ( resultsLogFormat != that.resultsLogFormat )
+        {
+            return false;
+        }
+
+        if ( blockingStreamThreadCount != that.blockingStreamThreadCount )
+        {
+            return false;
+        }
+
+        if ( telemetryPort != that.telemetryPort )
+        {
+            return false;
+        }
+
         return true;
     }
 
@@ -1494,6 +2000,15 @@ public class ConsoleAndFileDriverConfiguration implements DriverConfiguration
         result = 31 * result + (int) (spinnerSleepDurationAsMilli ^ (spinnerSleepDurationAsMilli >>> 32));
         result = 31 * result + (printHelp ? 1 : 0);
         result = 31 * result + (ignoreScheduledStartTimes ? 1 : 0);
+        result = 31 * result + (operationExecutorType != null ? operationExecutorType.hashCode() : 0);
+        result = 31 * result + (timestampUnit != null ? timestampUnit.hashCode() : 0);
+        result = 31 * result + metricsRingSize;
+        result = 31 * result + (metricsWaitStrategy != null ? metricsWaitStrategy.hashCode() : 0);
+        result = 31 * result + (metricsRingPerCpu ? 1 : 0);
+        result = 31 * result + (metricsService != null ? metricsService.hashCode() : 0);
+        result = 31 * result + (resultsLogFormat != null ? resultsLogFormat.hashCode() : 0);
+        result = 31 * result + blockingStreamThreadCount;
+        result = 31 * result + telemetryPort;
         return result;
     }
 
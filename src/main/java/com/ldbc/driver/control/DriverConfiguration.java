@@ -1,6 +1,10 @@
 package com.ldbc.driver.control;
 
 import com.ldbc.driver.modes.DriverModeType;
+import com.ldbc.driver.runtime.executor.OperationExecutorType;
+import com.ldbc.driver.runtime.metrics.MetricsServiceType;
+import com.ldbc.driver.runtime.metrics.MetricsWaitStrategyType;
+import com.ldbc.driver.runtime.metrics.ResultsLogFormat;
 
 import java.util.Map;
 import java.util.concurrent.TimeUnit;
@@ -46,6 +50,24 @@ public interface DriverConfiguration
 
     long skipCount();
 
+    OperationExecutorType operationExecutorType();
+
+    TimeUnit timestampUnit();
+
+    int metricsRingSize();
+
+    MetricsWaitStrategyType metricsWaitStrategy();
+
+    boolean metricsRingPerCpu();
+
+    MetricsServiceType metricsService();
+
+    ResultsLogFormat resultsLogFormat();
+
+    int blockingStreamThreadCount();
+
+    int telemetryPort();
+
     String toPropertiesString() throws DriverConfigurationException;
 
     Map<String,String> asMap();
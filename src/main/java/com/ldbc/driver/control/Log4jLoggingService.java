@@ -1,5 +1,7 @@
 package com.ldbc.driver.control;
 
+import com.ldbc.driver.runtime.metrics.ContinuousMetricSnapshot;
+import com.ldbc.driver.runtime.metrics.SchedulingMetricsSnapshot;
 import com.ldbc.driver.runtime.metrics.SimpleDetailedWorkloadMetricsFormatter;
 import com.ldbc.driver.runtime.metrics.SimpleSummaryWorkloadMetricsFormatter;
 import com.ldbc.driver.runtime.metrics.WorkloadMetricsFormatter;
@@ -44,7 +46,8 @@ public class Log4jLoggingService implements LoggingService
     public void status(
             WorkloadStatusSnapshot status,
             RecentThroughputAndDuration recentThroughputAndDuration,
-            long completionTimeAsMilli )
+            long completionTimeAsMilli,
+            SchedulingMetricsSnapshot schedulingMetrics )
     {
         String statusString;
         statusString = (detailedStatus) ?
@@ -63,6 +66,16 @@ public class Log4jLoggingService implements LoggingService
                                status.throughput(),
                                recentThroughputAndDuration.throughput(),
                                recentThroughputAndDuration.duration() );
+        if ( status.blockedPublishCount() > 0 )
+        {
+            statusString = statusString + ", Metrics Blocked [" +
+                           OPERATION_COUNT_FORMATTER.format( status.blockedPublishCount() ) + " (" +
+                           temporalUtil.nanoDurationToString( status.blockedPublishDurationAsNano() ) + ")]";
+        }
+        if ( null != schedulingMetrics )
+        {
+            statusString = statusString + formatScheduling( schedulingMetrics );
+        }
         logger.info( statusString );
     }
 
@@ -78,6 +91,50 @@ public class Log4jLoggingService implements LoggingService
         logger.info( "\n" + detailedWorkloadMetricsFormatter.format( workloadResultsSnapshot ) );
     }
 
+    // waits are only recorded for operations that had to wait, so they are only shown once there are some
+    private String formatScheduling( SchedulingMetricsSnapshot schedulingMetrics )
+    {
+        StringBuilder sb = new StringBuilder();
+        ContinuousMetricSnapshot feederBlocked = schedulingMetrics.feederBlocked();
+        if ( null != feederBlocked && feederBlocked.count() > 0 )
+        {
+            sb.append( ", Feeder Blocked [" ).append( OPERATION_COUNT_FORMATTER.format( feederBlocked.count() ) )
+                    .append( " (" ).append( temporalUtil.nanoDurationToString( totalAsNano( feederBlocked ) ) )
+                    .append( ")]" );
+        }
+        ContinuousMetricSnapshot queueDepth = schedulingMetrics.queueDepth();
+        if ( null != queueDepth && queueDepth.count() > 0 )
+        {
+            sb.append( ", Queue Depth (Mean/Max) [" ).append( THROUGHPUT_FORMATTER.format( queueDepth.mean() ) )
+                    .append( "/" ).append( OPERATION_COUNT_FORMATTER.format( queueDepth.max() ) ).append( "]" );
+        }
+        appendWait( sb, "CT Wait", schedulingMetrics.completionTimeWait() );
+        appendWait( sb, "Schedule Wait", schedulingMetrics.scheduledStartTimeWait() );
+        ContinuousMetricSnapshot schedulingLateness = schedulingMetrics.schedulingLateness();
+        if ( null != schedulingLateness && schedulingLateness.count() > 0 )
+        {
+            sb.append( ", Lateness (99th) [" ).append( temporalUtil.nanoDurationToString(
+                    schedulingLateness.unit().toNanos( schedulingLateness.percentile99() ) ) ).append( "]" );
+        }
+        return sb.toString();
+    }
+
+    private void appendWait( StringBuilder sb, String name, ContinuousMetricSnapshot wait )
+    {
+        if ( null != wait && wait.count() > 0 )
+        {
+            sb.append( ", " ).append( name ).append( " [" )
+                    .append( OPERATION_COUNT_FORMATTER.format( wait.count() ) ).append( " (mean " )
+                    .append( temporalUtil.nanoDurationToString( (long) (wait.unit().toNanos( 1 ) * wait.mean()) ) )
+                    .append( ")]" );
+        }
+    }
+
+    private static long totalAsNano( ContinuousMetricSnapshot metric )
+    {
+        return (long) (metric.unit().toNanos( 1 ) * metric.mean() * metric.count());
+    }
+
     private String formatWithoutCt(
             long operationCount,
             long runDurationAsMilli,
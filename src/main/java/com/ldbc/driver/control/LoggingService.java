@@ -1,5 +1,6 @@
 package com.ldbc.driver.control;
 
+import com.ldbc.driver.runtime.metrics.SchedulingMetricsSnapshot;
 import com.ldbc.driver.runtime.metrics.WorkloadResultsSnapshot;
 import com.ldbc.driver.runtime.metrics.WorkloadStatusSnapshot;
 
@@ -9,7 +10,8 @@ public interface LoggingService
 
     void status( WorkloadStatusSnapshot workloadStatusSnapshot,
             RecentThroughputAndDuration recentThroughputAndDuration,
-            long completionTimeAsMilli );
+            long completionTimeAsMilli,
+            SchedulingMetricsSnapshot schedulingMetrics );
 
     void summaryResult( WorkloadResultsSnapshot workloadResultsSnapshot );
 
@@ -1,5 +1,6 @@
 package com.ldbc.driver.control;
 
+import com.ldbc.driver.runtime.metrics.SchedulingMetricsSnapshot;
 import com.ldbc.driver.runtime.metrics.WorkloadResultsSnapshot;
 import com.ldbc.driver.runtime.metrics.WorkloadStatusSnapshot;
 
@@ -15,7 +16,8 @@ public class NullLoggingService implements LoggingService
     public void status(
             WorkloadStatusSnapshot workloadStatusSnapshot,
             RecentThroughputAndDuration recentThroughputAndDuration,
-            long completionTimeAsMilli )
+            long completionTimeAsMilli,
+            SchedulingMetricsSnapshot schedulingMetrics )
     {
         // do nothing
     }
@@ -0,0 +1,413 @@
+package com.ldbc.driver.generator;
+
+import java.io.File;
+import java.io.IOException;
+import java.lang.ref.SoftReference;
+import java.util.Arrays;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.Callable;
+
+import static java.lang.String.format;
+
+/**
+ * Substitution parameters held in memory column by column, rather than as one Object[] of boxed values per row.
+ * <p>
+ * Column types are taken from the values of the first row:
+ * - Long & Date columns are stored as long[] (dates as epoch milliseconds)
+ * - Integer columns are stored as int[]
+ * - String (and any other) columns are stored as int[] indexes into a dictionary of distinct values
+ * <p>
+ * A store is immutable once loaded, so any number of cursors (e.g., one per operation stream) may read it
+ * concurrently. Stores of parameter files can be shared, e.g., by warmup and run, via shared().
+ */
+public class ColumnarParameterStore
+{
+    private static final int INITIAL_CAPACITY = 1024;
+    // guarded by ColumnarParameterStore.class
+    private static final Map<String,SoftReference<ColumnarParameterStore>> SHARED_STORES = new HashMap<>();
+
+    private final Column[] columns;
+    private final int rowCount;
+
+    /**
+     * Returns the store previously loaded for the same file (unmodified since) and decoder, or loads it with loader.
+     * Stores are softly referenced, so they are only retained while there is enough heap.
+     *
+     * @param file parameter file
+     * @param decoderType type of the decoder that rows of file are decoded with
+     * @param loader loads the store, called only when no store is available for file & decoder
+     * @return store of parameters in file
+     */
+    public static synchronized ColumnarParameterStore shared(
+            File file,
+            Class<?> decoderType,
+            Callable<ColumnarParameterStore> loader ) throws GeneratorException
+    {
+        String key;
+        try
+        {
+            key = format( "%s|%s|%s|%s",
+                    file.getCanonicalPath(), file.length(), file.lastModified(), decoderType.getName() );
+        }
+        catch ( IOException e )
+        {
+            throw new GeneratorException( format( "Unable to resolve parameters file: %s", file.getAbsolutePath() ),
+                    e );
+        }
+        SoftReference<ColumnarParameterStore> storeReference = SHARED_STORES.get( key );
+        ColumnarParameterStore store = (null == storeReference) ? null : storeReference.get();
+        if ( null == store )
+        {
+            try
+            {
+                store = loader.call();
+            }
+            catch ( GeneratorException e )
+            {
+                throw e;
+            }
+            catch ( Exception e )
+            {
+                throw new GeneratorException(
+                        format( "Unable to load parameters file: %s", file.getAbsolutePath() ), e );
+            }
+            SHARED_STORES.put( key, new SoftReference<>( store ) );
+        }
+        return store;
+    }
+
+    /**
+     * Consumes rows, one at a time, so decoded rows become garbage as soon as their values have been copied
+     */
+    public static ColumnarParameterStore load( Iterator<Object[]> rows ) throws GeneratorException
+    {
+        Column[] columns = new Column[0];
+        int rowCount = 0;
+        while ( rows.hasNext() )
+        {
+            Object[] row = rows.next();
+            if ( 0 == rowCount )
+            {
+                columns = new Column[row.length];
+                for ( int column = 0; column < row.length; column++ )
+                {
+                    columns[column] = columnFor( row[column], column );
+                }
+            }
+            else if ( row.length != columns.length )
+            {
+                throw new GeneratorException( format( "Row %s has %s columns, expected %s\n%s",
+                        rowCount, row.length, columns.length, Arrays.toString( row ) ) );
+            }
+            for ( int column = 0; column < columns.length; column++ )
+            {
+                columns[column].append( rowCount, row[column] );
+            }
+            rowCount++;
+        }
+        for ( Column column : columns )
+        {
+            column.trim( rowCount );
+        }
+        return new ColumnarParameterStore( columns, rowCount );
+    }
+
+    private ColumnarParameterStore( Column[] columns, int rowCount )
+    {
+        this.columns = columns;
+        this.rowCount = rowCount;
+    }
+
+    public int rowCount()
+    {
+        return rowCount;
+    }
+
+    public int columnCount()
+    {
+        return columns.length;
+    }
+
+    /**
+     * @return cursor that loops over the rows of this store indefinitely, or has no next row if the store is empty
+     */
+    public ParameterCursor repeatingCursor()
+    {
+        return new RepeatingCursor();
+    }
+
+    /**
+     * Every row is visited once per pass, in a different order on every pass. The order depends only on seed, so
+     * cursors with the same seed visit rows in the same order.
+     *
+     * @return cursor that loops over the rows of this store indefinitely, or has no next row if the store is empty
+     */
+    public ParameterCursor permutingCursor( long seed )
+    {
+        return new PermutingCursor( seed );
+    }
+
+    private static Column columnFor( Object value, int column )
+    {
+        if ( value instanceof Long )
+        {
+            return new LongColumn();
+        }
+        else if ( value instanceof Integer )
+        {
+            return new IntColumn();
+        }
+        else if ( value instanceof Date )
+        {
+            return new DateColumn();
+        }
+        else if ( null == value )
+        {
+            throw new GeneratorException( format( "Column %s of first row is null, can not infer its type", column ) );
+        }
+        else
+        {
+            return new DictionaryColumn();
+        }
+    }
+
+    private class RepeatingCursor implements ParameterCursor
+    {
+        int row = -1;
+
+        @Override
+        public boolean hasNext()
+        {
+            return rowCount > 0;
+        }
+
+        @Override
+        public void advance()
+        {
+            row = (row + 1 == rowCount) ? 0 : row + 1;
+        }
+
+        @Override
+        public long longAt( int column )
+        {
+            return columns[column].longAt( row );
+        }
+
+        @Override
+        public int intAt( int column )
+        {
+            return columns[column].intAt( row );
+        }
+
+        @Override
+        public String stringAt( int column )
+        {
+            return (String) columns[column].objectAt( row );
+        }
+
+        @Override
+        public Date dateAt( int column )
+        {
+            return new Date( columns[column].longAt( row ) );
+        }
+
+        @Override
+        public <T> T objectAt( int column )
+        {
+            return (T) columns[column].objectAt( row );
+        }
+    }
+
+    private class PermutingCursor extends RepeatingCursor
+    {
+        private final Random random;
+        private final int[] rows;
+        private int position;
+
+        private PermutingCursor( long seed )
+        {
+            this.random = new Random( seed );
+            this.rows = new int[rowCount];
+            for ( int i = 0; i < rowCount; i++ )
+            {
+                rows[i] = i;
+            }
+            this.position = rowCount;
+        }
+
+        @Override
+        public void advance()
+        {
+            if ( position == rowCount )
+            {
+                // Fisher-Yates shuffle, at the start of every pass
+                for ( int i = rowCount - 1; i > 0; i-- )
+                {
+                    int j = random.nextInt( i + 1 );
+                    int swap = rows[i];
+                    rows[i] = rows[j];
+                    rows[j] = swap;
+                }
+                position = 0;
+            }
+            row = rows[position++];
+        }
+    }
+
+    private static abstract class Column
+    {
+        abstract void append( int row, Object value );
+
+        abstract void trim( int rowCount );
+
+        long longAt( int row )
+        {
+            throw new GeneratorException( format( "%s does not contain long values", getClass().getSimpleName() ) );
+        }
+
+        int intAt( int row )
+        {
+            throw new GeneratorException( format( "%s does not contain int values", getClass().getSimpleName() ) );
+        }
+
+        Object objectAt( int row )
+        {
+            throw new GeneratorException( format( "%s does not contain objects", getClass().getSimpleName() ) );
+        }
+
+        static int grownCapacity( int capacity )
+        {
+            return Math.max( INITIAL_CAPACITY, capacity * 2 );
+        }
+    }
+
+    private static class LongColumn extends Column
+    {
+        private long[] values = new long[0];
+
+        @Override
+        void append( int row, Object value )
+        {
+            if ( row == values.length )
+            {
+                values = Arrays.copyOf( values, grownCapacity( values.length ) );
+            }
+            values[row] = toLong( value );
+        }
+
+        long toLong( Object value )
+        {
+            if ( !(value instanceof Long) )
+            {
+                throw new GeneratorException( format( "Expected long, found: %s", value ) );
+            }
+            return (long) value;
+        }
+
+        @Override
+        void trim( int rowCount )
+        {
+            values = Arrays.copyOf( values, rowCount );
+        }
+
+        @Override
+        long longAt( int row )
+        {
+            return values[row];
+        }
+    }
+
+    private static class DateColumn extends LongColumn
+    {
+        @Override
+        long toLong( Object value )
+        {
+            if ( !(value instanceof Date) )
+            {
+                throw new GeneratorException( format( "Expected date, found: %s", value ) );
+            }
+            return ((Date) value).getTime();
+        }
+    }
+
+    private static class IntColumn extends Column
+    {
+        private int[] values = new int[0];
+
+        @Override
+        void append( int row, Object value )
+        {
+            if ( !(value instanceof Integer) )
+            {
+                throw new GeneratorException( format( "Expected int, found: %s", value ) );
+            }
+            if ( row == values.length )
+            {
+                values = Arrays.copyOf( values, grownCapacity( values.length ) );
+            }
+            values[row] = (int) value;
+        }
+
+        @Override
+        void trim( int rowCount )
+        {
+            values = Arrays.copyOf( values, rowCount );
+        }
+
+        @Override
+        int intAt( int row )
+        {
+            return values[row];
+        }
+    }
+
+    /**
+     * Equal values are stored once, e.g., names and tags that occur in many rows
+     */
+    private static class DictionaryColumn extends Column
+    {
+        private int[] valueIds = new int[0];
+        private Object[] dictionary = new Object[0];
+        // only used while loading
+        private Map<Object,Integer> valueIdsByValue = new HashMap<>();
+
+        @Override
+        void append( int row, Object value )
+        {
+            Integer valueId = valueIdsByValue.get( value );
+            if ( null == valueId )
+            {
+                valueId = valueIdsByValue.size();
+                valueIdsByValue.put( value, valueId );
+                if ( valueId == dictionary.length )
+                {
+                    dictionary = Arrays.copyOf( dictionary, grownCapacity( dictionary.length ) );
+                }
+                dictionary[valueId] = value;
+            }
+            if ( row == valueIds.length )
+            {
+                valueIds = Arrays.copyOf( valueIds, grownCapacity( valueIds.length ) );
+            }
+            valueIds[row] = valueId;
+        }
+
+        @Override
+        void trim( int rowCount )
+        {
+            valueIds = Arrays.copyOf( valueIds, rowCount );
+            dictionary = Arrays.copyOf( dictionary, valueIdsByValue.size() );
+            valueIdsByValue = null;
+        }
+
+        @Override
+        Object objectAt( int row )
+        {
+            return dictionary[valueIds[row]];
+        }
+    }
+}
@@ -21,6 +21,7 @@ import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.function.ToLongFunction;
 
 import static java.lang.String.format;
 
@@ -520,22 +521,7 @@ public class GeneratorFactory
      */
     public Iterator<Operation> mergeSortOperationsByScheduledStartTime( Iterator<Operation>... generators )
     {
-        return mergeSort(
-                new Comparator<Operation>()
-                {
-                    @Override
-                    public int compare( Operation o1, Operation o2 )
-                    {
-                        if ( o1.scheduledStartTimeAsMilli() > o2.scheduledStartTimeAsMilli() )
-                        { return 1; }
-                        else if ( o1.scheduledStartTimeAsMilli() < o2.scheduledStartTimeAsMilli() )
-                        { return -1; }
-                        else
-                        { return 0; }
-                    }
-                },
-                generators
-        );
+        return mergeSortByLongKey( Operation::scheduledStartTimeAsMilli, generators );
     }
 
     /**
@@ -546,22 +532,7 @@ public class GeneratorFactory
      */
     public Iterator<Operation> mergeSortOperationsByTimeStamp( Iterator<Operation>... generators )
     {
-        return mergeSort(
-                new Comparator<Operation>()
-                {
-                    @Override
-                    public int compare( Operation o1, Operation o2 )
-                    {
-                        if ( o1.timeStamp() > o2.timeStamp() )
-                        { return 1; }
-                        else if ( o1.timeStamp() < o2.timeStamp() )
-                        { return -1; }
-                        else
-                        { return 0; }
-                    }
-                },
-                generators
-        );
+        return mergeSortByLongKey( Operation::timeStamp, generators );
     }
 
     /**
@@ -572,22 +543,24 @@ public class GeneratorFactory
      */
     public <T extends Number> Iterator<T> mergeSortNumbers( Iterator<T>... generators )
     {
-        return mergeSort(
-                new Comparator<T>()
-                {
-                    @Override
-                    public int compare( T t1, T t2 )
-                    {
-                        if ( t1.longValue() > t2.longValue() )
-                        { return 1; }
-                        else if ( t1.longValue() < t2.longValue() )
-                        { return -1; }
-                        else
-                        { return 0; }
-                    }
-                },
-                generators
-        );
+        return mergeSortByLongKey( Number::longValue, generators );
+    }
+
+    /**
+     * Returned generator will merge all input generators into one, sorting on the key of elements, ascending.
+     * Elements with equal keys are returned in the order of the generators they came from.
+     * <p/>
+     * Keys are computed once per element and the generators are kept in a heap, so the cost per element is
+     * O(log(number of generators)).
+     *
+     * @param keyFun
+     * @param generators
+     * @param <T>
+     * @return
+     */
+    public <T> Iterator<T> mergeSortByLongKey( ToLongFunction<T> keyFun, Iterator<T>... generators )
+    {
+        return new LongKeyMergeGenerator<>( keyFun, generators );
     }
 
     /**
@@ -0,0 +1,117 @@
+package com.ldbc.driver.generator;
+
+import java.util.Iterator;
+import java.util.function.ToLongFunction;
+
+/**
+ * Merges input generators, each of which must be ordered by key, into one generator that is ordered by key.
+ * <p>
+ * The key of every element is computed once, when the element becomes the head of its input, and kept in a primitive
+ * array. Input generators are kept in a binary min-heap of their head keys, so returning an element costs
+ * O(log(input count)) key comparisons, no matter how many inputs there are. Elements with equal keys are returned in
+ * the order of the inputs they came from, i.e., an element of the first input before an element of the second.
+ *
+ * @param <GENERATE_TYPE>
+ */
+public class LongKeyMergeGenerator<GENERATE_TYPE> extends Generator<GENERATE_TYPE>
+{
+    private final ToLongFunction<GENERATE_TYPE> keyFun;
+    private final Iterator<GENERATE_TYPE>[] generators;
+    // per input generator, its current head element and the key of that element
+    private final Object[] heads;
+    private final long[] headKeys;
+    // indexes of input generators that still have a head, heap ordered by (head key, generator index)
+    private final int[] heap;
+    private int heapSize;
+
+    public LongKeyMergeGenerator( ToLongFunction<GENERATE_TYPE> keyFun, Iterator<GENERATE_TYPE>... generators )
+    {
+        this.keyFun = keyFun;
+        this.generators = generators;
+        this.heads = new Object[generators.length];
+        this.headKeys = new long[generators.length];
+        this.heap = new int[generators.length];
+        this.heapSize = 0;
+        for ( int generatorIndex = 0; generatorIndex < generators.length; generatorIndex++ )
+        {
+            if ( advance( generatorIndex ) )
+            {
+                heap[heapSize] = generatorIndex;
+                heapSize++;
+            }
+        }
+        for ( int heapIndex = heapSize / 2 - 1; heapIndex >= 0; heapIndex-- )
+        {
+            siftDown( heapIndex );
+        }
+    }
+
+    @Override
+    protected GENERATE_TYPE doNext() throws GeneratorException
+    {
+        if ( 0 == heapSize )
+        {
+            return null;
+        }
+        int generatorIndex = heap[0];
+        GENERATE_TYPE next = (GENERATE_TYPE) heads[generatorIndex];
+        if ( false == advance( generatorIndex ) )
+        {
+            heapSize--;
+            heap[0] = heap[heapSize];
+        }
+        siftDown( 0 );
+        return next;
+    }
+
+    /**
+     * Replaces the head of an input generator with its next element
+     *
+     * @return false if the input generator is exhausted
+     */
+    private boolean advance( int generatorIndex )
+    {
+        Iterator<GENERATE_TYPE> generator = generators[generatorIndex];
+        if ( generator.hasNext() )
+        {
+            GENERATE_TYPE head = generator.next();
+            heads[generatorIndex] = head;
+            headKeys[generatorIndex] = keyFun.applyAsLong( head );
+            return true;
+        }
+        else
+        {
+            heads[generatorIndex] = null;
+            return false;
+        }
+    }
+
+    private void siftDown( int heapIndex )
+    {
+        int generatorIndex = heap[heapIndex];
+        int half = heapSize / 2;
+        while ( heapIndex < half )
+        {
+            int childHeapIndex = 2 * heapIndex + 1;
+            int rightChildHeapIndex = childHeapIndex + 1;
+            if ( rightChildHeapIndex < heapSize && before( heap[rightChildHeapIndex], heap[childHeapIndex] ) )
+            {
+                childHeapIndex = rightChildHeapIndex;
+            }
+            if ( false == before( heap[childHeapIndex], generatorIndex ) )
+            {
+                break;
+            }
+            heap[heapIndex] = heap[childHeapIndex];
+            heapIndex = childHeapIndex;
+        }
+        heap[heapIndex] = generatorIndex;
+    }
+
+    private boolean before( int generatorIndex1, int generatorIndex2 )
+    {
+        long key1 = headKeys[generatorIndex1];
+        long key2 = headKeys[generatorIndex2];
+        return key1 < key2 || (key1 == key2 && generatorIndex1 < generatorIndex2);
+    }
+}
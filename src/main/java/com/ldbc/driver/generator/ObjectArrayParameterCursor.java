@@ -0,0 +1,60 @@
+package com.ldbc.driver.generator;
+
+import java.util.Date;
+import java.util.Iterator;
+
+/**
+ * Parameter cursor over rows that have already been decoded into Object[], e.g., by a CSV decoder
+ */
+public class ObjectArrayParameterCursor implements ParameterCursor
+{
+    private final Iterator<Object[]> rows;
+    private Object[] row = null;
+
+    public ObjectArrayParameterCursor( Iterator<Object[]> rows )
+    {
+        this.rows = rows;
+    }
+
+    @Override
+    public boolean hasNext()
+    {
+        return rows.hasNext();
+    }
+
+    @Override
+    public void advance()
+    {
+        row = rows.next();
+    }
+
+    @Override
+    public long longAt( int column )
+    {
+        return (long) row[column];
+    }
+
+    @Override
+    public int intAt( int column )
+    {
+        return (int) row[column];
+    }
+
+    @Override
+    public String stringAt( int column )
+    {
+        return (String) row[column];
+    }
+
+    @Override
+    public Date dateAt( int column )
+    {
+        return (Date) row[column];
+    }
+
+    @Override
+    public <T> T objectAt( int column )
+    {
+        return (T) row[column];
+    }
+}
@@ -0,0 +1,25 @@
+package com.ldbc.driver.generator;
+
+import java.util.Date;
+
+/**
+ * Cursor over rows of substitution parameters.
+ * advance() moves the cursor to the next row, after which the columns of that row may be read.
+ * Columns are read as primitives where possible, so reading a row does not box its values.
+ */
+public interface ParameterCursor
+{
+    boolean hasNext();
+
+    void advance();
+
+    long longAt( int column );
+
+    int intAt( int column );
+
+    String stringAt( int column );
+
+    Date dateAt( int column );
+
+    <T> T objectAt( int column );
+}
@@ -4,6 +4,7 @@ import com.ldbc.driver.Operation;
 import com.ldbc.driver.util.Function1;
 
 import java.util.Iterator;
+import java.util.concurrent.TimeUnit;
 
 public class TimeMappingOperationGenerator extends Generator<Operation>
 {
@@ -12,7 +13,7 @@ public class TimeMappingOperationGenerator extends Generator<Operation>
     private final Double timeCompressionRatio;
 
     private Function1<Long,Long,RuntimeException> timeOffsetAsMilliFun = null;
-    private Function1<Long,Long,RuntimeException> startTimeAsMilliCompressionFun = null;
+    private Function1<Long,Long,RuntimeException> startTimeAsNanoCompressionFun = null;
 
     TimeMappingOperationGenerator(
             Iterator<Operation> operations,
@@ -50,28 +51,30 @@ public class TimeMappingOperationGenerator extends Generator<Operation>
             // Create time compression function
             if ( null == timeCompressionRatio )
             {
-                startTimeAsMilliCompressionFun = new IdentityTimeFun();
+                startTimeAsNanoCompressionFun = new MilliToNanoTimeFun();
             }
             else
             {
-                startTimeAsMilliCompressionFun = new TimeCompressionFun(
+                startTimeAsNanoCompressionFun = new TimeCompressionFun(
                         timeCompressionRatio,
                         timeOffsetAsMilliFun.apply( nextOperation.scheduledStartTimeAsMilli() )
                 );
             }
         }
         long offsetStartTimeAsMilli = timeOffsetAsMilliFun.apply( nextOperation.scheduledStartTimeAsMilli() );
-        long offsetAndCompressedStartTimeAsMilli = startTimeAsMilliCompressionFun.apply( offsetStartTimeAsMilli );
-        nextOperation.setScheduledStartTimeAsMilli( offsetAndCompressedStartTimeAsMilli );
+        // compressed start times are computed at nanosecond resolution, so operations compressed into the same
+        // millisecond keep their relative spacing
+        long offsetAndCompressedStartTimeAsNano = startTimeAsNanoCompressionFun.apply( offsetStartTimeAsMilli );
+        nextOperation.setScheduledStartTimeAsNano( offsetAndCompressedStartTimeAsNano );
         return nextOperation;
     }
 
-    private class IdentityTimeFun implements Function1<Long,Long,RuntimeException>
+    private class MilliToNanoTimeFun implements Function1<Long,Long,RuntimeException>
     {
         @Override
         public Long apply( Long timeAsMilli )
         {
-            return timeAsMilli;
+            return TimeUnit.MILLISECONDS.toNanos( timeAsMilli );
         }
     }
 
@@ -121,10 +124,10 @@ public class TimeMappingOperationGenerator extends Generator<Operation>
         @Override
         public Long apply( Long timeAsMilli )
         {
-            long durationFromOriginalStartTimeAsMilli = timeAsMilli - firstTimeAsMilli;
-            long compressedDurationFromOriginalStartTimeAsMilli =
-                    Math.round( durationFromOriginalStartTimeAsMilli * timeCompressionRatio );
-            return firstTimeAsMilli + compressedDurationFromOriginalStartTimeAsMilli;
+            long durationFromOriginalStartTimeAsNano = TimeUnit.MILLISECONDS.toNanos( timeAsMilli - firstTimeAsMilli );
+            long compressedDurationFromOriginalStartTimeAsNano =
+                    Math.round( durationFromOriginalStartTimeAsNano * timeCompressionRatio );
+            return TimeUnit.MILLISECONDS.toNanos( firstTimeAsMilli ) + compressedDurationFromOriginalStartTimeAsNano;
         }
     }
 
@@ -0,0 +1,78 @@
+package com.ldbc.driver.modes;
+
+import com.ldbc.driver.ClientException;
+import com.ldbc.driver.control.ControlService;
+import com.ldbc.driver.control.LoggingService;
+import com.ldbc.driver.runtime.metrics.BinaryResultsLogReader;
+import com.ldbc.driver.runtime.metrics.BinaryResultsLogWriter;
+
+import java.io.File;
+
+import static java.lang.String.format;
+
+/**
+ * Exports the binary results logs in the results directory to the csv results log format, writing each next to the
+ * binary results log it was exported from, e.g., to be read by the plotting scripts
+ */
+public class ConvertResultsLogMode extends DriverMode
+{
+    private static final String BINARY_RESULTS_LOG_SUFFIX = "-results_log" + BinaryResultsLogWriter.FILE_SUFFIX;
+    private static final String CSV_RESULTS_LOG_SUFFIX = "-results_log.csv";
+
+    private final ControlService controlService;
+    private final LoggingService loggingService;
+
+    private File resultsDirectory = null;
+
+    public ConvertResultsLogMode( ControlService controlService )
+    {
+        super( DriverModeType.CONVERT_RESULTS_LOG );
+        this.controlService = controlService;
+        this.loggingService = controlService.getLoggingServiceFactory().loggingServiceFor( getClass().getSimpleName() );
+    }
+
+    @Override
+    public void init() throws ClientException
+    {
+        String resultsDirectoryPath = controlService.getConfiguration().resultDirPath();
+        if ( null == resultsDirectoryPath )
+        {
+            throw new ClientException( "Missing required parameter: results directory" );
+        }
+        resultsDirectory = new File( resultsDirectoryPath.trim() );
+        if ( !resultsDirectory.isDirectory() )
+        {
+            throw new ClientException(
+                    format( "Results directory does not exist\nDirectory: %s", resultsDirectory.getAbsolutePath() ) );
+        }
+    }
+
+    @Override
+    public Object startExecutionAndAwaitCompletion() throws ClientException
+    {
+        loggingService.info( format( "Converting results logs in: %s", resultsDirectory.getAbsolutePath() ) );
+        File[] binaryResultsLogs = resultsDirectory.listFiles(
+                file -> file.isFile() && file.getName().endsWith( BINARY_RESULTS_LOG_SUFFIX ) );
+        long resultCount = 0;
+        for ( File binaryResultsLog : binaryResultsLogs )
+        {
+            String name = binaryResultsLog.getName();
+            File csvResultsLog = new File(
+                    resultsDirectory,
+                    name.substring( 0, name.length() - BINARY_RESULTS_LOG_SUFFIX.length() ) + CSV_RESULTS_LOG_SUFFIX );
+            try
+            {
+                resultCount += BinaryResultsLogReader.exportToCsv( binaryResultsLog, csvResultsLog );
+            }
+            catch ( Exception e )
+            {
+                throw new ClientException(
+                        format( "Error converting results log: %s", binaryResultsLog.getAbsolutePath() ), e );
+            }
+            loggingService.info( format( "Converted: %s", csvResultsLog.getAbsolutePath() ) );
+        }
+        loggingService.info( format( "Converted %s results from %s results logs",
+                resultCount, binaryResultsLogs.length ) );
+        return null;
+    }
+}
@@ -0,0 +1,73 @@
+package com.ldbc.driver.modes;
+
+import com.ldbc.driver.ClientException;
+import com.ldbc.driver.control.ControlService;
+import com.ldbc.driver.control.LoggingService;
+import com.ldbc.driver.workloads.ldbc.snb.interactive.LdbcSnbInteractiveWorkloadConfiguration;
+import com.ldbc.driver.workloads.ldbc.snb.interactive.WriteEventStreamWriterBinary;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.List;
+
+import static java.lang.String.format;
+
+/**
+ * Converts the csv update streams of the LDBC SNB Interactive workload to the binary update stream format,
+ * once, writing them next to the csv update streams, where they are read when the update stream parser is BINARY
+ */
+public class ConvertUpdateStreamsMode extends DriverMode {
+    private final ControlService controlService;
+    private final LoggingService loggingService;
+
+    private File updatesDirectory = null;
+
+    public ConvertUpdateStreamsMode( ControlService controlService )
+    {
+        super(DriverModeType.CONVERT_UPDATE_STREAMS);
+        this.controlService = controlService;
+        this.loggingService = controlService.getLoggingServiceFactory().loggingServiceFor( getClass().getSimpleName() );
+    }
+
+    @Override
+    public void init() throws ClientException
+    {
+        String updatesDirectoryPath =
+                controlService.getConfiguration().asMap().get( LdbcSnbInteractiveWorkloadConfiguration.UPDATES_DIRECTORY );
+        if ( null == updatesDirectoryPath )
+        {
+            throw new ClientException(
+                    format( "Missing required parameter: %s", LdbcSnbInteractiveWorkloadConfiguration.UPDATES_DIRECTORY ) );
+        }
+        updatesDirectory = new File( updatesDirectoryPath.trim() );
+        if ( !updatesDirectory.isDirectory() )
+        {
+            throw new ClientException(
+                    format( "Updates directory does not exist\nDirectory: %s", updatesDirectory.getAbsolutePath() ) );
+        }
+    }
+
+    @Override
+    public Object startExecutionAndAwaitCompletion() throws ClientException
+    {
+        loggingService.info( format( "Converting update streams in: %s", updatesDirectory.getAbsolutePath() ) );
+        List<Long> operationCounts;
+        try
+        {
+            operationCounts = WriteEventStreamWriterBinary.convertDirectory( updatesDirectory, updatesDirectory );
+        }
+        catch ( IOException e )
+        {
+            throw new ClientException(
+                    format( "Error converting update streams in: %s", updatesDirectory.getAbsolutePath() ), e );
+        }
+        long operationCount = 0;
+        for ( long count : operationCounts )
+        {
+            operationCount += count;
+        }
+        loggingService.info( format( "Converted %s operations from %s update streams",
+                operationCount, operationCounts.size() ) );
+        return null;
+    }
+}
@@ -121,10 +121,13 @@ public class CreateValidationParamsMode extends DriverMode {
                     format("Generating database validation file: %s", validationFileToGenerate.getAbsolutePath()));
 
             DbValidationParametersFilter dbValidationParametersFilter = w.getDbValidationParametersFilter(validationSetSize);
+            int threadCount = controlService.getConfiguration().getThreadCount();
+            loggingService.info(format("Executing operations on %s thread(s)", threadCount));
             ValidationParamsGenerator validationParamsGenerator = new ValidationParamsGenerator(
                     db,
                     dbValidationParametersFilter,
-                    timeMappedOperations);
+                    timeMappedOperations,
+                    threadCount);
 
             Iterator<String[]> csvRows = new ValidationParamsToCsvRows(
                     validationParamsGenerator,
@@ -152,6 +155,8 @@ public class CreateValidationParamsMode extends DriverMode {
                 }
             } catch (Exception e) {
                 throw new ClientException("Error trying to write validation parameters to CSV file writer", e);
+            } finally {
+                validationParamsGenerator.shutdown();
             }
 
             int validationParametersGenerated =
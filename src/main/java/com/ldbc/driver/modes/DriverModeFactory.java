@@ -28,6 +28,12 @@ public class DriverModeFactory {
                 TimeSource systemTimeSource = new SystemTimeSource();
                 driverMode = new ExecuteWorkloadMode(controlService, systemTimeSource, RANDOM_SEED);
                 break;
+            case CONVERT_UPDATE_STREAMS:
+                driverMode = new ConvertUpdateStreamsMode(controlService);
+                break;
+            case CONVERT_RESULTS_LOG:
+                driverMode = new ConvertResultsLogMode(controlService);
+                break;
             case PRINT_HELP:
                 driverMode = new PrintHelpMode(controlService);
                 break;
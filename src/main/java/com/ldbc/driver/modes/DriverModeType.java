@@ -6,4 +6,6 @@ public enum DriverModeType {
     VALIDATE_DATABASE,
     CALCULATE_WORKLOAD_STATS,
     EXECUTE_WORKLOAD,
+    CONVERT_UPDATE_STREAMS,
+    CONVERT_RESULTS_LOG,
 }
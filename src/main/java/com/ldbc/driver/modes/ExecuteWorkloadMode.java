@@ -16,18 +16,23 @@ import com.ldbc.driver.modes.ResultsDirectory;
 import com.ldbc.driver.runtime.ConcurrentErrorReporter;
 import com.ldbc.driver.runtime.DefaultQueues;
 import com.ldbc.driver.runtime.WorkloadRunner;
+import com.ldbc.driver.runtime.WorkloadStatusLogWriter;
 import com.ldbc.driver.runtime.coordination.CompletionTimeException;
 import com.ldbc.driver.runtime.coordination.CompletionTimeService;
 import com.ldbc.driver.runtime.coordination.CompletionTimeServiceAssistant;
 import com.ldbc.driver.runtime.coordination.CompletionTimeWriter;
 import com.ldbc.driver.runtime.metrics.DisruptorSbeMetricsService;
+import com.ldbc.driver.runtime.metrics.ContinuousMetricSnapshot;
+import com.ldbc.driver.runtime.metrics.HdrHistogramMetricsService;
 import com.ldbc.driver.runtime.metrics.JsonWorkloadMetricsFormatter;
 import com.ldbc.driver.runtime.metrics.MetricsCollectionException;
 import com.ldbc.driver.runtime.metrics.MetricsManager;
 import com.ldbc.driver.runtime.metrics.MetricsService;
 import com.ldbc.driver.runtime.metrics.NullResultsLogWriter;
 import com.ldbc.driver.runtime.metrics.ResultsLogWriter;
-import com.ldbc.driver.runtime.metrics.SimpleResultsLogWriter;
+import com.ldbc.driver.runtime.metrics.SchedulingMetricsSnapshot;
+import com.ldbc.driver.runtime.metrics.StreamMetricsManager;
+import com.ldbc.driver.runtime.metrics.StreamMetricsSnapshot;
 import com.ldbc.driver.runtime.metrics.WorkloadResultsSnapshot;
 import com.ldbc.driver.runtime.metrics.WorkloadStatusSnapshot;
 import com.ldbc.driver.temporal.TemporalUtil;
@@ -46,6 +51,8 @@ import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.time.Duration;
 import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.concurrent.TimeUnit;
 
 import static java.lang.String.format;
@@ -64,6 +71,8 @@ public class ExecuteWorkloadMode extends DriverMode {
     private CompletionTimeService completionTimeService = null;
     private WorkloadRunner workloadRunner = null;
     private ResultsLogWriter resultsLogWriter = null;
+    // null when there is no results directory
+    private WorkloadStatusLogWriter statusLogWriter = null;
 
     public ExecuteWorkloadMode(
             ControlService controlService,
@@ -107,9 +116,7 @@ public class ExecuteWorkloadMode extends DriverMode {
             doExecute( true );
             try
             {
-                // TODO remove in future
-                // This is necessary to clear the runnable context pool
-                // As objects in the pool would otherwise hold references to services used during warmup
+                // Recycled runnable contexts would otherwise hold references to services used during warmup
                 database.reInit();
             }
             catch ( DbException e )
@@ -153,15 +160,18 @@ public class ExecuteWorkloadMode extends DriverMode {
         ConcurrentErrorReporter errorReporter = new ConcurrentErrorReporter();
         GeneratorFactory gf = new GeneratorFactory( new RandomDataGeneratorFactory( randomSeed ) );
 
-        //  ================================
-        //  ===  Results Log CSV Writer  ===
-        //  ================================
+        //  ============================
+        //  ===  Results Log Writer  ===
+        //  ============================
         File resultsLog = resultsDirectory.getOrCreateResultsLogFile( warmup );
         try
         {
             resultsLogWriter = (null == resultsLog)
                                ? new NullResultsLogWriter()
-                               : new SimpleResultsLogWriter( resultsLog, controlService.getConfiguration().timeUnit() );
+                               : controlService.getConfiguration().resultsLogFormat().newWriter(
+                                       resultsLog,
+                                       controlService.getConfiguration().timeUnit(),
+                                       controlService.getConfiguration().timestampUnit() );
         }
         catch ( IOException e )
         {
@@ -169,6 +179,28 @@ public class ExecuteWorkloadMode extends DriverMode {
                     format( "Error creating results log writer for: %s", resultsLog.getAbsolutePath() ), e );
         }
 
+        //  ==========================
+        //  ===  Status Log Writer  ===
+        //  ==========================
+        if ( resultsDirectory.exists() )
+        {
+            File statusLog = resultsDirectory.getOrCreateStatusLogFile( warmup );
+            try
+            {
+                statusLogWriter =
+                        new WorkloadStatusLogWriter( statusLog, controlService.getConfiguration().timeUnit() );
+            }
+            catch ( IOException e )
+            {
+                throw new ClientException(
+                        format( "Error creating status log writer for: %s", statusLog.getAbsolutePath() ), e );
+            }
+        }
+        else
+        {
+            statusLogWriter = null;
+        }
+
         //  ==================
         //  ===  Workload  ===
         //  ==================
@@ -243,16 +275,32 @@ public class ExecuteWorkloadMode extends DriverMode {
         //  ========================
         try
         {
-            // TODO create metrics service factory so different ones can be easily created
-            metricsService = new DisruptorSbeMetricsService(
-                    timeSource,
-                    errorReporter,
-                    controlService.getConfiguration().timeUnit(),
-                    DisruptorSbeMetricsService.DEFAULT_HIGHEST_EXPECTED_RUNTIME_DURATION_AS_NANO,
-                    resultsLogWriter,
-                    workload.operationTypeToClassMapping(),
-                    controlService.getLoggingServiceFactory()
-            );
+            switch ( controlService.getConfiguration().metricsService() )
+            {
+            case HISTOGRAM_PER_WRITER:
+                metricsService = new HdrHistogramMetricsService(
+                        timeSource,
+                        controlService.getConfiguration().timeUnit(),
+                        DisruptorSbeMetricsService.DEFAULT_HIGHEST_EXPECTED_RUNTIME_DURATION_AS_NANO,
+                        resultsLogWriter,
+                        workload.operationTypeToClassMapping(),
+                        controlService.getLoggingServiceFactory()
+                );
+                break;
+            default:
+                metricsService = new DisruptorSbeMetricsService(
+                        timeSource,
+                        errorReporter,
+                        controlService.getConfiguration().timeUnit(),
+                        DisruptorSbeMetricsService.DEFAULT_HIGHEST_EXPECTED_RUNTIME_DURATION_AS_NANO,
+                        resultsLogWriter,
+                        workload.operationTypeToClassMapping(),
+                        controlService.getLoggingServiceFactory(),
+                        controlService.getConfiguration().metricsRingSize(),
+                        controlService.getConfiguration().metricsWaitStrategy(),
+                        controlService.getConfiguration().metricsRingPerCpu()
+                );
+            }
         }
         catch ( MetricsCollectionException e )
         {
@@ -265,11 +313,7 @@ public class ExecuteWorkloadMode extends DriverMode {
         CompletionTimeServiceAssistant completionTimeServiceAssistant = new CompletionTimeServiceAssistant();
         try
         {
-            completionTimeService =
-                    completionTimeServiceAssistant.newThreadedQueuedCompletionTimeService(
-                            timeSource,
-                            errorReporter
-                    );
+            completionTimeService = completionTimeServiceAssistant.newLockFreeCompletionTimeService();
         }
         catch ( CompletionTimeException e )
         {
@@ -292,7 +336,11 @@ public class ExecuteWorkloadMode extends DriverMode {
                     completionTimeService,
                     controlService.getLoggingServiceFactory(),
                     controlService.getConfiguration().getThreadCount(),
+                    controlService.getConfiguration().operationExecutorType(),
+                    controlService.getConfiguration().blockingStreamThreadCount(),
                     controlService.getConfiguration().statusDisplayIntervalAsSeconds(),
+                    controlService.getConfiguration().telemetryPort(),
+                    statusLogWriter,
                     controlService.getConfiguration().spinnerSleepDurationAsMilli(),
                     controlService.getConfiguration().ignoreScheduledStartTimes(),
                     operationHandlerExecutorsBoundedQueueSize );
@@ -366,6 +414,13 @@ public class ExecuteWorkloadMode extends DriverMode {
         try
         {
             ConcurrentErrorReporter errorReporter = workloadRunner.getFuture().get();
+            if ( null != statusLogWriter )
+            {
+                // status thread has stopped by the time the runner completes
+                statusLogWriter.close();
+            }
+            loggingService.info( format( "Runnable context recycling: %s",
+                    database.operationHandlerRunnableContextRecyclingStats() ) );
             loggingService.info( "Shutting down workload..." );
             workload.close();
             if ( errorReporter.errorEncountered() )
@@ -400,6 +455,34 @@ public class ExecuteWorkloadMode extends DriverMode {
             throw new ClientException( "Error during shutdown of metrics collection service", e );
         }
 
+        // other blocking streams, e.g., update streams, are not sessions, so their throughput and power mean nothing
+        List<StreamMetricsManager> blockingStreamMetrics = workloadRunner.blockingStreamMetrics();
+        if ( workload.blockingStreamsAreSessions() && !blockingStreamMetrics.isEmpty() )
+        {
+            TimeUnit unit = controlService.getConfiguration().timeUnit();
+            List<StreamMetricsSnapshot> streamMetrics = new ArrayList<>();
+            for ( int i = 0; i < blockingStreamMetrics.size(); i++ )
+            {
+                streamMetrics.add( blockingStreamMetrics.get( i ).snapshot( Integer.toString( i ), unit ) );
+            }
+            StreamMetricsSnapshot allStreamsMetrics =
+                    StreamMetricsManager.merge( blockingStreamMetrics ).snapshot( "all", unit );
+            workloadResults.setStreamMetrics( streamMetrics, allStreamsMetrics );
+            for ( StreamMetricsSnapshot metrics : streamMetrics )
+            {
+                loggingService.info( streamMetricsSummary( "Stream " + metrics.name(), metrics ) );
+            }
+            loggingService.info( streamMetricsSummary( "All streams", allStreamsMetrics ) );
+        }
+
+        SchedulingMetricsSnapshot schedulingMetrics = workloadRunner.schedulingMetrics();
+        workloadResults.setSchedulingMetrics( schedulingMetrics );
+        loggingService.info( schedulingMetricSummary( "Feeder blocked", schedulingMetrics.feederBlocked() ) );
+        loggingService.info( schedulingMetricSummary( "Queue depth", schedulingMetrics.queueDepth() ) );
+        loggingService.info( schedulingMetricSummary( "CT wait", schedulingMetrics.completionTimeWait() ) );
+        loggingService.info(
+                schedulingMetricSummary( "Schedule wait", schedulingMetrics.scheduledStartTimeWait() ) );
+
         try
         {
             if ( warmup )
@@ -465,4 +548,34 @@ public class ExecuteWorkloadMode extends DriverMode {
             throw new ClientException( "Could not export workload metrics", e );
         }
     }
+
+    private static String schedulingMetricSummary( String name, ContinuousMetricSnapshot metric )
+    {
+        if ( null == metric )
+        {
+            return format( "%s: not applicable to this executor", name );
+        }
+        return format( "%s (%s): count %s, mean %.2f, 50th %s, 99th %s, 99.9th %s, max %s",
+                name,
+                (null == metric.unit()) ? "OPERATIONS" : metric.unit(),
+                metric.count(),
+                metric.mean(),
+                metric.percentile50(),
+                metric.percentile99(),
+                metric.percentile99_9(),
+                metric.max() );
+    }
+
+    private static String streamMetricsSummary( String name, StreamMetricsSnapshot metrics )
+    {
+        return format( "%s: count %s, duration %s ms, throughput %.2f op/s, geometric mean run time %.3f %s, " +
+                       "power %.2f op/h",
+                name,
+                metrics.count(),
+                metrics.durationAsMilli(),
+                metrics.throughput(),
+                metrics.geometricMeanRunTime(),
+                metrics.unit(),
+                metrics.power() );
+    }
 }
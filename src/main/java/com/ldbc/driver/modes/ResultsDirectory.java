@@ -1,18 +1,17 @@
 package com.ldbc.driver.modes;
 
-import com.google.common.collect.Iterators;
 import com.google.common.collect.Sets;
 import com.ldbc.driver.ClientException;
 import com.ldbc.driver.control.ConsoleAndFileDriverConfiguration;
 import com.ldbc.driver.control.DriverConfiguration;
 import com.ldbc.driver.control.DriverConfigurationException;
-import com.ldbc.driver.csv.simple.SimpleCsvFileReader;
+import com.ldbc.driver.runtime.metrics.ResultsLogFormat;
+import com.ldbc.driver.runtime.metrics.ResultsLogReader;
 import com.ldbc.driver.util.FileUtils;
 import com.ldbc.driver.util.MapUtils;
 
 import java.io.File;
 import java.io.FileFilter;
-import java.io.FileNotFoundException;
 import java.io.IOException;
 import java.util.Arrays;
 import java.util.Collections;
@@ -42,8 +41,10 @@ public class ResultsDirectory
 
     private static final String WARMUP_IDENTIFIER = "-WARMUP-";
 
-    private static final String RESULTS_LOG_FILENAME_SUFFIX = "-results_log.csv";
+    // followed by the file suffix of the results log format, e.g., .csv
+    private static final String RESULTS_LOG_FILENAME_SUFFIX = "-results_log";
     private static final String RESULTS_METRICS_FILENAME_SUFFIX = "-results.json";
+    private static final String STATUS_LOG_FILENAME_SUFFIX = "-status_log.csv";
     private static final String RESULTS_CONFIGURATION_FILENAME_SUFFIX = "-configuration.properties";
 
     private static final String RESULTS_VALIDATION_FILENAME_SUFFIX = "-validation.json";
@@ -118,15 +119,44 @@ public class ResultsDirectory
         return getResultsLogFile( resultsDir, configuration, warmup );
     }
 
+    public File getOrCreateStatusLogFile( boolean warmup ) throws ClientException
+    {
+        File statusLog = getStatusLogFile( warmup );
+        if ( !statusLog.exists() )
+        {
+            try
+            {
+                FileUtils.createOrFail( statusLog );
+            }
+            catch ( IOException e )
+            {
+                throw new ClientException( "Error creating status log file: " + statusLog.getAbsolutePath(), e );
+            }
+        }
+        return statusLog;
+    }
+
+    private File getStatusLogFile( boolean warmup )
+    {
+        return new File( resultsDir, statusLogFilename( configuration, warmup ) );
+    }
+
+    /**
+     * @return number of rows in the results log, including the header row, as if it was written in csv format
+     */
     public long getResultsLogFileLength( boolean warmup ) throws ClientException
     {
-        try ( SimpleCsvFileReader csvResultsLogReader = new SimpleCsvFileReader(
-                getResultsLogFile( resultsDir, configuration, warmup ),
-                SimpleCsvFileReader.DEFAULT_COLUMN_SEPARATOR_REGEX_STRING ) )
+        try ( ResultsLogReader resultsLogReader =
+                      ResultsLogFormat.newReader( getResultsLogFile( resultsDir, configuration, warmup ) ) )
         {
-            return Iterators.size( csvResultsLogReader );
+            long length = 1;
+            while ( resultsLogReader.next() )
+            {
+                length++;
+            }
+            return length;
         }
-        catch ( FileNotFoundException e )
+        catch ( Exception e )
         {
             throw new ClientException(
                     "Error calculating length of " + getResultsLogFile( warmup ).getAbsolutePath(), e );
@@ -223,6 +253,7 @@ public class ResultsDirectory
                     expectedFiles.add( getResultsValidationFile( true ) );
                 }
                 expectedFiles.add( getResultsLogFile( true ) );
+                expectedFiles.add( getStatusLogFile( true ) );
                 expectedFiles.add( getResultsSummaryFile( true ) );
                 expectedFiles.add( getConfigurationFile( true ) );
             }
@@ -231,6 +262,7 @@ public class ResultsDirectory
                 expectedFiles.add( getResultsValidationFile( false ) );
             }
             expectedFiles.add( getResultsLogFile( false ) );
+            expectedFiles.add( getStatusLogFile( false ) );
             expectedFiles.add( getResultsSummaryFile( false ) );
             expectedFiles.add( getConfigurationFile( false ) );
             return expectedFiles;
@@ -324,7 +356,7 @@ public class ResultsDirectory
     {
         FileFilter resultsLogFileFilter = file ->
                 file.getName().contains( WARMUP_IDENTIFIER ) == warmup &&
-                file.getName().endsWith( RESULTS_LOG_FILENAME_SUFFIX );
+                isResultsLogFile( file );
         File[] resultFiles = resultsDir.listFiles( resultsLogFileFilter );
         if ( null == resultFiles || resultFiles.length == 0 )
         {
@@ -342,6 +374,18 @@ public class ResultsDirectory
         }
     }
 
+    private static boolean isResultsLogFile( File file )
+    {
+        for ( ResultsLogFormat resultsLogFormat : ResultsLogFormat.values() )
+        {
+            if ( file.getName().endsWith( RESULTS_LOG_FILENAME_SUFFIX + resultsLogFormat.fileSuffix() ) )
+            {
+                return true;
+            }
+        }
+        return false;
+    }
+
     private static File getResultsLogFile( File resultsDir, DriverConfiguration configuration, boolean warmup )
             throws ClientException
     {
@@ -362,8 +406,15 @@ public class ResultsDirectory
 
     private static String resultsLogFilename( DriverConfiguration configuration, boolean warmup )
     {
-        return (warmup) ? configuration.getName() + WARMUP_IDENTIFIER + RESULTS_LOG_FILENAME_SUFFIX
-                        : configuration.getName() + RESULTS_LOG_FILENAME_SUFFIX;
+        String suffix = RESULTS_LOG_FILENAME_SUFFIX + configuration.resultsLogFormat().fileSuffix();
+        return (warmup) ? configuration.getName() + WARMUP_IDENTIFIER + suffix
+                        : configuration.getName() + suffix;
+    }
+
+    private static String statusLogFilename( DriverConfiguration configuration, boolean warmup )
+    {
+        return (warmup) ? configuration.getName() + WARMUP_IDENTIFIER + STATUS_LOG_FILENAME_SUFFIX
+                        : configuration.getName() + STATUS_LOG_FILENAME_SUFFIX;
     }
 
     private static String resultsSummaryFilename( DriverConfiguration configuration, boolean warmup )
@@ -1,7 +1,6 @@
 package com.ldbc.driver.modes;
 
 import com.google.common.base.Charsets;
-import com.google.common.collect.Iterators;
 import com.ldbc.driver.ClientException;
 import com.ldbc.driver.Db;
 import com.ldbc.driver.DbException;
@@ -19,9 +18,12 @@ import com.ldbc.driver.validation.ValidationParam;
 import com.ldbc.driver.validation.ValidationParamsFromCsvRows;
 import org.apache.commons.io.FileUtils;
 
+import java.io.BufferedReader;
 import java.io.File;
+import java.io.FileInputStream;
 import java.io.FileOutputStream;
 import java.io.IOException;
+import java.io.InputStreamReader;
 import java.io.OutputStreamWriter;
 import java.io.Writer;
 import java.util.Iterator;
@@ -89,14 +91,12 @@ public class ValidateDatabaseMode extends DriverMode {
                     format( "Validating database against expected results\n * Db: %s\n * Validation Params File: %s",
                             db.getClass().getName(), validationParamsFile.getAbsolutePath() ) );
 
+            // parameters are streamed from the file during validation, this pass only counts them for progress
             int validationParamsCount;
             SimpleCsvFileReader validationParamsReader;
             try
             {
-                validationParamsReader = new SimpleCsvFileReader( validationParamsFile,
-                        SimpleCsvFileReader.DEFAULT_COLUMN_SEPARATOR_REGEX_STRING );
-                validationParamsCount = Iterators.size( validationParamsReader );
-                validationParamsReader.close();
+                validationParamsCount = countLines( validationParamsFile );
                 validationParamsReader = new SimpleCsvFileReader( validationParamsFile,
                         SimpleCsvFileReader.DEFAULT_COLUMN_SEPARATOR_REGEX_STRING );
             }
@@ -110,7 +110,9 @@ public class ValidateDatabaseMode extends DriverMode {
             {
                 Iterator<ValidationParam> validationParams =
                         new ValidationParamsFromCsvRows( validationParamsReader, w );
-                DbValidator dbValidator = new DbValidator();
+                int threadCount = controlService.getConfiguration().getThreadCount();
+                loggingService.info( format( "Validating with %s thread(s)", threadCount ) );
+                DbValidator dbValidator = new DbValidator( threadCount );
                 databaseValidationResult = dbValidator.validate(
                         validationParams,
                         db,
@@ -185,6 +187,20 @@ public class ValidateDatabaseMode extends DriverMode {
 
     }
 
+    private int countLines( File file ) throws IOException
+    {
+        int lineCount = 0;
+        try ( BufferedReader reader = new BufferedReader(
+                new InputStreamReader( new FileInputStream( file ), Charsets.UTF_8 ) ) )
+        {
+            while ( null != reader.readLine() )
+            {
+                lineCount++;
+            }
+        }
+        return lineCount;
+    }
+
     String removeExtension( String filename )
     {
         return (!filename.contains(".")) ? filename : filename.substring( 0, filename.lastIndexOf( "." ) );
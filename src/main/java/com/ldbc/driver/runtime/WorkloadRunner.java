@@ -3,21 +3,29 @@ package com.ldbc.driver.runtime;
 import com.ldbc.driver.Db;
 import com.ldbc.driver.WorkloadException;
 import com.ldbc.driver.WorkloadStreams;
+import com.ldbc.driver.control.LoggingService;
 import com.ldbc.driver.control.LoggingServiceFactory;
 import com.ldbc.driver.runtime.coordination.CompletionTimeException;
 import com.ldbc.driver.runtime.coordination.CompletionTimeService;
 import com.ldbc.driver.runtime.coordination.CompletionTimeWriter;
 import com.ldbc.driver.runtime.coordination.DummyCompletionTimeWriter;
+import com.ldbc.driver.runtime.executor.MultiplexedOperationStreamExecutorService;
 import com.ldbc.driver.runtime.executor.OperationExecutor;
 import com.ldbc.driver.runtime.executor.OperationExecutorException;
+import com.ldbc.driver.runtime.executor.OperationExecutorType;
 import com.ldbc.driver.runtime.executor.OperationStreamExecutorService;
 import com.ldbc.driver.runtime.executor.SameThreadOperationExecutor;
 import com.ldbc.driver.runtime.executor.ThreadPoolOperationExecutor;
+import com.ldbc.driver.runtime.executor.VirtualThreadOperationExecutor;
+import com.ldbc.driver.runtime.metrics.ContinuousMetricSnapshot;
 import com.ldbc.driver.runtime.metrics.MetricsCollectionException;
 import com.ldbc.driver.runtime.metrics.MetricsService;
+import com.ldbc.driver.runtime.metrics.SchedulingMetricsSnapshot;
+import com.ldbc.driver.runtime.metrics.StreamMetricsManager;
 import com.ldbc.driver.runtime.scheduling.Spinner;
 import com.ldbc.driver.temporal.TimeSource;
 
+import java.io.IOException;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.concurrent.ExecutionException;
@@ -33,6 +41,8 @@ import static java.lang.String.format;
 public class WorkloadRunner
 {
     static final long RUNNER_POLLING_INTERVAL_AS_MILLI = 100;
+    // used to publish telemetry and write the status log when status display is disabled
+    static final long DEFAULT_STATUS_UPDATE_INTERVAL_AS_MILLI = TimeUnit.SECONDS.toMillis( 1 );
     private static final CompletionTimeWriter DUMMY_COMPLETION_TIME_WRITER = new DummyCompletionTimeWriter();
 
     private final WorkloadRunnerFuture workloadRunnerFuture;
@@ -46,7 +56,11 @@ public class WorkloadRunner
             CompletionTimeService completionTimeService,
             LoggingServiceFactory loggingServiceFactory,
             int threadCount,
+            OperationExecutorType operationExecutorType,
+            int blockingStreamThreadCount,
             long statusDisplayIntervalAsSeconds,
+            int telemetryPort,
+            WorkloadStatusLogWriter statusLogWriter,
             long spinnerSleepDurationAsMilli,
             boolean ignoreScheduleStartTimes,
             int operationHandlerExecutorsBoundedQueueSize ) throws WorkloadException, MetricsCollectionException
@@ -60,7 +74,11 @@ public class WorkloadRunner
                 completionTimeService,
                 loggingServiceFactory,
                 threadCount,
+                operationExecutorType,
+                blockingStreamThreadCount,
                 statusDisplayIntervalAsSeconds,
+                telemetryPort,
+                statusLogWriter,
                 spinnerSleepDurationAsMilli,
                 ignoreScheduleStartTimes,
                 operationHandlerExecutorsBoundedQueueSize
@@ -73,6 +91,37 @@ public class WorkloadRunner
         return workloadRunnerFuture;
     }
 
+    /**
+     * Metrics of each blocking stream, in the order of WorkloadStreams.blockingStreamDefinitions().
+     * Only read them after the workload has completed.
+     */
+    public List<StreamMetricsManager> blockingStreamMetrics()
+    {
+        return workloadRunnerFuture.workloadRunnerThread.blockingStreamMetrics;
+    }
+
+    /**
+     * Time operations spent waiting to be started, i.e., back pressure from the executor and waiting for
+     * dependencies and scheduled start times. May be read while the workload is running.
+     */
+    public SchedulingMetricsSnapshot schedulingMetrics()
+    {
+        WorkloadRunnerThread workloadRunnerThread = workloadRunnerFuture.workloadRunnerThread;
+        return schedulingMetrics( workloadRunnerThread.spinner, workloadRunnerThread.executorForAsynchronous );
+    }
+
+    // blocking streams execute on the thread that feeds them, so only the asynchronous executor has back pressure
+    static SchedulingMetricsSnapshot schedulingMetrics( Spinner spinner, OperationExecutor executorForAsynchronous )
+    {
+        return new SchedulingMetricsSnapshot(
+                executorForAsynchronous.feederBlockedSnapshot(),
+                executorForAsynchronous.queueDepthSnapshot(),
+                spinner.completionTimeWaitSnapshot(),
+                spinner.scheduledStartTimeWaitSnapshot(),
+                spinner.schedulingLatenessSnapshot()
+        );
+    }
+
     private static class WorkloadRunnerFuture implements Future<ConcurrentErrorReporter>
     {
         private final WorkloadRunnerThread workloadRunnerThread;
@@ -90,7 +139,11 @@ public class WorkloadRunner
                 CompletionTimeService completionTimeService,
                 LoggingServiceFactory loggingServiceFactory,
                 int threadCount,
+                OperationExecutorType operationExecutorType,
+                int blockingStreamThreadCount,
                 long statusDisplayIntervalAsSeconds,
+                int telemetryPort,
+                WorkloadStatusLogWriter statusLogWriter,
                 long spinnerSleepDurationAsMilli,
                 boolean ignoreScheduleStartTimes,
                 int operationHandlerExecutorsBoundedQueueSize ) throws MetricsCollectionException, WorkloadException
@@ -104,7 +157,11 @@ public class WorkloadRunner
                     completionTimeService,
                     loggingServiceFactory,
                     threadCount,
+                    operationExecutorType,
+                    blockingStreamThreadCount,
                     statusDisplayIntervalAsSeconds,
+                    telemetryPort,
+                    statusLogWriter,
                     spinnerSleepDurationAsMilli,
                     ignoreScheduleStartTimes,
                     operationHandlerExecutorsBoundedQueueSize
@@ -270,14 +327,20 @@ public class WorkloadRunner
     private static class WorkloadRunnerThread extends Thread
     {
         private final Spinner spinner;
-        private WorkloadStatusThread workloadStatusThread;
+        // null when neither status display, telemetry nor status log are enabled
+        private final WorkloadStatusThread workloadStatusThread;
+        // null when telemetry is disabled
+        private final WorkloadTelemetryServer telemetryServer;
         private final ConcurrentErrorReporter errorReporter;
         private final OperationExecutor executorForAsynchronous;
         private final List<OperationExecutor> executorsForBlocking = new ArrayList<>();
+        private final List<StreamMetricsManager> blockingStreamMetrics = new ArrayList<>();
         private final OperationStreamExecutorService asynchronousStreamExecutorService;
         private final List<OperationStreamExecutorService> blockingStreamExecutorServices = new ArrayList<>();
-        private final long statusDisplayIntervalAsMilli;
+        // when set, blocking streams are executed by this service rather than by blockingStreamExecutorServices
+        private final MultiplexedOperationStreamExecutorService multiplexedBlockingStreamExecutorService;
         private final AtomicReference<WorkloadRunnerThreadState> stateRef;
+        private final LoggingService loggingService;
 
         private enum ShutdownType
         {
@@ -293,26 +356,20 @@ public class WorkloadRunner
                 CompletionTimeService completionTimeService,
                 LoggingServiceFactory loggingServiceFactory,
                 int threadCount,
+                OperationExecutorType operationExecutorType,
+                int blockingStreamThreadCount,
                 long statusDisplayIntervalAsSeconds,
+                int telemetryPort,
+                WorkloadStatusLogWriter statusLogWriter,
                 long spinnerSleepDurationAsMilli,
                 boolean ignoreScheduleStartTimes,
                 int operationHandlerExecutorsBoundedQueueSize ) throws WorkloadException, MetricsCollectionException
         {
             this.errorReporter = errorReporter;
-            this.statusDisplayIntervalAsMilli = statusDisplayIntervalAsSeconds;
 
+            this.loggingService = loggingServiceFactory.loggingServiceFor( getClass().getSimpleName() );
             this.spinner = new Spinner( timeSource, spinnerSleepDurationAsMilli, ignoreScheduleStartTimes );
 
-            if ( statusDisplayIntervalAsSeconds > 0 )
-            {
-                this.workloadStatusThread = new WorkloadStatusThread(
-                        TimeUnit.SECONDS.toMillis( statusDisplayIntervalAsSeconds ),
-                        metricsService.getWriter(),
-                        errorReporter,
-                        completionTimeService,
-                        loggingServiceFactory
-                );
-            }
             // only create a completion time writer for an executor if it contains at least one READ_WRITE operation
             // otherwise it will cause completion time to stall
             WorkloadStreamDefinition asynchronousStream = workloadStreams.asynchronousStream();
@@ -327,19 +384,48 @@ public class WorkloadRunner
             {
                 throw new WorkloadException( "Error while attempting to create completion time writer", e );
             }
-            this.executorForAsynchronous = new ThreadPoolOperationExecutor(
-                    threadCount,
-                    operationHandlerExecutorsBoundedQueueSize,
-                    db,
-                    asynchronousStream,
-                    completionTimeWriterForAsynchronous,
-                    completionTimeService,
-                    spinner,
-                    timeSource,
-                    errorReporter,
-                    metricsService,
-                    asynchronousStream.childOperationGenerator()
-            );
+            switch ( operationExecutorType )
+            {
+            case THREAD_POOL:
+            {
+                this.executorForAsynchronous = new ThreadPoolOperationExecutor(
+                        threadCount,
+                        operationHandlerExecutorsBoundedQueueSize,
+                        db,
+                        asynchronousStream,
+                        completionTimeWriterForAsynchronous,
+                        completionTimeService,
+                        spinner,
+                        timeSource,
+                        errorReporter,
+                        metricsService,
+                        asynchronousStream.childOperationGenerator()
+                );
+                break;
+            }
+            case VIRTUAL_THREAD:
+            {
+                // thread count limits the number of concurrently executing handlers
+                this.executorForAsynchronous = new VirtualThreadOperationExecutor(
+                        threadCount,
+                        db,
+                        asynchronousStream,
+                        completionTimeWriterForAsynchronous,
+                        completionTimeService,
+                        spinner,
+                        timeSource,
+                        errorReporter,
+                        metricsService,
+                        asynchronousStream.childOperationGenerator()
+                );
+                break;
+            }
+            default:
+            {
+                throw new WorkloadException(
+                        format( "Unsupported operation executor type: %s", operationExecutorType ) );
+            }
+            }
             this.asynchronousStreamExecutorService = new OperationStreamExecutorService(
                     errorReporter,
                     asynchronousStream,
@@ -347,6 +433,19 @@ public class WorkloadRunner
                     completionTimeWriterForAsynchronous
             );
 
+            // 0 --> one thread per blocking stream
+            if ( blockingStreamThreadCount > 0 )
+            {
+                this.multiplexedBlockingStreamExecutorService =
+                        new MultiplexedOperationStreamExecutorService(
+                                errorReporter,
+                                completionTimeService,
+                                blockingStreamThreadCount );
+            }
+            else
+            {
+                this.multiplexedBlockingStreamExecutorService = null;
+            }
             for ( WorkloadStreamDefinition blockingStream : workloadStreams.blockingStreamDefinitions() )
             {
                 // only create a completion time writer for an executor if it contains at least one READ_WRITE operation
@@ -362,7 +461,7 @@ public class WorkloadRunner
                 {
                     throw new WorkloadException( "Error while attempting to create completion time writer", e );
                 }
-                OperationExecutor executorForBlocking = new SameThreadOperationExecutor(
+                SameThreadOperationExecutor executorForBlocking = new SameThreadOperationExecutor(
                         db,
                         blockingStream,
                         completionTimeWriterForBlocking,
@@ -374,15 +473,72 @@ public class WorkloadRunner
                         blockingStream.childOperationGenerator()
                 );
                 this.executorsForBlocking.add( executorForBlocking );
-                this.blockingStreamExecutorServices.add(
-                        new OperationStreamExecutorService(
-                                errorReporter,
-                                blockingStream,
-                                executorForBlocking,
-                                completionTimeWriterForBlocking
-                        )
+                this.blockingStreamMetrics.add( executorForBlocking.streamMetrics() );
+                if ( null == multiplexedBlockingStreamExecutorService )
+                {
+                    this.blockingStreamExecutorServices.add(
+                            new OperationStreamExecutorService(
+                                    errorReporter,
+                                    blockingStream,
+                                    executorForBlocking,
+                                    completionTimeWriterForBlocking
+                            )
+                    );
+                }
+                else
+                {
+                    multiplexedBlockingStreamExecutorService.addStream(
+                            blockingStream,
+                            executorForBlocking,
+                            completionTimeWriterForBlocking
+                    );
+                }
+            }
+
+            if ( telemetryPort > 0 )
+            {
+                try
+                {
+                    this.telemetryServer = WorkloadTelemetryServer.start( telemetryPort );
+                }
+                catch ( IOException e )
+                {
+                    throw new WorkloadException(
+                            format( "Unable to start telemetry server on port %s", telemetryPort ), e );
+                }
+                loggingService.info( format( "Telemetry available at http://localhost:%s%s and http://localhost:%s%s",
+                        telemetryServer.port(), WorkloadTelemetryServer.METRICS_PATH,
+                        telemetryServer.port(), WorkloadTelemetryServer.STATUS_PATH ) );
+            }
+            else
+            {
+                this.telemetryServer = null;
+            }
+            if ( statusDisplayIntervalAsSeconds > 0 || null != telemetryServer || null != statusLogWriter )
+            {
+                List<OperationExecutor> operationExecutors = new ArrayList<>( executorsForBlocking );
+                operationExecutors.add( executorForAsynchronous );
+                this.workloadStatusThread = new WorkloadStatusThread(
+                        (statusDisplayIntervalAsSeconds > 0)
+                        ? TimeUnit.SECONDS.toMillis( statusDisplayIntervalAsSeconds )
+                        : DEFAULT_STATUS_UPDATE_INTERVAL_AS_MILLI,
+                        statusDisplayIntervalAsSeconds > 0,
+                        metricsService.getWriter(),
+                        errorReporter,
+                        completionTimeService,
+                        loggingServiceFactory,
+                        timeSource,
+                        operationExecutors,
+                        executorForAsynchronous,
+                        spinner,
+                        telemetryServer,
+                        statusLogWriter
                 );
             }
+            else
+            {
+                this.workloadStatusThread = null;
+            }
             this.stateRef = new AtomicReference<>( WorkloadRunnerThreadState.NOT_STARTED );
         }
 
@@ -394,17 +550,24 @@ public class WorkloadRunner
         @Override
         public void run()
         {
-            if ( statusDisplayIntervalAsMilli > 0 )
+            if ( null != workloadStatusThread )
             {
                 workloadStatusThread.start();
             }
 
-            AtomicBoolean[] executorFinishedFlags = new AtomicBoolean[blockingStreamExecutorServices.size() + 1];
+            int executorServiceCount = 1 + blockingStreamExecutorServices.size() +
+                                       ((null == multiplexedBlockingStreamExecutorService) ? 0 : 1);
+            AtomicBoolean[] executorFinishedFlags = new AtomicBoolean[executorServiceCount];
             executorFinishedFlags[0] = asynchronousStreamExecutorService.execute();
             for ( int i = 0; i < blockingStreamExecutorServices.size(); i++ )
             {
                 executorFinishedFlags[i + 1] = blockingStreamExecutorServices.get( i ).execute();
             }
+            if ( null != multiplexedBlockingStreamExecutorService )
+            {
+                executorFinishedFlags[executorFinishedFlags.length - 1] =
+                        multiplexedBlockingStreamExecutorService.execute();
+            }
 
             stateRef.set( WorkloadRunnerThreadState.RUNNING );
 
@@ -499,6 +662,23 @@ public class WorkloadRunner
                 }
             }
 
+            if ( null != multiplexedBlockingStreamExecutorService )
+            {
+                try
+                {
+                    multiplexedBlockingStreamExecutorService.shutdown( shutdownWait );
+                }
+                catch ( OperationExecutorException e )
+                {
+                    errorReporter.reportError(
+                            this,
+                            format( "Encountered error while shutting down %s\n%s\n",
+                                    multiplexedBlockingStreamExecutorService.getClass().getSimpleName(),
+                                    ConcurrentErrorReporter.stackTraceToString( e ) )
+                    );
+                }
+            }
+
             try
             {
                 // if forced shutdown (error) some handlers likely still running,
@@ -545,7 +725,23 @@ public class WorkloadRunner
                 );
             }
 
-            if ( statusDisplayIntervalAsMilli > 0 )
+            spinner.shutdown();
+            ContinuousMetricSnapshot schedulingLateness = spinner.schedulingLatenessSnapshot();
+            if ( schedulingLateness.count() > 0 )
+            {
+                loggingService.info(
+                        format( "Scheduling lateness (%s): count %s, mean %s, 50th %s, 99th %s, 99.9th %s, max %s",
+                                schedulingLateness.unit(),
+                                schedulingLateness.count(),
+                                schedulingLateness.mean(),
+                                schedulingLateness.percentile50(),
+                                schedulingLateness.percentile99(),
+                                schedulingLateness.percentile99_9(),
+                                schedulingLateness.max() )
+                );
+            }
+
+            if ( null != workloadStatusThread )
             {
                 System.out.println( "Shutting down status thread..." );
                 workloadStatusThread.shutdown();
@@ -559,6 +755,11 @@ public class WorkloadRunner
                     // do nothing
                 }
             }
+
+            if ( null != telemetryServer )
+            {
+                telemetryServer.close();
+            }
         }
     }
 }
@@ -0,0 +1,164 @@
+package com.ldbc.driver.runtime;
+
+import com.ldbc.driver.csv.simple.SimpleCsvFileWriter;
+import com.ldbc.driver.runtime.metrics.ContinuousMetricSnapshot;
+import com.ldbc.driver.runtime.metrics.OperationMetricsSnapshot;
+
+import java.io.Closeable;
+import java.io.File;
+import java.io.IOException;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+
+import static java.lang.String.format;
+
+/**
+ * Appends one row per status interval for all operations, followed by one row per operation type that completed
+ * operations during the interval, to a pipe separated csv file with a header row.
+ * <p>
+ * Count, throughput, percentiles and start delay are of the interval only. Percentiles and per operation type rows
+ * are only written when the metrics service keeps per interval metrics, percentiles of all operations only when it
+ * also keeps run times of all operation types combined. Values that do not apply to a row are -1.
+ * Rows are flushed as they are written, so the file can be read while the workload runs.
+ */
+public class WorkloadStatusLogWriter implements Closeable
+{
+    public static final String ALL_OPERATIONS = "ALL";
+    public static final String HEADER_TIME = "time";
+    public static final String HEADER_RUN_DURATION = "run_duration_" + TimeUnit.MILLISECONDS.name();
+    public static final String HEADER_OPERATION_TYPE = "operation_type";
+    public static final String HEADER_COUNT = "count";
+    public static final String HEADER_THROUGHPUT = "throughput";
+    public static final String HEADER_50TH_PERCENTILE_PREFIX = "50th_percentile_";
+    public static final String HEADER_99TH_PERCENTILE_PREFIX = "99th_percentile_";
+    public static final String HEADER_START_DELAY_PREFIX = "start_delay_";
+    public static final String HEADER_COMPLETION_TIME_LAG = "completion_time_lag_" + TimeUnit.MILLISECONDS.name();
+    public static final String HEADER_HANDLERS_IN_FLIGHT = "handlers_in_flight";
+    public static final String HEADER_OPERATIONS_QUEUED = "operations_queued";
+
+    private static final String NOT_APPLICABLE = "-1";
+
+    private final SimpleCsvFileWriter writer;
+    private final TimeUnit unit;
+    private long previousTimeAsMilli = -1;
+    private long previousOperationCount = 0;
+
+    /**
+     * @param unit unit of percentiles and start delay
+     */
+    public WorkloadStatusLogWriter( File statusLog, TimeUnit unit ) throws IOException
+    {
+        this.writer = new SimpleCsvFileWriter( statusLog, SimpleCsvFileWriter.DEFAULT_COLUMN_SEPARATOR );
+        this.unit = unit;
+        writer.writeRow(
+                HEADER_TIME,
+                HEADER_RUN_DURATION,
+                HEADER_OPERATION_TYPE,
+                HEADER_COUNT,
+                HEADER_THROUGHPUT,
+                HEADER_50TH_PERCENTILE_PREFIX + unit.name(),
+                HEADER_99TH_PERCENTILE_PREFIX + unit.name(),
+                HEADER_START_DELAY_PREFIX + unit.name(),
+                HEADER_COMPLETION_TIME_LAG,
+                HEADER_HANDLERS_IN_FLIGHT,
+                HEADER_OPERATIONS_QUEUED
+        );
+        writer.flush();
+    }
+
+    public void write( WorkloadTelemetrySnapshot snapshot ) throws IOException
+    {
+        // first interval starts with the run
+        long intervalDurationAsMilli = (-1 == previousTimeAsMilli)
+                                       ? snapshot.runDurationAsMilli()
+                                       : snapshot.timeAsMilli() - previousTimeAsMilli;
+        long intervalOperationCount = snapshot.operationCount() - previousOperationCount;
+        previousTimeAsMilli = snapshot.timeAsMilli();
+        previousOperationCount = snapshot.operationCount();
+
+        String time = Long.toString( snapshot.timeAsMilli() );
+        String runDuration = Long.toString( snapshot.runDurationAsMilli() );
+        double totalStartDelay = 0;
+        long totalStartDelayCount = 0;
+        ContinuousMetricSnapshot allRunTime = null;
+        if ( null != snapshot.intervalResults() )
+        {
+            allRunTime = snapshot.intervalResults().allRunTimeMetric();
+            for ( OperationMetricsSnapshot metrics : snapshot.intervalResults().allMetrics() )
+            {
+                if ( null != metrics.correctedLatencyMetric() )
+                {
+                    totalStartDelay += meanStartDelay( metrics ) * metrics.count();
+                    totalStartDelayCount += metrics.count();
+                }
+            }
+        }
+        writer.writeRow(
+                time,
+                runDuration,
+                ALL_OPERATIONS,
+                Long.toString( intervalOperationCount ),
+                throughput( intervalOperationCount, intervalDurationAsMilli ),
+                (null == allRunTime) ? NOT_APPLICABLE : duration( allRunTime.percentile50(), allRunTime.unit() ),
+                (null == allRunTime) ? NOT_APPLICABLE : duration( allRunTime.percentile99(), allRunTime.unit() ),
+                (0 == totalStartDelayCount)
+                ? NOT_APPLICABLE
+                : duration( totalStartDelay / totalStartDelayCount, snapshot.intervalResults().unit() ),
+                Long.toString( snapshot.completionTimeLagAsMilli() ),
+                Long.toString( snapshot.handlersInFlight() ),
+                Long.toString( snapshot.operationsQueued() )
+        );
+        if ( null != snapshot.intervalResults() )
+        {
+            TimeUnit intervalUnit = snapshot.intervalResults().unit();
+            for ( OperationMetricsSnapshot metrics : snapshot.intervalResults().allMetrics() )
+            {
+                ContinuousMetricSnapshot runTime = metrics.runTimeMetric();
+                writer.writeRow(
+                        time,
+                        runDuration,
+                        metrics.name(),
+                        Long.toString( metrics.count() ),
+                        throughput( metrics.count(), intervalDurationAsMilli ),
+                        duration( runTime.percentile50(), intervalUnit ),
+                        duration( runTime.percentile99(), intervalUnit ),
+                        (null == metrics.correctedLatencyMetric())
+                        ? NOT_APPLICABLE
+                        : duration( meanStartDelay( metrics ), intervalUnit ),
+                        NOT_APPLICABLE,
+                        NOT_APPLICABLE,
+                        NOT_APPLICABLE
+                );
+            }
+        }
+        writer.flush();
+    }
+
+    // corrected latency is start delay plus run time, start delay is only recorded separately by some metrics services
+    private static double meanStartDelay( OperationMetricsSnapshot metrics )
+    {
+        if ( null != metrics.startDelayMetric() )
+        {
+            return metrics.startDelayMetric().mean();
+        }
+        return Math.max( 0, metrics.correctedLatencyMetric().mean() - metrics.runTimeMetric().mean() );
+    }
+
+    private String duration( double duration, TimeUnit durationUnit )
+    {
+        return Long.toString( Math.round( duration * durationUnit.toNanos( 1 ) / unit.toNanos( 1 ) ) );
+    }
+
+    private static String throughput( long count, long durationAsMilli )
+    {
+        return (durationAsMilli <= 0)
+               ? "0"
+               : format( Locale.ROOT, "%.2f", (double) count / durationAsMilli * 1000 );
+    }
+
+    @Override
+    public void close() throws IOException
+    {
+        writer.close();
+    }
+}
@@ -4,10 +4,16 @@ import com.ldbc.driver.control.LoggingService;
 import com.ldbc.driver.control.LoggingServiceFactory;
 import com.ldbc.driver.control.RecentThroughputAndDuration;
 import com.ldbc.driver.runtime.coordination.CompletionTimeService;
+import com.ldbc.driver.runtime.executor.OperationExecutor;
 import com.ldbc.driver.runtime.metrics.MetricsService.MetricsServiceWriter;
+import com.ldbc.driver.runtime.metrics.OperationMetricsSnapshot;
 import com.ldbc.driver.runtime.metrics.WorkloadStatusSnapshot;
 import com.ldbc.driver.runtime.scheduling.Spinner;
+import com.ldbc.driver.temporal.TimeSource;
 
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.concurrent.atomic.AtomicBoolean;
 
 import static java.lang.String.format;
@@ -19,14 +25,36 @@ class WorkloadStatusThread extends Thread
     private final ConcurrentErrorReporter errorReporter;
     private final CompletionTimeService completionTimeService;
     private final LoggingService loggingService;
+    private final boolean displayStatus;
+    private final TimeSource timeSource;
+    private final List<OperationExecutor> operationExecutors;
+    private final OperationExecutor executorForAsynchronous;
+    private final Spinner spinner;
+    // null when telemetry is disabled
+    private final WorkloadTelemetryServer telemetryServer;
+    // null when there is no results directory
+    private final WorkloadStatusLogWriter statusLogWriter;
     private AtomicBoolean continueRunning = new AtomicBoolean( true );
 
+    /**
+     * @param displayStatus if false status is only published to the telemetry server and status log
+     * @param executorForAsynchronous executor whose back pressure is included in the displayed status
+     * @param telemetryServer server to publish status to, or null if telemetry is disabled
+     * @param statusLogWriter writer to append status to, or null if there is no status log
+     */
     WorkloadStatusThread(
             long statusUpdateIntervalAsMilli,
+            boolean displayStatus,
             MetricsServiceWriter metricsServiceWriter,
             ConcurrentErrorReporter errorReporter,
             CompletionTimeService completionTimeService,
-            LoggingServiceFactory loggingServiceFactory )
+            LoggingServiceFactory loggingServiceFactory,
+            TimeSource timeSource,
+            List<OperationExecutor> operationExecutors,
+            OperationExecutor executorForAsynchronous,
+            Spinner spinner,
+            WorkloadTelemetryServer telemetryServer,
+            WorkloadStatusLogWriter statusLogWriter )
     {
         super( WorkloadStatusThread.class.getSimpleName() + "-" + System.currentTimeMillis() );
         this.statusUpdateIntervalAsMilli = statusUpdateIntervalAsMilli;
@@ -34,6 +62,13 @@ class WorkloadStatusThread extends Thread
         this.errorReporter = errorReporter;
         this.completionTimeService = completionTimeService;
         this.loggingService = loggingServiceFactory.loggingServiceFor( getClass().getSimpleName() );
+        this.displayStatus = displayStatus;
+        this.timeSource = timeSource;
+        this.operationExecutors = operationExecutors;
+        this.executorForAsynchronous = executorForAsynchronous;
+        this.spinner = spinner;
+        this.telemetryServer = telemetryServer;
+        this.statusLogWriter = statusLogWriter;
     }
 
     @Override
@@ -49,9 +84,12 @@ class WorkloadStatusThread extends Thread
             operationCountsAtDurations[i][1] = -1;
         }
         int statusRecencyIndex = 0;
+        final Map<String,Long> operationCountsByType = new HashMap<>();
 
-        while ( continueRunning.get() )
+        while ( true )
         {
+            // after shutdown one last update is made, so the status log covers the end of the run
+            boolean lastUpdate = !continueRunning.get();
             try
             {
                 WorkloadStatusSnapshot status = metricsServiceWriter.status();
@@ -60,12 +98,38 @@ class WorkloadStatusThread extends Thread
                 statusRecencyIndex = (statusRecencyIndex + 1) % statusRecency;
                 updateRecentThroughput( operationCountsAtDurations, settableRecentThroughputAndDuration );
 
-                loggingService.status(
-                        status,
-                        settableRecentThroughputAndDuration,
-                        completionTimeService.completionTimeAsMilli()
-                );
-
+                long completionTimeAsMilli = completionTimeService.completionTimeAsMilli();
+                if ( displayStatus && !lastUpdate )
+                {
+                    loggingService.status(
+                            status,
+                            settableRecentThroughputAndDuration,
+                            completionTimeAsMilli,
+                            WorkloadRunner.schedulingMetrics( spinner, executorForAsynchronous )
+                    );
+                }
+                if ( null != telemetryServer || null != statusLogWriter )
+                {
+                    WorkloadTelemetrySnapshot telemetrySnapshot = telemetrySnapshot(
+                            status,
+                            settableRecentThroughputAndDuration.throughput(),
+                            completionTimeAsMilli,
+                            operationCountsByType
+                    );
+                    if ( null != telemetryServer )
+                    {
+                        telemetryServer.publish( telemetrySnapshot );
+                    }
+                    if ( null != statusLogWriter )
+                    {
+                        statusLogWriter.write( telemetrySnapshot );
+                    }
+                }
+
+                if ( lastUpdate )
+                {
+                    break;
+                }
                 Spinner.powerNap( statusUpdateIntervalAsMilli );
             }
             catch ( Throwable e )
@@ -91,6 +155,44 @@ class WorkloadStatusThread extends Thread
         continueRunning.set( false );
     }
 
+    private WorkloadTelemetrySnapshot telemetrySnapshot( WorkloadStatusSnapshot status,
+            double recentThroughput,
+            long completionTimeAsMilli,
+            Map<String,Long> operationCountsByType )
+    {
+        if ( null != status.intervalResults() )
+        {
+            for ( OperationMetricsSnapshot metrics : status.intervalResults().allMetrics() )
+            {
+                operationCountsByType.merge( metrics.name(), metrics.count(), Long::sum );
+            }
+        }
+        long handlersInFlight = 0;
+        long operationsQueued = 0;
+        long executorWorkers = 0;
+        for ( OperationExecutor operationExecutor : operationExecutors )
+        {
+            handlersInFlight += operationExecutor.uncompletedOperationHandlerCount();
+            operationsQueued += operationExecutor.queuedOperationCount();
+            executorWorkers += operationExecutor.workerCount();
+        }
+        return new WorkloadTelemetrySnapshot(
+                timeSource.nowAsMilli(),
+                status.runDurationAsMilli(),
+                status.operationCount(),
+                status.throughput(),
+                recentThroughput,
+                completionTimeAsMilli,
+                handlersInFlight,
+                operationsQueued,
+                executorWorkers,
+                status.blockedPublishCount(),
+                operationCountsByType,
+                spinner.schedulingLatenessSnapshot(),
+                status.intervalResults()
+        );
+    }
+
     private void updateRecentThroughput( final long[][] recentOperationCountsAtDurations,
             final SettableRecentThroughputAndDuration settableRecentThroughputAndDuration )
     {
@@ -0,0 +1,133 @@
+package com.ldbc.driver.runtime;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpHandler;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Serves the latest published WorkloadTelemetrySnapshot over HTTP, on the loopback interface only:
+ * <ul>
+ * <li>/metrics in Prometheus text format</li>
+ * <li>/status as JSON</li>
+ * </ul>
+ * Requests are answered from the last published snapshot, they never touch the metrics service.
+ */
+public class WorkloadTelemetryServer implements Closeable
+{
+    public static final String METRICS_PATH = "/metrics";
+    public static final String STATUS_PATH = "/status";
+    private static final String PROMETHEUS_CONTENT_TYPE = "text/plain; version=0.0.4; charset=utf-8";
+    private static final String JSON_CONTENT_TYPE = "application/json; charset=utf-8";
+
+    private final HttpServer httpServer;
+    private final ExecutorService executorService;
+    private final AtomicReference<WorkloadTelemetrySnapshot> latestSnapshot = new AtomicReference<>();
+
+    /**
+     * @param port port to listen on, 0 for any free port
+     */
+    public static WorkloadTelemetryServer start( int port ) throws IOException
+    {
+        return new WorkloadTelemetryServer( port );
+    }
+
+    private WorkloadTelemetryServer( int port ) throws IOException
+    {
+        this.httpServer = HttpServer.create( new InetSocketAddress( InetAddress.getLoopbackAddress(), port ), 0 );
+        this.executorService = Executors.newSingleThreadExecutor( runnable ->
+        {
+            Thread thread = new Thread( runnable,
+                    WorkloadTelemetryServer.class.getSimpleName() + "-" + System.currentTimeMillis() );
+            thread.setDaemon( true );
+            return thread;
+        } );
+        httpServer.setExecutor( executorService );
+        httpServer.createContext( METRICS_PATH, new SnapshotHandler( PROMETHEUS_CONTENT_TYPE )
+        {
+            @Override
+            String render( WorkloadTelemetrySnapshot snapshot )
+            {
+                return snapshot.toPrometheusText();
+            }
+        } );
+        httpServer.createContext( STATUS_PATH, new SnapshotHandler( JSON_CONTENT_TYPE )
+        {
+            @Override
+            String render( WorkloadTelemetrySnapshot snapshot ) throws IOException
+            {
+                return snapshot.toJson();
+            }
+        } );
+        httpServer.start();
+    }
+
+    public int port()
+    {
+        return httpServer.getAddress().getPort();
+    }
+
+    public void publish( WorkloadTelemetrySnapshot snapshot )
+    {
+        latestSnapshot.set( snapshot );
+    }
+
+    public WorkloadTelemetrySnapshot latestSnapshot()
+    {
+        return latestSnapshot.get();
+    }
+
+    @Override
+    public void close()
+    {
+        httpServer.stop( 0 );
+        executorService.shutdownNow();
+    }
+
+    private abstract class SnapshotHandler implements HttpHandler
+    {
+        private final String contentType;
+
+        private SnapshotHandler( String contentType )
+        {
+            this.contentType = contentType;
+        }
+
+        abstract String render( WorkloadTelemetrySnapshot snapshot ) throws IOException;
+
+        @Override
+        public void handle( HttpExchange exchange ) throws IOException
+        {
+            try
+            {
+                WorkloadTelemetrySnapshot snapshot = latestSnapshot.get();
+                if ( null == snapshot )
+                {
+                    // nothing published yet, workload has not started
+                    exchange.sendResponseHeaders( 503, -1 );
+                    return;
+                }
+                byte[] body = render( snapshot ).getBytes( StandardCharsets.UTF_8 );
+                exchange.getResponseHeaders().set( "Content-Type", contentType );
+                exchange.sendResponseHeaders( 200, body.length );
+                try ( OutputStream responseBody = exchange.getResponseBody() )
+                {
+                    responseBody.write( body );
+                }
+            }
+            finally
+            {
+                exchange.close();
+            }
+        }
+    }
+}
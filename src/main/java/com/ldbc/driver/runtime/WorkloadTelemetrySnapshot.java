@@ -0,0 +1,328 @@
+package com.ldbc.driver.runtime;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ldbc.driver.runtime.metrics.ContinuousMetricSnapshot;
+import com.ldbc.driver.runtime.metrics.OperationMetricsSnapshot;
+import com.ldbc.driver.runtime.metrics.WorkloadResultsSnapshot;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Live state of a running workload, as published by the status thread every status interval.
+ * <p>
+ * Per operation type counts and interval metrics are only available when the metrics service keeps per interval
+ * metrics, otherwise they are empty/null.
+ */
+public class WorkloadTelemetrySnapshot
+{
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+    private static final double NANOS_PER_SECOND = TimeUnit.SECONDS.toNanos( 1 );
+
+    @JsonProperty( value = "time" )
+    private long timeAsMilli;
+    @JsonProperty( value = "run_duration" )
+    private long runDurationAsMilli;
+    @JsonProperty( value = "operation_count" )
+    private long operationCount;
+    @JsonProperty( value = "throughput" )
+    private double throughput;
+    @JsonProperty( value = "recent_throughput" )
+    private double recentThroughput;
+    @JsonProperty( value = "completion_time" )
+    private long completionTimeAsMilli;
+    @JsonProperty( value = "completion_time_lag" )
+    private long completionTimeLagAsMilli;
+    @JsonProperty( value = "handlers_in_flight" )
+    private long handlersInFlight;
+    @JsonProperty( value = "operations_queued" )
+    private long operationsQueued;
+    @JsonProperty( value = "executor_workers" )
+    private long executorWorkers;
+    @JsonProperty( value = "metrics_blocked_publish_count" )
+    private long blockedPublishCount;
+    @JsonProperty( value = "operation_counts" )
+    private Map<String,Long> operationCounts;
+    @JsonProperty( value = "scheduling_lateness" )
+    private ContinuousMetricSnapshot schedulingLateness;
+    @JsonProperty( value = "interval" )
+    private WorkloadResultsSnapshot intervalResults;
+
+    private WorkloadTelemetrySnapshot()
+    {
+    }
+
+    /**
+     * @param completionTimeAsMilli -1 if completion time is not yet known
+     * @param operationCounts operations completed since the start of the run, by operation type
+     * @param schedulingLateness lateness of operations released by the scheduler, null if not known
+     * @param intervalResults metrics of operations completed during the last status interval, null if not known
+     */
+    public WorkloadTelemetrySnapshot( long timeAsMilli,
+            long runDurationAsMilli,
+            long operationCount,
+            double throughput,
+            double recentThroughput,
+            long completionTimeAsMilli,
+            long handlersInFlight,
+            long operationsQueued,
+            long executorWorkers,
+            long blockedPublishCount,
+            Map<String,Long> operationCounts,
+            ContinuousMetricSnapshot schedulingLateness,
+            WorkloadResultsSnapshot intervalResults )
+    {
+        this.timeAsMilli = timeAsMilli;
+        this.runDurationAsMilli = runDurationAsMilli;
+        this.operationCount = operationCount;
+        this.throughput = throughput;
+        this.recentThroughput = recentThroughput;
+        this.completionTimeAsMilli = completionTimeAsMilli;
+        this.completionTimeLagAsMilli = (-1 == completionTimeAsMilli) ? -1 : timeAsMilli - completionTimeAsMilli;
+        this.handlersInFlight = handlersInFlight;
+        this.operationsQueued = operationsQueued;
+        this.executorWorkers = executorWorkers;
+        this.blockedPublishCount = blockedPublishCount;
+        this.operationCounts = new TreeMap<>( operationCounts );
+        this.schedulingLateness = schedulingLateness;
+        this.intervalResults = intervalResults;
+    }
+
+    public long timeAsMilli()
+    {
+        return timeAsMilli;
+    }
+
+    public long runDurationAsMilli()
+    {
+        return runDurationAsMilli;
+    }
+
+    public long operationCount()
+    {
+        return operationCount;
+    }
+
+    public double throughput()
+    {
+        return throughput;
+    }
+
+    public double recentThroughput()
+    {
+        return recentThroughput;
+    }
+
+    public long completionTimeAsMilli()
+    {
+        return completionTimeAsMilli;
+    }
+
+    /**
+     * @return how far completion time trails the wall clock, -1 if completion time is not yet known
+     */
+    public long completionTimeLagAsMilli()
+    {
+        return completionTimeLagAsMilli;
+    }
+
+    public long handlersInFlight()
+    {
+        return handlersInFlight;
+    }
+
+    public long operationsQueued()
+    {
+        return operationsQueued;
+    }
+
+    public long executorWorkers()
+    {
+        return executorWorkers;
+    }
+
+    public long blockedPublishCount()
+    {
+        return blockedPublishCount;
+    }
+
+    public Map<String,Long> operationCounts()
+    {
+        return operationCounts;
+    }
+
+    public ContinuousMetricSnapshot schedulingLateness()
+    {
+        return schedulingLateness;
+    }
+
+    public WorkloadResultsSnapshot intervalResults()
+    {
+        return intervalResults;
+    }
+
+    public String toJson() throws IOException
+    {
+        return OBJECT_MAPPER.writeValueAsString( this );
+    }
+
+    /**
+     * Prometheus text exposition format, durations are in seconds
+     */
+    public String toPrometheusText()
+    {
+        StringBuilder sb = new StringBuilder();
+        gauge( sb, "ldbc_driver_run_duration_seconds", "Time since the start of the run",
+                runDurationAsMilli / 1000.0 );
+        counter( sb, "ldbc_driver_operations_total", "Operations completed since the start of the run",
+                operationCount );
+        gauge( sb, "ldbc_driver_throughput", "Operations per second since the start of the run", throughput );
+        gauge( sb, "ldbc_driver_recent_throughput", "Operations per second over the last few status intervals",
+                recentThroughput );
+        if ( -1 != completionTimeLagAsMilli )
+        {
+            gauge( sb, "ldbc_driver_completion_time_lag_seconds", "How far completion time trails the wall clock",
+                    completionTimeLagAsMilli / 1000.0 );
+        }
+        gauge( sb, "ldbc_driver_handlers_in_flight", "Operations handed to executors and not yet completed",
+                handlersInFlight );
+        gauge( sb, "ldbc_driver_operations_queued",
+                "Operations waiting for their scheduled start time or for a free executor worker", operationsQueued );
+        gauge( sb, "ldbc_driver_executor_workers", "Operation handlers executors can run concurrently",
+                executorWorkers );
+        counter( sb, "ldbc_driver_metrics_blocked_publishes_total",
+                "Operation results that waited for space in the metrics ring buffer", blockedPublishCount );
+        if ( null != schedulingLateness && schedulingLateness.count() > 0 )
+        {
+            header( sb, "ldbc_driver_scheduling_lateness_seconds",
+                    "Lateness of operations released by the scheduler, since the start of the run", "summary" );
+            TimeUnit unit = schedulingLateness.unit();
+            sample( sb, "ldbc_driver_scheduling_lateness_seconds", null, "0.5",
+                    seconds( schedulingLateness.percentile50(), unit ) );
+            sample( sb, "ldbc_driver_scheduling_lateness_seconds", null, "0.99",
+                    seconds( schedulingLateness.percentile99(), unit ) );
+            sample( sb, "ldbc_driver_scheduling_lateness_seconds", null, "1",
+                    seconds( schedulingLateness.max(), unit ) );
+            sb.append( "ldbc_driver_scheduling_lateness_seconds_count " ).append( schedulingLateness.count() )
+                    .append( "\n" );
+        }
+        if ( !operationCounts.isEmpty() )
+        {
+            header( sb, "ldbc_driver_operation_type_total", "Operations completed since the start of the run",
+                    "counter" );
+            for ( Map.Entry<String,Long> entry : operationCounts.entrySet() )
+            {
+                sample( sb, "ldbc_driver_operation_type_total", entry.getKey(), null, entry.getValue() );
+            }
+        }
+        if ( null != intervalResults && !intervalResults.allMetrics().isEmpty() )
+        {
+            TimeUnit unit = intervalResults.unit();
+            header( sb, "ldbc_driver_interval_latency_seconds",
+                    "Run time of operations completed during the last status interval", "summary" );
+            for ( OperationMetricsSnapshot metrics : intervalResults.allMetrics() )
+            {
+                ContinuousMetricSnapshot runTime = metrics.runTimeMetric();
+                sample( sb, "ldbc_driver_interval_latency_seconds", metrics.name(), "0.5",
+                        seconds( runTime.percentile50(), unit ) );
+                sample( sb, "ldbc_driver_interval_latency_seconds", metrics.name(), "0.99",
+                        seconds( runTime.percentile99(), unit ) );
+                sample( sb, "ldbc_driver_interval_latency_seconds", metrics.name(), "1",
+                        seconds( runTime.max(), unit ) );
+                sample( sb, "ldbc_driver_interval_latency_seconds_count", metrics.name(), null, metrics.count() );
+            }
+            header( sb, "ldbc_driver_interval_schedule_lag_seconds",
+                    "Mean start delay, relative to scheduled start time, of operations completed during the last " +
+                    "status interval", "gauge" );
+            for ( OperationMetricsSnapshot metrics : intervalResults.allMetrics() )
+            {
+                if ( null != metrics.correctedLatencyMetric() )
+                {
+                    // corrected latency is start delay plus run time
+                    double meanStartDelay =
+                            metrics.correctedLatencyMetric().mean() - metrics.runTimeMetric().mean();
+                    sample( sb, "ldbc_driver_interval_schedule_lag_seconds", metrics.name(), null,
+                            Math.max( 0, meanStartDelay ) * unit.toNanos( 1 ) / NANOS_PER_SECOND );
+                }
+            }
+        }
+        return sb.toString();
+    }
+
+    private static double seconds( long duration, TimeUnit unit )
+    {
+        return unit.toNanos( duration ) / NANOS_PER_SECOND;
+    }
+
+    private static void header( StringBuilder sb, String name, String help, String type )
+    {
+        sb.append( "# HELP " ).append( name ).append( " " ).append( help ).append( "\n" );
+        sb.append( "# TYPE " ).append( name ).append( " " ).append( type ).append( "\n" );
+    }
+
+    private static void gauge( StringBuilder sb, String name, String help, double value )
+    {
+        header( sb, name, help, "gauge" );
+        sample( sb, name, null, null, value );
+    }
+
+    private static void counter( StringBuilder sb, String name, String help, long value )
+    {
+        header( sb, name, help, "counter" );
+        sample( sb, name, null, null, value );
+    }
+
+    private static void sample( StringBuilder sb, String name, String type, String quantile, double value )
+    {
+        sb.append( name );
+        if ( null != type || null != quantile )
+        {
+            sb.append( "{" );
+            if ( null != type )
+            {
+                sb.append( "type=\"" ).append( escapeLabelValue( type ) ).append( "\"" );
+            }
+            if ( null != quantile )
+            {
+                sb.append( (null == type) ? "" : "," ).append( "quantile=\"" ).append( quantile ).append( "\"" );
+            }
+            sb.append( "}" );
+        }
+        sb.append( " " );
+        if ( value == Math.rint( value ) && Math.abs( value ) < Long.MAX_VALUE )
+        {
+            sb.append( (long) value );
+        }
+        else
+        {
+            sb.append( value );
+        }
+        sb.append( "\n" );
+    }
+
+    private static String escapeLabelValue( String value )
+    {
+        return value.replace( "\\", "\\\\" ).replace( "\"", "\\\"" ).replace( "\n", "\\n" );
+    }
+
+    @Override
+    public String toString()
+    {
+        return "WorkloadTelemetrySnapshot{" +
+               "timeAsMilli=" + timeAsMilli +
+               ", runDurationAsMilli=" + runDurationAsMilli +
+               ", operationCount=" + operationCount +
+               ", throughput=" + throughput +
+               ", recentThroughput=" + recentThroughput +
+               ", completionTimeAsMilli=" + completionTimeAsMilli +
+               ", handlersInFlight=" + handlersInFlight +
+               ", operationsQueued=" + operationsQueued +
+               ", executorWorkers=" + executorWorkers +
+               ", blockedPublishCount=" + blockedPublishCount +
+               ", operationCounts=" + operationCounts +
+               '}';
+    }
+}
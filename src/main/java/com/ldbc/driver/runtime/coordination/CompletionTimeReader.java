@@ -1,8 +1,40 @@
 package com.ldbc.driver.runtime.coordination;
 
+import java.util.concurrent.TimeUnit;
+
 public interface CompletionTimeReader
 {
     long lastKnownLowestInitiatedTimeAsMilli() throws CompletionTimeException;
 
     long completionTimeAsMilli() throws CompletionTimeException;
+
+    /**
+     * Waits for Completion Time to reach timeAsMilli, or for timeout to elapse, whichever happens first.
+     * Readers that are not told when Completion Time advances poll Completion Time every millisecond.
+     *
+     * @param timeAsMilli Completion Time to wait for
+     * @param timeoutAsMilli maximum duration to wait for
+     * @return true if Completion Time reached timeAsMilli
+     */
+    default boolean awaitCompletionTimeAsMilli( long timeAsMilli, long timeoutAsMilli )
+            throws CompletionTimeException
+    {
+        long timeoutTimeAsNano = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos( timeoutAsMilli );
+        while ( completionTimeAsMilli() < timeAsMilli )
+        {
+            if ( System.nanoTime() >= timeoutTimeAsNano )
+            {
+                return false;
+            }
+            try
+            {
+                Thread.sleep( 1 );
+            }
+            catch ( InterruptedException e )
+            {
+                // do nothing, as Spinner.powerNap() does
+            }
+        }
+        return true;
+    }
 }
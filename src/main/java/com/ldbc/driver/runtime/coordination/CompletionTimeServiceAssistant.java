@@ -56,4 +56,9 @@ public class CompletionTimeServiceAssistant
     {
         return new ThreadedQueuedCompletionTimeService( timeSource, errorReporter );
     }
+
+    public LockFreeCompletionTimeService newLockFreeCompletionTimeService() throws CompletionTimeException
+    {
+        return new LockFreeCompletionTimeService();
+    }
 }
@@ -0,0 +1,181 @@
+package com.ldbc.driver.runtime.coordination;
+
+import java.util.PriorityQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Threads waiting for Completion Time to reach a time, ordered by that time.
+ * <p>
+ * Completion Time services call completionTimeMayHaveAdvanced() (or completionTimeAdvanced()) whenever a submission
+ * may have advanced Completion Time, which wakes exactly the waiting threads whose time has been reached. While no
+ * thread is waiting that call costs one volatile read.
+ * <p>
+ * Waiting threads still re-read Completion Time every RECHECK_INTERVAL_AS_NANO, as a safety net.
+ */
+class CompletionTimeWaiters
+{
+    private static final long RECHECK_INTERVAL_AS_NANO = TimeUnit.MILLISECONDS.toNanos( 100 );
+    private static final long NO_WAITERS = Long.MAX_VALUE;
+
+    private final CompletionTimeReader completionTimeReader;
+    // guarded by this
+    private final PriorityQueue<Waiter> waiters = new PriorityQueue<>();
+    private long waiterCount = 0;
+    // time of the first waiter in waiters, or NO_WAITERS
+    private volatile long lowestWaitingTimeAsMilli = NO_WAITERS;
+
+    CompletionTimeWaiters( CompletionTimeReader completionTimeReader )
+    {
+        this.completionTimeReader = completionTimeReader;
+    }
+
+    /**
+     * Wakes the threads waiting for a time that Completion Time, read from the reader, has reached
+     */
+    void completionTimeMayHaveAdvanced() throws CompletionTimeException
+    {
+        if ( NO_WAITERS == lowestWaitingTimeAsMilli )
+        {
+            return;
+        }
+        completionTimeAdvanced( completionTimeReader.completionTimeAsMilli() );
+    }
+
+    /**
+     * Wakes the threads waiting for a time that Completion Time has reached
+     */
+    void completionTimeAdvanced( long completionTimeAsMilli )
+    {
+        if ( -1 == completionTimeAsMilli || completionTimeAsMilli < lowestWaitingTimeAsMilli )
+        {
+            return;
+        }
+        synchronized ( this )
+        {
+            while ( !waiters.isEmpty() && waiters.peek().timeAsMilli <= completionTimeAsMilli )
+            {
+                Waiter waiter = waiters.poll();
+                waiter.released = true;
+                LockSupport.unpark( waiter.thread );
+            }
+            updateLowestWaitingTime();
+        }
+    }
+
+    /**
+     * @return true if Completion Time reached timeAsMilli, false if timeout elapsed first
+     */
+    boolean await( long timeAsMilli, long timeoutAsMilli ) throws CompletionTimeException
+    {
+        if ( completionTimeReader.completionTimeAsMilli() >= timeAsMilli )
+        {
+            return true;
+        }
+        Waiter waiter;
+        synchronized ( this )
+        {
+            waiter = new Waiter( timeAsMilli, waiterCount++, Thread.currentThread() );
+            waiters.add( waiter );
+            updateLowestWaitingTime();
+        }
+        long timeoutTimeAsNano = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos( timeoutAsMilli );
+        try
+        {
+            // Completion Time is read after registering, so an advance that happens in between is not missed
+            while ( !waiter.released )
+            {
+                if ( completionTimeReader.completionTimeAsMilli() >= timeAsMilli )
+                {
+                    return true;
+                }
+                long remainingAsNano = timeoutTimeAsNano - System.nanoTime();
+                if ( remainingAsNano <= 0 )
+                {
+                    return false;
+                }
+                LockSupport.parkNanos( this, Math.min( remainingAsNano, RECHECK_INTERVAL_AS_NANO ) );
+            }
+            return true;
+        }
+        finally
+        {
+            if ( !waiter.released )
+            {
+                synchronized ( this )
+                {
+                    waiters.remove( waiter );
+                    updateLowestWaitingTime();
+                }
+            }
+        }
+    }
+
+    /**
+     * @return writer that calls completionTimeMayHaveAdvanced() after every submission to completionTimeWriter
+     */
+    CompletionTimeWriter notifyingWriterFor( CompletionTimeWriter completionTimeWriter )
+    {
+        return new NotifyingCompletionTimeWriter( completionTimeWriter, this );
+    }
+
+    private void updateLowestWaitingTime()
+    {
+        lowestWaitingTimeAsMilli = (waiters.isEmpty()) ? NO_WAITERS : waiters.peek().timeAsMilli;
+    }
+
+    private static class Waiter implements Comparable<Waiter>
+    {
+        private final long timeAsMilli;
+        private final long sequence;
+        private final Thread thread;
+        private volatile boolean released = false;
+
+        private Waiter( long timeAsMilli, long sequence, Thread thread )
+        {
+            this.timeAsMilli = timeAsMilli;
+            this.sequence = sequence;
+            this.thread = thread;
+        }
+
+        @Override
+        public int compareTo( Waiter other )
+        {
+            int timeComparison = Long.compare( timeAsMilli, other.timeAsMilli );
+            return (0 != timeComparison) ? timeComparison : Long.compare( sequence, other.sequence );
+        }
+    }
+
+    private static class NotifyingCompletionTimeWriter implements CompletionTimeWriter
+    {
+        private final CompletionTimeWriter completionTimeWriter;
+        private final CompletionTimeWaiters completionTimeWaiters;
+
+        private NotifyingCompletionTimeWriter( CompletionTimeWriter completionTimeWriter,
+                CompletionTimeWaiters completionTimeWaiters )
+        {
+            this.completionTimeWriter = completionTimeWriter;
+            this.completionTimeWaiters = completionTimeWaiters;
+        }
+
+        @Override
+        public void submitInitiatedTime( long timeAsMilli ) throws CompletionTimeException
+        {
+            completionTimeWriter.submitInitiatedTime( timeAsMilli );
+            completionTimeWaiters.completionTimeMayHaveAdvanced();
+        }
+
+        @Override
+        public void submitCompletedTime( long timeAsMilli ) throws CompletionTimeException
+        {
+            completionTimeWriter.submitCompletedTime( timeAsMilli );
+            completionTimeWaiters.completionTimeMayHaveAdvanced();
+        }
+
+        @Override
+        public String toString()
+        {
+            return completionTimeWriter.toString();
+        }
+    }
+}
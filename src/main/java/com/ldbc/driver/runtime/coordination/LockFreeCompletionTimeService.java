@@ -0,0 +1,142 @@
+package com.ldbc.driver.runtime.coordination;
+
+import com.google.common.util.concurrent.Futures;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Completion Time service in which every writer tracks its own times (see LockFreeCompletionTimeWriter), and
+ * Completion Time is computed on read from the values writers publish, so submissions from different writers never
+ * contend with each other or with readers.
+ * <p>
+ * Completion Time is the highest writer Completion Time that is lower than the minimum, over all writers, of last
+ * known lowest initiated time. It is undefined (-1) until every writer has submitted an Initiated Time, and it never
+ * decreases.
+ * <p>
+ * Writers returned to callers wake threads waiting in awaitCompletionTimeAsMilli() once their submissions advance
+ * Completion Time far enough.
+ */
+public class LockFreeCompletionTimeService implements CompletionTimeService
+{
+    private final AtomicLong completionTimeAsMilli = new AtomicLong( -1 );
+    private volatile LockFreeCompletionTimeWriter[] completionTimeWriters = new LockFreeCompletionTimeWriter[0];
+    // writers returned to callers, guarded by this
+    private final List<CompletionTimeWriter> notifyingCompletionTimeWriters = new ArrayList<>();
+    private final CompletionTimeWaiters completionTimeWaiters;
+
+    LockFreeCompletionTimeService()
+    {
+        this.completionTimeWaiters = new CompletionTimeWaiters( this );
+    }
+
+    /**
+     * Waits for all submissions that happened before the call to be applied by their writers,
+     * so the returned Completion Time reflects them
+     */
+    @Override
+    public Future<Long> completionTimeAsMilliFuture() throws CompletionTimeException
+    {
+        for ( LockFreeCompletionTimeWriter completionTimeWriter : completionTimeWriters )
+        {
+            completionTimeWriter.awaitSubmissionsApplied();
+        }
+        return Futures.immediateFuture( completionTimeAsMilli() );
+    }
+
+    @Override
+    synchronized public List<CompletionTimeWriter> getAllWriters() throws CompletionTimeException
+    {
+        return new ArrayList<>( notifyingCompletionTimeWriters );
+    }
+
+    @Override
+    public long lastKnownLowestInitiatedTimeAsMilli() throws CompletionTimeException
+    {
+        return lastKnownLowestInitiatedTimeAsMilli( completionTimeWriters );
+    }
+
+    @Override
+    public long completionTimeAsMilli() throws CompletionTimeException
+    {
+        LockFreeCompletionTimeWriter[] completionTimeWritersSnapshot = completionTimeWriters;
+        // initiated times must be read before completion times:
+        // writer initiated times never decrease, so any writer completion time read afterwards that is lower than
+        // the minimum initiated time read here is safe
+        long lowestInitiatedTimeAsMilli = lastKnownLowestInitiatedTimeAsMilli( completionTimeWritersSnapshot );
+        long previousCompletionTimeAsMilli = completionTimeAsMilli.get();
+        if ( -1 == lowestInitiatedTimeAsMilli )
+        {
+            return previousCompletionTimeAsMilli;
+        }
+        long newCompletionTimeAsMilli = previousCompletionTimeAsMilli;
+        for ( LockFreeCompletionTimeWriter completionTimeWriter : completionTimeWritersSnapshot )
+        {
+            long writerCompletionTimeAsMilli = completionTimeWriter.completionTimeAsMilli();
+            if ( -1 != writerCompletionTimeAsMilli &&
+                 writerCompletionTimeAsMilli < lowestInitiatedTimeAsMilli &&
+                 writerCompletionTimeAsMilli > newCompletionTimeAsMilli )
+            {
+                newCompletionTimeAsMilli = writerCompletionTimeAsMilli;
+            }
+        }
+        // completion time never decreases, concurrent readers may have already advanced it further
+        while ( newCompletionTimeAsMilli > previousCompletionTimeAsMilli )
+        {
+            if ( completionTimeAsMilli.compareAndSet( previousCompletionTimeAsMilli, newCompletionTimeAsMilli ) )
+            {
+                return newCompletionTimeAsMilli;
+            }
+            previousCompletionTimeAsMilli = completionTimeAsMilli.get();
+        }
+        return previousCompletionTimeAsMilli;
+    }
+
+    @Override
+    public boolean awaitCompletionTimeAsMilli( long timeAsMilli, long timeoutAsMilli )
+            throws CompletionTimeException
+    {
+        return completionTimeWaiters.await( timeAsMilli, timeoutAsMilli );
+    }
+
+    @Override
+    synchronized public CompletionTimeWriter newCompletionTimeWriter() throws CompletionTimeException
+    {
+        LockFreeCompletionTimeWriter completionTimeWriter = new LockFreeCompletionTimeWriter();
+        LockFreeCompletionTimeWriter[] newCompletionTimeWriters =
+                Arrays.copyOf( completionTimeWriters, completionTimeWriters.length + 1 );
+        newCompletionTimeWriters[newCompletionTimeWriters.length - 1] = completionTimeWriter;
+        completionTimeWriters = newCompletionTimeWriters;
+        CompletionTimeWriter notifyingCompletionTimeWriter =
+                completionTimeWaiters.notifyingWriterFor( completionTimeWriter );
+        notifyingCompletionTimeWriters.add( notifyingCompletionTimeWriter );
+        return notifyingCompletionTimeWriter;
+    }
+
+    @Override
+    public void shutdown() throws CompletionTimeException
+    {
+    }
+
+    private static long lastKnownLowestInitiatedTimeAsMilli( LockFreeCompletionTimeWriter[] completionTimeWriters )
+    {
+        long lowestInitiatedTimeAsMilli = -1;
+        for ( LockFreeCompletionTimeWriter completionTimeWriter : completionTimeWriters )
+        {
+            long writerInitiatedTimeAsMilli = completionTimeWriter.lastKnownLowestInitiatedTimeAsMilli();
+            if ( -1 == writerInitiatedTimeAsMilli )
+            {
+                // if any initiation times are undefined, initiation time is undefined
+                return -1;
+            }
+            else if ( -1 == lowestInitiatedTimeAsMilli || writerInitiatedTimeAsMilli < lowestInitiatedTimeAsMilli )
+            {
+                lowestInitiatedTimeAsMilli = writerInitiatedTimeAsMilli;
+            }
+        }
+        return lowestInitiatedTimeAsMilli;
+    }
+}
@@ -0,0 +1,274 @@
+package com.ldbc.driver.runtime.coordination;
+
+import com.ldbc.driver.temporal.TemporalUtil;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static java.lang.String.format;
+
+/**
+ * Tracks Initiated Times and Completed Times of one writer, without locks and without allocating per submission.
+ * <p>
+ * Distinct Initiated Times are appended, in ascending order, to a ring of primitive entries, each entry holding a
+ * time and a count of operations at that time that have not yet completed. Entries are stored in fixed size chunks,
+ * which are reused once every entry in them has completed, so chunks are only allocated while the number of
+ * in-flight times grows.
+ * <p>
+ * Initiated Times MUST be submitted by one thread at a time (e.g., the thread feeding a stream).
+ * Completed Times may be submitted by any number of threads concurrently (e.g., handler threads):
+ * each decrements the count of its entry, found by binary search, with a CAS.
+ * <p>
+ * Entries at the head of the ring that have no uncompleted operations are consumed by whichever submitting thread
+ * wins the drain, which then publishes lastKnownLowestInitiatedTimeAsMilli & completionTimeAsMilli of this writer.
+ * Threads that lose the drain leave their update to the winner, which drains again before it returns.
+ * <p>
+ * Semantics are the same as those of CompletionTimeStateManager:
+ * - last known lowest initiated time: lowest uncompleted initiated time, or highest initiated time if all completed
+ * - completion time: highest completed time that is lower than last known lowest initiated time
+ */
+class LockFreeCompletionTimeWriter implements CompletionTimeWriter
+{
+    private static final TemporalUtil TEMPORAL_UTIL = new TemporalUtil();
+    private static final int CHUNK_SIZE_BITS = 10;
+    private static final int CHUNK_SIZE = 1 << CHUNK_SIZE_BITS;
+    private static final int CHUNK_OFFSET_MASK = CHUNK_SIZE - 1;
+    private static final int INITIAL_CHUNK_CAPACITY = 4;
+
+    // *** written by initiating thread only ***
+    // index of the next entry; entries are published by writing tail
+    private volatile long tail = 0;
+    // ring of chunks, indexed by (entry index / CHUNK_SIZE) modulo length, length is always a power of two
+    private volatile Chunk[] chunks = new Chunk[INITIAL_CHUNK_CAPACITY];
+    private long highestInitiatedTimeAsMilli = -1;
+
+    // *** written by drain winner only ***
+    // index of the first entry that has not been consumed
+    private volatile long head = 0;
+    private long highestConsumedTimeAsMilli = -1;
+    private volatile long lastKnownLowestInitiatedTimeAsMilli = -1;
+    private volatile long completionTimeAsMilli = -1;
+    private volatile long appliedSubmissions = 0;
+
+    private final AtomicInteger drainRequests = new AtomicInteger( 0 );
+    private final AtomicLong submissions = new AtomicLong( 0 );
+
+    LockFreeCompletionTimeWriter()
+    {
+    }
+
+    @Override
+    public void submitInitiatedTime( long timeAsMilli ) throws CompletionTimeException
+    {
+        if ( -1 != highestInitiatedTimeAsMilli && timeAsMilli < highestInitiatedTimeAsMilli )
+        {
+            String errMsg = format( "Submitted initiated time is lower than previously submitted initiated time\n"
+                                    + "  Submitted: %s (%s ms)\n"
+                                    + "  Previous: %s (%s ms)",
+                    TEMPORAL_UTIL.milliTimeToDateTimeString( timeAsMilli ), timeAsMilli,
+                    TEMPORAL_UTIL.milliTimeToDateTimeString( highestInitiatedTimeAsMilli ),
+                    highestInitiatedTimeAsMilli
+            );
+            throw new CompletionTimeException( errMsg );
+        }
+        long index = tail;
+        if ( timeAsMilli == highestInitiatedTimeAsMilli )
+        {
+            // the last entry is never consumed, so it is safe to increment its count in place
+            chunkOf( chunks, index - 1 ).uncompletedCounts.incrementAndGet( offsetOf( index - 1 ) );
+        }
+        else
+        {
+            Chunk chunk = chunkForAppend( index );
+            chunk.timesAsMilli[offsetOf( index )] = timeAsMilli;
+            chunk.uncompletedCounts.set( offsetOf( index ), 1 );
+            tail = index + 1;
+            highestInitiatedTimeAsMilli = timeAsMilli;
+        }
+        submissions.incrementAndGet();
+        drain();
+    }
+
+    @Override
+    public void submitCompletedTime( long timeAsMilli ) throws CompletionTimeException
+    {
+        while ( true )
+        {
+            // chunks must be read after tail, so they contain every entry below tail
+            long tailIndex = tail;
+            Chunk[] chunksSnapshot = chunks;
+            long headIndex = head;
+            long index = lowestIndexWithTimeNotLowerThan( chunksSnapshot, headIndex, tailIndex, timeAsMilli );
+            if ( index < tailIndex && timeAsMilli == timeAt( chunksSnapshot, index ) &&
+                 decrementUncompletedCount( chunkOf( chunksSnapshot, index ), offsetOf( index ) ) )
+            {
+                break;
+            }
+            if ( headIndex == head )
+            {
+                throw new CompletionTimeException( format(
+                        "Initiated time [%s] of completed event does not map to any uncompleted operation",
+                        timeAsMilli ) );
+            }
+            // entries were consumed, and their chunks possibly reused, during the search, search again
+        }
+        submissions.incrementAndGet();
+        drain();
+    }
+
+    long lastKnownLowestInitiatedTimeAsMilli()
+    {
+        return lastKnownLowestInitiatedTimeAsMilli;
+    }
+
+    long completionTimeAsMilli()
+    {
+        return completionTimeAsMilli;
+    }
+
+    /**
+     * Returns once every submission that happened before the call has been applied to
+     * lastKnownLowestInitiatedTimeAsMilli() & completionTimeAsMilli()
+     */
+    void awaitSubmissionsApplied()
+    {
+        long submissionsToWaitFor = submissions.get();
+        while ( appliedSubmissions < submissionsToWaitFor )
+        {
+            Thread.yield();
+        }
+    }
+
+    private void drain()
+    {
+        if ( 0 != drainRequests.getAndIncrement() )
+        {
+            return;
+        }
+        int missedDrainRequests = 1;
+        do
+        {
+            long submissionsToApply = submissions.get();
+            long tailIndex = tail;
+            Chunk[] chunksSnapshot = chunks;
+            if ( tailIndex > 0 )
+            {
+                long headIndex = head;
+                // the last entry is never consumed, it may still receive initiated times
+                while ( headIndex < tailIndex - 1 &&
+                        0 == chunkOf( chunksSnapshot, headIndex ).uncompletedCounts.get( offsetOf( headIndex ) ) )
+                {
+                    highestConsumedTimeAsMilli = timeAt( chunksSnapshot, headIndex );
+                    headIndex++;
+                }
+                head = headIndex;
+                lastKnownLowestInitiatedTimeAsMilli = timeAt( chunksSnapshot, headIndex );
+                completionTimeAsMilli = highestConsumedTimeAsMilli;
+            }
+            appliedSubmissions = submissionsToApply;
+            missedDrainRequests = drainRequests.addAndGet( -missedDrainRequests );
+        }
+        while ( 0 != missedDrainRequests );
+    }
+
+    private Chunk chunkForAppend( long index )
+    {
+        Chunk[] chunksSnapshot = chunks;
+        if ( 0 == offsetOf( index ) )
+        {
+            long chunkIndex = index >>> CHUNK_SIZE_BITS;
+            long headChunkIndex = head >>> CHUNK_SIZE_BITS;
+            // chunk slot is still in use by a chunk with unconsumed entries
+            if ( chunkIndex - headChunkIndex >= chunksSnapshot.length )
+            {
+                chunksSnapshot = grow( chunksSnapshot, headChunkIndex, chunkIndex );
+            }
+            int slot = slotOf( chunksSnapshot, chunkIndex );
+            if ( null == chunksSnapshot[slot] )
+            {
+                chunksSnapshot[slot] = new Chunk();
+            }
+        }
+        return chunkOf( chunksSnapshot, index );
+    }
+
+    private Chunk[] grow( Chunk[] oldChunks, long headChunkIndex, long chunkIndex )
+    {
+        int newCapacity = oldChunks.length * 2;
+        while ( chunkIndex - headChunkIndex >= newCapacity )
+        {
+            newCapacity = newCapacity * 2;
+        }
+        Chunk[] newChunks = new Chunk[newCapacity];
+        // chunks keep their identity, so threads still reading the old ring see the same entries
+        for ( long i = headChunkIndex; i < chunkIndex; i++ )
+        {
+            newChunks[slotOf( newChunks, i )] = oldChunks[slotOf( oldChunks, i )];
+        }
+        chunks = newChunks;
+        return newChunks;
+    }
+
+    private static long lowestIndexWithTimeNotLowerThan( Chunk[] chunks, long fromIndex, long toIndex,
+            long timeAsMilli )
+    {
+        long low = fromIndex;
+        long high = toIndex;
+        while ( low < high )
+        {
+            long middle = (low + high) >>> 1;
+            if ( timeAt( chunks, middle ) < timeAsMilli )
+            {
+                low = middle + 1;
+            }
+            else
+            {
+                high = middle;
+            }
+        }
+        return low;
+    }
+
+    private static boolean decrementUncompletedCount( Chunk chunk, int offset )
+    {
+        while ( true )
+        {
+            int uncompletedCount = chunk.uncompletedCounts.get( offset );
+            if ( uncompletedCount <= 0 )
+            {
+                return false;
+            }
+            if ( chunk.uncompletedCounts.compareAndSet( offset, uncompletedCount, uncompletedCount - 1 ) )
+            {
+                return true;
+            }
+        }
+    }
+
+    private static long timeAt( Chunk[] chunks, long index )
+    {
+        return chunkOf( chunks, index ).timesAsMilli[offsetOf( index )];
+    }
+
+    private static Chunk chunkOf( Chunk[] chunks, long index )
+    {
+        return chunks[slotOf( chunks, index >>> CHUNK_SIZE_BITS )];
+    }
+
+    private static int slotOf( Chunk[] chunks, long chunkIndex )
+    {
+        return (int) (chunkIndex & (chunks.length - 1));
+    }
+
+    private static int offsetOf( long index )
+    {
+        return (int) (index & CHUNK_OFFSET_MASK);
+    }
+
+    private static class Chunk
+    {
+        private final long[] timesAsMilli = new long[CHUNK_SIZE];
+        private final AtomicIntegerArray uncompletedCounts = new AtomicIntegerArray( CHUNK_SIZE );
+    }
+}
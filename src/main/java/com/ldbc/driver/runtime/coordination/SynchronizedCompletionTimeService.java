@@ -9,6 +9,7 @@ public class SynchronizedCompletionTimeService implements CompletionTimeService
 {
     private final MultiWriterCompletionTimeStateManager completionTimeStateManager;
     private final List<CompletionTimeWriter> completionTimeWriters;
+    private final CompletionTimeWaiters completionTimeWaiters;
 
     private enum Event
     {
@@ -35,6 +36,8 @@ public class SynchronizedCompletionTimeService implements CompletionTimeService
         // will perform the Completion Time writing
         this.completionTimeStateManager = new MultiWriterCompletionTimeStateManager();
         this.completionTimeWriters = new ArrayList<>();
+        // writers wake threads waiting in awaitCompletionTimeAsMilli() once their submissions advance Completion Time
+        this.completionTimeWaiters = new CompletionTimeWaiters( this );
     }
 
     @Override
@@ -62,6 +65,13 @@ public class SynchronizedCompletionTimeService implements CompletionTimeService
         return (long) processEvent( Event.READ_COMPLETION_TIME );
     }
 
+    @Override
+    public boolean awaitCompletionTimeAsMilli( long timeAsMilli, long timeoutAsMilli )
+            throws CompletionTimeException
+    {
+        return completionTimeWaiters.await( timeAsMilli, timeoutAsMilli );
+    }
+
     @Override
     public CompletionTimeWriter newCompletionTimeWriter() throws CompletionTimeException
     {
@@ -89,7 +99,8 @@ public class SynchronizedCompletionTimeService implements CompletionTimeService
             }
             case CREATE_NEW_COMPLETION_TIME_WRITER:
             {
-                CompletionTimeWriter completionTimeWriter = completionTimeStateManager.newCompletionTimeWriter();
+                CompletionTimeWriter completionTimeWriter = completionTimeWaiters.notifyingWriterFor(
+                        completionTimeStateManager.newCompletionTimeWriter() );
                 completionTimeWriters.add( completionTimeWriter );
                 return completionTimeWriter;
             }
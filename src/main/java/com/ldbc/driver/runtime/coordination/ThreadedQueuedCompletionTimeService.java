@@ -30,6 +30,7 @@ public class ThreadedQueuedCompletionTimeService implements CompletionTimeServic
     private final AtomicBoolean sharedIsShuttingDownReference = new AtomicBoolean( false );
     private final ConcurrentErrorReporter errorReporter;
     private final List<CompletionTimeWriter> writers = new ArrayList<>();
+    private final CompletionTimeWaiters completionTimeWaiters;
 
     ThreadedQueuedCompletionTimeService( TimeSource timeSource,
             ConcurrentErrorReporter errorReporter ) throws CompletionTimeException
@@ -40,10 +41,12 @@ public class ThreadedQueuedCompletionTimeService implements CompletionTimeServic
         this.queueEventSubmitter = QueueEventSubmitter.queueEventSubmitterFor( completionTimeEventQueue );
         this.sharedCtReference = new AtomicLong( -1 );
         this.sharedWriteEventCountReference = new AtomicLong( 0 );
+        this.completionTimeWaiters = new CompletionTimeWaiters( this );
         threadedQueuedCompletionTimeServiceThread = new ThreadedQueuedCompletionTimeServiceThread(
                 completionTimeEventQueue,
                 errorReporter,
-                sharedCtReference );
+                sharedCtReference,
+                completionTimeWaiters );
         threadedQueuedCompletionTimeServiceThread.start();
     }
 
@@ -53,6 +56,13 @@ public class ThreadedQueuedCompletionTimeService implements CompletionTimeServic
         return sharedCtReference.get();
     }
 
+    @Override
+    public boolean awaitCompletionTimeAsMilli( long timeAsMilli, long timeoutAsMilli )
+            throws CompletionTimeException
+    {
+        return completionTimeWaiters.await( timeAsMilli, timeoutAsMilli );
+    }
+
     @Override
     public CompletionTimeWriter newCompletionTimeWriter() throws CompletionTimeException
     {
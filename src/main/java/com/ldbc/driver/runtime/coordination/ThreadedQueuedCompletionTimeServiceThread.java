@@ -33,6 +33,7 @@ public class ThreadedQueuedCompletionTimeServiceThread extends Thread
     private final TemporalUtil temporalUtil = new TemporalUtil();
     private final MultiWriterCompletionTimeStateManager completionTimeStateManager;
     private final AtomicLong completionTimeSharedReference;
+    private final CompletionTimeWaiters completionTimeWaiters;
     private final QueueEventFetcher<CompletionTimeEvent> completionTimeEventQueueEventFetcher;
     private final ConcurrentErrorReporter errorReporter;
     private Long processedWriteEventCount = 0L;
@@ -43,7 +44,8 @@ public class ThreadedQueuedCompletionTimeServiceThread extends Thread
     ThreadedQueuedCompletionTimeServiceThread(
             Queue<CompletionTimeEvent> completionTimeQueue,
             ConcurrentErrorReporter errorReporter,
-            AtomicLong completionTimeSharedReference ) throws CompletionTimeException
+            AtomicLong completionTimeSharedReference,
+            CompletionTimeWaiters completionTimeWaiters ) throws CompletionTimeException
     {
         super( ThreadedQueuedCompletionTimeServiceThread.class.getSimpleName() + "-" +
                System.currentTimeMillis() );
@@ -65,6 +67,7 @@ public class ThreadedQueuedCompletionTimeServiceThread extends Thread
         this.completionTimeEventQueueEventFetcher = QueueEventFetcher.queueEventFetcherFor( completionTimeQueue );
         this.errorReporter = errorReporter;
         this.completionTimeSharedReference = completionTimeSharedReference;
+        this.completionTimeWaiters = completionTimeWaiters;
         this.completionTimeSharedReference.set( completionTimeStateManager.completionTimeAsMilli() );
     }
 
@@ -190,6 +193,7 @@ public class ThreadedQueuedCompletionTimeServiceThread extends Thread
         else
         {
             completionTimeSharedReference.set( newCompletionTimeAsMilli );
+            completionTimeWaiters.completionTimeAdvanced( newCompletionTimeAsMilli );
         }
     }
 }
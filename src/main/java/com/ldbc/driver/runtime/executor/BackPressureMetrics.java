@@ -0,0 +1,79 @@
+package com.ldbc.driver.runtime.executor;
+
+import com.ldbc.driver.runtime.metrics.ContinuousMetricRecorder;
+import com.ldbc.driver.runtime.metrics.ContinuousMetricSnapshot;
+
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Back-pressure an executor puts on the thread that feeds it operations: how long execute() was blocked waiting for
+ * the executor to have room, in microseconds, and how many operations were queued whenever one was submitted.
+ * <p>
+ * Recorded by feeding threads without taking a lock, snapshots may be taken by any thread.
+ */
+class BackPressureMetrics
+{
+    private static final long MAX_RECORDED_BLOCKED_AS_MICRO = TimeUnit.HOURS.toMicros( 1 );
+
+    private final ContinuousMetricRecorder feederBlockedMetric;
+    // null when the executor has no queue
+    private final ContinuousMetricRecorder queueDepthMetric;
+    private final long maxQueueDepth;
+
+    /**
+     * @param maxQueueDepth bound of the executor queue, or 0 if the executor has no queue
+     */
+    BackPressureMetrics( long maxQueueDepth )
+    {
+        this.feederBlockedMetric = new ContinuousMetricRecorder(
+                "Feeder Blocked",
+                TimeUnit.MICROSECONDS,
+                MAX_RECORDED_BLOCKED_AS_MICRO,
+                4
+        );
+        // queue depth is a count, not a duration, so it has no unit
+        this.queueDepthMetric = (maxQueueDepth > 0)
+                                ? new ContinuousMetricRecorder( "Queue Depth", null, Math.max( 2, maxQueueDepth ), 3 )
+                                : null;
+        this.maxQueueDepth = maxQueueDepth;
+    }
+
+    /**
+     * Acquires a permit, recording how long the calling thread was blocked if none was available
+     */
+    void acquire( Semaphore permits ) throws InterruptedException
+    {
+        if ( permits.tryAcquire() )
+        {
+            return;
+        }
+        long blockedStartAsNano = System.nanoTime();
+        permits.acquire();
+        feederBlockedMetric.addMeasurement(
+                TimeUnit.NANOSECONDS.toMicros( System.nanoTime() - blockedStartAsNano ) );
+    }
+
+    void recordQueueDepth( long queueDepth )
+    {
+        if ( null == queueDepthMetric )
+        {
+            return;
+        }
+        queueDepthMetric.addMeasurement( Math.min( queueDepth, maxQueueDepth ) );
+    }
+
+    ContinuousMetricSnapshot feederBlockedSnapshot()
+    {
+        return feederBlockedMetric.snapshot();
+    }
+
+    ContinuousMetricSnapshot queueDepthSnapshot()
+    {
+        if ( null == queueDepthMetric )
+        {
+            return null;
+        }
+        return queueDepthMetric.snapshot();
+    }
+}
@@ -0,0 +1,87 @@
+package com.ldbc.driver.runtime.executor;
+
+import com.ldbc.driver.ChildOperationGenerator;
+import com.ldbc.driver.OperationHandlerRunnableContext;
+import com.ldbc.driver.runtime.ConcurrentErrorReporter;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static java.lang.String.format;
+
+/**
+ * Post-execution work of an operation handler, shared by the executors that run handlers on other threads:
+ * executes child operations, then marks the handler as completed and returns its context for reuse.
+ * <p>
+ * Note, for synchronous handlers the executor calls it from the thread that ran the handler, asynchronous handlers
+ * call it themselves once they complete, from a thread of completionExecutor.
+ */
+class HandlerCompletionListener implements OperationHandlerRunnableContext.AsynchronousCompletionListener
+{
+    private final AtomicLong uncompletedHandlers;
+    private final Semaphore permits;
+    private final ChildOperationGenerator childOperationGenerator;
+    private final ChildOperationExecutor childOperationExecutor;
+    private final OperationHandlerRunnableContextRetriever operationHandlerRunnableContextRetriever;
+    private final ConcurrentErrorReporter errorReporter;
+    private final Executor completionExecutor;
+
+    /**
+     * @param permits released once per completed handler, or null if the executor does not bound handlers that way
+     * @param completionExecutor driver threads that complete asynchronous handlers, as child operations must not run
+     * on threads of the database client
+     */
+    HandlerCompletionListener( AtomicLong uncompletedHandlers,
+            Semaphore permits,
+            ChildOperationGenerator childOperationGenerator,
+            OperationHandlerRunnableContextRetriever operationHandlerRunnableContextRetriever,
+            ConcurrentErrorReporter errorReporter,
+            Executor completionExecutor )
+    {
+        this.uncompletedHandlers = uncompletedHandlers;
+        this.permits = permits;
+        this.childOperationGenerator = childOperationGenerator;
+        this.childOperationExecutor = new ChildOperationExecutor();
+        this.operationHandlerRunnableContextRetriever = operationHandlerRunnableContextRetriever;
+        this.errorReporter = errorReporter;
+        this.completionExecutor = completionExecutor;
+    }
+
+    @Override
+    public Executor completionExecutor()
+    {
+        return completionExecutor;
+    }
+
+    @Override
+    public void onCompletion( OperationHandlerRunnableContext operationHandlerRunnableContext )
+    {
+        try
+        {
+            // child operations are executed synchronously, on the current thread
+            childOperationExecutor.execute(
+                    childOperationGenerator,
+                    operationHandlerRunnableContext.operation(),
+                    operationHandlerRunnableContext.resultReporter().result(),
+                    operationHandlerRunnableContext.resultReporter().actualStartTimeAsMilli(),
+                    operationHandlerRunnableContext.resultReporter().runDurationAsNano(),
+                    operationHandlerRunnableContextRetriever
+            );
+        }
+        catch ( Throwable e )
+        {
+            errorReporter.reportError( this,
+                    format( "Error retrieving handler\n%s", ConcurrentErrorReporter.stackTraceToString( e ) ) );
+        }
+        finally
+        {
+            uncompletedHandlers.decrementAndGet();
+            operationHandlerRunnableContext.cleanup();
+            if ( null != permits )
+            {
+                permits.release();
+            }
+        }
+    }
+}
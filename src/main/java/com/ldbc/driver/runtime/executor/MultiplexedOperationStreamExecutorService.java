@@ -0,0 +1,382 @@
+package com.ldbc.driver.runtime.executor;
+
+import com.ldbc.driver.Operation;
+import com.ldbc.driver.WorkloadStreams.WorkloadStreamDefinition;
+import com.ldbc.driver.runtime.ConcurrentErrorReporter;
+import com.ldbc.driver.runtime.coordination.CompletionTimeException;
+import com.ldbc.driver.runtime.coordination.CompletionTimeReader;
+import com.ldbc.driver.runtime.coordination.CompletionTimeWriter;
+import com.ldbc.driver.runtime.scheduling.Spinner;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+import static java.lang.String.format;
+
+/**
+ * Executes many operation streams on a fixed number of threads, rather than one thread per stream.
+ * <p>
+ * Every stream still executes one operation at a time, in order, but it only occupies a thread while one of its
+ * operations is executing. Idle streams are queued by the scheduled start time of their next operation, and threads
+ * take the stream with the earliest next operation whose dependencies are already met, i.e., Completion Time has
+ * reached its dependency time stamp. Completion Time may only reach that time once later operations (of other
+ * streams) complete, so a thread never holds a stream while it waits on Completion Time, it only waits for scheduled
+ * start times, and streams can not deadlock each other even when there are fewer threads than streams.
+ * <p>
+ * When no idle stream has its dependencies met, one thread waits for Completion Time to reach the lowest dependency
+ * time stamp among them, and wakes the other threads once it has.
+ * <p>
+ * With fewer threads than streams an operation may start late, when all threads are executing (or waiting for)
+ * earlier operations.
+ */
+public class MultiplexedOperationStreamExecutorService
+{
+    private static final long POLL_INTERVAL_WHILE_WAITING_FOR_LAST_HANDLER_TO_FINISH_AS_MILLI = 100;
+    private static final long POLL_INTERVAL_WHILE_WAITING_FOR_STREAM_AS_MILLI = 100;
+
+    private final ConcurrentErrorReporter errorReporter;
+    private final CompletionTimeReader completionTimeReader;
+    private final int threadCount;
+    private final List<StreamContext> streams = new ArrayList<>();
+    private final List<Thread> threads = new ArrayList<>();
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition streamReady = lock.newCondition();
+    // streams not currently held by a thread, guarded by lock
+    private final TreeSet<StreamContext> idleStreams = new TreeSet<>( new StreamContextComparator() );
+    private final AtomicInteger runningThreadCount = new AtomicInteger( 0 );
+    private final AtomicBoolean hasFinished = new AtomicBoolean( false );
+    private final AtomicBoolean forceThreadsToTerminate = new AtomicBoolean( false );
+    private final AtomicBoolean executing = new AtomicBoolean( false );
+    private final AtomicBoolean shutdown = new AtomicBoolean( false );
+    // streams that have operations left to execute, guarded by lock
+    private int unfinishedStreamCount = 0;
+    // lowest time a thread is waiting for Completion Time to reach, guarded by lock
+    private long lowestAwaitedCompletionTimeAsMilli = Long.MAX_VALUE;
+
+    public MultiplexedOperationStreamExecutorService( ConcurrentErrorReporter errorReporter,
+            CompletionTimeReader completionTimeReader,
+            int threadCount )
+    {
+        if ( threadCount < 1 )
+        {
+            throw new IllegalArgumentException( format( "Thread count must be positive: %s", threadCount ) );
+        }
+        this.errorReporter = errorReporter;
+        this.completionTimeReader = completionTimeReader;
+        this.threadCount = threadCount;
+    }
+
+    /**
+     * Must be called before execute()
+     */
+    synchronized public void addStream(
+            WorkloadStreamDefinition streamDefinition,
+            OperationExecutor operationExecutor,
+            CompletionTimeWriter completionTimeWriter )
+    {
+        if ( executing.get() )
+        {
+            throw new IllegalStateException( "Streams can not be added after execution has started" );
+        }
+        if ( streamDefinition.dependencyOperations().hasNext() || streamDefinition.nonDependencyOperations().hasNext() )
+        {
+            streams.add( new StreamContext(
+                    streams.size(),
+                    streamDefinition.dependentOperationTypes(),
+                    operationExecutor,
+                    new InitiatedTimeSubmittingOperationRetriever( streamDefinition, completionTimeWriter ) ) );
+        }
+    }
+
+    public int streamCount()
+    {
+        return streams.size();
+    }
+
+    synchronized public AtomicBoolean execute()
+    {
+        if ( executing.get() )
+        {
+            return hasFinished;
+        }
+        executing.set( true );
+        for ( StreamContext stream : streams )
+        {
+            try
+            {
+                // every stream has at least one operation, and submits its first initiated time here
+                stream.advance();
+            }
+            catch ( Throwable e )
+            {
+                errorReporter.reportError( this, ConcurrentErrorReporter.stackTraceToString( e ) );
+                hasFinished.set( true );
+                return hasFinished;
+            }
+            idleStreams.add( stream );
+        }
+        unfinishedStreamCount = streams.size();
+        if ( streams.isEmpty() )
+        {
+            hasFinished.set( true );
+            return hasFinished;
+        }
+        int carrierThreadCount = Math.min( threadCount, streams.size() );
+        runningThreadCount.set( carrierThreadCount );
+        for ( int i = 0; i < carrierThreadCount; i++ )
+        {
+            Thread thread = new MultiplexedOperationStreamExecutorServiceThread( i );
+            threads.add( thread );
+            thread.start();
+        }
+        return hasFinished;
+    }
+
+    synchronized public void shutdown( long shutdownWait ) throws OperationExecutorException
+    {
+        if ( shutdown.get() )
+        {
+            throw new OperationExecutorException( "Executor has already been shutdown" );
+        }
+        forceThreadsToTerminate.set( true );
+        lock.lock();
+        try
+        {
+            streamReady.signalAll();
+        }
+        finally
+        {
+            lock.unlock();
+        }
+        long endTimeAsMilli = System.currentTimeMillis() + shutdownWait;
+        for ( Thread thread : threads )
+        {
+            try
+            {
+                thread.join( Math.max( 1, endTimeAsMilli - System.currentTimeMillis() ) );
+            }
+            catch ( Exception e )
+            {
+                String errMsg = format( "Unexpected error encountered while shutting down thread\n%s",
+                        ConcurrentErrorReporter.stackTraceToString( e ) );
+                errorReporter.reportError( this, errMsg );
+            }
+        }
+        shutdown.set( true );
+    }
+
+    /**
+     * @return stream with earliest next operation that has its dependencies met, or null when no streams remain or
+     * termination was forced
+     */
+    private StreamContext takeStream() throws InterruptedException, CompletionTimeException
+    {
+        lock.lock();
+        try
+        {
+            while ( unfinishedStreamCount > 0 && !forceThreadsToTerminate.get() )
+            {
+                if ( idleStreams.isEmpty() )
+                {
+                    streamReady.await( POLL_INTERVAL_WHILE_WAITING_FOR_STREAM_AS_MILLI, TimeUnit.MILLISECONDS );
+                    continue;
+                }
+                long completionTimeAsMilli = completionTimeReader.completionTimeAsMilli();
+                long lowestDependencyTimeStamp = Long.MAX_VALUE;
+                for ( StreamContext stream : idleStreams )
+                {
+                    if ( stream.dependenciesMet( completionTimeAsMilli ) )
+                    {
+                        idleStreams.remove( stream );
+                        return stream;
+                    }
+                    lowestDependencyTimeStamp =
+                            Math.min( lowestDependencyTimeStamp, stream.nextOperation.dependencyTimeStamp() );
+                }
+                if ( lowestDependencyTimeStamp < lowestAwaitedCompletionTimeAsMilli )
+                {
+                    awaitCompletionTime( lowestDependencyTimeStamp );
+                }
+                else
+                {
+                    // woken when a stream is released, or by the thread that waits for Completion Time
+                    streamReady.await( POLL_INTERVAL_WHILE_WAITING_FOR_STREAM_AS_MILLI, TimeUnit.MILLISECONDS );
+                }
+            }
+            return null;
+        }
+        finally
+        {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Must be called while holding lock. Waits without holding it, so streams can still be released and taken.
+     */
+    private void awaitCompletionTime( long timeAsMilli ) throws CompletionTimeException
+    {
+        lowestAwaitedCompletionTimeAsMilli = timeAsMilli;
+        lock.unlock();
+        try
+        {
+            // --- BLOCKING CALL (until Completion Time reaches time, woken by Completion Time service) ---
+            completionTimeReader.awaitCompletionTimeAsMilli( timeAsMilli,
+                    POLL_INTERVAL_WHILE_WAITING_FOR_STREAM_AS_MILLI );
+        }
+        finally
+        {
+            lock.lock();
+            if ( lowestAwaitedCompletionTimeAsMilli == timeAsMilli )
+            {
+                lowestAwaitedCompletionTimeAsMilli = Long.MAX_VALUE;
+            }
+            streamReady.signalAll();
+        }
+    }
+
+    private void releaseStream( StreamContext stream, boolean hasNextOperation )
+    {
+        lock.lock();
+        try
+        {
+            if ( hasNextOperation )
+            {
+                idleStreams.add( stream );
+                streamReady.signal();
+            }
+            else
+            {
+                unfinishedStreamCount--;
+                if ( 0 == unfinishedStreamCount )
+                {
+                    streamReady.signalAll();
+                }
+            }
+        }
+        finally
+        {
+            lock.unlock();
+        }
+    }
+
+    private long uncompletedOperationHandlerCount()
+    {
+        long uncompletedOperationHandlerCount = 0;
+        for ( StreamContext stream : streams )
+        {
+            uncompletedOperationHandlerCount += stream.operationExecutor.uncompletedOperationHandlerCount();
+        }
+        return uncompletedOperationHandlerCount;
+    }
+
+    private class MultiplexedOperationStreamExecutorServiceThread extends Thread
+    {
+        private MultiplexedOperationStreamExecutorServiceThread( int id )
+        {
+            super( MultiplexedOperationStreamExecutorServiceThread.class.getSimpleName() + "-" + id + "-" +
+                   System.currentTimeMillis() );
+        }
+
+        @Override
+        public void run()
+        {
+            try
+            {
+                StreamContext stream;
+                while ( null != (stream = takeStream()) )
+                {
+                    boolean hasNextOperation = false;
+                    try
+                    {
+                        // --- BLOCKING CALL (until scheduled start time and dependencies are met) ---
+                        stream.operationExecutor.execute( stream.nextOperation );
+                        hasNextOperation = stream.advance();
+                    }
+                    catch ( Throwable e )
+                    {
+                        errorReporter.reportError( this, ConcurrentErrorReporter.stackTraceToString( e ) );
+                    }
+                    finally
+                    {
+                        releaseStream( stream, hasNextOperation );
+                    }
+                }
+            }
+            catch ( Throwable e )
+            {
+                errorReporter.reportError( this, ConcurrentErrorReporter.stackTraceToString( e ) );
+            }
+            finally
+            {
+                if ( 0 == runningThreadCount.decrementAndGet() )
+                {
+                    while ( 0 < uncompletedOperationHandlerCount() && !forceThreadsToTerminate.get() )
+                    {
+                        Spinner.powerNap( POLL_INTERVAL_WHILE_WAITING_FOR_LAST_HANDLER_TO_FINISH_AS_MILLI );
+                    }
+                    hasFinished.set( true );
+                }
+            }
+        }
+    }
+
+    private static class StreamContext
+    {
+        private final int id;
+        private final Set<Class<? extends Operation>> dependentOperationTypes;
+        private final OperationExecutor operationExecutor;
+        private final InitiatedTimeSubmittingOperationRetriever operationRetriever;
+        private Operation nextOperation = null;
+
+        private StreamContext( int id,
+                Set<Class<? extends Operation>> dependentOperationTypes,
+                OperationExecutor operationExecutor,
+                InitiatedTimeSubmittingOperationRetriever operationRetriever )
+        {
+            this.id = id;
+            this.dependentOperationTypes = dependentOperationTypes;
+            this.operationExecutor = operationExecutor;
+            this.operationRetriever = operationRetriever;
+        }
+
+        private boolean dependenciesMet( long completionTimeAsMilli )
+        {
+            return !dependentOperationTypes.contains( nextOperation.getClass() ) ||
+                   completionTimeAsMilli >= nextOperation.dependencyTimeStamp();
+        }
+
+        private boolean advance() throws OperationExecutorException, CompletionTimeException
+        {
+            if ( operationRetriever.hasNextOperation() )
+            {
+                nextOperation = operationRetriever.nextOperation();
+                return true;
+            }
+            else
+            {
+                nextOperation = null;
+                return false;
+            }
+        }
+    }
+
+    private static class StreamContextComparator implements Comparator<StreamContext>
+    {
+        @Override
+        public int compare( StreamContext stream1, StreamContext stream2 )
+        {
+            int timeStampComparison =
+                    Long.compare( stream1.nextOperation.timeStamp(), stream2.nextOperation.timeStamp() );
+            return (0 != timeStampComparison) ? timeStampComparison : Integer.compare( stream1.id, stream2.id );
+        }
+    }
+}
@@ -1,6 +1,7 @@
 package com.ldbc.driver.runtime.executor;
 
 import com.ldbc.driver.Operation;
+import com.ldbc.driver.runtime.metrics.ContinuousMetricSnapshot;
 
 public interface OperationExecutor {
     /**
@@ -18,4 +19,33 @@ public interface OperationExecutor {
     public void shutdown(long waitAsMilli) throws OperationExecutorException;
 
     public long uncompletedOperationHandlerCount();
+
+    /**
+     * @return number of uncompleted operations that are waiting for their scheduled start time or for a free worker
+     */
+    default long queuedOperationCount() {
+        return 0;
+    }
+
+    /**
+     * @return maximum number of operation handlers the executor runs concurrently
+     */
+    default int workerCount() {
+        return 1;
+    }
+
+    /**
+     * @return time the feeding thread was blocked in execute(), waiting for the executor to have room,
+     * or null if execute() never waits for room
+     */
+    default ContinuousMetricSnapshot feederBlockedSnapshot() {
+        return null;
+    }
+
+    /**
+     * @return queued operation count, sampled whenever an operation is submitted, or null if the executor has no queue
+     */
+    default ContinuousMetricSnapshot queueDepthSnapshot() {
+        return null;
+    }
 }
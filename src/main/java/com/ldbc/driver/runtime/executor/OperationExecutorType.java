@@ -0,0 +1,7 @@
+package com.ldbc.driver.runtime.executor;
+
+public enum OperationExecutorType
+{
+    THREAD_POOL,
+    VIRTUAL_THREAD
+}
@@ -9,6 +9,7 @@ import com.ldbc.driver.runtime.ConcurrentErrorReporter;
 import com.ldbc.driver.runtime.coordination.CompletionTimeReader;
 import com.ldbc.driver.runtime.coordination.CompletionTimeWriter;
 import com.ldbc.driver.runtime.metrics.MetricsService;
+import com.ldbc.driver.runtime.metrics.StreamMetricsManager;
 import com.ldbc.driver.runtime.scheduling.Spinner;
 import com.ldbc.driver.temporal.TimeSource;
 
@@ -22,6 +23,7 @@ public class SameThreadOperationExecutor implements OperationExecutor
     private final OperationHandlerRunnableContextRetriever operationHandlerRunnableContextRetriever;
     private final ChildOperationGenerator childOperationGenerator;
     private final ChildOperationExecutor childOperationExecutor;
+    private final StreamMetricsManager streamMetrics = new StreamMetricsManager();
 
     public SameThreadOperationExecutor( Db db,
             WorkloadStreams.WorkloadStreamDefinition streamDefinition,
@@ -56,6 +58,14 @@ public class SameThreadOperationExecutor implements OperationExecutor
             operationHandlerRunnableContext =
                     operationHandlerRunnableContextRetriever.getInitializedHandlerFor( operation );
             operationHandlerRunnableContext.run();
+            // run duration is not known for operations that were skipped, failed, or complete asynchronously
+            if ( operationHandlerRunnableContext.resultReporter().runDurationAsNano() >= 0 )
+            {
+                streamMetrics.measure(
+                        operationHandlerRunnableContext.resultReporter().actualStartTimeAsMilli(),
+                        operationHandlerRunnableContext.resultReporter().runDurationAsNano()
+                );
+            }
             childOperationExecutor.execute(
                     childOperationGenerator,
                     operationHandlerRunnableContext.operation(),
@@ -93,4 +103,13 @@ public class SameThreadOperationExecutor implements OperationExecutor
     {
         return uncompletedHandlers.get();
     }
+
+    /**
+     * Metrics of the operations of the stream this executor executes, excluding child operations.
+     * Only read them after the stream has been executed.
+     */
+    public StreamMetricsManager streamMetrics()
+    {
+        return streamMetrics;
+    }
 }
@@ -9,6 +9,7 @@ import com.ldbc.driver.runtime.ConcurrentErrorReporter;
 import com.ldbc.driver.runtime.DefaultQueues;
 import com.ldbc.driver.runtime.coordination.CompletionTimeReader;
 import com.ldbc.driver.runtime.coordination.CompletionTimeWriter;
+import com.ldbc.driver.runtime.metrics.ContinuousMetricSnapshot;
 import com.ldbc.driver.runtime.metrics.MetricsService;
 import com.ldbc.driver.runtime.scheduling.Spinner;
 import com.ldbc.driver.temporal.TimeSource;
@@ -16,6 +17,9 @@ import com.ldbc.driver.temporal.TimeSource;
 import java.util.List;
 import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
 import java.util.concurrent.ThreadFactory;
 import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
@@ -27,9 +31,19 @@ import static java.lang.String.format;
 public class ThreadPoolOperationExecutor implements OperationExecutor
 {
     private final ExecutorService threadPoolExecutorService;
+    // completes asynchronous handlers, separate from the worker pool, which counts every task as a pending operation
+    private final ExecutorService completionExecutorService;
     private final AtomicLong uncompletedHandlers = new AtomicLong( 0 );
     private final AtomicBoolean shutdown = new AtomicBoolean( false );
     private final OperationHandlerRunnableContextRetriever operationHandlerRunnableContextRetriever;
+    private final HandlerCompletionListener handlerCompletionListener;
+    private final Spinner spinner;
+    private final ConcurrentErrorReporter errorReporter;
+    // bounds the number of operations waiting for their scheduled start time or for a free worker thread
+    private final Semaphore pendingOperationPermits;
+    private final BackPressureMetrics backPressureMetrics;
+    private final int boundedQueueSize;
+    private final int threadCount;
 
     public ThreadPoolOperationExecutor( int threadCount,
             int boundedQueueSize,
@@ -53,9 +67,38 @@ public class ThreadPoolOperationExecutor implements OperationExecutor
                 errorReporter,
                 metricsService
         );
-        ThreadFactory threadFactory = new ThreadFactory()
+        long factoryTimeStampId = System.currentTimeMillis();
+        ThreadFactory threadFactory = threadFactory( factoryTimeStampId, "thread" );
+        this.completionExecutorService =
+                Executors.newFixedThreadPool( threadCount, threadFactory( factoryTimeStampId, "completion-thread" ) );
+        // pending operation permits are released when a worker takes the operation, not on completion
+        this.handlerCompletionListener = new HandlerCompletionListener(
+                uncompletedHandlers,
+                null,
+                childOperationGenerator,
+                operationHandlerRunnableContextRetriever,
+                errorReporter,
+                completionExecutorService
+        );
+        this.spinner = spinner;
+        this.errorReporter = errorReporter;
+        this.pendingOperationPermits = new Semaphore( boundedQueueSize );
+        this.backPressureMetrics = new BackPressureMetrics( boundedQueueSize );
+        this.boundedQueueSize = boundedQueueSize;
+        this.threadCount = threadCount;
+        this.threadPoolExecutorService = ThreadPoolExecutorWithAfterExecute.newFixedThreadPool(
+                threadCount,
+                threadFactory,
+                boundedQueueSize,
+                handlerCompletionListener,
+                pendingOperationPermits
+        );
+    }
+
+    private static ThreadFactory threadFactory( final long factoryTimeStampId, final String threadType )
+    {
+        return new ThreadFactory()
         {
-            private final long factoryTimeStampId = System.currentTimeMillis();
             int count = 0;
 
             @Override
@@ -64,33 +107,43 @@ public class ThreadPoolOperationExecutor implements OperationExecutor
                 return new Thread(
                         runnable,
                         ThreadPoolOperationExecutor.class.getSimpleName() + "-id(" + factoryTimeStampId + ")" +
-                        "-thread(" + count++ + ")"
+                        "-" + threadType + "(" + count++ + ")"
                 );
             }
         };
-        this.threadPoolExecutorService = ThreadPoolExecutorWithAfterExecute.newFixedThreadPool(
-                threadCount,
-                threadFactory,
-                uncompletedHandlers,
-                boundedQueueSize,
-                childOperationGenerator,
-                operationHandlerRunnableContextRetriever,
-                errorReporter
-        );
     }
 
     @Override
     public final void execute( Operation operation ) throws OperationExecutorException
     {
         uncompletedHandlers.incrementAndGet();
+        boolean permitAcquired = false;
         try
         {
+            // --- BLOCKING CALL (when too many operations are pending) ---
+            backPressureMetrics.acquire( pendingOperationPermits );
+            permitAcquired = true;
+            backPressureMetrics.recordQueueDepth( queuedOperationCount() );
             OperationHandlerRunnableContext operationHandlerRunnableContext =
                     operationHandlerRunnableContextRetriever.getInitializedHandlerFor( operation );
-            threadPoolExecutorService.execute( operationHandlerRunnableContext );
+            operationHandlerRunnableContext.setAsynchronousCompletionListener( handlerCompletionListener );
+            // post-execution work of asynchronous handlers is done by the completion listener, not by afterExecute()
+            Runnable runnable = (operationHandlerRunnableContext.executesAsynchronously())
+                                ? new AsynchronousHandlerRunnable( operationHandlerRunnableContext )
+                                : operationHandlerRunnableContext;
+            // operation is handed to the thread pool at its scheduled start time, so worker threads do not wait
+            spinner.executeAtScheduledStartTime(
+                    operation,
+                    new DispatchToThreadPool( operationHandlerRunnableContext, runnable )
+            );
         }
         catch ( Throwable e )
         {
+            uncompletedHandlers.decrementAndGet();
+            if ( permitAcquired )
+            {
+                pendingOperationPermits.release();
+            }
             throw new OperationExecutorException(
                     format( "Error retrieving handler\nOperation: %s\n%s",
                             operation,
@@ -108,9 +161,16 @@ public class ThreadPoolOperationExecutor implements OperationExecutor
         }
         try
         {
+            long startTimeAsMilli = System.currentTimeMillis();
             threadPoolExecutorService.shutdown();
             boolean allHandlersCompleted =
                     threadPoolExecutorService.awaitTermination( waitAsMilli, TimeUnit.MILLISECONDS );
+            // completions already queued still run, asynchronous handlers that complete after this are completed by
+            // the thread that completed them
+            completionExecutorService.shutdown();
+            allHandlersCompleted = allHandlersCompleted && completionExecutorService.awaitTermination(
+                    Math.max( 0, waitAsMilli - (System.currentTimeMillis() - startTimeAsMilli) ),
+                    TimeUnit.MILLISECONDS );
             if ( !allHandlersCompleted )
             {
                 List<Runnable> stillRunningThreads = threadPoolExecutorService.shutdownNow();
@@ -142,20 +202,89 @@ public class ThreadPoolOperationExecutor implements OperationExecutor
         return uncompletedHandlers.get();
     }
 
+    // permits are held from execute() until a worker thread takes the operation
+    @Override
+    public long queuedOperationCount()
+    {
+        return boundedQueueSize - pendingOperationPermits.availablePermits();
+    }
+
+    @Override
+    public int workerCount()
+    {
+        return threadCount;
+    }
+
+    @Override
+    public ContinuousMetricSnapshot feederBlockedSnapshot()
+    {
+        return backPressureMetrics.feederBlockedSnapshot();
+    }
+
+    @Override
+    public ContinuousMetricSnapshot queueDepthSnapshot()
+    {
+        return backPressureMetrics.queueDepthSnapshot();
+    }
+
+    private class DispatchToThreadPool implements Runnable
+    {
+        private final OperationHandlerRunnableContext operationHandlerRunnableContext;
+        private final Runnable runnable;
+
+        private DispatchToThreadPool( OperationHandlerRunnableContext operationHandlerRunnableContext,
+                Runnable runnable )
+        {
+            this.operationHandlerRunnableContext = operationHandlerRunnableContext;
+            this.runnable = runnable;
+        }
+
+        // does not block, number of pending operations never exceeds the work queue bound
+        @Override
+        public void run()
+        {
+            try
+            {
+                threadPoolExecutorService.execute( runnable );
+            }
+            catch ( RejectedExecutionException e )
+            {
+                pendingOperationPermits.release();
+                uncompletedHandlers.decrementAndGet();
+                operationHandlerRunnableContext.cleanup();
+                errorReporter.reportError( this,
+                        format( "Executor shutdown before operation could be executed\nOperation: %s",
+                                operationHandlerRunnableContext.operation() ) );
+            }
+        }
+    }
+
+    private static class AsynchronousHandlerRunnable implements Runnable
+    {
+        private final OperationHandlerRunnableContext operationHandlerRunnableContext;
+
+        private AsynchronousHandlerRunnable( OperationHandlerRunnableContext operationHandlerRunnableContext )
+        {
+            this.operationHandlerRunnableContext = operationHandlerRunnableContext;
+        }
+
+        @Override
+        public void run()
+        {
+            operationHandlerRunnableContext.run();
+        }
+    }
+
     private static class ThreadPoolExecutorWithAfterExecute extends ThreadPoolExecutor
     {
-        private final ChildOperationGenerator childOperationGenerator;
-        private final ChildOperationExecutor childOperationExecutor;
-        private final OperationHandlerRunnableContextRetriever operationHandlerRunnableContextRetriever;
-        private final ConcurrentErrorReporter errorReporter;
+        private final HandlerCompletionListener handlerCompletionListener;
+        private final Semaphore pendingOperationPermits;
 
         static ThreadPoolExecutorWithAfterExecute newFixedThreadPool( int threadCount,
                 ThreadFactory threadFactory,
-                AtomicLong uncompletedHandlers,
                 int boundedQueueSize,
-                ChildOperationGenerator childOperationGenerator,
-                OperationHandlerRunnableContextRetriever operationHandlerRunnableContextInitializer,
-                ConcurrentErrorReporter errorReporter )
+                HandlerCompletionListener handlerCompletionListener,
+                Semaphore pendingOperationPermits )
         {
             int corePoolSize = threadCount;
             int maximumPoolSize = threadCount;
@@ -169,32 +298,30 @@ public class ThreadPoolOperationExecutor implements OperationExecutor
                     unit,
                     workQueue,
                     threadFactory,
-                    uncompletedHandlers,
-                    childOperationGenerator,
-                    operationHandlerRunnableContextInitializer,
-                    errorReporter
+                    handlerCompletionListener,
+                    pendingOperationPermits
             );
         }
 
-        private final AtomicLong uncompletedHandlers;
-
         private ThreadPoolExecutorWithAfterExecute( int corePoolSize,
                 int maximumPoolSize,
                 long keepAliveTime,
                 TimeUnit unit,
                 BlockingQueue<Runnable> workQueue,
                 ThreadFactory threadFactory,
-                AtomicLong uncompletedHandlers,
-                ChildOperationGenerator childOperationGenerator,
-                OperationHandlerRunnableContextRetriever operationHandlerRunnableContextRetriever,
-                ConcurrentErrorReporter errorReporter )
+                HandlerCompletionListener handlerCompletionListener,
+                Semaphore pendingOperationPermits )
         {
             super( corePoolSize, maximumPoolSize, keepAliveTime, unit, workQueue, threadFactory );
-            this.childOperationExecutor = new ChildOperationExecutor();
-            this.uncompletedHandlers = uncompletedHandlers;
-            this.childOperationGenerator = childOperationGenerator;
-            this.operationHandlerRunnableContextRetriever = operationHandlerRunnableContextRetriever;
-            this.errorReporter = errorReporter;
+            this.handlerCompletionListener = handlerCompletionListener;
+            this.pendingOperationPermits = pendingOperationPermits;
+        }
+
+        @Override
+        protected void beforeExecute( Thread thread, Runnable runnable )
+        {
+            super.beforeExecute( thread, runnable );
+            pendingOperationPermits.release();
         }
 
         // Note, this occurs in same worker thread as beforeExecute() and run()
@@ -202,28 +329,10 @@ public class ThreadPoolOperationExecutor implements OperationExecutor
         protected void afterExecute( Runnable runnable, Throwable throwable )
         {
             super.afterExecute( runnable, throwable );
-            OperationHandlerRunnableContext operationHandlerRunnableContext =
-                    (OperationHandlerRunnableContext) runnable;
-            try
-            {
-                childOperationExecutor.execute(
-                        childOperationGenerator,
-                        operationHandlerRunnableContext.operation(),
-                        operationHandlerRunnableContext.resultReporter().result(),
-                        operationHandlerRunnableContext.resultReporter().actualStartTimeAsMilli(),
-                        operationHandlerRunnableContext.resultReporter().runDurationAsNano(),
-                        operationHandlerRunnableContextRetriever
-                );
-            }
-            catch ( Throwable e )
+            // asynchronous handlers notify the completion listener themselves
+            if ( runnable instanceof OperationHandlerRunnableContext )
             {
-                errorReporter.reportError( this,
-                        format( "Error retrieving handler\n%s", ConcurrentErrorReporter.stackTraceToString( e ) ) );
-            }
-            finally
-            {
-                uncompletedHandlers.decrementAndGet();
-                operationHandlerRunnableContext.cleanup();
+                handlerCompletionListener.onCompletion( (OperationHandlerRunnableContext) runnable );
             }
         }
     }
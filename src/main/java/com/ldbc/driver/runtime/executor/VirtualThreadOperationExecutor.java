@@ -0,0 +1,224 @@
+package com.ldbc.driver.runtime.executor;
+
+import com.ldbc.driver.ChildOperationGenerator;
+import com.ldbc.driver.Db;
+import com.ldbc.driver.Operation;
+import com.ldbc.driver.OperationHandlerRunnableContext;
+import com.ldbc.driver.WorkloadStreams;
+import com.ldbc.driver.runtime.ConcurrentErrorReporter;
+import com.ldbc.driver.runtime.coordination.CompletionTimeReader;
+import com.ldbc.driver.runtime.coordination.CompletionTimeWriter;
+import com.ldbc.driver.runtime.metrics.ContinuousMetricSnapshot;
+import com.ldbc.driver.runtime.metrics.MetricsService;
+import com.ldbc.driver.runtime.scheduling.Spinner;
+import com.ldbc.driver.temporal.TimeSource;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static java.lang.String.format;
+
+/**
+ * Executes every operation handler on its own thread, at most maxConcurrency handlers at any time.
+ * <p>
+ * On runtimes that support virtual threads (Java 21+) handler threads are virtual, so handlers that block in
+ * Spinner or in a database client do not pin platform threads, and maxConcurrency can be in the thousands.
+ * On older runtimes it falls back to one platform thread per handler.
+ * <p>
+ * When maxConcurrency handlers are in flight execute() blocks, applying back pressure to the stream feeder.
+ */
+public class VirtualThreadOperationExecutor implements OperationExecutor
+{
+    private final ThreadFactory threadFactory;
+    private final boolean virtualThreads;
+    private final int maxConcurrency;
+    private final Semaphore permits;
+    // handlers start as soon as they are submitted, there is no queue
+    private final BackPressureMetrics backPressureMetrics = new BackPressureMetrics( 0 );
+    private final AtomicLong uncompletedHandlers = new AtomicLong( 0 );
+    private final AtomicBoolean shutdown = new AtomicBoolean( false );
+    private final OperationHandlerRunnableContextRetriever operationHandlerRunnableContextRetriever;
+    private final HandlerCompletionListener handlerCompletionListener;
+
+    public VirtualThreadOperationExecutor( int maxConcurrency,
+            Db db,
+            WorkloadStreams.WorkloadStreamDefinition streamDefinition,
+            CompletionTimeWriter completionTimeWriter,
+            CompletionTimeReader completionTimeReader,
+            Spinner spinner,
+            TimeSource timeSource,
+            ConcurrentErrorReporter errorReporter,
+            MetricsService metricsService,
+            ChildOperationGenerator childOperationGenerator )
+    {
+        this.operationHandlerRunnableContextRetriever = new OperationHandlerRunnableContextRetriever(
+                streamDefinition,
+                db,
+                completionTimeWriter,
+                completionTimeReader,
+                spinner,
+                timeSource,
+                errorReporter,
+                metricsService
+        );
+        String threadNamePrefix = getClass().getSimpleName() + "-id(" + System.currentTimeMillis() + ")-thread";
+        ThreadFactory virtualThreadFactory = virtualThreadFactoryOrNull( threadNamePrefix );
+        this.virtualThreads = null != virtualThreadFactory;
+        this.threadFactory = (virtualThreads) ? virtualThreadFactory : platformThreadFactory( threadNamePrefix );
+        this.maxConcurrency = maxConcurrency;
+        this.permits = new Semaphore( maxConcurrency );
+        this.handlerCompletionListener = new HandlerCompletionListener(
+                uncompletedHandlers,
+                permits,
+                childOperationGenerator,
+                operationHandlerRunnableContextRetriever,
+                errorReporter,
+                // asynchronous handlers complete on a new handler thread, it already holds the permit of the handler
+                new Executor()
+                {
+                    @Override
+                    public void execute( Runnable runnable )
+                    {
+                        threadFactory.newThread( runnable ).start();
+                    }
+                }
+        );
+    }
+
+    public boolean usesVirtualThreads()
+    {
+        return virtualThreads;
+    }
+
+    @Override
+    public final void execute( Operation operation ) throws OperationExecutorException
+    {
+        if ( shutdown.get() )
+        {
+            throw new OperationExecutorException( "Executor has already been shutdown" );
+        }
+        try
+        {
+            backPressureMetrics.acquire( permits );
+        }
+        catch ( InterruptedException e )
+        {
+            Thread.currentThread().interrupt();
+            throw new OperationExecutorException(
+                    format( "Interrupted while waiting to execute operation\nOperation: %s", operation ), e );
+        }
+        uncompletedHandlers.incrementAndGet();
+        try
+        {
+            final OperationHandlerRunnableContext operationHandlerRunnableContext =
+                    operationHandlerRunnableContextRetriever.getInitializedHandlerFor( operation );
+            operationHandlerRunnableContext.setAsynchronousCompletionListener( handlerCompletionListener );
+            final boolean asynchronous = operationHandlerRunnableContext.executesAsynchronously();
+            threadFactory.newThread( new Runnable()
+            {
+                @Override
+                public void run()
+                {
+                    operationHandlerRunnableContext.run();
+                    // asynchronous handlers notify the completion listener themselves
+                    if ( !asynchronous )
+                    {
+                        handlerCompletionListener.onCompletion( operationHandlerRunnableContext );
+                    }
+                }
+            } ).start();
+        }
+        catch ( Throwable e )
+        {
+            uncompletedHandlers.decrementAndGet();
+            permits.release();
+            throw new OperationExecutorException(
+                    format( "Error retrieving handler\nOperation: %s\n%s",
+                            operation,
+                            ConcurrentErrorReporter.stackTraceToString( e ) ),
+                    e );
+        }
+    }
+
+    @Override
+    synchronized public final void shutdown( long waitAsMilli ) throws OperationExecutorException
+    {
+        if ( shutdown.getAndSet( true ) )
+        {
+            throw new OperationExecutorException( "Executor has already been shutdown" );
+        }
+        try
+        {
+            // all permits are returned once every handler has completed
+            boolean allHandlersCompleted = permits.tryAcquire( maxConcurrency, waitAsMilli, TimeUnit.MILLISECONDS );
+            if ( !allHandlersCompleted )
+            {
+                throw new OperationExecutorException(
+                        format( "%s shutdown before all handlers could complete\n%s handlers were mid-execution",
+                                getClass().getSimpleName(),
+                                uncompletedHandlers.get() ) );
+            }
+        }
+        catch ( InterruptedException e )
+        {
+            Thread.currentThread().interrupt();
+            throw new OperationExecutorException( "Interrupted while trying to shutdown", e );
+        }
+    }
+
+    @Override
+    public long uncompletedOperationHandlerCount()
+    {
+        return uncompletedHandlers.get();
+    }
+
+    @Override
+    public int workerCount()
+    {
+        return maxConcurrency;
+    }
+
+    @Override
+    public ContinuousMetricSnapshot feederBlockedSnapshot()
+    {
+        return backPressureMetrics.feederBlockedSnapshot();
+    }
+
+    // Thread.ofVirtual() is looked up reflectively, as the driver is compiled for Java 8
+    private static ThreadFactory virtualThreadFactoryOrNull( String threadNamePrefix )
+    {
+        try
+        {
+            Method ofVirtual = Thread.class.getMethod( "ofVirtual" );
+            Class<?> builderClass = Class.forName( "java.lang.Thread$Builder" );
+            Object builder = ofVirtual.invoke( null );
+            builder = builderClass.getMethod( "name", String.class, long.class )
+                    .invoke( builder, threadNamePrefix + "-", 0L );
+            return (ThreadFactory) builderClass.getMethod( "factory" ).invoke( builder );
+        }
+        catch ( Exception e )
+        {
+            // not available (pre Java 21), or only available as a preview feature
+            return null;
+        }
+    }
+
+    private static ThreadFactory platformThreadFactory( final String threadNamePrefix )
+    {
+        return new ThreadFactory()
+        {
+            private final AtomicLong count = new AtomicLong( 0 );
+
+            @Override
+            public Thread newThread( Runnable runnable )
+            {
+                return new Thread( runnable, threadNamePrefix + "(" + count.getAndIncrement() + ")" );
+            }
+        };
+    }
+}
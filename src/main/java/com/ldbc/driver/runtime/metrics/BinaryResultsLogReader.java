@@ -0,0 +1,351 @@
+package com.ldbc.driver.runtime.metrics;
+
+import com.ldbc.driver.temporal.TemporalUtil;
+
+import java.io.BufferedInputStream;
+import java.io.DataInputStream;
+import java.io.EOFException;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.DataFormatException;
+import java.util.zip.Inflater;
+
+import static com.ldbc.driver.runtime.metrics.BinaryResultsLogWriter.DICTIONARY_ENTRY;
+import static com.ldbc.driver.runtime.metrics.BinaryResultsLogWriter.MAGIC;
+import static com.ldbc.driver.runtime.metrics.BinaryResultsLogWriter.VERSION;
+import static java.lang.String.format;
+
+/**
+ * Reads results logs written by BinaryResultsLogWriter.
+ * <p>
+ * Start times and durations are returned at the resolution of the timestamp and duration units the log was written
+ * with, i.e., the same values SimpleResultsLogReader returns for the equivalent csv results log.
+ */
+public class BinaryResultsLogReader implements ResultsLogReader
+{
+    private static final int BUFFER_SIZE = 1024 * 1024;
+
+    private final DataInputStream in;
+    private final TimeUnit unit;
+    private final TimeUnit timestampUnit;
+    private final List<String> operationNames = new ArrayList<>();
+    private boolean hasRow = false;
+    private int operationId;
+    private long scheduledStartTimeAsNano;
+    private long actualStartTimeAsNano;
+    private long runDurationAsNano;
+    private int resultCode;
+    private long originalStartTime;
+
+    /**
+     * @return true if the file starts with the binary results log header, false if it is, e.g., a csv results log
+     */
+    public static boolean isBinaryResultsLog( File resultsLog ) throws IOException
+    {
+        try ( DataInputStream header = new DataInputStream( new FileInputStream( resultsLog ) ) )
+        {
+            return header.readInt() == MAGIC;
+        }
+        catch ( EOFException e )
+        {
+            return false;
+        }
+    }
+
+    /**
+     * Writes a binary results log as the csv results log SimpleResultsLogWriter would have written
+     *
+     * @return number of results exported
+     */
+    public static long exportToCsv( File binaryResultsLog, File csvResultsLog ) throws Exception
+    {
+        long resultCount = 0;
+        try ( BinaryResultsLogReader reader = new BinaryResultsLogReader( binaryResultsLog );
+              SimpleResultsLogWriter writer =
+                      new SimpleResultsLogWriter( csvResultsLog, reader.unit(), reader.timestampUnit() ) )
+        {
+            while ( reader.next() )
+            {
+                writer.writeAsNano(
+                        reader.getOperationName(),
+                        reader.getScheduledStartTimeAsNano(),
+                        reader.getActualStartTimeAsNano(),
+                        reader.getRunDurationAsNano(),
+                        reader.getResultCode(),
+                        reader.getOriginalStartTime() );
+                resultCount++;
+            }
+        }
+        return resultCount;
+    }
+
+    public BinaryResultsLogReader( File resultsLog ) throws IOException
+    {
+        InputStream fileIn = new FileInputStream( resultsLog );
+        DataInputStream header = new DataInputStream( fileIn );
+        try
+        {
+            int magic = header.readInt();
+            if ( magic != MAGIC )
+            {
+                throw new IOException( format( "Not a binary results log: %s", resultsLog.getAbsolutePath() ) );
+            }
+            int version = header.readInt();
+            if ( version != VERSION )
+            {
+                throw new IOException( format( "Unsupported binary results log version %s, expected %s\nFile: %s",
+                        version, VERSION, resultsLog.getAbsolutePath() ) );
+            }
+            boolean compressed = header.readByte() == 1;
+            this.unit = TimeUnit.values()[header.readByte()];
+            this.timestampUnit = TimeUnit.values()[header.readByte()];
+            this.in = new DataInputStream( (compressed)
+                                           ? new BufferedInputStream( new InflatingInputStream( fileIn ), BUFFER_SIZE )
+                                           : new BufferedInputStream( fileIn, BUFFER_SIZE ) );
+        }
+        catch ( IOException e )
+        {
+            fileIn.close();
+            throw e;
+        }
+    }
+
+    @Override
+    public boolean next()
+    {
+        try
+        {
+            while ( true )
+            {
+                int entryType;
+                try
+                {
+                    entryType = in.readInt();
+                }
+                catch ( EOFException e )
+                {
+                    hasRow = false;
+                    return false;
+                }
+                if ( DICTIONARY_ENTRY == entryType )
+                {
+                    int id = in.readInt();
+                    byte[] nameBytes = new byte[in.readShort()];
+                    in.readFully( nameBytes );
+                    if ( id != operationNames.size() )
+                    {
+                        throw new IOException( format( "Expected operation id %s but found %s",
+                                operationNames.size(), id ) );
+                    }
+                    operationNames.add( new String( nameBytes, StandardCharsets.UTF_8 ) );
+                }
+                else
+                {
+                    operationId = entryType;
+                    scheduledStartTimeAsNano = in.readLong();
+                    actualStartTimeAsNano = in.readLong();
+                    runDurationAsNano = in.readLong();
+                    resultCode = in.readInt();
+                    originalStartTime = in.readLong();
+                    hasRow = true;
+                    return true;
+                }
+            }
+        }
+        catch ( IOException e )
+        {
+            throw new RuntimeException( "Error encountered while reading binary results log", e );
+        }
+    }
+
+    @Override
+    public TimeUnit unit()
+    {
+        return unit;
+    }
+
+    @Override
+    public TimeUnit timestampUnit()
+    {
+        return timestampUnit;
+    }
+
+    @Override
+    public String getOperationName()
+    {
+        assertHasRow();
+        return operationNames.get( operationId );
+    }
+
+    @Override
+    public long getScheduledStartTimeAsMilli()
+    {
+        assertHasRow();
+        return timestampUnit.toMillis( TemporalUtil.nanoTimeToRoundedUnit( scheduledStartTimeAsNano, timestampUnit ) );
+    }
+
+    @Override
+    public long getActualStartTimeAsMilli()
+    {
+        assertHasRow();
+        return timestampUnit.toMillis( TemporalUtil.nanoTimeToRoundedUnit( actualStartTimeAsNano, timestampUnit ) );
+    }
+
+    @Override
+    public long getScheduledStartTimeAsNano()
+    {
+        assertHasRow();
+        return timestampUnit.toNanos( TemporalUtil.nanoTimeToRoundedUnit( scheduledStartTimeAsNano, timestampUnit ) );
+    }
+
+    @Override
+    public long getActualStartTimeAsNano()
+    {
+        assertHasRow();
+        return timestampUnit.toNanos( TemporalUtil.nanoTimeToRoundedUnit( actualStartTimeAsNano, timestampUnit ) );
+    }
+
+    @Override
+    public long getRunDurationAsNano()
+    {
+        assertHasRow();
+        return unit.toNanos( unit.convert( runDurationAsNano, TimeUnit.NANOSECONDS ) );
+    }
+
+    @Override
+    public int getResultCode()
+    {
+        assertHasRow();
+        return resultCode;
+    }
+
+    @Override
+    public long getOriginalStartTime()
+    {
+        assertHasRow();
+        return originalStartTime;
+    }
+
+    private void assertHasRow()
+    {
+        if ( false == hasRow )
+        {
+            throw new RuntimeException( "Nothing to read. Reader has not been advanced or has reached EOF." );
+        }
+    }
+
+    @Override
+    public void close() throws Exception
+    {
+        in.close();
+    }
+
+    /**
+     * Inflates the blocks of a compressed results log body, one block at a time
+     */
+    private static class InflatingInputStream extends InputStream
+    {
+        private final DataInputStream blocks;
+        private final Inflater inflater = new Inflater();
+        private byte[] compressed = new byte[0];
+        private byte[] block = new byte[0];
+        private int blockLength = 0;
+        private int position = 0;
+
+        private InflatingInputStream( InputStream in )
+        {
+            this.blocks = new DataInputStream( new BufferedInputStream( in, BUFFER_SIZE ) );
+        }
+
+        private boolean nextBlock() throws IOException
+        {
+            int uncompressedLength;
+            try
+            {
+                uncompressedLength = blocks.readInt();
+            }
+            catch ( EOFException e )
+            {
+                return false;
+            }
+            int compressedLength = blocks.readInt();
+            if ( compressed.length < compressedLength )
+            {
+                compressed = new byte[compressedLength];
+            }
+            if ( block.length < uncompressedLength )
+            {
+                block = new byte[uncompressedLength];
+            }
+            blocks.readFully( compressed, 0, compressedLength );
+            inflater.reset();
+            inflater.setInput( compressed, 0, compressedLength );
+            try
+            {
+                int inflatedLength = 0;
+                while ( inflatedLength < uncompressedLength )
+                {
+                    int inflated = inflater.inflate( block, inflatedLength, uncompressedLength - inflatedLength );
+                    if ( 0 == inflated && (inflater.finished() || inflater.needsInput()) )
+                    {
+                        throw new IOException( "Compressed results log block ended early" );
+                    }
+                    inflatedLength += inflated;
+                }
+            }
+            catch ( DataFormatException e )
+            {
+                throw new IOException( "Compressed results log block is corrupt", e );
+            }
+            blockLength = uncompressedLength;
+            position = 0;
+            return true;
+        }
+
+        @Override
+        public int read() throws IOException
+        {
+            while ( position == blockLength )
+            {
+                if ( false == nextBlock() )
+                {
+                    return -1;
+                }
+            }
+            return block[position++] & 0xFF;
+        }
+
+        @Override
+        public int read( byte[] bytes, int offset, int length ) throws IOException
+        {
+            if ( 0 == length )
+            {
+                return 0;
+            }
+            while ( position == blockLength )
+            {
+                if ( false == nextBlock() )
+                {
+                    return -1;
+                }
+            }
+            int count = Math.min( length, blockLength - position );
+            System.arraycopy( block, position, bytes, offset, count );
+            position += count;
+            return count;
+        }
+
+        @Override
+        public void close() throws IOException
+        {
+            inflater.end();
+            blocks.close();
+        }
+    }
+}
@@ -0,0 +1,307 @@
+package com.ldbc.driver.runtime.metrics;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.zip.Deflater;
+
+/**
+ * Writes the results log as fixed width binary records, read by BinaryResultsLogReader.
+ * <p>
+ * Records are put into large direct buffers, which are written to file, optionally compressed, by a background thread,
+ * so the thread measuring operations never formats or writes anything itself.
+ * <p>
+ * File: MAGIC (int), VERSION (int), compressed (byte), duration unit (byte), timestamp unit (byte), followed by the
+ * body. Units are TimeUnit ordinals, they are only used to export the results log to csv as it would have been written.
+ * <p>
+ * Body: sequence of entries. Operation names are not repeated, the first time a name is written it is assigned an id,
+ * with a dictionary entry: DICTIONARY_ENTRY (int), id (int), name length in bytes (short), UTF-8 name bytes.
+ * Result entry, RECORD_SIZE bytes: operation id (int), scheduled start time (long), actual start time (long),
+ * run duration (long), result code (int), original start time (long). Times are epoch nanoseconds, duration is in
+ * nanoseconds.
+ * <p>
+ * When compressed the body is split into blocks, each stored as: uncompressed length (int), compressed length (int),
+ * followed by the deflated bytes. All values are big-endian.
+ */
+public class BinaryResultsLogWriter implements ResultsLogWriter
+{
+    public static final int MAGIC = 0x4C52534C;
+    public static final int VERSION = 1;
+    public static final String FILE_SUFFIX = ".bin";
+    static final int HEADER_SIZE = 11;
+    static final int DICTIONARY_ENTRY = -1;
+    static final int RECORD_SIZE = 40;
+
+    private static final int DEFAULT_BUFFER_SIZE = 4 * 1024 * 1024;
+    private static final int BUFFER_COUNT = 4;
+    private static final ByteBuffer END_OF_LOG = ByteBuffer.allocate( 0 );
+    private static final long POLL_TIMEOUT_AS_MILLI = 100;
+
+    private final Map<String,Integer> operationIds = new HashMap<>();
+    private final BlockingQueue<ByteBuffer> filledBuffers = new ArrayBlockingQueue<>( BUFFER_COUNT + 1 );
+    private final BlockingQueue<ByteBuffer> freeBuffers = new ArrayBlockingQueue<>( BUFFER_COUNT );
+    private final AtomicReference<Throwable> flushError = new AtomicReference<>( null );
+    private final FileChannel channel;
+    private final Flusher flusher;
+    private ByteBuffer buffer;
+    private boolean closed = false;
+
+    public BinaryResultsLogWriter( File resultsLog, TimeUnit unit, TimeUnit timestampUnit, boolean compress )
+            throws IOException
+    {
+        this( resultsLog, unit, timestampUnit, compress, DEFAULT_BUFFER_SIZE );
+    }
+
+    BinaryResultsLogWriter( File resultsLog, TimeUnit unit, TimeUnit timestampUnit, boolean compress,
+            int bufferSize ) throws IOException
+    {
+        this.channel = new FileOutputStream( resultsLog ).getChannel();
+        ByteBuffer header = ByteBuffer.allocate( HEADER_SIZE )
+                .putInt( MAGIC )
+                .putInt( VERSION )
+                .put( (byte) ((compress) ? 1 : 0) )
+                .put( (byte) unit.ordinal() )
+                .put( (byte) timestampUnit.ordinal() );
+        header.flip();
+        while ( header.hasRemaining() )
+        {
+            channel.write( header );
+        }
+        for ( int i = 0; i < BUFFER_COUNT - 1; i++ )
+        {
+            freeBuffers.add( ByteBuffer.allocateDirect( bufferSize ) );
+        }
+        this.buffer = ByteBuffer.allocateDirect( bufferSize );
+        this.flusher = new Flusher( channel, filledBuffers, freeBuffers, flushError, compress, bufferSize );
+        flusher.start();
+    }
+
+    @Override
+    public void write(
+            String operationName,
+            long scheduledStartTimeAsMilli,
+            long actualStartTimeAsMilli,
+            long runDurationAsNano,
+            int resultCode,
+            long originalStartTime ) throws IOException
+    {
+        writeAsNano(
+                operationName,
+                TimeUnit.MILLISECONDS.toNanos( scheduledStartTimeAsMilli ),
+                TimeUnit.MILLISECONDS.toNanos( actualStartTimeAsMilli ),
+                runDurationAsNano,
+                resultCode,
+                originalStartTime );
+    }
+
+    @Override
+    public void writeAsNano(
+            String operationName,
+            long scheduledStartTimeAsNano,
+            long actualStartTimeAsNano,
+            long runDurationAsNano,
+            int resultCode,
+            long originalStartTime ) throws IOException
+    {
+        int operationId = operationIdFor( operationName );
+        if ( buffer.remaining() < RECORD_SIZE )
+        {
+            handOff();
+        }
+        buffer.putInt( operationId )
+                .putLong( scheduledStartTimeAsNano )
+                .putLong( actualStartTimeAsNano )
+                .putLong( runDurationAsNano )
+                .putInt( resultCode )
+                .putLong( originalStartTime );
+    }
+
+    private int operationIdFor( String operationName ) throws IOException
+    {
+        Integer operationId = operationIds.get( operationName );
+        if ( null == operationId )
+        {
+            operationId = operationIds.size();
+            byte[] nameBytes = operationName.getBytes( StandardCharsets.UTF_8 );
+            if ( buffer.remaining() < 10 + nameBytes.length )
+            {
+                handOff();
+            }
+            buffer.putInt( DICTIONARY_ENTRY )
+                    .putInt( operationId )
+                    .putShort( (short) nameBytes.length )
+                    .put( nameBytes );
+            operationIds.put( operationName, operationId );
+        }
+        return operationId;
+    }
+
+    private void handOff() throws IOException
+    {
+        buffer.flip();
+        put( buffer );
+        ByteBuffer freeBuffer = null;
+        while ( null == freeBuffer )
+        {
+            throwIfFlushFailed();
+            try
+            {
+                freeBuffer = freeBuffers.poll( POLL_TIMEOUT_AS_MILLI, TimeUnit.MILLISECONDS );
+            }
+            catch ( InterruptedException e )
+            {
+                Thread.currentThread().interrupt();
+                throw new IOException( "Interrupted while waiting for results log buffer to be flushed", e );
+            }
+        }
+        freeBuffer.clear();
+        buffer = freeBuffer;
+    }
+
+    private void put( ByteBuffer filledBuffer ) throws IOException
+    {
+        try
+        {
+            filledBuffers.put( filledBuffer );
+        }
+        catch ( InterruptedException e )
+        {
+            Thread.currentThread().interrupt();
+            throw new IOException( "Interrupted while handing results log buffer to flusher", e );
+        }
+    }
+
+    private void throwIfFlushFailed() throws IOException
+    {
+        Throwable e = flushError.get();
+        if ( null != e )
+        {
+            throw new IOException( "Error encountered while flushing results log", e );
+        }
+    }
+
+    @Override
+    public void close() throws Exception
+    {
+        if ( closed )
+        {
+            return;
+        }
+        closed = true;
+        try
+        {
+            if ( buffer.position() > 0 )
+            {
+                buffer.flip();
+                put( buffer );
+            }
+            put( END_OF_LOG );
+            flusher.join();
+            throwIfFlushFailed();
+        }
+        finally
+        {
+            channel.close();
+        }
+    }
+
+    private static class Flusher extends Thread
+    {
+        private final FileChannel channel;
+        private final BlockingQueue<ByteBuffer> filledBuffers;
+        private final BlockingQueue<ByteBuffer> freeBuffers;
+        private final AtomicReference<Throwable> flushError;
+        private final Deflater deflater;
+        private final byte[] uncompressed;
+        private final byte[] compressed;
+
+        private Flusher( FileChannel channel,
+                BlockingQueue<ByteBuffer> filledBuffers,
+                BlockingQueue<ByteBuffer> freeBuffers,
+                AtomicReference<Throwable> flushError,
+                boolean compress,
+                int bufferSize )
+        {
+            super( BinaryResultsLogWriter.class.getSimpleName() + "-" + Flusher.class.getSimpleName() );
+            setDaemon( true );
+            this.channel = channel;
+            this.filledBuffers = filledBuffers;
+            this.freeBuffers = freeBuffers;
+            this.flushError = flushError;
+            this.deflater = (compress) ? new Deflater( Deflater.BEST_SPEED ) : null;
+            this.uncompressed = (compress) ? new byte[bufferSize] : null;
+            this.compressed = (compress) ? new byte[bufferSize + bufferSize / 1000 + 64] : null;
+        }
+
+        @Override
+        public void run()
+        {
+            try
+            {
+                ByteBuffer filledBuffer;
+                while ( END_OF_LOG != (filledBuffer = filledBuffers.take()) )
+                {
+                    if ( null == deflater )
+                    {
+                        writeFully( filledBuffer );
+                    }
+                    else
+                    {
+                        writeCompressed( filledBuffer );
+                    }
+                    freeBuffers.put( filledBuffer );
+                }
+            }
+            catch ( Throwable e )
+            {
+                flushError.compareAndSet( null, e );
+            }
+            finally
+            {
+                if ( null != deflater )
+                {
+                    deflater.end();
+                }
+            }
+        }
+
+        private void writeCompressed( ByteBuffer filledBuffer ) throws IOException
+        {
+            int uncompressedLength = filledBuffer.remaining();
+            filledBuffer.get( uncompressed, 0, uncompressedLength );
+            deflater.reset();
+            deflater.setInput( uncompressed, 0, uncompressedLength );
+            deflater.finish();
+            int compressedLength = 0;
+            while ( false == deflater.finished() )
+            {
+                if ( compressedLength == compressed.length )
+                {
+                    throw new IOException( "Compressed results log block exceeded its maximum size" );
+                }
+                compressedLength += deflater.deflate( compressed, compressedLength, compressed.length - compressedLength );
+            }
+            ByteBuffer blockHeader = ByteBuffer.allocate( 8 ).putInt( uncompressedLength ).putInt( compressedLength );
+            blockHeader.flip();
+            writeFully( blockHeader );
+            writeFully( ByteBuffer.wrap( compressed, 0, compressedLength ) );
+        }
+
+        private void writeFully( ByteBuffer bytes ) throws IOException
+        {
+            while ( bytes.hasRemaining() )
+            {
+                channel.write( bytes );
+            }
+        }
+    }
+}
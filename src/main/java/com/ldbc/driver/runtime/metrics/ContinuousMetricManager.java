@@ -28,6 +28,21 @@ public class ContinuousMetricManager
         this.unit = unit;
     }
 
+    /**
+     * Wraps a histogram that is populated elsewhere, e.g., merged from per writer recordings
+     */
+    ContinuousMetricManager( String name, TimeUnit unit, Histogram histogram )
+    {
+        this.histogram = histogram;
+        this.name = name;
+        this.unit = unit;
+    }
+
+    public String name()
+    {
+        return name;
+    }
+
     public void addMeasurement( long value )
     {
         histogram.recordValue( value );
@@ -0,0 +1,70 @@
+package com.ldbc.driver.runtime.metrics;
+
+import org.HdrHistogram.AtomicHistogram;
+import org.HdrHistogram.Histogram;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Continuous metric that many threads may record into concurrently, e.g., every operation handler thread.
+ * <p>
+ * Writers record into an atomic histogram without taking a lock. Snapshots swap it with an inactive one, wait for
+ * writers of the previous phase to leave (see WriterReaderPhaser), and add what was recorded to a histogram of all
+ * measurements, so snapshots are consistent and never make writers wait.
+ * <p>
+ * Values above highestExpectedValue are recorded as highestExpectedValue.
+ */
+public class ContinuousMetricRecorder
+{
+    private final String name;
+    private final TimeUnit unit;
+    private final long highestExpectedValue;
+    private final WriterReaderPhaser phaser = new WriterReaderPhaser();
+    private volatile AtomicHistogram activeHistogram;
+    // guarded by this
+    private AtomicHistogram inactiveHistogram;
+    private final Histogram totalHistogram;
+
+    public ContinuousMetricRecorder( String name, TimeUnit unit, long highestExpectedValue,
+            int numberOfSignificantDigits )
+    {
+        long lowestExpectedValue = 1;
+        this.name = name;
+        this.unit = unit;
+        this.highestExpectedValue = highestExpectedValue;
+        this.activeHistogram =
+                new AtomicHistogram( lowestExpectedValue, highestExpectedValue, numberOfSignificantDigits );
+        this.inactiveHistogram =
+                new AtomicHistogram( lowestExpectedValue, highestExpectedValue, numberOfSignificantDigits );
+        this.totalHistogram = new Histogram( lowestExpectedValue, highestExpectedValue, numberOfSignificantDigits );
+    }
+
+    public String name()
+    {
+        return name;
+    }
+
+    public void addMeasurement( long value )
+    {
+        long criticalValue = phaser.writerCriticalSectionEnter();
+        try
+        {
+            activeHistogram.recordValue( Math.min( Math.max( 0, value ), highestExpectedValue ) );
+        }
+        finally
+        {
+            phaser.writerCriticalSectionExit( criticalValue );
+        }
+    }
+
+    synchronized public ContinuousMetricSnapshot snapshot()
+    {
+        AtomicHistogram previousHistogram = activeHistogram;
+        activeHistogram = inactiveHistogram;
+        inactiveHistogram = previousHistogram;
+        phaser.flipPhase();
+        totalHistogram.add( previousHistogram );
+        previousHistogram.reset();
+        return new ContinuousMetricManager( name, unit, totalHistogram ).snapshot();
+    }
+}
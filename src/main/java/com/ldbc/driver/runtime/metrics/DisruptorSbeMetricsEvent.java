@@ -22,6 +22,8 @@ public class DisruptorSbeMetricsEvent {
     static final byte GET_WORKLOAD_STATUS = 2;
     //   * Request complete workload results
     static final byte GET_WORKLOAD_RESULTS = 3;
+    //   * Submit operation result, scheduled & actual start time fields hold nanoseconds rather than milliseconds
+    static final byte SUBMIT_OPERATION_RESULT_AS_NANO = 4;
 
     static {
         MetricsEvent metricsEvent = new MetricsEvent();
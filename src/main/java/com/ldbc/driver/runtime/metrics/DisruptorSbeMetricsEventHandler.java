@@ -4,6 +4,7 @@ import com.ldbc.driver.Operation;
 import com.ldbc.driver.control.LoggingServiceFactory;
 import com.ldbc.driver.runtime.ConcurrentErrorReporter;
 import com.ldbc.driver.runtime.metrics.sbe.MetricsEvent;
+import com.ldbc.driver.temporal.TemporalUtil;
 import com.ldbc.driver.temporal.TimeSource;
 import com.lmax.disruptor.EventHandler;
 import uk.co.real_logic.sbe.codec.java.DirectBuffer;
@@ -93,7 +94,37 @@ class DisruptorSbeMetricsEventHandler implements EventHandler<DirectBuffer>
                     resultCode,
                     originalStartTime );
 
-            metricsManager.measure( actualStartTimeAsMilli, runDurationAsNano, operationType );
+            metricsManager.measure(
+                    actualStartTimeAsMilli,
+                    runDurationAsNano,
+                    TimeUnit.MILLISECONDS.toNanos( actualStartTimeAsMilli - scheduledStartTimeAsMilli ),
+                    operationType );
+            processedEventCount++;
+            break;
+        }
+        case DisruptorSbeMetricsEvent.SUBMIT_OPERATION_RESULT_AS_NANO:
+        {
+            int operationType = metricsEvent.operationType();
+            // SBE field names are fixed by the schema, for this event type they hold nanoseconds
+            long scheduledStartTimeAsNano = metricsEvent.scheduledStartTimeAsMilli();
+            long actualStartTimeAsNano = metricsEvent.actualStartTimeAsMilli();
+            long runDurationAsNano = metricsEvent.runDurationAsNano();
+            int resultCode = metricsEvent.resultCode();
+            long originalStartTime = metricsEvent.originalStartTime();
+
+            resultsLogWriter.writeAsNano(
+                    operationNames[operationType],
+                    scheduledStartTimeAsNano,
+                    actualStartTimeAsNano,
+                    runDurationAsNano,
+                    resultCode,
+                    originalStartTime );
+
+            metricsManager.measure(
+                    TemporalUtil.nanoTimeToRoundedMilli( actualStartTimeAsNano ),
+                    runDurationAsNano,
+                    actualStartTimeAsNano - scheduledStartTimeAsNano,
+                    operationType );
             processedEventCount++;
             break;
         }
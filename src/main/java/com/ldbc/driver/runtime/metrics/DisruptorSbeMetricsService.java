@@ -6,17 +6,23 @@ import com.ldbc.driver.runtime.ConcurrentErrorReporter;
 import com.ldbc.driver.runtime.metrics.sbe.MetricsEvent;
 import com.ldbc.driver.temporal.TimeSource;
 import com.lmax.disruptor.BlockingWaitStrategy;
+import com.lmax.disruptor.BusySpinWaitStrategy;
+import com.lmax.disruptor.EventPoller;
 import com.lmax.disruptor.EventTranslator;
 import com.lmax.disruptor.EventTranslatorVararg;
+import com.lmax.disruptor.PhasedBackoffWaitStrategy;
 import com.lmax.disruptor.RingBuffer;
+import com.lmax.disruptor.SleepingWaitStrategy;
 import com.lmax.disruptor.TimeoutException;
+import com.lmax.disruptor.WaitStrategy;
+import com.lmax.disruptor.YieldingWaitStrategy;
 import com.lmax.disruptor.dsl.Disruptor;
 import com.lmax.disruptor.dsl.ProducerType;
 import uk.co.real_logic.sbe.codec.java.DirectBuffer;
 
 import java.util.List;
 import java.util.Map;
-import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.TimeUnit;
@@ -30,6 +36,7 @@ import static com.ldbc.driver.runtime.metrics.DisruptorSbeMetricsEvent.GET_WORKL
 import static com.ldbc.driver.runtime.metrics.DisruptorSbeMetricsEvent.MESSAGE_HEADER_SIZE;
 import static com.ldbc.driver.runtime.metrics.DisruptorSbeMetricsEvent.MetricsCollectionEventFactory;
 import static com.ldbc.driver.runtime.metrics.DisruptorSbeMetricsEvent.SUBMIT_OPERATION_RESULT;
+import static com.ldbc.driver.runtime.metrics.DisruptorSbeMetricsEvent.SUBMIT_OPERATION_RESULT_AS_NANO;
 import static java.lang.String.format;
 
 public class DisruptorSbeMetricsService implements MetricsService
@@ -40,12 +47,15 @@ public class DisruptorSbeMetricsService implements MetricsService
     public static final long DEFAULT_HIGHEST_EXPECTED_RUNTIME_DURATION_AS_NANO = TimeUnit.MINUTES.toNanos( 90 );
 
     private final AtomicLong initiatedEvents = new AtomicLong( 0 );
+    private final AtomicLong blockedPublishCount = new AtomicLong( 0 );
+    private final AtomicLong blockedPublishDurationAsNano = new AtomicLong( 0 );
     private final AtomicBoolean shutdown = new AtomicBoolean( false );
     private final TimeSource timeSource;
-    private final RingBuffer<DirectBuffer> ringBuffer;
+    private final boolean ringPerCpu;
+    private final RingBuffer<DirectBuffer>[] ringBuffers;
     private final Disruptor<DirectBuffer> disruptor;
+    private final PollingConsumer pollingConsumer;
     private final DisruptorSbeMetricsEventHandler eventHandler;
-    private final ConcurrentLinkedQueue<DisruptorSbeMetricsServiceWriter> metricsServiceWriters;
     private final ExecutorService executor;
 
     public DisruptorSbeMetricsService(
@@ -57,25 +67,48 @@ public class DisruptorSbeMetricsService implements MetricsService
             Map<Integer,Class<? extends Operation>> operationTypeToClassMapping,
             LoggingServiceFactory loggingServiceFactory ) throws MetricsCollectionException
     {
-        // Specify the size of the ring buffer, must be power of 2
-        int bufferSize = 1024;
+        this(
+                timeSource,
+                errorReporter,
+                timeUnit,
+                maxRuntimeDurationAsNano,
+                resultsLogWriter,
+                operationTypeToClassMapping,
+                loggingServiceFactory,
+                1024,
+                MetricsWaitStrategyType.BLOCKING,
+                false
+        );
+    }
+
+    /**
+     * @param ringSize number of slots in each ring buffer, must be a power of 2
+     * @param waitStrategyType how the consumer thread waits when there are no operation results to process
+     * @param ringPerCpu if true writers publish to one of a fixed set of ring buffers, one per available
+     * processor (rounded up to a power of 2), picked by the id of the publishing thread and polled in turn by the
+     * consumer thread, otherwise all writers contend on one ring buffer. The number of rings does not grow with the
+     * number of writers or threads, threads that share a ring contend on it like on the single ring.
+     */
+    public DisruptorSbeMetricsService(
+            TimeSource timeSource,
+            ConcurrentErrorReporter errorReporter,
+            TimeUnit timeUnit,
+            long maxRuntimeDurationAsNano,
+            ResultsLogWriter resultsLogWriter,
+            Map<Integer,Class<? extends Operation>> operationTypeToClassMapping,
+            LoggingServiceFactory loggingServiceFactory,
+            int ringSize,
+            MetricsWaitStrategyType waitStrategyType,
+            boolean ringPerCpu ) throws MetricsCollectionException
+    {
+        if ( ringSize < 1 || Integer.bitCount( ringSize ) != 1 )
+        {
+            throw new MetricsCollectionException(
+                    format( "Metrics ring size must be a power of 2, but was %s", ringSize ) );
+        }
+        this.ringPerCpu = ringPerCpu;
 
         this.executor = Executors.newSingleThreadExecutor();
-        // Construct the Disruptor
-        disruptor = new Disruptor(
-                new MetricsCollectionEventFactory(),
-                bufferSize,
-                // Executor that will be used to construct new threads for consumers
-                this.executor,
-                ProducerType.MULTI,
-                new BlockingWaitStrategy()
-//                new LiteBlockingWaitStrategy()
-//                new SleepingWaitStrategy()
-//                new YieldingWaitStrategy()
-//                new BusySpinWaitStrategy()
-//                new TimeoutBlockingWaitStrategy()
-//                new PhasedBackoffWaitStrategy()
-        );
 
         // Connect the handler
         eventHandler = new DisruptorSbeMetricsEventHandler(
@@ -88,17 +121,74 @@ public class DisruptorSbeMetricsService implements MetricsService
                 loggingServiceFactory
         );
 
-        disruptor.handleEventsWith( eventHandler );
-        DisruptorExceptionHandler exceptionHandler = new DisruptorExceptionHandler( errorReporter );
-        disruptor.handleExceptionsFor( eventHandler ).with( exceptionHandler );
-        disruptor.handleExceptionsWith( exceptionHandler );
+        if ( ringPerCpu )
+        {
+            // Rings are all drained by the same consumer thread, which never waits on them, so their wait strategy
+            // is never used
+            disruptor = null;
+            pollingConsumer = new PollingConsumer( eventHandler, waitStrategyType, errorReporter );
+            ringBuffers = new RingBuffer[ringCountFor( Runtime.getRuntime().availableProcessors() )];
+            for ( int i = 0; i < ringBuffers.length; i++ )
+            {
+                ringBuffers[i] = RingBuffer.createMultiProducer(
+                        new MetricsCollectionEventFactory(),
+                        ringSize,
+                        new BusySpinWaitStrategy()
+                );
+                EventPoller<DirectBuffer> poller = ringBuffers[i].newPoller();
+                ringBuffers[i].addGatingSequences( poller.getSequence() );
+                pollingConsumer.add( poller );
+            }
+            executor.execute( pollingConsumer );
+        }
+        else
+        {
+            // Construct the Disruptor
+            disruptor = new Disruptor(
+                    new MetricsCollectionEventFactory(),
+                    ringSize,
+                    // Executor that will be used to construct new threads for consumers
+                    this.executor,
+                    ProducerType.MULTI,
+                    waitStrategyFor( waitStrategyType )
+            );
+
+            disruptor.handleEventsWith( eventHandler );
+            DisruptorExceptionHandler exceptionHandler = new DisruptorExceptionHandler( errorReporter );
+            disruptor.handleExceptionsFor( eventHandler ).with( exceptionHandler );
+            disruptor.handleExceptionsWith( exceptionHandler );
 
-        // Start the Disruptor, starts all threads running  & get the ring buffer from the Disruptor to be used for
-        // publishing
-        ringBuffer = disruptor.start();
+            // Start the Disruptor, starts all threads running  & get the ring buffer from the Disruptor to be used for
+            // publishing
+            ringBuffers = new RingBuffer[]{disruptor.start()};
+            pollingConsumer = null;
+        }
 
         this.timeSource = timeSource;
-        metricsServiceWriters = new ConcurrentLinkedQueue<>();
+    }
+
+    private static int ringCountFor( int availableProcessors )
+    {
+        return Integer.highestOneBit( Math.max( 1, availableProcessors ) * 2 - 1 );
+    }
+
+    private static WaitStrategy waitStrategyFor( MetricsWaitStrategyType waitStrategyType )
+    {
+        switch ( waitStrategyType )
+        {
+        case BLOCKING:
+            return new BlockingWaitStrategy();
+        case SLEEPING:
+            return new SleepingWaitStrategy();
+        case YIELDING:
+            return new YieldingWaitStrategy();
+        case BUSY_SPIN:
+            return new BusySpinWaitStrategy();
+        case PHASED_BACKOFF:
+            return PhasedBackoffWaitStrategy.withLiteLock( 1, 1000, TimeUnit.MICROSECONDS );
+        default:
+            throw new IllegalArgumentException( format( "Unsupported wait strategy: %s", waitStrategyType ) );
+        }
     }
 
     @Override
@@ -130,6 +220,27 @@ public class DisruptorSbeMetricsService implements MetricsService
             throw new MetricsCollectionException( errMsg );
         }
 
+        // Halt the consumer before its executor, otherwise the executor interrupts it mid-wait
+        if ( ringPerCpu )
+        {
+            pollingConsumer.stop();
+        }
+        else
+        {
+            try
+            {
+                disruptor.shutdown( SHUTDOWN_WAIT_TIMEOUT_AS_MILLI, TimeUnit.MILLISECONDS );
+            }
+            catch ( TimeoutException e )
+            {
+                String errMsg = format( "%s timed out waiting for %s to shutdown",
+                        getClass().getSimpleName(),
+                        disruptor.getClass().getSimpleName()
+                );
+                throw new MetricsCollectionException( errMsg, e );
+            }
+        }
+
         try
         {
             executor.shutdown();
@@ -155,23 +266,6 @@ public class DisruptorSbeMetricsService implements MetricsService
                     "Error encountered while trying to shutdown metrics service disruptor executor", e );
         }
 
-        try
-        {
-            disruptor.shutdown( SHUTDOWN_WAIT_TIMEOUT_AS_MILLI, TimeUnit.MILLISECONDS );
-        }
-        catch ( TimeoutException e )
-        {
-            String errMsg = format( "%s timed out waiting for %s to shutdown",
-                    getClass().getSimpleName(),
-                    disruptor.getClass().getSimpleName()
-            );
-            throw new MetricsCollectionException( errMsg, e );
-        }
-        AlreadyShutdownPolicy alreadyShutdownPolicy = new AlreadyShutdownPolicy();
-        for ( DisruptorSbeMetricsServiceWriter metricsServiceWriter : metricsServiceWriters )
-        {
-            metricsServiceWriter.setAlreadyShutdownPolicy( alreadyShutdownPolicy );
-        }
         shutdown.set( true );
     }
 
@@ -182,39 +276,71 @@ public class DisruptorSbeMetricsService implements MetricsService
         {
             throw new MetricsCollectionException( "Metrics service has already been shutdown" );
         }
-        DisruptorSbeMetricsServiceWriter metricsServiceWriter =
-                new DisruptorSbeMetricsServiceWriter( initiatedEvents, ringBuffer, eventHandler );
-        metricsServiceWriters.add( metricsServiceWriter );
-        return metricsServiceWriter;
+        // Writers are cheap, they only own the encoders of their events, rings are shared by all writers
+        return new DisruptorSbeMetricsServiceWriter(
+                shutdown,
+                initiatedEvents,
+                blockedPublishCount,
+                blockedPublishDurationAsNano,
+                ringBuffers,
+                eventHandler,
+                ringPerCpu );
     }
 
     private static class DisruptorSbeMetricsServiceWriter implements MetricsServiceWriter
     {
+        private final AtomicBoolean shutdown;
         private final AtomicLong initiatedEvents;
-        private final RingBuffer<DirectBuffer> ringBuffer;
+        private final AtomicLong blockedPublishCount;
+        private final AtomicLong blockedPublishDurationAsNano;
+        private final RingBuffer<DirectBuffer>[] ringBuffers;
+        private final int ringBufferMask;
         private final DisruptorSbeMetricsEventHandler eventHandler;
+        private final boolean ringPerCpu;
         private final SubmitOperationResultTranslator submitOperationResultTranslator;
+        private final SubmitOperationResultTranslator submitOperationResultAsNanoTranslator;
         private final GetWorkloadStatusTranslator getWorkloadStatusTranslator;
         private final GetWorkloadResultsTranslator getWorkloadResultsTranslator;
 
-        private AlreadyShutdownPolicy alreadyShutdownPolicy = null;
-
-        public DisruptorSbeMetricsServiceWriter( AtomicLong initiatedEvents,
-                RingBuffer<DirectBuffer> ringBuffer,
-                DisruptorSbeMetricsEventHandler eventHandler )
+        public DisruptorSbeMetricsServiceWriter( AtomicBoolean shutdown,
+                AtomicLong initiatedEvents,
+                AtomicLong blockedPublishCount,
+                AtomicLong blockedPublishDurationAsNano,
+                RingBuffer<DirectBuffer>[] ringBuffers,
+                DisruptorSbeMetricsEventHandler eventHandler,
+                boolean ringPerCpu )
         {
+            this.shutdown = shutdown;
             this.initiatedEvents = initiatedEvents;
-            this.ringBuffer = ringBuffer;
+            this.blockedPublishCount = blockedPublishCount;
+            this.blockedPublishDurationAsNano = blockedPublishDurationAsNano;
+            this.ringBuffers = ringBuffers;
+            this.ringBufferMask = ringBuffers.length - 1;
             this.eventHandler = eventHandler;
+            this.ringPerCpu = ringPerCpu;
             MetricsEvent metricsEvent = new MetricsEvent();
-            this.submitOperationResultTranslator = new SubmitOperationResultTranslator( metricsEvent );
+            this.submitOperationResultTranslator =
+                    new SubmitOperationResultTranslator( metricsEvent, SUBMIT_OPERATION_RESULT );
+            this.submitOperationResultAsNanoTranslator =
+                    new SubmitOperationResultTranslator( metricsEvent, SUBMIT_OPERATION_RESULT_AS_NANO );
             this.getWorkloadStatusTranslator = new GetWorkloadStatusTranslator( metricsEvent );
             this.getWorkloadResultsTranslator = new GetWorkloadResultsTranslator( metricsEvent );
         }
 
-        private void setAlreadyShutdownPolicy( AlreadyShutdownPolicy alreadyShutdownPolicy )
+        private void failIfShutdown() throws MetricsCollectionException
         {
-            this.alreadyShutdownPolicy = alreadyShutdownPolicy;
+            if ( shutdown.get() )
+            {
+                throw new MetricsCollectionException( "Metrics service has already been shutdown" );
+            }
+        }
+
+        /**
+         * Ring of the calling thread, so threads mostly publish to different rings
+         */
+        private RingBuffer<DirectBuffer> ringBuffer()
+        {
+            return ringBuffers[(int) (Thread.currentThread().getId() & ringBufferMask)];
         }
 
         @Override
@@ -225,42 +351,70 @@ public class DisruptorSbeMetricsService implements MetricsService
                 int resultCode,
                 long originalStartTime) throws MetricsCollectionException
         {
-            if ( null != alreadyShutdownPolicy )
-            {
-                alreadyShutdownPolicy.apply();
-            }
+            failIfShutdown();
             initiatedEvents.incrementAndGet();
-            ringBuffer.publishEvent( submitOperationResultTranslator, operationType, scheduledStartTimeAsMilli,
+            publish( submitOperationResultTranslator, operationType, scheduledStartTimeAsMilli,
                     actualStartTimeAsMilli, runDurationAsNano, resultCode, originalStartTime );
         }
 
         @Override
-        public WorkloadStatusSnapshot status() throws MetricsCollectionException
+        public void submitOperationResultAsNano( int operationType,
+                long scheduledStartTimeAsNano,
+                long actualStartTimeAsNano,
+                long runDurationAsNano,
+                int resultCode,
+                long originalStartTime ) throws MetricsCollectionException
         {
-            if ( null != alreadyShutdownPolicy )
+            failIfShutdown();
+            initiatedEvents.incrementAndGet();
+            publish( submitOperationResultAsNanoTranslator, operationType, scheduledStartTimeAsNano,
+                    actualStartTimeAsNano, runDurationAsNano, resultCode, originalStartTime );
+        }
+
+        private void publish( SubmitOperationResultTranslator translator, Object... fields )
+        {
+            RingBuffer<DirectBuffer> ringBuffer = ringBuffer();
+            if ( false == ringBuffer.tryPublishEvent( translator, fields ) )
             {
-                alreadyShutdownPolicy.apply();
+                // Ring is full, wait for the consumer to free a slot rather than drop the result
+                long startTimeAsNano = System.nanoTime();
+                ringBuffer.publishEvent( translator, fields );
+                blockedPublishDurationAsNano.addAndGet( System.nanoTime() - startTimeAsNano );
+                blockedPublishCount.incrementAndGet();
             }
+        }
+
+        @Override
+        public WorkloadStatusSnapshot status() throws MetricsCollectionException
+        {
+            failIfShutdown();
             AtomicStampedReference<WorkloadStatusSnapshot> statusSnapshotReference = eventHandler.statusSnapshot();
             int oldStamp = statusSnapshotReference.getStamp();
-            ringBuffer.publishEvent( getWorkloadStatusTranslator );
+            ringBuffer().publishEvent( getWorkloadStatusTranslator );
             while ( statusSnapshotReference.getStamp() <= oldStamp )
             {
                 LockSupport.parkNanos( TimeUnit.MILLISECONDS.toNanos( 100 ) );
             }
-            return statusSnapshotReference.getReference();
+            return statusSnapshotReference.getReference()
+                    .withBlockedPublishes( blockedPublishCount.get(), blockedPublishDurationAsNano.get() );
         }
 
         @Override
         public WorkloadResultsSnapshot results() throws MetricsCollectionException
         {
-            if ( null != alreadyShutdownPolicy )
+            failIfShutdown();
+            if ( ringPerCpu )
             {
-                alreadyShutdownPolicy.apply();
+                // Results of other threads sit in other rings, which the consumer may not have drained yet
+                long initiatedEventsAtRequest = initiatedEvents.get();
+                while ( eventHandler.processedEventCount() < initiatedEventsAtRequest )
+                {
+                    LockSupport.parkNanos( TimeUnit.MILLISECONDS.toNanos( 10 ) );
+                }
             }
             AtomicStampedReference<WorkloadResultsSnapshot> resultsSnapshotReference = eventHandler.resultsSnapshot();
             int oldStamp = resultsSnapshotReference.getStamp();
-            ringBuffer.publishEvent( getWorkloadResultsTranslator );
+            ringBuffer().publishEvent( getWorkloadResultsTranslator );
             while ( resultsSnapshotReference.getStamp() <= oldStamp )
             {
                 LockSupport.parkNanos( TimeUnit.MILLISECONDS.toNanos( 100 ) );
@@ -271,17 +425,19 @@ public class DisruptorSbeMetricsService implements MetricsService
         public static class SubmitOperationResultTranslator implements EventTranslatorVararg<DirectBuffer>
         {
             private final MetricsEvent metricsEvent;
+            private final byte eventType;
 
-            public SubmitOperationResultTranslator( MetricsEvent metricsEvent )
+            public SubmitOperationResultTranslator( MetricsEvent metricsEvent, byte eventType )
             {
                 this.metricsEvent = metricsEvent;
+                this.eventType = eventType;
             }
 
             @Override
             public void translateTo( DirectBuffer event, long l, Object... fields )
             {
                 metricsEvent.wrapForEncode( event, MESSAGE_HEADER_SIZE )
-                        .eventType( SUBMIT_OPERATION_RESULT )
+                        .eventType( eventType )
                         .operationType( (int) fields[0] )
                         .scheduledStartTimeAsMilli( (long) fields[1] )
                         .actualStartTimeAsMilli( (long) fields[2] )
@@ -326,11 +482,106 @@ public class DisruptorSbeMetricsService implements MetricsService
         }
     }
 
-    private static class AlreadyShutdownPolicy
+    /**
+     * Drains all the per CPU ring buffers from a single thread, so the event handler still sees events one at a time
+     */
+    private static class PollingConsumer implements Runnable
     {
-        void apply() throws MetricsCollectionException
+        private static final int SPIN_TRIES = 100;
+        private static final int YIELD_TRIES = 200;
+
+        private final CopyOnWriteArrayList<EventPoller<DirectBuffer>> pollers = new CopyOnWriteArrayList<>();
+        private final AtomicBoolean running = new AtomicBoolean( true );
+        private final DisruptorSbeMetricsEventHandler eventHandler;
+        private final MetricsWaitStrategyType waitStrategyType;
+        private final ConcurrentErrorReporter errorReporter;
+        private final EventPoller.Handler<DirectBuffer> pollHandler;
+
+        private PollingConsumer( DisruptorSbeMetricsEventHandler eventHandler,
+                MetricsWaitStrategyType waitStrategyType,
+                ConcurrentErrorReporter errorReporter )
         {
-            throw new MetricsCollectionException( "Metrics service has already been shutdown" );
+            this.eventHandler = eventHandler;
+            this.waitStrategyType = waitStrategyType;
+            this.errorReporter = errorReporter;
+            this.pollHandler = new EventPoller.Handler<DirectBuffer>()
+            {
+                @Override
+                public boolean onEvent( DirectBuffer event, long sequence, boolean endOfBatch ) throws Exception
+                {
+                    PollingConsumer.this.eventHandler.onEvent( event, sequence, endOfBatch );
+                    return true;
+                }
+            };
+        }
+
+        private void add( EventPoller<DirectBuffer> poller )
+        {
+            pollers.add( poller );
+        }
+
+        private void stop()
+        {
+            running.set( false );
+        }
+
+        @Override
+        public void run()
+        {
+            int idleCount = 0;
+            while ( running.get() )
+            {
+                boolean processed = false;
+                for ( EventPoller<DirectBuffer> poller : pollers )
+                {
+                    try
+                    {
+                        if ( EventPoller.PollState.PROCESSING == poller.poll( pollHandler ) )
+                        {
+                            processed = true;
+                        }
+                    }
+                    catch ( Throwable e )
+                    {
+                        errorReporter.reportError(
+                                this,
+                                format( "Encountered error while processing metrics event\n%s",
+                                        ConcurrentErrorReporter.stackTraceToString( e ) )
+                        );
+                    }
+                }
+                idleCount = (processed) ? 0 : idle( idleCount );
+            }
+        }
+
+        private int idle( int idleCount )
+        {
+            switch ( waitStrategyType )
+            {
+            case BUSY_SPIN:
+                return idleCount;
+            case YIELDING:
+                Thread.yield();
+                return idleCount;
+            case SLEEPING:
+            case PHASED_BACKOFF:
+                if ( idleCount < SPIN_TRIES )
+                {
+                    return idleCount + 1;
+                }
+                else if ( idleCount < YIELD_TRIES )
+                {
+                    Thread.yield();
+                    return idleCount + 1;
+                }
+                LockSupport.parkNanos(
+                        (MetricsWaitStrategyType.SLEEPING == waitStrategyType) ? 1 : TimeUnit.MICROSECONDS.toNanos( 100 ) );
+                return idleCount;
+            default:
+                // there is no lock to block on across many rings, park instead
+                LockSupport.parkNanos( TimeUnit.MILLISECONDS.toNanos( 1 ) );
+                return idleCount;
+            }
         }
     }
 }
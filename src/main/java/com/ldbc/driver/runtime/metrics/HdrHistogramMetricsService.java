@@ -0,0 +1,803 @@
+package com.ldbc.driver.runtime.metrics;
+
+import com.ldbc.driver.Operation;
+import com.ldbc.driver.control.LoggingService;
+import com.ldbc.driver.control.LoggingServiceFactory;
+import com.ldbc.driver.temporal.TemporalUtil;
+import com.ldbc.driver.temporal.TimeSource;
+import com.lmax.disruptor.BusySpinWaitStrategy;
+import com.lmax.disruptor.EventFactory;
+import com.lmax.disruptor.EventPoller;
+import com.lmax.disruptor.RingBuffer;
+import org.HdrHistogram.AbstractHistogram;
+import org.HdrHistogram.AtomicHistogram;
+import org.HdrHistogram.Histogram;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.locks.LockSupport;
+
+import static java.lang.String.format;
+
+/**
+ * Operation runtimes, corrected latencies and start delays are recorded into histograms, three per operation type,
+ * held by a fixed number of recorders. Writers hold no state, getWriter() may be called per runnable context, and the
+ * recorder is selected by the recording thread, so threads rarely wait on each other and never on a consumer thread.
+ * There are as many recorders as available processors (rounded up to a power of two), regardless of how many
+ * writers or threads exist, so memory does not grow with the number of contexts or with one-shot (e.g., virtual)
+ * threads. Recorders are double buffered: status and results requests swap them and merge the recordings of the
+ * previous phase into whole run histograms and into histograms of the current status interval.
+ * <p>
+ * Recording never takes a lock: recordings hold atomic histograms, and writers only enter a WriterReaderPhaser
+ * critical section, which swapping waits for. Results log rows are published to a ring buffer of the recorder and
+ * written by a flusher thread, so writers never wait on the results log or on disk I/O, unless its rings are full.
+ */
+public class HdrHistogramMetricsService implements MetricsService
+{
+    private static final String METRIC_RUNTIME = "Runtime";
+    private static final String METRIC_CORRECTED_LATENCY = "Corrected Latency";
+    private static final String METRIC_START_DELAY = "Start Delay";
+    // recorders hold six histograms per operation type, lower precision keeps each around 100KB
+    private static final int WRITER_SIGNIFICANT_DIGITS = 3;
+    private static final int MERGED_SIGNIFICANT_DIGITS = 4;
+    // results log rows each recorder can hold before its writers wait for the flusher, must be a power of 2
+    private static final int RESULTS_LOG_RING_SIZE = 4096;
+
+    private final TemporalUtil temporalUtil = new TemporalUtil();
+    private final AtomicBoolean shutdown = new AtomicBoolean( false );
+    private final TimeSource timeSource;
+    private final TimeUnit unit;
+    private final long highestExpectedRuntimeDurationAsNano;
+    private final long highestExpectedRuntimeDurationAsUnit;
+    private final ResultsLogFlusher resultsLogFlusher;
+    private final String[] operationNames;
+    private final LoggingService loggingService;
+    private final ThreadRecorder[] threadRecorders;
+    private final int threadRecorderMask;
+    // writers hold no state, so all of them are the same instance
+    private final HdrHistogramMetricsServiceWriter metricsServiceWriter;
+    private volatile AlreadyShutdownPolicy alreadyShutdownPolicy = null;
+
+    // guarded by this
+    private final Recording total;
+    private final Recording interval;
+    // run times of all operation types combined, merged from the per operation type histograms of a snapshot
+    private final Histogram allOperationTypesHistogram;
+
+    public HdrHistogramMetricsService(
+            TimeSource timeSource,
+            TimeUnit unit,
+            long highestExpectedRuntimeDurationAsNano,
+            ResultsLogWriter resultsLogWriter,
+            Map<Integer,Class<? extends Operation>> operationTypeToClassMapping,
+            LoggingServiceFactory loggingServiceFactory ) throws MetricsCollectionException
+    {
+        this.timeSource = timeSource;
+        this.unit = unit;
+        this.highestExpectedRuntimeDurationAsNano = highestExpectedRuntimeDurationAsNano;
+        this.highestExpectedRuntimeDurationAsUnit =
+                unit.convert( highestExpectedRuntimeDurationAsNano, TimeUnit.NANOSECONDS );
+        this.operationNames = MetricsManager.toOperationNameArray( operationTypeToClassMapping );
+        this.loggingService = loggingServiceFactory.loggingServiceFor( getClass().getSimpleName() );
+        boolean logResults = false == resultsLogWriter instanceof NullResultsLogWriter;
+        this.resultsLogFlusher = (logResults) ? new ResultsLogFlusher( resultsLogWriter, operationNames ) : null;
+        int threadRecorderCount = Integer.highestOneBit( Runtime.getRuntime().availableProcessors() * 2 - 1 );
+        this.threadRecorders = new ThreadRecorder[threadRecorderCount];
+        for ( int i = 0; i < threadRecorderCount; i++ )
+        {
+            RingBuffer<ResultsLogRow> resultsLogRing = null;
+            if ( logResults )
+            {
+                // the flusher never waits on rings, so their wait strategy is never used
+                resultsLogRing = RingBuffer.createMultiProducer(
+                        new ResultsLogRowFactory(),
+                        RESULTS_LOG_RING_SIZE,
+                        new BusySpinWaitStrategy() );
+                EventPoller<ResultsLogRow> poller = resultsLogRing.newPoller();
+                resultsLogRing.addGatingSequences( poller.getSequence() );
+                resultsLogFlusher.add( poller );
+            }
+            threadRecorders[i] = new ThreadRecorder(
+                    newWriterRecording(),
+                    newWriterRecording(),
+                    resultsLogRing );
+        }
+        this.threadRecorderMask = threadRecorderCount - 1;
+        this.metricsServiceWriter = new HdrHistogramMetricsServiceWriter( this );
+        this.total = newRecording( MERGED_SIGNIFICANT_DIGITS );
+        this.interval = newRecording( MERGED_SIGNIFICANT_DIGITS );
+        this.allOperationTypesHistogram =
+                new Histogram( 1, highestExpectedRuntimeDurationAsUnit, MERGED_SIGNIFICANT_DIGITS );
+        if ( logResults )
+        {
+            resultsLogFlusher.start();
+        }
+    }
+
+    private Recording newRecording( int significantDigits )
+    {
+        return new Recording( operationNames.length, highestExpectedRuntimeDurationAsUnit, significantDigits );
+    }
+
+    private WriterRecording newWriterRecording()
+    {
+        return new WriterRecording(
+                operationNames.length,
+                highestExpectedRuntimeDurationAsUnit,
+                WRITER_SIGNIFICANT_DIGITS );
+    }
+
+    @Override
+    synchronized public void shutdown() throws MetricsCollectionException
+    {
+        if ( shutdown.get() )
+        {
+            throw new MetricsCollectionException( "Metrics service has already been shutdown" );
+        }
+        alreadyShutdownPolicy = new AlreadyShutdownPolicy();
+        shutdown.set( true );
+        if ( null != resultsLogFlusher )
+        {
+            resultsLogFlusher.stopAfterDraining();
+            try
+            {
+                resultsLogFlusher.join();
+            }
+            catch ( InterruptedException e )
+            {
+                Thread.currentThread().interrupt();
+                throw new MetricsCollectionException( "Interrupted while waiting for results log to be written", e );
+            }
+            resultsLogFlusher.throwIfWriteFailed();
+        }
+    }
+
+    @Override
+    public MetricsServiceWriter getWriter() throws MetricsCollectionException
+    {
+        if ( shutdown.get() )
+        {
+            throw new MetricsCollectionException( "Metrics service has already been shutdown" );
+        }
+        return metricsServiceWriter;
+    }
+
+    private ThreadRecorder threadRecorder()
+    {
+        long threadId = Thread.currentThread().getId();
+        return threadRecorders[(int) (threadId ^ (threadId >>> 32)) & threadRecorderMask];
+    }
+
+    private long durationAsUnit( String metricName, int operationType, long durationAsNano )
+    {
+        if ( durationAsNano > highestExpectedRuntimeDurationAsNano )
+        {
+            loggingService.info( format(
+                    "Error recording %s - reported value exceeds maximum allowed. Time reported as maximum.\n"
+                    + "Reported: %s %s / %s\n"
+                    + "For: %s\n"
+                    + "Maximum: %s %s / %s",
+                    metricName.toLowerCase(),
+                    durationAsNano,
+                    TimeUnit.NANOSECONDS.name(),
+                    temporalUtil.nanoDurationToString( durationAsNano ),
+                    operationNames[operationType],
+                    highestExpectedRuntimeDurationAsNano,
+                    TimeUnit.NANOSECONDS.name(),
+                    temporalUtil.nanoDurationToString( highestExpectedRuntimeDurationAsNano )
+            ) );
+            return highestExpectedRuntimeDurationAsUnit;
+        }
+        return unit.convert( durationAsNano, TimeUnit.NANOSECONDS );
+    }
+
+    private void throwIfResultsLogWriteFailed() throws MetricsCollectionException
+    {
+        if ( null != resultsLogFlusher )
+        {
+            resultsLogFlusher.throwIfWriteFailed();
+        }
+    }
+
+    private void mergeWriterRecordings()
+    {
+        for ( ThreadRecorder threadRecorder : threadRecorders )
+        {
+            WriterRecording recording = threadRecorder.swapRecordings();
+            total.add( recording );
+            interval.add( recording );
+            recording.reset();
+        }
+    }
+
+    synchronized WorkloadStatusSnapshot status()
+    {
+        mergeWriterRecordings();
+        WorkloadResultsSnapshot intervalResults = snapshot( interval );
+        interval.reset();
+
+        long nowAsMilli = timeSource.nowAsMilli();
+        if ( nowAsMilli < total.startTimeAsMilli )
+        {
+            return new WorkloadStatusSnapshot( 0, 0, 0, 0, 0, 0, intervalResults );
+        }
+        else
+        {
+            long runDurationAsMilli = nowAsMilli - total.startTimeAsMilli;
+            long operationCount = total.count();
+            long durationSinceLastMeasurementAsMilli = nowAsMilli - total.latestFinishTimeAsMilli;
+            double operationsPerSecond =
+                    ((double) operationCount / TimeUnit.MILLISECONDS.toNanos( runDurationAsMilli )) *
+                    TimeUnit.SECONDS.toNanos( 1 );
+            return new WorkloadStatusSnapshot(
+                    runDurationAsMilli,
+                    operationCount,
+                    durationSinceLastMeasurementAsMilli,
+                    operationsPerSecond,
+                    0,
+                    0,
+                    intervalResults );
+        }
+    }
+
+    synchronized WorkloadResultsSnapshot results()
+    {
+        mergeWriterRecordings();
+        return snapshot( total );
+    }
+
+    private WorkloadResultsSnapshot snapshot( Recording recording )
+    {
+        List<OperationMetricsSnapshot> operationMetrics = new ArrayList<>();
+        allOperationTypesHistogram.reset();
+        for ( int operationType = 0; operationType < operationNames.length; operationType++ )
+        {
+            Histogram histogram = recording.histograms[operationType];
+            if ( null != histogram && histogram.getTotalCount() > 0 )
+            {
+                allOperationTypesHistogram.add( histogram );
+                ContinuousMetricSnapshot runTimeMetric =
+                        new ContinuousMetricManager( METRIC_RUNTIME, unit, histogram ).snapshot();
+                ContinuousMetricSnapshot correctedLatencyMetric = new ContinuousMetricManager(
+                        METRIC_CORRECTED_LATENCY,
+                        unit,
+                        recording.correctedLatencyHistogramFor( operationType ) ).snapshot();
+                ContinuousMetricSnapshot startDelayMetric = new ContinuousMetricManager(
+                        METRIC_START_DELAY,
+                        unit,
+                        recording.startDelayHistogramFor( operationType ) ).snapshot();
+                operationMetrics.add( new OperationMetricsSnapshot(
+                        operationNames[operationType],
+                        unit,
+                        runTimeMetric.count(),
+                        runTimeMetric,
+                        correctedLatencyMetric,
+                        startDelayMetric ) );
+            }
+        }
+        WorkloadResultsSnapshot workloadResultsSnapshot = new WorkloadResultsSnapshot(
+                operationMetrics,
+                (recording.startTimeAsMilli == Long.MAX_VALUE) ? -1 : recording.startTimeAsMilli,
+                (recording.latestFinishTimeAsMilli == Long.MIN_VALUE) ? -1 : recording.latestFinishTimeAsMilli,
+                recording.count(),
+                unit );
+        if ( allOperationTypesHistogram.getTotalCount() > 0 )
+        {
+            workloadResultsSnapshot.setAllRunTimeMetric(
+                    new ContinuousMetricManager( METRIC_RUNTIME, unit, allOperationTypesHistogram ).snapshot() );
+        }
+        return workloadResultsSnapshot;
+    }
+
+    /**
+     * Runtime, corrected latency and start delay histograms per operation type, allocated on first use, plus the time
+     * span of the recorded operations. Merged recordings, guarded by the metrics service lock.
+     */
+    private static class Recording
+    {
+        private final Histogram[] histograms;
+        private final Histogram[] correctedLatencyHistograms;
+        private final Histogram[] startDelayHistograms;
+        private final long highestExpectedValue;
+        private final int significantDigits;
+        private long startTimeAsMilli = Long.MAX_VALUE;
+        private long latestFinishTimeAsMilli = Long.MIN_VALUE;
+
+        private Recording( int operationTypeCount, long highestExpectedValue, int significantDigits )
+        {
+            this.histograms = new Histogram[operationTypeCount];
+            this.correctedLatencyHistograms = new Histogram[operationTypeCount];
+            this.startDelayHistograms = new Histogram[operationTypeCount];
+            this.highestExpectedValue = highestExpectedValue;
+            this.significantDigits = significantDigits;
+        }
+
+        private Histogram correctedLatencyHistogramFor( int operationType )
+        {
+            return histogramFor( correctedLatencyHistograms, operationType );
+        }
+
+        private Histogram startDelayHistogramFor( int operationType )
+        {
+            return histogramFor( startDelayHistograms, operationType );
+        }
+
+        private Histogram histogramFor( Histogram[] histogramsPerType, int operationType )
+        {
+            Histogram histogram = histogramsPerType[operationType];
+            if ( null == histogram )
+            {
+                histogram = new Histogram( 1, highestExpectedValue, significantDigits );
+                histogramsPerType[operationType] = histogram;
+            }
+            return histogram;
+        }
+
+        private void add( WriterRecording other )
+        {
+            for ( int operationType = 0; operationType < histograms.length; operationType++ )
+            {
+                addIfNotEmpty( histograms, operationType, other.histograms.get( operationType ) );
+                addIfNotEmpty( correctedLatencyHistograms, operationType,
+                        other.correctedLatencyHistograms.get( operationType ) );
+                addIfNotEmpty( startDelayHistograms, operationType, other.startDelayHistograms.get( operationType ) );
+            }
+            startTimeAsMilli = Math.min( startTimeAsMilli, other.startTimeAsMilli.get() );
+            latestFinishTimeAsMilli = Math.max( latestFinishTimeAsMilli, other.latestFinishTimeAsMilli.get() );
+        }
+
+        private void addIfNotEmpty( Histogram[] histogramsPerType, int operationType, AbstractHistogram other )
+        {
+            if ( null != other && other.getTotalCount() > 0 )
+            {
+                histogramFor( histogramsPerType, operationType ).add( other );
+            }
+        }
+
+        private long count()
+        {
+            long count = 0;
+            for ( Histogram histogram : histograms )
+            {
+                if ( null != histogram )
+                {
+                    count += histogram.getTotalCount();
+                }
+            }
+            return count;
+        }
+
+        private void reset()
+        {
+            for ( Histogram histogram : histograms )
+            {
+                if ( null != histogram )
+                {
+                    histogram.reset();
+                }
+            }
+            for ( Histogram histogram : correctedLatencyHistograms )
+            {
+                if ( null != histogram )
+                {
+                    histogram.reset();
+                }
+            }
+            for ( Histogram histogram : startDelayHistograms )
+            {
+                if ( null != histogram )
+                {
+                    histogram.reset();
+                }
+            }
+            startTimeAsMilli = Long.MAX_VALUE;
+            latestFinishTimeAsMilli = Long.MIN_VALUE;
+        }
+    }
+
+    /**
+     * Recording that writers record into concurrently, without taking a lock. Histograms are atomic and allocated on
+     * first use, the first writer to install one wins.
+     */
+    private static class WriterRecording
+    {
+        private final AtomicReferenceArray<AtomicHistogram> histograms;
+        private final AtomicReferenceArray<AtomicHistogram> correctedLatencyHistograms;
+        private final AtomicReferenceArray<AtomicHistogram> startDelayHistograms;
+        private final long highestExpectedValue;
+        private final int significantDigits;
+        private final AtomicLong startTimeAsMilli = new AtomicLong( Long.MAX_VALUE );
+        private final AtomicLong latestFinishTimeAsMilli = new AtomicLong( Long.MIN_VALUE );
+
+        private WriterRecording( int operationTypeCount, long highestExpectedValue, int significantDigits )
+        {
+            this.histograms = new AtomicReferenceArray<>( operationTypeCount );
+            this.correctedLatencyHistograms = new AtomicReferenceArray<>( operationTypeCount );
+            this.startDelayHistograms = new AtomicReferenceArray<>( operationTypeCount );
+            this.highestExpectedValue = highestExpectedValue;
+            this.significantDigits = significantDigits;
+        }
+
+        private AtomicHistogram histogramFor( AtomicReferenceArray<AtomicHistogram> histogramsPerType,
+                int operationType )
+        {
+            AtomicHistogram histogram = histogramsPerType.get( operationType );
+            if ( null == histogram )
+            {
+                histogramsPerType.compareAndSet(
+                        operationType,
+                        null,
+                        new AtomicHistogram( 1, highestExpectedValue, significantDigits ) );
+                histogram = histogramsPerType.get( operationType );
+            }
+            return histogram;
+        }
+
+        private void record( int operationType, long actualStartTimeAsMilli, long runDurationAsNano,
+                long runDurationAsUnit, long correctedLatencyAsUnit, long startDelayAsUnit )
+        {
+            if ( actualStartTimeAsMilli < startTimeAsMilli.get() )
+            {
+                startTimeAsMilli.accumulateAndGet( actualStartTimeAsMilli, Math::min );
+            }
+            long finishTimeAsMilli = actualStartTimeAsMilli + (runDurationAsNano / MetricsManager.ONE_MS_AS_NS);
+            if ( finishTimeAsMilli > latestFinishTimeAsMilli.get() )
+            {
+                latestFinishTimeAsMilli.accumulateAndGet( finishTimeAsMilli, Math::max );
+            }
+            histogramFor( histograms, operationType ).recordValue( runDurationAsUnit );
+            histogramFor( correctedLatencyHistograms, operationType ).recordValue( correctedLatencyAsUnit );
+            histogramFor( startDelayHistograms, operationType ).recordValue( startDelayAsUnit );
+        }
+
+        /**
+         * Only called once no writer records into it
+         */
+        private void reset()
+        {
+            for ( int operationType = 0; operationType < histograms.length(); operationType++ )
+            {
+                resetIfAllocated( histograms.get( operationType ) );
+                resetIfAllocated( correctedLatencyHistograms.get( operationType ) );
+                resetIfAllocated( startDelayHistograms.get( operationType ) );
+            }
+            startTimeAsMilli.set( Long.MAX_VALUE );
+            latestFinishTimeAsMilli.set( Long.MIN_VALUE );
+        }
+
+        private void resetIfAllocated( AtomicHistogram histogram )
+        {
+            if ( null != histogram )
+            {
+                histogram.reset();
+            }
+        }
+    }
+
+    /**
+     * Recordings, and results log ring buffer, of the threads that map to it. Threads that share a recorder record
+     * into the same atomic histograms, status and results requests swap recordings under the metrics service lock and
+     * then wait, via the phaser, for writers still recording into the previously active one.
+     */
+    private static class ThreadRecorder
+    {
+        private final WriterReaderPhaser phaser = new WriterReaderPhaser();
+        private final RingBuffer<ResultsLogRow> resultsLogRing;
+        private volatile WriterRecording activeRecording;
+        // guarded by the metrics service lock
+        private WriterRecording inactiveRecording;
+
+        private ThreadRecorder( WriterRecording activeRecording, WriterRecording inactiveRecording,
+                RingBuffer<ResultsLogRow> resultsLogRing )
+        {
+            this.activeRecording = activeRecording;
+            this.inactiveRecording = inactiveRecording;
+            this.resultsLogRing = resultsLogRing;
+        }
+
+        /**
+         * Makes the inactive recording active and returns the previously active one, which writers no longer touch.
+         * Callers must hold the metrics service lock.
+         */
+        private WriterRecording swapRecordings()
+        {
+            WriterRecording previousRecording = activeRecording;
+            activeRecording = inactiveRecording;
+            inactiveRecording = previousRecording;
+            phaser.flipPhase();
+            return previousRecording;
+        }
+
+        private void record( int operationType, long actualStartTimeAsMilli, long runDurationAsNano,
+                long runDurationAsUnit, long correctedLatencyAsUnit, long startDelayAsUnit )
+        {
+            long criticalValue = phaser.writerCriticalSectionEnter();
+            try
+            {
+                activeRecording.record( operationType, actualStartTimeAsMilli, runDurationAsNano, runDurationAsUnit,
+                        correctedLatencyAsUnit, startDelayAsUnit );
+            }
+            finally
+            {
+                phaser.writerCriticalSectionExit( criticalValue );
+            }
+        }
+
+        private void log(
+                int operationType,
+                long scheduledStartTime,
+                long actualStartTime,
+                long runDurationAsNano,
+                int resultCode,
+                long originalStartTime,
+                boolean asNano )
+        {
+            if ( null == resultsLogRing )
+            {
+                return;
+            }
+            // --- BLOCKING CALL (only while ring is full) ---
+            long sequence = resultsLogRing.next();
+            try
+            {
+                ResultsLogRow row = resultsLogRing.get( sequence );
+                row.operationType = operationType;
+                row.scheduledStartTime = scheduledStartTime;
+                row.actualStartTime = actualStartTime;
+                row.runDurationAsNano = runDurationAsNano;
+                row.resultCode = resultCode;
+                row.originalStartTime = originalStartTime;
+                row.asNano = asNano;
+            }
+            finally
+            {
+                resultsLogRing.publish( sequence );
+            }
+        }
+    }
+
+    private static class ResultsLogRow
+    {
+        private int operationType;
+        private long scheduledStartTime;
+        private long actualStartTime;
+        private long runDurationAsNano;
+        private int resultCode;
+        private long originalStartTime;
+        private boolean asNano;
+    }
+
+    private static class ResultsLogRowFactory implements EventFactory<ResultsLogRow>
+    {
+        @Override
+        public ResultsLogRow newInstance()
+        {
+            return new ResultsLogRow();
+        }
+    }
+
+    /**
+     * Drains the results log rings of all recorders and writes their rows, it is the only thread that uses the
+     * results log writer. Once a write fails the remaining rows are still drained, so writers never wait on it
+     * forever, but no longer written.
+     */
+    private static class ResultsLogFlusher extends Thread
+    {
+        private static final long IDLE_PARK_AS_NANO = TimeUnit.MICROSECONDS.toNanos( 100 );
+
+        private final List<EventPoller<ResultsLogRow>> pollers = new ArrayList<>();
+        private final AtomicBoolean running = new AtomicBoolean( true );
+        private final AtomicReference<Throwable> writeError = new AtomicReference<>( null );
+        private final ResultsLogWriter resultsLogWriter;
+        private final String[] operationNames;
+        private final EventPoller.Handler<ResultsLogRow> writeHandler;
+
+        private ResultsLogFlusher( ResultsLogWriter resultsLogWriter, String[] operationNames )
+        {
+            super( HdrHistogramMetricsService.class.getSimpleName() + "-" +
+                   ResultsLogFlusher.class.getSimpleName() );
+            setDaemon( true );
+            this.resultsLogWriter = resultsLogWriter;
+            this.operationNames = operationNames;
+            this.writeHandler = new EventPoller.Handler<ResultsLogRow>()
+            {
+                @Override
+                public boolean onEvent( ResultsLogRow row, long sequence, boolean endOfBatch )
+                {
+                    write( row );
+                    return true;
+                }
+            };
+        }
+
+        /**
+         * Must only be called before the flusher is started
+         */
+        private void add( EventPoller<ResultsLogRow> poller )
+        {
+            pollers.add( poller );
+        }
+
+        private void stopAfterDraining()
+        {
+            running.set( false );
+        }
+
+        private void throwIfWriteFailed() throws MetricsCollectionException
+        {
+            Throwable e = writeError.get();
+            if ( null != e )
+            {
+                throw new MetricsCollectionException( "Error encountered while writing to results log", e );
+            }
+        }
+
+        @Override
+        public void run()
+        {
+            boolean drained = false;
+            while ( false == drained )
+            {
+                // read before polling, rows published before stopAfterDraining are then seen by this pass
+                boolean stopping = false == running.get();
+                boolean processed = false;
+                for ( EventPoller<ResultsLogRow> poller : pollers )
+                {
+                    try
+                    {
+                        if ( EventPoller.PollState.PROCESSING == poller.poll( writeHandler ) )
+                        {
+                            processed = true;
+                        }
+                    }
+                    catch ( Throwable e )
+                    {
+                        writeError.compareAndSet( null, e );
+                    }
+                }
+                if ( false == processed )
+                {
+                    if ( stopping )
+                    {
+                        drained = true;
+                    }
+                    else
+                    {
+                        LockSupport.parkNanos( IDLE_PARK_AS_NANO );
+                    }
+                }
+            }
+        }
+
+        private void write( ResultsLogRow row )
+        {
+            if ( null != writeError.get() )
+            {
+                return;
+            }
+            try
+            {
+                if ( row.asNano )
+                {
+                    resultsLogWriter.writeAsNano( operationNames[row.operationType], row.scheduledStartTime,
+                            row.actualStartTime, row.runDurationAsNano, row.resultCode, row.originalStartTime );
+                }
+                else
+                {
+                    resultsLogWriter.write( operationNames[row.operationType], row.scheduledStartTime,
+                            row.actualStartTime, row.runDurationAsNano, row.resultCode, row.originalStartTime );
+                }
+            }
+            catch ( IOException e )
+            {
+                writeError.compareAndSet( null, e );
+            }
+        }
+    }
+
+    private static class HdrHistogramMetricsServiceWriter implements MetricsServiceWriter
+    {
+        private final HdrHistogramMetricsService metricsService;
+
+        private HdrHistogramMetricsServiceWriter( HdrHistogramMetricsService metricsService )
+        {
+            this.metricsService = metricsService;
+        }
+
+        private void applyAlreadyShutdownPolicy() throws MetricsCollectionException
+        {
+            AlreadyShutdownPolicy alreadyShutdownPolicy = metricsService.alreadyShutdownPolicy;
+            if ( null != alreadyShutdownPolicy )
+            {
+                alreadyShutdownPolicy.apply();
+            }
+        }
+
+        private void record( ThreadRecorder threadRecorder, int operationType, long actualStartTimeAsMilli,
+                long runDurationAsNano, long startDelayAsNano )
+        {
+            long runDurationAsUnit = metricsService.durationAsUnit( METRIC_RUNTIME, operationType, runDurationAsNano );
+            long correctedLatencyAsUnit = metricsService.durationAsUnit(
+                    METRIC_CORRECTED_LATENCY,
+                    operationType,
+                    Math.max( 0, startDelayAsNano ) + runDurationAsNano );
+            long startDelayAsUnit = metricsService.durationAsUnit(
+                    METRIC_START_DELAY,
+                    operationType,
+                    Math.max( 0, startDelayAsNano ) );
+            threadRecorder.record( operationType, actualStartTimeAsMilli, runDurationAsNano, runDurationAsUnit,
+                    correctedLatencyAsUnit, startDelayAsUnit );
+        }
+
+        @Override
+        public void submitOperationResult( int operationType,
+                long scheduledStartTimeAsMilli,
+                long actualStartTimeAsMilli,
+                long runDurationAsNano,
+                int resultCode,
+                long originalStartTime ) throws MetricsCollectionException
+        {
+            applyAlreadyShutdownPolicy();
+            metricsService.throwIfResultsLogWriteFailed();
+            ThreadRecorder threadRecorder = metricsService.threadRecorder();
+            threadRecorder.log( operationType, scheduledStartTimeAsMilli, actualStartTimeAsMilli, runDurationAsNano,
+                    resultCode, originalStartTime, false );
+            record(
+                    threadRecorder,
+                    operationType,
+                    actualStartTimeAsMilli,
+                    runDurationAsNano,
+                    TimeUnit.MILLISECONDS.toNanos( actualStartTimeAsMilli - scheduledStartTimeAsMilli ) );
+        }
+
+        @Override
+        public void submitOperationResultAsNano( int operationType,
+                long scheduledStartTimeAsNano,
+                long actualStartTimeAsNano,
+                long runDurationAsNano,
+                int resultCode,
+                long originalStartTime ) throws MetricsCollectionException
+        {
+            applyAlreadyShutdownPolicy();
+            metricsService.throwIfResultsLogWriteFailed();
+            ThreadRecorder threadRecorder = metricsService.threadRecorder();
+            threadRecorder.log( operationType, scheduledStartTimeAsNano, actualStartTimeAsNano, runDurationAsNano,
+                    resultCode, originalStartTime, true );
+            record(
+                    threadRecorder,
+                    operationType,
+                    TemporalUtil.nanoTimeToRoundedMilli( actualStartTimeAsNano ),
+                    runDurationAsNano,
+                    actualStartTimeAsNano - scheduledStartTimeAsNano );
+        }
+
+        @Override
+        public WorkloadStatusSnapshot status() throws MetricsCollectionException
+        {
+            applyAlreadyShutdownPolicy();
+            return metricsService.status();
+        }
+
+        @Override
+        public WorkloadResultsSnapshot results() throws MetricsCollectionException
+        {
+            applyAlreadyShutdownPolicy();
+            return metricsService.results();
+        }
+    }
+
+    private static class AlreadyShutdownPolicy
+    {
+        void apply() throws MetricsCollectionException
+        {
+            throw new MetricsCollectionException( "Metrics service has already been shutdown" );
+        }
+    }
+}
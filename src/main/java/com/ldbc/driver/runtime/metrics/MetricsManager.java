@@ -140,6 +140,16 @@ public class MetricsManager
 
     public void measure( long actualStartTimeAsMilli, long runDurationAsNano, int operationType )
             throws MetricsCollectionException
+    {
+        measure( actualStartTimeAsMilli, runDurationAsNano, 0, operationType );
+    }
+
+    /**
+     * @param startDelayAsNano time from scheduled start to actual start, added to the runtime to get the latency
+     * corrected for coordinated omission
+     */
+    public void measure( long actualStartTimeAsMilli, long runDurationAsNano, long startDelayAsNano,
+            int operationType ) throws MetricsCollectionException
     {
         if ( actualStartTimeAsMilli < startTimeAsMilli )
         {
@@ -152,7 +162,7 @@ public class MetricsManager
             latestFinishTimeAsMilli = operationFinishTimeAsMilli;
         }
 
-        operationTypeMetricsManagers[operationType].measure( runDurationAsNano );
+        operationTypeMetricsManagers[operationType].measure( runDurationAsNano, startDelayAsNano );
     }
 
     public void applyResultsLog( ResultsLogReader reader ) throws MetricsCollectionException
@@ -161,7 +171,11 @@ public class MetricsManager
         while ( reader.next() )
         {
             int operationType = simpleNameToTypeMapping.get( reader.getOperationName() );
-            measure( reader.getActualStartTimeAsMilli(), reader.getRunDurationAsNano(), operationType );
+            measure(
+                    reader.getActualStartTimeAsMilli(),
+                    reader.getRunDurationAsNano(),
+                    reader.getActualStartTimeAsNano() - reader.getScheduledStartTimeAsNano(),
+                    operationType );
         }
     }
 
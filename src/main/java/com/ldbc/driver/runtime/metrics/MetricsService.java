@@ -1,5 +1,7 @@
 package com.ldbc.driver.runtime.metrics;
 
+import com.ldbc.driver.temporal.TemporalUtil;
+
 public interface MetricsService
 {
     void shutdown() throws MetricsCollectionException;
@@ -16,6 +18,27 @@ public interface MetricsService
                 int resultCode,
                 long originalStartTime) throws MetricsCollectionException;
 
+        /**
+         * Same as submitOperationResult, but with scheduled and actual start times as epoch nanoseconds.
+         * Writers that do not record sub-millisecond timestamps round them to milliseconds.
+         */
+        default void submitOperationResultAsNano(
+                int operationType,
+                long scheduledStartTimeAsNano,
+                long actualStartTimeAsNano,
+                long runDurationAsNano,
+                int resultCode,
+                long originalStartTime) throws MetricsCollectionException
+        {
+            submitOperationResult(
+                    operationType,
+                    TemporalUtil.nanoTimeToRoundedMilli( scheduledStartTimeAsNano ),
+                    TemporalUtil.nanoTimeToRoundedMilli( actualStartTimeAsNano ),
+                    runDurationAsNano,
+                    resultCode,
+                    originalStartTime );
+        }
+
         WorkloadStatusSnapshot status() throws MetricsCollectionException;
 
         WorkloadResultsSnapshot results() throws MetricsCollectionException;
@@ -0,0 +1,13 @@
+package com.ldbc.driver.runtime.metrics;
+
+public enum MetricsServiceType
+{
+    /**
+     * Writers publish operation results to ring buffers, a single consumer thread records them
+     */
+    DISRUPTOR,
+    /**
+     * Writers record operation results into their own histograms, which are merged on status and results requests
+     */
+    HISTOGRAM_PER_WRITER
+}
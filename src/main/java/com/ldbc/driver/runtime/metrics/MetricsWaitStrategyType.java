@@ -0,0 +1,10 @@
+package com.ldbc.driver.runtime.metrics;
+
+public enum MetricsWaitStrategyType
+{
+    BLOCKING,
+    SLEEPING,
+    YIELDING,
+    BUSY_SPIN,
+    PHASED_BACKOFF
+}
@@ -13,6 +13,12 @@ public class OperationMetricsSnapshot {
     private long count;
     @JsonProperty("run_time")
     private ContinuousMetricSnapshot rutTimeMetric;
+    // scheduled start to completion, i.e., runtime plus the time spent waiting to be started
+    @JsonProperty("corrected_latency")
+    private ContinuousMetricSnapshot correctedLatencyMetric;
+    // scheduled start to actual start
+    @JsonProperty("start_delay")
+    private ContinuousMetricSnapshot startDelayMetric;
 
     private OperationMetricsSnapshot() {
     }
@@ -21,10 +27,29 @@ public class OperationMetricsSnapshot {
                                     TimeUnit durationUnit,
                                     long count,
                                     ContinuousMetricSnapshot rutTimeMetric) {
+        this(name, durationUnit, count, rutTimeMetric, null);
+    }
+
+    public OperationMetricsSnapshot(String name,
+                                    TimeUnit durationUnit,
+                                    long count,
+                                    ContinuousMetricSnapshot rutTimeMetric,
+                                    ContinuousMetricSnapshot correctedLatencyMetric) {
+        this(name, durationUnit, count, rutTimeMetric, correctedLatencyMetric, null);
+    }
+
+    public OperationMetricsSnapshot(String name,
+                                    TimeUnit durationUnit,
+                                    long count,
+                                    ContinuousMetricSnapshot rutTimeMetric,
+                                    ContinuousMetricSnapshot correctedLatencyMetric,
+                                    ContinuousMetricSnapshot startDelayMetric) {
         this.name = name;
         this.durationUnit = durationUnit;
         this.count = count;
         this.rutTimeMetric = rutTimeMetric;
+        this.correctedLatencyMetric = correctedLatencyMetric;
+        this.startDelayMetric = startDelayMetric;
     }
 
     public String name() {
@@ -43,6 +68,20 @@ public class OperationMetricsSnapshot {
         return rutTimeMetric;
     }
 
+    /**
+     * May be null, for results that were recorded without scheduled start times
+     */
+    public ContinuousMetricSnapshot correctedLatencyMetric() {
+        return correctedLatencyMetric;
+    }
+
+    /**
+     * May be null, for results that were recorded without scheduled start times
+     */
+    public ContinuousMetricSnapshot startDelayMetric() {
+        return startDelayMetric;
+    }
+
     @Override
     public boolean equals(Object o) {
         if (this == o) return true;
@@ -55,6 +94,10 @@ public class OperationMetricsSnapshot {
         if (name != null ? !name.equals(that.name) : that.name != null) return false;
         if (rutTimeMetric != null ? !rutTimeMetric.equals(that.rutTimeMetric) : that.rutTimeMetric != null)
             return false;
+        if (correctedLatencyMetric != null ? !correctedLatencyMetric.equals(that.correctedLatencyMetric) : that.correctedLatencyMetric != null)
+            return false;
+        if (startDelayMetric != null ? !startDelayMetric.equals(that.startDelayMetric) : that.startDelayMetric != null)
+            return false;
 
         return true;
     }
@@ -65,6 +108,8 @@ public class OperationMetricsSnapshot {
         result = 31 * result + (durationUnit != null ? durationUnit.hashCode() : 0);
         result = 31 * result + (int) (count ^ (count >>> 32));
         result = 31 * result + (rutTimeMetric != null ? rutTimeMetric.hashCode() : 0);
+        result = 31 * result + (correctedLatencyMetric != null ? correctedLatencyMetric.hashCode() : 0);
+        result = 31 * result + (startDelayMetric != null ? startDelayMetric.hashCode() : 0);
         return result;
     }
 
@@ -75,6 +120,8 @@ public class OperationMetricsSnapshot {
                 ", durationUnit=" + durationUnit +
                 ", count=" + count +
                 ", rutTimeMetric=" + rutTimeMetric +
+                ", correctedLatencyMetric=" + correctedLatencyMetric +
+                ", startDelayMetric=" + startDelayMetric +
                 '}';
     }
 }
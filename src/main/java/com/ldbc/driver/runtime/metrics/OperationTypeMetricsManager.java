@@ -12,9 +12,13 @@ import static java.lang.String.format;
 public class OperationTypeMetricsManager
 {
     private static final String METRIC_RUNTIME = "Runtime";
+    private static final String METRIC_CORRECTED_LATENCY = "Corrected Latency";
+    private static final String METRIC_START_DELAY = "Start Delay";
 
     private final TemporalUtil temporalUtil = new TemporalUtil();
     private final ContinuousMetricManager runTimeMetric;
+    private final ContinuousMetricManager correctedLatencyMetric;
+    private final ContinuousMetricManager startDelayMetric;
     private final String name;
     private final TimeUnit unit;
     private final long highestExpectedRuntimeDurationAsNano;
@@ -36,46 +40,83 @@ public class OperationTypeMetricsManager
                 unit.convert( highestExpectedRuntimeDurationAsNano, TimeUnit.NANOSECONDS ),
                 4
         );
+        this.correctedLatencyMetric = new ContinuousMetricManager(
+                METRIC_CORRECTED_LATENCY,
+                unit,
+                unit.convert( highestExpectedRuntimeDurationAsNano, TimeUnit.NANOSECONDS ),
+                4
+        );
+        this.startDelayMetric = new ContinuousMetricManager(
+                METRIC_START_DELAY,
+                unit,
+                unit.convert( highestExpectedRuntimeDurationAsNano, TimeUnit.NANOSECONDS ),
+                4
+        );
     }
 
     void measure( long runDurationAsNano ) throws MetricsCollectionException
+    {
+        measure( runDurationAsNano, 0 );
+    }
+
+    /**
+     * Records the runtime of an operation, i.e., its service time, and its corrected latency, the time from when it
+     * was scheduled to start until it completed. When the driver falls behind schedule the difference between the two
+     * is the time the operation waited to be started, which does not show up in the runtime.
+     */
+    void measure( long runDurationAsNano, long startDelayAsNano ) throws MetricsCollectionException
     {
         //
         // Measure operation runtime
         //
-        if ( runDurationAsNano > highestExpectedRuntimeDurationAsNano )
+        add( runTimeMetric, runDurationAsNano );
+        //
+        // Measure operation latency, as experienced by a client that issues operations on schedule
+        //
+        add( correctedLatencyMetric, Math.max( 0, startDelayAsNano ) + runDurationAsNano );
+        //
+        // Measure how late operation was started, i.e., how far the driver was behind schedule
+        //
+        add( startDelayMetric, Math.max( 0, startDelayAsNano ) );
+    }
+
+    private void add( ContinuousMetricManager metric, long durationAsNano ) throws MetricsCollectionException
+    {
+        if ( durationAsNano > highestExpectedRuntimeDurationAsNano )
         {
             String errMsg = format(
-                    "Error recording runtime - reported value exceeds maximum allowed. Time " +
+                    "Error recording %s - reported value exceeds maximum allowed. Time " +
                     "reported as maximum.\n"
                     + "Reported: %s %s / %s\n"
                     + "For: %s\n"
                     + "Maximum: %s %s / %s",
-                    runDurationAsNano,
+                    metric.name().toLowerCase(),
+                    durationAsNano,
                     TimeUnit.NANOSECONDS.name(),
-                    temporalUtil.nanoDurationToString( runDurationAsNano ),
+                    temporalUtil.nanoDurationToString( durationAsNano ),
                     name,
                     highestExpectedRuntimeDurationAsNano,
                     TimeUnit.NANOSECONDS.name(),
                     temporalUtil.nanoDurationToString( highestExpectedRuntimeDurationAsNano )
             );
             loggingService.info( errMsg );
-            runDurationAsNano = highestExpectedRuntimeDurationAsNano;
+            durationAsNano = highestExpectedRuntimeDurationAsNano;
         }
 
-        long runtimeInAppropriateUnit = unit.convert( runDurationAsNano, TimeUnit.NANOSECONDS );
+        long durationInAppropriateUnit = unit.convert( durationAsNano, TimeUnit.NANOSECONDS );
 
         try
         {
-            runTimeMetric.addMeasurement( runtimeInAppropriateUnit );
+            metric.addMeasurement( durationInAppropriateUnit );
         }
         catch ( Throwable e )
         {
             String errMsg = format(
-                    "Error encountered adding runtime: %s %s / %s %s\nTo: %s\nHighest expected value: %s %s / %s %s",
-                    runDurationAsNano,
+                    "Error encountered adding %s: %s %s / %s %s\nTo: %s\nHighest expected value: %s %s / %s %s",
+                    metric.name().toLowerCase(),
+                    durationAsNano,
                     TimeUnit.NANOSECONDS.name(),
-                    runtimeInAppropriateUnit,
+                    durationInAppropriateUnit,
                     unit.name(),
                     name,
                     highestExpectedRuntimeDurationAsNano,
@@ -89,7 +130,8 @@ public class OperationTypeMetricsManager
 
     public OperationMetricsSnapshot snapshot()
     {
-        return new OperationMetricsSnapshot( name, unit, count(), runTimeMetric.snapshot() );
+        return new OperationMetricsSnapshot( name, unit, count(), runTimeMetric.snapshot(),
+                correctedLatencyMetric.snapshot(), startDelayMetric.snapshot() );
     }
 
     public String name()
@@ -0,0 +1,56 @@
+package com.ldbc.driver.runtime.metrics;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+public enum ResultsLogFormat
+{
+    /**
+     * One csv row per operation, written by SimpleResultsLogWriter
+     */
+    CSV( ".csv" ),
+    /**
+     * Fixed width binary records, written by BinaryResultsLogWriter
+     */
+    BINARY( BinaryResultsLogWriter.FILE_SUFFIX ),
+    /**
+     * Fixed width binary records in deflated blocks, written by BinaryResultsLogWriter
+     */
+    BINARY_COMPRESSED( BinaryResultsLogWriter.FILE_SUFFIX );
+
+    private final String fileSuffix;
+
+    ResultsLogFormat( String fileSuffix )
+    {
+        this.fileSuffix = fileSuffix;
+    }
+
+    public String fileSuffix()
+    {
+        return fileSuffix;
+    }
+
+    public ResultsLogWriter newWriter( File resultsLog, TimeUnit unit, TimeUnit timestampUnit ) throws IOException
+    {
+        switch ( this )
+        {
+        case BINARY:
+            return new BinaryResultsLogWriter( resultsLog, unit, timestampUnit, false );
+        case BINARY_COMPRESSED:
+            return new BinaryResultsLogWriter( resultsLog, unit, timestampUnit, true );
+        default:
+            return new SimpleResultsLogWriter( resultsLog, unit, timestampUnit );
+        }
+    }
+
+    /**
+     * Opens a results log of any format, the format is detected from the file contents
+     */
+    public static ResultsLogReader newReader( File resultsLog ) throws IOException
+    {
+        return (BinaryResultsLogReader.isBinaryResultsLog( resultsLog ))
+               ? new BinaryResultsLogReader( resultsLog )
+               : new SimpleResultsLogReader( resultsLog );
+    }
+}
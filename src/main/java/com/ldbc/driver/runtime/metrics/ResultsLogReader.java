@@ -8,12 +8,18 @@ public interface ResultsLogReader extends AutoCloseable
 
     TimeUnit unit();
 
+    TimeUnit timestampUnit();
+
     String getOperationName();
 
     long getScheduledStartTimeAsMilli();
 
     long getActualStartTimeAsMilli();
 
+    long getScheduledStartTimeAsNano();
+
+    long getActualStartTimeAsNano();
+
     long getRunDurationAsNano();
 
     int getResultCode();
@@ -1,5 +1,7 @@
 package com.ldbc.driver.runtime.metrics;
 
+import com.ldbc.driver.temporal.TemporalUtil;
+
 import java.io.IOException;
 
 public interface ResultsLogWriter extends AutoCloseable
@@ -10,6 +12,8 @@ public interface ResultsLogWriter extends AutoCloseable
     String HEADER_EXECUTION_DURATION_PREFIX = "execution_duration_";
     String HEADER_RESULT_CODE = "result_code";
     String HEADER_ORIGINAL_START_TIME = "original_start_time";
+    // start time headers carry this separator and their unit as suffix, unless timestamps are in milliseconds
+    String HEADER_TIMESTAMP_UNIT_SEPARATOR = "_";
 
     int INDEX_OPERATION_TYPE = 0;
     int INDEX_SCHEDULED_START_TIME = 1;
@@ -25,4 +29,25 @@ public interface ResultsLogWriter extends AutoCloseable
             long runDurationAsNano,
             int resultCode,
             long originalStartTime ) throws IOException;
+
+    /**
+     * Same as write, but with scheduled and actual start times as epoch nanoseconds.
+     * Writers that do not record sub-millisecond timestamps round them to milliseconds.
+     */
+    default void writeAsNano(
+            String operationName,
+            long scheduledStartTimeAsNano,
+            long actualStartTimeAsNano,
+            long runDurationAsNano,
+            int resultCode,
+            long originalStartTime ) throws IOException
+    {
+        write(
+                operationName,
+                TemporalUtil.nanoTimeToRoundedMilli( scheduledStartTimeAsNano ),
+                TemporalUtil.nanoTimeToRoundedMilli( actualStartTimeAsNano ),
+                runDurationAsNano,
+                resultCode,
+                originalStartTime );
+    }
 }
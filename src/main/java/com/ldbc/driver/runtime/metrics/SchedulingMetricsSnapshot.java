@@ -0,0 +1,108 @@
+package com.ldbc.driver.runtime.metrics;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import java.util.Objects;
+
+/**
+ * Where operations spent their time before they were started, to tell whether the driver or the database under test
+ * is the bottleneck:
+ * <ul>
+ * <li>feeder_blocked: time stream feeders were blocked submitting operations, because the executor was full</li>
+ * <li>queue_depth: operations queued in the executor, sampled whenever an operation was submitted</li>
+ * <li>completion_time_wait: time operations waited for their dependencies, i.e., for completion time to advance</li>
+ * <li>scheduled_start_time_wait: time operations waited for their scheduled start time</li>
+ * <li>scheduling_lateness: time between scheduled start time and release by the scheduler</li>
+ * </ul>
+ * Waits are only recorded for operations that had to wait. Metrics that do not apply to the executor used are null.
+ */
+public class SchedulingMetricsSnapshot
+{
+    @JsonProperty( value = "feeder_blocked" )
+    private ContinuousMetricSnapshot feederBlocked;
+    @JsonProperty( value = "queue_depth" )
+    private ContinuousMetricSnapshot queueDepth;
+    @JsonProperty( value = "completion_time_wait" )
+    private ContinuousMetricSnapshot completionTimeWait;
+    @JsonProperty( value = "scheduled_start_time_wait" )
+    private ContinuousMetricSnapshot scheduledStartTimeWait;
+    @JsonProperty( value = "scheduling_lateness" )
+    private ContinuousMetricSnapshot schedulingLateness;
+
+    private SchedulingMetricsSnapshot()
+    {
+    }
+
+    public SchedulingMetricsSnapshot(
+            ContinuousMetricSnapshot feederBlocked,
+            ContinuousMetricSnapshot queueDepth,
+            ContinuousMetricSnapshot completionTimeWait,
+            ContinuousMetricSnapshot scheduledStartTimeWait,
+            ContinuousMetricSnapshot schedulingLateness )
+    {
+        this.feederBlocked = feederBlocked;
+        this.queueDepth = queueDepth;
+        this.completionTimeWait = completionTimeWait;
+        this.scheduledStartTimeWait = scheduledStartTimeWait;
+        this.schedulingLateness = schedulingLateness;
+    }
+
+    public ContinuousMetricSnapshot feederBlocked()
+    {
+        return feederBlocked;
+    }
+
+    public ContinuousMetricSnapshot queueDepth()
+    {
+        return queueDepth;
+    }
+
+    public ContinuousMetricSnapshot completionTimeWait()
+    {
+        return completionTimeWait;
+    }
+
+    public ContinuousMetricSnapshot scheduledStartTimeWait()
+    {
+        return scheduledStartTimeWait;
+    }
+
+    public ContinuousMetricSnapshot schedulingLateness()
+    {
+        return schedulingLateness;
+    }
+
+    @Override
+    public String toString()
+    {
+        return "SchedulingMetricsSnapshot{" +
+               "feederBlocked=" + feederBlocked +
+               ", queueDepth=" + queueDepth +
+               ", completionTimeWait=" + completionTimeWait +
+               ", scheduledStartTimeWait=" + scheduledStartTimeWait +
+               ", schedulingLateness=" + schedulingLateness +
+               '}';
+    }
+
+    @Override
+    public boolean equals( Object o )
+    {
+        if ( this == o )
+        { return true; }
+        if ( o == null || getClass() != o.getClass() )
+        { return false; }
+        SchedulingMetricsSnapshot that = (SchedulingMetricsSnapshot) o;
+        return Objects.equals( feederBlocked, that.feederBlocked ) &&
+               Objects.equals( queueDepth, that.queueDepth ) &&
+               Objects.equals( completionTimeWait, that.completionTimeWait ) &&
+               Objects.equals( scheduledStartTimeWait, that.scheduledStartTimeWait ) &&
+               Objects.equals( schedulingLateness, that.schedulingLateness );
+    }
+
+    @Override
+    public int hashCode()
+    {
+        return Objects.hash( feederBlocked, queueDepth, completionTimeWait, scheduledStartTimeWait,
+                schedulingLateness );
+    }
+}
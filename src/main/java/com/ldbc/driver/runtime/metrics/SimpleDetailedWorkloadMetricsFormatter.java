@@ -82,6 +82,42 @@ public class SimpleDetailedWorkloadMetricsFormatter implements WorkloadMetricsFo
         sb.append( offset ).append( offset )
                 .append( String.format( "%1$-" + padRightDistance + "s", "99th Percentile:" ) )
                 .append( INTEGER_FORMATTER.format( metric.runTimeMetric().percentile99() ) ).append( "\n" );
+        ContinuousMetricSnapshot correctedLatency = metric.correctedLatencyMetric();
+        if ( null != correctedLatency )
+        {
+            // scheduled start to completion, includes time spent waiting to be started when behind schedule
+            formatNestedMetric( sb, offset, padRightDistance, "Corrected Latency:", correctedLatency );
+        }
+        ContinuousMetricSnapshot startDelay = metric.startDelayMetric();
+        if ( null != startDelay )
+        {
+            // scheduled start to actual start
+            formatNestedMetric( sb, offset, padRightDistance, "Start Delay:", startDelay );
+        }
         return sb.toString();
     }
+
+    private void formatNestedMetric( StringBuilder sb, String offset, int padRightDistance, String title,
+            ContinuousMetricSnapshot nestedMetric )
+    {
+        sb.append( offset ).append( offset ).append( title ).append( "\n" );
+        sb.append( offset ).append( offset ).append( offset )
+                .append( String.format( "%1$-" + padRightDistance + "s", "Max:" ) )
+                .append( INTEGER_FORMATTER.format( nestedMetric.max() ) ).append( "\n" );
+        sb.append( offset ).append( offset ).append( offset )
+                .append( String.format( "%1$-" + padRightDistance + "s", "Mean:" ) )
+                .append( FLOAT_FORMATTER.format( nestedMetric.mean() ) ).append( "\n" );
+        sb.append( offset ).append( offset ).append( offset )
+                .append( String.format( "%1$-" + padRightDistance + "s", "50th Percentile:" ) )
+                .append( INTEGER_FORMATTER.format( nestedMetric.percentile50() ) ).append( "\n" );
+        sb.append( offset ).append( offset ).append( offset )
+                .append( String.format( "%1$-" + padRightDistance + "s", "90th Percentile:" ) )
+                .append( INTEGER_FORMATTER.format( nestedMetric.percentile90() ) ).append( "\n" );
+        sb.append( offset ).append( offset ).append( offset )
+                .append( String.format( "%1$-" + padRightDistance + "s", "95th Percentile:" ) )
+                .append( INTEGER_FORMATTER.format( nestedMetric.percentile95() ) ).append( "\n" );
+        sb.append( offset ).append( offset ).append( offset )
+                .append( String.format( "%1$-" + padRightDistance + "s", "99th Percentile:" ) )
+                .append( INTEGER_FORMATTER.format( nestedMetric.percentile99() ) ).append( "\n" );
+    }
 }
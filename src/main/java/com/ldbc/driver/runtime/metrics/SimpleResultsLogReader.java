@@ -8,6 +8,8 @@ import java.util.Arrays;
 import java.util.concurrent.TimeUnit;
 
 import static com.ldbc.driver.runtime.metrics.ResultsLogWriter.HEADER_EXECUTION_DURATION_PREFIX;
+import static com.ldbc.driver.runtime.metrics.ResultsLogWriter.HEADER_SCHEDULED_START_TIME;
+import static com.ldbc.driver.runtime.metrics.ResultsLogWriter.HEADER_TIMESTAMP_UNIT_SEPARATOR;
 import static com.ldbc.driver.runtime.metrics.ResultsLogWriter.INDEX_ACTUAL_START_TIME;
 import static com.ldbc.driver.runtime.metrics.ResultsLogWriter.INDEX_EXECUTION_DURATION;
 import static com.ldbc.driver.runtime.metrics.ResultsLogWriter.INDEX_OPERATION_TYPE;
@@ -20,24 +22,27 @@ public class SimpleResultsLogReader implements ResultsLogReader
 {
     private final SimpleCsvFileReader reader;
     private final TimeUnit unit;
+    private final TimeUnit timestampUnit;
     private String[] row = null;
 
     public SimpleResultsLogReader( File resultsLog ) throws IOException
     {
         this.reader = new SimpleCsvFileReader( resultsLog, SimpleCsvFileReader.DEFAULT_COLUMN_SEPARATOR_REGEX_STRING );
-        this.unit = processHeaders();
+        String[] headers = processHeaders();
+        this.unit = valueOf( headers[INDEX_EXECUTION_DURATION].replace( HEADER_EXECUTION_DURATION_PREFIX, "" ) );
+        this.timestampUnit = timestampUnit( headers[INDEX_SCHEDULED_START_TIME] );
     }
 
-    private TimeUnit processHeaders()
+    private String[] processHeaders()
     {
         if ( reader.hasNext() )
         {
             String[] headers = reader.next();
-            if ( !headers[INDEX_SCHEDULED_START_TIME].equals( ResultsLogWriter.HEADER_SCHEDULED_START_TIME ) )
+            if ( !headers[INDEX_SCHEDULED_START_TIME].startsWith( HEADER_SCHEDULED_START_TIME ) )
             {
                 throw new RuntimeException( "Expected first row to be headers but was: " + Arrays.toString( headers ) );
             }
-            return valueOf( headers[INDEX_EXECUTION_DURATION].replace( HEADER_EXECUTION_DURATION_PREFIX, "" ) );
+            return headers;
         }
         else
         {
@@ -60,12 +65,27 @@ public class SimpleResultsLogReader implements ResultsLogReader
         }
     }
 
+    // results logs written without a timestamp unit suffix have millisecond timestamps
+    public static TimeUnit timestampUnit( String scheduledStartTimeHeader )
+    {
+        return (scheduledStartTimeHeader.equals( HEADER_SCHEDULED_START_TIME ))
+               ? TimeUnit.MILLISECONDS
+               : valueOf( scheduledStartTimeHeader.substring(
+                       HEADER_SCHEDULED_START_TIME.length() + HEADER_TIMESTAMP_UNIT_SEPARATOR.length() ) );
+    }
+
     @Override
     public TimeUnit unit()
     {
         return unit;
     }
 
+    @Override
+    public TimeUnit timestampUnit()
+    {
+        return timestampUnit;
+    }
+
     @Override
     public String getOperationName()
     {
@@ -77,14 +97,28 @@ public class SimpleResultsLogReader implements ResultsLogReader
     public long getScheduledStartTimeAsMilli()
     {
         assertRowNotNull( row );
-        return Long.parseLong( row[INDEX_SCHEDULED_START_TIME] );
+        return timestampUnit.toMillis( Long.parseLong( row[INDEX_SCHEDULED_START_TIME] ) );
     }
 
     @Override
     public long getActualStartTimeAsMilli()
     {
         assertRowNotNull( row );
-        return Long.parseLong( row[INDEX_ACTUAL_START_TIME] );
+        return timestampUnit.toMillis( Long.parseLong( row[INDEX_ACTUAL_START_TIME] ) );
+    }
+
+    @Override
+    public long getScheduledStartTimeAsNano()
+    {
+        assertRowNotNull( row );
+        return timestampUnit.toNanos( Long.parseLong( row[INDEX_SCHEDULED_START_TIME] ) );
+    }
+
+    @Override
+    public long getActualStartTimeAsNano()
+    {
+        assertRowNotNull( row );
+        return timestampUnit.toNanos( Long.parseLong( row[INDEX_ACTUAL_START_TIME] ) );
     }
 
     @Override
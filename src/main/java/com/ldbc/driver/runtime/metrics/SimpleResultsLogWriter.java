@@ -1,6 +1,7 @@
 package com.ldbc.driver.runtime.metrics;
 
 import com.ldbc.driver.csv.simple.SimpleCsvFileWriter;
+import com.ldbc.driver.temporal.TemporalUtil;
 
 import java.io.File;
 import java.io.IOException;
@@ -10,22 +11,42 @@ public class SimpleResultsLogWriter implements ResultsLogWriter
 {
     private final SimpleCsvFileWriter writer;
     private final TimeUnit unit;
+    private final TimeUnit timestampUnit;
 
     public SimpleResultsLogWriter( File resultsLog, TimeUnit unit ) throws IOException
+    {
+        this( resultsLog, unit, TimeUnit.MILLISECONDS );
+    }
+
+    /**
+     * @param unit          unit of execution durations
+     * @param timestampUnit unit of scheduled and actual start times, MICROSECONDS or NANOSECONDS for runs where
+     *                      many operations start within the same millisecond
+     */
+    public SimpleResultsLogWriter( File resultsLog, TimeUnit unit, TimeUnit timestampUnit ) throws IOException
     {
         this.writer = new SimpleCsvFileWriter( resultsLog, SimpleCsvFileWriter.DEFAULT_COLUMN_SEPARATOR );
         this.unit = unit;
+        this.timestampUnit = timestampUnit;
         resultsLog.createNewFile();
         writer.writeRow(
                 HEADER_OPERATION_TYPE,
-                HEADER_SCHEDULED_START_TIME,
-                HEADER_ACTUAL_START_TIME,
+                timestampHeader( HEADER_SCHEDULED_START_TIME, timestampUnit ),
+                timestampHeader( HEADER_ACTUAL_START_TIME, timestampUnit ),
                 HEADER_EXECUTION_DURATION_PREFIX + unit.name(),
                 HEADER_RESULT_CODE,
                 HEADER_ORIGINAL_START_TIME
         );
     }
 
+    // millisecond timestamp headers are left unchanged, so existing results log consumers keep working
+    static String timestampHeader( String header, TimeUnit timestampUnit )
+    {
+        return (TimeUnit.MILLISECONDS == timestampUnit)
+               ? header
+               : header + HEADER_TIMESTAMP_UNIT_SEPARATOR + timestampUnit.name();
+    }
+
     @Override
     public void write(
             String operationName,
@@ -37,8 +58,27 @@ public class SimpleResultsLogWriter implements ResultsLogWriter
     {
         writer.writeRow(
                 operationName,
-                Long.toString( scheduledStartTimeAsMilli ),
-                Long.toString( actualStartTimeAsMilli ),
+                Long.toString( timestampUnit.convert( scheduledStartTimeAsMilli, TimeUnit.MILLISECONDS ) ),
+                Long.toString( timestampUnit.convert( actualStartTimeAsMilli, TimeUnit.MILLISECONDS ) ),
+                Long.toString( unit.convert( runDurationAsNano, TimeUnit.NANOSECONDS ) ),
+                Integer.toString( resultCode ),
+                Long.toString( originalStartTime )
+        );
+    }
+
+    @Override
+    public void writeAsNano(
+            String operationName,
+            long scheduledStartTimeAsNano,
+            long actualStartTimeAsNano,
+            long runDurationAsNano,
+            int resultCode,
+            long originalStartTime ) throws IOException
+    {
+        writer.writeRow(
+                operationName,
+                Long.toString( TemporalUtil.nanoTimeToRoundedUnit( scheduledStartTimeAsNano, timestampUnit ) ),
+                Long.toString( TemporalUtil.nanoTimeToRoundedUnit( actualStartTimeAsNano, timestampUnit ) ),
                 Long.toString( unit.convert( runDurationAsNano, TimeUnit.NANOSECONDS ) ),
                 Integer.toString( resultCode ),
                 Long.toString( originalStartTime )
@@ -0,0 +1,65 @@
+package com.ldbc.driver.runtime.metrics;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Metrics of the operations of one operation stream, e.g., one session of a throughput test.
+ * <p>
+ * Not thread safe. Measurements are added by the thread that executes the stream, snapshots are only taken after
+ * that thread has finished.
+ */
+public class StreamMetricsManager
+{
+    private long count = 0;
+    private long startTimeAsMilli = Long.MAX_VALUE;
+    private long finishTimeAsMilli = Long.MIN_VALUE;
+    // sum of natural logarithms of run durations, for the geometric mean
+    private double logRunDurationAsNanoSum = 0;
+
+    public void measure( long actualStartTimeAsMilli, long runDurationAsNano )
+    {
+        count++;
+        startTimeAsMilli = Math.min( startTimeAsMilli, actualStartTimeAsMilli );
+        finishTimeAsMilli = Math.max( finishTimeAsMilli,
+                actualStartTimeAsMilli + TimeUnit.NANOSECONDS.toMillis( runDurationAsNano ) );
+        // run durations below 1 nanosecond are not measurable, and would make the geometric mean 0
+        logRunDurationAsNanoSum += Math.log( Math.max( 1, runDurationAsNano ) );
+    }
+
+    /**
+     * @return metrics of all operations of all streams, as if they were one stream
+     */
+    public static StreamMetricsManager merge( Iterable<StreamMetricsManager> streamMetricsManagers )
+    {
+        StreamMetricsManager merged = new StreamMetricsManager();
+        for ( StreamMetricsManager streamMetricsManager : streamMetricsManagers )
+        {
+            merged.count += streamMetricsManager.count;
+            merged.startTimeAsMilli = Math.min( merged.startTimeAsMilli, streamMetricsManager.startTimeAsMilli );
+            merged.finishTimeAsMilli = Math.max( merged.finishTimeAsMilli, streamMetricsManager.finishTimeAsMilli );
+            merged.logRunDurationAsNanoSum += streamMetricsManager.logRunDurationAsNanoSum;
+        }
+        return merged;
+    }
+
+    public long count()
+    {
+        return count;
+    }
+
+    public StreamMetricsSnapshot snapshot( String name, TimeUnit unit )
+    {
+        if ( 0 == count )
+        {
+            return new StreamMetricsSnapshot( name, unit, 0, 0, 0, 0 );
+        }
+        return new StreamMetricsSnapshot(
+                name,
+                unit,
+                count,
+                startTimeAsMilli,
+                finishTimeAsMilli,
+                Math.exp( logRunDurationAsNanoSum / count )
+        );
+    }
+}
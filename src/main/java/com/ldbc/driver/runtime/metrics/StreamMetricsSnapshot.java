@@ -0,0 +1,160 @@
+package com.ldbc.driver.runtime.metrics;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Power and throughput of one operation stream, or of several streams combined:
+ * <ul>
+ * <li>throughput: operations per second, from the start of the first operation to the finish of the last</li>
+ * <li>power: operations per hour, if every operation took the geometric mean run time</li>
+ * </ul>
+ * Unlike throughput, power is independent of the number of concurrent streams and of the time spent between
+ * operations, and it is not dominated by the longest running operations.
+ */
+public class StreamMetricsSnapshot
+{
+    private static final double NANOS_PER_HOUR = TimeUnit.HOURS.toNanos( 1 );
+
+    @JsonProperty( value = "name" )
+    private String name;
+    @JsonProperty( value = "unit" )
+    private TimeUnit unit;
+    @JsonProperty( value = "count" )
+    private long count;
+    @JsonProperty( value = "start_time" )
+    private long startTimeAsUnit;
+    @JsonProperty( value = "finish_time" )
+    private long finishTimeAsUnit;
+    @JsonProperty( value = "duration" )
+    private long durationAsUnit;
+    @JsonProperty( value = "geometric_mean_run_time" )
+    private double geometricMeanRunTimeAsUnit;
+    @JsonProperty( value = "throughput" )
+    private double throughput;
+    @JsonProperty( value = "power" )
+    private double power;
+
+    private StreamMetricsSnapshot()
+    {
+    }
+
+    public StreamMetricsSnapshot(
+            String name,
+            TimeUnit unit,
+            long count,
+            long startTimeAsMilli,
+            long finishTimeAsMilli,
+            double geometricMeanRunTimeAsNano )
+    {
+        this.name = name;
+        this.unit = unit;
+        this.count = count;
+        this.startTimeAsUnit = unit.convert( startTimeAsMilli, TimeUnit.MILLISECONDS );
+        this.finishTimeAsUnit = unit.convert( finishTimeAsMilli, TimeUnit.MILLISECONDS );
+        this.durationAsUnit = unit.convert( finishTimeAsMilli - startTimeAsMilli, TimeUnit.MILLISECONDS );
+        this.geometricMeanRunTimeAsUnit = geometricMeanRunTimeAsNano / unit.toNanos( 1 );
+        this.throughput = (finishTimeAsMilli > startTimeAsMilli)
+                          ? 1000 * (count / (double) (finishTimeAsMilli - startTimeAsMilli))
+                          : 0;
+        this.power = (geometricMeanRunTimeAsNano > 0) ? NANOS_PER_HOUR / geometricMeanRunTimeAsNano : 0;
+    }
+
+    public String name()
+    {
+        return name;
+    }
+
+    public TimeUnit unit()
+    {
+        return unit;
+    }
+
+    public long count()
+    {
+        return count;
+    }
+
+    public long startTimeAsMilli()
+    {
+        return unit.toMillis( startTimeAsUnit );
+    }
+
+    public long finishTimeAsMilli()
+    {
+        return unit.toMillis( finishTimeAsUnit );
+    }
+
+    public long durationAsMilli()
+    {
+        return unit.toMillis( durationAsUnit );
+    }
+
+    public double geometricMeanRunTime()
+    {
+        return geometricMeanRunTimeAsUnit;
+    }
+
+    public double throughput()
+    {
+        return throughput;
+    }
+
+    public double power()
+    {
+        return power;
+    }
+
+    @Override
+    public String toString()
+    {
+        return "StreamMetricsSnapshot{" +
+               "name='" + name + '\'' +
+               ", unit=" + unit +
+               ", count=" + count +
+               ", startTimeAsUnit=" + startTimeAsUnit +
+               ", finishTimeAsUnit=" + finishTimeAsUnit +
+               ", durationAsUnit=" + durationAsUnit +
+               ", geometricMeanRunTimeAsUnit=" + geometricMeanRunTimeAsUnit +
+               ", throughput=" + throughput +
+               ", power=" + power +
+               '}';
+    }
+
+    @Override
+    public boolean equals( Object o )
+    {
+        if ( this == o )
+        { return true; }
+        if ( o == null || getClass() != o.getClass() )
+        { return false; }
+
+        StreamMetricsSnapshot that = (StreamMetricsSnapshot) o;
+
+        if ( count != that.count )
+        { return false; }
+        if ( startTimeAsUnit != that.startTimeAsUnit )
+        { return false; }
+        if ( finishTimeAsUnit != that.finishTimeAsUnit )
+        { return false; }
+        if ( durationAsUnit != that.durationAsUnit )
+        { return false; }
+        if ( Double.compare( that.geometricMeanRunTimeAsUnit, geometricMeanRunTimeAsUnit ) != 0 )
+        { return false; }
+        if ( name != null ? !name.equals( that.name ) : that.name != null )
+        { return false; }
+        return unit == that.unit;
+    }
+
+    @Override
+    public int hashCode()
+    {
+        int result = name != null ? name.hashCode() : 0;
+        result = 31 * result + (unit != null ? unit.hashCode() : 0);
+        result = 31 * result + (int) (count ^ (count >>> 32));
+        result = 31 * result + (int) (startTimeAsUnit ^ (startTimeAsUnit >>> 32));
+        result = 31 * result + (int) (finishTimeAsUnit ^ (finishTimeAsUnit >>> 32));
+        return result;
+    }
+}
@@ -119,6 +119,8 @@ public class ThreadedQueuedMetricsServiceThread extends Thread
                 metricsManager.measure(
                         submitOperationResultEvent.actualStartTimeAsMilli(),
                         submitOperationResultEvent.runDurationAsNano(),
+                        TimeUnit.MILLISECONDS.toNanos( submitOperationResultEvent.actualStartTimeAsMilli() -
+                                                       submitOperationResultEvent.scheduledStartTimeAsMilli() ),
                         submitOperationResultEvent.operationType()
                 );
             }
@@ -1,5 +1,6 @@
 package com.ldbc.driver.runtime.metrics;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.core.util.DefaultPrettyPrinter;
 import com.fasterxml.jackson.databind.ObjectMapper;
@@ -18,7 +19,7 @@ public class WorkloadResultsSnapshot
     private List<OperationMetricsSnapshot> metrics;
 
     @JsonProperty( value = "format_version" )
-    private int formatVersion = 3;
+    private int formatVersion = 4;
 
     @JsonProperty( value = "unit" )
     private TimeUnit unit;
@@ -38,6 +39,25 @@ public class WorkloadResultsSnapshot
     @JsonProperty( value = "throughput" )
     private double throughput;
 
+    // only set for workloads with blocking streams, e.g., sessions of a throughput test
+    @JsonProperty( value = "streams" )
+    @JsonInclude( JsonInclude.Include.NON_NULL )
+    private List<StreamMetricsSnapshot> streamMetrics;
+
+    @JsonProperty( value = "all_streams" )
+    @JsonInclude( JsonInclude.Include.NON_NULL )
+    private StreamMetricsSnapshot allStreamsMetrics;
+
+    // only set by metrics services that keep histograms of all operation types combined
+    @JsonProperty( value = "all_run_time" )
+    @JsonInclude( JsonInclude.Include.NON_NULL )
+    private ContinuousMetricSnapshot allRunTimeMetric;
+
+    // only set for results of a workload run
+    @JsonProperty( value = "scheduling" )
+    @JsonInclude( JsonInclude.Include.NON_NULL )
+    private SchedulingMetricsSnapshot schedulingMetrics;
+
     public static WorkloadResultsSnapshot fromJson( File jsonFile ) throws IOException
     {
         return new ObjectMapper().readValue( jsonFile, WorkloadResultsSnapshot.class );
@@ -112,6 +132,54 @@ public class WorkloadResultsSnapshot
         return throughput;
     }
 
+    /**
+     * @return per stream metrics, or null if the workload has no blocking streams
+     */
+    public List<StreamMetricsSnapshot> streamMetrics()
+    {
+        return streamMetrics;
+    }
+
+    /**
+     * @return metrics of all blocking streams combined, or null if the workload has no blocking streams
+     */
+    public StreamMetricsSnapshot allStreamsMetrics()
+    {
+        return allStreamsMetrics;
+    }
+
+    public void setStreamMetrics( List<StreamMetricsSnapshot> streamMetrics, StreamMetricsSnapshot allStreamsMetrics )
+    {
+        this.streamMetrics = streamMetrics;
+        this.allStreamsMetrics = allStreamsMetrics;
+    }
+
+    /**
+     * @return run time of all operation types combined, or null if not known
+     */
+    public ContinuousMetricSnapshot allRunTimeMetric()
+    {
+        return allRunTimeMetric;
+    }
+
+    public void setAllRunTimeMetric( ContinuousMetricSnapshot allRunTimeMetric )
+    {
+        this.allRunTimeMetric = allRunTimeMetric;
+    }
+
+    /**
+     * @return time operations spent waiting to be started, or null if not known
+     */
+    public SchedulingMetricsSnapshot schedulingMetrics()
+    {
+        return schedulingMetrics;
+    }
+
+    public void setSchedulingMetrics( SchedulingMetricsSnapshot schedulingMetrics )
+    {
+        this.schedulingMetrics = schedulingMetrics;
+    }
+
     public String toJson()
     {
         try
@@ -136,6 +204,10 @@ public class WorkloadResultsSnapshot
                ", totalRunDurationAsUnit=" + totalRunDurationAsUnit +
                ", operationCount=" + operationCount +
                ", throughput=" + throughput +
+               ", streamMetrics=" + streamMetrics +
+               ", allStreamsMetrics=" + allStreamsMetrics +
+               ", allRunTimeMetric=" + allRunTimeMetric +
+               ", schedulingMetrics=" + schedulingMetrics +
                '}';
     }
 
@@ -161,6 +233,17 @@ public class WorkloadResultsSnapshot
         { return false; }
         if ( unit != that.unit )
         { return false; }
+        if ( streamMetrics != null ? !streamMetrics.equals( that.streamMetrics ) : that.streamMetrics != null )
+        { return false; }
+        if ( allStreamsMetrics != null ? !allStreamsMetrics.equals( that.allStreamsMetrics )
+                                       : that.allStreamsMetrics != null )
+        { return false; }
+        if ( allRunTimeMetric != null ? !allRunTimeMetric.equals( that.allRunTimeMetric )
+                                      : that.allRunTimeMetric != null )
+        { return false; }
+        if ( schedulingMetrics != null ? !schedulingMetrics.equals( that.schedulingMetrics )
+                                       : that.schedulingMetrics != null )
+        { return false; }
 
         return true;
     }
@@ -5,15 +5,41 @@ public class WorkloadStatusSnapshot {
     private final long operationCount;
     private final long durationSinceLastMeasurementAsMilli;
     private final double throughput;
+    private final long blockedPublishCount;
+    private final long blockedPublishDurationAsNano;
+    private final WorkloadResultsSnapshot intervalResults;
 
     public WorkloadStatusSnapshot(long runDurationAsMilli,
                                   long operationCount,
                                   long durationSinceLastMeasurementAsMilli,
                                   double throughput) {
+        this(runDurationAsMilli, operationCount, durationSinceLastMeasurementAsMilli, throughput, 0, 0);
+    }
+
+    public WorkloadStatusSnapshot(long runDurationAsMilli,
+                                  long operationCount,
+                                  long durationSinceLastMeasurementAsMilli,
+                                  double throughput,
+                                  long blockedPublishCount,
+                                  long blockedPublishDurationAsNano) {
+        this(runDurationAsMilli, operationCount, durationSinceLastMeasurementAsMilli, throughput, blockedPublishCount,
+                blockedPublishDurationAsNano, null);
+    }
+
+    public WorkloadStatusSnapshot(long runDurationAsMilli,
+                                  long operationCount,
+                                  long durationSinceLastMeasurementAsMilli,
+                                  double throughput,
+                                  long blockedPublishCount,
+                                  long blockedPublishDurationAsNano,
+                                  WorkloadResultsSnapshot intervalResults) {
         this.runDurationAsMilli = runDurationAsMilli;
         this.operationCount = operationCount;
         this.durationSinceLastMeasurementAsMilli = durationSinceLastMeasurementAsMilli;
         this.throughput = throughput;
+        this.blockedPublishCount = blockedPublishCount;
+        this.blockedPublishDurationAsNano = blockedPublishDurationAsNano;
+        this.intervalResults = intervalResults;
     }
 
     public long runDurationAsMilli() {
@@ -31,4 +57,37 @@ public class WorkloadStatusSnapshot {
     public double throughput() {
         return throughput;
     }
+
+    /**
+     * Number of operation results that found the metrics ring buffer full and had to wait for a free slot
+     */
+    public long blockedPublishCount() {
+        return blockedPublishCount;
+    }
+
+    /**
+     * Total time operation results spent waiting for a free metrics ring buffer slot
+     */
+    public long blockedPublishDurationAsNano() {
+        return blockedPublishDurationAsNano;
+    }
+
+    /**
+     * Metrics of operations measured since the previous status snapshot, or null if the metrics service does not
+     * keep per interval metrics
+     */
+    public WorkloadResultsSnapshot intervalResults() {
+        return intervalResults;
+    }
+
+    WorkloadStatusSnapshot withBlockedPublishes(long blockedPublishCount, long blockedPublishDurationAsNano) {
+        return new WorkloadStatusSnapshot(
+                runDurationAsMilli,
+                operationCount,
+                durationSinceLastMeasurementAsMilli,
+                throughput,
+                blockedPublishCount,
+                blockedPublishDurationAsNano,
+                intervalResults);
+    }
 }
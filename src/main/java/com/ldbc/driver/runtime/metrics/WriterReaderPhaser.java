@@ -0,0 +1,60 @@
+package com.ldbc.driver.runtime.metrics;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Lets many writers enter short critical sections wait-free, while a single reader at a time can flip phase and then
+ * wait for every writer that entered during the previous phase to leave.
+ * <p>
+ * Writers bracket their updates with writerCriticalSectionEnter/writerCriticalSectionExit. After flipPhase returns the
+ * reader has exclusive access to whatever the writers were updating before the flip, which is how a recorder swaps
+ * its active and inactive buffers without making writers take a lock.
+ * <p>
+ * Same algorithm as org.HdrHistogram.WriterReaderPhaser, which is not available in the HdrHistogram version used here.
+ */
+class WriterReaderPhaser
+{
+    private final AtomicLong startEpoch = new AtomicLong( 0 );
+    private final AtomicLong evenEndEpoch = new AtomicLong( 0 );
+    private final AtomicLong oddEndEpoch = new AtomicLong( Long.MIN_VALUE );
+
+    long writerCriticalSectionEnter()
+    {
+        return startEpoch.getAndIncrement();
+    }
+
+    void writerCriticalSectionExit( long criticalValueAtEnter )
+    {
+        if ( criticalValueAtEnter < 0 )
+        {
+            oddEndEpoch.getAndIncrement();
+        }
+        else
+        {
+            evenEndEpoch.getAndIncrement();
+        }
+    }
+
+    /**
+     * Must only be called by one reader at a time, callers are expected to synchronize among themselves
+     */
+    void flipPhase()
+    {
+        boolean nextPhaseIsEven = startEpoch.get() < 0;
+        long initialStartValue = (nextPhaseIsEven) ? 0 : Long.MIN_VALUE;
+        if ( nextPhaseIsEven )
+        {
+            evenEndEpoch.set( initialStartValue );
+        }
+        else
+        {
+            oddEndEpoch.set( initialStartValue );
+        }
+        long startValueAtFlip = startEpoch.getAndSet( initialStartValue );
+        AtomicLong previousPhaseEndEpoch = (nextPhaseIsEven) ? oddEndEpoch : evenEndEpoch;
+        while ( previousPhaseEndEpoch.get() != startValueAtFlip )
+        {
+            Thread.yield();
+        }
+    }
+}
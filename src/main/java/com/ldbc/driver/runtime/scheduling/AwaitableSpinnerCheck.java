@@ -0,0 +1,19 @@
+package com.ldbc.driver.runtime.scheduling;
+
+import com.ldbc.driver.Operation;
+
+/**
+ * Check that can be woken when it may pass, e.g., when Completion Time advances.
+ * Spinner waits on such checks, instead of sleeping between calls to doCheck().
+ */
+public interface AwaitableSpinnerCheck extends SpinnerCheck
+{
+    /**
+     * Waits until the check no longer returns STILL_CHECKING, or for timeoutAsMilli, whichever happens first
+     *
+     * @param operation operation to check
+     * @param timeoutAsMilli maximum duration to wait for
+     * @return result of the check, STILL_CHECKING if timeout elapsed first
+     */
+    SpinnerCheckResult awaitCheck( Operation operation, long timeoutAsMilli );
+}
@@ -8,7 +8,13 @@ import com.ldbc.driver.temporal.TemporalUtil;
 
 import static java.lang.String.format;
 
-public class CtDependencyCheck implements SpinnerCheck
+/**
+ * Passes once Completion Time has reached the dependency time stamp of the operation.
+ * <p>
+ * doCheck() reads Completion Time once. Rather than re-reading Completion Time on every spin, awaitCheck() waits until
+ * the Completion Time service wakes it, i.e., when Completion Time reaches the dependency time stamp.
+ */
+public class CtDependencyCheck implements AwaitableSpinnerCheck
 {
     private static final TemporalUtil TEMPORAL_UTIL = new TemporalUtil();
     private final CompletionTimeReader completionTimeReader;
@@ -30,13 +36,33 @@ public class CtDependencyCheck implements SpinnerCheck
         }
         catch ( CompletionTimeException e )
         {
-            errorReporter.reportError( this,
-                    format(
-                            "Error encountered while reading CT for query %s\n%s",
-                            operation.getClass().getSimpleName(),
-                            ConcurrentErrorReporter.stackTraceToString( e ) ) );
-            return SpinnerCheckResult.FAILED;
+            return failedToReadCompletionTime( operation, e );
+        }
+    }
+
+    @Override
+    public SpinnerCheckResult awaitCheck( Operation operation, long timeoutAsMilli )
+    {
+        try
+        {
+            return (completionTimeReader.awaitCompletionTimeAsMilli( operation.dependencyTimeStamp(),
+                    timeoutAsMilli ))
+                   ? SpinnerCheckResult.PASSED : SpinnerCheckResult.STILL_CHECKING;
         }
+        catch ( CompletionTimeException e )
+        {
+            return failedToReadCompletionTime( operation, e );
+        }
+    }
+
+    private SpinnerCheckResult failedToReadCompletionTime( Operation operation, CompletionTimeException e )
+    {
+        errorReporter.reportError( this,
+                format(
+                        "Error encountered while reading CT for query %s\n%s",
+                        operation.getClass().getSimpleName(),
+                        ConcurrentErrorReporter.stackTraceToString( e ) ) );
+        return SpinnerCheckResult.FAILED;
     }
 
     @Override
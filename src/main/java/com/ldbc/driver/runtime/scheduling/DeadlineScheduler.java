@@ -0,0 +1,271 @@
+package com.ldbc.driver.runtime.scheduling;
+
+import com.ldbc.driver.runtime.metrics.ContinuousMetricRecorder;
+import com.ldbc.driver.runtime.metrics.ContinuousMetricSnapshot;
+import com.ldbc.driver.temporal.TimeSource;
+
+import java.util.PriorityQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.LockSupport;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Releases tasks at their deadline, from a single timer thread that holds all pending tasks in deadline order.
+ * <p>
+ * Threads waiting for a deadline are parked until the timer thread releases them, rather than each of them
+ * polling the time source. Tasks run on the timer thread, so they must be short and must not block.
+ * <p>
+ * Deadlines are epoch times in nanoseconds (see TimeSource.nowAsNano()), so tasks can be released at
+ * sub-millisecond resolution. Lateness (time between deadline and release) of every task released by the timer
+ * thread is recorded, in microseconds, as is lateness of work that reached its deadline late and so was never
+ * scheduled.
+ */
+public class DeadlineScheduler
+{
+    // upper bound on how long the timer thread waits before reading the time source again,
+    // so time sources that do not follow the wall clock (e.g., ManualTimeSource) are also honoured
+    private static final long MAX_WAIT_AS_NANO = TimeUnit.MILLISECONDS.toNanos( 10 );
+    private static final long MAX_RECORDED_LATENESS_AS_MICRO = TimeUnit.HOURS.toMicros( 1 );
+
+    private final TimeSource timeSource;
+    private final PriorityQueue<ScheduledTask> scheduledTasks = new PriorityQueue<>();
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition earliestDeadlineChanged = lock.newCondition();
+    private final ContinuousMetricRecorder latenessMetric;
+    private long sequenceNumber = 0;
+    private Thread timerThread = null;
+    private boolean shutdown = false;
+
+    public DeadlineScheduler( TimeSource timeSource )
+    {
+        this.timeSource = timeSource;
+        this.latenessMetric = new ContinuousMetricRecorder(
+                "Scheduling Lateness",
+                TimeUnit.MICROSECONDS,
+                MAX_RECORDED_LATENESS_AS_MICRO,
+                4
+        );
+    }
+
+    /**
+     * Runs task on the timer thread once deadline has been reached.
+     * If the scheduler has been shutdown task is run immediately, on the calling thread.
+     */
+    public void schedule( long deadlineAsNano, Runnable task )
+    {
+        lock.lock();
+        try
+        {
+            if ( !shutdown )
+            {
+                ScheduledTask scheduledTask = new ScheduledTask( deadlineAsNano, sequenceNumber++, task );
+                scheduledTasks.add( scheduledTask );
+                if ( null == timerThread )
+                {
+                    timerThread = new TimerThread();
+                    timerThread.start();
+                }
+                if ( scheduledTask == scheduledTasks.peek() )
+                {
+                    earliestDeadlineChanged.signal();
+                }
+                return;
+            }
+        }
+        finally
+        {
+            lock.unlock();
+        }
+        task.run();
+    }
+
+    /**
+     * Parks the calling thread until deadline has been reached
+     */
+    public void awaitDeadline( long deadlineAsNano )
+    {
+        long nowAsNano = timeSource.nowAsNano();
+        if ( nowAsNano >= deadlineAsNano )
+        {
+            recordLatenessOfUnscheduled( nowAsNano - deadlineAsNano );
+            return;
+        }
+        UnparkTask unparkTask = new UnparkTask( Thread.currentThread() );
+        schedule( deadlineAsNano, unparkTask );
+        boolean interrupted = false;
+        while ( !unparkTask.released )
+        {
+            LockSupport.park( this );
+            if ( Thread.interrupted() )
+            {
+                interrupted = true;
+            }
+        }
+        if ( interrupted )
+        {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    public int scheduledTaskCount()
+    {
+        lock.lock();
+        try
+        {
+            return scheduledTasks.size();
+        }
+        finally
+        {
+            lock.unlock();
+        }
+    }
+
+    public ContinuousMetricSnapshot latenessSnapshot()
+    {
+        return latenessMetric.snapshot();
+    }
+
+    /**
+     * Releases all pending tasks immediately and stops the timer thread
+     */
+    public void shutdown()
+    {
+        lock.lock();
+        try
+        {
+            shutdown = true;
+            earliestDeadlineChanged.signal();
+        }
+        finally
+        {
+            lock.unlock();
+        }
+    }
+
+    private ScheduledTask takeNextDueTask() throws InterruptedException
+    {
+        lock.lock();
+        try
+        {
+            while ( true )
+            {
+                ScheduledTask earliest = scheduledTasks.peek();
+                if ( null == earliest )
+                {
+                    if ( shutdown )
+                    {
+                        return null;
+                    }
+                    earliestDeadlineChanged.await();
+                    continue;
+                }
+                long remainingAsNano = earliest.deadlineAsNano - timeSource.nowAsNano();
+                if ( remainingAsNano <= 0 || shutdown )
+                {
+                    recordLateness( TimeUnit.NANOSECONDS.toMicros( Math.max( 0, -remainingAsNano ) ) );
+                    return scheduledTasks.poll();
+                }
+                earliestDeadlineChanged.awaitNanos( Math.min( remainingAsNano, MAX_WAIT_AS_NANO ) );
+            }
+        }
+        finally
+        {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Records lateness of work that was run without being scheduled, because its deadline had already passed
+     */
+    void recordLatenessOfUnscheduled( long latenessAsNano )
+    {
+        recordLateness( TimeUnit.NANOSECONDS.toMicros( Math.max( 0, latenessAsNano ) ) );
+    }
+
+    // recorded by the timer thread and by operation threads, so recording does not take a lock
+    private void recordLateness( long latenessAsMicro )
+    {
+        latenessMetric.addMeasurement( latenessAsMicro );
+    }
+
+    private class TimerThread extends Thread
+    {
+        private TimerThread()
+        {
+            super( DeadlineScheduler.class.getSimpleName() + "-" + System.currentTimeMillis() );
+            setDaemon( true );
+        }
+
+        @Override
+        public void run()
+        {
+            while ( true )
+            {
+                ScheduledTask dueTask;
+                try
+                {
+                    dueTask = takeNextDueTask();
+                }
+                catch ( InterruptedException e )
+                {
+                    continue;
+                }
+                if ( null == dueTask )
+                {
+                    return;
+                }
+                try
+                {
+                    dueTask.task.run();
+                }
+                catch ( Throwable e )
+                {
+                    // tasks are responsible for reporting their own errors, timer thread must keep running
+                }
+            }
+        }
+    }
+
+    private static class ScheduledTask implements Comparable<ScheduledTask>
+    {
+        private final long deadlineAsNano;
+        private final long sequenceNumber;
+        private final Runnable task;
+
+        private ScheduledTask( long deadlineAsNano, long sequenceNumber, Runnable task )
+        {
+            this.deadlineAsNano = deadlineAsNano;
+            this.sequenceNumber = sequenceNumber;
+            this.task = task;
+        }
+
+        // tasks with equal deadlines are released in the order they were scheduled
+        @Override
+        public int compareTo( ScheduledTask other )
+        {
+            int deadlineComparison = Long.compare( deadlineAsNano, other.deadlineAsNano );
+            return (0 != deadlineComparison)
+                   ? deadlineComparison
+                   : Long.compare( sequenceNumber, other.sequenceNumber );
+        }
+    }
+
+    private static class UnparkTask implements Runnable
+    {
+        private final Thread thread;
+        private volatile boolean released = false;
+
+        private UnparkTask( Thread thread )
+        {
+            this.thread = thread;
+        }
+
+        @Override
+        public void run()
+        {
+            released = true;
+            LockSupport.unpark( thread );
+        }
+    }
+}
@@ -1,9 +1,13 @@
 package com.ldbc.driver.runtime.scheduling;
 
 import com.ldbc.driver.Operation;
+import com.ldbc.driver.runtime.metrics.ContinuousMetricRecorder;
+import com.ldbc.driver.runtime.metrics.ContinuousMetricSnapshot;
 import com.ldbc.driver.temporal.TimeSource;
 import com.ldbc.driver.util.Function2;
 
+import java.util.concurrent.TimeUnit;
+
 // TODO if error policy DOES NOT terminate benchmark and DOES NOT allow the operation to complete something needs
 // TODO to be done about DEPENDENT/CT, because the IT for the operation has already been reported
 // TODO perhaps the CT for that operation needs to be reported too (to CT service, but not to MetricsService),
@@ -18,17 +22,42 @@ public class Spinner
 {
     public static final long DEFAULT_SLEEP_DURATION_10_MILLI = 10;
     public static final SpinnerCheck TRUE_CHECK = new TrueCheck();
+    private static final long MAX_RECORDED_WAIT_AS_MICRO = TimeUnit.HOURS.toMicros( 1 );
+    // bounds each wait on an awaitable check, so the waiting thread still re-checks periodically
+    private static final long CHECK_WAIT_TIMEOUT_AS_MILLI = 1000;
 
     private final Function2<Operation,SpinnerCheck,Boolean,RuntimeException> spinFun;
+    private final TimeSource timeSource;
+    private final boolean ignoreScheduleStartTimes;
+    private final DeadlineScheduler deadlineScheduler;
+    // only operations that had to wait are recorded, in microseconds
+    private final ContinuousMetricRecorder completionTimeWaitMetric;
+    private final ContinuousMetricRecorder scheduledStartTimeWaitMetric;
 
     public Spinner(
             TimeSource timeSource,
             long sleepDurationAsMilli,
             boolean ignoreScheduleStartTimes )
     {
+        this.timeSource = timeSource;
+        this.ignoreScheduleStartTimes = ignoreScheduleStartTimes;
+        this.deadlineScheduler = new DeadlineScheduler( timeSource );
+        this.completionTimeWaitMetric = new ContinuousMetricRecorder(
+                "Completion Time Wait",
+                TimeUnit.MICROSECONDS,
+                MAX_RECORDED_WAIT_AS_MICRO,
+                4
+        );
+        this.scheduledStartTimeWaitMetric = new ContinuousMetricRecorder(
+                "Scheduled Start Time Wait",
+                TimeUnit.MICROSECONDS,
+                MAX_RECORDED_WAIT_AS_MICRO,
+                4
+        );
         this.spinFun = (ignoreScheduleStartTimes)
-                       ? new WaitForChecksFun( sleepDurationAsMilli )
-                       : new WaitForChecksAndScheduledStartTimeFun( timeSource, sleepDurationAsMilli );
+                       ? new WaitForChecksFun( timeSource, sleepDurationAsMilli, completionTimeWaitMetric )
+                       : new WaitForChecksAndScheduledStartTimeFun( timeSource, sleepDurationAsMilli,
+                               deadlineScheduler, completionTimeWaitMetric, scheduledStartTimeWaitMetric );
     }
 
     boolean waitForScheduledStartTime( Operation operation )
@@ -54,6 +83,66 @@ public class Spinner
         return spinFun.apply( operation, check );
     }
 
+    /**
+     * Runs task once the scheduled start time of operation has been reached, without occupying the calling thread
+     * while waiting. Task is run on the scheduler thread, so it must be short and must not block.
+     * If the scheduled start time has already passed, or scheduled start times are ignored, task is run immediately
+     * on the calling thread. Operations that are already late are recorded in scheduling lateness all the same.
+     *
+     * @param operation operation whose scheduled start time to wait for
+     * @param task task to run when operation is due
+     */
+    public void executeAtScheduledStartTime( Operation operation, Runnable task )
+    {
+        if ( ignoreScheduleStartTimes )
+        {
+            task.run();
+            return;
+        }
+        long nowAsNano = timeSource.nowAsNano();
+        if ( nowAsNano >= operation.scheduledStartTimeAsNano() )
+        {
+            deadlineScheduler.recordLatenessOfUnscheduled( nowAsNano - operation.scheduledStartTimeAsNano() );
+            task.run();
+        }
+        else
+        {
+            // operation waits in the scheduler rather than on a thread, it is counted as waiting all the same
+            recordWait( scheduledStartTimeWaitMetric, operation.scheduledStartTimeAsNano() - nowAsNano );
+            deadlineScheduler.schedule( operation.scheduledStartTimeAsNano(), task );
+        }
+    }
+
+    /**
+     * @return lateness of operations relative to their scheduled start times, whether they were released by the
+     * scheduler or were already late when they reached it
+     */
+    public ContinuousMetricSnapshot schedulingLatenessSnapshot()
+    {
+        return deadlineScheduler.latenessSnapshot();
+    }
+
+    /**
+     * @return time operations waited for their dependencies, i.e., for completion time to advance, before starting
+     */
+    public ContinuousMetricSnapshot completionTimeWaitSnapshot()
+    {
+        return completionTimeWaitMetric.snapshot();
+    }
+
+    /**
+     * @return time operations waited for their scheduled start time
+     */
+    public ContinuousMetricSnapshot scheduledStartTimeWaitSnapshot()
+    {
+        return scheduledStartTimeWaitMetric.snapshot();
+    }
+
+    public void shutdown()
+    {
+        deadlineScheduler.shutdown();
+    }
+
     // sleep to reduce CPU load while spinning
     // NOTE: longer sleep == lower scheduling accuracy AND lower achievable throughput
     public static void powerNap( long sleepMs )
@@ -71,18 +160,66 @@ public class Spinner
         }
     }
 
+    // recorded by every operation that waits, so recording does not take a lock
+    private static void recordWait( ContinuousMetricRecorder waitMetric, long waitAsNano )
+    {
+        waitMetric.addMeasurement( TimeUnit.NANOSECONDS.toMicros( Math.max( 0, waitAsNano ) ) );
+    }
+
+    // waits for checks to have all passed, recording how long that took if checks did not pass immediately.
+    // awaitable checks, e.g., on Completion Time, are waited on until they wake the thread, other checks are polled
+    private static void waitForChecks( Operation operation,
+            SpinnerCheck check,
+            TimeSource timeSource,
+            long sleepDurationAsMilli,
+            ContinuousMetricRecorder completionTimeWaitMetric )
+    {
+        if ( SpinnerCheck.SpinnerCheckResult.STILL_CHECKING != check.doCheck( operation ) )
+        {
+            return;
+        }
+        long waitStartAsNano = timeSource.nanoSnapshot();
+        if ( check instanceof AwaitableSpinnerCheck )
+        {
+            AwaitableSpinnerCheck awaitableCheck = (AwaitableSpinnerCheck) check;
+            while ( SpinnerCheck.SpinnerCheckResult.STILL_CHECKING ==
+                    awaitableCheck.awaitCheck( operation, CHECK_WAIT_TIMEOUT_AS_MILLI ) )
+            {
+                // timeout elapsed, wait again
+            }
+        }
+        else
+        {
+            do
+            {
+                powerNap( sleepDurationAsMilli );
+            }
+            while ( SpinnerCheck.SpinnerCheckResult.STILL_CHECKING == check.doCheck( operation ) );
+        }
+        recordWait( completionTimeWaitMetric, timeSource.nanoSnapshot() - waitStartAsNano );
+    }
+
     private static class WaitForChecksAndScheduledStartTimeFun implements
             Function2<Operation,SpinnerCheck,Boolean,RuntimeException>
     {
         private final TimeSource timeSource;
         private final long sleepDurationAsMilli;
+        private final DeadlineScheduler deadlineScheduler;
+        private final ContinuousMetricRecorder completionTimeWaitMetric;
+        private final ContinuousMetricRecorder scheduledStartTimeWaitMetric;
 
         private WaitForChecksAndScheduledStartTimeFun(
                 TimeSource timeSource,
-                long sleepDurationAsMilli )
+                long sleepDurationAsMilli,
+                DeadlineScheduler deadlineScheduler,
+                ContinuousMetricRecorder completionTimeWaitMetric,
+                ContinuousMetricRecorder scheduledStartTimeWaitMetric )
         {
             this.timeSource = timeSource;
             this.sleepDurationAsMilli = sleepDurationAsMilli;
+            this.deadlineScheduler = deadlineScheduler;
+            this.completionTimeWaitMetric = completionTimeWaitMetric;
+            this.scheduledStartTimeWaitMetric = scheduledStartTimeWaitMetric;
         }
 
         @Override
@@ -90,15 +227,19 @@ public class Spinner
         {
             // earliest time at which operation may start
             // wait for checks to have all passed before allowing operation to start
-            while ( SpinnerCheck.SpinnerCheckResult.STILL_CHECKING == check.doCheck( operation ) )
+            waitForChecks( operation, check, timeSource, sleepDurationAsMilli, completionTimeWaitMetric );
+
+            // wait for scheduled operation start time, parked until the scheduler releases this thread
+            long nowAsNano = timeSource.nowAsNano();
+            if ( nowAsNano < operation.scheduledStartTimeAsNano() )
             {
-                powerNap( sleepDurationAsMilli );
+                long waitStartAsNano = timeSource.nanoSnapshot();
+                deadlineScheduler.awaitDeadline( operation.scheduledStartTimeAsNano() );
+                recordWait( scheduledStartTimeWaitMetric, timeSource.nanoSnapshot() - waitStartAsNano );
             }
-
-            // wait for scheduled operation start time
-            while ( timeSource.nowAsMilli() < operation.scheduledStartTimeAsMilli() )
+            else
             {
-                powerNap( sleepDurationAsMilli );
+                deadlineScheduler.recordLatenessOfUnscheduled( nowAsNano - operation.scheduledStartTimeAsNano() );
             }
 
             return SpinnerCheck.SpinnerCheckResult.PASSED == check.doCheck( operation );
@@ -107,21 +248,24 @@ public class Spinner
 
     private static class WaitForChecksFun implements Function2<Operation,SpinnerCheck,Boolean,RuntimeException>
     {
+        private final TimeSource timeSource;
         private final long sleepDurationAsMilli;
+        private final ContinuousMetricRecorder completionTimeWaitMetric;
 
-        private WaitForChecksFun( long sleepDurationAsMilli )
+        private WaitForChecksFun( TimeSource timeSource,
+                long sleepDurationAsMilli,
+                ContinuousMetricRecorder completionTimeWaitMetric )
         {
+            this.timeSource = timeSource;
             this.sleepDurationAsMilli = sleepDurationAsMilli;
+            this.completionTimeWaitMetric = completionTimeWaitMetric;
         }
 
         @Override
         public Boolean apply( Operation operation, SpinnerCheck check )
         {
             // wait for checks to have all passed before allowing operation to start
-            while ( SpinnerCheck.SpinnerCheckResult.STILL_CHECKING == check.doCheck( operation ) )
-            {
-                powerNap( sleepDurationAsMilli );
-            }
+            waitForChecks( operation, check, timeSource, sleepDurationAsMilli, completionTimeWaitMetric );
 
             return SpinnerCheck.SpinnerCheckResult.PASSED == check.doCheck( operation );
         }
@@ -5,23 +5,32 @@ import java.util.concurrent.atomic.AtomicLong;
 
 public class ManualTimeSource implements TimeSource {
     private final TemporalUtil temporalUtil = new TemporalUtil();
-    private AtomicLong nowAsMilli = new AtomicLong(0);
+    private AtomicLong nowAsNano = new AtomicLong(0);
 
     public ManualTimeSource(long nowAsMilli) {
-        this.nowAsMilli = new AtomicLong(nowAsMilli);
+        this.nowAsNano = new AtomicLong(TimeUnit.MILLISECONDS.toNanos(nowAsMilli));
     }
 
     public void setNowFromMilli(long ms) {
-        nowAsMilli.set(ms);
+        nowAsNano.set(TimeUnit.MILLISECONDS.toNanos(ms));
+    }
+
+    public void setNowFromNano(long ns) {
+        nowAsNano.set(ns);
     }
 
     @Override
     public long nanoSnapshot() {
-        return TimeUnit.MILLISECONDS.toNanos(nowAsMilli());
+        return nowAsNano();
     }
 
     @Override
     public long nowAsMilli() {
-        return nowAsMilli.get();
+        return TimeUnit.NANOSECONDS.toMillis(nowAsNano());
+    }
+
+    @Override
+    public long nowAsNano() {
+        return nowAsNano.get();
     }
-}
\ No newline at end of file
+}
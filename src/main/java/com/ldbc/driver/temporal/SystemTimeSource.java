@@ -1,6 +1,18 @@
 package com.ldbc.driver.temporal;
 
+import java.util.concurrent.TimeUnit;
+
 public class SystemTimeSource implements TimeSource {
+    private static final long NANOS_PER_MILLI = TimeUnit.MILLISECONDS.toNanos(1);
+    // tolerated distance between nowAsNano() and the wall clock, beyond the millisecond System.currentTimeMillis()
+    // truncates, as the two clocks are not read atomically
+    private static final long TOLERATED_DRIFT_AS_NANO = NANOS_PER_MILLI;
+
+    // System.currentTimeMillis() only has millisecond resolution, so epoch time in nanoseconds is derived from
+    // System.nanoTime(), anchored to the wall clock. The two clocks drift apart, and the wall clock may be adjusted,
+    // so it is re-anchored whenever it no longer agrees with System.currentTimeMillis()
+    private volatile Anchor anchor = new Anchor(TimeUnit.MILLISECONDS.toNanos(System.currentTimeMillis()),
+            System.nanoTime());
 
     @Override
     public long nanoSnapshot() {
@@ -11,4 +23,28 @@ public class SystemTimeSource implements TimeSource {
     public long nowAsMilli() {
         return System.currentTimeMillis();
     }
-}
\ No newline at end of file
+
+    @Override
+    public long nowAsNano() {
+        long nanoTime = System.nanoTime();
+        long wallClockAsNano = TimeUnit.MILLISECONDS.toNanos(System.currentTimeMillis());
+        Anchor current = anchor;
+        long nowAsNano = current.epochAsNano + (nanoTime - current.nanoTime);
+        long driftAsNano = nowAsNano - wallClockAsNano;
+        if (driftAsNano < -TOLERATED_DRIFT_AS_NANO || driftAsNano >= NANOS_PER_MILLI + TOLERATED_DRIFT_AS_NANO) {
+            anchor = new Anchor(wallClockAsNano, nanoTime);
+            return wallClockAsNano;
+        }
+        return nowAsNano;
+    }
+
+    private static class Anchor {
+        private final long epochAsNano;
+        private final long nanoTime;
+
+        private Anchor(long epochAsNano, long nanoTime) {
+            this.epochAsNano = epochAsNano;
+            this.nanoTime = nanoTime;
+        }
+    }
+}
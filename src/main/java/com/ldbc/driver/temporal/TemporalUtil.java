@@ -20,6 +20,21 @@ public class TemporalUtil
         dateTimeFormat.setTimeZone( TimeZone.getTimeZone( "GMT" ) );
     }
 
+    /**
+     * Nanosecond timestamps are rounded to coarser units, the same way compressed scheduled start times are rounded
+     * to milliseconds, so scheduled & actual start times, and start delays computed from them, agree in every unit.
+     */
+    public static long nanoTimeToRoundedUnit( long timeAsNano, TimeUnit unit )
+    {
+        long nanosPerUnit = unit.toNanos( 1 );
+        return Math.floorDiv( timeAsNano + nanosPerUnit / 2, nanosPerUnit );
+    }
+
+    public static long nanoTimeToRoundedMilli( long timeAsNano )
+    {
+        return nanoTimeToRoundedUnit( timeAsNano, TimeUnit.MILLISECONDS );
+    }
+
     public String milliTimeToTimeString( long timeAsMilli )
     {
         return timeFormat.format( new Date( timeAsMilli ) );
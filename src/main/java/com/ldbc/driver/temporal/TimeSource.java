@@ -7,4 +7,10 @@ public interface TimeSource {
 
     // Avoid object creation where possible
     long nowAsMilli();
-}
\ No newline at end of file
+
+    // Avoid object creation where possible
+    // Same epoch as nowAsMilli(), at nanosecond resolution where the time source supports it
+    default long nowAsNano() {
+        return nowAsMilli() * 1_000_000;
+    }
+}
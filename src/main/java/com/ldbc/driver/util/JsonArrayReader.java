@@ -0,0 +1,177 @@
+package com.ldbc.driver.util;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+import static java.lang.String.format;
+
+/**
+ * Reads the elements of a JSON array one at a time, in order, without materializing the array as a list first.
+ * <p>
+ * Instances are cheap, single use and not thread safe, the underlying JsonFactory is shared and thread safe.
+ */
+public class JsonArrayReader implements AutoCloseable
+{
+    private static final JsonFactory JSON_FACTORY = new JsonFactory();
+
+    private final JsonParser parser;
+    // token at which the next element (or the end of the enclosing array/object) starts
+    private JsonToken next;
+
+    public JsonArrayReader( String json ) throws IOException
+    {
+        this.parser = JSON_FACTORY.createParser( json );
+        this.next = parser.nextToken();
+        beginArray();
+    }
+
+    public long readLong() throws IOException
+    {
+        expectNumber();
+        long value = parser.getLongValue();
+        advance();
+        return value;
+    }
+
+    public int readInt() throws IOException
+    {
+        expectNumber();
+        int value = parser.getIntValue();
+        advance();
+        return value;
+    }
+
+    public String readString() throws IOException
+    {
+        String value;
+        if ( JsonToken.VALUE_NULL == next )
+        {
+            value = null;
+        }
+        else if ( JsonToken.VALUE_STRING == next )
+        {
+            value = parser.getText();
+        }
+        else
+        {
+            throw unexpected( "string" );
+        }
+        advance();
+        return value;
+    }
+
+    public List<String> readStrings() throws IOException
+    {
+        List<String> values = new ArrayList<>();
+        beginArray();
+        while ( hasNextElement() )
+        {
+            values.add( readString() );
+        }
+        return values;
+    }
+
+    public List<Long> readLongs() throws IOException
+    {
+        List<Long> values = new ArrayList<>();
+        beginArray();
+        while ( hasNextElement() )
+        {
+            values.add( readLong() );
+        }
+        return values;
+    }
+
+    /**
+     * Enters a nested array, its elements are then read until hasNextElement() returns false
+     */
+    public void beginArray() throws IOException
+    {
+        if ( JsonToken.START_ARRAY != next )
+        {
+            throw unexpected( "array" );
+        }
+        advance();
+    }
+
+    /**
+     * @return false, and leaves the array, if all elements of the current array have been read
+     */
+    public boolean hasNextElement() throws IOException
+    {
+        if ( JsonToken.END_ARRAY == next )
+        {
+            advance();
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * Enters a nested object, its fields are then read with nextFieldName() until it returns null
+     */
+    public void beginObject() throws IOException
+    {
+        if ( JsonToken.START_OBJECT != next )
+        {
+            throw unexpected( "object" );
+        }
+        advance();
+    }
+
+    /**
+     * @return name of the next field of the current object, whose value is read next, or null, and leaves the object,
+     * if all fields have been read
+     */
+    public String nextFieldName() throws IOException
+    {
+        if ( JsonToken.END_OBJECT == next )
+        {
+            advance();
+            return null;
+        }
+        if ( JsonToken.FIELD_NAME != next )
+        {
+            throw unexpected( "field name" );
+        }
+        String name = parser.getCurrentName();
+        advance();
+        return name;
+    }
+
+    public void skipValue() throws IOException
+    {
+        parser.skipChildren();
+        advance();
+    }
+
+    @Override
+    public void close() throws IOException
+    {
+        parser.close();
+    }
+
+    private void advance() throws IOException
+    {
+        next = parser.nextToken();
+    }
+
+    private void expectNumber() throws IOException
+    {
+        if ( JsonToken.VALUE_NUMBER_INT != next && JsonToken.VALUE_NUMBER_FLOAT != next )
+        {
+            throw unexpected( "number" );
+        }
+    }
+
+    private JsonParseException unexpected( String expected )
+    {
+        return new JsonParseException( parser, format( "Expected %s but found %s", expected, next ) );
+    }
+}
@@ -0,0 +1,117 @@
+package com.ldbc.driver.util;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.util.Date;
+import java.util.List;
+
+/**
+ * Writes a JSON array directly to a string, one element at a time, without building the list of elements first.
+ * <p>
+ * The output is the same as that of ObjectMapper.writeValueAsString() for a list of the written elements. Instances
+ * are cheap, single use and not thread safe, the underlying JsonFactory is shared and thread safe.
+ */
+public class JsonArrayWriter
+{
+    private static final JsonFactory JSON_FACTORY = new JsonFactory();
+
+    private final StringWriter stringWriter;
+    private final JsonGenerator generator;
+
+    public JsonArrayWriter() throws IOException
+    {
+        this.stringWriter = new StringWriter();
+        this.generator = JSON_FACTORY.createGenerator( stringWriter );
+        generator.writeStartArray();
+    }
+
+    public JsonArrayWriter write( long value ) throws IOException
+    {
+        generator.writeNumber( value );
+        return this;
+    }
+
+    public JsonArrayWriter write( String value ) throws IOException
+    {
+        generator.writeString( value );
+        return this;
+    }
+
+    /**
+     * Dates are written as milliseconds since epoch
+     */
+    public JsonArrayWriter write( Date value ) throws IOException
+    {
+        if ( null == value )
+        {
+            generator.writeNull();
+        }
+        else
+        {
+            generator.writeNumber( value.getTime() );
+        }
+        return this;
+    }
+
+    /**
+     * Writes a nested array, elements must be strings, numbers, booleans or null
+     */
+    public JsonArrayWriter write( List<?> values ) throws IOException
+    {
+        if ( null == values )
+        {
+            generator.writeNull();
+            return this;
+        }
+        generator.writeStartArray();
+        for ( int i = 0; i < values.size(); i++ )
+        {
+            generator.writeObject( values.get( i ) );
+        }
+        generator.writeEndArray();
+        return this;
+    }
+
+    public JsonArrayWriter beginArray() throws IOException
+    {
+        generator.writeStartArray();
+        return this;
+    }
+
+    public JsonArrayWriter endArray() throws IOException
+    {
+        generator.writeEndArray();
+        return this;
+    }
+
+    public JsonArrayWriter beginObject() throws IOException
+    {
+        generator.writeStartObject();
+        return this;
+    }
+
+    public JsonArrayWriter field( String name, long value ) throws IOException
+    {
+        generator.writeNumberField( name, value );
+        return this;
+    }
+
+    public JsonArrayWriter endObject() throws IOException
+    {
+        generator.writeEndObject();
+        return this;
+    }
+
+    /**
+     * Closes the array and returns it
+     */
+    public String finish() throws IOException
+    {
+        generator.writeEndArray();
+        generator.close();
+        return stringWriter.toString();
+    }
+}
@@ -18,10 +18,22 @@ public abstract class DbValidationParametersFilter {
         this.requiredValidationParameterCount = requiredValidationParameterCount;
     }
 
+    /**
+     * Once this has returned false for an operation it must never return true for an equal operation, i.e., filters
+     * only ever stop accepting operations
+     */
     public boolean useOperation(Operation operation) {
         return true;
     }
 
+    /**
+     * Operations that do not modify the database may be executed concurrently, and ahead of their turn, while
+     * generating validation parameters
+     */
+    public boolean isReadOnly(Operation operation) {
+        return false;
+    }
+
     public DbValidationParametersFilterResult useOperationAndResultForValidation(
             Operation operation,
             Object operationResult) {
@@ -27,6 +27,9 @@ import java.util.Set;
 
 import static java.lang.String.format;
 
+/**
+ * Results may be reported concurrently, e.g., by multiple validation threads
+ */
 public class DbValidationResult {
     private final Db db;
     private final Set<Class> missingHandlersForOperationTypes;
@@ -52,22 +55,22 @@ public class DbValidationResult {
         this.defaultPrettyPrinter.indentArraysWith(new DefaultIndenter("  ", DefaultIndenter.SYS_LF));
     }
 
-    void reportMissingHandlerForOperation(Operation operation) {
+    synchronized void reportMissingHandlerForOperation(Operation operation) {
         missingHandlersForOperationTypes.add(operation.getClass());
         incrementOperationCountPerOperationType(operation.getClass());
     }
 
-    void reportUnableToExecuteOperation(Operation operation, String errorMessage) {
+    synchronized void reportUnableToExecuteOperation(Operation operation, String errorMessage) {
         unableToExecuteOperations.add(Tuple.tuple2(operation, errorMessage));
         incrementOperationCountPerOperationType(operation.getClass());
     }
 
-    void reportIncorrectResultForOperation(Operation operation, Object expectedResult, Object actualResult) {
+    synchronized void reportIncorrectResultForOperation(Operation operation, Object expectedResult, Object actualResult) {
         incorrectResultsForOperations.add(Tuple.tuple3(operation, expectedResult, actualResult));
         incrementOperationCountPerOperationType(operation.getClass());
     }
 
-    void reportSuccessfulExecution(Operation operation) {
+    synchronized void reportSuccessfulExecution(Operation operation) {
         if (false == successfullyExecutedOperationsPerOperationType.containsKey(operation.getClass())) {
             successfullyExecutedOperationsPerOperationType.put(operation.getClass(), 0);
         }
@@ -88,12 +91,12 @@ public class DbValidationResult {
         }
     }
 
-    public boolean isSuccessful() {
+    public synchronized boolean isSuccessful() {
         return missingHandlersForOperationTypes.isEmpty() && unableToExecuteOperations.isEmpty() &&
                 incorrectResultsForOperations.isEmpty();
     }
 
-    public String actualResultsForFailedOperationsAsJsonString(Workload workload) throws WorkloadException {
+    public synchronized String actualResultsForFailedOperationsAsJsonString(Workload workload) throws WorkloadException {
         StringBuilder sb = new StringBuilder();
         sb.append("[");
         for (int i = 0; i < incorrectResultsForOperations.size() - 1; i++) {
@@ -115,7 +118,7 @@ public class DbValidationResult {
         }
     }
 
-    public String expectedResultsForFailedOperationsAsJsonString(Workload workload) throws WorkloadException {
+    public synchronized String expectedResultsForFailedOperationsAsJsonString(Workload workload) throws WorkloadException {
         StringBuilder sb = new StringBuilder();
         sb.append("[");
         for (int i = 0; i < incorrectResultsForOperations.size() - 1; i++) {
@@ -160,7 +163,7 @@ public class DbValidationResult {
         return "{\"operation\":" + serializedOperation + ",\"result\":" + serializedResult + "}";
     }
 
-    public String resultMessage() {
+    public synchronized String resultMessage() {
         int padRightDistance = 15;
         StringBuilder sb = new StringBuilder();
         sb.append("Validation Result: ").append((isSuccessful()) ? "PASS" : "FAIL").append("\n");
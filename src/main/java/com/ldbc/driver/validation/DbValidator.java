@@ -12,49 +12,230 @@ import com.ldbc.driver.WorkloadException;
 import com.ldbc.driver.runtime.ConcurrentErrorReporter;
 
 import java.text.DecimalFormat;
+import java.util.ArrayList;
 import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
 
 import static java.lang.String.format;
 
+/**
+ * Executes validation parameters against a database, on one or more threads, and compares the results with those
+ * that were expected.
+ * <p>
+ * Parameters are read from the iterator by the calling thread, one at a time, and handed to workers via a bounded
+ * queue, so at most IN_FLIGHT_PARAMS_PER_THREAD parameters per worker are read ahead of those being executed.
+ */
 public class DbValidator
 {
+    static final int IN_FLIGHT_PARAMS_PER_THREAD = 16;
+    private static final long PROGRESS_INTERVAL_AS_MILLI = 1000;
+    private static final long POLL_INTERVAL_AS_MILLI = 100;
+    private static final ValidationParam NO_MORE_PARAMS = ValidationParam.createUntyped( null, null );
+
+    private final int threadCount;
+
+    public DbValidator()
+    {
+        this( 1 );
+    }
+
+    public DbValidator( int threadCount )
+    {
+        if ( threadCount < 1 )
+        {
+            throw new IllegalArgumentException( format( "Thread count must be at least 1, was %s", threadCount ) );
+        }
+        this.threadCount = threadCount;
+    }
+
     public DbValidationResult validate( Iterator<ValidationParam> validationParameters,
             Db db,
             int validationParamsCount,
             Workload workload ) throws WorkloadException
     {
         System.out.println( "----" );
-        DecimalFormat numberFormat = new DecimalFormat( "###,###,###,###,###" );
         DbValidationResult dbValidationResult = new DbValidationResult( db );
-        ConcurrentErrorReporter errorReporter = new ConcurrentErrorReporter();
-        ResultReporter resultReporter = new ResultReporter.SimpleResultReporter( errorReporter );
+        ValidationProgress progress = new ValidationProgress( validationParamsCount );
+        BlockingQueue<ValidationParam> validationParamsQueue =
+                new ArrayBlockingQueue<>( threadCount * IN_FLIGHT_PARAMS_PER_THREAD );
+        AtomicReference<Throwable> workerFailure = new AtomicReference<>();
 
-        int validationParamsProcessedSoFar = 0;
-        int validationParamsCrashedSoFar = 0;
-        int validationParamsIncorrectSoFar = 0;
+        List<ValidationWorker> workers = new ArrayList<>();
+        for ( int i = 0; i < threadCount; i++ )
+        {
+            ValidationWorker worker = new ValidationWorker(
+                    "DbValidator-" + i,
+                    validationParamsQueue,
+                    db,
+                    workload,
+                    dbValidationResult,
+                    progress,
+                    workerFailure
+            );
+            workers.add( worker );
+            worker.start();
+        }
 
-        Operation operation = null;
-        while ( true )
+        long lastProgressAsMilli = 0;
+        try
         {
-            if (null != operation) {
-                System.out.print(format(
-                        "Processed %s / %s -- Crashed %s -- Incorrect %s -- Currently processing %s...\r",
-                        numberFormat.format(validationParamsProcessedSoFar),
-                        numberFormat.format(validationParamsCount),
-                        numberFormat.format(validationParamsCrashedSoFar),
-                        numberFormat.format(validationParamsIncorrectSoFar),
-                        operation.getClass().getSimpleName()
-                ));
-                System.out.flush();
+            while ( validationParameters.hasNext() && null == workerFailure.get() )
+            {
+                ValidationParam validationParam = validationParameters.next();
+                while ( false == validationParamsQueue.offer(
+                        validationParam, POLL_INTERVAL_AS_MILLI, TimeUnit.MILLISECONDS ) )
+                {
+                    lastProgressAsMilli = printProgressIfDue( progress, lastProgressAsMilli );
+                    if ( null != workerFailure.get() )
+                    {
+                        break;
+                    }
+                }
+                lastProgressAsMilli = printProgressIfDue( progress, lastProgressAsMilli );
             }
+        }
+        catch ( InterruptedException e )
+        {
+            Thread.currentThread().interrupt();
+            throw new WorkloadException( "Interrupted while submitting validation parameters", e );
+        }
+        finally
+        {
+            stopWorkers( workers, validationParamsQueue );
+        }
 
-            if (!validationParameters.hasNext()) {
-                break;
+        if ( null != workerFailure.get() )
+        {
+            throw new WorkloadException( "Error encountered while validating database", workerFailure.get() );
+        }
+        System.out.print( progress.toString() );
+        System.out.println( "\n----" );
+        return dbValidationResult;
+    }
+
+    private long printProgressIfDue( ValidationProgress progress, long lastProgressAsMilli )
+    {
+        long nowAsMilli = System.currentTimeMillis();
+        if ( nowAsMilli - lastProgressAsMilli < PROGRESS_INTERVAL_AS_MILLI )
+        {
+            return lastProgressAsMilli;
+        }
+        System.out.print( progress.toString() + "\r" );
+        System.out.flush();
+        return nowAsMilli;
+    }
+
+    private void stopWorkers( List<ValidationWorker> workers, BlockingQueue<ValidationParam> validationParamsQueue )
+    {
+        boolean interrupted = false;
+        for ( ValidationWorker worker : workers )
+        {
+            // every worker stops after taking exactly one of these
+            while ( true )
+            {
+                try
+                {
+                    validationParamsQueue.put( NO_MORE_PARAMS );
+                    break;
+                }
+                catch ( InterruptedException e )
+                {
+                    interrupted = true;
+                }
             }
+        }
+        for ( ValidationWorker worker : workers )
+        {
+            while ( worker.isAlive() )
+            {
+                try
+                {
+                    worker.join();
+                }
+                catch ( InterruptedException e )
+                {
+                    interrupted = true;
+                }
+            }
+        }
+        if ( interrupted )
+        {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static class ValidationWorker extends Thread
+    {
+        private final BlockingQueue<ValidationParam> validationParamsQueue;
+        private final Db db;
+        private final Workload workload;
+        private final DbValidationResult dbValidationResult;
+        private final ValidationProgress progress;
+        private final AtomicReference<Throwable> workerFailure;
+        private final ConcurrentErrorReporter errorReporter = new ConcurrentErrorReporter();
+
+        private ValidationWorker( String name,
+                BlockingQueue<ValidationParam> validationParamsQueue,
+                Db db,
+                Workload workload,
+                DbValidationResult dbValidationResult,
+                ValidationProgress progress,
+                AtomicReference<Throwable> workerFailure )
+        {
+            super( name );
+            this.validationParamsQueue = validationParamsQueue;
+            this.db = db;
+            this.workload = workload;
+            this.dbValidationResult = dbValidationResult;
+            this.progress = progress;
+            this.workerFailure = workerFailure;
+        }
+
+        @Override
+        public void run()
+        {
+            while ( true )
+            {
+                ValidationParam validationParam;
+                try
+                {
+                    validationParam = validationParamsQueue.take();
+                }
+                catch ( InterruptedException e )
+                {
+                    workerFailure.compareAndSet( null, e );
+                    return;
+                }
+                if ( NO_MORE_PARAMS == validationParam )
+                {
+                    return;
+                }
+                if ( null != workerFailure.get() )
+                {
+                    // keep draining, so the submitting thread is never blocked on a full queue
+                    continue;
+                }
+                try
+                {
+                    validate( validationParam );
+                }
+                catch ( Throwable e )
+                {
+                    workerFailure.compareAndSet( null, e );
+                }
+            }
+        }
 
-            ValidationParam validationParam = validationParameters.next();
-            operation = validationParam.operation();
+        private void validate( ValidationParam validationParam ) throws WorkloadException
+        {
+            Operation operation = validationParam.operation();
             Object expectedOperationResult = validationParam.operationResult();
+            progress.currentOperationType = operation.getClass();
 
             OperationHandlerRunnableContext handlerRunner;
             try
@@ -63,11 +244,12 @@ public class DbValidator
             }
             catch ( Throwable e )
             {
-
                 dbValidationResult.reportMissingHandlerForOperation( operation );
-                continue;
+                return;
             }
 
+            // new reporter per operation, so a result of the previous operation can never be mistaken for this one
+            ResultReporter resultReporter = new ResultReporter.SimpleResultReporter( errorReporter );
             try
             {
                 OperationHandler handler = handlerRunner.operationHandler();
@@ -83,14 +265,14 @@ public class DbValidator
             {
                 // Not necessary, but perhaps useful for debugging
                 e.printStackTrace();
-                validationParamsCrashedSoFar++;
+                progress.crashedCount.incrementAndGet();
                 dbValidationResult
                         .reportUnableToExecuteOperation( operation, ConcurrentErrorReporter.stackTraceToString( e ) );
-                continue;
+                return;
             }
             finally
             {
-                validationParamsProcessedSoFar++;
+                progress.processedCount.incrementAndGet();
                 handlerRunner.cleanup();
             }
 
@@ -98,15 +280,43 @@ public class DbValidator
 
             if ( false == workload.resultsEqual( operation, expectedOperationResult, actualOperationResult ) )
             {
-                validationParamsIncorrectSoFar++;
+                progress.incorrectCount.incrementAndGet();
                 dbValidationResult
                         .reportIncorrectResultForOperation( operation, expectedOperationResult, actualOperationResult );
-                continue;
+                return;
             }
 
             dbValidationResult.reportSuccessfulExecution( operation );
         }
-        System.out.println( "\n----" );
-        return dbValidationResult;
+    }
+
+    private static class ValidationProgress
+    {
+        private final DecimalFormat numberFormat = new DecimalFormat( "###,###,###,###,###" );
+        private final int validationParamsCount;
+        private final AtomicInteger processedCount = new AtomicInteger( 0 );
+        private final AtomicInteger crashedCount = new AtomicInteger( 0 );
+        private final AtomicInteger incorrectCount = new AtomicInteger( 0 );
+        // only for display, so it does not matter which worker wrote it last
+        private volatile Class currentOperationType = null;
+
+        private ValidationProgress( int validationParamsCount )
+        {
+            this.validationParamsCount = validationParamsCount;
+        }
+
+        @Override
+        public String toString()
+        {
+            Class operationType = currentOperationType;
+            return format(
+                    "Processed %s / %s -- Crashed %s -- Incorrect %s -- Currently processing %s...",
+                    numberFormat.format( processedCount.get() ),
+                    numberFormat.format( validationParamsCount ),
+                    numberFormat.format( crashedCount.get() ),
+                    numberFormat.format( incorrectCount.get() ),
+                    (null == operationType) ? "-" : operationType.getSimpleName()
+            );
+        }
     }
 }
@@ -1,5 +1,6 @@
 package com.ldbc.driver.validation;
 
+import com.ldbc.driver.Operation;
 import com.ldbc.driver.validation.DbValidationParametersFilter;
 
 public class LdbcSnbBiDbValidationParametersFilter extends DbValidationParametersFilter {
@@ -8,4 +9,10 @@ public class LdbcSnbBiDbValidationParametersFilter extends DbValidationParameter
         super(requiredValidationParameterCount);
     }
 
+    @Override
+    public boolean isReadOnly(Operation operation) {
+        // BI workload contains no writes
+        return true;
+    }
+
 }
@@ -51,6 +51,13 @@ public class LdbcSnbInteractiveDbValidationParametersFilter extends DbValidation
         }
     }
 
+    @Override
+    public boolean isReadOnly(Operation operation) {
+        Class operationType = operation.getClass();
+        return enabledShortReadOperationTypes.contains(operationType) ||
+                remainingRequiredResultsPerLongReadType.containsKey(operationType);
+    }
+
     @Override
     public DbValidationParametersFilterResult useOperationAndResultForValidation(Operation operation,
                                                                                  Object operationResult) {
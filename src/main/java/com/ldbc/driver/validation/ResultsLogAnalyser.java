@@ -0,0 +1,359 @@
+package com.ldbc.driver.validation;
+
+import com.ldbc.driver.runtime.metrics.BinaryResultsLogReader;
+import com.ldbc.driver.runtime.metrics.SimpleResultsLogReader;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static java.lang.String.format;
+
+/**
+ * Reads a results log once, and counts the delays in it.
+ * <p>
+ * CSV results logs are split into line aligned chunks, which are memory mapped and parsed in parallel, each into its
+ * own partial counts. Only operation type and start times are read, so csv results logs need no more than those
+ * columns. Binary results logs are read sequentially, they are compressed as a single stream.
+ */
+class ResultsLogAnalyser
+{
+    static final long MAX_CHUNK_SIZE_AS_BYTES = 64 * 1024 * 1024;
+    private static final byte COLUMN_SEPARATOR = '|';
+    private static final byte LINE_SEPARATOR = '\n';
+
+    private final int threadCount;
+
+    ResultsLogAnalyser( int threadCount )
+    {
+        this.threadCount = threadCount;
+    }
+
+    ResultsLogDelayCounts countDelays( File resultsLog, long excessiveDelayThresholdAsMilli )
+            throws ValidationException
+    {
+        try
+        {
+            return (BinaryResultsLogReader.isBinaryResultsLog( resultsLog ))
+                   ? countDelaysInBinaryLog( resultsLog, excessiveDelayThresholdAsMilli )
+                   : countDelaysInCsvLog( resultsLog, excessiveDelayThresholdAsMilli );
+        }
+        catch ( ValidationException e )
+        {
+            throw e;
+        }
+        catch ( Exception e )
+        {
+            throw new ValidationException( format( "Error reading results log: %s", resultsLog.getAbsolutePath() ), e );
+        }
+    }
+
+    private ResultsLogDelayCounts countDelaysInBinaryLog( File resultsLog, long excessiveDelayThresholdAsMilli )
+            throws Exception
+    {
+        ResultsLogDelayCounts delayCounts = new ResultsLogDelayCounts( excessiveDelayThresholdAsMilli );
+        try ( BinaryResultsLogReader reader = new BinaryResultsLogReader( resultsLog ) )
+        {
+            String previousOperationType = null;
+            ResultsLogDelayCounts.TypeDelayCounts typeDelayCounts = null;
+            while ( reader.next() )
+            {
+                String operationType = reader.getOperationName();
+                if ( !operationType.equals( previousOperationType ) )
+                {
+                    typeDelayCounts = delayCounts.countsFor( operationType );
+                    previousOperationType = operationType;
+                }
+                delayCounts.recordDelay(
+                        typeDelayCounts,
+                        reader.getScheduledStartTimeAsNano(),
+                        reader.getActualStartTimeAsNano() );
+            }
+        }
+        return delayCounts;
+    }
+
+    private ResultsLogDelayCounts countDelaysInCsvLog( File resultsLog, long excessiveDelayThresholdAsMilli )
+            throws Exception
+    {
+        try ( RandomAccessFile file = new RandomAccessFile( resultsLog, "r" );
+              FileChannel channel = file.getChannel() )
+        {
+            long fileSize = channel.size();
+            long dataStart = lineEnd( channel, 0, fileSize );
+            if ( 0 == dataStart )
+            {
+                throw new ValidationException(
+                        format( "Expected first row to be headers but file was empty: %s",
+                                resultsLog.getAbsolutePath() ) );
+            }
+            TimeUnit timestampUnit = timestampUnit( headers( channel, dataStart ) );
+
+            List<long[]> chunks = chunks( channel, dataStart, fileSize );
+            if ( chunks.size() <= 1 || threadCount <= 1 )
+            {
+                ResultsLogDelayCounts delayCounts = new ResultsLogDelayCounts( excessiveDelayThresholdAsMilli );
+                for ( long[] chunk : chunks )
+                {
+                    countDelaysInChunk( channel, chunk[0], chunk[1], timestampUnit, delayCounts );
+                }
+                return delayCounts;
+            }
+
+            ExecutorService executor = Executors.newFixedThreadPool( Math.min( threadCount, chunks.size() ) );
+            try
+            {
+                List<Future<ResultsLogDelayCounts>> partialDelayCounts = new ArrayList<>();
+                for ( final long[] chunk : chunks )
+                {
+                    partialDelayCounts.add( executor.submit( () -> {
+                        ResultsLogDelayCounts chunkDelayCounts =
+                                new ResultsLogDelayCounts( excessiveDelayThresholdAsMilli );
+                        countDelaysInChunk( channel, chunk[0], chunk[1], timestampUnit, chunkDelayCounts );
+                        return chunkDelayCounts;
+                    } ) );
+                }
+                ResultsLogDelayCounts delayCounts = new ResultsLogDelayCounts( excessiveDelayThresholdAsMilli );
+                for ( Future<ResultsLogDelayCounts> partialDelayCount : partialDelayCounts )
+                {
+                    try
+                    {
+                        delayCounts.merge( partialDelayCount.get() );
+                    }
+                    catch ( ExecutionException e )
+                    {
+                        if ( e.getCause() instanceof ValidationException )
+                        {
+                            throw (ValidationException) e.getCause();
+                        }
+                        throw e;
+                    }
+                }
+                return delayCounts;
+            }
+            finally
+            {
+                executor.shutdownNow();
+            }
+        }
+    }
+
+    /**
+     * Splits [dataStart, fileSize) into chunks of whole lines, as {start, end} pairs
+     */
+    private List<long[]> chunks( FileChannel channel, long dataStart, long fileSize ) throws IOException
+    {
+        long dataSize = fileSize - dataStart;
+        // a few chunks per thread, so threads that finish early can take more work
+        long chunkSize = Math.max( 1, Math.min( MAX_CHUNK_SIZE_AS_BYTES, dataSize / (threadCount * 4L) + 1 ) );
+        List<long[]> chunks = new ArrayList<>();
+        long chunkStart = dataStart;
+        while ( chunkStart < fileSize )
+        {
+            long chunkEnd = lineEnd( channel, Math.min( fileSize, chunkStart + chunkSize ) - 1, fileSize );
+            chunks.add( new long[]{chunkStart, chunkEnd} );
+            chunkStart = chunkEnd;
+        }
+        return chunks;
+    }
+
+    /**
+     * @return position after the first line separator at or after position, or fileSize if there is none
+     */
+    private long lineEnd( FileChannel channel, long position, long fileSize ) throws IOException
+    {
+        while ( position < fileSize )
+        {
+            MappedByteBuffer buffer = channel.map( FileChannel.MapMode.READ_ONLY, position,
+                    Math.min( 64 * 1024, fileSize - position ) );
+            while ( buffer.hasRemaining() )
+            {
+                if ( LINE_SEPARATOR == buffer.get() )
+                {
+                    return position + buffer.position();
+                }
+            }
+            position += buffer.limit();
+        }
+        return fileSize;
+    }
+
+    private String[] headers( FileChannel channel, long headersEnd ) throws IOException
+    {
+        MappedByteBuffer buffer = channel.map( FileChannel.MapMode.READ_ONLY, 0, headersEnd );
+        byte[] headerBytes = new byte[(int) headersEnd];
+        buffer.get( headerBytes );
+        return new String( headerBytes, StandardCharsets.UTF_8 ).trim().split( "\\|" );
+    }
+
+    // start times are compared at the resolution they were logged with, e.g., microseconds
+    private TimeUnit timestampUnit( String[] headers ) throws ValidationException
+    {
+        if ( headers.length < 3 )
+        {
+            throw new ValidationException( format( "Unrecognized results log headers: %s", Arrays.toString( headers ) ) );
+        }
+        try
+        {
+            return SimpleResultsLogReader.timestampUnit( headers[1] );
+        }
+        catch ( IllegalArgumentException e )
+        {
+            throw new ValidationException( format( "Unrecognized scheduled start time header: %s", headers[1] ), e );
+        }
+    }
+
+    private void countDelaysInChunk(
+            FileChannel channel,
+            long chunkStart,
+            long chunkEnd,
+            TimeUnit timestampUnit,
+            ResultsLogDelayCounts delayCounts ) throws IOException, ValidationException
+    {
+        MappedByteBuffer buffer = channel.map( FileChannel.MapMode.READ_ONLY, chunkStart, chunkEnd - chunkStart );
+        OperationTypes operationTypes = new OperationTypes( delayCounts );
+        int limit = buffer.limit();
+        int position = 0;
+        while ( position < limit )
+        {
+            int lineStart = position;
+            int lineEnd = lineStart;
+            while ( lineEnd < limit && LINE_SEPARATOR != buffer.get( lineEnd ) )
+            {
+                lineEnd++;
+            }
+            position = lineEnd + 1;
+            if ( lineEnd > lineStart && '\r' == buffer.get( lineEnd - 1 ) )
+            {
+                lineEnd--;
+            }
+            if ( lineEnd == lineStart )
+            {
+                continue;
+            }
+
+            int operationTypeEnd = columnEnd( buffer, lineStart, lineEnd );
+            int scheduledStartTimeEnd = columnEnd( buffer, operationTypeEnd + 1, lineEnd );
+            int actualStartTimeEnd = columnEnd( buffer, scheduledStartTimeEnd + 1, lineEnd );
+            if ( scheduledStartTimeEnd >= lineEnd )
+            {
+                throw new ValidationException( format( "Results log row has too few columns, at byte %s",
+                        chunkStart + lineStart ) );
+            }
+            ResultsLogDelayCounts.TypeDelayCounts typeDelayCounts =
+                    operationTypes.countsFor( buffer, lineStart, operationTypeEnd );
+            long scheduledStartTime = parseLong( buffer, operationTypeEnd + 1, scheduledStartTimeEnd, chunkStart );
+            long actualStartTime = parseLong( buffer, scheduledStartTimeEnd + 1, actualStartTimeEnd, chunkStart );
+            // duration
+            // result code
+            delayCounts.recordDelay(
+                    typeDelayCounts,
+                    timestampUnit.toNanos( scheduledStartTime ),
+                    timestampUnit.toNanos( actualStartTime ) );
+        }
+    }
+
+    private static int columnEnd( MappedByteBuffer buffer, int columnStart, int lineEnd )
+    {
+        int columnEnd = columnStart;
+        while ( columnEnd < lineEnd && COLUMN_SEPARATOR != buffer.get( columnEnd ) )
+        {
+            columnEnd++;
+        }
+        return columnEnd;
+    }
+
+    private static long parseLong( MappedByteBuffer buffer, int start, int end, long chunkStart )
+            throws ValidationException
+    {
+        if ( start == end )
+        {
+            throw new ValidationException( format( "Expected number but found empty column, at byte %s",
+                    chunkStart + start ) );
+        }
+        boolean negative = '-' == buffer.get( start );
+        long value = 0;
+        for ( int i = (negative) ? start + 1 : start; i < end; i++ )
+        {
+            int digit = buffer.get( i ) - '0';
+            if ( digit < 0 || digit > 9 )
+            {
+                throw new ValidationException( format( "Expected number but found '%s', at byte %s",
+                        (char) buffer.get( i ), chunkStart + i ) );
+            }
+            value = value * 10 + digit;
+        }
+        return (negative) ? -value : value;
+    }
+
+    /**
+     * Operation types of one chunk, found by comparing bytes, so no string is created per row
+     */
+    private static class OperationTypes
+    {
+        private final ResultsLogDelayCounts delayCounts;
+        private byte[][] names = new byte[0][];
+        private ResultsLogDelayCounts.TypeDelayCounts[] counts = new ResultsLogDelayCounts.TypeDelayCounts[0];
+        private int lastFound = 0;
+
+        private OperationTypes( ResultsLogDelayCounts delayCounts )
+        {
+            this.delayCounts = delayCounts;
+        }
+
+        private ResultsLogDelayCounts.TypeDelayCounts countsFor( MappedByteBuffer buffer, int start, int end )
+        {
+            // consecutive rows often have the same type
+            if ( lastFound < names.length && matches( names[lastFound], buffer, start, end ) )
+            {
+                return counts[lastFound];
+            }
+            for ( int i = 0; i < names.length; i++ )
+            {
+                if ( matches( names[i], buffer, start, end ) )
+                {
+                    lastFound = i;
+                    return counts[i];
+                }
+            }
+            byte[] name = new byte[end - start];
+            for ( int i = 0; i < name.length; i++ )
+            {
+                name[i] = buffer.get( start + i );
+            }
+            names = Arrays.copyOf( names, names.length + 1 );
+            counts = Arrays.copyOf( counts, counts.length + 1 );
+            lastFound = names.length - 1;
+            names[lastFound] = name;
+            counts[lastFound] = delayCounts.countsFor( new String( name, StandardCharsets.UTF_8 ) );
+            return counts[lastFound];
+        }
+
+        private static boolean matches( byte[] name, MappedByteBuffer buffer, int start, int end )
+        {
+            if ( name.length != end - start )
+            {
+                return false;
+            }
+            for ( int i = 0; i < name.length; i++ )
+            {
+                if ( name[i] != buffer.get( start + i ) )
+                {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+}
@@ -0,0 +1,167 @@
+package com.ldbc.driver.validation;
+
+import com.ldbc.driver.temporal.TemporalUtil;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import static java.lang.String.format;
+
+/**
+ * Partial summary of the delays in (part of) a results log, from which a ResultsLogValidationSummary can be computed.
+ * <p>
+ * Delays are counted per operation type and per millisecond, so partial summaries of different parts of the same log
+ * can be merged exactly, and recording them into a ResultsLogValidationSummaryCalculator gives the same summary as
+ * recording every delay individually. Delays of up to DENSE_DELAY_LIMIT_AS_MILLI are counted in arrays, longer (rare)
+ * delays in maps.
+ */
+class ResultsLogDelayCounts
+{
+    static final int DENSE_DELAY_LIMIT_AS_MILLI = 1 << 16;
+    private static final TemporalUtil TEMPORAL_UTIL = new TemporalUtil();
+
+    private final long excessiveDelayThresholdAsNano;
+    private final Map<String,TypeDelayCounts> delayCountsPerType = new HashMap<>();
+    private long maxDelayAsNano = 0;
+
+    ResultsLogDelayCounts( long excessiveDelayThresholdAsMilli )
+    {
+        this.excessiveDelayThresholdAsNano = TimeUnit.MILLISECONDS.toNanos( excessiveDelayThresholdAsMilli );
+    }
+
+    /**
+     * Counts of one operation type, which callers may keep to avoid looking them up again for every delay
+     */
+    TypeDelayCounts countsFor( String operationType )
+    {
+        TypeDelayCounts typeDelayCounts = delayCountsPerType.get( operationType );
+        if ( null == typeDelayCounts )
+        {
+            typeDelayCounts = new TypeDelayCounts();
+            delayCountsPerType.put( operationType, typeDelayCounts );
+        }
+        return typeDelayCounts;
+    }
+
+    void recordDelay( TypeDelayCounts typeDelayCounts, long scheduledStartTimeAsNano, long actualStartTimeAsNano )
+            throws ValidationException
+    {
+        long delayAsNano = actualStartTimeAsNano - scheduledStartTimeAsNano;
+        if ( delayAsNano < 0 )
+        {
+            throw negativeDelay( scheduledStartTimeAsNano, actualStartTimeAsNano );
+        }
+        if ( delayAsNano > maxDelayAsNano )
+        {
+            maxDelayAsNano = delayAsNano;
+        }
+        if ( delayAsNano > excessiveDelayThresholdAsNano )
+        {
+            typeDelayCounts.excessiveDelayCount++;
+        }
+        typeDelayCounts.record( TimeUnit.NANOSECONDS.toMillis( delayAsNano ) );
+    }
+
+    long maxDelayAsNano()
+    {
+        return maxDelayAsNano;
+    }
+
+    void merge( ResultsLogDelayCounts other )
+    {
+        maxDelayAsNano = Math.max( maxDelayAsNano, other.maxDelayAsNano );
+        for ( Map.Entry<String,TypeDelayCounts> entry : other.delayCountsPerType.entrySet() )
+        {
+            countsFor( entry.getKey() ).merge( entry.getValue() );
+        }
+    }
+
+    void recordInto( ResultsLogValidationSummaryCalculator calculator )
+    {
+        for ( Map.Entry<String,TypeDelayCounts> entry : delayCountsPerType.entrySet() )
+        {
+            String operationType = entry.getKey();
+            TypeDelayCounts typeDelayCounts = entry.getValue();
+            for ( int delayAsMilli = 0; delayAsMilli < typeDelayCounts.denseCounts.length; delayAsMilli++ )
+            {
+                long count = typeDelayCounts.denseCounts[delayAsMilli];
+                if ( count > 0 )
+                {
+                    calculator.recordDelayCount( operationType, delayAsMilli, count );
+                }
+            }
+            for ( Map.Entry<Long,Long> sparseCount : typeDelayCounts.sparseCounts.entrySet() )
+            {
+                calculator.recordDelayCount( operationType, sparseCount.getKey(), sparseCount.getValue() );
+            }
+            calculator.recordExcessiveDelayCount( operationType, typeDelayCounts.excessiveDelayCount );
+        }
+    }
+
+    private static ValidationException negativeDelay( long scheduledStartTimeAsNano, long actualStartTimeAsNano )
+    {
+        long delayAsNano = actualStartTimeAsNano - scheduledStartTimeAsNano;
+        long scheduledStartTimeAsMilli = TimeUnit.NANOSECONDS.toMillis( scheduledStartTimeAsNano );
+        long actualStartTimeAsMilli = TimeUnit.NANOSECONDS.toMillis( actualStartTimeAsNano );
+        return new ValidationException(
+                format( "Delay can not be negative\n" +
+                        "Delay: %s (ns) / %s\n" +
+                        "Scheduled Start Time: %s (ns) / %s\n" +
+                        "Actual Start Time: %s (ns) / %s",
+                        delayAsNano,
+                        TEMPORAL_UTIL.nanoDurationToString( delayAsNano ),
+                        scheduledStartTimeAsNano,
+                        TEMPORAL_UTIL.milliTimeToTimeString( scheduledStartTimeAsMilli ),
+                        actualStartTimeAsNano,
+                        TEMPORAL_UTIL.milliTimeToTimeString( actualStartTimeAsMilli )
+                )
+        );
+    }
+
+    static class TypeDelayCounts
+    {
+        private long[] denseCounts = new long[0];
+        private final Map<Long,Long> sparseCounts = new HashMap<>();
+        private long excessiveDelayCount = 0;
+
+        private void record( long delayAsMilli )
+        {
+            if ( delayAsMilli < DENSE_DELAY_LIMIT_AS_MILLI )
+            {
+                if ( delayAsMilli >= denseCounts.length )
+                {
+                    denseCounts = Arrays.copyOf( denseCounts,
+                            (int) Math.min( DENSE_DELAY_LIMIT_AS_MILLI,
+                                    Math.max( delayAsMilli + 1, Math.max( 64, denseCounts.length * 2L ) ) ) );
+                }
+                denseCounts[(int) delayAsMilli]++;
+            }
+            else
+            {
+                Long count = sparseCounts.get( delayAsMilli );
+                sparseCounts.put( delayAsMilli, (null == count) ? 1 : count + 1 );
+            }
+        }
+
+        private void merge( TypeDelayCounts other )
+        {
+            if ( other.denseCounts.length > denseCounts.length )
+            {
+                denseCounts = Arrays.copyOf( denseCounts, other.denseCounts.length );
+            }
+            for ( int i = 0; i < other.denseCounts.length; i++ )
+            {
+                denseCounts[i] += other.denseCounts[i];
+            }
+            for ( Map.Entry<Long,Long> sparseCount : other.sparseCounts.entrySet() )
+            {
+                Long count = sparseCounts.get( sparseCount.getKey() );
+                sparseCounts.put( sparseCount.getKey(),
+                        (null == count) ? sparseCount.getValue() : count + sparseCount.getValue() );
+            }
+            excessiveDelayCount += other.excessiveDelayCount;
+        }
+    }
+}
@@ -4,6 +4,7 @@ import org.HdrHistogram.Histogram;
 
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.TimeUnit;
 
 class ResultsLogValidationSummaryCalculator
 {
@@ -12,12 +13,14 @@ class ResultsLogValidationSummaryCalculator
     private final Map<String,Long> delaysAboveThresholdPerType;
     private final long maxDelayAsMilli;
     private final long excessiveDelayThresholdAsMilli;
+    private final long excessiveDelayThresholdAsNano;
     private long delaysAboveThreshold;
 
     ResultsLogValidationSummaryCalculator( long maxDelayAsMilli, long excessiveDelayThresholdAsMilli )
     {
         this.maxDelayAsMilli = maxDelayAsMilli;
         this.excessiveDelayThresholdAsMilli = excessiveDelayThresholdAsMilli;
+        this.excessiveDelayThresholdAsNano = TimeUnit.MILLISECONDS.toNanos( excessiveDelayThresholdAsMilli );
         this.delays = new Histogram( 1, Math.max( 2, maxDelayAsMilli ), 5 );
         this.delaysPerType = new HashMap<>();
         this.delaysAboveThresholdPerType = new HashMap<>();
@@ -26,6 +29,13 @@ class ResultsLogValidationSummaryCalculator
 
     void recordDelay( String operationType, long delayAsMilli )
     {
+        recordDelayAsNano( operationType, TimeUnit.MILLISECONDS.toNanos( delayAsMilli ) );
+    }
+
+    // delay summaries are kept at millisecond resolution, excessive delays are detected at nanosecond resolution
+    void recordDelayAsNano( String operationType, long delayAsNano )
+    {
+        long delayAsMilli = TimeUnit.NANOSECONDS.toMillis( delayAsNano );
         delays.recordValue( delayAsMilli );
 
         Histogram delayForType = delaysPerType.get( operationType );
@@ -42,13 +52,44 @@ class ResultsLogValidationSummaryCalculator
             delaysAboveThresholdForType = 0L;
             delaysAboveThresholdPerType.put( operationType, delaysAboveThresholdForType );
         }
-        if ( delayAsMilli > excessiveDelayThresholdAsMilli )
+        if ( delayAsNano > excessiveDelayThresholdAsNano )
         {
             delaysAboveThreshold++;
             delaysAboveThresholdPerType.put( operationType, delaysAboveThresholdForType + 1 );
         }
     }
 
+    /**
+     * Equivalent to recording the same delay count times, but only counts it as excessive via
+     * recordExcessiveDelayCount(), because whether a delay is excessive is decided at nanosecond resolution
+     */
+    void recordDelayCount( String operationType, long delayAsMilli, long count )
+    {
+        delays.recordValueWithCount( delayAsMilli, count );
+
+        Histogram delayForType = delaysPerType.get( operationType );
+        if ( null == delayForType )
+        {
+            delayForType = new Histogram( 1, Math.max( 2, maxDelayAsMilli ), 5 );
+            delaysPerType.put( operationType, delayForType );
+        }
+        delayForType.recordValueWithCount( delayAsMilli, count );
+
+        if ( !delaysAboveThresholdPerType.containsKey( operationType ) )
+        {
+            delaysAboveThresholdPerType.put( operationType, 0L );
+        }
+    }
+
+    void recordExcessiveDelayCount( String operationType, long count )
+    {
+        Long delaysAboveThresholdForType = delaysAboveThresholdPerType.get( operationType );
+        delaysAboveThreshold += count;
+        delaysAboveThresholdPerType.put(
+                operationType,
+                (null == delaysAboveThresholdForType) ? count : delaysAboveThresholdForType + count );
+    }
+
     ResultsLogValidationSummary snapshot()
     {
         Map<String,Long> minDelayAsMilliPerType = new HashMap<>();
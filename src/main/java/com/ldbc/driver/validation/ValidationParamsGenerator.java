@@ -11,33 +11,81 @@ import com.ldbc.driver.generator.Generator;
 import com.ldbc.driver.generator.GeneratorException;
 import com.ldbc.driver.runtime.ConcurrentErrorReporter;
 
-import java.util.ArrayList;
+import java.util.ArrayDeque;
+import java.util.Deque;
 import java.util.Iterator;
 import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static java.lang.String.format;
 
+/**
+ * Executes operations against a reference database and returns those accepted by the filter, with their results.
+ * <p>
+ * With more than one thread, read only operations (see DbValidationParametersFilter.isReadOnly()) are executed
+ * ahead of their turn, at most IN_FLIGHT_OPERATIONS_PER_THREAD per thread. Results are still handed to the filter one
+ * at a time and in the original order, so the filter makes exactly the decisions it would make with one thread, and
+ * the generated parameters are the same. Other operations are only executed once all operations before them have
+ * been handed to the filter, and no operation after them is executed before they are.
+ */
 public class ValidationParamsGenerator extends Generator<ValidationParam>
 {
+    static final int IN_FLIGHT_OPERATIONS_PER_THREAD = 4;
+
     private final Db db;
     private final DbValidationParametersFilter dbValidationParametersFilter;
     private final Iterator<Operation> operations;
-    private final ResultReporter resultReporter;
+    private final ConcurrentErrorReporter errorReporter;
+    private final ExecutorService executor;
+    private final int maxInFlightOperations;
+    // operations in their original order, those at the front are the next to be handed to the filter
+    private final Deque<PendingOperation> window;
     private int entriesWrittenSoFar;
     private boolean needMoreValidationParameters;
-    private final List<Operation> injectedOperations;
 
     public ValidationParamsGenerator( Db db,
             DbValidationParametersFilter dbValidationParametersFilter,
             Iterator<Operation> operations )
     {
+        this( db, dbValidationParametersFilter, operations, 1 );
+    }
+
+    public ValidationParamsGenerator( Db db,
+            DbValidationParametersFilter dbValidationParametersFilter,
+            Iterator<Operation> operations,
+            int threadCount )
+    {
+        if ( threadCount < 1 )
+        {
+            throw new IllegalArgumentException( format( "Thread count must be at least 1, was %s", threadCount ) );
+        }
         this.db = db;
         this.dbValidationParametersFilter = dbValidationParametersFilter;
         this.operations = operations;
-        this.resultReporter = new ResultReporter.SimpleResultReporter( new ConcurrentErrorReporter() );
+        this.errorReporter = new ConcurrentErrorReporter();
+        this.executor = (1 == threadCount) ? null : Executors.newFixedThreadPool( threadCount, new ThreadFactory()
+        {
+            private final AtomicInteger threadId = new AtomicInteger( 0 );
+
+            @Override
+            public Thread newThread( Runnable runnable )
+            {
+                Thread thread = new Thread( runnable,
+                        ValidationParamsGenerator.class.getSimpleName() + "-" + threadId.getAndIncrement() );
+                thread.setDaemon( true );
+                return thread;
+            }
+        } );
+        this.maxInFlightOperations = threadCount * IN_FLIGHT_OPERATIONS_PER_THREAD;
+        this.window = new ArrayDeque<>();
         this.entriesWrittenSoFar = 0;
         this.needMoreValidationParameters = true;
-        this.injectedOperations = new ArrayList<>();
     }
 
     public int entriesWrittenSoFar()
@@ -45,64 +93,47 @@ public class ValidationParamsGenerator extends Generator<ValidationParam>
         return entriesWrittenSoFar;
     }
 
+    /**
+     * Stops executing operations ahead of their turn. Called once generation is finished, but must also be called
+     * if it is abandoned before that.
+     */
+    public void shutdown()
+    {
+        if ( null != executor )
+        {
+            executor.shutdownNow();
+        }
+    }
+
     @Override
     protected ValidationParam doNext() throws GeneratorException
     {
-        while ( (injectedOperations.size() > 0 || operations.hasNext()) && needMoreValidationParameters )
+        while ( needMoreValidationParameters )
         {
-            Operation operation;
-            if ( injectedOperations.isEmpty() )
-            {
-                operation = operations.next();
-            }
-            else
+            fillWindow();
+            if ( window.isEmpty() )
             {
-                operation = injectedOperations.remove( 0 );
+                break;
             }
+            PendingOperation pendingOperation = window.removeFirst();
+            Operation operation = pendingOperation.operation;
 
-            if (!dbValidationParametersFilter.useOperation(operation))
-            { continue; }
-
-            OperationHandlerRunnableContext operationHandlerRunner;
-            try
-            {
-                operationHandlerRunner = db.getOperationHandlerRunnableContext( operation );
-            }
-            catch ( DbException e )
+            // filter state may have changed since the operation was added to the window
+            if ( !dbValidationParametersFilter.useOperation( operation ) )
             {
-                throw new GeneratorException(
-                        format(
-                                "Error retrieving operation handler for operation\n"
-                                + "Db: %s\n"
-                                + "Operation: %s",
-                                db.getClass().getName(), operation ),
-                        e );
-            }
-            try
-            {
-                OperationHandler operationHandler = operationHandlerRunner.operationHandler();
-                DbConnectionState dbConnectionState = operationHandlerRunner.dbConnectionState();
-                operationHandler.executeOperation( operation, dbConnectionState, resultReporter );
-            }
-            catch ( DbException e )
-            {
-                throw new GeneratorException(
-                        format( ""
-                                + "Error executing operation to retrieve validation result\n"
-                                + "Db: %s\n"
-                                + "Operation: %s",
-                                db.getClass().getName(), operation ),
-                        e );
-            }
-            finally
-            {
-                operationHandlerRunner.cleanup();
+                pendingOperation.cancel();
+                continue;
             }
 
-            Object result = resultReporter.result();
+            Object result = pendingOperation.result();
             DbValidationParametersFilterResult dbValidationParametersFilterResult =
                     dbValidationParametersFilter.useOperationAndResultForValidation( operation, result );
-            injectedOperations.addAll( dbValidationParametersFilterResult.injectedOperations() );
+            // injected operations come directly after the operation that injected them, ahead of the rest of window
+            List<Operation> injectedOperations = dbValidationParametersFilterResult.injectedOperations();
+            for ( int i = injectedOperations.size() - 1; i >= 0; i-- )
+            {
+                window.addFirst( new PendingOperation( injectedOperations.get( i ) ) );
+            }
 
             switch ( dbValidationParametersFilterResult.acceptance() )
             {
@@ -128,6 +159,157 @@ public class ValidationParamsGenerator extends Generator<ValidationParam>
             }
         }
         // ran out of operations OR validation set size has been reached
+        for ( PendingOperation pendingOperation : window )
+        {
+            pendingOperation.cancel();
+        }
+        window.clear();
+        shutdown();
         return null;
     }
-}
\ No newline at end of file
+
+    /**
+     * Starts executing read only operations in the window, and adds operations from the stream to it, until it is
+     * full, an operation that is not read only is reached, or the stream is exhausted
+     */
+    private void fillWindow()
+    {
+        for ( PendingOperation pendingOperation : window )
+        {
+            if ( !pendingOperation.isStarted() )
+            {
+                if ( !isReadOnly( pendingOperation.operation ) )
+                {
+                    return;
+                }
+                pendingOperation.start();
+            }
+        }
+        while ( window.size() < maxInFlightOperations && operations.hasNext() )
+        {
+            Operation operation = operations.next();
+            // filters only ever stop accepting operations, never start, so these could never be used
+            if ( !dbValidationParametersFilter.useOperation( operation ) )
+            {
+                continue;
+            }
+            PendingOperation pendingOperation = new PendingOperation( operation );
+            window.addLast( pendingOperation );
+            if ( !isReadOnly( operation ) )
+            {
+                return;
+            }
+            pendingOperation.start();
+        }
+    }
+
+    private boolean isReadOnly( Operation operation )
+    {
+        return null != executor && dbValidationParametersFilter.isReadOnly( operation );
+    }
+
+    private Object execute( Operation operation ) throws GeneratorException
+    {
+        OperationHandlerRunnableContext operationHandlerRunner;
+        try
+        {
+            operationHandlerRunner = db.getOperationHandlerRunnableContext( operation );
+        }
+        catch ( DbException e )
+        {
+            throw new GeneratorException(
+                    format(
+                            "Error retrieving operation handler for operation\n"
+                            + "Db: %s\n"
+                            + "Operation: %s",
+                            db.getClass().getName(), operation ),
+                    e );
+        }
+        ResultReporter resultReporter = new ResultReporter.SimpleResultReporter( errorReporter );
+        try
+        {
+            OperationHandler operationHandler = operationHandlerRunner.operationHandler();
+            DbConnectionState dbConnectionState = operationHandlerRunner.dbConnectionState();
+            operationHandler.executeOperation( operation, dbConnectionState, resultReporter );
+        }
+        catch ( DbException e )
+        {
+            throw new GeneratorException(
+                    format( ""
+                            + "Error executing operation to retrieve validation result\n"
+                            + "Db: %s\n"
+                            + "Operation: %s",
+                            db.getClass().getName(), operation ),
+                    e );
+        }
+        finally
+        {
+            operationHandlerRunner.cleanup();
+        }
+        return resultReporter.result();
+    }
+
+    private class PendingOperation
+    {
+        private final Operation operation;
+        private Future<Object> result = null;
+
+        private PendingOperation( Operation operation )
+        {
+            this.operation = operation;
+        }
+
+        private boolean isStarted()
+        {
+            return null != result;
+        }
+
+        private void start()
+        {
+            result = executor.submit( new Callable<Object>()
+            {
+                @Override
+                public Object call() throws Exception
+                {
+                    return execute( operation );
+                }
+            } );
+        }
+
+        private void cancel()
+        {
+            if ( null != result )
+            {
+                result.cancel( false );
+            }
+        }
+
+        /**
+         * Operations that were not started ahead of their turn are executed by the calling thread
+         */
+        private Object result() throws GeneratorException
+        {
+            if ( null == result )
+            {
+                return execute( operation );
+            }
+            try
+            {
+                return result.get();
+            }
+            catch ( InterruptedException e )
+            {
+                Thread.currentThread().interrupt();
+                throw new GeneratorException( format( "Interrupted while executing operation: %s", operation ), e );
+            }
+            catch ( ExecutionException e )
+            {
+                if ( e.getCause() instanceof GeneratorException )
+                {
+                    throw (GeneratorException) e.getCause();
+                }
+                throw new GeneratorException( format( "Error executing operation: %s", operation ), e.getCause() );
+            }
+        }
+    }
+}
@@ -10,9 +10,12 @@ import com.ldbc.driver.csv.charseeker.CharSeekerParams;
 import com.ldbc.driver.csv.charseeker.Extractors;
 import com.ldbc.driver.csv.charseeker.Mark;
 import com.ldbc.driver.csv.charseeker.Readables;
+import com.ldbc.driver.generator.ColumnarParameterStore;
 import com.ldbc.driver.generator.CsvEventStreamReaderBasicCharSeeker;
+import com.ldbc.driver.generator.GeneratorException;
 import com.ldbc.driver.generator.GeneratorFactory;
 import com.ldbc.driver.generator.NoRemoveIterator;
+import com.ldbc.driver.generator.ParameterCursor;
 
 import java.io.Closeable;
 import java.io.IOException;
@@ -24,9 +27,9 @@ import static java.lang.String.format;
 
 abstract class BaseEventStreamReader extends NoRemoveIterator<Operation> implements Closeable
 {
-    private final CharSeeker charSeeker;
     private final InputStream parametersInputStream;
-    private final Iterator<Object[]> parametersIterator;
+    private final ColumnarParameterStore parametersStore;
+    private final ParameterCursor parameters;
 
     public BaseEventStreamReader(
             InputStream parametersInputStream,
@@ -34,7 +37,7 @@ abstract class BaseEventStreamReader extends NoRemoveIterator<Operation> impleme
             GeneratorFactory gf ) throws WorkloadException
     {
         this.parametersInputStream = parametersInputStream;
-        charSeeker = new BufferedCharSeeker(
+        CharSeeker charSeeker = new BufferedCharSeeker(
                 Readables.wrap(
                         new InputStreamReader( parametersInputStream, Charsets.UTF_8 )
                 ),
@@ -55,40 +58,90 @@ abstract class BaseEventStreamReader extends NoRemoveIterator<Operation> impleme
                     format( "Unable to advance parameters stream beyond headers: %s", parametersInputStream ), e );
         }
 
-        parametersIterator = gf.repeating(
-                new CsvEventStreamReaderBasicCharSeeker<>(
-                        charSeeker,
-                        new Extractors( charSeekerParams.arrayDelimiter(), charSeekerParams.tupleDelimiter() ),
-                        mark,
-                        decoder(),
-                        charSeekerParams.columnDelimiter()
-                )
-        );
+        // parameters are decoded once, into primitive columns, rather than kept as rows of boxed values
+        try
+        {
+            parametersStore = ColumnarParameterStore.load(
+                    new CsvEventStreamReaderBasicCharSeeker<>(
+                            charSeeker,
+                            new Extractors( charSeekerParams.arrayDelimiter(), charSeekerParams.tupleDelimiter() ),
+                            mark,
+                            decoder(),
+                            charSeekerParams.columnDelimiter()
+                    )
+            );
+            parameters = parametersStore.repeatingCursor();
+        }
+        catch ( GeneratorException e )
+        {
+            throw new WorkloadException(
+                    format( "Unable to load parameters stream: %s", parametersInputStream ), e );
+        }
+        finally
+        {
+            try
+            {
+                charSeeker.close();
+            }
+            catch ( IOException e )
+            {
+                throw new WorkloadException(
+                        format( "Unable to close parameters stream: %s", parametersInputStream ), e );
+            }
+        }
     }
 
     @Override
     public boolean hasNext()
     {
-        return parametersIterator.hasNext();
+        return parameters.hasNext();
     }
 
     @Override
     public Operation next()
     {
-        Object[] parameters = parametersIterator.next();
+        parameters.advance();
         Operation operation = operationFromParameters( parameters );
         operation.setDependencyTimeStamp( 0 );
         return operation;
     }
 
+    /**
+     * Operations of the same parameters as this reader, which loop over the parameters in a different order on every
+     * pass. The order depends only on seed. Streams are independent of this reader and of each other.
+     */
+    Iterator<Operation> permutedStream( long seed )
+    {
+        final ParameterCursor permutedParameters = parametersStore.permutingCursor( seed );
+        return new NoRemoveIterator<Operation>()
+        {
+            @Override
+            public boolean hasNext()
+            {
+                return permutedParameters.hasNext();
+            }
+
+            @Override
+            public Operation next()
+            {
+                permutedParameters.advance();
+                Operation operation = operationFromParameters( permutedParameters );
+                operation.setDependencyTimeStamp( 0 );
+                return operation;
+            }
+        };
+    }
+
     @Override
     public void close() throws IOException
     {
-        charSeeker.close();
         parametersInputStream.close();
     }
 
-    abstract Operation operationFromParameters( Object[] parameters );
+    /**
+     * Values must be read from parameters before returning, the cursor is reused for the next operation
+     */
+    abstract Operation operationFromParameters( ParameterCursor parameters );
 
     abstract CsvEventStreamReaderBasicCharSeeker.EventDecoder<Object[]> decoder();
 
@@ -10,6 +10,7 @@ import com.ldbc.driver.csv.charseeker.Mark;
 import com.ldbc.driver.generator.CsvEventStreamReaderBasicCharSeeker;
 import com.ldbc.driver.generator.GeneratorException;
 import com.ldbc.driver.generator.GeneratorFactory;
+import com.ldbc.driver.generator.ParameterCursor;
 
 import java.io.IOException;
 import java.io.InputStream;
@@ -25,15 +26,15 @@ public class BiQuery10EventStreamReader extends BaseEventStreamReader
     }
 
     @Override
-    Operation operationFromParameters( Object[] parameters )
+    Operation operationFromParameters( ParameterCursor parameters )
     {
         return new LdbcSnbBiQuery10ExpertsInSocialCircle(
-                (long) parameters[0],
-                (String) parameters[1],
-                (String) parameters[2],
-                (int) parameters[3],
-                (int) parameters[4],
-                (int) parameters[5]
+                parameters.longAt( 0 ),
+                parameters.stringAt( 1 ),
+                parameters.stringAt( 2 ),
+                parameters.intAt( 3 ),
+                parameters.intAt( 4 ),
+                parameters.intAt( 5 )
         );
     }
 
@@ -9,6 +9,7 @@ import com.ldbc.driver.csv.charseeker.Extractors;
 import com.ldbc.driver.csv.charseeker.Mark;
 import com.ldbc.driver.generator.CsvEventStreamReaderBasicCharSeeker;
 import com.ldbc.driver.generator.GeneratorFactory;
+import com.ldbc.driver.generator.ParameterCursor;
 
 import java.io.IOException;
 import java.io.InputStream;
@@ -24,10 +25,10 @@ public class BiQuery11EventStreamReader extends BaseEventStreamReader
     }
 
     @Override
-    Operation operationFromParameters( Object[] parameters )
+    Operation operationFromParameters( ParameterCursor parameters )
     {
         return new LdbcSnbBiQuery11FriendshipTriangles(
-                (String) parameters[0]
+                parameters.stringAt( 0 )
         );
     }
 
@@ -11,6 +11,7 @@ import com.ldbc.driver.csv.charseeker.Mark;
 import com.ldbc.driver.generator.CsvEventStreamReaderBasicCharSeeker;
 import com.ldbc.driver.generator.GeneratorException;
 import com.ldbc.driver.generator.GeneratorFactory;
+import com.ldbc.driver.generator.ParameterCursor;
 
 import java.io.IOException;
 import java.io.InputStream;
@@ -27,13 +28,13 @@ public class BiQuery12EventStreamReader extends BaseEventStreamReader
     }
 
     @Override
-    Operation operationFromParameters( Object[] parameters )
+    Operation operationFromParameters( ParameterCursor parameters )
     {
         return new LdbcSnbBiQuery12PersonPostCounts(
-                (long) parameters[0],
-                (int) parameters[1],
-                (List<String>) parameters[2],
-                (int) parameters[3]
+                parameters.longAt( 0 ),
+                parameters.intAt( 1 ),
+                parameters.<List<String>>objectAt( 2 ),
+                parameters.intAt( 3 )
         );
     }
 
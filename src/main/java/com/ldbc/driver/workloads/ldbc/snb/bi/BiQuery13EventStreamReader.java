@@ -10,6 +10,7 @@ import com.ldbc.driver.csv.charseeker.Mark;
 import com.ldbc.driver.generator.CsvEventStreamReaderBasicCharSeeker;
 import com.ldbc.driver.generator.GeneratorException;
 import com.ldbc.driver.generator.GeneratorFactory;
+import com.ldbc.driver.generator.ParameterCursor;
 
 import java.io.IOException;
 import java.io.InputStream;
@@ -25,12 +26,12 @@ public class BiQuery13EventStreamReader extends BaseEventStreamReader
     }
 
     @Override
-    Operation operationFromParameters( Object[] parameters )
+    Operation operationFromParameters( ParameterCursor parameters )
     {
         return new LdbcSnbBiQuery13Zombies(
-                (String) parameters[0],
-                (long) parameters[1],
-                (int) parameters[2]
+                parameters.stringAt( 0 ),
+                parameters.longAt( 1 ),
+                parameters.intAt( 2 )
         );
     }
 
@@ -10,6 +10,7 @@ import com.ldbc.driver.csv.charseeker.Mark;
 import com.ldbc.driver.generator.CsvEventStreamReaderBasicCharSeeker;
 import com.ldbc.driver.generator.GeneratorException;
 import com.ldbc.driver.generator.GeneratorFactory;
+import com.ldbc.driver.generator.ParameterCursor;
 
 import java.io.IOException;
 import java.io.InputStream;
@@ -25,12 +26,12 @@ public class BiQuery14EventStreamReader extends BaseEventStreamReader
     }
 
     @Override
-    Operation operationFromParameters( Object[] parameters )
+    Operation operationFromParameters( ParameterCursor parameters )
     {
         return new LdbcSnbBiQuery14InternationalDialog(
-                (String) parameters[0],
-                (String) parameters[1],
-                (int) parameters[2]
+                parameters.stringAt( 0 ),
+                parameters.stringAt( 1 ),
+                parameters.intAt( 2 )
         );
     }
 
@@ -10,6 +10,7 @@ import com.ldbc.driver.csv.charseeker.Mark;
 import com.ldbc.driver.generator.CsvEventStreamReaderBasicCharSeeker;
 import com.ldbc.driver.generator.GeneratorException;
 import com.ldbc.driver.generator.GeneratorFactory;
+import com.ldbc.driver.generator.ParameterCursor;
 
 import java.io.IOException;
 import java.io.InputStream;
@@ -25,13 +26,13 @@ public class BiQuery15EventStreamReader extends BaseEventStreamReader
     }
 
     @Override
-    Operation operationFromParameters( Object[] parameters )
+    Operation operationFromParameters( ParameterCursor parameters )
     {
         return new LdbcSnbBiQuery15WeightedPaths(
-                (long) parameters[0],
-                (long) parameters[1],
-                (long) parameters[2],
-                (long) parameters[3]
+                parameters.longAt( 0 ),
+                parameters.longAt( 1 ),
+                parameters.longAt( 2 ),
+                parameters.longAt( 3 )
         );
     }
 
@@ -0,0 +1,66 @@
+package com.ldbc.driver.workloads.ldbc.snb.bi;
+
+import com.ldbc.driver.Operation;
+import com.ldbc.driver.generator.NoRemoveIterator;
+
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Random;
+
+/**
+ * One query stream of a throughput test, i.e., the operations of one session.
+ * <p>
+ * The stream is a sequence of rounds. Every round takes one operation from each query stream, in an order that is
+ * permuted every round. The order depends only on seed.
+ */
+class LdbcSnbBiThroughputStream extends NoRemoveIterator<Operation>
+{
+    private final List<Iterator<Operation>> queryStreams;
+    private final Random random;
+    private final int[] order;
+    private int position;
+
+    /**
+     * @param queryStreams one stream per query, none of which may be empty
+     */
+    LdbcSnbBiThroughputStream( List<Iterator<Operation>> queryStreams, long seed )
+    {
+        this.queryStreams = queryStreams;
+        this.random = new Random( seed );
+        this.order = new int[queryStreams.size()];
+        for ( int i = 0; i < order.length; i++ )
+        {
+            order[i] = i;
+        }
+        this.position = order.length;
+    }
+
+    @Override
+    public boolean hasNext()
+    {
+        return order.length > 0;
+    }
+
+    @Override
+    public Operation next()
+    {
+        if ( !hasNext() )
+        {
+            throw new NoSuchElementException( "Stream has no queries" );
+        }
+        if ( position == order.length )
+        {
+            // Fisher-Yates shuffle, at the start of every round
+            for ( int i = order.length - 1; i > 0; i-- )
+            {
+                int j = random.nextInt( i + 1 );
+                int swap = order[i];
+                order[i] = order[j];
+                order[j] = swap;
+            }
+            position = 0;
+        }
+        return queryStreams.get( order[position++] ).next();
+    }
+}
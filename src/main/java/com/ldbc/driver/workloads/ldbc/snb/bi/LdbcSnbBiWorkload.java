@@ -25,6 +25,8 @@ import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.SplittableRandom;
+import java.util.TreeMap;
 import java.util.concurrent.TimeUnit;
 
 import static java.lang.String.format;
@@ -60,6 +62,9 @@ public class LdbcSnbBiWorkload extends Workload
 
     private double compressionRatio;
 
+    // 0 --> all queries interleaved in one asynchronous stream, otherwise the number of throughput test streams
+    private int throughputStreamCount;
+
     private Set<Class> enabledOperationTypes;
 
     private static final int BUFFER_SIZE = 1 * 1024 * 1024;
@@ -230,6 +235,41 @@ public class LdbcSnbBiWorkload extends Workload
 
         this.compressionRatio =
                 Double.parseDouble( params.get( ConsoleAndFileDriverConfiguration.TIME_COMPRESSION_RATIO_ARG ).trim() );
+
+        String throughputStreamsString = params.get( LdbcSnbBiWorkloadConfiguration.THROUGHPUT_STREAMS );
+        try
+        {
+            throughputStreamCount = (null == throughputStreamsString)
+                                    ? LdbcSnbBiWorkloadConfiguration.THROUGHPUT_STREAMS_DEFAULT
+                                    : Integer.parseInt( throughputStreamsString.trim() );
+        }
+        catch ( NumberFormatException e )
+        {
+            throw new WorkloadException( format( "Invalid value for %s: %s",
+                    LdbcSnbBiWorkloadConfiguration.THROUGHPUT_STREAMS, throughputStreamsString ), e );
+        }
+        if ( throughputStreamCount < 0 )
+        {
+            throw new WorkloadException( format( "%s must not be negative: %s",
+                    LdbcSnbBiWorkloadConfiguration.THROUGHPUT_STREAMS, throughputStreamCount ) );
+        }
+        // sessions of a throughput test must run concurrently, multiplexed blocking streams take turns on fewer threads
+        String blockingStreamThreadCountString =
+                params.get( ConsoleAndFileDriverConfiguration.BLOCKING_STREAM_THREAD_COUNT_ARG );
+        if ( throughputStreamCount > 0 && null != blockingStreamThreadCountString &&
+             Integer.parseInt( blockingStreamThreadCountString.trim() ) > 0 )
+        {
+            throw new WorkloadException( format( "%s can not be used together with %s, as throughput test streams " +
+                                                 "would not be executed concurrently",
+                    LdbcSnbBiWorkloadConfiguration.THROUGHPUT_STREAMS,
+                    ConsoleAndFileDriverConfiguration.BLOCKING_STREAM_THREAD_COUNT_ARG ) );
+        }
+    }
+
+    @Override
+    public boolean blockingStreamsAreSessions()
+    {
+        return throughputStreamCount > 0;
     }
 
     @Override
@@ -245,6 +285,10 @@ public class LdbcSnbBiWorkload extends Workload
     protected WorkloadStreams getStreams( GeneratorFactory gf, boolean hasDbConnected ) throws WorkloadException
     {
         long workloadStartTimeAsMilli = 0;
+        if ( throughputStreamCount > 0 )
+        {
+            return throughputTestStreams( gf, workloadStartTimeAsMilli );
+        }
         WorkloadStreams ldbcSnbInteractiveWorkloadStreams = new WorkloadStreams();
         List<Iterator<?>> asynchronousNonDependencyStreamsList = new ArrayList<>();
 
@@ -682,6 +726,151 @@ public class LdbcSnbBiWorkload extends Workload
         return ldbcSnbInteractiveWorkloadStreams;
     }
 
+    /**
+     * Throughput test: throughputStreamCount blocking streams, which are executed concurrently, each one operation at
+     * a time. Every stream runs every enabled query once per round, in a different order every round, and loops over
+     * the parameters of each query in a different order every pass. Orders are seeded by stream number, so streams
+     * differ from each other, but are the same on every run.
+     * <p>
+     * Operations of a stream are 1 millisecond apart, and are expected to be executed as fast as possible, i.e., with
+     * scheduled start times ignored.
+     */
+    private WorkloadStreams throughputTestStreams( GeneratorFactory gf, long workloadStartTimeAsMilli )
+            throws WorkloadException
+    {
+        // parameters of each enabled query are loaded once, and shared by all streams
+        List<BaseEventStreamReader> queryReaders = new ArrayList<>();
+        for ( Class<? extends Operation> operationType :
+                new TreeMap<>( LdbcSnbBiWorkloadConfiguration.operationTypeToClassMapping() ).values() )
+        {
+            if ( enabledOperationTypes.contains( operationType ) )
+            {
+                BaseEventStreamReader queryReader = eventStreamReaderFor( operationType, gf );
+                readOperationFileReaders.add( queryReader );
+                if ( queryReader.hasNext() )
+                {
+                    queryReaders.add( queryReader );
+                }
+            }
+        }
+
+        WorkloadStreams ldbcSnbBiWorkloadStreams = new WorkloadStreams();
+        ldbcSnbBiWorkloadStreams.setAsynchronousStream(
+                new HashSet<Class<? extends Operation>>(),
+                new HashSet<Class<? extends Operation>>(),
+                Collections.<Operation>emptyIterator(),
+                Collections.<Operation>emptyIterator(),
+                null
+        );
+        for ( int stream = 0; stream < throughputStreamCount; stream++ )
+        {
+            SplittableRandom seeds = new SplittableRandom( stream );
+            List<Iterator<Operation>> queryStreams = new ArrayList<>();
+            for ( BaseEventStreamReader queryReader : queryReaders )
+            {
+                queryStreams.add( queryReader.permutedStream( seeds.nextLong() ) );
+            }
+            ldbcSnbBiWorkloadStreams.addBlockingStream(
+                    new HashSet<Class<? extends Operation>>(),
+                    new HashSet<Class<? extends Operation>>(),
+                    Collections.<Operation>emptyIterator(),
+                    // dependency times are 0, so start times must start after the workload start time
+                    gf.assignStartTimes(
+                            gf.incrementing( workloadStartTimeAsMilli + 1, 1L ),
+                            new LdbcSnbBiThroughputStream( queryStreams, seeds.nextLong() )
+                    ),
+                    null
+            );
+        }
+        return ldbcSnbBiWorkloadStreams;
+    }
+
+    private BaseEventStreamReader eventStreamReaderFor( Class<? extends Operation> operationType,
+            GeneratorFactory gf ) throws WorkloadException
+    {
+        if ( LdbcSnbBiQuery1PostingSummary.class.equals( operationType ) )
+        {
+            return new BiQuery1EventStreamReader( readOperation1FileInputStream, CHAR_SEEKER_PARAMS, gf );
+        }
+        else if ( LdbcSnbBiQuery2TagEvolution.class.equals( operationType ) )
+        {
+            return new BiQuery2EventStreamReader( readOperation2FileInputStream, CHAR_SEEKER_PARAMS, gf );
+        }
+        else if ( LdbcSnbBiQuery3PopularCountryTopics.class.equals( operationType ) )
+        {
+            return new BiQuery3EventStreamReader( readOperation3FileInputStream, CHAR_SEEKER_PARAMS, gf );
+        }
+        else if ( LdbcSnbBiQuery4TopCountryPosters.class.equals( operationType ) )
+        {
+            return new BiQuery4EventStreamReader( readOperation4FileInputStream, CHAR_SEEKER_PARAMS, gf );
+        }
+        else if ( LdbcSnbBiQuery5ActivePosters.class.equals( operationType ) )
+        {
+            return new BiQuery5EventStreamReader( readOperation5FileInputStream, CHAR_SEEKER_PARAMS, gf );
+        }
+        else if ( LdbcSnbBiQuery6AuthoritativeUsers.class.equals( operationType ) )
+        {
+            return new BiQuery6EventStreamReader( readOperation6FileInputStream, CHAR_SEEKER_PARAMS, gf );
+        }
+        else if ( LdbcSnbBiQuery7RelatedTopics.class.equals( operationType ) )
+        {
+            return new BiQuery7EventStreamReader( readOperation7FileInputStream, CHAR_SEEKER_PARAMS, gf );
+        }
+        else if ( LdbcSnbBiQuery8TagPerson.class.equals( operationType ) )
+        {
+            return new BiQuery8EventStreamReader( readOperation8FileInputStream, CHAR_SEEKER_PARAMS, gf );
+        }
+        else if ( LdbcSnbBiQuery9TopThreadInitiators.class.equals( operationType ) )
+        {
+            return new BiQuery9EventStreamReader( readOperation9FileInputStream, CHAR_SEEKER_PARAMS, gf );
+        }
+        else if ( LdbcSnbBiQuery10ExpertsInSocialCircle.class.equals( operationType ) )
+        {
+            return new BiQuery10EventStreamReader( readOperation10FileInputStream, CHAR_SEEKER_PARAMS, gf );
+        }
+        else if ( LdbcSnbBiQuery11FriendshipTriangles.class.equals( operationType ) )
+        {
+            return new BiQuery11EventStreamReader( readOperation11FileInputStream, CHAR_SEEKER_PARAMS, gf );
+        }
+        else if ( LdbcSnbBiQuery12PersonPostCounts.class.equals( operationType ) )
+        {
+            return new BiQuery12EventStreamReader( readOperation12FileInputStream, CHAR_SEEKER_PARAMS, gf );
+        }
+        else if ( LdbcSnbBiQuery13Zombies.class.equals( operationType ) )
+        {
+            return new BiQuery13EventStreamReader( readOperation13FileInputStream, CHAR_SEEKER_PARAMS, gf );
+        }
+        else if ( LdbcSnbBiQuery14InternationalDialog.class.equals( operationType ) )
+        {
+            return new BiQuery14EventStreamReader( readOperation14FileInputStream, CHAR_SEEKER_PARAMS, gf );
+        }
+        else if ( LdbcSnbBiQuery15WeightedPaths.class.equals( operationType ) )
+        {
+            return new BiQuery15EventStreamReader( readOperation15FileInputStream, CHAR_SEEKER_PARAMS, gf );
+        }
+        else if ( LdbcSnbBiQuery16FakeNewsDetection.class.equals( operationType ) )
+        {
+            return new BiQuery16EventStreamReader( readOperation16FileInputStream, CHAR_SEEKER_PARAMS, gf );
+        }
+        else if ( LdbcSnbBiQuery17InformationPropagationAnalysis.class.equals( operationType ) )
+        {
+            return new BiQuery17EventStreamReader( readOperation17FileInputStream, CHAR_SEEKER_PARAMS, gf );
+        }
+        else if ( LdbcSnbBiQuery18FriendRecommendation.class.equals( operationType ) )
+        {
+            return new BiQuery18EventStreamReader( readOperation18FileInputStream, CHAR_SEEKER_PARAMS, gf );
+        }
+        else if ( LdbcSnbBiQuery19InteractionPathBetweenCities.class.equals( operationType ) )
+        {
+            return new BiQuery19EventStreamReader( readOperation19FileInputStream, CHAR_SEEKER_PARAMS, gf );
+        }
+        else if ( LdbcSnbBiQuery20Recruitment.class.equals( operationType ) )
+        {
+            return new BiQuery20EventStreamReader( readOperation20FileInputStream, CHAR_SEEKER_PARAMS, gf );
+        }
+        throw new WorkloadException( format( "Unsupported operation type: %s", operationType.getName() ) );
+    }
+
     @Override
     public LdbcSnbBiDbValidationParametersFilter getDbValidationParametersFilter(int requiredValidationParameterCount) {
         return new LdbcSnbBiDbValidationParametersFilter(requiredValidationParameterCount);
@@ -27,6 +27,9 @@ public class LdbcSnbBiWorkloadConfiguration
     public final static String LDBC_SNB_BI_PARAM_NAME_PREFIX = "ldbc.snb.bi.";
     // directory that contains the substitution parameters files
     public final static String PARAMETERS_DIRECTORY = LDBC_SNB_BI_PARAM_NAME_PREFIX + "parameters_dir";
+    // number of concurrent query streams of a throughput test, 0 to run all queries interleaved in one stream
+    public final static String THROUGHPUT_STREAMS = LDBC_SNB_BI_PARAM_NAME_PREFIX + "throughput_streams";
+    public final static int THROUGHPUT_STREAMS_DEFAULT = 0;
     // TODO this should be private and conversion to class names should be done by this class
     private final static String LDBC_SNB_BI_PACKAGE_PREFIX = removeSuffix(
             LdbcSnbBiWorkloadConfiguration.class.getName(), LdbcSnbBiWorkloadConfiguration.class.getSimpleName()
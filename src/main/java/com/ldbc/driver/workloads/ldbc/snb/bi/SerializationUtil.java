@@ -2,6 +2,8 @@ package com.ldbc.driver.workloads.ldbc.snb.bi;
 
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
 import com.ldbc.driver.SerializingMarshallingException;
 
 import java.io.IOException;
@@ -9,6 +11,10 @@ import java.util.List;
 
 import static java.lang.String.format;
 
+/**
+ * ObjectReader and ObjectWriter instances are immutable and thread safe, so they are shared by all threads without
+ * any locking
+ */
 public class SerializationUtil
 {
     private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
@@ -16,20 +22,28 @@ public class SerializationUtil
             new TypeReference<List<List<Object>>>()
             {
             };
+    private static final ObjectReader LIST_OF_LISTS_READER = OBJECT_MAPPER.readerFor( LIST_OF_LISTS_TYPE_REFERENCE );
+    private static final ObjectWriter WRITER = OBJECT_MAPPER.writer();
 
-    public static synchronized List<List<Object>> marshalListOfLists( String serializedJson )
+    public static List<List<Object>> marshalListOfLists( String serializedJson )
             throws SerializingMarshallingException
     {
-        return marshalListOfLists( serializedJson, LIST_OF_LISTS_TYPE_REFERENCE );
+        return marshalListOfLists( serializedJson, LIST_OF_LISTS_READER );
     }
 
-    public static synchronized List<List<Object>> marshalListOfLists( String serializedJson,
+    public static List<List<Object>> marshalListOfLists( String serializedJson,
             TypeReference typeReference )
             throws SerializingMarshallingException
+    {
+        return marshalListOfLists( serializedJson, OBJECT_MAPPER.readerFor( typeReference ) );
+    }
+
+    private static List<List<Object>> marshalListOfLists( String serializedJson, ObjectReader reader )
+            throws SerializingMarshallingException
     {
         try
         {
-            return (List<List<Object>>) OBJECT_MAPPER.readValue( serializedJson, typeReference );
+            return (List<List<Object>>) reader.readValue( serializedJson );
         }
         catch ( IOException e )
         {
@@ -37,11 +51,11 @@ public class SerializationUtil
         }
     }
 
-    public static synchronized String toJson( Object object ) throws SerializingMarshallingException
+    public static String toJson( Object object ) throws SerializingMarshallingException
     {
         try
         {
-            return OBJECT_MAPPER.writeValueAsString( object );
+            return WRITER.writeValueAsString( object );
         }
         catch ( IOException e )
         {
@@ -0,0 +1,111 @@
+package com.ldbc.driver.workloads.ldbc.snb.interactive;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+import static java.lang.String.format;
+
+/**
+ * Bounded, lock-free, multi-producer multi-consumer ring of primitive IDs.
+ * <p>
+ * Every slot carries a sequence number that tells producers and consumers whose turn it is to use the slot, so
+ * claiming a slot is a single compare-and-set on the enqueue or dequeue position and values are never boxed. When the
+ * ring is full, adding an ID evicts the oldest one. Under contention an add may occasionally evict one ID more than
+ * strictly necessary, which is harmless for a buffer of candidate short read parameters.
+ */
+class CircularIdBuffer implements LdbcSnbShortReadGenerator.IdBuffer
+{
+    private final int mask;
+    private final long[] ids;
+    // for slot i: == position, free to be written at enqueue position; == position + 1, holds the ID at that position
+    private final AtomicLongArray sequences;
+    private final AtomicLong enqueuePosition = new AtomicLong( 0 );
+    private final AtomicLong dequeuePosition = new AtomicLong( 0 );
+
+    CircularIdBuffer( int minimumCapacity )
+    {
+        if ( minimumCapacity < 1 || minimumCapacity > (1 << 30) )
+        {
+            throw new IllegalArgumentException( format( "Capacity must be in [1, 2^30], was %s", minimumCapacity ) );
+        }
+        int capacity = Integer.highestOneBit( minimumCapacity );
+        if ( capacity < minimumCapacity )
+        {
+            capacity = capacity << 1;
+        }
+        this.mask = capacity - 1;
+        this.ids = new long[capacity];
+        this.sequences = new AtomicLongArray( capacity );
+        for ( int i = 0; i < capacity; i++ )
+        {
+            sequences.set( i, i );
+        }
+    }
+
+    int capacity()
+    {
+        return ids.length;
+    }
+
+    @Override
+    public void add( long id )
+    {
+        while ( false == offer( id ) )
+        {
+            poll();
+        }
+    }
+
+    @Override
+    public long poll()
+    {
+        while ( true )
+        {
+            long position = dequeuePosition.get();
+            int index = (int) (position & mask);
+            long sequence = sequences.get( index );
+            long difference = sequence - (position + 1);
+            if ( 0 == difference )
+            {
+                if ( dequeuePosition.compareAndSet( position, position + 1 ) )
+                {
+                    long id = ids[index];
+                    // frees the slot for the producer that comes around the ring next
+                    sequences.set( index, position + ids.length );
+                    return id;
+                }
+            }
+            else if ( difference < 0 )
+            {
+                return NO_ID;
+            }
+            // else another consumer took this position, try the next one
+        }
+    }
+
+    private boolean offer( long id )
+    {
+        while ( true )
+        {
+            long position = enqueuePosition.get();
+            int index = (int) (position & mask);
+            long sequence = sequences.get( index );
+            long difference = sequence - position;
+            if ( 0 == difference )
+            {
+                if ( enqueuePosition.compareAndSet( position, position + 1 ) )
+                {
+                    ids[index] = id;
+                    // publishes the ID, the volatile write orders it after the write to ids
+                    sequences.set( index, position + 1 );
+                    return true;
+                }
+            }
+            else if ( difference < 0 )
+            {
+                return false;
+            }
+            // else another producer took this position, try the next one
+        }
+    }
+}
@@ -1,11 +1,7 @@
 package com.ldbc.driver.workloads.ldbc.snb.interactive;
 
-import com.fasterxml.jackson.core.type.TypeReference;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import com.google.common.base.Charsets;
-import com.google.common.base.Function;
 import com.google.common.base.Predicate;
-import com.google.common.collect.Iterables;
 import com.google.common.collect.Iterators;
 import com.google.common.collect.Lists;
 import com.google.common.collect.PeekingIterator;
@@ -25,16 +21,21 @@ import com.ldbc.driver.csv.charseeker.Mark;
 import com.ldbc.driver.csv.charseeker.Readables;
 import com.ldbc.driver.csv.charseeker.ThreadAheadReadable;
 import com.ldbc.driver.csv.simple.SimpleCsvFileReader;
+import com.ldbc.driver.generator.ColumnarParameterStore;
 import com.ldbc.driver.generator.CsvEventStreamReaderBasicCharSeeker;
+import com.ldbc.driver.generator.GeneratorException;
 import com.ldbc.driver.generator.GeneratorFactory;
 import com.ldbc.driver.generator.RandomDataGeneratorFactory;
 import com.ldbc.driver.util.ClassLoaderHelper;
 import com.ldbc.driver.util.ClassLoadingException;
+import com.ldbc.driver.util.JsonArrayReader;
+import com.ldbc.driver.util.JsonArrayWriter;
 import com.ldbc.driver.util.Tuple;
 import com.ldbc.driver.util.Tuple2;
 import org.apache.commons.collections4.CollectionUtils;
 import org.apache.commons.collections4.Equator;
 
+import java.io.BufferedReader;
 import java.io.Closeable;
 import java.io.File;
 import java.io.FileInputStream;
@@ -50,7 +51,6 @@ import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.NoSuchElementException;
-import java.util.Queue;
 import java.util.Set;
 import java.util.concurrent.TimeUnit;
 
@@ -60,7 +60,6 @@ public class LdbcSnbInteractiveWorkload extends Workload {
 
     private List<Closeable> forumUpdateOperationsFileReaders = new ArrayList<>();
     private List<Closeable> personUpdateOperationsFileReaders = new ArrayList<>();
-    private List<Closeable> readOperationFileReaders = new ArrayList<>();
 //    private List<Closeable> deleteOperationFileReaders = new ArrayList<>();
 
     private List<File> forumUpdateOperationFiles = new ArrayList<>();
@@ -111,6 +110,67 @@ public class LdbcSnbInteractiveWorkload extends Workload {
         return LdbcSnbInteractiveWorkloadConfiguration.operationTypeToClassMapping();
     }
 
+    @Override
+    public List<File> operationStreamFiles() {
+        List<File> operationStreamFiles = Lists.newArrayList(
+                readOperation1File,
+                readOperation2File,
+                readOperation3File,
+                readOperation4File,
+                readOperation5File,
+                readOperation6File,
+                readOperation7File,
+                readOperation8File,
+                readOperation9File,
+                readOperation10File,
+                readOperation11File,
+                readOperation12File,
+                readOperation13File,
+                readOperation14File
+        );
+        operationStreamFiles.addAll(personUpdateOperationFiles);
+        operationStreamFiles.addAll(forumUpdateOperationFiles);
+        return operationStreamFiles;
+    }
+
+    /**
+     * Offsets are those of person update files, followed by those of forum update files. Read operation streams are
+     * generated from parameters that are loaded in full, they are started at the given time stamps in memory.
+     */
+    @Override
+    public long[][] operationStreamFileOffsets(long[] timeStamps) throws WorkloadException {
+        List<File> updateOperationFiles = new ArrayList<>();
+        updateOperationFiles.addAll(personUpdateOperationFiles);
+        updateOperationFiles.addAll(forumUpdateOperationFiles);
+        long[][] streamFileOffsets = new long[timeStamps.length][updateOperationFiles.size()];
+        for (int i = 0; i < updateOperationFiles.size(); i++) {
+            boolean isStreamed = (i < personUpdateOperationFiles.size())
+                    ? personUpdateStreamsAreEnabled()
+                    : forumUpdateStreamsAreEnabled();
+            if (!isStreamed) {
+                continue;
+            }
+            File updateOperationFile = updateOperationFiles.get(i);
+            long[] offsets;
+            try {
+                offsets = (LdbcSnbInteractiveWorkloadConfiguration.UpdateStreamParser.BINARY == parser)
+                        ? WriteEventStreamReaderBinary.offsetsOfFirstOperationsFrom(updateOperationFile, timeStamps)
+                        : WriteEventStreamReaderCharSeeker.offsetsOfFirstOperationsFrom(
+                        updateOperationFile, timeStamps, '|');
+            } catch (IOException e) {
+                throw new WorkloadException(
+                        "Unable to scan update stream: " + updateOperationFile.getAbsolutePath(), e);
+            }
+            if (null == offsets) {
+                return null;
+            }
+            for (int j = 0; j < timeStamps.length; j++) {
+                streamFileOffsets[j][i] = offsets[j];
+            }
+        }
+        return streamFileOffsets;
+    }
+
     @Override
     public void onInit(Map<String, String> params) throws WorkloadException {
 
@@ -129,6 +189,15 @@ public class LdbcSnbInteractiveWorkload extends Workload {
                     missingPropertyParameters.toString()));
         }
 
+        String parserString = params.get(LdbcSnbInteractiveWorkloadConfiguration.UPDATE_STREAM_PARSER);
+        if (null == parserString) {
+            parserString = LdbcSnbInteractiveWorkloadConfiguration.DEFAULT_UPDATE_STREAM_PARSER.name();
+        }
+        if (!LdbcSnbInteractiveWorkloadConfiguration.isValidParser(parserString)) {
+            throw new WorkloadException("Invalid parser: " + parserString);
+        }
+        this.parser = LdbcSnbInteractiveWorkloadConfiguration.UpdateStreamParser.valueOf(parserString.trim());
+
         if (params.containsKey(LdbcSnbInteractiveWorkloadConfiguration.UPDATES_DIRECTORY)) {
             String updatesDirectoryPath =
                     params.get(LdbcSnbInteractiveWorkloadConfiguration.UPDATES_DIRECTORY).trim();
@@ -141,10 +210,17 @@ public class LdbcSnbInteractiveWorkload extends Workload {
                 throw new WorkloadException(format("Updates directory is not a directory\nDirectory: %s",
                         updatesDirectory.getAbsolutePath()));
             }
-            forumUpdateOperationFiles = LdbcSnbInteractiveWorkloadConfiguration
-                    .forumUpdateFilesInDirectory(updatesDirectory);
-            personUpdateOperationFiles =
-                    LdbcSnbInteractiveWorkloadConfiguration.personUpdateFilesInDirectory(updatesDirectory);
+            if (LdbcSnbInteractiveWorkloadConfiguration.UpdateStreamParser.BINARY == parser) {
+                forumUpdateOperationFiles = LdbcSnbInteractiveWorkloadConfiguration
+                        .forumBinaryUpdateFilesInDirectory(updatesDirectory);
+                personUpdateOperationFiles =
+                        LdbcSnbInteractiveWorkloadConfiguration.personBinaryUpdateFilesInDirectory(updatesDirectory);
+            } else {
+                forumUpdateOperationFiles = LdbcSnbInteractiveWorkloadConfiguration
+                        .forumUpdateFilesInDirectory(updatesDirectory);
+                personUpdateOperationFiles =
+                        LdbcSnbInteractiveWorkloadConfiguration.personUpdateFilesInDirectory(updatesDirectory);
+            }
         } else {
             forumUpdateOperationFiles = new ArrayList<>();
             personUpdateOperationFiles = new ArrayList<>();
@@ -413,14 +489,6 @@ public class LdbcSnbInteractiveWorkload extends Workload {
             throw new WorkloadException("Unable to parse one of the read operation interleave values", e);
         }
 
-        String parserString = params.get(LdbcSnbInteractiveWorkloadConfiguration.UPDATE_STREAM_PARSER);
-        if (null == parserString) {
-            parserString = LdbcSnbInteractiveWorkloadConfiguration.DEFAULT_UPDATE_STREAM_PARSER.name();
-        }
-        if (!LdbcSnbInteractiveWorkloadConfiguration.isValidParser(parserString)) {
-            throw new WorkloadException("Invalid parser: " + parserString);
-        }
-        this.parser = LdbcSnbInteractiveWorkloadConfiguration.UpdateStreamParser.valueOf(parserString.trim());
         this.compressionRatio = Double.parseDouble(
                 params.get(ConsoleAndFileDriverConfiguration.TIME_COMPRESSION_RATIO_ARG).trim()
         );
@@ -436,20 +504,21 @@ public class LdbcSnbInteractiveWorkload extends Workload {
             personUpdateOperationsFileReader.close();
         }
 
-        for (Closeable readOperationFileReader : readOperationFileReaders) {
-            readOperationFileReader.close();
-        }
-
 //        for (Closeable deleteOperationFileReader: deleteOperationFileReaders) {
 //            deleteOperationFileReader.close();
 //        }
     }
 
+    // offset is 0 for the beginning of file, or one returned by operationStreamFileOffsets()
     private Tuple2<Iterator<Operation>, Closeable> fileToWriteStreamParser(File updateOperationsFile,
-                                                                           LdbcSnbInteractiveWorkloadConfiguration.UpdateStreamParser parser) throws IOException {
+                                                                           LdbcSnbInteractiveWorkloadConfiguration.UpdateStreamParser parser,
+                                                                           long offset) throws IOException {
         switch (parser) {
             case REGEX: {
-                SimpleCsvFileReader csvFileReader = new SimpleCsvFileReader(updateOperationsFile,
+                SimpleCsvFileReader csvFileReader = new SimpleCsvFileReader(
+                        new BufferedReader(
+                                new InputStreamReader(fileInputStreamFrom(updateOperationsFile, offset), Charsets.UTF_8)
+                        ),
                         SimpleCsvFileReader.DEFAULT_COLUMN_SEPARATOR_REGEX_STRING);
                 return Tuple.tuple2(WriteEventStreamReaderRegex.create(csvFileReader),
                         csvFileReader);
@@ -460,7 +529,7 @@ public class LdbcSnbInteractiveWorkload extends Workload {
 // (updateOperationsFile)), bufferSize);
                 BufferedCharSeeker charSeeker = new BufferedCharSeeker(
                         Readables.wrap(
-                                new InputStreamReader(new FileInputStream(updateOperationsFile), Charsets.UTF_8)
+                                new InputStreamReader(fileInputStreamFrom(updateOperationsFile, offset), Charsets.UTF_8)
                         ),
                         bufferSize
                 );
@@ -473,7 +542,7 @@ public class LdbcSnbInteractiveWorkload extends Workload {
                 BufferedCharSeeker charSeeker = new BufferedCharSeeker(
                         ThreadAheadReadable.threadAhead(
                                 Readables.wrap(
-                                        new InputStreamReader(new FileInputStream(updateOperationsFile), Charsets.UTF_8)
+                                        new InputStreamReader(fileInputStreamFrom(updateOperationsFile, offset), Charsets.UTF_8)
                                 ),
                                 bufferSize
                         ),
@@ -483,15 +552,137 @@ public class LdbcSnbInteractiveWorkload extends Workload {
                 return Tuple.tuple2(
                         WriteEventStreamReaderCharSeeker.create(charSeeker, extractors, '|'), charSeeker);
             }
+            case BINARY: {
+                WriteEventStreamReaderBinary binaryReader = (0 == offset)
+                        ? WriteEventStreamReaderBinary.create(updateOperationsFile)
+                        : WriteEventStreamReaderBinary.create(updateOperationsFile, offset);
+                return Tuple.tuple2(binaryReader, binaryReader);
+            }
         }
-        SimpleCsvFileReader csvFileReader = new SimpleCsvFileReader(updateOperationsFile,
+        SimpleCsvFileReader csvFileReader = new SimpleCsvFileReader(
+                new BufferedReader(
+                        new InputStreamReader(fileInputStreamFrom(updateOperationsFile, offset), Charsets.UTF_8)
+                ),
                 SimpleCsvFileReader.DEFAULT_COLUMN_SEPARATOR_REGEX_STRING);
         return Tuple.tuple2(WriteEventStreamReaderRegex.create(csvFileReader),
                 csvFileReader);
     }
 
+    private static FileInputStream fileInputStreamFrom(File file, long offset) throws IOException {
+        FileInputStream fileInputStream = new FileInputStream(file);
+        if (0 != offset) {
+            fileInputStream.getChannel().position(offset);
+        }
+        return fileInputStream;
+    }
+
+    // replaces reader of update operations file, that was used to retrieve its first operation,
+    // with one that starts at offset
+    private Iterator<Operation> reopenWriteStreamParser(File updateOperationsFile,
+                                                        long offset,
+                                                        Closeable fileReader,
+                                                        List<Closeable> fileReaders) throws WorkloadException {
+        try {
+            fileReader.close();
+            fileReaders.remove(fileReader);
+            Tuple2<Iterator<Operation>, Closeable> parserAndCloseable =
+                    fileToWriteStreamParser(updateOperationsFile, parser, offset);
+            fileReaders.add(parserAndCloseable._2());
+            return parserAndCloseable._1();
+        } catch (IOException e) {
+            throw new WorkloadException(
+                    format("Unable to open update stream at offset %s: %s", offset,
+                            updateOperationsFile.getAbsolutePath()), e);
+        }
+    }
+
+    private boolean personUpdateStreamsAreEnabled() {
+        return enabledWriteOperationTypes.contains(LdbcUpdate1AddPerson.class);
+    }
+
+    private boolean forumUpdateStreamsAreEnabled() {
+        return enabledWriteOperationTypes.contains(LdbcUpdate2AddPostLike.class) ||
+                enabledWriteOperationTypes.contains(LdbcUpdate3AddCommentLike.class) ||
+                enabledWriteOperationTypes.contains(LdbcUpdate4AddForum.class) ||
+                enabledWriteOperationTypes.contains(LdbcUpdate5AddForumMembership.class) ||
+                enabledWriteOperationTypes.contains(LdbcUpdate6AddPost.class) ||
+                enabledWriteOperationTypes.contains(LdbcUpdate7AddComment.class) ||
+                enabledWriteOperationTypes.contains(LdbcUpdate8AddFriendship.class) ||
+                enabledWriteOperationTypes.contains(LdbcDelete1RemovePerson.class);
+    }
+
+    /**
+     * Parameters are decoded once into a columnar store, which is shared by every stream that is created for the
+     * same parameters file, e.g., by warmup and run, rather than being re-read and re-decoded for each of them
+     */
+    private static ColumnarParameterStore loadParameterStore(final File parametersFile,
+                                                             final CsvEventStreamReaderBasicCharSeeker.EventDecoder<Object[]> decoder,
+                                                             final int headerColumnCount,
+                                                             final int bufferSize,
+                                                             final char columnDelimiter,
+                                                             final char arrayDelimiter,
+                                                             final char tupleDelimiter) throws WorkloadException {
+        try {
+            return ColumnarParameterStore.shared(parametersFile, decoder.getClass(), () -> {
+                Extractors extractors = new Extractors(arrayDelimiter, tupleDelimiter);
+                CharSeeker charSeeker;
+                try {
+                    charSeeker = new BufferedCharSeeker(
+                            Readables.wrap(
+                                    new InputStreamReader(new FileInputStream(parametersFile), Charsets.UTF_8)
+                            ),
+                            bufferSize
+                    );
+                } catch (FileNotFoundException e) {
+                    throw new WorkloadException(
+                            format("Unable to open parameters file: %s", parametersFile.getAbsolutePath()),
+                            e);
+                }
+                try {
+                    Mark mark = new Mark();
+                    // skip headers
+                    try {
+                        for (int i = 0; i < headerColumnCount; i++) {
+                            charSeeker.seek(mark, new int[]{columnDelimiter});
+                        }
+                    } catch (IOException e) {
+                        throw new WorkloadException(format("Unable to advance parameters file beyond headers: %s",
+                                parametersFile.getAbsolutePath()), e);
+                    }
+                    return ColumnarParameterStore.load(
+                            new CsvEventStreamReaderBasicCharSeeker<>(
+                                    charSeeker,
+                                    extractors,
+                                    mark,
+                                    decoder,
+                                    columnDelimiter
+                            )
+                    );
+                } finally {
+                    charSeeker.close();
+                }
+            });
+        } catch (GeneratorException e) {
+            throw new WorkloadException(
+                    format("Unable to load parameters file: %s", parametersFile.getAbsolutePath()),
+                    e);
+        }
+    }
+
     @Override
     protected WorkloadStreams getStreams(GeneratorFactory gf, boolean hasDbConnected) throws WorkloadException {
+        return getStreams(gf, hasDbConnected, Long.MIN_VALUE, null);
+    }
+
+    /**
+     * Update stream files are opened at streamFileOffsets, if given, otherwise at their beginning, and read operation
+     * streams are generated from their beginning, in both cases operations before fromTimeStamp are skipped
+     */
+    @Override
+    protected WorkloadStreams getStreams(GeneratorFactory gf,
+                                         boolean hasDbConnected,
+                                         final long fromTimeStamp,
+                                         long[] streamFileOffsets) throws WorkloadException {
         long workloadStartTimeAsMilli = Long.MAX_VALUE;
         WorkloadStreams ldbcSnbInteractiveWorkloadStreams = new WorkloadStreams();
         List<Iterator<?>> asynchronousDependencyStreamsList = new ArrayList<>();
@@ -511,14 +702,17 @@ public class LdbcSnbInteractiveWorkload extends Workload {
         /*
          * Create person write operation streams
          */
-        if (enabledWriteOperationTypes.contains(LdbcUpdate1AddPerson.class)) {
-            for (File personUpdateOperationFile : personUpdateOperationFiles) {
+        if (personUpdateStreamsAreEnabled()) {
+            for (int i = 0; i < personUpdateOperationFiles.size(); i++) {
+                File personUpdateOperationFile = personUpdateOperationFiles.get(i);
                 Iterator<Operation> personUpdateOperationsParser;
+                Closeable personUpdateOperationsFileReader;
                 try {
                     Tuple2<Iterator<Operation>, Closeable> parserAndCloseable =
-                            fileToWriteStreamParser(personUpdateOperationFile, parser);
+                            fileToWriteStreamParser(personUpdateOperationFile, parser, 0);
                     personUpdateOperationsParser = parserAndCloseable._1();
-                    personUpdateOperationsFileReaders.add(parserAndCloseable._2());
+                    personUpdateOperationsFileReader = parserAndCloseable._2();
+                    personUpdateOperationsFileReaders.add(personUpdateOperationsFileReader);
                 } catch (IOException e) {
                     throw new WorkloadException(
                             "Unable to open person update stream: " + personUpdateOperationFile.getAbsolutePath(), e);
@@ -549,11 +743,23 @@ public class LdbcSnbInteractiveWorkload extends Workload {
                     // do nothing, exception just means that stream was empty
                 }
 
+                if (null != streamFileOffsets) {
+                    unfilteredPersonUpdateOperations = Iterators.peekingIterator(
+                            reopenWriteStreamParser(
+                                    personUpdateOperationFile,
+                                    streamFileOffsets[i],
+                                    personUpdateOperationsFileReader,
+                                    personUpdateOperationsFileReaders
+                            )
+                    );
+                }
+
                 // Filter Write Operations
                 Predicate<Operation> enabledWriteOperationsFilter = new Predicate<Operation>() {
                     @Override
                     public boolean apply(Operation operation) {
-                        return enabledWriteOperationTypes.contains(operation.getClass());
+                        return enabledWriteOperationTypes.contains(operation.getClass()) &&
+                                operation.timeStamp() >= fromTimeStamp;
                     }
                 };
                 Iterator<Operation> filteredPersonUpdateOperations =
@@ -647,22 +853,17 @@ public class LdbcSnbInteractiveWorkload extends Workload {
         /*
          * Create forum write operation streams
          */
-        if (enabledWriteOperationTypes.contains(LdbcUpdate2AddPostLike.class) ||
-                enabledWriteOperationTypes.contains(LdbcUpdate3AddCommentLike.class) ||
-                enabledWriteOperationTypes.contains(LdbcUpdate4AddForum.class) ||
-                enabledWriteOperationTypes.contains(LdbcUpdate5AddForumMembership.class) ||
-                enabledWriteOperationTypes.contains(LdbcUpdate6AddPost.class) ||
-                enabledWriteOperationTypes.contains(LdbcUpdate7AddComment.class) ||
-                enabledWriteOperationTypes.contains(LdbcUpdate8AddFriendship.class) ||
-                enabledWriteOperationTypes.contains(LdbcDelete1RemovePerson.class)
-        ) {
-            for (File forumUpdateOperationFile : forumUpdateOperationFiles) {
+        if (forumUpdateStreamsAreEnabled()) {
+            for (int i = 0; i < forumUpdateOperationFiles.size(); i++) {
+                File forumUpdateOperationFile = forumUpdateOperationFiles.get(i);
                 Iterator<Operation> forumUpdateOperationsParser;
+                Closeable forumUpdateOperationsFileReader;
                 try {
                     Tuple2<Iterator<Operation>, Closeable> parserAndCloseable =
-                            fileToWriteStreamParser(forumUpdateOperationFile, parser);
+                            fileToWriteStreamParser(forumUpdateOperationFile, parser, 0);
                     forumUpdateOperationsParser = parserAndCloseable._1();
-                    forumUpdateOperationsFileReaders.add(parserAndCloseable._2());
+                    forumUpdateOperationsFileReader = parserAndCloseable._2();
+                    forumUpdateOperationsFileReaders.add(forumUpdateOperationsFileReader);
                 } catch (IOException e) {
                     throw new WorkloadException(
                             "Unable to open forum update stream: " + forumUpdateOperationFile.getAbsolutePath(), e);
@@ -692,11 +893,23 @@ public class LdbcSnbInteractiveWorkload extends Workload {
                     // do nothing, exception just means that stream was empty
                 }
 
+                if (null != streamFileOffsets) {
+                    unfilteredForumUpdateOperations = Iterators.peekingIterator(
+                            reopenWriteStreamParser(
+                                    forumUpdateOperationFile,
+                                    streamFileOffsets[personUpdateOperationFiles.size() + i],
+                                    forumUpdateOperationsFileReader,
+                                    forumUpdateOperationsFileReaders
+                            )
+                    );
+                }
+
                 // Filter Write Operations
                 Predicate<Operation> enabledWriteOperationsFilter = new Predicate<Operation>() {
                     @Override
                     public boolean apply(Operation operation) {
-                        return enabledWriteOperationTypes.contains(operation.getClass());
+                        return enabledWriteOperationTypes.contains(operation.getClass()) &&
+                                operation.timeStamp() >= fromTimeStamp;
                     }
                 };
                 Iterator<Operation> filteredForumUpdateOperations =
@@ -751,41 +964,17 @@ public class LdbcSnbInteractiveWorkload extends Workload {
         {
             CsvEventStreamReaderBasicCharSeeker.EventDecoder<Object[]> decoder =
                     new Query1EventStreamReader.Query1Decoder();
-            Extractors extractors = new Extractors(arrayDelimiter, tupleDelimiter);
-            CharSeeker charSeeker;
-            try {
-                charSeeker = new BufferedCharSeeker(
-                        Readables.wrap(
-                                new InputStreamReader(new FileInputStream(readOperation1File), Charsets.UTF_8)
-                        ),
-                        bufferSize
-                );
-            } catch (FileNotFoundException e) {
-                throw new WorkloadException(
-                        format("Unable to open parameters file: %s", readOperation1File.getAbsolutePath()),
-                        e);
-            }
-            Mark mark = new Mark();
-            // skip headers
-            try {
-                charSeeker.seek(mark, new int[]{columnDelimiter});
-                charSeeker.seek(mark, new int[]{columnDelimiter});
-            } catch (IOException e) {
-                throw new WorkloadException(format("Unable to advance parameters file beyond headers: %s",
-                        readOperation1File.getAbsolutePath()), e);
-            }
-
-            Iterator<Operation> operation1StreamWithoutTimes = new Query1EventStreamReader(
-                    gf.repeating(
-                            new CsvEventStreamReaderBasicCharSeeker<>(
-                                    charSeeker,
-                                    extractors,
-                                    mark,
-                                    decoder,
-                                    columnDelimiter
-                            )
-                    )
+            ColumnarParameterStore parameters = loadParameterStore(
+                    readOperation1File,
+                    decoder,
+                    2,
+                    bufferSize,
+                    columnDelimiter,
+                    arrayDelimiter,
+                    tupleDelimiter
             );
+            Iterator<Operation> operation1StreamWithoutTimes =
+                    new Query1EventStreamReader(parameters.repeatingCursor());
 
             Iterator<Long> operation1StartTimes =
                     gf.incrementing(workloadStartTimeAsMilli + readOperation1InterleaveAsMilli,
@@ -795,49 +984,23 @@ public class LdbcSnbInteractiveWorkload extends Workload {
                     operation1StartTimes,
                     operation1StreamWithoutTimes
             );
-
-            readOperationFileReaders.add(charSeeker);
         }
 
         Iterator<Operation> readOperation2Stream;
         {
             CsvEventStreamReaderBasicCharSeeker.EventDecoder<Object[]> decoder =
                     new Query2EventStreamReader.Query2Decoder();
-            Extractors extractors = new Extractors(arrayDelimiter, tupleDelimiter);
-            CharSeeker charSeeker;
-            try {
-                charSeeker = new BufferedCharSeeker(
-                        Readables.wrap(
-                                new InputStreamReader(new FileInputStream(readOperation2File), Charsets.UTF_8)
-                        ),
-                        bufferSize
-                );
-            } catch (FileNotFoundException e) {
-                throw new WorkloadException(
-                        format("Unable to open parameters file: %s", readOperation2File.getAbsolutePath()),
-                        e);
-            }
-            Mark mark = new Mark();
-            // skip headers
-            try {
-                charSeeker.seek(mark, new int[]{columnDelimiter});
-                charSeeker.seek(mark, new int[]{columnDelimiter});
-            } catch (IOException e) {
-                throw new WorkloadException(format("Unable to advance parameters file beyond headers: %s",
-                        readOperation2File.getAbsolutePath()), e);
-            }
-
-            Iterator<Operation> operation2StreamWithoutTimes = new Query2EventStreamReader(
-                    gf.repeating(
-                            new CsvEventStreamReaderBasicCharSeeker<>(
-                                    charSeeker,
-                                    extractors,
-                                    mark,
-                                    decoder,
-                                    columnDelimiter
-                            )
-                    )
+            ColumnarParameterStore parameters = loadParameterStore(
+                    readOperation2File,
+                    decoder,
+                    2,
+                    bufferSize,
+                    columnDelimiter,
+                    arrayDelimiter,
+                    tupleDelimiter
             );
+            Iterator<Operation> operation2StreamWithoutTimes =
+                    new Query2EventStreamReader(parameters.repeatingCursor());
 
             Iterator<Long> operation2StartTimes =
                     gf.incrementing(workloadStartTimeAsMilli + readOperation2InterleaveAsMilli,
@@ -847,52 +1010,23 @@ public class LdbcSnbInteractiveWorkload extends Workload {
                     operation2StartTimes,
                     operation2StreamWithoutTimes
             );
-
-            readOperationFileReaders.add(charSeeker);
         }
 
         Iterator<Operation> readOperation3Stream;
         {
             CsvEventStreamReaderBasicCharSeeker.EventDecoder<Object[]> decoder =
                     new Query3EventStreamReader.Query3Decoder();
-            Extractors extractors = new Extractors(arrayDelimiter, tupleDelimiter);
-            CharSeeker charSeeker;
-            try {
-                charSeeker = new BufferedCharSeeker(
-                        Readables.wrap(
-                                new InputStreamReader(new FileInputStream(readOperation3File), Charsets.UTF_8)
-                        ),
-                        bufferSize
-                );
-            } catch (FileNotFoundException e) {
-                throw new WorkloadException(
-                        format("Unable to open parameters file: %s", readOperation3File.getAbsolutePath()),
-                        e);
-            }
-            Mark mark = new Mark();
-            // skip headers
-            try {
-                charSeeker.seek(mark, new int[]{columnDelimiter});
-                charSeeker.seek(mark, new int[]{columnDelimiter});
-                charSeeker.seek(mark, new int[]{columnDelimiter});
-                charSeeker.seek(mark, new int[]{columnDelimiter});
-                charSeeker.seek(mark, new int[]{columnDelimiter});
-            } catch (IOException e) {
-                throw new WorkloadException(format("Unable to advance parameters file beyond headers: %s",
-                        readOperation3File.getAbsolutePath()), e);
-            }
-
-            Iterator<Operation> operation3StreamWithoutTimes = new Query3EventStreamReader(
-                    gf.repeating(
-                            new CsvEventStreamReaderBasicCharSeeker<>(
-                                    charSeeker,
-                                    extractors,
-                                    mark,
-                                    decoder,
-                                    columnDelimiter
-                            )
-                    )
+            ColumnarParameterStore parameters = loadParameterStore(
+                    readOperation3File,
+                    decoder,
+                    5,
+                    bufferSize,
+                    columnDelimiter,
+                    arrayDelimiter,
+                    tupleDelimiter
             );
+            Iterator<Operation> operation3StreamWithoutTimes =
+                    new Query3EventStreamReader(parameters.repeatingCursor());
 
             Iterator<Long> operation3StartTimes =
                     gf.incrementing(workloadStartTimeAsMilli + readOperation3InterleaveAsMilli,
@@ -902,50 +1036,23 @@ public class LdbcSnbInteractiveWorkload extends Workload {
                     operation3StartTimes,
                     operation3StreamWithoutTimes
             );
-
-            readOperationFileReaders.add(charSeeker);
         }
 
         Iterator<Operation> readOperation4Stream;
         {
             CsvEventStreamReaderBasicCharSeeker.EventDecoder<Object[]> decoder =
                     new Query4EventStreamReader.Query4Decoder();
-            Extractors extractors = new Extractors(arrayDelimiter, tupleDelimiter);
-            CharSeeker charSeeker;
-            try {
-                charSeeker = new BufferedCharSeeker(
-                        Readables.wrap(
-                                new InputStreamReader(new FileInputStream(readOperation4File), Charsets.UTF_8)
-                        ),
-                        bufferSize
-                );
-            } catch (FileNotFoundException e) {
-                throw new WorkloadException(
-                        format("Unable to open parameters file: %s", readOperation4File.getAbsolutePath()),
-                        e);
-            }
-            Mark mark = new Mark();
-            // skip headers
-            try {
-                charSeeker.seek(mark, new int[]{columnDelimiter});
-                charSeeker.seek(mark, new int[]{columnDelimiter});
-                charSeeker.seek(mark, new int[]{columnDelimiter});
-            } catch (IOException e) {
-                throw new WorkloadException(format("Unable to advance parameters file beyond headers: %s",
-                        readOperation4File.getAbsolutePath()), e);
-            }
-
-            Iterator<Operation> operation4StreamWithoutTimes = new Query4EventStreamReader(
-                    gf.repeating(
-                            new CsvEventStreamReaderBasicCharSeeker<>(
-                                    charSeeker,
-                                    extractors,
-                                    mark,
-                                    decoder,
-                                    columnDelimiter
-                            )
-                    )
+            ColumnarParameterStore parameters = loadParameterStore(
+                    readOperation4File,
+                    decoder,
+                    3,
+                    bufferSize,
+                    columnDelimiter,
+                    arrayDelimiter,
+                    tupleDelimiter
             );
+            Iterator<Operation> operation4StreamWithoutTimes =
+                    new Query4EventStreamReader(parameters.repeatingCursor());
 
             Iterator<Long> operation4StartTimes =
                     gf.incrementing(workloadStartTimeAsMilli + readOperation4InterleaveAsMilli,
@@ -955,49 +1062,23 @@ public class LdbcSnbInteractiveWorkload extends Workload {
                     operation4StartTimes,
                     operation4StreamWithoutTimes
             );
-
-            readOperationFileReaders.add(charSeeker);
         }
 
         Iterator<Operation> readOperation5Stream;
         {
             CsvEventStreamReaderBasicCharSeeker.EventDecoder<Object[]> decoder =
                     new Query5EventStreamReader.Query5Decoder();
-            Extractors extractors = new Extractors(arrayDelimiter, tupleDelimiter);
-            CharSeeker charSeeker;
-            try {
-                charSeeker = new BufferedCharSeeker(
-                        Readables.wrap(
-                                new InputStreamReader(new FileInputStream(readOperation5File), Charsets.UTF_8)
-                        ),
-                        bufferSize
-                );
-            } catch (FileNotFoundException e) {
-                throw new WorkloadException(
-                        format("Unable to open parameters file: %s", readOperation5File.getAbsolutePath()),
-                        e);
-            }
-            Mark mark = new Mark();
-            // skip headers
-            try {
-                charSeeker.seek(mark, new int[]{columnDelimiter});
-                charSeeker.seek(mark, new int[]{columnDelimiter});
-            } catch (IOException e) {
-                throw new WorkloadException(format("Unable to advance parameters file beyond headers: %s",
-                        readOperation5File.getAbsolutePath()), e);
-            }
-
-            Iterator<Operation> operation5StreamWithoutTimes = new Query5EventStreamReader(
-                    gf.repeating(
-                            new CsvEventStreamReaderBasicCharSeeker<>(
-                                    charSeeker,
-                                    extractors,
-                                    mark,
-                                    decoder,
-                                    columnDelimiter
-                            )
-                    )
+            ColumnarParameterStore parameters = loadParameterStore(
+                    readOperation5File,
+                    decoder,
+                    2,
+                    bufferSize,
+                    columnDelimiter,
+                    arrayDelimiter,
+                    tupleDelimiter
             );
+            Iterator<Operation> operation5StreamWithoutTimes =
+                    new Query5EventStreamReader(parameters.repeatingCursor());
 
             Iterator<Long> operation5StartTimes =
                     gf.incrementing(workloadStartTimeAsMilli + readOperation5InterleaveAsMilli,
@@ -1007,49 +1088,23 @@ public class LdbcSnbInteractiveWorkload extends Workload {
                     operation5StartTimes,
                     operation5StreamWithoutTimes
             );
-
-            readOperationFileReaders.add(charSeeker);
         }
 
         Iterator<Operation> readOperation6Stream;
         {
             CsvEventStreamReaderBasicCharSeeker.EventDecoder<Object[]> decoder =
                     new Query6EventStreamReader.Query6Decoder();
-            Extractors extractors = new Extractors(arrayDelimiter, tupleDelimiter);
-            CharSeeker charSeeker;
-            try {
-                charSeeker = new BufferedCharSeeker(
-                        Readables.wrap(
-                                new InputStreamReader(new FileInputStream(readOperation6File), Charsets.UTF_8)
-                        ),
-                        bufferSize
-                );
-            } catch (FileNotFoundException e) {
-                throw new WorkloadException(
-                        format("Unable to open parameters file: %s", readOperation6File.getAbsolutePath()),
-                        e);
-            }
-            Mark mark = new Mark();
-            // skip headers
-            try {
-                charSeeker.seek(mark, new int[]{columnDelimiter});
-                charSeeker.seek(mark, new int[]{columnDelimiter});
-            } catch (IOException e) {
-                throw new WorkloadException(format("Unable to advance parameters file beyond headers: %s",
-                        readOperation6File.getAbsolutePath()), e);
-            }
-
-            Iterator<Operation> operation6StreamWithoutTimes = new Query6EventStreamReader(
-                    gf.repeating(
-                            new CsvEventStreamReaderBasicCharSeeker<>(
-                                    charSeeker,
-                                    extractors,
-                                    mark,
-                                    decoder,
-                                    columnDelimiter
-                            )
-                    )
+            ColumnarParameterStore parameters = loadParameterStore(
+                    readOperation6File,
+                    decoder,
+                    2,
+                    bufferSize,
+                    columnDelimiter,
+                    arrayDelimiter,
+                    tupleDelimiter
             );
+            Iterator<Operation> operation6StreamWithoutTimes =
+                    new Query6EventStreamReader(parameters.repeatingCursor());
 
             Iterator<Long> operation6StartTimes =
                     gf.incrementing(workloadStartTimeAsMilli + readOperation6InterleaveAsMilli,
@@ -1059,48 +1114,23 @@ public class LdbcSnbInteractiveWorkload extends Workload {
                     operation6StartTimes,
                     operation6StreamWithoutTimes
             );
-
-            readOperationFileReaders.add(charSeeker);
         }
 
         Iterator<Operation> readOperation7Stream;
         {
             CsvEventStreamReaderBasicCharSeeker.EventDecoder<Object[]> decoder =
                     new Query7EventStreamReader.Query7Decoder();
-            Extractors extractors = new Extractors(arrayDelimiter, tupleDelimiter);
-            CharSeeker charSeeker;
-            try {
-                charSeeker = new BufferedCharSeeker(
-                        Readables.wrap(
-                                new InputStreamReader(new FileInputStream(readOperation7File), Charsets.UTF_8)
-                        ),
-                        bufferSize
-                );
-            } catch (FileNotFoundException e) {
-                throw new WorkloadException(
-                        format("Unable to open parameters file: %s", readOperation7File.getAbsolutePath()),
-                        e);
-            }
-            Mark mark = new Mark();
-            // skip headers
-            try {
-                charSeeker.seek(mark, new int[]{columnDelimiter});
-            } catch (IOException e) {
-                throw new WorkloadException(format("Unable to advance parameters file beyond headers: %s",
-                        readOperation7File.getAbsolutePath()), e);
-            }
-
-            Iterator<Operation> operation7StreamWithoutTimes = new Query7EventStreamReader(
-                    gf.repeating(
-                            new CsvEventStreamReaderBasicCharSeeker<>(
-                                    charSeeker,
-                                    extractors,
-                                    mark,
-                                    decoder,
-                                    columnDelimiter
-                            )
-                    )
+            ColumnarParameterStore parameters = loadParameterStore(
+                    readOperation7File,
+                    decoder,
+                    1,
+                    bufferSize,
+                    columnDelimiter,
+                    arrayDelimiter,
+                    tupleDelimiter
             );
+            Iterator<Operation> operation7StreamWithoutTimes =
+                    new Query7EventStreamReader(parameters.repeatingCursor());
 
             Iterator<Long> operation7StartTimes =
                     gf.incrementing(workloadStartTimeAsMilli + readOperation7InterleaveAsMilli,
@@ -1110,48 +1140,23 @@ public class LdbcSnbInteractiveWorkload extends Workload {
                     operation7StartTimes,
                     operation7StreamWithoutTimes
             );
-
-            readOperationFileReaders.add(charSeeker);
         }
 
         Iterator<Operation> readOperation8Stream;
         {
             CsvEventStreamReaderBasicCharSeeker.EventDecoder<Object[]> decoder =
                     new Query8EventStreamReader.Query8Decoder();
-            Extractors extractors = new Extractors(arrayDelimiter, tupleDelimiter);
-            CharSeeker charSeeker;
-            try {
-                charSeeker = new BufferedCharSeeker(
-                        Readables.wrap(
-                                new InputStreamReader(new FileInputStream(readOperation8File), Charsets.UTF_8)
-                        ),
-                        bufferSize
-                );
-            } catch (FileNotFoundException e) {
-                throw new WorkloadException(
-                        format("Unable to open parameters file: %s", readOperation8File.getAbsolutePath()),
-                        e);
-            }
-            Mark mark = new Mark();
-            // skip headers
-            try {
-                charSeeker.seek(mark, new int[]{columnDelimiter});
-            } catch (IOException e) {
-                throw new WorkloadException(format("Unable to advance parameters file beyond headers: %s",
-                        readOperation8File.getAbsolutePath()), e);
-            }
-
-            Iterator<Operation> operation8StreamWithoutTimes = new Query8EventStreamReader(
-                    gf.repeating(
-                            new CsvEventStreamReaderBasicCharSeeker<>(
-                                    charSeeker,
-                                    extractors,
-                                    mark,
-                                    decoder,
-                                    columnDelimiter
-                            )
-                    )
+            ColumnarParameterStore parameters = loadParameterStore(
+                    readOperation8File,
+                    decoder,
+                    1,
+                    bufferSize,
+                    columnDelimiter,
+                    arrayDelimiter,
+                    tupleDelimiter
             );
+            Iterator<Operation> operation8StreamWithoutTimes =
+                    new Query8EventStreamReader(parameters.repeatingCursor());
 
             Iterator<Long> operation8StartTimes =
                     gf.incrementing(workloadStartTimeAsMilli + readOperation8InterleaveAsMilli,
@@ -1161,49 +1166,23 @@ public class LdbcSnbInteractiveWorkload extends Workload {
                     operation8StartTimes,
                     operation8StreamWithoutTimes
             );
-
-            readOperationFileReaders.add(charSeeker);
         }
 
         Iterator<Operation> readOperation9Stream;
         {
             CsvEventStreamReaderBasicCharSeeker.EventDecoder<Object[]> decoder =
                     new Query9EventStreamReader.Query9Decoder();
-            Extractors extractors = new Extractors(arrayDelimiter, tupleDelimiter);
-            CharSeeker charSeeker;
-            try {
-                charSeeker = new BufferedCharSeeker(
-                        Readables.wrap(
-                                new InputStreamReader(new FileInputStream(readOperation9File), Charsets.UTF_8)
-                        ),
-                        bufferSize
-                );
-            } catch (FileNotFoundException e) {
-                throw new WorkloadException(
-                        format("Unable to open parameters file: %s", readOperation9File.getAbsolutePath()),
-                        e);
-            }
-            Mark mark = new Mark();
-            // skip headers
-            try {
-                charSeeker.seek(mark, new int[]{columnDelimiter});
-                charSeeker.seek(mark, new int[]{columnDelimiter});
-            } catch (IOException e) {
-                throw new WorkloadException(format("Unable to advance parameters file beyond headers: %s",
-                        readOperation9File.getAbsolutePath()), e);
-            }
-
-            Iterator<Operation> operation9StreamWithoutTimes = new Query9EventStreamReader(
-                    gf.repeating(
-                            new CsvEventStreamReaderBasicCharSeeker<>(
-                                    charSeeker,
-                                    extractors,
-                                    mark,
-                                    decoder,
-                                    columnDelimiter
-                            )
-                    )
+            ColumnarParameterStore parameters = loadParameterStore(
+                    readOperation9File,
+                    decoder,
+                    2,
+                    bufferSize,
+                    columnDelimiter,
+                    arrayDelimiter,
+                    tupleDelimiter
             );
+            Iterator<Operation> operation9StreamWithoutTimes =
+                    new Query9EventStreamReader(parameters.repeatingCursor());
 
             Iterator<Long> operation9StartTimes =
                     gf.incrementing(workloadStartTimeAsMilli + readOperation9InterleaveAsMilli,
@@ -1213,49 +1192,23 @@ public class LdbcSnbInteractiveWorkload extends Workload {
                     operation9StartTimes,
                     operation9StreamWithoutTimes
             );
-
-            readOperationFileReaders.add(charSeeker);
         }
 
         Iterator<Operation> readOperation10Stream;
         {
             CsvEventStreamReaderBasicCharSeeker.EventDecoder<Object[]> decoder =
                     new Query10EventStreamReader.Query10Decoder();
-            Extractors extractors = new Extractors(arrayDelimiter, tupleDelimiter);
-            CharSeeker charSeeker;
-            try {
-                charSeeker = new BufferedCharSeeker(
-                        Readables.wrap(
-                                new InputStreamReader(new FileInputStream(readOperation10File), Charsets.UTF_8)
-                        ),
-                        bufferSize
-                );
-            } catch (FileNotFoundException e) {
-                throw new WorkloadException(
-                        format("Unable to open parameters file: %s", readOperation10File.getAbsolutePath()),
-                        e);
-            }
-            Mark mark = new Mark();
-            // skip headers
-            try {
-                charSeeker.seek(mark, new int[]{columnDelimiter});
-                charSeeker.seek(mark, new int[]{columnDelimiter});
-            } catch (IOException e) {
-                throw new WorkloadException(format("Unable to advance parameters file beyond headers: %s",
-                        readOperation10File.getAbsolutePath()), e);
-            }
-
-            Iterator<Operation> operation10StreamWithoutTimes = new Query10EventStreamReader(
-                    gf.repeating(
-                            new CsvEventStreamReaderBasicCharSeeker<>(
-                                    charSeeker,
-                                    extractors,
-                                    mark,
-                                    decoder,
-                                    columnDelimiter
-                            )
-                    )
+            ColumnarParameterStore parameters = loadParameterStore(
+                    readOperation10File,
+                    decoder,
+                    2,
+                    bufferSize,
+                    columnDelimiter,
+                    arrayDelimiter,
+                    tupleDelimiter
             );
+            Iterator<Operation> operation10StreamWithoutTimes =
+                    new Query10EventStreamReader(parameters.repeatingCursor());
 
             Iterator<Long> operation10StartTimes =
                     gf.incrementing(workloadStartTimeAsMilli + readOperation10InterleaveAsMilli,
@@ -1265,50 +1218,23 @@ public class LdbcSnbInteractiveWorkload extends Workload {
                     operation10StartTimes,
                     operation10StreamWithoutTimes
             );
-
-            readOperationFileReaders.add(charSeeker);
         }
 
         Iterator<Operation> readOperation11Stream;
         {
             CsvEventStreamReaderBasicCharSeeker.EventDecoder<Object[]> decoder =
                     new Query11EventStreamReader.Query11Decoder();
-            Extractors extractors = new Extractors(arrayDelimiter, tupleDelimiter);
-            CharSeeker charSeeker;
-            try {
-                charSeeker = new BufferedCharSeeker(
-                        Readables.wrap(
-                                new InputStreamReader(new FileInputStream(readOperation11File), Charsets.UTF_8)
-                        ),
-                        bufferSize
-                );
-            } catch (FileNotFoundException e) {
-                throw new WorkloadException(
-                        format("Unable to open parameters file: %s", readOperation11File.getAbsolutePath()),
-                        e);
-            }
-            Mark mark = new Mark();
-            // skip headers
-            try {
-                charSeeker.seek(mark, new int[]{columnDelimiter});
-                charSeeker.seek(mark, new int[]{columnDelimiter});
-                charSeeker.seek(mark, new int[]{columnDelimiter});
-            } catch (IOException e) {
-                throw new WorkloadException(format("Unable to advance parameters file beyond headers: %s",
-                        readOperation11File.getAbsolutePath()), e);
-            }
-
-            Iterator<Operation> operation11StreamWithoutTimes = new Query11EventStreamReader(
-                    gf.repeating(
-                            new CsvEventStreamReaderBasicCharSeeker<>(
-                                    charSeeker,
-                                    extractors,
-                                    mark,
-                                    decoder,
-                                    columnDelimiter
-                            )
-                    )
+            ColumnarParameterStore parameters = loadParameterStore(
+                    readOperation11File,
+                    decoder,
+                    3,
+                    bufferSize,
+                    columnDelimiter,
+                    arrayDelimiter,
+                    tupleDelimiter
             );
+            Iterator<Operation> operation11StreamWithoutTimes =
+                    new Query11EventStreamReader(parameters.repeatingCursor());
 
             Iterator<Long> operation11StartTimes =
                     gf.incrementing(workloadStartTimeAsMilli + readOperation11InterleaveAsMilli,
@@ -1318,49 +1244,23 @@ public class LdbcSnbInteractiveWorkload extends Workload {
                     operation11StartTimes,
                     operation11StreamWithoutTimes
             );
-
-            readOperationFileReaders.add(charSeeker);
         }
 
         Iterator<Operation> readOperation12Stream;
         {
             CsvEventStreamReaderBasicCharSeeker.EventDecoder<Object[]> decoder =
                     new Query12EventStreamReader.Query12Decoder();
-            Extractors extractors = new Extractors(arrayDelimiter, tupleDelimiter);
-            CharSeeker charSeeker;
-            try {
-                charSeeker = new BufferedCharSeeker(
-                        Readables.wrap(
-                                new InputStreamReader(new FileInputStream(readOperation12File), Charsets.UTF_8)
-                        ),
-                        bufferSize
-                );
-            } catch (FileNotFoundException e) {
-                throw new WorkloadException(
-                        format("Unable to open parameters file: %s", readOperation12File.getAbsolutePath()),
-                        e);
-            }
-            Mark mark = new Mark();
-            // skip headers
-            try {
-                charSeeker.seek(mark, new int[]{columnDelimiter});
-                charSeeker.seek(mark, new int[]{columnDelimiter});
-            } catch (IOException e) {
-                throw new WorkloadException(format("Unable to advance parameters file beyond headers: %s",
-                        readOperation12File.getAbsolutePath()), e);
-            }
-
-            Iterator<Operation> operation12StreamWithoutTimes = new Query12EventStreamReader(
-                    gf.repeating(
-                            new CsvEventStreamReaderBasicCharSeeker<>(
-                                    charSeeker,
-                                    extractors,
-                                    mark,
-                                    decoder,
-                                    columnDelimiter
-                            )
-                    )
+            ColumnarParameterStore parameters = loadParameterStore(
+                    readOperation12File,
+                    decoder,
+                    2,
+                    bufferSize,
+                    columnDelimiter,
+                    arrayDelimiter,
+                    tupleDelimiter
             );
+            Iterator<Operation> operation12StreamWithoutTimes =
+                    new Query12EventStreamReader(parameters.repeatingCursor());
 
             Iterator<Long> operation12StartTimes =
                     gf.incrementing(workloadStartTimeAsMilli + readOperation12InterleaveAsMilli,
@@ -1370,49 +1270,23 @@ public class LdbcSnbInteractiveWorkload extends Workload {
                     operation12StartTimes,
                     operation12StreamWithoutTimes
             );
-
-            readOperationFileReaders.add(charSeeker);
         }
 
         Iterator<Operation> readOperation13Stream;
         {
             CsvEventStreamReaderBasicCharSeeker.EventDecoder<Object[]> decoder =
                     new Query13EventStreamReader.Query13Decoder();
-            Extractors extractors = new Extractors(arrayDelimiter, tupleDelimiter);
-            CharSeeker charSeeker;
-            try {
-                charSeeker = new BufferedCharSeeker(
-                        Readables.wrap(
-                                new InputStreamReader(new FileInputStream(readOperation13File), Charsets.UTF_8)
-                        ),
-                        bufferSize
-                );
-            } catch (FileNotFoundException e) {
-                throw new WorkloadException(
-                        format("Unable to open parameters file: %s", readOperation13File.getAbsolutePath()),
-                        e);
-            }
-            Mark mark = new Mark();
-            // skip headers
-            try {
-                charSeeker.seek(mark, new int[]{columnDelimiter});
-                charSeeker.seek(mark, new int[]{columnDelimiter});
-            } catch (IOException e) {
-                throw new WorkloadException(format("Unable to advance parameters file beyond headers: %s",
-                        readOperation13File.getAbsolutePath()), e);
-            }
-
-            Iterator<Operation> operation13StreamWithoutTimes = new Query13EventStreamReader(
-                    gf.repeating(
-                            new CsvEventStreamReaderBasicCharSeeker<>(
-                                    charSeeker,
-                                    extractors,
-                                    mark,
-                                    decoder,
-                                    columnDelimiter
-                            )
-                    )
+            ColumnarParameterStore parameters = loadParameterStore(
+                    readOperation13File,
+                    decoder,
+                    2,
+                    bufferSize,
+                    columnDelimiter,
+                    arrayDelimiter,
+                    tupleDelimiter
             );
+            Iterator<Operation> operation13StreamWithoutTimes =
+                    new Query13EventStreamReader(parameters.repeatingCursor());
 
             Iterator<Long> operation13StartTimes =
                     gf.incrementing(workloadStartTimeAsMilli + readOperation13InterleaveAsMilli,
@@ -1422,49 +1296,23 @@ public class LdbcSnbInteractiveWorkload extends Workload {
                     operation13StartTimes,
                     operation13StreamWithoutTimes
             );
-
-            readOperationFileReaders.add(charSeeker);
         }
 
         Iterator<Operation> readOperation14Stream;
         {
             CsvEventStreamReaderBasicCharSeeker.EventDecoder<Object[]> decoder =
                     new Query14EventStreamReader.Query14Decoder();
-            Extractors extractors = new Extractors(arrayDelimiter, tupleDelimiter);
-            CharSeeker charSeeker;
-            try {
-                charSeeker = new BufferedCharSeeker(
-                        Readables.wrap(
-                                new InputStreamReader(new FileInputStream(readOperation14File), Charsets.UTF_8)
-                        ),
-                        bufferSize
-                );
-            } catch (FileNotFoundException e) {
-                throw new WorkloadException(
-                        format("Unable to open parameters file: %s", readOperation14File.getAbsolutePath()),
-                        e);
-            }
-            Mark mark = new Mark();
-            // skip headers
-            try {
-                charSeeker.seek(mark, new int[]{columnDelimiter});
-                charSeeker.seek(mark, new int[]{columnDelimiter});
-            } catch (IOException e) {
-                throw new WorkloadException(format("Unable to advance parameters file beyond headers: %s",
-                        readOperation14File.getAbsolutePath()), e);
-            }
-
-            Iterator<Operation> operation14StreamWithoutTimes = new Query14EventStreamReader(
-                    gf.repeating(
-                            new CsvEventStreamReaderBasicCharSeeker<>(
-                                    charSeeker,
-                                    extractors,
-                                    mark,
-                                    decoder,
-                                    columnDelimiter
-                            )
-                    )
+            ColumnarParameterStore parameters = loadParameterStore(
+                    readOperation14File,
+                    decoder,
+                    2,
+                    bufferSize,
+                    columnDelimiter,
+                    arrayDelimiter,
+                    tupleDelimiter
             );
+            Iterator<Operation> operation14StreamWithoutTimes =
+                    new Query14EventStreamReader(parameters.repeatingCursor());
 
             Iterator<Long> operation14StartTimes =
                     gf.incrementing(workloadStartTimeAsMilli + readOperation14InterleaveAsMilli,
@@ -1474,8 +1322,6 @@ public class LdbcSnbInteractiveWorkload extends Workload {
                     operation14StartTimes,
                     operation14StreamWithoutTimes
             );
-
-            readOperationFileReaders.add(charSeeker);
         }
 
         if (enabledLongReadOperationTypes.contains(LdbcQuery1.class)) {
@@ -1534,6 +1380,16 @@ public class LdbcSnbInteractiveWorkload extends Workload {
                 asynchronousNonDependencyStreamsList
                         .toArray(new Iterator[asynchronousNonDependencyStreamsList.size()])
         );
+        if (Long.MIN_VALUE != fromTimeStamp) {
+            Predicate<Operation> fromTimeStampFilter = new Predicate<Operation>() {
+                @Override
+                public boolean apply(Operation operation) {
+                    return operation.timeStamp() >= fromTimeStamp;
+                }
+            };
+            asynchronousDependencyStreams = Iterators.filter(asynchronousDependencyStreams, fromTimeStampFilter);
+            asynchronousNonDependencyStreams = Iterators.filter(asynchronousNonDependencyStreams, fromTimeStampFilter);
+        }
 
         /* *******
          * *******
@@ -1563,11 +1419,11 @@ public class LdbcSnbInteractiveWorkload extends Workload {
 
             RandomDataGeneratorFactory randomFactory = new RandomDataGeneratorFactory(42l);
             double initialProbability = 1.0;
-            Queue<Long> personIdBuffer = (hasDbConnected)
-                    ? LdbcSnbShortReadGenerator.synchronizedCircularQueueBuffer(1024)
+            LdbcSnbShortReadGenerator.IdBuffer personIdBuffer = (hasDbConnected)
+                    ? LdbcSnbShortReadGenerator.circularBuffer(1024)
                     : LdbcSnbShortReadGenerator.constantBuffer(1);
-            Queue<Long> messageIdBuffer = (hasDbConnected)
-                    ? LdbcSnbShortReadGenerator.synchronizedCircularQueueBuffer(1024)
+            LdbcSnbShortReadGenerator.IdBuffer messageIdBuffer = (hasDbConnected)
+                    ? LdbcSnbShortReadGenerator.circularBuffer(1024)
                     : LdbcSnbShortReadGenerator.constantBuffer(1);
             LdbcSnbShortReadGenerator.SCHEDULED_START_TIME_POLICY scheduledStartTimePolicy = (hasDbConnected)
                     ?
@@ -1679,556 +1535,359 @@ public class LdbcSnbInteractiveWorkload extends Workload {
         return TimeUnit.HOURS.toMillis(1);
     }
 
-    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
-    private static final TypeReference TYPE_REFERENCE = new TypeReference<List<Object>>() {
-    };
-
     @Override
     public String serializeOperation(Operation operation) throws SerializingMarshallingException {
+        try {
+            return serializeOperationAsJson(operation);
+        } catch (IOException e) {
+            throw new SerializingMarshallingException(
+                    format("Error while trying to serialize operation\n%s", operation), e);
+        }
+    }
+
+    /**
+     * Streams the type name and parameters of the operation, as a JSON array, straight into the output string
+     */
+    private String serializeOperationAsJson(Operation operation) throws IOException, SerializingMarshallingException {
         switch (operation.type()) {
             case LdbcQuery1.TYPE: {
                 LdbcQuery1 ldbcQuery = (LdbcQuery1) operation;
-                List<Object> operationAsList = new ArrayList<>();
-                operationAsList.add(ldbcQuery.getClass().getName());
-                operationAsList.add(ldbcQuery.personId());
-                operationAsList.add(ldbcQuery.firstName());
-                operationAsList.add(ldbcQuery.limit());
-                try {
-                    return OBJECT_MAPPER.writeValueAsString(operationAsList);
-                } catch (IOException e) {
-                    throw new SerializingMarshallingException(
-                            format("Error while trying to serialize result\n%s", operationAsList.toString()), e);
-                }
+                JsonArrayWriter json = new JsonArrayWriter();
+                json.write(ldbcQuery.getClass().getName());
+                json.write(ldbcQuery.personId());
+                json.write(ldbcQuery.firstName());
+                json.write(ldbcQuery.limit());
+                return json.finish();
             }
             case LdbcQuery2.TYPE: {
                 LdbcQuery2 ldbcQuery = (LdbcQuery2) operation;
-                List<Object> operationAsList = new ArrayList<>();
-                operationAsList.add(ldbcQuery.getClass().getName());
-                operationAsList.add(ldbcQuery.personId());
-                operationAsList.add(ldbcQuery.maxDate().getTime());
-                operationAsList.add(ldbcQuery.limit());
-                try {
-                    return OBJECT_MAPPER.writeValueAsString(operationAsList);
-                } catch (IOException e) {
-                    throw new SerializingMarshallingException(
-                            format("Error while trying to serialize result\n%s", operationAsList.toString()), e);
-                }
+                JsonArrayWriter json = new JsonArrayWriter();
+                json.write(ldbcQuery.getClass().getName());
+                json.write(ldbcQuery.personId());
+                json.write(ldbcQuery.maxDate().getTime());
+                json.write(ldbcQuery.limit());
+                return json.finish();
             }
             case LdbcQuery3.TYPE: {
                 LdbcQuery3 ldbcQuery = (LdbcQuery3) operation;
-                List<Object> operationAsList = new ArrayList<>();
-                operationAsList.add(ldbcQuery.getClass().getName());
-                operationAsList.add(ldbcQuery.personId());
-                operationAsList.add(ldbcQuery.countryXName());
-                operationAsList.add(ldbcQuery.countryYName());
-                operationAsList.add(ldbcQuery.startDate().getTime());
-                operationAsList.add(ldbcQuery.durationDays());
-                operationAsList.add(ldbcQuery.limit());
-                try {
-                    return OBJECT_MAPPER.writeValueAsString(operationAsList);
-                } catch (IOException e) {
-                    throw new SerializingMarshallingException(
-                            format("Error while trying to serialize result\n%s", operationAsList.toString()), e);
-                }
+                JsonArrayWriter json = new JsonArrayWriter();
+                json.write(ldbcQuery.getClass().getName());
+                json.write(ldbcQuery.personId());
+                json.write(ldbcQuery.countryXName());
+                json.write(ldbcQuery.countryYName());
+                json.write(ldbcQuery.startDate().getTime());
+                json.write(ldbcQuery.durationDays());
+                json.write(ldbcQuery.limit());
+                return json.finish();
             }
             case LdbcQuery4.TYPE: {
                 LdbcQuery4 ldbcQuery = (LdbcQuery4) operation;
-                List<Object> operationAsList = new ArrayList<>();
-                operationAsList.add(ldbcQuery.getClass().getName());
-                operationAsList.add(ldbcQuery.personId());
-                operationAsList.add(ldbcQuery.startDate().getTime());
-                operationAsList.add(ldbcQuery.durationDays());
-                operationAsList.add(ldbcQuery.limit());
-                try {
-                    return OBJECT_MAPPER.writeValueAsString(operationAsList);
-                } catch (IOException e) {
-                    throw new SerializingMarshallingException(
-                            format("Error while trying to serialize result\n%s", operationAsList.toString()), e);
-                }
+                JsonArrayWriter json = new JsonArrayWriter();
+                json.write(ldbcQuery.getClass().getName());
+                json.write(ldbcQuery.personId());
+                json.write(ldbcQuery.startDate().getTime());
+                json.write(ldbcQuery.durationDays());
+                json.write(ldbcQuery.limit());
+                return json.finish();
             }
             case LdbcQuery5.TYPE: {
                 LdbcQuery5 ldbcQuery = (LdbcQuery5) operation;
-                List<Object> operationAsList = new ArrayList<>();
-                operationAsList.add(ldbcQuery.getClass().getName());
-                operationAsList.add(ldbcQuery.personId());
-                operationAsList.add(ldbcQuery.minDate().getTime());
-                operationAsList.add(ldbcQuery.limit());
-                try {
-                    return OBJECT_MAPPER.writeValueAsString(operationAsList);
-                } catch (IOException e) {
-                    throw new SerializingMarshallingException(
-                            format("Error while trying to serialize result\n%s", operationAsList.toString()), e);
-                }
+                JsonArrayWriter json = new JsonArrayWriter();
+                json.write(ldbcQuery.getClass().getName());
+                json.write(ldbcQuery.personId());
+                json.write(ldbcQuery.minDate().getTime());
+                json.write(ldbcQuery.limit());
+                return json.finish();
             }
             case LdbcQuery6.TYPE: {
                 LdbcQuery6 ldbcQuery = (LdbcQuery6) operation;
-                List<Object> operationAsList = new ArrayList<>();
-                operationAsList.add(ldbcQuery.getClass().getName());
-                operationAsList.add(ldbcQuery.personId());
-                operationAsList.add(ldbcQuery.tagName());
-                operationAsList.add(ldbcQuery.limit());
-                try {
-                    return OBJECT_MAPPER.writeValueAsString(operationAsList);
-                } catch (IOException e) {
-                    throw new SerializingMarshallingException(
-                            format("Error while trying to serialize result\n%s", operationAsList.toString()), e);
-                }
+                JsonArrayWriter json = new JsonArrayWriter();
+                json.write(ldbcQuery.getClass().getName());
+                json.write(ldbcQuery.personId());
+                json.write(ldbcQuery.tagName());
+                json.write(ldbcQuery.limit());
+                return json.finish();
             }
             case LdbcQuery7.TYPE: {
                 LdbcQuery7 ldbcQuery = (LdbcQuery7) operation;
-                List<Object> operationAsList = new ArrayList<>();
-                operationAsList.add(ldbcQuery.getClass().getName());
-                operationAsList.add(ldbcQuery.personId());
-                operationAsList.add(ldbcQuery.limit());
-                try {
-                    return OBJECT_MAPPER.writeValueAsString(operationAsList);
-                } catch (IOException e) {
-                    throw new SerializingMarshallingException(
-                            format("Error while trying to serialize result\n%s", operationAsList.toString()), e);
-                }
+                JsonArrayWriter json = new JsonArrayWriter();
+                json.write(ldbcQuery.getClass().getName());
+                json.write(ldbcQuery.personId());
+                json.write(ldbcQuery.limit());
+                return json.finish();
             }
             case LdbcQuery8.TYPE: {
                 LdbcQuery8 ldbcQuery = (LdbcQuery8) operation;
-                List<Object> operationAsList = new ArrayList<>();
-                operationAsList.add(ldbcQuery.getClass().getName());
-                operationAsList.add(ldbcQuery.personId());
-                operationAsList.add(ldbcQuery.limit());
-                try {
-                    return OBJECT_MAPPER.writeValueAsString(operationAsList);
-                } catch (IOException e) {
-                    throw new SerializingMarshallingException(
-                            format("Error while trying to serialize result\n%s", operationAsList.toString()), e);
-                }
+                JsonArrayWriter json = new JsonArrayWriter();
+                json.write(ldbcQuery.getClass().getName());
+                json.write(ldbcQuery.personId());
+                json.write(ldbcQuery.limit());
+                return json.finish();
             }
             case LdbcQuery9.TYPE: {
                 LdbcQuery9 ldbcQuery = (LdbcQuery9) operation;
-                List<Object> operationAsList = new ArrayList<>();
-                operationAsList.add(ldbcQuery.getClass().getName());
-                operationAsList.add(ldbcQuery.personId());
-                operationAsList.add(ldbcQuery.maxDate().getTime());
-                operationAsList.add(ldbcQuery.limit());
-                try {
-                    return OBJECT_MAPPER.writeValueAsString(operationAsList);
-                } catch (IOException e) {
-                    throw new SerializingMarshallingException(
-                            format("Error while trying to serialize result\n%s", operationAsList.toString()), e);
-                }
+                JsonArrayWriter json = new JsonArrayWriter();
+                json.write(ldbcQuery.getClass().getName());
+                json.write(ldbcQuery.personId());
+                json.write(ldbcQuery.maxDate().getTime());
+                json.write(ldbcQuery.limit());
+                return json.finish();
             }
             case LdbcQuery10.TYPE: {
                 LdbcQuery10 ldbcQuery = (LdbcQuery10) operation;
-                List<Object> operationAsList = new ArrayList<>();
-                operationAsList.add(ldbcQuery.getClass().getName());
-                operationAsList.add(ldbcQuery.personId());
-                operationAsList.add(ldbcQuery.month());
-                operationAsList.add(ldbcQuery.limit());
-                try {
-                    return OBJECT_MAPPER.writeValueAsString(operationAsList);
-                } catch (IOException e) {
-                    throw new SerializingMarshallingException(
-                            format("Error while trying to serialize result\n%s", operationAsList.toString()), e);
-                }
+                JsonArrayWriter json = new JsonArrayWriter();
+                json.write(ldbcQuery.getClass().getName());
+                json.write(ldbcQuery.personId());
+                json.write(ldbcQuery.month());
+                json.write(ldbcQuery.limit());
+                return json.finish();
             }
             case LdbcQuery11.TYPE: {
                 LdbcQuery11 ldbcQuery = (LdbcQuery11) operation;
-                List<Object> operationAsList = new ArrayList<>();
-                operationAsList.add(ldbcQuery.getClass().getName());
-                operationAsList.add(ldbcQuery.personId());
-                operationAsList.add(ldbcQuery.countryName());
-                operationAsList.add(ldbcQuery.workFromYear());
-                operationAsList.add(ldbcQuery.limit());
-                try {
-                    return OBJECT_MAPPER.writeValueAsString(operationAsList);
-                } catch (IOException e) {
-                    throw new SerializingMarshallingException(
-                            format("Error while trying to serialize result\n%s", operationAsList.toString()), e);
-                }
+                JsonArrayWriter json = new JsonArrayWriter();
+                json.write(ldbcQuery.getClass().getName());
+                json.write(ldbcQuery.personId());
+                json.write(ldbcQuery.countryName());
+                json.write(ldbcQuery.workFromYear());
+                json.write(ldbcQuery.limit());
+                return json.finish();
             }
             case LdbcQuery12.TYPE: {
                 LdbcQuery12 ldbcQuery = (LdbcQuery12) operation;
-                List<Object> operationAsList = new ArrayList<>();
-                operationAsList.add(ldbcQuery.getClass().getName());
-                operationAsList.add(ldbcQuery.personId());
-                operationAsList.add(ldbcQuery.tagClassName());
-                operationAsList.add(ldbcQuery.limit());
-                try {
-                    return OBJECT_MAPPER.writeValueAsString(operationAsList);
-                } catch (IOException e) {
-                    throw new SerializingMarshallingException(
-                            format("Error while trying to serialize result\n%s", operationAsList.toString()), e);
-                }
+                JsonArrayWriter json = new JsonArrayWriter();
+                json.write(ldbcQuery.getClass().getName());
+                json.write(ldbcQuery.personId());
+                json.write(ldbcQuery.tagClassName());
+                json.write(ldbcQuery.limit());
+                return json.finish();
             }
             case LdbcQuery13.TYPE: {
                 LdbcQuery13 ldbcQuery = (LdbcQuery13) operation;
-                List<Object> operationAsList = new ArrayList<>();
-                operationAsList.add(ldbcQuery.getClass().getName());
-                operationAsList.add(ldbcQuery.person1Id());
-                operationAsList.add(ldbcQuery.person2Id());
-                try {
-                    return OBJECT_MAPPER.writeValueAsString(operationAsList);
-                } catch (IOException e) {
-                    throw new SerializingMarshallingException(
-                            format("Error while trying to serialize result\n%s", operationAsList.toString()), e);
-                }
+                JsonArrayWriter json = new JsonArrayWriter();
+                json.write(ldbcQuery.getClass().getName());
+                json.write(ldbcQuery.person1Id());
+                json.write(ldbcQuery.person2Id());
+                return json.finish();
             }
             case LdbcQuery14.TYPE: {
                 LdbcQuery14 ldbcQuery = (LdbcQuery14) operation;
-                List<Object> operationAsList = new ArrayList<>();
-                operationAsList.add(ldbcQuery.getClass().getName());
-                operationAsList.add(ldbcQuery.person1Id());
-                operationAsList.add(ldbcQuery.person2Id());
-                try {
-                    return OBJECT_MAPPER.writeValueAsString(operationAsList);
-                } catch (IOException e) {
-                    throw new SerializingMarshallingException(
-                            format("Error while trying to serialize result\n%s", operationAsList.toString()), e);
-                }
+                JsonArrayWriter json = new JsonArrayWriter();
+                json.write(ldbcQuery.getClass().getName());
+                json.write(ldbcQuery.person1Id());
+                json.write(ldbcQuery.person2Id());
+                return json.finish();
             }
             case LdbcShortQuery1PersonProfile.TYPE: {
                 LdbcShortQuery1PersonProfile ldbcQuery = (LdbcShortQuery1PersonProfile) operation;
-                List<Object> operationAsList = new ArrayList<>();
-                operationAsList.add(ldbcQuery.getClass().getName());
-                operationAsList.add(ldbcQuery.personId());
-                try {
-                    return OBJECT_MAPPER.writeValueAsString(operationAsList);
-                } catch (IOException e) {
-                    throw new SerializingMarshallingException(
-                            format("Error while trying to serialize result\n%s", operationAsList.toString()), e);
-                }
+                JsonArrayWriter json = new JsonArrayWriter();
+                json.write(ldbcQuery.getClass().getName());
+                json.write(ldbcQuery.personId());
+                return json.finish();
             }
             case LdbcShortQuery2PersonPosts.TYPE: {
                 LdbcShortQuery2PersonPosts ldbcQuery = (LdbcShortQuery2PersonPosts) operation;
-                List<Object> operationAsList = new ArrayList<>();
-                operationAsList.add(ldbcQuery.getClass().getName());
-                operationAsList.add(ldbcQuery.personId());
-                operationAsList.add(ldbcQuery.limit());
-                try {
-                    return OBJECT_MAPPER.writeValueAsString(operationAsList);
-                } catch (IOException e) {
-                    throw new SerializingMarshallingException(
-                            format("Error while trying to serialize result\n%s", operationAsList.toString()), e);
-                }
+                JsonArrayWriter json = new JsonArrayWriter();
+                json.write(ldbcQuery.getClass().getName());
+                json.write(ldbcQuery.personId());
+                json.write(ldbcQuery.limit());
+                return json.finish();
             }
             case LdbcShortQuery3PersonFriends.TYPE: {
                 LdbcShortQuery3PersonFriends ldbcQuery = (LdbcShortQuery3PersonFriends) operation;
-                List<Object> operationAsList = new ArrayList<>();
-                operationAsList.add(ldbcQuery.getClass().getName());
-                operationAsList.add(ldbcQuery.personId());
-                try {
-                    return OBJECT_MAPPER.writeValueAsString(operationAsList);
-                } catch (IOException e) {
-                    throw new SerializingMarshallingException(
-                            format("Error while trying to serialize result\n%s", operationAsList.toString()), e);
-                }
+                JsonArrayWriter json = new JsonArrayWriter();
+                json.write(ldbcQuery.getClass().getName());
+                json.write(ldbcQuery.personId());
+                return json.finish();
             }
             case LdbcShortQuery4MessageContent.TYPE: {
                 LdbcShortQuery4MessageContent ldbcQuery = (LdbcShortQuery4MessageContent) operation;
-                List<Object> operationAsList = new ArrayList<>();
-                operationAsList.add(ldbcQuery.getClass().getName());
-                operationAsList.add(ldbcQuery.messageId());
-                try {
-                    return OBJECT_MAPPER.writeValueAsString(operationAsList);
-                } catch (IOException e) {
-                    throw new SerializingMarshallingException(
-                            format("Error while trying to serialize result\n%s", operationAsList.toString()), e);
-                }
+                JsonArrayWriter json = new JsonArrayWriter();
+                json.write(ldbcQuery.getClass().getName());
+                json.write(ldbcQuery.messageId());
+                return json.finish();
             }
             case LdbcShortQuery5MessageCreator.TYPE: {
                 LdbcShortQuery5MessageCreator ldbcQuery = (LdbcShortQuery5MessageCreator) operation;
-                List<Object> operationAsList = new ArrayList<>();
-                operationAsList.add(ldbcQuery.getClass().getName());
-                operationAsList.add(ldbcQuery.messageId());
-                try {
-                    return OBJECT_MAPPER.writeValueAsString(operationAsList);
-                } catch (IOException e) {
-                    throw new SerializingMarshallingException(
-                            format("Error while trying to serialize result\n%s", operationAsList.toString()), e);
-                }
+                JsonArrayWriter json = new JsonArrayWriter();
+                json.write(ldbcQuery.getClass().getName());
+                json.write(ldbcQuery.messageId());
+                return json.finish();
             }
             case LdbcShortQuery6MessageForum.TYPE: {
                 LdbcShortQuery6MessageForum ldbcQuery = (LdbcShortQuery6MessageForum) operation;
-                List<Object> operationAsList = new ArrayList<>();
-                operationAsList.add(ldbcQuery.getClass().getName());
-                operationAsList.add(ldbcQuery.messageId());
-                try {
-                    return OBJECT_MAPPER.writeValueAsString(operationAsList);
-                } catch (IOException e) {
-                    throw new SerializingMarshallingException(
-                            format("Error while trying to serialize result\n%s", operationAsList.toString()), e);
-                }
+                JsonArrayWriter json = new JsonArrayWriter();
+                json.write(ldbcQuery.getClass().getName());
+                json.write(ldbcQuery.messageId());
+                return json.finish();
             }
             case LdbcShortQuery7MessageReplies.TYPE: {
                 LdbcShortQuery7MessageReplies ldbcQuery = (LdbcShortQuery7MessageReplies) operation;
-                List<Object> operationAsList = new ArrayList<>();
-                operationAsList.add(ldbcQuery.getClass().getName());
-                operationAsList.add(ldbcQuery.messageId());
-                try {
-                    return OBJECT_MAPPER.writeValueAsString(operationAsList);
-                } catch (IOException e) {
-                    throw new SerializingMarshallingException(
-                            format("Error while trying to serialize result\n%s", operationAsList.toString()), e);
-                }
+                JsonArrayWriter json = new JsonArrayWriter();
+                json.write(ldbcQuery.getClass().getName());
+                json.write(ldbcQuery.messageId());
+                return json.finish();
             }
             case LdbcUpdate1AddPerson.TYPE: {
                 LdbcUpdate1AddPerson ldbcQuery = (LdbcUpdate1AddPerson) operation;
-                List<Object> operationAsList = new ArrayList<>();
-                operationAsList.add(ldbcQuery.getClass().getName());
-                operationAsList.add(ldbcQuery.personId());
-                operationAsList.add(ldbcQuery.personFirstName());
-                operationAsList.add(ldbcQuery.personLastName());
-                operationAsList.add(ldbcQuery.gender());
-                operationAsList.add(ldbcQuery.birthday().getTime());
-                operationAsList.add(ldbcQuery.creationDate().getTime());
-                operationAsList.add(ldbcQuery.locationIp());
-                operationAsList.add(ldbcQuery.browserUsed());
-                operationAsList.add(ldbcQuery.cityId());
-                operationAsList.add(ldbcQuery.languages());
-                operationAsList.add(ldbcQuery.emails());
-                operationAsList.add(ldbcQuery.tagIds());
-                Iterable<Map<String, Object>> studyAt = Lists.newArrayList(Iterables.transform(ldbcQuery.studyAt(),
-                        new Function<LdbcUpdate1AddPerson.Organization, Map<String, Object>>() {
-                            @Override
-                            public Map<String, Object> apply(LdbcUpdate1AddPerson.Organization organization) {
-                                Map<String, Object> organizationMap = new HashMap<>();
-                                organizationMap.put("id", organization.organizationId());
-                                organizationMap.put("year", organization.year());
-                                return organizationMap;
-                            }
-                        }));
-                operationAsList.add(studyAt);
-                Iterable<Map<String, Object>> workAt = Lists.newArrayList(Iterables
-                        .transform(ldbcQuery.workAt(), new Function<LdbcUpdate1AddPerson.Organization, Map<String, Object>>() {
-                            @Override
-                            public Map<String, Object> apply(LdbcUpdate1AddPerson.Organization organization) {
-                                Map<String, Object> organizationMap = new HashMap<>();
-                                organizationMap.put("id", organization.organizationId());
-                                organizationMap.put("year", organization.year());
-                                return organizationMap;
-                            }
-                        }));
-                operationAsList.add(workAt);
-                try {
-                    return OBJECT_MAPPER.writeValueAsString(operationAsList);
-                } catch (IOException e) {
-                    throw new SerializingMarshallingException(
-                            format("Error while trying to serialize result\n%s", operationAsList.toString()), e);
-                }
+                JsonArrayWriter json = new JsonArrayWriter();
+                json.write(ldbcQuery.getClass().getName());
+                json.write(ldbcQuery.personId());
+                json.write(ldbcQuery.personFirstName());
+                json.write(ldbcQuery.personLastName());
+                json.write(ldbcQuery.gender());
+                json.write(ldbcQuery.birthday().getTime());
+                json.write(ldbcQuery.creationDate().getTime());
+                json.write(ldbcQuery.locationIp());
+                json.write(ldbcQuery.browserUsed());
+                json.write(ldbcQuery.cityId());
+                json.write(ldbcQuery.languages());
+                json.write(ldbcQuery.emails());
+                json.write(ldbcQuery.tagIds());
+                writeOrganizations(json, ldbcQuery.studyAt());
+                writeOrganizations(json, ldbcQuery.workAt());
+                return json.finish();
             }
             case LdbcUpdate2AddPostLike.TYPE: {
                 LdbcUpdate2AddPostLike ldbcQuery = (LdbcUpdate2AddPostLike) operation;
-                List<Object> operationAsList = new ArrayList<>();
-                operationAsList.add(ldbcQuery.getClass().getName());
-                operationAsList.add(ldbcQuery.personId());
-                operationAsList.add(ldbcQuery.postId());
-                operationAsList.add(ldbcQuery.creationDate().getTime());
-                try {
-                    return OBJECT_MAPPER.writeValueAsString(operationAsList);
-                } catch (IOException e) {
-                    throw new SerializingMarshallingException(
-                            format("Error while trying to serialize result\n%s", operationAsList.toString()), e);
-                }
+                JsonArrayWriter json = new JsonArrayWriter();
+                json.write(ldbcQuery.getClass().getName());
+                json.write(ldbcQuery.personId());
+                json.write(ldbcQuery.postId());
+                json.write(ldbcQuery.creationDate().getTime());
+                return json.finish();
             }
             case LdbcUpdate3AddCommentLike.TYPE: {
                 LdbcUpdate3AddCommentLike ldbcQuery = (LdbcUpdate3AddCommentLike) operation;
-                List<Object> operationAsList = new ArrayList<>();
-                operationAsList.add(ldbcQuery.getClass().getName());
-                operationAsList.add(ldbcQuery.personId());
-                operationAsList.add(ldbcQuery.commentId());
-                operationAsList.add(ldbcQuery.creationDate().getTime());
-                try {
-                    return OBJECT_MAPPER.writeValueAsString(operationAsList);
-                } catch (IOException e) {
-                    throw new SerializingMarshallingException(
-                            format("Error while trying to serialize result\n%s", operationAsList.toString()), e);
-                }
+                JsonArrayWriter json = new JsonArrayWriter();
+                json.write(ldbcQuery.getClass().getName());
+                json.write(ldbcQuery.personId());
+                json.write(ldbcQuery.commentId());
+                json.write(ldbcQuery.creationDate().getTime());
+                return json.finish();
             }
             case LdbcUpdate4AddForum.TYPE: {
                 LdbcUpdate4AddForum ldbcQuery = (LdbcUpdate4AddForum) operation;
-                List<Object> operationAsList = new ArrayList<>();
-                operationAsList.add(ldbcQuery.getClass().getName());
-                operationAsList.add(ldbcQuery.forumId());
-                operationAsList.add(ldbcQuery.forumTitle());
-                operationAsList.add(ldbcQuery.creationDate().getTime());
-                operationAsList.add(ldbcQuery.moderatorPersonId());
-                operationAsList.add(ldbcQuery.tagIds());
-                try {
-                    return OBJECT_MAPPER.writeValueAsString(operationAsList);
-                } catch (IOException e) {
-                    throw new SerializingMarshallingException(
-                            format("Error while trying to serialize result\n%s", operationAsList.toString()), e);
-                }
+                JsonArrayWriter json = new JsonArrayWriter();
+                json.write(ldbcQuery.getClass().getName());
+                json.write(ldbcQuery.forumId());
+                json.write(ldbcQuery.forumTitle());
+                json.write(ldbcQuery.creationDate().getTime());
+                json.write(ldbcQuery.moderatorPersonId());
+                json.write(ldbcQuery.tagIds());
+                return json.finish();
             }
             case LdbcUpdate5AddForumMembership.TYPE: {
                 LdbcUpdate5AddForumMembership ldbcQuery = (LdbcUpdate5AddForumMembership) operation;
-                List<Object> operationAsList = new ArrayList<>();
-                operationAsList.add(ldbcQuery.getClass().getName());
-                operationAsList.add(ldbcQuery.forumId());
-                operationAsList.add(ldbcQuery.personId());
-                operationAsList.add(ldbcQuery.joinDate().getTime());
-                try {
-                    return OBJECT_MAPPER.writeValueAsString(operationAsList);
-                } catch (IOException e) {
-                    throw new SerializingMarshallingException(
-                            format("Error while trying to serialize result\n%s", operationAsList.toString()), e);
-                }
+                JsonArrayWriter json = new JsonArrayWriter();
+                json.write(ldbcQuery.getClass().getName());
+                json.write(ldbcQuery.forumId());
+                json.write(ldbcQuery.personId());
+                json.write(ldbcQuery.joinDate().getTime());
+                return json.finish();
             }
             case LdbcUpdate6AddPost.TYPE: {
                 LdbcUpdate6AddPost ldbcQuery = (LdbcUpdate6AddPost) operation;
-                List<Object> operationAsList = new ArrayList<>();
-                operationAsList.add(ldbcQuery.getClass().getName());
-                operationAsList.add(ldbcQuery.postId());
-                operationAsList.add(ldbcQuery.imageFile());
-                operationAsList.add(ldbcQuery.creationDate().getTime());
-                operationAsList.add(ldbcQuery.locationIp());
-                operationAsList.add(ldbcQuery.browserUsed());
-                operationAsList.add(ldbcQuery.language());
-                operationAsList.add(ldbcQuery.content());
-                operationAsList.add(ldbcQuery.length());
-                operationAsList.add(ldbcQuery.authorPersonId());
-                operationAsList.add(ldbcQuery.forumId());
-                operationAsList.add(ldbcQuery.countryId());
-                operationAsList.add(ldbcQuery.tagIds());
-                try {
-                    return OBJECT_MAPPER.writeValueAsString(operationAsList);
-                } catch (IOException e) {
-                    throw new SerializingMarshallingException(
-                            format("Error while trying to serialize result\n%s", operationAsList.toString()), e);
-                }
+                JsonArrayWriter json = new JsonArrayWriter();
+                json.write(ldbcQuery.getClass().getName());
+                json.write(ldbcQuery.postId());
+                json.write(ldbcQuery.imageFile());
+                json.write(ldbcQuery.creationDate().getTime());
+                json.write(ldbcQuery.locationIp());
+                json.write(ldbcQuery.browserUsed());
+                json.write(ldbcQuery.language());
+                json.write(ldbcQuery.content());
+                json.write(ldbcQuery.length());
+                json.write(ldbcQuery.authorPersonId());
+                json.write(ldbcQuery.forumId());
+                json.write(ldbcQuery.countryId());
+                json.write(ldbcQuery.tagIds());
+                return json.finish();
             }
             case LdbcUpdate7AddComment.TYPE: {
                 LdbcUpdate7AddComment ldbcQuery = (LdbcUpdate7AddComment) operation;
-                List<Object> operationAsList = new ArrayList<>();
-                operationAsList.add(ldbcQuery.getClass().getName());
-                operationAsList.add(ldbcQuery.commentId());
-                operationAsList.add(ldbcQuery.creationDate());
-                operationAsList.add(ldbcQuery.locationIp());
-                operationAsList.add(ldbcQuery.browserUsed());
-                operationAsList.add(ldbcQuery.content());
-                operationAsList.add(ldbcQuery.length());
-                operationAsList.add(ldbcQuery.authorPersonId());
-                operationAsList.add(ldbcQuery.countryId());
-                operationAsList.add(ldbcQuery.replyToPostId());
-                operationAsList.add(ldbcQuery.replyToCommentId());
-                operationAsList.add(ldbcQuery.tagIds());
-                try {
-                    return OBJECT_MAPPER.writeValueAsString(operationAsList);
-                } catch (IOException e) {
-                    throw new SerializingMarshallingException(
-                            format("Error while trying to serialize result\n%s", operationAsList.toString()), e);
-                }
+                JsonArrayWriter json = new JsonArrayWriter();
+                json.write(ldbcQuery.getClass().getName());
+                json.write(ldbcQuery.commentId());
+                json.write(ldbcQuery.creationDate());
+                json.write(ldbcQuery.locationIp());
+                json.write(ldbcQuery.browserUsed());
+                json.write(ldbcQuery.content());
+                json.write(ldbcQuery.length());
+                json.write(ldbcQuery.authorPersonId());
+                json.write(ldbcQuery.countryId());
+                json.write(ldbcQuery.replyToPostId());
+                json.write(ldbcQuery.replyToCommentId());
+                json.write(ldbcQuery.tagIds());
+                return json.finish();
             }
             case LdbcUpdate8AddFriendship.TYPE: {
                 LdbcUpdate8AddFriendship ldbcQuery = (LdbcUpdate8AddFriendship) operation;
-                List<Object> operationAsList = new ArrayList<>();
-                operationAsList.add(ldbcQuery.getClass().getName());
-                operationAsList.add(ldbcQuery.person1Id());
-                operationAsList.add(ldbcQuery.person2Id());
-                operationAsList.add(ldbcQuery.creationDate().getTime());
-                try {
-                    return OBJECT_MAPPER.writeValueAsString(operationAsList);
-                } catch (IOException e) {
-                    throw new SerializingMarshallingException(
-                            format("Error while trying to serialize result\n%s", operationAsList.toString()), e);
-                }
+                JsonArrayWriter json = new JsonArrayWriter();
+                json.write(ldbcQuery.getClass().getName());
+                json.write(ldbcQuery.person1Id());
+                json.write(ldbcQuery.person2Id());
+                json.write(ldbcQuery.creationDate().getTime());
+                return json.finish();
             }
             case LdbcDelete1RemovePerson.TYPE: {
                 LdbcDelete1RemovePerson ldbcQuery = (LdbcDelete1RemovePerson) operation;
-                List<Object> operationAsList = new ArrayList<>();
-                operationAsList.add(ldbcQuery.getClass().getName());
-                operationAsList.add(ldbcQuery.personId());
-                try {
-                    return OBJECT_MAPPER.writeValueAsString(operationAsList);
-                } catch (IOException e) {
-                    throw new SerializingMarshallingException(
-                            format("Error while trying to serialize result\n%s", operationAsList.toString()), e);
-                }
+                JsonArrayWriter json = new JsonArrayWriter();
+                json.write(ldbcQuery.getClass().getName());
+                json.write(ldbcQuery.personId());
+                return json.finish();
             }
             case LdbcDelete2RemovePostLike.TYPE: {
                 LdbcDelete2RemovePostLike ldbcQuery = (LdbcDelete2RemovePostLike) operation;
-                List<Object> operationAsList = new ArrayList<>();
-                operationAsList.add(ldbcQuery.getClass().getName());
-                operationAsList.add(ldbcQuery.personId());
-                operationAsList.add(ldbcQuery.postId());
-                try {
-                    return OBJECT_MAPPER.writeValueAsString(operationAsList);
-                } catch (IOException e) {
-                    throw new SerializingMarshallingException(
-                            format("Error while trying to serialize result\n%s", operationAsList.toString()), e);
-                }
+                JsonArrayWriter json = new JsonArrayWriter();
+                json.write(ldbcQuery.getClass().getName());
+                json.write(ldbcQuery.personId());
+                json.write(ldbcQuery.postId());
+                return json.finish();
             }
             case LdbcDelete3RemoveCommentLike.TYPE: {
                 LdbcDelete3RemoveCommentLike ldbcQuery = (LdbcDelete3RemoveCommentLike) operation;
-                List<Object> operationAsList = new ArrayList<>();
-                operationAsList.add(ldbcQuery.getClass().getName());
-                operationAsList.add(ldbcQuery.personId());
-                operationAsList.add(ldbcQuery.commentId());
-                try {
-                    return OBJECT_MAPPER.writeValueAsString(operationAsList);
-                } catch (IOException e) {
-                    throw new SerializingMarshallingException(
-                            format("Error while trying to serialize result\n%s", operationAsList.toString()), e);
-                }
+                JsonArrayWriter json = new JsonArrayWriter();
+                json.write(ldbcQuery.getClass().getName());
+                json.write(ldbcQuery.personId());
+                json.write(ldbcQuery.commentId());
+                return json.finish();
             }
             case LdbcDelete4RemoveForum.TYPE: {
                 LdbcDelete4RemoveForum ldbcQuery = (LdbcDelete4RemoveForum) operation;
-                List<Object> operationAsList = new ArrayList<>();
-                operationAsList.add(ldbcQuery.getClass().getName());
-                operationAsList.add(ldbcQuery.forumId());
-                try {
-                    return OBJECT_MAPPER.writeValueAsString(operationAsList);
-                } catch (IOException e) {
-                    throw new SerializingMarshallingException(
-                            format("Error while trying to serialize result\n%s", operationAsList.toString()), e);
-                }
+                JsonArrayWriter json = new JsonArrayWriter();
+                json.write(ldbcQuery.getClass().getName());
+                json.write(ldbcQuery.forumId());
+                return json.finish();
             }
             case LdbcDelete5RemoveForumMembership.TYPE: {
                 LdbcDelete5RemoveForumMembership ldbcQuery = (LdbcDelete5RemoveForumMembership) operation;
-                List<Object> operationAsList = new ArrayList<>();
-                operationAsList.add(ldbcQuery.getClass().getName());
-                operationAsList.add(ldbcQuery.forumId());
-                operationAsList.add(ldbcQuery.personId());
-                try {
-                    return OBJECT_MAPPER.writeValueAsString(operationAsList);
-                } catch (IOException e) {
-                    throw new SerializingMarshallingException(
-                            format("Error while trying to serialize result\n%s", operationAsList.toString()), e);
-                }
+                JsonArrayWriter json = new JsonArrayWriter();
+                json.write(ldbcQuery.getClass().getName());
+                json.write(ldbcQuery.forumId());
+                json.write(ldbcQuery.personId());
+                return json.finish();
             }
             case LdbcDelete6RemovePost.TYPE: {
                 LdbcDelete6RemovePost ldbcQuery = (LdbcDelete6RemovePost) operation;
-                List<Object> operationAsList = new ArrayList<>();
-                operationAsList.add(ldbcQuery.getClass().getName());
-                operationAsList.add(ldbcQuery.postId());
-                try {
-                    return OBJECT_MAPPER.writeValueAsString(operationAsList);
-                } catch (IOException e) {
-                    throw new SerializingMarshallingException(
-                            format("Error while trying to serialize result\n%s", operationAsList.toString()), e);
-                }
+                JsonArrayWriter json = new JsonArrayWriter();
+                json.write(ldbcQuery.getClass().getName());
+                json.write(ldbcQuery.postId());
+                return json.finish();
             }
             case LdbcDelete7RemoveComment.TYPE: {
                 LdbcDelete7RemoveComment ldbcQuery = (LdbcDelete7RemoveComment) operation;
-                List<Object> operationAsList = new ArrayList<>();
-                operationAsList.add(ldbcQuery.getClass().getName());
-                operationAsList.add(ldbcQuery.commentId());
-                try {
-                    return OBJECT_MAPPER.writeValueAsString(operationAsList);
-                } catch (IOException e) {
-                    throw new SerializingMarshallingException(
-                            format("Error while trying to serialize result\n%s", operationAsList.toString()), e);
-                }
+                JsonArrayWriter json = new JsonArrayWriter();
+                json.write(ldbcQuery.getClass().getName());
+                json.write(ldbcQuery.commentId());
+                return json.finish();
             }
             case LdbcDelete8RemoveFriendship.TYPE: {
                 LdbcDelete8RemoveFriendship ldbcQuery = (LdbcDelete8RemoveFriendship) operation;
-                List<Object> operationAsList = new ArrayList<>();
-                operationAsList.add(ldbcQuery.getClass().getName());
-                operationAsList.add(ldbcQuery.person1Id());
-                operationAsList.add(ldbcQuery.person2Id());
-                try {
-                    return OBJECT_MAPPER.writeValueAsString(operationAsList);
-                } catch (IOException e) {
-                    throw new SerializingMarshallingException(
-                            format("Error while trying to serialize result\n%s", operationAsList.toString()), e);
-                }
+                JsonArrayWriter json = new JsonArrayWriter();
+                json.write(ldbcQuery.getClass().getName());
+                json.write(ldbcQuery.person1Id());
+                json.write(ldbcQuery.person2Id());
+                return json.finish();
             }
             default: {
                 throw new SerializingMarshallingException(
@@ -2242,294 +1901,269 @@ public class LdbcSnbInteractiveWorkload extends Workload {
         }
     }
 
+    private static void writeOrganizations(JsonArrayWriter json, List<LdbcUpdate1AddPerson.Organization> organizations)
+            throws IOException {
+        json.beginArray();
+        for (LdbcUpdate1AddPerson.Organization organization : organizations) {
+            json.beginObject()
+                    .field("id", organization.organizationId())
+                    .field("year", organization.year())
+                    .endObject();
+        }
+        json.endArray();
+    }
+
     @Override
     public Operation marshalOperation(String serializedOperation) throws SerializingMarshallingException {
-        List<Object> operationAsList;
-        try {
-            operationAsList = (List<Object>) OBJECT_MAPPER.readValue(serializedOperation, TYPE_REFERENCE);
+        try (JsonArrayReader json = new JsonArrayReader(serializedOperation)) {
+            return marshalOperation(json, serializedOperation);
         } catch (IOException e) {
             throw new SerializingMarshallingException(
                     format("Error while parsing serialized results\n%s", serializedOperation), e);
         }
+    }
 
-        String operationTypeName = (String) operationAsList.get(0);
+    /**
+     * Reads the type name and then the parameters of the operation, in the order they were serialized in
+     */
+    private Operation marshalOperation(JsonArrayReader json, String serializedOperation)
+            throws IOException, SerializingMarshallingException {
+        String operationTypeName = json.readString();
         if (operationTypeName.equals(LdbcQuery1.class.getName())) {
-            long personId = ((Number) operationAsList.get(1)).longValue();
-            String firstName = (String) operationAsList.get(2);
-            int limit = ((Number) operationAsList.get(3)).intValue();
+            long personId = json.readLong();
+            String firstName = json.readString();
+            int limit = json.readInt();
             return new LdbcQuery1(personId, firstName, limit);
         }
 
         if (operationTypeName.equals(LdbcQuery2.class.getName())) {
-            long personId = ((Number) operationAsList.get(1)).longValue();
-            Date maxDate = new Date(((Number) operationAsList.get(2)).longValue());
-            int limit = ((Number) operationAsList.get(3)).intValue();
+            long personId = json.readLong();
+            Date maxDate = new Date(json.readLong());
+            int limit = json.readInt();
             return new LdbcQuery2(personId, maxDate, limit);
         }
 
         if (operationTypeName.equals(LdbcQuery3.class.getName())) {
-            long personId = ((Number) operationAsList.get(1)).longValue();
-            String countryXName = (String) operationAsList.get(2);
-            String countryYName = (String) operationAsList.get(3);
-            Date startDate = new Date(((Number) operationAsList.get(4)).longValue());
-            int durationDays = ((Number) operationAsList.get(5)).intValue();
-            int limit = ((Number) operationAsList.get(6)).intValue();
+            long personId = json.readLong();
+            String countryXName = json.readString();
+            String countryYName = json.readString();
+            Date startDate = new Date(json.readLong());
+            int durationDays = json.readInt();
+            int limit = json.readInt();
             return new LdbcQuery3(personId, countryXName, countryYName, startDate, durationDays, limit);
         }
 
         if (operationTypeName.equals(LdbcQuery4.class.getName())) {
-            long personId = ((Number) operationAsList.get(1)).longValue();
-            Date startDate = new Date(((Number) operationAsList.get(2)).longValue());
-            int durationDays = ((Number) operationAsList.get(3)).intValue();
-            int limit = ((Number) operationAsList.get(4)).intValue();
+            long personId = json.readLong();
+            Date startDate = new Date(json.readLong());
+            int durationDays = json.readInt();
+            int limit = json.readInt();
             return new LdbcQuery4(personId, startDate, durationDays, limit);
         }
 
         if (operationTypeName.equals(LdbcQuery5.class.getName())) {
-            long personId = ((Number) operationAsList.get(1)).longValue();
-            Date minDate = new Date(((Number) operationAsList.get(2)).longValue());
-            int limit = ((Number) operationAsList.get(3)).intValue();
+            long personId = json.readLong();
+            Date minDate = new Date(json.readLong());
+            int limit = json.readInt();
             return new LdbcQuery5(personId, minDate, limit);
         }
 
         if (operationTypeName.equals(LdbcQuery6.class.getName())) {
-            long personId = ((Number) operationAsList.get(1)).longValue();
-            String tagName = (String) operationAsList.get(2);
-            int limit = ((Number) operationAsList.get(3)).intValue();
+            long personId = json.readLong();
+            String tagName = json.readString();
+            int limit = json.readInt();
             return new LdbcQuery6(personId, tagName, limit);
         }
 
         if (operationTypeName.equals(LdbcQuery7.class.getName())) {
-            long personId = ((Number) operationAsList.get(1)).longValue();
-            int limit = ((Number) operationAsList.get(2)).intValue();
+            long personId = json.readLong();
+            int limit = json.readInt();
             return new LdbcQuery7(personId, limit);
         }
 
         if (operationTypeName.equals(LdbcQuery8.class.getName())) {
-            long personId = ((Number) operationAsList.get(1)).longValue();
-            int limit = ((Number) operationAsList.get(2)).intValue();
+            long personId = json.readLong();
+            int limit = json.readInt();
             return new LdbcQuery8(personId, limit);
         }
 
         if (operationTypeName.equals(LdbcQuery9.class.getName())) {
-            long personId = ((Number) operationAsList.get(1)).longValue();
-            Date maxDate = new Date(((Number) operationAsList.get(2)).longValue());
-            int limit = ((Number) operationAsList.get(3)).intValue();
+            long personId = json.readLong();
+            Date maxDate = new Date(json.readLong());
+            int limit = json.readInt();
             return new LdbcQuery9(personId, maxDate, limit);
         }
 
         if (operationTypeName.equals(LdbcQuery10.class.getName())) {
-            long personId = ((Number) operationAsList.get(1)).longValue();
-            int month = ((Number) operationAsList.get(2)).intValue();
-            int limit = ((Number) operationAsList.get(3)).intValue();
+            long personId = json.readLong();
+            int month = json.readInt();
+            int limit = json.readInt();
             return new LdbcQuery10(personId, month, limit);
         }
 
         if (operationTypeName.equals(LdbcQuery11.class.getName())) {
-            long personId = ((Number) operationAsList.get(1)).longValue();
-            String countryName = (String) operationAsList.get(2);
-            int workFromYear = ((Number) operationAsList.get(3)).intValue();
-            int limit = ((Number) operationAsList.get(4)).intValue();
+            long personId = json.readLong();
+            String countryName = json.readString();
+            int workFromYear = json.readInt();
+            int limit = json.readInt();
             return new LdbcQuery11(personId, countryName, workFromYear, limit);
         }
 
         if (operationTypeName.equals(LdbcQuery12.class.getName())) {
-            long personId = ((Number) operationAsList.get(1)).longValue();
-            String tagClassName = (String) operationAsList.get(2);
-            int limit = ((Number) operationAsList.get(3)).intValue();
+            long personId = json.readLong();
+            String tagClassName = json.readString();
+            int limit = json.readInt();
             return new LdbcQuery12(personId, tagClassName, limit);
         }
 
         if (operationTypeName.equals(LdbcQuery13.class.getName())) {
-            long person1Id = ((Number) operationAsList.get(1)).longValue();
-            long person2Id = ((Number) operationAsList.get(2)).longValue();
+            long person1Id = json.readLong();
+            long person2Id = json.readLong();
             return new LdbcQuery13(person1Id, person2Id);
         }
 
         if (operationTypeName.equals(LdbcQuery14.class.getName())) {
-            long person1Id = ((Number) operationAsList.get(1)).longValue();
-            long person2Id = ((Number) operationAsList.get(2)).longValue();
+            long person1Id = json.readLong();
+            long person2Id = json.readLong();
             return new LdbcQuery14(person1Id, person2Id);
         }
 
         if (operationTypeName.equals(LdbcShortQuery1PersonProfile.class.getName())) {
-            long personId = ((Number) operationAsList.get(1)).longValue();
+            long personId = json.readLong();
             return new LdbcShortQuery1PersonProfile(personId);
         }
 
         if (operationTypeName.equals(LdbcShortQuery2PersonPosts.class.getName())) {
-            long personId = ((Number) operationAsList.get(1)).longValue();
-            int limit = ((Number) operationAsList.get(2)).intValue();
+            long personId = json.readLong();
+            int limit = json.readInt();
             return new LdbcShortQuery2PersonPosts(personId, limit);
         }
 
         if (operationTypeName.equals(LdbcShortQuery3PersonFriends.class.getName())) {
-            long personId = ((Number) operationAsList.get(1)).longValue();
+            long personId = json.readLong();
             return new LdbcShortQuery3PersonFriends(personId);
         }
 
         if (operationTypeName.equals(LdbcShortQuery4MessageContent.class.getName())) {
-            long messageId = ((Number) operationAsList.get(1)).longValue();
+            long messageId = json.readLong();
             return new LdbcShortQuery4MessageContent(messageId);
         }
 
         if (operationTypeName.equals(LdbcShortQuery5MessageCreator.class.getName())) {
-            long messageId = ((Number) operationAsList.get(1)).longValue();
+            long messageId = json.readLong();
             return new LdbcShortQuery5MessageCreator(messageId);
         }
 
         if (operationTypeName.equals(LdbcShortQuery6MessageForum.class.getName())) {
-            long messageId = ((Number) operationAsList.get(1)).longValue();
+            long messageId = json.readLong();
             return new LdbcShortQuery6MessageForum(messageId);
         }
 
         if (operationTypeName.equals(LdbcShortQuery7MessageReplies.class.getName())) {
-            long messageId = ((Number) operationAsList.get(1)).longValue();
+            long messageId = json.readLong();
             return new LdbcShortQuery7MessageReplies(messageId);
         }
 
         if (operationTypeName.equals(LdbcUpdate1AddPerson.class.getName())) {
-            long personId = ((Number) operationAsList.get(1)).longValue();
-            String personFirstName = (String) operationAsList.get(2);
-            String personLastName = (String) operationAsList.get(3);
-            String gender = (String) operationAsList.get(4);
-            Date birthday = new Date(((Number) operationAsList.get(5)).longValue());
-            Date creationDate = new Date(((Number) operationAsList.get(6)).longValue());
-            String locationIp = (String) operationAsList.get(7);
-            String browserUsed = (String) operationAsList.get(8);
-            long cityId = ((Number) operationAsList.get(9)).longValue();
-            List<String> languages = (List<String>) operationAsList.get(10);
-            List<String> emails = (List<String>) operationAsList.get(11);
-            List<Long> tagIds = Lists.newArrayList(
-                    Iterables.transform((List<Number>) operationAsList.get(12), new Function<Number, Long>() {
-                        @Override
-                        public Long apply(Number number) {
-                            return number.longValue();
-                        }
-                    }));
-            List<Map<String, Object>> studyAtList = (List<Map<String, Object>>) operationAsList.get(13);
-            List<LdbcUpdate1AddPerson.Organization> studyAt = Lists.newArrayList(Iterables
-                    .transform(studyAtList, new Function<Map<String, Object>, LdbcUpdate1AddPerson.Organization>() {
-                        @Override
-                        public LdbcUpdate1AddPerson.Organization apply(Map<String, Object> input) {
-                            long organizationId = ((Number) input.get("id")).longValue();
-                            int year = ((Number) input.get("year")).intValue();
-                            return new LdbcUpdate1AddPerson.Organization(organizationId, year);
-                        }
-                    }));
-            List<Map<String, Object>> workAtList = (List<Map<String, Object>>) operationAsList.get(14);
-            List<LdbcUpdate1AddPerson.Organization> workAt = Lists.newArrayList(Iterables
-                    .transform(workAtList, new Function<Map<String, Object>, LdbcUpdate1AddPerson.Organization>() {
-                        @Override
-                        public LdbcUpdate1AddPerson.Organization apply(Map<String, Object> input) {
-                            long organizationId = ((Number) input.get("id")).longValue();
-                            int year = ((Number) input.get("year")).intValue();
-                            return new LdbcUpdate1AddPerson.Organization(organizationId, year);
-                        }
-                    }));
+            long personId = json.readLong();
+            String personFirstName = json.readString();
+            String personLastName = json.readString();
+            String gender = json.readString();
+            Date birthday = new Date(json.readLong());
+            Date creationDate = new Date(json.readLong());
+            String locationIp = json.readString();
+            String browserUsed = json.readString();
+            long cityId = json.readLong();
+            List<String> languages = json.readStrings();
+            List<String> emails = json.readStrings();
+            List<Long> tagIds = json.readLongs();
+            List<LdbcUpdate1AddPerson.Organization> studyAt = readOrganizations(json);
+            List<LdbcUpdate1AddPerson.Organization> workAt = readOrganizations(json);
 
             return new LdbcUpdate1AddPerson(personId, personFirstName, personLastName, gender, birthday, creationDate,
                     locationIp, browserUsed, cityId, languages, emails, tagIds, studyAt, workAt);
         }
 
         if (operationTypeName.equals(LdbcUpdate2AddPostLike.class.getName())) {
-            long personId = ((Number) operationAsList.get(1)).longValue();
-            long postId = ((Number) operationAsList.get(2)).longValue();
-            Date creationDate = new Date(((Number) operationAsList.get(3)).longValue());
+            long personId = json.readLong();
+            long postId = json.readLong();
+            Date creationDate = new Date(json.readLong());
 
             return new LdbcUpdate2AddPostLike(personId, postId, creationDate);
         }
 
         if (operationTypeName.equals(LdbcUpdate3AddCommentLike.class.getName())) {
-            long personId = ((Number) operationAsList.get(1)).longValue();
-            long commentId = ((Number) operationAsList.get(2)).longValue();
-            Date creationDate = new Date(((Number) operationAsList.get(3)).longValue());
+            long personId = json.readLong();
+            long commentId = json.readLong();
+            Date creationDate = new Date(json.readLong());
 
             return new LdbcUpdate3AddCommentLike(personId, commentId, creationDate);
         }
 
         if (operationTypeName.equals(LdbcUpdate4AddForum.class.getName())) {
-            long forumId = ((Number) operationAsList.get(1)).longValue();
-            String forumTitle = (String) operationAsList.get(2);
-            Date creationDate = new Date(((Number) operationAsList.get(3)).longValue());
-            long moderatorPersonId = ((Number) operationAsList.get(4)).longValue();
-            List<Long> tagIds = Lists.newArrayList(
-                    Iterables.transform((List<Number>) operationAsList.get(5), new Function<Number, Long>() {
-                        @Override
-                        public Long apply(Number number) {
-                            return number.longValue();
-                        }
-                    }));
+            long forumId = json.readLong();
+            String forumTitle = json.readString();
+            Date creationDate = new Date(json.readLong());
+            long moderatorPersonId = json.readLong();
+            List<Long> tagIds = json.readLongs();
 
             return new LdbcUpdate4AddForum(forumId, forumTitle, creationDate, moderatorPersonId, tagIds);
         }
 
 
         if (operationTypeName.equals(LdbcUpdate5AddForumMembership.class.getName())) {
-            long forumId = ((Number) operationAsList.get(1)).longValue();
-            long personId = ((Number) operationAsList.get(2)).longValue();
-            Date creationDate = new Date(((Number) operationAsList.get(3)).longValue());
+            long forumId = json.readLong();
+            long personId = json.readLong();
+            Date creationDate = new Date(json.readLong());
 
             return new LdbcUpdate5AddForumMembership(forumId, personId, creationDate);
         }
 
         if (operationTypeName.equals(LdbcUpdate6AddPost.class.getName())) {
-            long postId = ((Number) operationAsList.get(1)).longValue();
-            String imageFile = (String) operationAsList.get(2);
-            Date creationDate = new Date(((Number) operationAsList.get(3)).longValue());
-            String locationIp = (String) operationAsList.get(4);
-            String browserUsed = (String) operationAsList.get(5);
-            String language = (String) operationAsList.get(6);
-            String content = (String) operationAsList.get(7);
-            int length = ((Number) operationAsList.get(8)).intValue();
-            long authorPersonId = ((Number) operationAsList.get(9)).longValue();
-            long forumId = ((Number) operationAsList.get(10)).longValue();
-            long countryId = ((Number) operationAsList.get(11)).longValue();
-            List<Long> tagIds = Lists.newArrayList(
-                    Iterables.transform((List<Number>) operationAsList.get(12), new Function<Number, Long>() {
-                        @Override
-                        public Long apply(Number number) {
-                            return number.longValue();
-                        }
-                    }));
+            long postId = json.readLong();
+            String imageFile = json.readString();
+            Date creationDate = new Date(json.readLong());
+            String locationIp = json.readString();
+            String browserUsed = json.readString();
+            String language = json.readString();
+            String content = json.readString();
+            int length = json.readInt();
+            long authorPersonId = json.readLong();
+            long forumId = json.readLong();
+            long countryId = json.readLong();
+            List<Long> tagIds = json.readLongs();
 
             return new LdbcUpdate6AddPost(postId, imageFile, creationDate, locationIp, browserUsed, language, content,
                     length, authorPersonId, forumId, countryId, tagIds);
         }
 
         if (operationTypeName.equals(LdbcUpdate7AddComment.class.getName())) {
-            long commentId = ((Number) operationAsList.get(1)).longValue();
-            Date creationDate = new Date(((Number) operationAsList.get(2)).longValue());
-            String locationIp = (String) operationAsList.get(3);
-            String browserUsed = (String) operationAsList.get(4);
-            String content = (String) operationAsList.get(5);
-            int length = ((Number) operationAsList.get(6)).intValue();
-            long authorPersonId = ((Number) operationAsList.get(7)).longValue();
-            long countryId = ((Number) operationAsList.get(8)).longValue();
-            long replyToPostId = ((Number) operationAsList.get(9)).longValue();
-            long replyToCommentId = ((Number) operationAsList.get(10)).longValue();
-            List<Long> tagIds = Lists.newArrayList(
-                    Iterables.transform((List<Number>) operationAsList.get(11), new Function<Number, Long>() {
-                        @Override
-                        public Long apply(Number number) {
-                            return number.longValue();
-                        }
-                    }));
+            long commentId = json.readLong();
+            Date creationDate = new Date(json.readLong());
+            String locationIp = json.readString();
+            String browserUsed = json.readString();
+            String content = json.readString();
+            int length = json.readInt();
+            long authorPersonId = json.readLong();
+            long countryId = json.readLong();
+            long replyToPostId = json.readLong();
+            long replyToCommentId = json.readLong();
+            List<Long> tagIds = json.readLongs();
 
             return new LdbcUpdate7AddComment(commentId, creationDate, locationIp, browserUsed, content, length,
                     authorPersonId, countryId, replyToPostId, replyToCommentId, tagIds);
         }
 
         if (operationTypeName.equals(LdbcUpdate8AddFriendship.class.getName())) {
-            long person1Id = ((Number) operationAsList.get(1)).longValue();
-            long person2Id = ((Number) operationAsList.get(2)).longValue();
-            Date creationDate = new Date(((Number) operationAsList.get(3)).longValue());
+            long person1Id = json.readLong();
+            long person2Id = json.readLong();
+            Date creationDate = new Date(json.readLong());
 
             return new LdbcUpdate8AddFriendship(person1Id, person2Id, creationDate);
         }
 
         if (operationTypeName.equals(LdbcDelete1RemovePerson.class.getName())) {
-            long person1Id = ((Number) operationAsList.get(1)).longValue();
+            long person1Id = json.readLong();
 
             return new LdbcDelete1RemovePerson(person1Id);
         }
@@ -2543,6 +2177,30 @@ public class LdbcSnbInteractiveWorkload extends Workload {
                         serializedOperation));
     }
 
+    private static List<LdbcUpdate1AddPerson.Organization> readOrganizations(JsonArrayReader json) throws IOException {
+        List<LdbcUpdate1AddPerson.Organization> organizations = new ArrayList<>();
+        json.beginArray();
+        while (json.hasNextElement()) {
+            long organizationId = 0;
+            int year = 0;
+            json.beginObject();
+            for (String field = json.nextFieldName(); null != field; field = json.nextFieldName()) {
+                switch (field) {
+                    case "id":
+                        organizationId = json.readLong();
+                        break;
+                    case "year":
+                        year = json.readInt();
+                        break;
+                    default:
+                        json.skipValue();
+                }
+            }
+            organizations.add(new LdbcUpdate1AddPerson.Organization(organizationId, year));
+        }
+        return organizations;
+    }
+
     private static final Equator<LdbcQuery14Result> LDBC_QUERY_14_RESULT_EQUATOR = new Equator<LdbcQuery14Result>() {
         @Override
         public boolean equate(LdbcQuery14Result result1, LdbcQuery14Result result2) {
@@ -47,7 +47,9 @@ public abstract class LdbcSnbInteractiveWorkloadConfiguration {
     public enum UpdateStreamParser {
         REGEX,
         CHAR_SEEKER,
-        CHAR_SEEKER_THREAD
+        CHAR_SEEKER_THREAD,
+        // reads binary update streams created from csv update streams by the CONVERT_UPDATE_STREAMS driver mode
+        BINARY
     }
 
     public final static String UPDATE_STREAM_PARSER = LDBC_SNB_INTERACTIVE_PARAM_NAME_PREFIX + "update_parser";
@@ -551,6 +553,14 @@ public abstract class LdbcSnbInteractiveWorkloadConfiguration {
         return FileUtils.filesWithSuffixInDirectory(directory, "_person.csv");
     }
 
+    public static List<File> forumBinaryUpdateFilesInDirectory(File directory) {
+        return FileUtils.filesWithSuffixInDirectory(directory, "_forum" + WriteEventStreamWriterBinary.FILE_SUFFIX);
+    }
+
+    public static List<File> personBinaryUpdateFilesInDirectory(File directory) {
+        return FileUtils.filesWithSuffixInDirectory(directory, "_person" + WriteEventStreamWriterBinary.FILE_SUFFIX);
+    }
+
 //    public static List<File> deleteFilesInDirectory(File directory) {
 //        return FileUtils.filesWithSuffixInDirectory(directory, "_deletes.csv");
 //
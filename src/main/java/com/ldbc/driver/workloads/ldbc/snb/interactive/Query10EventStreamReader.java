@@ -7,6 +7,8 @@ import com.ldbc.driver.csv.charseeker.Extractors;
 import com.ldbc.driver.csv.charseeker.Mark;
 import com.ldbc.driver.generator.CsvEventStreamReaderBasicCharSeeker;
 import com.ldbc.driver.generator.GeneratorException;
+import com.ldbc.driver.generator.ObjectArrayParameterCursor;
+import com.ldbc.driver.generator.ParameterCursor;
 
 import java.io.IOException;
 import java.util.Iterator;
@@ -15,26 +17,31 @@ import static java.lang.String.format;
 
 public class Query10EventStreamReader implements Iterator<Operation>
 {
-    private final Iterator<Object[]> csvRows;
+    private final ParameterCursor parameters;
 
     public Query10EventStreamReader( Iterator<Object[]> csvRows )
     {
-        this.csvRows = csvRows;
+        this( new ObjectArrayParameterCursor( csvRows ) );
+    }
+
+    public Query10EventStreamReader( ParameterCursor parameters )
+    {
+        this.parameters = parameters;
     }
 
     @Override
     public boolean hasNext()
     {
-        return csvRows.hasNext();
+        return parameters.hasNext();
     }
 
     @Override
     public Operation next()
     {
-        Object[] rowAsObjects = csvRows.next();
+        parameters.advance();
         Operation operation = new LdbcQuery10(
-                (long) rowAsObjects[0],
-                (int) rowAsObjects[1],
+                parameters.longAt( 0 ),
+                parameters.intAt( 1 ),
                 LdbcQuery10.DEFAULT_LIMIT
         );
         operation.setDependencyTimeStamp( 0 );
@@ -7,6 +7,8 @@ import com.ldbc.driver.csv.charseeker.Extractors;
 import com.ldbc.driver.csv.charseeker.Mark;
 import com.ldbc.driver.generator.CsvEventStreamReaderBasicCharSeeker;
 import com.ldbc.driver.generator.GeneratorException;
+import com.ldbc.driver.generator.ObjectArrayParameterCursor;
+import com.ldbc.driver.generator.ParameterCursor;
 
 import java.io.IOException;
 import java.util.Iterator;
@@ -15,26 +17,31 @@ import static java.lang.String.format;
 
 public class Query13EventStreamReader implements Iterator<Operation>
 {
-    private final Iterator<Object[]> csvRows;
+    private final ParameterCursor parameters;
 
     public Query13EventStreamReader( Iterator<Object[]> csvRows )
     {
-        this.csvRows = csvRows;
+        this( new ObjectArrayParameterCursor( csvRows ) );
+    }
+
+    public Query13EventStreamReader( ParameterCursor parameters )
+    {
+        this.parameters = parameters;
     }
 
     @Override
     public boolean hasNext()
     {
-        return csvRows.hasNext();
+        return parameters.hasNext();
     }
 
     @Override
     public Operation next()
     {
-        Object[] rowAsObjects = csvRows.next();
+        parameters.advance();
         Operation operation = new LdbcQuery13(
-                (long) rowAsObjects[0],
-                (long) rowAsObjects[1]
+                parameters.longAt( 0 ),
+                parameters.longAt( 1 )
         );
         operation.setDependencyTimeStamp( 0 );
         return operation;
@@ -0,0 +1,295 @@
+package com.ldbc.driver.workloads.ldbc.snb.interactive;
+
+import com.google.common.base.Charsets;
+import com.ldbc.driver.Operation;
+import com.ldbc.driver.generator.GeneratorException;
+
+import java.io.Closeable;
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+import static com.ldbc.driver.workloads.ldbc.snb.interactive.WriteEventStreamWriterBinary.*;
+import static java.lang.String.format;
+
+/**
+ * Reads update operations from the binary update stream format written by WriteEventStreamWriterBinary.
+ * <p>
+ * The file is memory mapped, one segment at a time, and operations are decoded lazily, one per call to next(),
+ * directly from the mapped buffer: numeric fields are read in place, without intermediate strings or arrays.
+ */
+public class WriteEventStreamReaderBinary implements Iterator<Operation>, Closeable {
+    static final long DEFAULT_SEGMENT_SIZE = 256 * 1024 * 1024;
+    private static final int HEADER_SIZE = 8;
+
+    private final File file;
+    private final FileChannel channel;
+    private final long fileSize;
+    private final long segmentSize;
+    private MappedByteBuffer buffer;
+    // position in file of the first byte of buffer
+    private long bufferOffset;
+    private byte[] stringBytes = new byte[256];
+
+    public static WriteEventStreamReaderBinary create(File file) throws IOException {
+        return new WriteEventStreamReaderBinary(file, DEFAULT_SEGMENT_SIZE);
+    }
+
+    /**
+     * Returns reader that starts at the operation at given offset, as returned by offsetsOfFirstOperationsFrom()
+     */
+    public static WriteEventStreamReaderBinary create(File file, long offset) throws IOException {
+        WriteEventStreamReaderBinary reader = new WriteEventStreamReaderBinary(file, DEFAULT_SEGMENT_SIZE);
+        reader.skipTo(offset);
+        return reader;
+    }
+
+    /**
+     * Returns, for each of the given time stamps, the offset in file of the first operation that is scheduled at or
+     * after it, or the end of file if there is none. Operations are expected in scheduled start time order, as written
+     * by WriteEventStreamWriterBinary, and only their record headers are read.
+     *
+     * @param timeStamps time stamps, in ascending order
+     * @return offsets, or null if operations before the last of them are not in scheduled start time order
+     */
+    public static long[] offsetsOfFirstOperationsFrom(File file, long[] timeStamps) throws IOException {
+        try (WriteEventStreamReaderBinary reader = new WriteEventStreamReaderBinary(file, DEFAULT_SEGMENT_SIZE)) {
+            long[] offsets = new long[timeStamps.length];
+            long previousScheduledStartTimeAsMilli = Long.MIN_VALUE;
+            int i = 0;
+            while (i < timeStamps.length && reader.hasNext()) {
+                long offset = reader.bufferOffset + reader.buffer.position();
+                long scheduledStartTimeAsMilli = reader.skipOperation();
+                if (scheduledStartTimeAsMilli < previousScheduledStartTimeAsMilli) {
+                    return null;
+                }
+                previousScheduledStartTimeAsMilli = scheduledStartTimeAsMilli;
+                while (i < timeStamps.length && scheduledStartTimeAsMilli >= timeStamps[i]) {
+                    offsets[i++] = offset;
+                }
+            }
+            while (i < timeStamps.length) {
+                offsets[i++] = reader.fileSize;
+            }
+            return offsets;
+        }
+    }
+
+    WriteEventStreamReaderBinary(File file, long segmentSize) throws IOException {
+        this.file = file;
+        this.channel = new RandomAccessFile(file, "r").getChannel();
+        this.fileSize = channel.size();
+        this.segmentSize = segmentSize;
+        if (fileSize < HEADER_SIZE) {
+            channel.close();
+            throw new IOException(format("Not a binary update stream, file is too short: %s", file.getAbsolutePath()));
+        }
+        map(0, HEADER_SIZE);
+        int magic = buffer.getInt();
+        int version = buffer.getInt();
+        if (MAGIC != magic || VERSION != version) {
+            channel.close();
+            throw new IOException(format("Not a binary update stream of version %s: %s\nMagic: %s\nVersion: %s",
+                    VERSION, file.getAbsolutePath(), Integer.toHexString(magic), version));
+        }
+    }
+
+    @Override
+    public boolean hasNext() {
+        return bufferOffset + buffer.position() < fileSize;
+    }
+
+    @Override
+    public Operation next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException(format("No more operations in: %s", file.getAbsolutePath()));
+        }
+        try {
+            ensureRemaining(4);
+            int recordLength = buffer.getInt();
+            ensureRemaining(recordLength);
+            return decode();
+        } catch (IOException e) {
+            throw new GeneratorException(format("Error reading binary update stream: %s", file.getAbsolutePath()), e);
+        }
+    }
+
+    @Override
+    public void remove() {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public void close() throws IOException {
+        channel.close();
+    }
+
+    private void skipTo(long offset) throws IOException {
+        if (offset < HEADER_SIZE || offset > fileSize) {
+            channel.close();
+            throw new IOException(format("Offset %s is outside of binary update stream: %s",
+                    offset, file.getAbsolutePath()));
+        }
+        // nothing is mapped until the first operation is read
+        map(offset, 0);
+    }
+
+    // advances beyond the next operation, without decoding it, and returns its scheduled start time
+    private long skipOperation() throws IOException {
+        ensureRemaining(4);
+        int recordLength = buffer.getInt();
+        ensureRemaining(recordLength);
+        int recordStart = buffer.position();
+        buffer.getInt();
+        long scheduledStartTimeAsMilli = buffer.getLong();
+        buffer.position(recordStart + recordLength);
+        return scheduledStartTimeAsMilli;
+    }
+
+    private Operation decode() {
+        int eventType = buffer.getInt();
+        long scheduledStartTimeAsMilli = buffer.getLong();
+        long dependencyTimeAsMilli = buffer.getLong();
+        Operation operation;
+        switch (eventType) {
+            case ADD_PERSON:
+                operation = new LdbcUpdate1AddPerson(
+                        buffer.getLong(),
+                        readString(),
+                        readString(),
+                        readString(),
+                        new Date(buffer.getLong()),
+                        new Date(buffer.getLong()),
+                        readString(),
+                        readString(),
+                        buffer.getLong(),
+                        readStrings(),
+                        readStrings(),
+                        readLongs(),
+                        readOrganizations(),
+                        readOrganizations());
+                break;
+            case ADD_LIKE_POST:
+                operation = new LdbcUpdate2AddPostLike(buffer.getLong(), buffer.getLong(), new Date(buffer.getLong()));
+                break;
+            case ADD_LIKE_COMMENT:
+                operation = new LdbcUpdate3AddCommentLike(
+                        buffer.getLong(), buffer.getLong(), new Date(buffer.getLong()));
+                break;
+            case ADD_FORUM:
+                operation = new LdbcUpdate4AddForum(
+                        buffer.getLong(),
+                        readString(),
+                        new Date(buffer.getLong()),
+                        buffer.getLong(),
+                        readLongs());
+                break;
+            case ADD_FORUM_MEMBERSHIP:
+                operation = new LdbcUpdate5AddForumMembership(
+                        buffer.getLong(), buffer.getLong(), new Date(buffer.getLong()));
+                break;
+            case ADD_POST:
+                operation = new LdbcUpdate6AddPost(
+                        buffer.getLong(),
+                        readString(),
+                        new Date(buffer.getLong()),
+                        readString(),
+                        readString(),
+                        readString(),
+                        readString(),
+                        buffer.getInt(),
+                        buffer.getLong(),
+                        buffer.getLong(),
+                        buffer.getLong(),
+                        readLongs());
+                break;
+            case ADD_COMMENT:
+                operation = new LdbcUpdate7AddComment(
+                        buffer.getLong(),
+                        new Date(buffer.getLong()),
+                        readString(),
+                        readString(),
+                        readString(),
+                        buffer.getInt(),
+                        buffer.getLong(),
+                        buffer.getLong(),
+                        buffer.getLong(),
+                        buffer.getLong(),
+                        readLongs());
+                break;
+            case ADD_FRIENDSHIP:
+                operation = new LdbcUpdate8AddFriendship(buffer.getLong(), buffer.getLong(), new Date(buffer.getLong()));
+                break;
+            case DELETE_PERSON:
+                operation = new LdbcDelete1RemovePerson(buffer.getLong());
+                break;
+            default:
+                throw new GeneratorException(format("No decoder found for event type %s in %s",
+                        eventType, file.getAbsolutePath()));
+        }
+        operation.setScheduledStartTimeAsMilli(scheduledStartTimeAsMilli);
+        operation.setTimeStamp(scheduledStartTimeAsMilli);
+        operation.setDependencyTimeStamp(dependencyTimeAsMilli);
+        return operation;
+    }
+
+    private String readString() {
+        int length = buffer.getInt();
+        if (length > stringBytes.length) {
+            stringBytes = new byte[Math.max(length, stringBytes.length * 2)];
+        }
+        buffer.get(stringBytes, 0, length);
+        return new String(stringBytes, 0, length, Charsets.UTF_8);
+    }
+
+    private List<String> readStrings() {
+        int count = buffer.getInt();
+        List<String> values = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            values.add(readString());
+        }
+        return values;
+    }
+
+    private List<Long> readLongs() {
+        int count = buffer.getInt();
+        List<Long> values = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            values.add(buffer.getLong());
+        }
+        return values;
+    }
+
+    private List<LdbcUpdate1AddPerson.Organization> readOrganizations() {
+        int count = buffer.getInt();
+        List<LdbcUpdate1AddPerson.Organization> organizations = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            organizations.add(new LdbcUpdate1AddPerson.Organization(buffer.getLong(), buffer.getInt()));
+        }
+        return organizations;
+    }
+
+    // maps the next segment, starting at the current position, when fewer than byteCount bytes remain mapped
+    private void ensureRemaining(int byteCount) throws IOException {
+        if (buffer.remaining() >= byteCount) {
+            return;
+        }
+        long position = bufferOffset + buffer.position();
+        if (fileSize - position < byteCount) {
+            throw new IOException(format("Binary update stream is truncated at byte %s", position));
+        }
+        map(position, Math.max(segmentSize, byteCount));
+    }
+
+    private void map(long position, long size) throws IOException {
+        bufferOffset = position;
+        buffer = channel.map(FileChannel.MapMode.READ_ONLY, position, Math.min(size, fileSize - position));
+    }
+}
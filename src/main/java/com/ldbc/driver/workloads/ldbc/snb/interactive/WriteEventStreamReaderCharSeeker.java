@@ -9,9 +9,15 @@ import com.ldbc.driver.generator.CsvEventStreamReaderTimedTypedCharSeeker;
 import com.ldbc.driver.generator.CsvEventStreamReaderTimedTypedCharSeeker.EventDecoder;
 import com.ldbc.driver.generator.GeneratorException;
 
+import java.io.BufferedInputStream;
+import java.io.File;
+import java.io.FileInputStream;
 import java.io.IOException;
+import java.io.InputStream;
 import java.util.*;
 
+import static java.lang.String.format;
+
 public class WriteEventStreamReaderCharSeeker {
     public static Iterator<Operation> create(CharSeeker charSeeker, Extractors extractors, int columnDelimiter) {
         Map<Integer, EventDecoder<Operation>> decoders = new HashMap<>();
@@ -27,6 +33,60 @@ public class WriteEventStreamReaderCharSeeker {
         return new CsvEventStreamReaderTimedTypedCharSeeker<>(charSeeker, extractors, decoders, columnDelimiter);
     }
 
+    /**
+     * Returns, for each of the given time stamps, the byte offset in file of the first operation that is scheduled at
+     * or after it, or the offset at which operations end if there is none. Operations are expected one per line, in
+     * scheduled start time order, and only the scheduled start time column of each line is parsed.
+     *
+     * @param timeStamps time stamps, in ascending order
+     * @return offsets, or null if operations before the last of them are not in scheduled start time order
+     */
+    public static long[] offsetsOfFirstOperationsFrom(File file, long[] timeStamps, int columnDelimiter)
+            throws IOException {
+        long[] offsets = new long[timeStamps.length];
+        try (InputStream in = new BufferedInputStream(new FileInputStream(file), 1024 * 1024)) {
+            long previousScheduledStartTimeAsMilli = Long.MIN_VALUE;
+            long offset = 0;
+            int i = 0;
+            while (i < timeStamps.length) {
+                long scheduledStartTimeAsMilli = 0;
+                int digitCount = 0;
+                int b;
+                while ((b = in.read()) >= '0' && b <= '9') {
+                    scheduledStartTimeAsMilli = scheduledStartTimeAsMilli * 10 + (b - '0');
+                    digitCount++;
+                }
+                if (0 == digitCount) {
+                    // same as the reader, an empty first column means operations have ended
+                    break;
+                }
+                if (columnDelimiter != b) {
+                    throw new IOException(format("Invalid scheduled start time at byte %s of %s",
+                            offset, file.getAbsolutePath()));
+                }
+                if (scheduledStartTimeAsMilli < previousScheduledStartTimeAsMilli) {
+                    return null;
+                }
+                previousScheduledStartTimeAsMilli = scheduledStartTimeAsMilli;
+                while (i < timeStamps.length && scheduledStartTimeAsMilli >= timeStamps[i]) {
+                    offsets[i++] = offset;
+                }
+                long lineLength = digitCount + 1;
+                while (-1 != (b = in.read())) {
+                    lineLength++;
+                    if ('\n' == b) {
+                        break;
+                    }
+                }
+                offset += lineLength;
+            }
+            while (i < timeStamps.length) {
+                offsets[i++] = offset;
+            }
+        }
+        return offsets;
+    }
+
     public static class EventDecoderDelete implements EventDecoder<Operation> {
 
         @Override
@@ -0,0 +1,260 @@
+package com.ldbc.driver.workloads.ldbc.snb.interactive;
+
+import com.google.common.base.Charsets;
+import com.ldbc.driver.Operation;
+import com.ldbc.driver.csv.charseeker.BufferedCharSeeker;
+import com.ldbc.driver.csv.charseeker.Extractors;
+import com.ldbc.driver.csv.charseeker.Readables;
+
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+
+import static java.lang.String.format;
+
+/**
+ * Writes update operations in the binary update stream format read by WriteEventStreamReaderBinary.
+ * <p>
+ * File: MAGIC (int), VERSION (int), followed by one record per operation.
+ * Record: length in bytes of the rest of the record (int), event type (int, same codes as the csv format),
+ * scheduled start time (long), dependency time (long), followed by the fields of the operation, in csv column order.
+ * Fields: long/int/date as long/int/long, string as length in bytes (int) followed by UTF-8 bytes,
+ * list as element count (int) followed by elements, organization as organization id (long) followed by year (int).
+ * All values are big-endian.
+ */
+public class WriteEventStreamWriterBinary implements Closeable {
+    public static final int MAGIC = 0x4C555053;
+    public static final int VERSION = 1;
+    public static final String FILE_SUFFIX = ".bin";
+    static final String CSV_FILE_SUFFIX = ".csv";
+
+    static final int ADD_PERSON = 1;
+    static final int ADD_LIKE_POST = 2;
+    static final int ADD_LIKE_COMMENT = 3;
+    static final int ADD_FORUM = 4;
+    static final int ADD_FORUM_MEMBERSHIP = 5;
+    static final int ADD_POST = 6;
+    static final int ADD_COMMENT = 7;
+    static final int ADD_FRIENDSHIP = 8;
+    static final int DELETE_PERSON = 9;
+
+    private final DataOutputStream out;
+    private final ByteArrayOutputStream recordBytes = new ByteArrayOutputStream(1024);
+    private final DataOutputStream record = new DataOutputStream(recordBytes);
+
+    public WriteEventStreamWriterBinary(File binaryFile) throws IOException {
+        this.out = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(binaryFile), 1024 * 1024));
+        out.writeInt(MAGIC);
+        out.writeInt(VERSION);
+    }
+
+    /**
+     * Converts every person & forum csv update stream in a directory to the binary format, writing the binary
+     * update streams to the output directory, with the same names and FILE_SUFFIX instead of .csv
+     *
+     * @return number of operations converted per csv update stream
+     */
+    public static List<Long> convertDirectory(File updatesDirectory, File outputDirectory) throws IOException {
+        List<File> csvFiles = new ArrayList<>();
+        csvFiles.addAll(LdbcSnbInteractiveWorkloadConfiguration.personUpdateFilesInDirectory(updatesDirectory));
+        csvFiles.addAll(LdbcSnbInteractiveWorkloadConfiguration.forumUpdateFilesInDirectory(updatesDirectory));
+        List<Long> operationCounts = new ArrayList<>();
+        for (File csvFile : csvFiles) {
+            operationCounts.add(convert(csvFile, binaryFileFor(csvFile, outputDirectory)));
+        }
+        return operationCounts;
+    }
+
+    /**
+     * Converts one csv update stream to the binary format
+     *
+     * @return number of operations converted
+     */
+    public static long convert(File csvFile, File binaryFile) throws IOException {
+        int bufferSize = 1024 * 1024;
+        File tempBinaryFile = new File(binaryFile.getParentFile(), binaryFile.getName() + ".tmp");
+        long operationCount = 0;
+        try (BufferedCharSeeker charSeeker = new BufferedCharSeeker(
+                Readables.wrap(new InputStreamReader(new FileInputStream(csvFile), Charsets.UTF_8)),
+                bufferSize);
+             WriteEventStreamWriterBinary writer = new WriteEventStreamWriterBinary(tempBinaryFile)) {
+            Iterator<Operation> operations =
+                    WriteEventStreamReaderCharSeeker.create(charSeeker, new Extractors(';', ','), '|');
+            while (operations.hasNext()) {
+                writer.write(operations.next());
+                operationCount++;
+            }
+        }
+        Files.move(tempBinaryFile.toPath(), binaryFile.toPath(), StandardCopyOption.REPLACE_EXISTING);
+        return operationCount;
+    }
+
+    public static File binaryFileFor(File csvFile, File outputDirectory) {
+        String name = csvFile.getName();
+        if (name.endsWith(CSV_FILE_SUFFIX)) {
+            name = name.substring(0, name.length() - CSV_FILE_SUFFIX.length());
+        }
+        return new File(outputDirectory, name + FILE_SUFFIX);
+    }
+
+    public void write(Operation operation) throws IOException {
+        recordBytes.reset();
+        switch (operation.type()) {
+            case LdbcUpdate1AddPerson.TYPE: {
+                LdbcUpdate1AddPerson addPerson = (LdbcUpdate1AddPerson) operation;
+                writeHeader(ADD_PERSON, operation);
+                record.writeLong(addPerson.personId());
+                writeString(addPerson.personFirstName());
+                writeString(addPerson.personLastName());
+                writeString(addPerson.gender());
+                record.writeLong(addPerson.birthday().getTime());
+                record.writeLong(addPerson.creationDate().getTime());
+                writeString(addPerson.locationIp());
+                writeString(addPerson.browserUsed());
+                record.writeLong(addPerson.cityId());
+                writeStrings(addPerson.languages());
+                writeStrings(addPerson.emails());
+                writeLongs(addPerson.tagIds());
+                writeOrganizations(addPerson.studyAt());
+                writeOrganizations(addPerson.workAt());
+                break;
+            }
+            case LdbcUpdate2AddPostLike.TYPE: {
+                LdbcUpdate2AddPostLike addPostLike = (LdbcUpdate2AddPostLike) operation;
+                writeHeader(ADD_LIKE_POST, operation);
+                record.writeLong(addPostLike.personId());
+                record.writeLong(addPostLike.postId());
+                record.writeLong(addPostLike.creationDate().getTime());
+                break;
+            }
+            case LdbcUpdate3AddCommentLike.TYPE: {
+                LdbcUpdate3AddCommentLike addCommentLike = (LdbcUpdate3AddCommentLike) operation;
+                writeHeader(ADD_LIKE_COMMENT, operation);
+                record.writeLong(addCommentLike.personId());
+                record.writeLong(addCommentLike.commentId());
+                record.writeLong(addCommentLike.creationDate().getTime());
+                break;
+            }
+            case LdbcUpdate4AddForum.TYPE: {
+                LdbcUpdate4AddForum addForum = (LdbcUpdate4AddForum) operation;
+                writeHeader(ADD_FORUM, operation);
+                record.writeLong(addForum.forumId());
+                writeString(addForum.forumTitle());
+                record.writeLong(addForum.creationDate().getTime());
+                record.writeLong(addForum.moderatorPersonId());
+                writeLongs(addForum.tagIds());
+                break;
+            }
+            case LdbcUpdate5AddForumMembership.TYPE: {
+                LdbcUpdate5AddForumMembership addForumMembership = (LdbcUpdate5AddForumMembership) operation;
+                writeHeader(ADD_FORUM_MEMBERSHIP, operation);
+                record.writeLong(addForumMembership.forumId());
+                record.writeLong(addForumMembership.personId());
+                record.writeLong(addForumMembership.joinDate().getTime());
+                break;
+            }
+            case LdbcUpdate6AddPost.TYPE: {
+                LdbcUpdate6AddPost addPost = (LdbcUpdate6AddPost) operation;
+                writeHeader(ADD_POST, operation);
+                record.writeLong(addPost.postId());
+                writeString(addPost.imageFile());
+                record.writeLong(addPost.creationDate().getTime());
+                writeString(addPost.locationIp());
+                writeString(addPost.browserUsed());
+                writeString(addPost.language());
+                writeString(addPost.content());
+                record.writeInt(addPost.length());
+                record.writeLong(addPost.authorPersonId());
+                record.writeLong(addPost.forumId());
+                record.writeLong(addPost.countryId());
+                writeLongs(addPost.tagIds());
+                break;
+            }
+            case LdbcUpdate7AddComment.TYPE: {
+                LdbcUpdate7AddComment addComment = (LdbcUpdate7AddComment) operation;
+                writeHeader(ADD_COMMENT, operation);
+                record.writeLong(addComment.commentId());
+                record.writeLong(addComment.creationDate().getTime());
+                writeString(addComment.locationIp());
+                writeString(addComment.browserUsed());
+                writeString(addComment.content());
+                record.writeInt(addComment.length());
+                record.writeLong(addComment.authorPersonId());
+                record.writeLong(addComment.countryId());
+                record.writeLong(addComment.replyToPostId());
+                record.writeLong(addComment.replyToCommentId());
+                writeLongs(addComment.tagIds());
+                break;
+            }
+            case LdbcUpdate8AddFriendship.TYPE: {
+                LdbcUpdate8AddFriendship addFriendship = (LdbcUpdate8AddFriendship) operation;
+                writeHeader(ADD_FRIENDSHIP, operation);
+                record.writeLong(addFriendship.person1Id());
+                record.writeLong(addFriendship.person2Id());
+                record.writeLong(addFriendship.creationDate().getTime());
+                break;
+            }
+            case LdbcDelete1RemovePerson.TYPE: {
+                LdbcDelete1RemovePerson removePerson = (LdbcDelete1RemovePerson) operation;
+                writeHeader(DELETE_PERSON, operation);
+                record.writeLong(removePerson.personId());
+                break;
+            }
+            default:
+                throw new IOException(format("Unsupported update operation type: %s", operation.getClass().getName()));
+        }
+        record.flush();
+        out.writeInt(recordBytes.size());
+        recordBytes.writeTo(out);
+    }
+
+    @Override
+    public void close() throws IOException {
+        out.close();
+    }
+
+    private void writeHeader(int eventType, Operation operation) throws IOException {
+        record.writeInt(eventType);
+        record.writeLong(operation.scheduledStartTimeAsMilli());
+        record.writeLong(operation.dependencyTimeStamp());
+    }
+
+    private void writeString(String value) throws IOException {
+        byte[] bytes = (null == value) ? new byte[0] : value.getBytes(Charsets.UTF_8);
+        record.writeInt(bytes.length);
+        record.write(bytes);
+    }
+
+    private void writeStrings(List<String> values) throws IOException {
+        record.writeInt(values.size());
+        for (String value : values) {
+            writeString(value);
+        }
+    }
+
+    private void writeLongs(List<Long> values) throws IOException {
+        record.writeInt(values.size());
+        for (long value : values) {
+            record.writeLong(value);
+        }
+    }
+
+    private void writeOrganizations(List<LdbcUpdate1AddPerson.Organization> organizations) throws IOException {
+        record.writeInt(organizations.size());
+        for (LdbcUpdate1AddPerson.Organization organization : organizations) {
+            record.writeLong(organization.organizationId());
+            record.writeInt(organization.year());
+        }
+    }
+}
@@ -25,7 +25,7 @@ public class OperationHandlerRunnableContextFactoryTest
             OperationHandlerRunnerFactory instantiatingOperationHandlerRunnerFactory =
                     new InstantiatingOperationHandlerRunnerFactory();
             OperationHandlerRunnerFactory pooledInstantiatingOperationHandlerRunnerFactory =
-                    new PoolingOperationHandlerRunnerFactory( new InstantiatingOperationHandlerRunnerFactory() );
+                    new RecyclingOperationHandlerRunnerFactory( new InstantiatingOperationHandlerRunnerFactory() );
             long instantiatingDuration =
                     doOperationHandlerTest( count, instantiatingOperationHandlerRunnerFactory, operation );
             long pooledInstantiatingDuration =
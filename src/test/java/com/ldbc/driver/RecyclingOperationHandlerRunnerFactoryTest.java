@@ -0,0 +1,153 @@
+package com.ldbc.driver;
+
+import com.ldbc.driver.runtime.ConcurrentErrorReporter;
+import com.ldbc.driver.runtime.coordination.CompletionTimeWriter;
+import com.ldbc.driver.runtime.coordination.DummyCompletionTimeWriter;
+import com.ldbc.driver.runtime.metrics.DummyCountingMetricsService;
+import com.ldbc.driver.runtime.metrics.MetricsService;
+import com.ldbc.driver.runtime.scheduling.Spinner;
+import com.ldbc.driver.temporal.SystemTimeSource;
+import com.ldbc.driver.temporal.TimeSource;
+import com.ldbc.driver.workloads.dummy.NothingOperation;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
+import static org.junit.Assert.assertThat;
+
+public class RecyclingOperationHandlerRunnerFactoryTest
+{
+    private final TimeSource timeSource = new SystemTimeSource();
+    private final Spinner spinner = new Spinner( timeSource, 0, false );
+    private final CompletionTimeWriter completionTimeWriter = new DummyCompletionTimeWriter();
+    private final Operation operation = new NothingOperation();
+
+    @Test
+    public void shouldReuseReleasedContexts() throws OperationException
+    {
+        // Given
+        RecyclingOperationHandlerRunnerFactory factory =
+                new RecyclingOperationHandlerRunnerFactory( new InstantiatingOperationHandlerRunnerFactory() );
+        ConcurrentErrorReporter errorReporter = new ConcurrentErrorReporter();
+        MetricsService metricsService = new DummyCountingMetricsService();
+
+        // When
+        OperationHandlerRunnableContext context1 = factory.newOperationHandlerRunner();
+        context1.init( timeSource, spinner, operation, completionTimeWriter, errorReporter, metricsService );
+        context1.cleanup();
+        OperationHandlerRunnableContext context2 = factory.newOperationHandlerRunner();
+
+        // Then
+        assertThat( context2, sameInstance( context1 ) );
+        assertThat( factory.stats().allocationCount(), equalTo( 1L ) );
+        assertThat( factory.stats().missCount(), equalTo( 1L ) );
+        assertThat( factory.stats().localHitCount(), equalTo( 1L ) );
+
+        factory.shutdown();
+    }
+
+    @Test
+    public void shouldNotHandOutTheSameContextTwiceWhenReleasedOnOtherThreads() throws Exception
+    {
+        // Given
+        final RecyclingOperationHandlerRunnerFactory factory =
+                new RecyclingOperationHandlerRunnerFactory( new InstantiatingOperationHandlerRunnerFactory() );
+        final ConcurrentErrorReporter errorReporter = new ConcurrentErrorReporter();
+        final MetricsService metricsService = new DummyCountingMetricsService();
+        int releasingThreadCount = 4;
+        ExecutorService releasingThreads = Executors.newFixedThreadPool( releasingThreadCount );
+        int rounds = 50;
+        int contextsPerRound = 1000;
+
+        try
+        {
+            for ( int round = 0; round < rounds; round++ )
+            {
+                // When
+                final List<OperationHandlerRunnableContext> claimed = new ArrayList<>();
+                Set<OperationHandlerRunnableContext> distinctClaimed =
+                        Collections.newSetFromMap( new IdentityHashMap<OperationHandlerRunnableContext,Boolean>() );
+                for ( int i = 0; i < contextsPerRound; i++ )
+                {
+                    OperationHandlerRunnableContext context = factory.newOperationHandlerRunner();
+                    context.init( timeSource, spinner, operation, completionTimeWriter, errorReporter,
+                            metricsService );
+                    claimed.add( context );
+                    distinctClaimed.add( context );
+                }
+
+                // Then
+                assertThat( distinctClaimed.size(), equalTo( contextsPerRound ) );
+
+                // When
+                List<Future<?>> releases = new ArrayList<>();
+                for ( final OperationHandlerRunnableContext context : claimed )
+                {
+                    releases.add( releasingThreads.submit( context::cleanup ) );
+                }
+                for ( Future<?> release : releases )
+                {
+                    release.get( 10, TimeUnit.SECONDS );
+                }
+            }
+
+            // Then
+            // releasing threads never claim, so they have no free list and release to the shared stack,
+            // from which the claiming thread takes them instead of allocating
+            assertThat( factory.stats().allocationCount(), lessThanOrEqualTo(
+                    (long) contextsPerRound +
+                    releasingThreadCount * RecyclingOperationHandlerRunnerFactory.LOCAL_FREE_LIST_CAPACITY ) );
+            assertThat( factory.stats().sharedHitCount(), not( equalTo( 0L ) ) );
+        }
+        finally
+        {
+            releasingThreads.shutdownNow();
+            factory.shutdown();
+        }
+    }
+
+    @Test
+    public void shouldInitializeRecycledContextsWithNewServicesAfterReset() throws OperationException
+    {
+        // Given
+        RecyclingOperationHandlerRunnerFactory factory =
+                new RecyclingOperationHandlerRunnerFactory( new InstantiatingOperationHandlerRunnerFactory() );
+        ConcurrentErrorReporter warmupErrorReporter = new ConcurrentErrorReporter();
+        ConcurrentErrorReporter runErrorReporter = new ConcurrentErrorReporter();
+        MetricsService warmupMetricsService = new DummyCountingMetricsService();
+        MetricsService runMetricsService = new DummyCountingMetricsService();
+
+        OperationHandlerRunnableContext warmupContext = factory.newOperationHandlerRunner();
+        warmupContext.init( timeSource, spinner, operation, completionTimeWriter, warmupErrorReporter,
+                warmupMetricsService );
+        ResultReporter warmupResultReporter = warmupContext.resultReporter();
+        warmupContext.cleanup();
+
+        // When
+        factory.reset();
+        OperationHandlerRunnableContext runContext = factory.newOperationHandlerRunner();
+        runContext.init( timeSource, spinner, operation, completionTimeWriter, runErrorReporter,
+                runMetricsService );
+
+        // Then
+        assertThat( runContext, sameInstance( warmupContext ) );
+        assertThat( runContext.resultReporter(), is( not( sameInstance( warmupResultReporter ) ) ) );
+        assertThat( factory.stats().allocationCount(), equalTo( 0L ) );
+        assertThat( factory.stats().localHitCount(), equalTo( 1L ) );
+
+        factory.shutdown();
+    }
+}
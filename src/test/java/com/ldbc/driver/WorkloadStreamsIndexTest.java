@@ -0,0 +1,295 @@
+package com.ldbc.driver;
+
+import com.google.common.collect.Lists;
+import com.ldbc.driver.control.Log4jLoggingServiceFactory;
+import com.ldbc.driver.control.LoggingServiceFactory;
+import com.ldbc.driver.util.Tuple3;
+import com.ldbc.driver.workloads.dummy.DummyWorkload;
+import com.ldbc.driver.workloads.dummy.TimedNamedOperation1;
+import com.ldbc.driver.workloads.dummy.TimedNamedOperation2;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.junit.Assert.assertThat;
+
+public class WorkloadStreamsIndexTest
+{
+    private static final long CHECKPOINT_INTERVAL = 10;
+
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+    private final LoggingServiceFactory loggingServiceFactory = new Log4jLoggingServiceFactory( false );
+
+    @Test
+    public void shouldReturnSameStartsLimitsAndMinimumAsScanForIndexedPositions() throws Exception
+    {
+        // Given
+        WorkloadStreamsIndex index = new WorkloadStreamsIndex( indexFile(), "fingerprint", 4, CHECKPOINT_INTERVAL );
+        WorkloadStreams.fromAmongAllRetrieveTopCountFromOffset(
+                streams(),
+                5,
+                200,
+                childOperationGenerators(),
+                loggingServiceFactory,
+                index
+        );
+
+        // When / Then
+        int hitCount = 0;
+        for ( long offset = 0; offset <= 120; offset++ )
+        {
+            for ( long limit : new long[]{0, 1, 10, 37, 100} )
+            {
+                Tuple3<long[],long[],Long> indexed = index.lookup( offset, limit );
+                if ( null != indexed )
+                {
+                    assertSame( indexed, scan( offset, limit ), offset, limit );
+                    hitCount++;
+                }
+            }
+        }
+        assertThat( hitCount > 0, is( true ) );
+        // scan stopped there, so it is always indexed
+        assertSame( index.lookup( 5, 200 ), scan( 5, 200 ), 5, 200 );
+        assertSame( index.lookup( 0, 0 ), scan( 0, 0 ), 0, 0 );
+        assertSame( index.lookup( 0, 10 ), scan( 0, 10 ), 0, 10 );
+    }
+
+    @Test
+    public void shouldReturnSameStartsLimitsAndMinimumAsScanBeyondEndOfStreams() throws Exception
+    {
+        // Given
+        WorkloadStreamsIndex index = new WorkloadStreamsIndex( indexFile(), "fingerprint", 4, CHECKPOINT_INTERVAL );
+        Tuple3<long[],long[],Long> scanned = WorkloadStreams.fromAmongAllRetrieveTopCountFromOffset(
+                streams(),
+                10,
+                1_000_000,
+                childOperationGenerators(),
+                loggingServiceFactory,
+                index
+        );
+        long lastPosition = 0;
+        for ( int i = 0; i < 4; i++ )
+        {
+            lastPosition += scanned.getElement1()[i] + scanned.getElement2()[i];
+        }
+
+        // When / Then
+        assertSame( index.lookup( 10, 1_000_000 ), scan( 10, 1_000_000 ), 10, 1_000_000 );
+        assertSame( index.lookup( 10, 5_000_000 ), scan( 10, 5_000_000 ), 10, 5_000_000 );
+        assertSame( index.lookup( 2_000_000, 10 ), scan( 2_000_000, 10 ), 2_000_000, 10 );
+        assertThat( index.lookup( 2_000_000, 10 ).getElement3(), is( Long.MAX_VALUE ) );
+        assertThat( lastPosition < 1_000_000, is( true ) );
+    }
+
+    @Test
+    public void shouldNotReturnPositionsThatWereNotIndexed() throws Exception
+    {
+        // Given
+        WorkloadStreamsIndex index = new WorkloadStreamsIndex( indexFile(), "fingerprint", 4, CHECKPOINT_INTERVAL );
+
+        // When / Then
+        assertThat( index.lookup( 0, 10 ), nullValue() );
+
+        WorkloadStreams.fromAmongAllRetrieveTopCountFromOffset(
+                streams(),
+                0,
+                15,
+                childOperationGenerators(),
+                loggingServiceFactory,
+                index
+        );
+        assertThat( index.lookup( 0, 15 ), not( nullValue() ) );
+        assertThat( index.lookup( 0, 500 ), nullValue() );
+        assertThat( index.lookup( 500, 10 ), nullValue() );
+    }
+
+    @Test
+    public void shouldReadIndexWrittenForSameFingerprintOnly() throws Exception
+    {
+        // Given
+        File indexFile = indexFile();
+        WorkloadStreamsIndex index = new WorkloadStreamsIndex( indexFile, "fingerprint", 4, CHECKPOINT_INTERVAL );
+        WorkloadStreams.fromAmongAllRetrieveTopCountFromOffset(
+                streams(),
+                7,
+                50,
+                childOperationGenerators(),
+                loggingServiceFactory,
+                index
+        );
+        assertThat( index.isModified(), is( true ) );
+
+        // When
+        index.save();
+
+        // Then
+        assertThat( index.isModified(), is( false ) );
+        WorkloadStreamsIndex loadedIndex =
+                WorkloadStreamsIndex.load( indexFile, "fingerprint", 4, CHECKPOINT_INTERVAL );
+        assertThat( loadedIndex.isModified(), is( false ) );
+        assertSame( loadedIndex.lookup( 7, 50 ), scan( 7, 50 ), 7, 50 );
+
+        WorkloadStreamsIndex staleIndex =
+                WorkloadStreamsIndex.load( indexFile, "other fingerprint", 4, CHECKPOINT_INTERVAL );
+        assertThat( staleIndex.lookup( 7, 50 ), nullValue() );
+        assertThat( staleIndex.lookup( 0, 0 ), nullValue() );
+    }
+
+    @Test
+    public void shouldOpenStreamsAtIndexedTimeStampsBeforeWhichStreamsHaveLowerTimeStampsOnly() throws Exception
+    {
+        // Given
+        File indexFile = indexFile();
+        WorkloadStreamsIndex index = new WorkloadStreamsIndex( indexFile, "fingerprint", 4, CHECKPOINT_INTERVAL );
+        WorkloadStreams.fromAmongAllRetrieveTopCountFromOffset(
+                streams(),
+                0,
+                1_000_000,
+                childOperationGenerators(),
+                loggingServiceFactory,
+                index
+        );
+        assertThat( index.lookupStreamFileOffsets( new long[4] ), nullValue() );
+
+        // When
+        index.addStreamFileOffsets( new DummyWorkload( new WorkloadStreams(), 0 )
+        {
+            // offset of the first operation at or after a time stamp is that time stamp
+            @Override
+            public long[][] operationStreamFileOffsets( long[] timeStamps )
+            {
+                long[][] offsets = new long[timeStamps.length][];
+                for ( int i = 0; i < timeStamps.length; i++ )
+                {
+                    offsets[i] = new long[]{timeStamps[i]};
+                }
+                return offsets;
+            }
+        } );
+        index.save();
+
+        // Then
+        WorkloadStreamsIndex loadedIndex =
+                WorkloadStreamsIndex.load( indexFile, "fingerprint", 4, CHECKPOINT_INTERVAL );
+        long lastSkippedCount = 0;
+        for ( long offset = 0; offset <= 250; offset++ )
+        {
+            long[] startForStream = scan( offset, 0 ).getElement1();
+            Tuple3<Long,long[],long[]> opened = loadedIndex.lookupStreamFileOffsets( startForStream );
+            long timeStamp = opened.getElement1();
+            assertThat( opened.getElement3(), is( new long[]{timeStamp} ) );
+            long skippedCount = 0;
+            for ( int i = 0; i < 4; i++ )
+            {
+                long lowerTimeStampCount = 0;
+                Iterator<Operation> stream = streams().get( i );
+                while ( stream.hasNext() )
+                {
+                    if ( stream.next().timeStamp() < timeStamp )
+                    {
+                        lowerTimeStampCount++;
+                    }
+                }
+                assertThat( "offset " + offset, opened.getElement2()[i], is( lowerTimeStampCount ) );
+                assertThat( "offset " + offset, opened.getElement2()[i] <= startForStream[i], is( true ) );
+                skippedCount += opened.getElement2()[i];
+            }
+            assertThat( skippedCount >= lastSkippedCount, is( true ) );
+            lastSkippedCount = skippedCount;
+        }
+        // streams are not opened at their beginning only
+        assertThat( lastSkippedCount > 100, is( true ) );
+    }
+
+    private File indexFile() throws IOException
+    {
+        return new File( temporaryFolder.newFolder(), "operation_streams_test.index" );
+    }
+
+    private Tuple3<long[],long[],Long> scan( long offset, long limit ) throws WorkloadException
+    {
+        return WorkloadStreams.fromAmongAllRetrieveTopCountFromOffset(
+                streams(),
+                offset,
+                limit,
+                childOperationGenerators(),
+                loggingServiceFactory
+        );
+    }
+
+    private static void assertSame( Tuple3<long[],long[],Long> indexed, Tuple3<long[],long[],Long> scanned,
+            long offset, long limit )
+    {
+        String message = "offset " + offset + " limit " + limit;
+        assertThat( message, indexed.getElement1(), is( scanned.getElement1() ) );
+        assertThat( message, indexed.getElement2(), is( scanned.getElement2() ) );
+        assertThat( message, indexed.getElement3(), is( scanned.getElement3() ) );
+    }
+
+    private static List<Iterator<Operation>> streams()
+    {
+        return Lists.newArrayList(
+                operations( 0, 3, 60 ).iterator(),
+                operations( 1, 2, 40 ).iterator(),
+                new ArrayList<Operation>().iterator(),
+                operations( 50, 1, 30 ).iterator()
+        );
+    }
+
+    private static List<Operation> operations( long firstTimeStamp, long increment, int count )
+    {
+        List<Operation> operations = new ArrayList<>();
+        for ( int i = 0; i < count; i++ )
+        {
+            long timeStamp = firstTimeStamp + i * increment;
+            operations.add( new TimedNamedOperation1( timeStamp, timeStamp, 0l, Long.toString( timeStamp ) ) );
+        }
+        return operations;
+    }
+
+    // operations of first stream with even time stamps are followed by two child operations,
+    // so some retrievals advance scan position by three
+    private static List<ChildOperationGenerator> childOperationGenerators()
+    {
+        return Lists.newArrayList(
+                new ChildOperationGenerator()
+                {
+                    @Override
+                    public double initialState()
+                    {
+                        return 0;
+                    }
+
+                    @Override
+                    public Operation nextOperation( double state, Operation operation, Object result,
+                            long actualStartTimeAsMilli, long runDurationAsNano ) throws WorkloadException
+                    {
+                        return (0 == operation.timeStamp() % 2 && state < 2)
+                               ? new TimedNamedOperation2( operation.timeStamp(), operation.timeStamp(), 0l, "child" )
+                               : null;
+                    }
+
+                    @Override
+                    public double updateState( double previousState, int previousOperationType )
+                    {
+                        return previousState + 1;
+                    }
+                },
+                null,
+                null,
+                null
+        );
+    }
+}
@@ -0,0 +1,183 @@
+package com.ldbc.driver.generator;
+
+import com.google.common.collect.Lists;
+import org.junit.Test;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.HashSet;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.junit.Assert.assertThat;
+
+public class ColumnarParameterStoreTest {
+
+    @Test
+    public void shouldHaveNoNextRowIfEmpty() {
+        // Given
+        List<Object[]> rows = new ArrayList<>();
+
+        // When
+        ColumnarParameterStore store = ColumnarParameterStore.load(rows.iterator());
+
+        // Then
+        assertThat(store.rowCount(), is(0));
+        assertThat(store.repeatingCursor().hasNext(), is(false));
+    }
+
+    @Test
+    public void shouldReturnValuesOfEachColumnTypeAndLoopIndefinitely() {
+        // Given
+        List<Object[]> rows = Lists.newArrayList(
+                new Object[]{1L, 10, "a", new Date(100L), Lists.newArrayList("x", "y")},
+                new Object[]{2L, 20, "b", new Date(200L), Lists.newArrayList("z")},
+                new Object[]{3L, 30, "a", new Date(300L), Lists.newArrayList("x", "y")}
+        );
+
+        // When
+        ColumnarParameterStore store = ColumnarParameterStore.load(rows.iterator());
+        ParameterCursor cursor = store.repeatingCursor();
+
+        // Then
+        assertThat(store.rowCount(), is(3));
+        assertThat(store.columnCount(), is(5));
+        for (int cycle = 0; cycle < 3; cycle++) {
+            for (Object[] row : rows) {
+                assertThat(cursor.hasNext(), is(true));
+                cursor.advance();
+                assertThat(cursor.longAt(0), equalTo(row[0]));
+                assertThat(cursor.intAt(1), equalTo(row[1]));
+                assertThat(cursor.stringAt(2), equalTo(row[2]));
+                assertThat(cursor.dateAt(3), equalTo(row[3]));
+                assertThat(cursor.<List<String>>objectAt(4), equalTo(row[4]));
+            }
+        }
+    }
+
+    @Test
+    public void shouldStoreEqualStringsOnce() {
+        // Given
+        List<Object[]> rows = Lists.newArrayList(
+                new Object[]{new String("tag")},
+                new Object[]{new String("tag")}
+        );
+
+        // When
+        ParameterCursor cursor = ColumnarParameterStore.load(rows.iterator()).repeatingCursor();
+
+        // Then
+        cursor.advance();
+        String first = cursor.stringAt(0);
+        cursor.advance();
+        String second = cursor.stringAt(0);
+        assertThat(second, sameInstance(first));
+    }
+
+    @Test
+    public void cursorsShouldBeIndependent() {
+        // Given
+        List<Object[]> rows = Lists.newArrayList(
+                new Object[]{1L},
+                new Object[]{2L}
+        );
+        ColumnarParameterStore store = ColumnarParameterStore.load(rows.iterator());
+
+        // When
+        ParameterCursor cursor1 = store.repeatingCursor();
+        ParameterCursor cursor2 = store.repeatingCursor();
+        cursor1.advance();
+        cursor1.advance();
+        cursor2.advance();
+
+        // Then
+        assertThat(cursor1.longAt(0), is(2L));
+        assertThat(cursor2.longAt(0), is(1L));
+    }
+
+    @Test
+    public void permutingCursorShouldVisitEveryRowOncePerPassInOrderDeterminedBySeed() {
+        // Given
+        List<Object[]> rows = new ArrayList<>();
+        for (long i = 0; i < 100; i++) {
+            rows.add(new Object[]{i});
+        }
+        ColumnarParameterStore store = ColumnarParameterStore.load(rows.iterator());
+
+        // When
+        ParameterCursor cursor1 = store.permutingCursor(42);
+        ParameterCursor cursor2 = store.permutingCursor(42);
+        ParameterCursor cursor3 = store.permutingCursor(43);
+        List<Long> pass1 = new ArrayList<>();
+        List<Long> pass2 = new ArrayList<>();
+        List<Long> sameSeedPass1 = new ArrayList<>();
+        List<Long> otherSeedPass1 = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            cursor1.advance();
+            pass1.add(cursor1.longAt(0));
+            cursor2.advance();
+            sameSeedPass1.add(cursor2.longAt(0));
+            cursor3.advance();
+            otherSeedPass1.add(cursor3.longAt(0));
+        }
+        for (int i = 0; i < 100; i++) {
+            cursor1.advance();
+            pass2.add(cursor1.longAt(0));
+        }
+
+        // Then
+        assertThat(new HashSet<>(pass1).size(), is(100));
+        assertThat(new HashSet<>(pass2).size(), is(100));
+        assertThat(pass1.equals(pass2), is(false));
+        assertThat(sameSeedPass1, equalTo(pass1));
+        assertThat(otherSeedPass1.equals(pass1), is(false));
+    }
+
+    @Test(expected = GeneratorException.class)
+    public void shouldFailIfRowsHaveDifferentColumnTypes() {
+        // Given
+        List<Object[]> rows = Lists.newArrayList(
+                new Object[]{1L},
+                new Object[]{"1"}
+        );
+
+        // When
+        ColumnarParameterStore.load(rows.iterator());
+    }
+
+    @Test
+    public void shouldLoadSharedStoreOnceForSameFileAndDecoder() throws IOException {
+        // Given
+        File file = File.createTempFile("parameters", ".csv");
+        file.deleteOnExit();
+        Files.write(file.toPath(), "id\n1\n".getBytes());
+        final List<Object[]> rows = new ArrayList<>();
+        rows.add(new Object[]{1L});
+        final AtomicInteger loadCount = new AtomicInteger(0);
+
+        // When
+        ColumnarParameterStore store1 = ColumnarParameterStore.shared(file, Long.class, () -> {
+            loadCount.incrementAndGet();
+            return ColumnarParameterStore.load(rows.iterator());
+        });
+        ColumnarParameterStore store2 = ColumnarParameterStore.shared(file, Long.class, () -> {
+            loadCount.incrementAndGet();
+            return ColumnarParameterStore.load(rows.iterator());
+        });
+        ColumnarParameterStore store3 = ColumnarParameterStore.shared(file, Integer.class, () -> {
+            loadCount.incrementAndGet();
+            return ColumnarParameterStore.load(rows.iterator());
+        });
+
+        // Then
+        assertThat(store2, sameInstance(store1));
+        assertThat(store3 == store1, is(false));
+        assertThat(loadCount.get(), is(2));
+    }
+}
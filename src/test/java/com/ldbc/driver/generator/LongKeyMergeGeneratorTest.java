@@ -0,0 +1,107 @@
+package com.ldbc.driver.generator;
+
+import com.ldbc.driver.util.Tuple;
+import com.ldbc.driver.util.Tuple2;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Random;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+public class LongKeyMergeGeneratorTest {
+    GeneratorFactory generators = new GeneratorFactory(new RandomDataGeneratorFactory(42L));
+
+    @Test
+    public void shouldHaveNothingToGenerateWhenThereAreNoGeneratorsOrAllAreEmpty() {
+        // Given
+        Iterator<Long> noGenerators = generators.mergeSortByLongKey(Long::longValue);
+        Iterator<Long> emptyGenerators = generators.mergeSortByLongKey(
+                Long::longValue,
+                generators.<Long>identity(),
+                generators.<Long>identity());
+
+        // Then
+        assertThat(noGenerators.hasNext(), is(false));
+        assertThat(emptyGenerators.hasNext(), is(false));
+    }
+
+    @Test
+    public void shouldOrderUnevenLengthGenerators() {
+        // Given
+        Iterator<Integer> g1 = generators.identity(0, 1, 3, 4);
+        Iterator<Integer> g2 = generators.identity(0, 2, 4, 8);
+        Iterator<Integer> g3 = generators.identity();
+        Iterator<Integer> g4 = generators.identity(0, 1, 2, 3);
+        Iterator<Integer> g5 = generators.identity(10);
+
+        // When
+        Iterator<Integer> orderedGenerator = generators.mergeSortNumbers(g1, g2, g3, g4, g5);
+
+        // Then
+        List<Integer> merged = new ArrayList<>();
+        while (orderedGenerator.hasNext()) {
+            merged.add(orderedGenerator.next());
+        }
+        List<Integer> expected = new ArrayList<>();
+        Collections.addAll(expected, 0, 0, 0, 1, 1, 2, 2, 3, 3, 4, 4, 8, 10);
+        assertThat(merged, equalTo(expected));
+    }
+
+    @Test
+    public void shouldReturnElementsWithEqualKeysInGeneratorOrder() {
+        // Given
+        Iterator<Tuple2<Long, String>> g1 = generators.identity(Tuple.tuple2(1L, "g1-a"), Tuple.tuple2(2L, "g1-b"));
+        Iterator<Tuple2<Long, String>> g2 = generators.identity(Tuple.tuple2(1L, "g2-a"), Tuple.tuple2(2L, "g2-b"));
+        Iterator<Tuple2<Long, String>> g3 = generators.identity(Tuple.tuple2(1L, "g3-a"), Tuple.tuple2(1L, "g3-b"));
+
+        // When
+        Iterator<Tuple2<Long, String>> orderedGenerator =
+                generators.mergeSortByLongKey(Tuple2::_1, g1, g2, g3);
+
+        // Then
+        assertThat(orderedGenerator.next()._2(), equalTo("g1-a"));
+        assertThat(orderedGenerator.next()._2(), equalTo("g2-a"));
+        assertThat(orderedGenerator.next()._2(), equalTo("g3-a"));
+        assertThat(orderedGenerator.next()._2(), equalTo("g3-b"));
+        assertThat(orderedGenerator.next()._2(), equalTo("g1-b"));
+        assertThat(orderedGenerator.next()._2(), equalTo("g2-b"));
+        assertThat(orderedGenerator.hasNext(), is(false));
+    }
+
+    @Test
+    public void shouldOrderHundredsOfGenerators() {
+        // Given
+        Random random = new Random(42L);
+        int generatorCount = 500;
+        List<Long> all = new ArrayList<>();
+        Iterator<Long>[] inputs = new Iterator[generatorCount];
+        for (int i = 0; i < generatorCount; i++) {
+            List<Long> input = new ArrayList<>();
+            long value = random.nextInt(100);
+            int length = random.nextInt(50);
+            for (int j = 0; j < length; j++) {
+                value += random.nextInt(10);
+                input.add(value);
+            }
+            all.addAll(input);
+            inputs[i] = input.iterator();
+        }
+        Collections.sort(all);
+
+        // When
+        Iterator<Long> orderedGenerator = generators.mergeSortNumbers(inputs);
+
+        // Then
+        List<Long> merged = new ArrayList<>();
+        while (orderedGenerator.hasNext()) {
+            merged.add(orderedGenerator.next());
+        }
+        assertThat(merged, equalTo(all));
+    }
+}
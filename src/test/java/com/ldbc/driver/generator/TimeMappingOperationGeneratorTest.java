@@ -337,6 +337,40 @@ public class TimeMappingOperationGeneratorTest
         assertThat( offsetAndCompressedOperations.get( 10 ).dependencyTimeStamp(), equalTo( 0L ) );
     }
 
+    @Test
+    public void shouldKeepSubMillisecondSpacingOfCompressedStartTimes()
+    {
+        // Given
+        Iterator<Operation> operations = gf.limit(
+                new TimedNamedOperation1Factory(
+                        // start times
+                        gf.incrementing( 0L, 1l ),
+                        // dependency times
+                        gf.incrementing( 0L, 0L ),
+                        // names
+                        gf.constant( "name1" )
+                ),
+                5
+        );
+
+        // When
+        long newStartTime = 1000L;
+        Double compressionRatio = 0.25;
+        List<Operation> offsetAndCompressedOperations = ImmutableList
+                .copyOf( gf.timeOffsetAndCompress( operations, newStartTime, compressionRatio ) );
+
+        // Then
+        assertThat( offsetAndCompressedOperations.size(), is( 5 ) );
+        for ( int i = 0; i < 5; i++ )
+        {
+            Operation operation = offsetAndCompressedOperations.get( i );
+            assertThat( operation.scheduledStartTimeAsNano(),
+                    equalTo( TimeUnit.MILLISECONDS.toNanos( newStartTime ) + i * 250_000L ) );
+            assertThat( operation.scheduledStartTimeAsMilli(),
+                    equalTo( newStartTime + Math.round( i * compressionRatio ) ) );
+        }
+    }
+
     @Test
     public void shouldNotBreakTheMonotonicallyIncreasingScheduledStartTimesOfOperationsFromLdbcWorkload()
             throws WorkloadException, IOException, DriverConfigurationException
@@ -384,7 +418,16 @@ public class TimeMappingOperationGeneratorTest
                 printHelp,
                 ignoreScheduledStartTimes,
                 warmupCount,
-                skipCount
+                skipCount,
+                ConsoleAndFileDriverConfiguration.OPERATION_EXECUTOR_DEFAULT,
+                ConsoleAndFileDriverConfiguration.TIMESTAMP_UNIT_DEFAULT,
+                ConsoleAndFileDriverConfiguration.METRICS_RING_SIZE_DEFAULT,
+                ConsoleAndFileDriverConfiguration.METRICS_WAIT_STRATEGY_DEFAULT,
+                ConsoleAndFileDriverConfiguration.METRICS_RING_PER_CPU_DEFAULT,
+                ConsoleAndFileDriverConfiguration.METRICS_SERVICE_DEFAULT,
+                ConsoleAndFileDriverConfiguration.RESULTS_LOG_FORMAT_DEFAULT,
+                ConsoleAndFileDriverConfiguration.BLOCKING_STREAM_THREAD_COUNT_DEFAULT,
+                ConsoleAndFileDriverConfiguration.TELEMETRY_PORT_DEFAULT
         );
 
         Map<String,String> updateStreamParams = MapUtils.loadPropertiesToMap(
@@ -17,6 +17,7 @@ import com.ldbc.driver.generator.RandomDataGeneratorFactory;
 import com.ldbc.driver.runtime.coordination.CompletionTimeException;
 import com.ldbc.driver.runtime.coordination.CompletionTimeService;
 import com.ldbc.driver.runtime.coordination.CompletionTimeServiceAssistant;
+import com.ldbc.driver.runtime.executor.OperationExecutorType;
 import com.ldbc.driver.runtime.metrics.MetricsCollectionException;
 import com.ldbc.driver.runtime.metrics.MetricsService;
 import com.ldbc.driver.runtime.metrics.ThreadedQueuedMetricsService;
@@ -1757,6 +1758,12 @@ public class WorkloadRunnerComplexScenarioTests
         long statusDisplayIntervalAsMilli = 0;
         long spinnerSleepDurationAsMilli = SPINNER_SLEEP_DURATION_AS_MILLI;
         int operationHandlerExecutorsBoundedQueueSize = 100;
+        // one thread per blocking stream
+        int blockingStreamThreadCount = 0;
+        // telemetry disabled
+        int telemetryPort = 0;
+        // no status log
+        WorkloadStatusLogWriter statusLogWriter = null;
         boolean detailedStatus = false;
         LoggingServiceFactory loggingServiceFactory = new Log4jLoggingServiceFactory( detailedStatus );
         WorkloadRunner runner = new WorkloadRunner(
@@ -1768,7 +1775,11 @@ public class WorkloadRunnerComplexScenarioTests
                 completionTimeService,
                 loggingServiceFactory,
                 threadCount,
+                OperationExecutorType.THREAD_POOL,
+                blockingStreamThreadCount,
                 statusDisplayIntervalAsMilli,
+                telemetryPort,
+                statusLogWriter,
                 spinnerSleepDurationAsMilli,
                 ignoreScheduledStartTime,
                 operationHandlerExecutorsBoundedQueueSize
@@ -136,7 +136,16 @@ public class WorkloadRunnerTest
                     printHelp,
                     ignoreScheduledStartTimes,
                     warmupCount,
-                    skipCount
+                    skipCount,
+                    ConsoleAndFileDriverConfiguration.OPERATION_EXECUTOR_DEFAULT,
+                    ConsoleAndFileDriverConfiguration.TIMESTAMP_UNIT_DEFAULT,
+                    ConsoleAndFileDriverConfiguration.METRICS_RING_SIZE_DEFAULT,
+                    ConsoleAndFileDriverConfiguration.METRICS_WAIT_STRATEGY_DEFAULT,
+                    ConsoleAndFileDriverConfiguration.METRICS_RING_PER_CPU_DEFAULT,
+                    ConsoleAndFileDriverConfiguration.METRICS_SERVICE_DEFAULT,
+                    ConsoleAndFileDriverConfiguration.RESULTS_LOG_FORMAT_DEFAULT,
+                    ConsoleAndFileDriverConfiguration.BLOCKING_STREAM_THREAD_COUNT_DEFAULT,
+                    ConsoleAndFileDriverConfiguration.TELEMETRY_PORT_DEFAULT
             );
 
             configuration = (ConsoleAndFileDriverConfiguration) configuration
@@ -206,7 +215,11 @@ public class WorkloadRunnerTest
                     completionTimeService,
                     controlService.getLoggingServiceFactory(),
                     controlService.getConfiguration().getThreadCount(),
+                    controlService.getConfiguration().operationExecutorType(),
+                    controlService.getConfiguration().blockingStreamThreadCount(),
                     controlService.getConfiguration().statusDisplayIntervalAsSeconds(),
+                    controlService.getConfiguration().telemetryPort(),
+                    null,
                     controlService.getConfiguration().spinnerSleepDurationAsMilli(),
                     controlService.getConfiguration().ignoreScheduledStartTimes(),
                     boundedQueueSize );
@@ -340,7 +353,16 @@ public class WorkloadRunnerTest
                     printHelp,
                     ignoreScheduledStartTimes,
                     warmupCount,
-                    skipCount
+                    skipCount,
+                    ConsoleAndFileDriverConfiguration.OPERATION_EXECUTOR_DEFAULT,
+                    ConsoleAndFileDriverConfiguration.TIMESTAMP_UNIT_DEFAULT,
+                    ConsoleAndFileDriverConfiguration.METRICS_RING_SIZE_DEFAULT,
+                    ConsoleAndFileDriverConfiguration.METRICS_WAIT_STRATEGY_DEFAULT,
+                    ConsoleAndFileDriverConfiguration.METRICS_RING_PER_CPU_DEFAULT,
+                    ConsoleAndFileDriverConfiguration.METRICS_SERVICE_DEFAULT,
+                    ConsoleAndFileDriverConfiguration.RESULTS_LOG_FORMAT_DEFAULT,
+                    ConsoleAndFileDriverConfiguration.BLOCKING_STREAM_THREAD_COUNT_DEFAULT,
+                    ConsoleAndFileDriverConfiguration.TELEMETRY_PORT_DEFAULT
             );
 
             configuration = (ConsoleAndFileDriverConfiguration) configuration
@@ -408,7 +430,11 @@ public class WorkloadRunnerTest
                     completionTimeService,
                     controlService.getLoggingServiceFactory(),
                     controlService.getConfiguration().getThreadCount(),
+                    controlService.getConfiguration().operationExecutorType(),
+                    controlService.getConfiguration().blockingStreamThreadCount(),
                     controlService.getConfiguration().statusDisplayIntervalAsSeconds(),
+                    controlService.getConfiguration().telemetryPort(),
+                    null,
                     controlService.getConfiguration().spinnerSleepDurationAsMilli(),
                     controlService.getConfiguration().ignoreScheduledStartTimes(),
                     boundedQueueSize );
@@ -501,13 +527,31 @@ public class WorkloadRunnerTest
         {
             doShouldRunReadWriteLdbcWorkloadWithNothingDbAndReturnExpectedMetricsIncludingResultsLog(
                     threadCount,
+                    ConsoleAndFileDriverConfiguration.BLOCKING_STREAM_THREAD_COUNT_DEFAULT,
+                    operationCount
+            );
+        }
+    }
+
+    @Test
+    public void shouldRunReadWriteLdbcWorkloadWithBlockingStreamsMultiplexedOntoFewerThreads()
+            throws InterruptedException, DbException, WorkloadException, IOException, MetricsCollectionException,
+            CompletionTimeException, DriverConfigurationException, ExecutionException
+    {
+        List<Integer> blockingStreamThreadCounts = Lists.newArrayList( 1, 2 );
+        long operationCount = 10000;
+        for ( int blockingStreamThreadCount : blockingStreamThreadCounts )
+        {
+            doShouldRunReadWriteLdbcWorkloadWithNothingDbAndReturnExpectedMetricsIncludingResultsLog(
+                    4,
+                    blockingStreamThreadCount,
                     operationCount
             );
         }
     }
 
     public void doShouldRunReadWriteLdbcWorkloadWithNothingDbAndReturnExpectedMetricsIncludingResultsLog(
-            int threadCount, long operationCount )
+            int threadCount, int blockingStreamThreadCount, long operationCount )
             throws InterruptedException, DbException, WorkloadException, IOException, MetricsCollectionException,
             CompletionTimeException, DriverConfigurationException, ExecutionException
     {
@@ -561,7 +605,16 @@ public class WorkloadRunnerTest
                     printHelp,
                     ignoreScheduledStartTimes,
                     warmupCount,
-                    skipCount
+                    skipCount,
+                    ConsoleAndFileDriverConfiguration.OPERATION_EXECUTOR_DEFAULT,
+                    ConsoleAndFileDriverConfiguration.TIMESTAMP_UNIT_DEFAULT,
+                    ConsoleAndFileDriverConfiguration.METRICS_RING_SIZE_DEFAULT,
+                    ConsoleAndFileDriverConfiguration.METRICS_WAIT_STRATEGY_DEFAULT,
+                    ConsoleAndFileDriverConfiguration.METRICS_RING_PER_CPU_DEFAULT,
+                    ConsoleAndFileDriverConfiguration.METRICS_SERVICE_DEFAULT,
+                    ConsoleAndFileDriverConfiguration.RESULTS_LOG_FORMAT_DEFAULT,
+                    blockingStreamThreadCount,
+                    ConsoleAndFileDriverConfiguration.TELEMETRY_PORT_DEFAULT
             );
 
             configuration = (ConsoleAndFileDriverConfiguration) configuration
@@ -629,7 +682,11 @@ public class WorkloadRunnerTest
                     completionTimeService,
                     controlService.getLoggingServiceFactory(),
                     controlService.getConfiguration().getThreadCount(),
+                    controlService.getConfiguration().operationExecutorType(),
+                    controlService.getConfiguration().blockingStreamThreadCount(),
                     controlService.getConfiguration().statusDisplayIntervalAsSeconds(),
+                    controlService.getConfiguration().telemetryPort(),
+                    null,
                     controlService.getConfiguration().spinnerSleepDurationAsMilli(),
                     controlService.getConfiguration().ignoreScheduledStartTimes(),
                     boundedQueueSize );
@@ -828,7 +885,16 @@ public class WorkloadRunnerTest
                     printHelp,
                     ignoreScheduledStartTimes,
                     warmupCount,
-                    skipCount
+                    skipCount,
+                    ConsoleAndFileDriverConfiguration.OPERATION_EXECUTOR_DEFAULT,
+                    ConsoleAndFileDriverConfiguration.TIMESTAMP_UNIT_DEFAULT,
+                    ConsoleAndFileDriverConfiguration.METRICS_RING_SIZE_DEFAULT,
+                    ConsoleAndFileDriverConfiguration.METRICS_WAIT_STRATEGY_DEFAULT,
+                    ConsoleAndFileDriverConfiguration.METRICS_RING_PER_CPU_DEFAULT,
+                    ConsoleAndFileDriverConfiguration.METRICS_SERVICE_DEFAULT,
+                    ConsoleAndFileDriverConfiguration.RESULTS_LOG_FORMAT_DEFAULT,
+                    ConsoleAndFileDriverConfiguration.BLOCKING_STREAM_THREAD_COUNT_DEFAULT,
+                    ConsoleAndFileDriverConfiguration.TELEMETRY_PORT_DEFAULT
             );
 
             configuration = (ConsoleAndFileDriverConfiguration) configuration
@@ -890,7 +956,11 @@ public class WorkloadRunnerTest
                     completionTimeService,
                     controlService.getLoggingServiceFactory(),
                     controlService.getConfiguration().getThreadCount(),
+                    controlService.getConfiguration().operationExecutorType(),
+                    controlService.getConfiguration().blockingStreamThreadCount(),
                     controlService.getConfiguration().statusDisplayIntervalAsSeconds(),
+                    controlService.getConfiguration().telemetryPort(),
+                    null,
                     controlService.getConfiguration().spinnerSleepDurationAsMilli(),
                     controlService.getConfiguration().ignoreScheduledStartTimes(),
                     boundedQueueSize );
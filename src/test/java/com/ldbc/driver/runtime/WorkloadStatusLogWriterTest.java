@@ -0,0 +1,114 @@
+package com.ldbc.driver.runtime;
+
+import com.google.common.collect.Lists;
+import com.ldbc.driver.runtime.metrics.ContinuousMetricManager;
+import com.ldbc.driver.runtime.metrics.OperationMetricsSnapshot;
+import com.ldbc.driver.runtime.metrics.WorkloadResultsSnapshot;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.File;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.HashMap;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.junit.Assert.assertThat;
+
+public class WorkloadStatusLogWriterTest
+{
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+    @Test
+    public void shouldWriteHeaderAndOneRowForAllOperationsPerIntervalWhenIntervalMetricsAreNotKnown()
+            throws Exception
+    {
+        // Given
+        File statusLog = temporaryFolder.newFile();
+
+        // When
+        try ( WorkloadStatusLogWriter writer = new WorkloadStatusLogWriter( statusLog, TimeUnit.MICROSECONDS ) )
+        {
+            writer.write( snapshot( 11_000, 1_000, 100, 10_500 ) );
+            writer.write( snapshot( 13_000, 3_000, 500, -1 ) );
+
+            // Then
+            List<String> lines = Files.readAllLines( statusLog.toPath(), StandardCharsets.UTF_8 );
+            assertThat( lines.size(), equalTo( 3 ) );
+            assertThat( lines.get( 0 ), equalTo(
+                    "time|run_duration_MILLISECONDS|operation_type|count|throughput|50th_percentile_MICROSECONDS|" +
+                    "99th_percentile_MICROSECONDS|start_delay_MICROSECONDS|completion_time_lag_MILLISECONDS|" +
+                    "handlers_in_flight|operations_queued" ) );
+            assertThat( lines.get( 1 ), equalTo( "11000|1000|ALL|100|100.00|-1|-1|-1|500|7|3" ) );
+            assertThat( lines.get( 2 ), equalTo( "13000|3000|ALL|400|200.00|-1|-1|-1|-1|7|3" ) );
+        }
+    }
+
+    @Test
+    public void shouldWritePercentilesOfAllOperationsWhenIntervalMetricsAreKnown() throws Exception
+    {
+        // Given
+        File statusLog = temporaryFolder.newFile();
+        ContinuousMetricManager runTime = new ContinuousMetricManager( "Runtime", TimeUnit.MICROSECONDS, 1000, 3 );
+        for ( long runTimeAsMicro = 1; runTimeAsMicro <= 100; runTimeAsMicro++ )
+        {
+            runTime.addMeasurement( runTimeAsMicro );
+        }
+        WorkloadResultsSnapshot intervalResults = new WorkloadResultsSnapshot(
+                Lists.newArrayList(
+                        new OperationMetricsSnapshot( "Type1", TimeUnit.MICROSECONDS, 100, runTime.snapshot() ) ),
+                10_000,
+                11_000,
+                100,
+                TimeUnit.MICROSECONDS
+        );
+        intervalResults.setAllRunTimeMetric( runTime.snapshot() );
+
+        // When
+        try ( WorkloadStatusLogWriter writer = new WorkloadStatusLogWriter( statusLog, TimeUnit.MICROSECONDS ) )
+        {
+            writer.write( snapshot( 11_000, 1_000, 100, 10_500, intervalResults ) );
+
+            // Then
+            List<String> lines = Files.readAllLines( statusLog.toPath(), StandardCharsets.UTF_8 );
+            assertThat( lines.size(), equalTo( 3 ) );
+            assertThat( lines.get( 1 ), equalTo( "11000|1000|ALL|100|100.00|50|99|-1|500|7|3" ) );
+            assertThat( lines.get( 2 ), equalTo( "11000|1000|Type1|100|100.00|50|99|-1|-1|-1|-1" ) );
+        }
+    }
+
+    private static WorkloadTelemetrySnapshot snapshot( long timeAsMilli,
+            long runDurationAsMilli,
+            long operationCount,
+            long completionTimeAsMilli )
+    {
+        return snapshot( timeAsMilli, runDurationAsMilli, operationCount, completionTimeAsMilli, null );
+    }
+
+    private static WorkloadTelemetrySnapshot snapshot( long timeAsMilli,
+            long runDurationAsMilli,
+            long operationCount,
+            long completionTimeAsMilli,
+            WorkloadResultsSnapshot intervalResults )
+    {
+        return new WorkloadTelemetrySnapshot(
+                timeAsMilli,
+                runDurationAsMilli,
+                operationCount,
+                0,
+                0,
+                completionTimeAsMilli,
+                7,
+                3,
+                4,
+                0,
+                new HashMap<String,Long>(),
+                null,
+                intervalResults
+        );
+    }
+}
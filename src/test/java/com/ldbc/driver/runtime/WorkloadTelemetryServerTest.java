@@ -0,0 +1,121 @@
+package com.ldbc.driver.runtime;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.google.common.io.CharStreams;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.net.HttpURLConnection;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.hamcrest.CoreMatchers.containsString;
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.junit.Assert.assertThat;
+
+public class WorkloadTelemetryServerTest
+{
+    @Test
+    public void shouldServeLatestPublishedSnapshotAsPrometheusTextAndJson() throws IOException
+    {
+        // Given
+        try ( WorkloadTelemetryServer server = WorkloadTelemetryServer.start( 0 ) )
+        {
+            // Then
+            assertThat( responseCode( server, WorkloadTelemetryServer.METRICS_PATH ), is( 503 ) );
+            assertThat( responseCode( server, WorkloadTelemetryServer.STATUS_PATH ), is( 503 ) );
+
+            // When
+            server.publish( snapshot( 1000, 10 ) );
+            server.publish( snapshot( 2000, 20 ) );
+
+            // Then
+            assertThat( responseCode( server, WorkloadTelemetryServer.METRICS_PATH ), is( 200 ) );
+            String metrics = get( server, WorkloadTelemetryServer.METRICS_PATH );
+            assertThat( metrics, containsString( "# TYPE ldbc_driver_operations_total counter\n" ) );
+            assertThat( metrics, containsString( "\nldbc_driver_operations_total 20\n" ) );
+            assertThat( metrics, containsString( "\nldbc_driver_completion_time_lag_seconds 1.5\n" ) );
+            assertThat( metrics, containsString( "\nldbc_driver_operations_queued 3\n" ) );
+            assertThat( metrics, containsString( "\nldbc_driver_operation_type_total{type=\"Query\\\"1\"} 15\n" ) );
+
+            JsonNode status = new ObjectMapper().readTree( get( server, WorkloadTelemetryServer.STATUS_PATH ) );
+            assertThat( status.get( "operation_count" ).asLong(), equalTo( 20L ) );
+            assertThat( status.get( "completion_time_lag" ).asLong(), equalTo( 1500L ) );
+            assertThat( status.get( "handlers_in_flight" ).asLong(), equalTo( 7L ) );
+            assertThat( status.get( "operation_counts" ).get( "Update" ).asLong(), equalTo( 5L ) );
+        }
+    }
+
+    @Test
+    public void shouldOmitCompletionTimeLagWhenCompletionTimeIsNotKnown()
+    {
+        // Given
+        WorkloadTelemetrySnapshot snapshot = new WorkloadTelemetrySnapshot(
+                10_000, 0, 0, 0, 0, -1, 0, 0, 4, 0, new HashMap<String,Long>(), null, null );
+
+        // Then
+        assertThat( snapshot.completionTimeLagAsMilli(), is( -1L ) );
+        assertThat( snapshot.toPrometheusText(), not( containsString( "ldbc_driver_completion_time_lag_seconds" ) ) );
+        assertThat( snapshot.toPrometheusText(), containsString( "\nldbc_driver_executor_workers 4\n" ) );
+    }
+
+    private static WorkloadTelemetrySnapshot snapshot( long runDurationAsMilli, long operationCount )
+    {
+        Map<String,Long> operationCounts = new HashMap<>();
+        operationCounts.put( "Query\"1", operationCount - 5 );
+        operationCounts.put( "Update", 5L );
+        return new WorkloadTelemetrySnapshot(
+                10_000,
+                runDurationAsMilli,
+                operationCount,
+                operationCount / (runDurationAsMilli / 1000.0),
+                operationCount / (runDurationAsMilli / 1000.0),
+                8_500,
+                7,
+                3,
+                4,
+                0,
+                operationCounts,
+                null,
+                null
+        );
+    }
+
+    private static int responseCode( WorkloadTelemetryServer server, String path ) throws IOException
+    {
+        HttpURLConnection connection = connect( server, path );
+        try
+        {
+            return connection.getResponseCode();
+        }
+        finally
+        {
+            connection.disconnect();
+        }
+    }
+
+    private static String get( WorkloadTelemetryServer server, String path ) throws IOException
+    {
+        HttpURLConnection connection = connect( server, path );
+        try ( InputStreamReader reader =
+                      new InputStreamReader( connection.getInputStream(), StandardCharsets.UTF_8 ) )
+        {
+            return CharStreams.toString( reader );
+        }
+        finally
+        {
+            connection.disconnect();
+        }
+    }
+
+    private static HttpURLConnection connect( WorkloadTelemetryServer server, String path ) throws IOException
+    {
+        return (HttpURLConnection) new URL( "http://localhost:" + server.port() + path ).openConnection();
+    }
+}
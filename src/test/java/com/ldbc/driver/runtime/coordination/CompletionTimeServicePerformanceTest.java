@@ -0,0 +1,207 @@
+package com.ldbc.driver.runtime.coordination;
+
+import com.ldbc.driver.runtime.ConcurrentErrorReporter;
+import com.ldbc.driver.temporal.SystemTimeSource;
+import com.ldbc.driver.temporal.TimeSource;
+import org.junit.Ignore;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+/**
+ * Measures throughput of Initiated Time & Completed Time submissions, for each Completion Time service
+ * implementation, with 1 to 64 concurrent writers, while one reader continuously reads Completion Time.
+ */
+@Ignore
+public class CompletionTimeServicePerformanceTest
+{
+    private static final int MAX_WRITER_COUNT = 64;
+    private static final long SUBMISSIONS_PER_WRITER = 200_000;
+    private static final int WARMUP_REPETITIONS = 2;
+    private static final int EXPERIMENT_REPETITIONS = 5;
+
+    private final TimeSource timeSource = new SystemTimeSource();
+    private final CompletionTimeServiceAssistant assistant = new CompletionTimeServiceAssistant();
+
+    private enum CompletionTimeServiceType
+    {
+        SYNCHRONIZED,
+        THREADED_QUEUED,
+        LOCK_FREE
+    }
+
+    @Test
+    public void completionTimeServicesThroughputComparison() throws Exception
+    {
+        for ( int writerCount = 1; writerCount <= MAX_WRITER_COUNT; writerCount = writerCount * 2 )
+        {
+            System.out.printf( "Writers:%-2s", writerCount );
+            for ( CompletionTimeServiceType type : CompletionTimeServiceType.values() )
+            {
+                for ( int i = 0; i < WARMUP_REPETITIONS; i++ )
+                {
+                    submissionsDurationAsNano( type, writerCount );
+                }
+                long totalDurationAsNano = 0;
+                for ( int i = 0; i < EXPERIMENT_REPETITIONS; i++ )
+                {
+                    totalDurationAsNano += submissionsDurationAsNano( type, writerCount );
+                }
+                long submissionCount = 2 * SUBMISSIONS_PER_WRITER * writerCount * EXPERIMENT_REPETITIONS;
+                System.out.printf( "\t%s=%,d submissions/s",
+                        type.name(),
+                        submissionCount * TimeUnit.SECONDS.toNanos( 1 ) / totalDurationAsNano );
+            }
+            System.out.println();
+        }
+    }
+
+    private long submissionsDurationAsNano( CompletionTimeServiceType type, int writerCount )
+            throws CompletionTimeException, InterruptedException, ExecutionException
+    {
+        ConcurrentErrorReporter errorReporter = new ConcurrentErrorReporter();
+        CompletionTimeService completionTimeService = newCompletionTimeService( type, errorReporter );
+        try
+        {
+            List<CompletionTimeWriter> writers = new ArrayList<>();
+            for ( int i = 0; i < writerCount; i++ )
+            {
+                writers.add( completionTimeService.newCompletionTimeWriter() );
+            }
+
+            CountDownLatch startLatch = new CountDownLatch( 1 );
+            CountDownLatch writersFinishedLatch = new CountDownLatch( writerCount );
+            List<Thread> threads = new ArrayList<>();
+            for ( CompletionTimeWriter writer : writers )
+            {
+                threads.add( new WriterThread( writer, startLatch, writersFinishedLatch, errorReporter ) );
+            }
+            AtomicBoolean readerShouldStop = new AtomicBoolean( false );
+            ReaderThread readerThread = new ReaderThread( completionTimeService, readerShouldStop, errorReporter );
+            for ( Thread thread : threads )
+            {
+                thread.start();
+            }
+            readerThread.start();
+
+            long startTimeAsNano = timeSource.nanoSnapshot();
+            startLatch.countDown();
+            writersFinishedLatch.await();
+            long expectedCompletionTimeAsMilli = SUBMISSIONS_PER_WRITER - 1;
+            for ( CompletionTimeWriter writer : writers )
+            {
+                writer.submitInitiatedTime( SUBMISSIONS_PER_WRITER );
+            }
+            assertThat(
+                    completionTimeService.completionTimeAsMilliFuture().get(),
+                    is( expectedCompletionTimeAsMilli ) );
+            long durationAsNano = timeSource.nanoSnapshot() - startTimeAsNano;
+
+            readerShouldStop.set( true );
+            readerThread.join();
+            assertThat( errorReporter.toString(), errorReporter.errorEncountered(), is( false ) );
+            return durationAsNano;
+        }
+        finally
+        {
+            completionTimeService.shutdown();
+        }
+    }
+
+    private CompletionTimeService newCompletionTimeService( CompletionTimeServiceType type,
+            ConcurrentErrorReporter errorReporter ) throws CompletionTimeException
+    {
+        switch ( type )
+        {
+        case SYNCHRONIZED:
+            return assistant.newSynchronizedCompletionTimeService();
+        case THREADED_QUEUED:
+            return assistant.newThreadedQueuedCompletionTimeService( timeSource, errorReporter );
+        case LOCK_FREE:
+            return assistant.newLockFreeCompletionTimeService();
+        default:
+            throw new CompletionTimeException( "Unrecognized completion time service type: " + type.name() );
+        }
+    }
+
+    private static class WriterThread extends Thread
+    {
+        private final CompletionTimeWriter writer;
+        private final CountDownLatch startLatch;
+        private final CountDownLatch writersFinishedLatch;
+        private final ConcurrentErrorReporter errorReporter;
+
+        private WriterThread( CompletionTimeWriter writer,
+                CountDownLatch startLatch,
+                CountDownLatch writersFinishedLatch,
+                ConcurrentErrorReporter errorReporter )
+        {
+            this.writer = writer;
+            this.startLatch = startLatch;
+            this.writersFinishedLatch = writersFinishedLatch;
+            this.errorReporter = errorReporter;
+        }
+
+        @Override
+        public void run()
+        {
+            try
+            {
+                startLatch.await();
+                for ( long timeAsMilli = 0; timeAsMilli < SUBMISSIONS_PER_WRITER; timeAsMilli++ )
+                {
+                    writer.submitInitiatedTime( timeAsMilli );
+                    writer.submitCompletedTime( timeAsMilli );
+                }
+            }
+            catch ( Exception e )
+            {
+                errorReporter.reportError( this, ConcurrentErrorReporter.stackTraceToString( e ) );
+            }
+            finally
+            {
+                writersFinishedLatch.countDown();
+            }
+        }
+    }
+
+    private static class ReaderThread extends Thread
+    {
+        private final CompletionTimeReader reader;
+        private final AtomicBoolean shouldStop;
+        private final ConcurrentErrorReporter errorReporter;
+
+        private ReaderThread( CompletionTimeReader reader,
+                AtomicBoolean shouldStop,
+                ConcurrentErrorReporter errorReporter )
+        {
+            this.reader = reader;
+            this.shouldStop = shouldStop;
+            this.errorReporter = errorReporter;
+        }
+
+        @Override
+        public void run()
+        {
+            try
+            {
+                while ( !shouldStop.get() )
+                {
+                    reader.completionTimeAsMilli();
+                }
+            }
+            catch ( CompletionTimeException e )
+            {
+                errorReporter.reportError( this, ConcurrentErrorReporter.stackTraceToString( e ) );
+            }
+        }
+    }
+}
@@ -6,6 +6,9 @@ import com.ldbc.driver.temporal.TimeSource;
 import org.junit.Test;
 
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
 
@@ -54,6 +57,25 @@ public class CompletionTimeServiceTest
         }
     }
 
+    @Test
+    public void shouldBehavePredictablyAfterInstantiationWithLockFreeImplementation()
+            throws CompletionTimeException, InterruptedException, ExecutionException, TimeoutException
+    {
+        // Given
+        CompletionTimeServiceAssistant assistant = new CompletionTimeServiceAssistant();
+        CompletionTimeService cts = assistant.newLockFreeCompletionTimeService();
+
+        // Then
+        try
+        {
+            shouldBehavePredictablyAfterInstantiation( cts );
+        }
+        finally
+        {
+            cts.shutdown();
+        }
+    }
+
     private void shouldBehavePredictablyAfterInstantiation( CompletionTimeService cts )
             throws CompletionTimeException, InterruptedException, ExecutionException, TimeoutException
     {
@@ -108,6 +130,25 @@ public class CompletionTimeServiceTest
         }
     }
 
+    @Test
+    public void shouldAdvanceCtWhenWriterSubmitInitiatedAndCompletedTimesWithLockFreeImplementation()
+            throws CompletionTimeException, InterruptedException, ExecutionException, TimeoutException
+    {
+        // Given
+        CompletionTimeServiceAssistant assistant = new CompletionTimeServiceAssistant();
+        CompletionTimeService cts = assistant.newLockFreeCompletionTimeService();
+
+        // Then
+        try
+        {
+            shouldAdvanceCtWhenWriterSubmitInitiatedAndCompletedTimes( cts );
+        }
+        finally
+        {
+            cts.shutdown();
+        }
+    }
+
     private void shouldAdvanceCtWhenWriterSubmitInitiatedAndCompletedTimes(
             CompletionTimeService cts )
             throws CompletionTimeException, InterruptedException, ExecutionException, TimeoutException
@@ -168,6 +209,24 @@ public class CompletionTimeServiceTest
         }
     }
 
+    @Test
+    public void shouldReturnAllWritersWithLockFreeImplementation() throws CompletionTimeException
+    {
+        // Given
+        CompletionTimeServiceAssistant assistant = new CompletionTimeServiceAssistant();
+        CompletionTimeService cts = assistant.newLockFreeCompletionTimeService();
+
+        // Then
+        try
+        {
+            shouldReturnAllWriters( cts );
+        }
+        finally
+        {
+            cts.shutdown();
+        }
+    }
+
     private void shouldReturnAllWriters( CompletionTimeService cts ) throws CompletionTimeException
     {
         // Given
@@ -230,6 +289,25 @@ public class CompletionTimeServiceTest
         }
     }
 
+    @Test
+    public void shouldReturnNullWhenNoITNoCTWithLockFreeImplementation()
+            throws CompletionTimeException, InterruptedException, ExecutionException, TimeoutException
+    {
+        // Given
+        CompletionTimeServiceAssistant assistant = new CompletionTimeServiceAssistant();
+        CompletionTimeService cts = assistant.newLockFreeCompletionTimeService();
+
+        // Then
+        try
+        {
+            doShouldReturnNullWhenNoITNoCT( cts );
+        }
+        finally
+        {
+            cts.shutdown();
+        }
+    }
+
     // IT = none, CT = none --> null
     private void doShouldReturnNullWhenNoITNoCT( CompletionTimeService cts )
             throws CompletionTimeException, InterruptedException, ExecutionException, TimeoutException
@@ -283,6 +361,25 @@ public class CompletionTimeServiceTest
         }
     }
 
+    @Test
+    public void shouldReturnNullWhenSomeITAndNoCTWithLockFreeImplementation()
+            throws CompletionTimeException, InterruptedException, ExecutionException, TimeoutException
+    {
+        // Given
+        CompletionTimeServiceAssistant assistant = new CompletionTimeServiceAssistant();
+        CompletionTimeService cts = assistant.newLockFreeCompletionTimeService();
+
+        // Then
+        try
+        {
+            doShouldReturnNullWhenSomeITAndNoCT( cts );
+        }
+        finally
+        {
+            cts.shutdown();
+        }
+    }
+
     // IT = some, CT = none --> null
     private void doShouldReturnNullWhenSomeITAndNoCT( CompletionTimeService cts )
             throws CompletionTimeException, InterruptedException, ExecutionException, TimeoutException
@@ -337,6 +434,25 @@ public class CompletionTimeServiceTest
         }
     }
 
+    @Test
+    public void shouldReturnNullWhenSomeITAndSomeCTWithLockFreeImplementation()
+            throws CompletionTimeException, InterruptedException, ExecutionException, TimeoutException
+    {
+        // Given
+        CompletionTimeServiceAssistant assistant = new CompletionTimeServiceAssistant();
+        CompletionTimeService cts = assistant.newLockFreeCompletionTimeService();
+
+        // Then
+        try
+        {
+            doShouldReturnNullWhenSomeITAndSomeCT( cts );
+        }
+        finally
+        {
+            cts.shutdown();
+        }
+    }
+
     //  IT = some, CT = some --> null
     private void doShouldReturnNullWhenSomeITAndSomeCT( CompletionTimeService cts )
             throws CompletionTimeException, InterruptedException, ExecutionException, TimeoutException
@@ -392,6 +508,25 @@ public class CompletionTimeServiceTest
         }
     }
 
+    @Test
+    public void shouldReturnTimeOfEarliestITThatHasHadNoMatchingCTWithLockFreeImplementation()
+            throws CompletionTimeException, InterruptedException, ExecutionException, TimeoutException
+    {
+        // Given
+        CompletionTimeServiceAssistant assistant = new CompletionTimeServiceAssistant();
+        CompletionTimeService cts = assistant.newLockFreeCompletionTimeService();
+
+        // Then
+        try
+        {
+            doShouldReturnTimeOfEarliestITThatHasHadNoMatchingCTWhen( cts );
+        }
+        finally
+        {
+            cts.shutdown();
+        }
+    }
+
     private void doShouldReturnTimeOfEarliestITThatHasHadNoMatchingCTWhen( CompletionTimeService cts )
             throws CompletionTimeException, InterruptedException, ExecutionException, TimeoutException
     {
@@ -551,6 +686,25 @@ public class CompletionTimeServiceTest
         }
     }
 
+    @Test
+    public void shouldReturnTimeOfEarliestITThatHasHadNoMatchingCTWithDuplicateTimesWithLockFreeImplementation()
+            throws CompletionTimeException, InterruptedException, ExecutionException, TimeoutException
+    {
+        // Given
+        CompletionTimeServiceAssistant assistant = new CompletionTimeServiceAssistant();
+        CompletionTimeService cts = assistant.newLockFreeCompletionTimeService();
+
+        // Then
+        try
+        {
+            doShouldReturnTimeOfEarliestITThatHasHadNoMatchingCTWithDuplicateTimes( cts );
+        }
+        finally
+        {
+            cts.shutdown();
+        }
+    }
+
     private void doShouldReturnTimeOfEarliestITThatHasHadNoMatchingCTWithDuplicateTimes( CompletionTimeService cts )
             throws CompletionTimeException, InterruptedException, ExecutionException, TimeoutException
     {
@@ -629,4 +783,107 @@ public class CompletionTimeServiceTest
         ctWriter.submitInitiatedTime( 6000L );
         assertThat( cts.completionTimeAsMilliFuture().get( 1, TimeUnit.SECONDS ), is( 5000L ) );
     }
+
+    @Test
+    public void shouldWakeWaitersWhenCtReachesTheirTimeWithSynchronizedImplementation()
+            throws CompletionTimeException, InterruptedException, ExecutionException, TimeoutException
+    {
+        // Given
+        CompletionTimeServiceAssistant assistant = new CompletionTimeServiceAssistant();
+        CompletionTimeService cts = assistant.newSynchronizedCompletionTimeService();
+
+        // Then
+        try
+        {
+            shouldWakeWaitersWhenCtReachesTheirTime( cts );
+        }
+        finally
+        {
+            cts.shutdown();
+        }
+    }
+
+    @Test
+    public void shouldWakeWaitersWhenCtReachesTheirTimeWithThreadedImplementation()
+            throws CompletionTimeException, InterruptedException, ExecutionException, TimeoutException
+    {
+        // Given
+        TimeSource timeSource = new SystemTimeSource();
+        ConcurrentErrorReporter errorReporter = new ConcurrentErrorReporter();
+        CompletionTimeServiceAssistant assistant = new CompletionTimeServiceAssistant();
+        CompletionTimeService cts = assistant.newThreadedQueuedCompletionTimeService( timeSource, errorReporter );
+
+        // Then
+        try
+        {
+            shouldWakeWaitersWhenCtReachesTheirTime( cts );
+        }
+        finally
+        {
+            cts.shutdown();
+        }
+    }
+
+    @Test
+    public void shouldWakeWaitersWhenCtReachesTheirTimeWithLockFreeImplementation()
+            throws CompletionTimeException, InterruptedException, ExecutionException, TimeoutException
+    {
+        // Given
+        CompletionTimeServiceAssistant assistant = new CompletionTimeServiceAssistant();
+        CompletionTimeService cts = assistant.newLockFreeCompletionTimeService();
+
+        // Then
+        try
+        {
+            shouldWakeWaitersWhenCtReachesTheirTime( cts );
+        }
+        finally
+        {
+            cts.shutdown();
+        }
+    }
+
+    private void shouldWakeWaitersWhenCtReachesTheirTime( final CompletionTimeService cts )
+            throws CompletionTimeException, InterruptedException, ExecutionException, TimeoutException
+    {
+        // Given
+        CompletionTimeWriter writer = cts.newCompletionTimeWriter();
+        ExecutorService executorService = Executors.newFixedThreadPool( 2 );
+        long waitTimeoutAsMilli = TimeUnit.SECONDS.toMillis( 10 );
+
+        try
+        {
+            // When
+            Future<Boolean> waiterFor1000 =
+                    executorService.submit( () -> cts.awaitCompletionTimeAsMilli( 1000L, waitTimeoutAsMilli ) );
+            Future<Boolean> waiterFor2000 =
+                    executorService.submit( () -> cts.awaitCompletionTimeAsMilli( 2000L, waitTimeoutAsMilli ) );
+
+            // initiated [1,2,3]
+            // completed [ , , ]
+            writer.submitInitiatedTime( 1000L );
+            writer.submitInitiatedTime( 2000L );
+            writer.submitInitiatedTime( 3000L );
+
+            // Then
+            assertThat( cts.awaitCompletionTimeAsMilli( 1000L, 10 ), is( false ) );
+            assertThat( waiterFor1000.isDone(), is( false ) );
+
+            // initiated [1,2,3]
+            // completed [1, , ]
+            writer.submitCompletedTime( 1000L );
+            assertThat( waiterFor1000.get( 1, TimeUnit.SECONDS ), is( true ) );
+            assertThat( waiterFor2000.isDone(), is( false ) );
+
+            // initiated [1,2,3]
+            // completed [1,2, ]
+            writer.submitCompletedTime( 2000L );
+            assertThat( waiterFor2000.get( 1, TimeUnit.SECONDS ), is( true ) );
+            assertThat( cts.awaitCompletionTimeAsMilli( 2000L, 0 ), is( true ) );
+        }
+        finally
+        {
+            executorService.shutdownNow();
+        }
+    }
 }
@@ -0,0 +1,212 @@
+package com.ldbc.driver.runtime.coordination;
+
+import com.ldbc.driver.runtime.ConcurrentErrorReporter;
+import org.junit.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+public class LockFreeCompletionTimeWriterTest
+{
+    @Test
+    public void shouldReturnNullWhenNoEventsHaveBeenInitiatedOrCompleted()
+    {
+        // Given
+        LockFreeCompletionTimeWriter writer = new LockFreeCompletionTimeWriter();
+
+        // When / Then
+        // IT []
+        // CT []
+        assertThat( writer.lastKnownLowestInitiatedTimeAsMilli(), is( -1L ) );
+        assertThat( writer.completionTimeAsMilli(), is( -1L ) );
+    }
+
+    @Test
+    public void shouldAdvanceToNextUncompletedEventAsInitiatedEventsAreCompleted() throws CompletionTimeException
+    {
+        // Given
+        LockFreeCompletionTimeWriter writer = new LockFreeCompletionTimeWriter();
+
+        // When / Then
+        // IT [1,2,3]
+        // CT [ , , ]
+        writer.submitInitiatedTime( 1000L );
+        writer.submitInitiatedTime( 2000L );
+        writer.submitInitiatedTime( 3000L );
+        assertThat( writer.lastKnownLowestInitiatedTimeAsMilli(), is( 1000L ) );
+        assertThat( writer.completionTimeAsMilli(), is( -1L ) );
+
+        // IT [1, , ]
+        // CT [ ,2,3]
+        writer.submitCompletedTime( 2000L );
+        writer.submitCompletedTime( 3000L );
+        assertThat( writer.lastKnownLowestInitiatedTimeAsMilli(), is( 1000L ) );
+        assertThat( writer.completionTimeAsMilli(), is( -1L ) );
+
+        // IT [ , , ]
+        // CT [1,2,3]
+        writer.submitCompletedTime( 1000L );
+        assertThat( writer.lastKnownLowestInitiatedTimeAsMilli(), is( 3000L ) );
+        assertThat( writer.completionTimeAsMilli(), is( 2000L ) );
+
+        // IT [ , , ,4]
+        // CT [1,2,3, ]
+        writer.submitInitiatedTime( 4000L );
+        assertThat( writer.lastKnownLowestInitiatedTimeAsMilli(), is( 4000L ) );
+        assertThat( writer.completionTimeAsMilli(), is( 3000L ) );
+    }
+
+    @Test
+    public void shouldOnlyAdvanceWhenAllEventsWithDuplicateTimesHaveCompleted() throws CompletionTimeException
+    {
+        // Given
+        LockFreeCompletionTimeWriter writer = new LockFreeCompletionTimeWriter();
+
+        // When / Then
+        // IT [1,1,2]
+        // CT [ , , ]
+        writer.submitInitiatedTime( 1000L );
+        writer.submitInitiatedTime( 1000L );
+        writer.submitInitiatedTime( 2000L );
+
+        // IT [ ,1,2]
+        // CT [1, , ]
+        writer.submitCompletedTime( 1000L );
+        assertThat( writer.lastKnownLowestInitiatedTimeAsMilli(), is( 1000L ) );
+        assertThat( writer.completionTimeAsMilli(), is( -1L ) );
+
+        // IT [ , ,2]
+        // CT [1,1, ]
+        writer.submitCompletedTime( 1000L );
+        assertThat( writer.lastKnownLowestInitiatedTimeAsMilli(), is( 2000L ) );
+        assertThat( writer.completionTimeAsMilli(), is( 1000L ) );
+
+        // IT [ , , , ,2]
+        // CT [1,1,2, ]
+        writer.submitCompletedTime( 2000L );
+        writer.submitInitiatedTime( 2000L );
+        assertThat( writer.lastKnownLowestInitiatedTimeAsMilli(), is( 2000L ) );
+        assertThat( writer.completionTimeAsMilli(), is( 1000L ) );
+    }
+
+    @Test( expected = CompletionTimeException.class )
+    public void shouldThrowExceptionWhenInitiatedTimesAreNotAscending() throws CompletionTimeException
+    {
+        // Given
+        LockFreeCompletionTimeWriter writer = new LockFreeCompletionTimeWriter();
+        writer.submitInitiatedTime( 2000L );
+
+        // When / Then
+        writer.submitInitiatedTime( 1000L );
+    }
+
+    @Test( expected = CompletionTimeException.class )
+    public void shouldThrowExceptionWhenCompletedTimeHasNoUncompletedInitiatedTime() throws CompletionTimeException
+    {
+        // Given
+        LockFreeCompletionTimeWriter writer = new LockFreeCompletionTimeWriter();
+        writer.submitInitiatedTime( 1000L );
+        writer.submitCompletedTime( 1000L );
+
+        // When / Then
+        writer.submitCompletedTime( 1000L );
+    }
+
+    @Test
+    public void shouldTrackMoreUncompletedTimesThanFitInInitialCapacity() throws CompletionTimeException
+    {
+        // Given
+        LockFreeCompletionTimeWriter writer = new LockFreeCompletionTimeWriter();
+        int timeCount = 100_000;
+
+        // When / Then
+        // earliest event remains uncompleted while all later events complete, so no entry can be reused
+        for ( long time = 0; time < timeCount; time++ )
+        {
+            writer.submitInitiatedTime( time );
+            if ( time > 0 )
+            {
+                writer.submitCompletedTime( time );
+            }
+        }
+        assertThat( writer.lastKnownLowestInitiatedTimeAsMilli(), is( 0L ) );
+        assertThat( writer.completionTimeAsMilli(), is( -1L ) );
+
+        writer.submitCompletedTime( 0L );
+        assertThat( writer.lastKnownLowestInitiatedTimeAsMilli(), is( timeCount - 1L ) );
+        assertThat( writer.completionTimeAsMilli(), is( timeCount - 2L ) );
+
+        // entries are reused once consumed
+        for ( long time = timeCount; time < timeCount * 2; time++ )
+        {
+            writer.submitInitiatedTime( time );
+            writer.submitCompletedTime( time );
+        }
+        writer.submitInitiatedTime( timeCount * 2 );
+        assertThat( writer.lastKnownLowestInitiatedTimeAsMilli(), is( timeCount * 2L ) );
+        assertThat( writer.completionTimeAsMilli(), is( timeCount * 2L - 1 ) );
+    }
+
+    @Test
+    public void shouldAcceptCompletedTimesFromManyThreadsConcurrently() throws Exception
+    {
+        // Given
+        final LockFreeCompletionTimeWriter writer = new LockFreeCompletionTimeWriter();
+        final ConcurrentErrorReporter errorReporter = new ConcurrentErrorReporter();
+        final int threadCount = 8;
+        final long timeCount = 200_000;
+        final AtomicLong initiatedTimeAsMilli = new AtomicLong( -1 );
+        final AtomicLong nextTimeToCompleteAsMilli = new AtomicLong( 0 );
+        final CountDownLatch completingThreadsFinished = new CountDownLatch( threadCount );
+
+        // When
+        for ( int i = 0; i < threadCount; i++ )
+        {
+            new Thread()
+            {
+                @Override
+                public void run()
+                {
+                    try
+                    {
+                        long timeToCompleteAsMilli;
+                        while ( (timeToCompleteAsMilli = nextTimeToCompleteAsMilli.getAndIncrement()) < timeCount )
+                        {
+                            while ( initiatedTimeAsMilli.get() < timeToCompleteAsMilli )
+                            {
+                                // wait for time to be initiated
+                                Thread.yield();
+                            }
+                            writer.submitCompletedTime( timeToCompleteAsMilli / 2 );
+                        }
+                    }
+                    catch ( CompletionTimeException e )
+                    {
+                        errorReporter.reportError( this, ConcurrentErrorReporter.stackTraceToString( e ) );
+                    }
+                    finally
+                    {
+                        completingThreadsFinished.countDown();
+                    }
+                }
+            }.start();
+        }
+        // every time is initiated twice
+        for ( long time = 0; time < timeCount; time++ )
+        {
+            writer.submitInitiatedTime( time / 2 );
+            initiatedTimeAsMilli.set( time );
+        }
+        completingThreadsFinished.await();
+        writer.submitInitiatedTime( timeCount );
+        writer.awaitSubmissionsApplied();
+
+        // Then
+        assertThat( errorReporter.toString(), errorReporter.errorEncountered(), is( false ) );
+        assertThat( writer.lastKnownLowestInitiatedTimeAsMilli(), is( timeCount ) );
+        assertThat( writer.completionTimeAsMilli(), is( timeCount / 2 - 1 ) );
+    }
+}
@@ -0,0 +1,67 @@
+package com.ldbc.driver.runtime.executor;
+
+import org.junit.Test;
+
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.Matchers.greaterThanOrEqualTo;
+import static org.junit.Assert.assertThat;
+
+public class BackPressureMetricsTest
+{
+    @Test
+    public void shouldOnlyRecordFeederAsBlockedWhenNoPermitWasAvailable() throws InterruptedException
+    {
+        // Given
+        BackPressureMetrics backPressureMetrics = new BackPressureMetrics( 10 );
+        final Semaphore permits = new Semaphore( 1 );
+        long blockedAsMilli = 100;
+
+        // When
+        backPressureMetrics.acquire( permits );
+        Thread releasingThread = new Thread( () ->
+        {
+            try
+            {
+                Thread.sleep( blockedAsMilli );
+            }
+            catch ( InterruptedException e )
+            {
+                // do nothing
+            }
+            permits.release();
+        } );
+        releasingThread.start();
+        backPressureMetrics.acquire( permits );
+        releasingThread.join();
+
+        // Then
+        assertThat( backPressureMetrics.feederBlockedSnapshot().count(), is( 1l ) );
+        assertThat( backPressureMetrics.feederBlockedSnapshot().max(),
+                greaterThanOrEqualTo( TimeUnit.MILLISECONDS.toMicros( blockedAsMilli / 2 ) ) );
+    }
+
+    @Test
+    public void shouldRecordQueueDepthOnlyWhenExecutorHasQueue()
+    {
+        // Given
+        BackPressureMetrics withQueue = new BackPressureMetrics( 10 );
+        BackPressureMetrics withoutQueue = new BackPressureMetrics( 0 );
+
+        // When
+        withQueue.recordQueueDepth( 1 );
+        withQueue.recordQueueDepth( 5 );
+        withQueue.recordQueueDepth( 20 );
+        withoutQueue.recordQueueDepth( 1 );
+
+        // Then
+        assertThat( withQueue.queueDepthSnapshot().count(), is( 3l ) );
+        assertThat( withQueue.queueDepthSnapshot().min(), is( 1l ) );
+        // depths beyond the queue bound are recorded as the bound
+        assertThat( withQueue.queueDepthSnapshot().max(), is( 10l ) );
+        assertThat( withoutQueue.queueDepthSnapshot(), is( nullValue() ) );
+    }
+}
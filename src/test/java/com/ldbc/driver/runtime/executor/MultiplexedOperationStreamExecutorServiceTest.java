@@ -0,0 +1,247 @@
+package com.ldbc.driver.runtime.executor;
+
+import com.ldbc.driver.Operation;
+import com.ldbc.driver.WorkloadStreams;
+import com.ldbc.driver.runtime.ConcurrentErrorReporter;
+import com.ldbc.driver.runtime.coordination.DummyCompletionTimeReader;
+import com.ldbc.driver.runtime.coordination.DummyCompletionTimeWriter;
+import com.ldbc.driver.runtime.scheduling.Spinner;
+import com.ldbc.driver.workloads.dummy.TimedNamedOperation1;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
+import static org.junit.Assert.assertThat;
+
+public class MultiplexedOperationStreamExecutorServiceTest
+{
+    private static final long TIMEOUT_AS_MILLI = TimeUnit.SECONDS.toMillis( 30 );
+
+    @Test
+    public void shouldExecuteEveryStreamInOrderOneOperationAtATime() throws Exception
+    {
+        doShouldExecuteEveryStreamInOrderOneOperationAtATime( 1 );
+        doShouldExecuteEveryStreamInOrderOneOperationAtATime( 3 );
+        doShouldExecuteEveryStreamInOrderOneOperationAtATime( 16 );
+    }
+
+    private void doShouldExecuteEveryStreamInOrderOneOperationAtATime( int threadCount ) throws Exception
+    {
+        // Given
+        int streamCount = 8;
+        int operationCountPerStream = 200;
+        ConcurrentErrorReporter errorReporter = new ConcurrentErrorReporter();
+        MultiplexedOperationStreamExecutorService executorService =
+                new MultiplexedOperationStreamExecutorService( errorReporter, new DummyCompletionTimeReader(), threadCount );
+        List<RecordingOperationExecutor> operationExecutors = new ArrayList<>();
+        List<Operation> executedOperations = new CopyOnWriteArrayList<>();
+        Set<String> threadNames = ConcurrentHashMap.newKeySet();
+        for ( int stream = 0; stream < streamCount; stream++ )
+        {
+            List<Operation> operations = new ArrayList<>();
+            for ( int i = 0; i < operationCountPerStream; i++ )
+            {
+                // streams interleave in time
+                long timeStamp = (long) i * streamCount + stream;
+                operations.add( new TimedNamedOperation1( timeStamp, timeStamp, 0, Integer.toString( stream ) ) );
+            }
+            RecordingOperationExecutor operationExecutor =
+                    new RecordingOperationExecutor( executedOperations, threadNames );
+            operationExecutors.add( operationExecutor );
+            executorService.addStream(
+                    new WorkloadStreams.WorkloadStreamDefinition(
+                            new HashSet<Class<? extends Operation>>(),
+                            new HashSet<Class<? extends Operation>>(),
+                            Collections.<Operation>emptyIterator(),
+                            operations.iterator(),
+                            null
+                    ),
+                    operationExecutor,
+                    new DummyCompletionTimeWriter()
+            );
+        }
+
+        // When
+        AtomicBoolean hasFinished = executorService.execute();
+        long timeoutTimeAsMilli = System.currentTimeMillis() + TIMEOUT_AS_MILLI;
+        while ( !hasFinished.get() && System.currentTimeMillis() < timeoutTimeAsMilli )
+        {
+            Spinner.powerNap( 10 );
+        }
+        executorService.shutdown( TIMEOUT_AS_MILLI );
+
+        // Then
+        assertThat( errorReporter.toString(), errorReporter.errorEncountered(), is( false ) );
+        assertThat( hasFinished.get(), is( true ) );
+        assertThat( executedOperations.size(), equalTo( streamCount * operationCountPerStream ) );
+        assertThat( threadNames.size(), lessThanOrEqualTo( threadCount ) );
+        for ( RecordingOperationExecutor operationExecutor : operationExecutors )
+        {
+            assertThat( operationExecutor.maxConcurrentExecutions.get(), equalTo( 1 ) );
+            assertThat( operationExecutor.outOfOrderExecutions.get(), equalTo( 0 ) );
+            assertThat( operationExecutor.executionCount.get(), equalTo( operationCountPerStream ) );
+        }
+        if ( 1 == threadCount )
+        {
+            // with one thread, streams are taken strictly in order of next scheduled start time
+            for ( int i = 0; i < executedOperations.size(); i++ )
+            {
+                assertThat( executedOperations.get( i ).timeStamp(), equalTo( (long) i ) );
+            }
+        }
+    }
+
+    @Test
+    public void shouldNotHoldThreadForOperationWhoseDependenciesAreNotMet() throws Exception
+    {
+        // Given
+        ConcurrentErrorReporter errorReporter = new ConcurrentErrorReporter();
+        DummyCompletionTimeReader completionTimeReader = new DummyCompletionTimeReader();
+        MultiplexedOperationStreamExecutorService executorService =
+                new MultiplexedOperationStreamExecutorService( errorReporter, completionTimeReader, 1 );
+        List<Operation> executedOperations = new CopyOnWriteArrayList<>();
+        Set<String> threadNames = ConcurrentHashMap.newKeySet();
+        Set<Class<? extends Operation>> dependentOperationTypes = new HashSet<>();
+        dependentOperationTypes.add( TimedNamedOperation1.class );
+        // earliest operation depends on a time that completion time has not reached
+        executorService.addStream(
+                new WorkloadStreams.WorkloadStreamDefinition(
+                        dependentOperationTypes,
+                        new HashSet<Class<? extends Operation>>(),
+                        Collections.<Operation>emptyIterator(),
+                        Collections.<Operation>singletonList(
+                                new TimedNamedOperation1( 0, 0, 1000, "dependent" ) ).iterator(),
+                        null
+                ),
+                new RecordingOperationExecutor( executedOperations, threadNames ),
+                new DummyCompletionTimeWriter()
+        );
+        List<Operation> operations = new ArrayList<>();
+        for ( int i = 1; i <= 10; i++ )
+        {
+            operations.add( new TimedNamedOperation1( i, i, 0, "independent" ) );
+        }
+        executorService.addStream(
+                new WorkloadStreams.WorkloadStreamDefinition(
+                        new HashSet<Class<? extends Operation>>(),
+                        new HashSet<Class<? extends Operation>>(),
+                        Collections.<Operation>emptyIterator(),
+                        operations.iterator(),
+                        null
+                ),
+                new RecordingOperationExecutor( executedOperations, threadNames ),
+                new DummyCompletionTimeWriter()
+        );
+
+        // When
+        AtomicBoolean hasFinished = executorService.execute();
+        long timeoutTimeAsMilli = System.currentTimeMillis() + TIMEOUT_AS_MILLI;
+        while ( executedOperations.size() < 10 && System.currentTimeMillis() < timeoutTimeAsMilli )
+        {
+            Spinner.powerNap( 10 );
+        }
+
+        // Then
+        assertThat( executedOperations.size(), equalTo( 10 ) );
+        assertThat( hasFinished.get(), is( false ) );
+
+        // When
+        completionTimeReader.setCompletionTimeAsMilli( 1000 );
+        while ( !hasFinished.get() && System.currentTimeMillis() < timeoutTimeAsMilli )
+        {
+            Spinner.powerNap( 10 );
+        }
+        executorService.shutdown( TIMEOUT_AS_MILLI );
+
+        // Then
+        assertThat( errorReporter.toString(), errorReporter.errorEncountered(), is( false ) );
+        assertThat( hasFinished.get(), is( true ) );
+        assertThat( executedOperations.size(), equalTo( 11 ) );
+        assertThat( executedOperations.get( 10 ).timeStamp(), equalTo( 0L ) );
+    }
+
+    @Test
+    public void shouldFinishImmediatelyWhenThereAreNoStreams() throws Exception
+    {
+        // Given
+        ConcurrentErrorReporter errorReporter = new ConcurrentErrorReporter();
+        MultiplexedOperationStreamExecutorService executorService =
+                new MultiplexedOperationStreamExecutorService( errorReporter, new DummyCompletionTimeReader(), 4 );
+        executorService.addStream(
+                new WorkloadStreams.WorkloadStreamDefinition(
+                        new HashSet<Class<? extends Operation>>(),
+                        new HashSet<Class<? extends Operation>>(),
+                        Collections.<Operation>emptyIterator(),
+                        Collections.<Operation>emptyIterator(),
+                        null
+                ),
+                new RecordingOperationExecutor( new ArrayList<Operation>(), new HashSet<String>() ),
+                new DummyCompletionTimeWriter()
+        );
+
+        // When
+        AtomicBoolean hasFinished = executorService.execute();
+        executorService.shutdown( TIMEOUT_AS_MILLI );
+
+        // Then
+        assertThat( executorService.streamCount(), equalTo( 0 ) );
+        assertThat( hasFinished.get(), is( true ) );
+        assertThat( errorReporter.errorEncountered(), is( false ) );
+    }
+
+    private static class RecordingOperationExecutor implements OperationExecutor
+    {
+        private final List<Operation> executedOperations;
+        private final Set<String> threadNames;
+        private final AtomicInteger concurrentExecutions = new AtomicInteger( 0 );
+        private final AtomicInteger maxConcurrentExecutions = new AtomicInteger( 0 );
+        private final AtomicInteger outOfOrderExecutions = new AtomicInteger( 0 );
+        private final AtomicInteger executionCount = new AtomicInteger( 0 );
+        private volatile long previousTimeStamp = -1;
+
+        private RecordingOperationExecutor( List<Operation> executedOperations, Set<String> threadNames )
+        {
+            this.executedOperations = executedOperations;
+            this.threadNames = threadNames;
+        }
+
+        @Override
+        public void execute( Operation operation ) throws OperationExecutorException
+        {
+            int concurrent = concurrentExecutions.incrementAndGet();
+            maxConcurrentExecutions.accumulateAndGet( concurrent, Math::max );
+            if ( operation.timeStamp() <= previousTimeStamp )
+            {
+                outOfOrderExecutions.incrementAndGet();
+            }
+            previousTimeStamp = operation.timeStamp();
+            threadNames.add( Thread.currentThread().getName() );
+            executedOperations.add( operation );
+            executionCount.incrementAndGet();
+            concurrentExecutions.decrementAndGet();
+        }
+
+        @Override
+        public void shutdown( long waitAsMilli ) throws OperationExecutorException
+        {
+        }
+
+        @Override
+        public long uncompletedOperationHandlerCount()
+        {
+            return 0;
+        }
+    }
+}
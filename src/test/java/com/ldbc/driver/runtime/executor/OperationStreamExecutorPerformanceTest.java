@@ -89,6 +89,7 @@ public class OperationStreamExecutorPerformanceTest
             IOException
     {
         List<Long> threadPoolExecutorTimes = new ArrayList<>();
+        List<Long> virtualThreadExecutorTimes = new ArrayList<>();
         List<Long> singleThreadExecutorTimes = new ArrayList<>();
         List<Long> sameThreadExecutorTimes = new ArrayList<>();
 
@@ -150,6 +151,59 @@ public class OperationStreamExecutorPerformanceTest
                 db.close();
                 metricsService.shutdown();
             }
+            // Virtual Thread Executor
+            {
+                LoggingService loggingService = new Log4jLoggingServiceFactory( false ).loggingServiceFor( "Test" );
+                boolean ignoreScheduledStartTime = false;
+                ConcurrentErrorReporter errorReporter = new ConcurrentErrorReporter();
+                Spinner spinner = new Spinner( timeSource, spinnerSleepDuration, ignoreScheduledStartTime );
+                DummyDb db = new DummyDb();
+                Map<String,String> dummyDbParameters = new HashMap<>();
+                dummyDbParameters.put( DummyDb.ALLOWED_DEFAULT_ARG, Boolean.toString( true ) );
+                db.init( dummyDbParameters, loggingService, new HashMap<Integer,Class<? extends Operation>>() );
+                CompletionTimeWriter completionTimeWriter = new DummyCompletionTimeWriter();
+                MetricsService metricsService = new DummyCountingMetricsService();
+                DummyCompletionTimeReader completionTimeReader = new DummyCompletionTimeReader();
+                completionTimeReader.setCompletionTimeAsMilli( 0L );
+                AtomicBoolean executorHasFinished = new AtomicBoolean( false );
+                AtomicBoolean forceThreadToTerminate = new AtomicBoolean( false );
+                timeSource.setNowFromMilli( 0 );
+
+                WorkloadStreams.WorkloadStreamDefinition streamDefinition =
+                        new WorkloadStreams.WorkloadStreamDefinition(
+                                new HashSet<Class<? extends Operation>>(),
+                                new HashSet<Class<? extends Operation>>(),
+                                Collections.<Operation>emptyIterator(),
+                                operations.iterator(),
+                                null
+                        );
+
+                OperationExecutor executor = new VirtualThreadOperationExecutor(
+                        1,
+                        db,
+                        streamDefinition,
+                        completionTimeWriter,
+                        completionTimeReader,
+                        spinner,
+                        timeSource,
+                        errorReporter,
+                        metricsService,
+                        streamDefinition.childOperationGenerator()
+                );
+                OperationStreamExecutorServiceThread thread = getNewThread(
+                        errorReporter,
+                        streamDefinition,
+                        executor,
+                        completionTimeWriter,
+                        executorHasFinished,
+                        forceThreadToTerminate
+                );
+
+                virtualThreadExecutorTimes.add( doTest( thread, errorReporter, metricsService, operationCount ) );
+                executor.shutdown( 1000L );
+                db.close();
+                metricsService.shutdown();
+            }
             // Single Thread Executor
             {
                 LoggingService loggingService = new Log4jLoggingServiceFactory( false ).loggingServiceFor( "Test" );
@@ -261,6 +315,10 @@ public class OperationStreamExecutorPerformanceTest
         System.out.println( format( "Spinner [Sleep = %s ms] (thread pool executor) %s ops in %s: %s ops/ms",
                 spinnerSleepDuration, operationCount, meanThreadPool,
                 (operationCount / (double) TimeUnit.MILLISECONDS.toNanos( meanThreadPool )) * 1000000 ) );
+        long meanVirtualThread = meanDuration( virtualThreadExecutorTimes );
+        System.out.println( format( "Spinner [Sleep = %s ms] (virtual thread executor) %s ops in %s: %s ops/ms",
+                spinnerSleepDuration, operationCount, meanVirtualThread,
+                (operationCount / (double) TimeUnit.MILLISECONDS.toNanos( meanVirtualThread )) * 1000000 ) );
         long meanSingleThread = meanDuration( singleThreadExecutorTimes );
         System.out.println( format( "Spinner [Sleep = %s ms] (single thread executor) %s ops in %s: %s ops/ms",
                 spinnerSleepDuration, operationCount, meanSingleThread,
@@ -1,7 +1,11 @@
 package com.ldbc.driver.runtime.executor;
 
+import com.ldbc.driver.AsynchronousOperationHandler;
 import com.ldbc.driver.Db;
+import com.ldbc.driver.DbConnectionState;
+import com.ldbc.driver.DbException;
 import com.ldbc.driver.Operation;
+import com.ldbc.driver.ResultReporter;
 import com.ldbc.driver.WorkloadStreams;
 import com.ldbc.driver.control.Log4jLoggingServiceFactory;
 import com.ldbc.driver.control.LoggingService;
@@ -11,17 +15,24 @@ import com.ldbc.driver.runtime.coordination.CompletionTimeWriter;
 import com.ldbc.driver.runtime.coordination.DummyCompletionTimeWriter;
 import com.ldbc.driver.runtime.coordination.DummyCompletionTimeReader;
 import com.ldbc.driver.runtime.metrics.DummyCountingMetricsService;
+import com.ldbc.driver.runtime.metrics.MetricsCollectionException;
 import com.ldbc.driver.runtime.scheduling.Spinner;
 import com.ldbc.driver.temporal.SystemTimeSource;
 import com.ldbc.driver.temporal.TimeSource;
 import com.ldbc.driver.workloads.dummy.DummyDb;
+import com.ldbc.driver.workloads.dummy.DummyResult;
 import com.ldbc.driver.workloads.dummy.DummyWorkload;
 import com.ldbc.driver.workloads.dummy.NothingOperation;
 import org.junit.Test;
 
+import java.io.IOException;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
 
 import static org.hamcrest.CoreMatchers.is;
 import static org.junit.Assert.assertThat;
@@ -240,4 +251,144 @@ public class ThreadPoolOperationExecutorTest
         assertThat( exceptionThrown, is( true ) );
         assertThat( errorReporter.toString(), errorReporter.errorEncountered(), is( false ) );
     }
+
+    @Test
+    public void executorShouldNotPinThreadsWhileAsynchronousHandlersAreInFlight() throws Exception
+    {
+        // Given
+        LoggingService loggingService = new Log4jLoggingServiceFactory( false ).loggingServiceFor( "Test" );
+        TimeSource timeSource = new SystemTimeSource();
+        boolean ignoreScheduledStartTime = false;
+        ConcurrentErrorReporter errorReporter = new ConcurrentErrorReporter();
+        Spinner spinner = new Spinner( timeSource, Spinner.DEFAULT_SLEEP_DURATION_10_MILLI, ignoreScheduledStartTime );
+        CompletionTimeWriter dummyCompletionTimeWriter = new DummyCompletionTimeWriter();
+        DummyCompletionTimeReader dummyCompletionTimeReader = new DummyCompletionTimeReader();
+        dummyCompletionTimeReader.setCompletionTimeAsMilli( Long.MAX_VALUE );
+        final List<Thread> recordingThreads = new CopyOnWriteArrayList<>();
+        DummyCountingMetricsService metricsService = new DummyCountingMetricsService()
+        {
+            @Override
+            public void submitOperationResult( int operationType,
+                    long scheduledStartTimeAsMilli,
+                    long actualStartTimeAsMilli,
+                    long runDurationAsNano,
+                    int resultCode,
+                    long originalStartTime ) throws MetricsCollectionException
+            {
+                recordingThreads.add( Thread.currentThread() );
+                super.submitOperationResult( operationType, scheduledStartTimeAsMilli, actualStartTimeAsMilli,
+                        runDurationAsNano, resultCode, originalStartTime );
+            }
+        };
+        WorkloadStreams.WorkloadStreamDefinition streamDefinition = new WorkloadStreams.WorkloadStreamDefinition(
+                new HashSet<Class<? extends Operation>>(),
+                new HashSet<Class<? extends Operation>>(),
+                Collections.<Operation>emptyIterator(),
+                Collections.<Operation>emptyIterator(),
+                null
+        );
+        AsynchronousNothingDb.IN_FLIGHT.clear();
+        Db db = new AsynchronousNothingDb();
+        db.init(
+                new HashMap<String,String>(),
+                loggingService,
+                DummyWorkload.OPERATION_TYPE_CLASS_MAPPING
+        );
+
+        // a single thread would only ever have one operation in flight if it were pinned for the round trip
+        int threadCount = 1;
+        int boundedQueueSize = DefaultQueues.DEFAULT_BOUND_1000;
+        int operationCount = 10;
+
+        OperationExecutor executor = new ThreadPoolOperationExecutor(
+                threadCount,
+                boundedQueueSize,
+                db,
+                streamDefinition,
+                dummyCompletionTimeWriter,
+                dummyCompletionTimeReader,
+                spinner,
+                timeSource,
+                errorReporter,
+                metricsService,
+                streamDefinition.childOperationGenerator()
+        );
+
+        // When
+        for ( int i = 0; i < operationCount; i++ )
+        {
+            Operation operation = new NothingOperation();
+            operation.setScheduledStartTimeAsMilli( timeSource.nowAsMilli() );
+            operation.setTimeStamp( timeSource.nowAsMilli() );
+            operation.setDependencyTimeStamp( 0l );
+            executor.execute( operation );
+        }
+
+        long timeoutAsMilli = timeSource.nowAsMilli() + 5000;
+        while ( AsynchronousNothingDb.IN_FLIGHT.size() < operationCount && timeSource.nowAsMilli() < timeoutAsMilli )
+        {
+            // wait for all handlers to be issued
+            Spinner.powerNap( 10 );
+        }
+
+        // Then
+        assertThat( AsynchronousNothingDb.IN_FLIGHT.size(), is( operationCount ) );
+        assertThat( executor.uncompletedOperationHandlerCount(), is( (long) operationCount ) );
+        assertThat( metricsService.count(), is( 0l ) );
+
+        for ( CompletableFuture<Void> inFlight : AsynchronousNothingDb.IN_FLIGHT )
+        {
+            inFlight.complete( null );
+        }
+
+        while ( executor.uncompletedOperationHandlerCount() > 0 )
+        {
+            // wait for handler to finish
+            Spinner.powerNap( 100 );
+        }
+
+        assertThat( metricsService.count(), is( (long) operationCount ) );
+        // handlers were completed by the test thread, which stands in for an I/O thread of the database client
+        assertThat( recordingThreads.contains( Thread.currentThread() ), is( false ) );
+        executor.shutdown( 1000l );
+        db.close();
+        assertThat( errorReporter.toString(), errorReporter.errorEncountered(), is( false ) );
+    }
+
+    public static class AsynchronousNothingDb extends Db
+    {
+        static final List<CompletableFuture<Void>> IN_FLIGHT = new CopyOnWriteArrayList<>();
+
+        @Override
+        protected void onInit( Map<String,String> properties, LoggingService loggingService ) throws DbException
+        {
+            registerOperationHandler( NothingOperation.class, AsynchronousNothingOperationHandler.class );
+        }
+
+        @Override
+        protected void onClose() throws IOException
+        {
+        }
+
+        @Override
+        protected DbConnectionState getConnectionState() throws DbException
+        {
+            return null;
+        }
+    }
+
+    public static class AsynchronousNothingOperationHandler
+            implements AsynchronousOperationHandler<NothingOperation,DbConnectionState>
+    {
+        @Override
+        public CompletableFuture<Void> executeOperationAsynchronously( NothingOperation operation,
+                DbConnectionState dbConnectionState, ResultReporter resultReporter ) throws DbException
+        {
+            resultReporter.report( 0, new DummyResult(), operation );
+            // completed later, by the test thread
+            CompletableFuture<Void> completion = new CompletableFuture<>();
+            AsynchronousNothingDb.IN_FLIGHT.add( completion );
+            return completion;
+        }
+    }
 }
@@ -0,0 +1,84 @@
+package com.ldbc.driver.runtime.metrics;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+public class ContinuousMetricRecorderTest
+{
+    @Test
+    public void shouldRecordValuesAboveHighestExpectedValueAsHighestExpectedValue()
+    {
+        // Given
+        ContinuousMetricRecorder continuousMetricRecorder =
+                new ContinuousMetricRecorder( "name", TimeUnit.MICROSECONDS, 1000L, 3 );
+
+        // When
+        continuousMetricRecorder.addMeasurement( 10L );
+        continuousMetricRecorder.addMeasurement( 1_000_000L );
+
+        // Then
+        ContinuousMetricSnapshot snapshot = continuousMetricRecorder.snapshot();
+        assertThat( snapshot.name(), is( "name" ) );
+        assertThat( snapshot.unit(), is( TimeUnit.MICROSECONDS ) );
+        assertThat( snapshot.count(), is( 2L ) );
+        assertThat( snapshot.min(), is( 10L ) );
+        assertThat( snapshot.max(), is( 1000L ) );
+    }
+
+    @Test
+    public void shouldNotLoseMeasurementsOfConcurrentWritersWhileSnapshotting() throws InterruptedException
+    {
+        // Given
+        final ContinuousMetricRecorder continuousMetricRecorder =
+                new ContinuousMetricRecorder( "name", TimeUnit.MICROSECONDS, 1000L, 3 );
+        int writerCount = 8;
+        final int measurementCountPerWriter = 100_000;
+        List<Thread> writers = new ArrayList<>();
+        for ( int i = 0; i < writerCount; i++ )
+        {
+            writers.add( new Thread()
+            {
+                @Override
+                public void run()
+                {
+                    for ( int j = 0; j < measurementCountPerWriter; j++ )
+                    {
+                        continuousMetricRecorder.addMeasurement( 1 + j % 100 );
+                    }
+                }
+            } );
+        }
+
+        // When
+        for ( Thread writer : writers )
+        {
+            writer.start();
+        }
+        long previousCount = 0;
+        boolean finished = false;
+        while ( false == finished )
+        {
+            finished = true;
+            for ( Thread writer : writers )
+            {
+                finished = finished && false == writer.isAlive();
+            }
+            // snapshots hold every measurement recorded so far, so counts never go down
+            long count = continuousMetricRecorder.snapshot().count();
+            assertThat( count >= previousCount, is( true ) );
+            previousCount = count;
+        }
+
+        // Then
+        ContinuousMetricSnapshot snapshot = continuousMetricRecorder.snapshot();
+        assertThat( snapshot.count(), is( (long) writerCount * measurementCountPerWriter ) );
+        assertThat( snapshot.min(), is( 1L ) );
+        assertThat( snapshot.max(), is( 100L ) );
+    }
+}
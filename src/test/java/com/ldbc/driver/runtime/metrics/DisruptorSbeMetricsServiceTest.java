@@ -12,9 +12,12 @@ import com.ldbc.driver.workloads.ldbc.snb.interactive.LdbcQuery2;
 import com.ldbc.driver.workloads.ldbc.snb.interactive.db.DummyLdbcSnbInteractiveOperationInstances;
 import org.junit.Test;
 
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 import static org.hamcrest.CoreMatchers.equalTo;
 import static org.hamcrest.CoreMatchers.is;
@@ -83,6 +86,131 @@ public class DisruptorSbeMetricsServiceTest
         }
     }
 
+    @Test
+    public void shouldReturnCorrectMeasurementsWithEveryWaitStrategyAndRingLayout()
+            throws WorkloadException, MetricsCollectionException
+    {
+        for ( boolean ringPerCpu : new boolean[]{false, true} )
+        {
+            for ( MetricsWaitStrategyType waitStrategyType : MetricsWaitStrategyType.values() )
+            {
+                ConcurrentErrorReporter errorReporter = new ConcurrentErrorReporter();
+                MetricsService metricsService = new DisruptorSbeMetricsService(
+                        timeSource,
+                        errorReporter,
+                        TimeUnit.MILLISECONDS,
+                        DisruptorSbeMetricsService.DEFAULT_HIGHEST_EXPECTED_RUNTIME_DURATION_AS_NANO,
+                        new NullResultsLogWriter(),
+                        operationTypeToClassMapping(),
+                        loggingServiceFactory,
+                        16,
+                        waitStrategyType,
+                        ringPerCpu
+                );
+                try
+                {
+                    shouldReturnCorrectMeasurements( metricsService.getWriter() );
+                }
+                finally
+                {
+                    metricsService.shutdown();
+                }
+                assertThat( errorReporter.toString(), errorReporter.errorEncountered(), is( false ) );
+            }
+        }
+    }
+
+    @Test
+    public void shouldCollectResultsOfAllWriterThreadsAndCountBlockedPublishesWhenRingsArePerCpu()
+            throws WorkloadException, MetricsCollectionException, InterruptedException
+    {
+        ConcurrentErrorReporter errorReporter = new ConcurrentErrorReporter();
+        MetricsService metricsService = new DisruptorSbeMetricsService(
+                timeSource,
+                errorReporter,
+                TimeUnit.MILLISECONDS,
+                DisruptorSbeMetricsService.DEFAULT_HIGHEST_EXPECTED_RUNTIME_DURATION_AS_NANO,
+                new NullResultsLogWriter(),
+                operationTypeToClassMapping(),
+                loggingServiceFactory,
+                2,
+                MetricsWaitStrategyType.BLOCKING,
+                true
+        );
+        try
+        {
+            // more threads than rings on small machines, so some threads share a ring
+            int threadCount = Runtime.getRuntime().availableProcessors() * 2;
+            final int operationCountPerThread = 1000;
+            final AtomicBoolean failed = new AtomicBoolean( false );
+            List<Thread> threads = new ArrayList<>();
+            for ( int t = 0; t < threadCount; t++ )
+            {
+                final MetricsService.MetricsServiceWriter writer = metricsService.getWriter();
+                threads.add( new Thread( () ->
+                {
+                    try
+                    {
+                        for ( int i = 0; i < operationCountPerThread; i++ )
+                        {
+                            writer.submitOperationResult( LdbcQuery1.TYPE, i, i, TimeUnit.MILLISECONDS.toNanos( 1 ),
+                                    0, i );
+                        }
+                    }
+                    catch ( MetricsCollectionException e )
+                    {
+                        failed.set( true );
+                    }
+                } ) );
+            }
+            for ( Thread thread : threads )
+            {
+                thread.start();
+            }
+            for ( Thread thread : threads )
+            {
+                thread.join();
+            }
+            assertThat( failed.get(), is( false ) );
+            MetricsService.MetricsServiceWriter writer = metricsService.getWriter();
+            assertThat( writer.results().totalOperationCount(),
+                    equalTo( (long) threadCount * operationCountPerThread ) );
+            WorkloadStatusSnapshot status = writer.status();
+            assertThat( status.blockedPublishCount() > 0, is( true ) );
+            assertThat( status.blockedPublishDurationAsNano() > 0, is( true ) );
+        }
+        finally
+        {
+            metricsService.shutdown();
+        }
+        assertThat( errorReporter.toString(), errorReporter.errorEncountered(), is( false ) );
+    }
+
+    @Test( expected = MetricsCollectionException.class )
+    public void shouldRejectRingSizeThatIsNotPowerOfTwo() throws MetricsCollectionException
+    {
+        new DisruptorSbeMetricsService(
+                timeSource,
+                new ConcurrentErrorReporter(),
+                TimeUnit.MILLISECONDS,
+                DisruptorSbeMetricsService.DEFAULT_HIGHEST_EXPECTED_RUNTIME_DURATION_AS_NANO,
+                new NullResultsLogWriter(),
+                operationTypeToClassMapping(),
+                loggingServiceFactory,
+                1000,
+                MetricsWaitStrategyType.BLOCKING,
+                false
+        );
+    }
+
+    private Map<Integer,Class<? extends Operation>> operationTypeToClassMapping()
+    {
+        Map<Integer,Class<? extends Operation>> operationTypeToClassMapping = new HashMap<>();
+        operationTypeToClassMapping.put( LdbcQuery1.TYPE, LdbcQuery1.class );
+        operationTypeToClassMapping.put( LdbcQuery2.TYPE, LdbcQuery2.class );
+        return operationTypeToClassMapping;
+    }
+
     public void shouldReturnCorrectMeasurements( MetricsService.MetricsServiceWriter metricsServiceWriter )
             throws WorkloadException, MetricsCollectionException
     {
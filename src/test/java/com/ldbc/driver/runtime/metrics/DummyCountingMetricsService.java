@@ -3,10 +3,11 @@ package com.ldbc.driver.runtime.metrics;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
 
 public class DummyCountingMetricsService implements MetricsService, MetricsService.MetricsServiceWriter
 {
-    private long count = 0;
+    private final AtomicLong count = new AtomicLong(0);
     private final Map<String, OperationMetricsSnapshot> metrics;
 
     public DummyCountingMetricsService() {
@@ -21,21 +22,21 @@ public class DummyCountingMetricsService implements MetricsService, MetricsServi
                                       long runDurationAsNano,
                                       int resultCode,
                                       long originalStartTime) throws MetricsCollectionException {
-        count++;
+        count.incrementAndGet();
     }
 
     public long count() {
-        return count;
+        return count.get();
     }
 
     @Override
     public WorkloadStatusSnapshot status() throws MetricsCollectionException {
-        return new WorkloadStatusSnapshot(-1, count, -1, 0);
+        return new WorkloadStatusSnapshot(-1, count.get(), -1, 0);
     }
 
     @Override
     public WorkloadResultsSnapshot results() throws MetricsCollectionException {
-        return new WorkloadResultsSnapshot(metrics.values(), 0, 0, count, TimeUnit.MILLISECONDS);
+        return new WorkloadResultsSnapshot(metrics.values(), 0, 0, count.get(), TimeUnit.MILLISECONDS);
     }
 
     @Override
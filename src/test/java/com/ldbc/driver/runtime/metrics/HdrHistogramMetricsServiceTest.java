@@ -0,0 +1,278 @@
+package com.ldbc.driver.runtime.metrics;
+
+import com.ldbc.driver.Operation;
+import com.ldbc.driver.WorkloadException;
+import com.ldbc.driver.control.Log4jLoggingServiceFactory;
+import com.ldbc.driver.control.LoggingServiceFactory;
+import com.ldbc.driver.temporal.SystemTimeSource;
+import com.ldbc.driver.temporal.TimeSource;
+import com.ldbc.driver.workloads.ldbc.snb.interactive.LdbcQuery1;
+import com.ldbc.driver.workloads.ldbc.snb.interactive.LdbcQuery2;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.junit.Assert.assertThat;
+
+public class HdrHistogramMetricsServiceTest
+{
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+    private TimeSource timeSource = new SystemTimeSource();
+    private LoggingServiceFactory loggingServiceFactory = new Log4jLoggingServiceFactory( false );
+
+    @Test
+    public void shouldNotAcceptOperationResultsAfterShutdown() throws WorkloadException, MetricsCollectionException
+    {
+        MetricsService metricsService = newMetricsService();
+        MetricsService.MetricsServiceWriter metricsServiceWriter = metricsService.getWriter();
+        metricsService.shutdown();
+        boolean exceptionThrown = false;
+        try
+        {
+            metricsServiceWriter.submitOperationResult( LdbcQuery1.TYPE, 1, 2, 1, 0, 1 );
+        }
+        catch ( MetricsCollectionException e )
+        {
+            exceptionThrown = true;
+        }
+        assertThat( exceptionThrown, is( true ) );
+    }
+
+    @Test
+    public void shouldReturnCorrectMeasurements() throws WorkloadException, MetricsCollectionException
+    {
+        MetricsService metricsService = newMetricsService();
+        try
+        {
+            MetricsService.MetricsServiceWriter metricsServiceWriter = metricsService.getWriter();
+            assertThat( metricsServiceWriter.results().startTimeAsMilli(), equalTo( -1l ) );
+            assertThat( metricsServiceWriter.results().latestFinishTimeAsMilli(), is( -1l ) );
+
+            // actual: 2, duration: 1
+            metricsServiceWriter.submitOperationResult(
+                    LdbcQuery1.TYPE, 1, 2, TimeUnit.MILLISECONDS.toNanos( 1 ), 1, 1 );
+            assertThat( metricsServiceWriter.results().startTimeAsMilli(), equalTo( 2l ) );
+            assertThat( metricsServiceWriter.results().latestFinishTimeAsMilli(), equalTo( 3l ) );
+
+            // actual: 8, duration: 3
+            metricsServiceWriter.submitOperationResult(
+                    LdbcQuery1.TYPE, 1, 8, TimeUnit.MILLISECONDS.toNanos( 3 ), 2, 1 );
+            assertThat( metricsServiceWriter.results().startTimeAsMilli(), equalTo( 2l ) );
+            assertThat( metricsServiceWriter.results().latestFinishTimeAsMilli(), equalTo( 11l ) );
+
+            // actual: 11, duration: 5, sub-millisecond start times are rounded
+            metricsServiceWriter.submitOperationResultAsNano( LdbcQuery2.TYPE, 1,
+                    TimeUnit.MILLISECONDS.toNanos( 11 ) + 500, TimeUnit.MILLISECONDS.toNanos( 5 ), 2, 1 );
+            WorkloadResultsSnapshot results = metricsServiceWriter.results();
+            assertThat( results.startTimeAsMilli(), equalTo( 2l ) );
+            assertThat( results.latestFinishTimeAsMilli(), equalTo( 16l ) );
+            assertThat( results.totalOperationCount(), equalTo( 3l ) );
+            assertThat( results.allMetrics().size(), equalTo( 2 ) );
+            OperationMetricsSnapshot query1Metrics = results.allMetrics().get( 0 );
+            assertThat( query1Metrics.name(), equalTo( LdbcQuery1.class.getSimpleName() ) );
+            assertThat( query1Metrics.count(), equalTo( 2l ) );
+            assertThat( query1Metrics.runTimeMetric().min(), equalTo( 1l ) );
+            assertThat( query1Metrics.runTimeMetric().max(), equalTo( 3l ) );
+            assertThat( results.allRunTimeMetric().count(), equalTo( 3l ) );
+            assertThat( results.allRunTimeMetric().min(), equalTo( 1l ) );
+            assertThat( results.allRunTimeMetric().max(), equalTo( 5l ) );
+        }
+        finally
+        {
+            metricsService.shutdown();
+        }
+    }
+
+    @Test
+    public void shouldMergeMeasurementsOfConcurrentWriters() throws Exception
+    {
+        final MetricsService metricsService = newMetricsService();
+        final int writerCount = 8;
+        final int operationCountPerWriter = 100_000;
+        final AtomicReference<Throwable> error = new AtomicReference<>();
+        try
+        {
+            List<Thread> threads = new ArrayList<>();
+            for ( int i = 0; i < writerCount; i++ )
+            {
+                final MetricsService.MetricsServiceWriter metricsServiceWriter = metricsService.getWriter();
+                threads.add( new Thread()
+                {
+                    @Override
+                    public void run()
+                    {
+                        try
+                        {
+                            for ( int j = 0; j < operationCountPerWriter; j++ )
+                            {
+                                int operationType = (j % 2 == 0) ? LdbcQuery1.TYPE : LdbcQuery2.TYPE;
+                                metricsServiceWriter.submitOperationResult( operationType, j, j,
+                                        TimeUnit.MILLISECONDS.toNanos( 1 + j % 10 ), 0, j );
+                            }
+                        }
+                        catch ( Throwable e )
+                        {
+                            error.set( e );
+                        }
+                    }
+                } );
+            }
+            MetricsService.MetricsServiceWriter statusWriter = metricsService.getWriter();
+            for ( Thread thread : threads )
+            {
+                thread.start();
+            }
+            long operationCountSeenInIntervals = 0;
+            boolean finished = false;
+            while ( false == finished )
+            {
+                finished = true;
+                for ( Thread thread : threads )
+                {
+                    finished = finished && false == thread.isAlive();
+                }
+                // interval results hold only the operations measured since the previous status request
+                WorkloadStatusSnapshot status = statusWriter.status();
+                operationCountSeenInIntervals += status.intervalResults().totalOperationCount();
+                assertThat( status.operationCount(), equalTo( operationCountSeenInIntervals ) );
+            }
+            assertThat( error.get(), nullValue() );
+
+            long expectedOperationCount = writerCount * operationCountPerWriter;
+            WorkloadResultsSnapshot results = statusWriter.results();
+            assertThat( results.totalOperationCount(), equalTo( expectedOperationCount ) );
+            assertThat( results.startTimeAsMilli(), equalTo( 0l ) );
+            assertThat( results.latestFinishTimeAsMilli(), equalTo( (long) operationCountPerWriter - 1 + 10 ) );
+            for ( OperationMetricsSnapshot operationMetrics : results.allMetrics() )
+            {
+                assertThat( operationMetrics.count(), equalTo( expectedOperationCount / 2 ) );
+            }
+            assertThat( statusWriter.status().intervalResults().totalOperationCount(), equalTo( 0l ) );
+        }
+        finally
+        {
+            metricsService.shutdown();
+        }
+    }
+
+    @Test
+    public void shouldWriteResultsLogRowsOfConcurrentWritersBeforeShutdownReturns() throws Exception
+    {
+        File resultsLog = temporaryFolder.newFile();
+        final int writerCount = 8;
+        final int operationCountPerWriter = 10_000;
+        final AtomicReference<Throwable> error = new AtomicReference<>();
+        ResultsLogWriter resultsLogWriter = new SimpleResultsLogWriter( resultsLog, TimeUnit.MICROSECONDS );
+        try
+        {
+            final MetricsService metricsService = newMetricsService( resultsLogWriter );
+            List<Thread> threads = new ArrayList<>();
+            for ( int i = 0; i < writerCount; i++ )
+            {
+                final MetricsService.MetricsServiceWriter metricsServiceWriter = metricsService.getWriter();
+                threads.add( new Thread()
+                {
+                    @Override
+                    public void run()
+                    {
+                        try
+                        {
+                            for ( int j = 0; j < operationCountPerWriter; j++ )
+                            {
+                                metricsServiceWriter.submitOperationResultAsNano( LdbcQuery1.TYPE,
+                                        TimeUnit.MILLISECONDS.toNanos( j ), TimeUnit.MILLISECONDS.toNanos( j ),
+                                        TimeUnit.MILLISECONDS.toNanos( 1 ), 0, j );
+                            }
+                        }
+                        catch ( Throwable e )
+                        {
+                            error.set( e );
+                        }
+                    }
+                } );
+            }
+            for ( Thread thread : threads )
+            {
+                thread.start();
+            }
+            for ( Thread thread : threads )
+            {
+                thread.join();
+            }
+            assertThat( error.get(), nullValue() );
+            metricsService.shutdown();
+        }
+        finally
+        {
+            resultsLogWriter.close();
+        }
+
+        long rowCount = 0;
+        try ( ResultsLogReader reader = new SimpleResultsLogReader( resultsLog ) )
+        {
+            while ( reader.next() )
+            {
+                assertThat( reader.getOperationName(), equalTo( LdbcQuery1.class.getSimpleName() ) );
+                rowCount++;
+            }
+        }
+        assertThat( rowCount, equalTo( (long) writerCount * operationCountPerWriter ) );
+    }
+
+    @Test
+    public void shouldNotRetainStatePerWriter() throws Exception
+    {
+        MetricsService metricsService = newMetricsService();
+        int writerCount = 10_000;
+        try
+        {
+            // writers are obtained per runnable context, they must not each hold their own recordings
+            MetricsService.MetricsServiceWriter firstMetricsServiceWriter = metricsService.getWriter();
+            for ( int i = 0; i < writerCount; i++ )
+            {
+                MetricsService.MetricsServiceWriter metricsServiceWriter = metricsService.getWriter();
+                assertThat( metricsServiceWriter, sameInstance( firstMetricsServiceWriter ) );
+                metricsServiceWriter.submitOperationResult( LdbcQuery1.TYPE, i, i, 1, 0, i );
+            }
+            assertThat( firstMetricsServiceWriter.results().totalOperationCount(), equalTo( (long) writerCount ) );
+        }
+        finally
+        {
+            metricsService.shutdown();
+        }
+    }
+
+    private MetricsService newMetricsService() throws MetricsCollectionException
+    {
+        return newMetricsService( new NullResultsLogWriter() );
+    }
+
+    private MetricsService newMetricsService( ResultsLogWriter resultsLogWriter ) throws MetricsCollectionException
+    {
+        Map<Integer,Class<? extends Operation>> operationTypeToClassMapping = new HashMap<>();
+        operationTypeToClassMapping.put( LdbcQuery1.TYPE, LdbcQuery1.class );
+        operationTypeToClassMapping.put( LdbcQuery2.TYPE, LdbcQuery2.class );
+        return new HdrHistogramMetricsService(
+                timeSource,
+                TimeUnit.MILLISECONDS,
+                DisruptorSbeMetricsService.DEFAULT_HIGHEST_EXPECTED_RUNTIME_DURATION_AS_NANO,
+                resultsLogWriter,
+                operationTypeToClassMapping,
+                loggingServiceFactory
+        );
+    }
+}
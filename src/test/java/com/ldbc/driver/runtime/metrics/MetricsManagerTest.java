@@ -51,4 +51,35 @@ public class MetricsManagerTest
         assertThat( snapshot.startTimeAsMilli(), equalTo( 2l ) );
         assertThat( snapshot.latestFinishTimeAsMilli(), equalTo( 16l ) );
     }
+
+    @Test
+    public void shouldIncludeStartDelayInCorrectedLatencyButNotInRuntime()
+            throws WorkloadException, MetricsCollectionException
+    {
+        MetricsManager metricsManager = new MetricsManager(
+                timeSource,
+                TimeUnit.MILLISECONDS,
+                ThreadedQueuedMetricsService.DEFAULT_HIGHEST_EXPECTED_RUNTIME_DURATION_AS_NANO,
+                LdbcSnbInteractiveWorkloadConfiguration.operationTypeToClassMapping(),
+                loggingServiceFactory
+        );
+
+        Operation operation = DummyLdbcSnbInteractiveOperationInstances.read1();
+        // on schedule
+        metricsManager.measure( 2, TimeUnit.MILLISECONDS.toNanos( 1 ), 0, operation.type() );
+        // started 10 ms late
+        metricsManager.measure( 20, TimeUnit.MILLISECONDS.toNanos( 1 ), TimeUnit.MILLISECONDS.toNanos( 10 ),
+                operation.type() );
+
+        OperationMetricsSnapshot operationMetrics =
+                metricsManager.snapshot().allMetrics().iterator().next();
+        assertThat( operationMetrics.runTimeMetric().min(), equalTo( 1l ) );
+        assertThat( operationMetrics.runTimeMetric().max(), equalTo( 1l ) );
+        assertThat( operationMetrics.correctedLatencyMetric().count(), equalTo( 2l ) );
+        assertThat( operationMetrics.correctedLatencyMetric().min(), equalTo( 1l ) );
+        assertThat( operationMetrics.correctedLatencyMetric().max(), equalTo( 11l ) );
+        assertThat( operationMetrics.startDelayMetric().count(), equalTo( 2l ) );
+        assertThat( operationMetrics.startDelayMetric().min(), equalTo( 0l ) );
+        assertThat( operationMetrics.startDelayMetric().max(), equalTo( 10l ) );
+    }
 }
@@ -5,8 +5,11 @@ import org.junit.Test;
 import org.junit.rules.TemporaryFolder;
 
 import java.io.File;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
 import java.util.concurrent.TimeUnit;
 
+import static java.util.concurrent.TimeUnit.MICROSECONDS;
 import static java.util.concurrent.TimeUnit.MILLISECONDS;
 import static java.util.concurrent.TimeUnit.NANOSECONDS;
 import static org.hamcrest.CoreMatchers.equalTo;
@@ -112,4 +115,157 @@ public class ResultsLogReaderWriterTest
             assertFalse( reader.next() );
         }
     }
+
+    @Test
+    public void shouldWriteAndReadSubMillisecondTimestamps() throws Exception
+    {
+        File resultsLog = temporaryFolder.newFile();
+        TimeUnit unit = MICROSECONDS;
+        TimeUnit timestampUnit = MICROSECONDS;
+
+        try ( ResultsLogWriter writer = new SimpleResultsLogWriter( resultsLog, unit, timestampUnit ) )
+        {
+            writer.writeAsNano(
+                    "a",
+                    1_000_250_000L,
+                    1_000_750_999L,
+                    2_000L,
+                    0,
+                    1L );
+            writer.write(
+                    "b",
+                    2_000L,
+                    2_001L,
+                    2_000L,
+                    0,
+                    2L );
+        }
+
+        try ( ResultsLogReader reader = new SimpleResultsLogReader( resultsLog ) )
+        {
+            assertThat( reader.unit(), equalTo( MICROSECONDS ) );
+            assertThat( reader.timestampUnit(), equalTo( MICROSECONDS ) );
+
+            assertTrue( reader.next() );
+            assertThat( reader.getOperationName(), equalTo( "a" ) );
+            assertThat( reader.getScheduledStartTimeAsNano(), equalTo( 1_000_250_000L ) );
+            assertThat( reader.getActualStartTimeAsNano(), equalTo( 1_000_751_000L ) );
+            assertThat( reader.getScheduledStartTimeAsMilli(), equalTo( 1_000L ) );
+            assertThat( reader.getActualStartTimeAsMilli(), equalTo( 1_000L ) );
+            assertThat( reader.getRunDurationAsNano(), equalTo( 2_000L ) );
+
+            assertTrue( reader.next() );
+            assertThat( reader.getOperationName(), equalTo( "b" ) );
+            assertThat( reader.getScheduledStartTimeAsNano(), equalTo( 2_000_000_000L ) );
+            assertThat( reader.getActualStartTimeAsNano(), equalTo( 2_001_000_000L ) );
+            assertThat( reader.getScheduledStartTimeAsMilli(), equalTo( 2_000L ) );
+            assertThat( reader.getActualStartTimeAsMilli(), equalTo( 2_001L ) );
+
+            assertFalse( reader.next() );
+        }
+    }
+
+    @Test
+    public void shouldReadMillisecondTimestampsWhenHeadersHaveNoTimestampUnit() throws Exception
+    {
+        File resultsLog = temporaryFolder.newFile();
+
+        try ( ResultsLogWriter writer = new SimpleResultsLogWriter( resultsLog, MILLISECONDS ) )
+        {
+            writer.writeAsNano( "a", 1_000_250_000L, 1_000_750_000L, 0L, 0, 1L );
+        }
+
+        try ( ResultsLogReader reader = new SimpleResultsLogReader( resultsLog ) )
+        {
+            assertThat( reader.timestampUnit(), equalTo( MILLISECONDS ) );
+            assertTrue( reader.next() );
+            assertThat( reader.getScheduledStartTimeAsMilli(), equalTo( 1_000L ) );
+            assertThat( reader.getActualStartTimeAsMilli(), equalTo( 1_001L ) );
+            assertThat( reader.getScheduledStartTimeAsNano(), equalTo( 1_000_000_000L ) );
+            assertFalse( reader.next() );
+        }
+    }
+
+    @Test
+    public void shouldWriteAndReadSameValuesWithBinaryResultsLog() throws Exception
+    {
+        doShouldWriteAndReadSameValuesWithBinaryResultsLog( false );
+    }
+
+    @Test
+    public void shouldWriteAndReadSameValuesWithCompressedBinaryResultsLog() throws Exception
+    {
+        doShouldWriteAndReadSameValuesWithBinaryResultsLog( true );
+    }
+
+    private void doShouldWriteAndReadSameValuesWithBinaryResultsLog( boolean compress ) throws Exception
+    {
+        File resultsLog = temporaryFolder.newFile();
+        int count = 10_000;
+
+        // small buffer, so buffers are handed to the flusher many times
+        try ( ResultsLogWriter writer = new BinaryResultsLogWriter( resultsLog, NANOSECONDS, NANOSECONDS, compress,
+                BinaryResultsLogWriter.RECORD_SIZE * 7 ) )
+        {
+            for ( int i = 0; i < count; i++ )
+            {
+                writer.writeAsNano( "operation" + (i % 13), i * 1_000L, i * 1_000L + i, i, i % 3, i * 2L );
+            }
+            writer.writeAsNano( "max", Long.MAX_VALUE, Long.MAX_VALUE, Long.MAX_VALUE, Integer.MAX_VALUE,
+                    Long.MAX_VALUE );
+        }
+
+        assertTrue( BinaryResultsLogReader.isBinaryResultsLog( resultsLog ) );
+        try ( ResultsLogReader reader = ResultsLogFormat.newReader( resultsLog ) )
+        {
+            assertThat( reader.unit(), equalTo( NANOSECONDS ) );
+            assertThat( reader.timestampUnit(), equalTo( NANOSECONDS ) );
+            for ( int i = 0; i < count; i++ )
+            {
+                assertTrue( reader.next() );
+                assertThat( reader.getOperationName(), equalTo( "operation" + (i % 13) ) );
+                assertThat( reader.getScheduledStartTimeAsNano(), equalTo( i * 1_000L ) );
+                assertThat( reader.getActualStartTimeAsNano(), equalTo( i * 1_000L + i ) );
+                assertThat( reader.getRunDurationAsNano(), equalTo( (long) i ) );
+                assertThat( reader.getResultCode(), equalTo( i % 3 ) );
+                assertThat( reader.getOriginalStartTime(), equalTo( i * 2L ) );
+            }
+            assertTrue( reader.next() );
+            assertThat( reader.getOperationName(), equalTo( "max" ) );
+            assertThat( reader.getScheduledStartTimeAsNano(), equalTo( Long.MAX_VALUE ) );
+            assertThat( reader.getRunDurationAsNano(), equalTo( Long.MAX_VALUE ) );
+            assertThat( reader.getResultCode(), equalTo( Integer.MAX_VALUE ) );
+            assertThat( reader.getOriginalStartTime(), equalTo( Long.MAX_VALUE ) );
+            assertFalse( reader.next() );
+        }
+    }
+
+    @Test
+    public void shouldExportBinaryResultsLogAsCsvResultsLog() throws Exception
+    {
+        for ( TimeUnit timestampUnit : new TimeUnit[]{MILLISECONDS, MICROSECONDS, NANOSECONDS} )
+        {
+            File csvResultsLog = temporaryFolder.newFile();
+            File binaryResultsLog = temporaryFolder.newFile();
+            File exportedResultsLog = temporaryFolder.newFile();
+
+            try ( ResultsLogWriter csvWriter = new SimpleResultsLogWriter( csvResultsLog, MICROSECONDS,
+                    timestampUnit );
+                  ResultsLogWriter binaryWriter = ResultsLogFormat.BINARY_COMPRESSED.newWriter( binaryResultsLog,
+                          MICROSECONDS, timestampUnit ) )
+            {
+                for ( ResultsLogWriter writer : new ResultsLogWriter[]{csvWriter, binaryWriter} )
+                {
+                    writer.writeAsNano( "a", 1_000_250_123L, 1_000_750_999L, 2_345L, 0, 1L );
+                    writer.write( "b", 2_000L, 2_001L, 2_000_001L, -1, 2L );
+                    writer.writeAsNano( "a", 3_000_000_001L, 3_000_000_002L, 999L, 1, 3L );
+                }
+            }
+
+            assertThat( BinaryResultsLogReader.exportToCsv( binaryResultsLog, exportedResultsLog ), equalTo( 3L ) );
+            assertFalse( BinaryResultsLogReader.isBinaryResultsLog( exportedResultsLog ) );
+            assertThat( new String( Files.readAllBytes( exportedResultsLog.toPath() ), StandardCharsets.UTF_8 ),
+                    equalTo( new String( Files.readAllBytes( csvResultsLog.toPath() ), StandardCharsets.UTF_8 ) ) );
+        }
+    }
 }
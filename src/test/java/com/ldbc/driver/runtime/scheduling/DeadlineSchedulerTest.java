@@ -0,0 +1,172 @@
+package com.ldbc.driver.runtime.scheduling;
+
+import com.ldbc.driver.temporal.ManualTimeSource;
+import org.junit.Test;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+public class DeadlineSchedulerTest
+{
+    private static final long ENOUGH_MILLISECONDS_FOR_SCHEDULER_TO_DO_ITS_THING = 200;
+
+    @Test
+    public void shouldReleaseTasksInDeadlineOrderWhenDeadlinesArrive() throws InterruptedException
+    {
+        // Given
+        ManualTimeSource timeSource = new ManualTimeSource( 0 );
+        DeadlineScheduler scheduler = new DeadlineScheduler( timeSource );
+        List<Long> released = new CopyOnWriteArrayList<>();
+
+        // When
+        scheduler.schedule( asNano( 30 ), new AddToList( released, 30 ) );
+        scheduler.schedule( asNano( 10 ), new AddToList( released, 10 ) );
+        scheduler.schedule( asNano( 20 ), new AddToList( released, 20 ) );
+        scheduler.schedule( asNano( 10 ), new AddToList( released, 11 ) );
+
+        // Then
+        Thread.sleep( ENOUGH_MILLISECONDS_FOR_SCHEDULER_TO_DO_ITS_THING );
+        assertThat( released.isEmpty(), is( true ) );
+        assertThat( scheduler.scheduledTaskCount(), is( 4 ) );
+
+        timeSource.setNowFromMilli( 10 );
+        Thread.sleep( ENOUGH_MILLISECONDS_FOR_SCHEDULER_TO_DO_ITS_THING );
+        assertThat( released, equalTo( (List<Long>) newList( 10, 11 ) ) );
+
+        timeSource.setNowFromMilli( 35 );
+        Thread.sleep( ENOUGH_MILLISECONDS_FOR_SCHEDULER_TO_DO_ITS_THING );
+        assertThat( released, equalTo( (List<Long>) newList( 10, 11, 20, 30 ) ) );
+        assertThat( scheduler.scheduledTaskCount(), is( 0 ) );
+
+        // released 15 & 5 milliseconds late
+        assertThat( scheduler.latenessSnapshot().count(), is( 4l ) );
+        assertThat( scheduler.latenessSnapshot().unit(), equalTo( TimeUnit.MICROSECONDS ) );
+        assertThat( scheduler.latenessSnapshot().max(), is( 15_000l ) );
+
+        scheduler.shutdown();
+    }
+
+    @Test
+    public void shouldReleaseTasksAtSubMillisecondResolution() throws InterruptedException
+    {
+        // Given
+        ManualTimeSource timeSource = new ManualTimeSource( 0 );
+        DeadlineScheduler scheduler = new DeadlineScheduler( timeSource );
+        List<Long> released = new CopyOnWriteArrayList<>();
+
+        // When
+        scheduler.schedule( asNano( 10 ) + 750_000, new AddToList( released, 2 ) );
+        scheduler.schedule( asNano( 10 ) + 250_000, new AddToList( released, 1 ) );
+
+        // Then
+        timeSource.setNowFromMilli( 10 );
+        Thread.sleep( ENOUGH_MILLISECONDS_FOR_SCHEDULER_TO_DO_ITS_THING );
+        assertThat( released.isEmpty(), is( true ) );
+
+        timeSource.setNowFromNano( asNano( 10 ) + 500_000 );
+        Thread.sleep( ENOUGH_MILLISECONDS_FOR_SCHEDULER_TO_DO_ITS_THING );
+        assertThat( released, equalTo( (List<Long>) newList( 1 ) ) );
+
+        timeSource.setNowFromNano( asNano( 10 ) + 750_000 );
+        Thread.sleep( ENOUGH_MILLISECONDS_FOR_SCHEDULER_TO_DO_ITS_THING );
+        assertThat( released, equalTo( (List<Long>) newList( 1, 2 ) ) );
+
+        // released 250 & 0 microseconds late
+        assertThat( scheduler.latenessSnapshot().max(), is( 250l ) );
+
+        scheduler.shutdown();
+    }
+
+    @Test
+    public void shouldParkWaitingThreadUntilDeadlineArrives() throws InterruptedException
+    {
+        // Given
+        final ManualTimeSource timeSource = new ManualTimeSource( 0 );
+        final DeadlineScheduler scheduler = new DeadlineScheduler( timeSource );
+        final AtomicBoolean deadlineReached = new AtomicBoolean( false );
+        Thread waitingThread = new Thread()
+        {
+            @Override
+            public void run()
+            {
+                scheduler.awaitDeadline( asNano( 10 ) );
+                deadlineReached.set( timeSource.nowAsMilli() >= 10 );
+            }
+        };
+
+        // When
+        waitingThread.start();
+
+        // Then
+        Thread.sleep( ENOUGH_MILLISECONDS_FOR_SCHEDULER_TO_DO_ITS_THING );
+        assertThat( deadlineReached.get(), is( false ) );
+        assertThat( waitingThread.getState(), equalTo( Thread.State.WAITING ) );
+
+        timeSource.setNowFromMilli( 10 );
+        waitingThread.join( ENOUGH_MILLISECONDS_FOR_SCHEDULER_TO_DO_ITS_THING );
+        assertThat( deadlineReached.get(), is( true ) );
+
+        scheduler.shutdown();
+    }
+
+    @Test
+    public void shouldReleaseAllPendingTasksOnShutdown() throws InterruptedException
+    {
+        // Given
+        ManualTimeSource timeSource = new ManualTimeSource( 0 );
+        DeadlineScheduler scheduler = new DeadlineScheduler( timeSource );
+        List<Long> released = new CopyOnWriteArrayList<>();
+        scheduler.schedule( asNano( 10 ), new AddToList( released, 10 ) );
+        scheduler.schedule( asNano( 20 ), new AddToList( released, 20 ) );
+
+        // When
+        scheduler.shutdown();
+        Thread.sleep( ENOUGH_MILLISECONDS_FOR_SCHEDULER_TO_DO_ITS_THING );
+
+        // Then
+        assertThat( released, equalTo( (List<Long>) newList( 10, 20 ) ) );
+
+        // tasks scheduled after shutdown run immediately
+        scheduler.schedule( asNano( 30 ), new AddToList( released, 30 ) );
+        assertThat( released, equalTo( (List<Long>) newList( 10, 20, 30 ) ) );
+    }
+
+    private static long asNano( long milli )
+    {
+        return TimeUnit.MILLISECONDS.toNanos( milli );
+    }
+
+    private static List<Long> newList( long... values )
+    {
+        List<Long> list = new CopyOnWriteArrayList<>();
+        for ( long value : values )
+        {
+            list.add( value );
+        }
+        return list;
+    }
+
+    private static class AddToList implements Runnable
+    {
+        private final List<Long> list;
+        private final long value;
+
+        private AddToList( List<Long> list, long value )
+        {
+            this.list = list;
+            this.value = value;
+        }
+
+        @Override
+        public void run()
+        {
+            list.add( value );
+        }
+    }
+}
@@ -12,6 +12,7 @@ import org.junit.Test;
 
 import java.text.DecimalFormat;
 import java.util.Iterator;
+import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
 
@@ -155,6 +156,134 @@ public class SpinnerTests
         spinningThread.join( ENOUGH_MILLISECONDS_FOR_SPINNER_THREAD_TO_DO_ITS_THING );
     }
 
+    @Test
+    public void shouldRecordTimeWaitingForCheckSeparatelyFromTimeWaitingForScheduledStartTime()
+            throws InterruptedException
+    {
+        // Given
+        timeSource.setNowFromMilli( 0 );
+        boolean ignoreScheduledStartTime = false;
+        long spinnerSleepDuration = 0l;
+        SettableSpinnerCheck check = new SettableSpinnerCheck( SpinnerCheck.SpinnerCheckResult.STILL_CHECKING );
+        Spinner spinner = new Spinner( timeSource, spinnerSleepDuration, ignoreScheduledStartTime );
+
+        long scheduledStartTime = 10l;
+        Operation operation = new TimedNamedOperation1( scheduledStartTime, scheduledStartTime, 0l, "name" );
+
+        SpinningThread spinningThread = new SpinningThread( spinner, operation, check );
+
+        // When
+        spinningThread.start();
+        Thread.sleep( ENOUGH_MILLISECONDS_FOR_SPINNER_THREAD_TO_DO_ITS_THING );
+        timeSource.setNowFromMilli( 4 );
+        check.setResult( SpinnerCheck.SpinnerCheckResult.PASSED );
+        Thread.sleep( ENOUGH_MILLISECONDS_FOR_SPINNER_THREAD_TO_DO_ITS_THING );
+        timeSource.setNowFromMilli( scheduledStartTime );
+        spinningThread.join( ENOUGH_MILLISECONDS_FOR_SPINNER_THREAD_TO_DO_ITS_THING );
+
+        // Then
+        assertThat( spinningThread.isFineToExecuteOperation(), is( true ) );
+        assertThat( spinner.completionTimeWaitSnapshot().count(), is( 1l ) );
+        assertThat( spinner.completionTimeWaitSnapshot().max(), is( TimeUnit.MILLISECONDS.toMicros( 4 ) ) );
+        assertThat( spinner.scheduledStartTimeWaitSnapshot().count(), is( 1l ) );
+        assertThat( spinner.scheduledStartTimeWaitSnapshot().max(), is( TimeUnit.MILLISECONDS.toMicros( 6 ) ) );
+        spinner.shutdown();
+    }
+
+    @Test
+    public void shouldRecordLatenessOfOperationsThatAreAlreadyLate()
+    {
+        // Given
+        timeSource.setNowFromMilli( 0 );
+        boolean ignoreScheduledStartTime = false;
+        long spinnerSleepDuration = 0l;
+        Spinner spinner = new Spinner( timeSource, spinnerSleepDuration, ignoreScheduledStartTime );
+        Operation lateOperation = new TimedNamedOperation1( 10l, 10l, 0l, "name" );
+        Operation laterOperation = new TimedNamedOperation1( 5l, 5l, 0l, "name" );
+        final AtomicBoolean taskRun = new AtomicBoolean( false );
+
+        // When
+        timeSource.setNowFromMilli( 15 );
+        boolean isFineToExecuteOperation = spinner.waitForScheduledStartTime( lateOperation );
+        spinner.executeAtScheduledStartTime( laterOperation, new Runnable()
+        {
+            @Override
+            public void run()
+            {
+                taskRun.set( true );
+            }
+        } );
+
+        // Then
+        // neither operation waited, both were run immediately, 5 & 10 milliseconds late
+        assertThat( isFineToExecuteOperation, is( true ) );
+        assertThat( taskRun.get(), is( true ) );
+        assertThat( spinner.scheduledStartTimeWaitSnapshot().count(), is( 0l ) );
+        assertThat( spinner.schedulingLatenessSnapshot().count(), is( 2l ) );
+        assertThat( spinner.schedulingLatenessSnapshot().min(), is( TimeUnit.MILLISECONDS.toMicros( 5 ) ) );
+        assertThat( spinner.schedulingLatenessSnapshot().max(), is( TimeUnit.MILLISECONDS.toMicros( 10 ) ) );
+        spinner.shutdown();
+    }
+
+    @Test
+    public void shouldBeWokenByAwaitableCheckRatherThanSleepBetweenChecks() throws InterruptedException
+    {
+        // Given
+        timeSource.setNowFromMilli( 0 );
+        boolean ignoreScheduledStartTime = true;
+        // long enough that the spinning thread would not return in time if it slept between checks
+        long spinnerSleepDuration = 60_000l;
+        Spinner spinner = new Spinner( timeSource, spinnerSleepDuration, ignoreScheduledStartTime );
+        final CountDownLatch checkPassed = new CountDownLatch( 1 );
+        AwaitableSpinnerCheck check = new AwaitableSpinnerCheck()
+        {
+            @Override
+            public SpinnerCheckResult awaitCheck( Operation operation, long timeoutAsMilli )
+            {
+                try
+                {
+                    return (checkPassed.await( timeoutAsMilli, TimeUnit.MILLISECONDS ))
+                           ? SpinnerCheckResult.PASSED : SpinnerCheckResult.STILL_CHECKING;
+                }
+                catch ( InterruptedException e )
+                {
+                    return SpinnerCheckResult.STILL_CHECKING;
+                }
+            }
+
+            @Override
+            public SpinnerCheckResult doCheck( Operation operation )
+            {
+                return (0 == checkPassed.getCount()) ? SpinnerCheckResult.PASSED : SpinnerCheckResult.STILL_CHECKING;
+            }
+
+            @Override
+            public boolean handleFailedCheck( Operation operation )
+            {
+                return true;
+            }
+        };
+        Operation operation = new TimedNamedOperation1( 0l, 0l, 0l, "name" );
+        SpinningThread spinningThread = new SpinningThread( spinner, operation, check );
+
+        // When
+        spinningThread.start();
+        Thread.sleep( ENOUGH_MILLISECONDS_FOR_SPINNER_THREAD_TO_DO_ITS_THING );
+
+        // Then
+        assertThat( spinningThread.spinnerHasCompleted(), is( false ) );
+
+        // When
+        checkPassed.countDown();
+        spinningThread.join( ENOUGH_MILLISECONDS_FOR_SPINNER_THREAD_TO_DO_ITS_THING );
+
+        // Then
+        assertThat( spinningThread.spinnerHasCompleted(), is( true ) );
+        assertThat( spinningThread.isFineToExecuteOperation(), is( true ) );
+        assertThat( spinner.completionTimeWaitSnapshot().count(), is( 1l ) );
+        spinner.shutdown();
+    }
+
     private static class SpinningThread extends Thread
     {
         private final Spinner spinner;
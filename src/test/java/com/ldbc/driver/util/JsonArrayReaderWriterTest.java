@@ -0,0 +1,104 @@
+package com.ldbc.driver.util;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.google.common.collect.Lists;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.junit.Assert.assertThat;
+
+public class JsonArrayReaderWriterTest
+{
+    @Test
+    public void shouldWriteSameJsonAsObjectMapperForListOfElements() throws IOException
+    {
+        // Given
+        Map<String,Object> organization = new LinkedHashMap<>();
+        organization.put( "id", 7L );
+        organization.put( "year", 2001 );
+        List<Object> elements = new ArrayList<>();
+        elements.add( "com.ldbc.Type" );
+        elements.add( 1L );
+        elements.add( "quote \" and é" );
+        elements.add( 42 );
+        elements.add( new Date( 123456789L ) );
+        elements.add( null );
+        elements.add( Lists.newArrayList( "a", "b" ) );
+        elements.add( Lists.newArrayList( 1L, 2L ) );
+        elements.add( Lists.newArrayList( organization ) );
+
+        // When
+        String json = new JsonArrayWriter()
+                .write( "com.ldbc.Type" )
+                .write( 1L )
+                .write( "quote \" and é" )
+                .write( 42 )
+                .write( new Date( 123456789L ) )
+                .write( (String) null )
+                .write( Lists.newArrayList( "a", "b" ) )
+                .write( Lists.newArrayList( 1L, 2L ) )
+                .beginArray().beginObject().field( "id", 7L ).field( "year", 2001 ).endObject().endArray()
+                .finish();
+
+        // Then
+        assertThat( json, equalTo( new ObjectMapper().writeValueAsString( elements ) ) );
+    }
+
+    @Test
+    public void shouldReadElementsInOrderWritten() throws IOException
+    {
+        // Given
+        String json = new JsonArrayWriter()
+                .write( "name" )
+                .write( Long.MAX_VALUE )
+                .write( 3 )
+                .write( (String) null )
+                .write( Lists.newArrayList( "x", "y" ) )
+                .write( Lists.newArrayList( 5L, 6L ) )
+                .beginArray().beginObject().field( "year", 2001 ).field( "unknown", 0 ).field( "id", 7L ).endObject()
+                .endArray()
+                .finish();
+
+        // When
+        try ( JsonArrayReader reader = new JsonArrayReader( json ) )
+        {
+            // Then
+            assertThat( reader.readString(), equalTo( "name" ) );
+            assertThat( reader.readLong(), is( Long.MAX_VALUE ) );
+            assertThat( reader.readInt(), is( 3 ) );
+            assertThat( reader.readString(), nullValue() );
+            assertThat( reader.readStrings(), equalTo( (List<String>) Lists.newArrayList( "x", "y" ) ) );
+            assertThat( reader.readLongs(), equalTo( (List<Long>) Lists.newArrayList( 5L, 6L ) ) );
+            reader.beginArray();
+            assertThat( reader.hasNextElement(), is( true ) );
+            reader.beginObject();
+            assertThat( reader.nextFieldName(), equalTo( "year" ) );
+            assertThat( reader.readInt(), is( 2001 ) );
+            assertThat( reader.nextFieldName(), equalTo( "unknown" ) );
+            reader.skipValue();
+            assertThat( reader.nextFieldName(), equalTo( "id" ) );
+            assertThat( reader.readLong(), is( 7L ) );
+            assertThat( reader.nextFieldName(), nullValue() );
+            assertThat( reader.hasNextElement(), is( false ) );
+            assertThat( reader.hasNextElement(), is( false ) );
+        }
+    }
+
+    @Test( expected = IOException.class )
+    public void shouldFailWhenElementHasUnexpectedType() throws IOException
+    {
+        try ( JsonArrayReader reader = new JsonArrayReader( "[\"not a number\"]" ) )
+        {
+            reader.readLong();
+        }
+    }
+}
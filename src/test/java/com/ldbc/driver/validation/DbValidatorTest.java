@@ -154,6 +154,61 @@ public class DbValidatorTest
                 validationResult.isSuccessful(), is( true ) );
     }
 
+    @Test
+    public void shouldPassValidationWhenDbImplementationIsCorrectAndValidatingOnMultipleThreads()
+            throws WorkloadException, DbException, IOException, DriverConfigurationException
+    {
+        // Given
+        LoggingService loggingService = new Log4jLoggingServiceFactory( false ).loggingServiceFor( "Test" );
+        long operationCount = 1;
+        ConsoleAndFileDriverConfiguration configuration = ConsoleAndFileDriverConfiguration.fromDefaults(
+                DummyLdbcSnbInteractiveDb.class.getName(),
+                LdbcSnbInteractiveWorkload.class.getName(),
+                operationCount
+        );
+
+        Map<String,String> paramsMap = LdbcSnbInteractiveWorkloadConfiguration.defaultConfigSF1();
+        paramsMap.put( LdbcSnbInteractiveWorkloadConfiguration.PARAMETERS_DIRECTORY,
+                TestUtils.getResource( "/snb/interactive/" ).getAbsolutePath() );
+        paramsMap.put( LdbcSnbInteractiveWorkloadConfiguration.UPDATES_DIRECTORY,
+                TestUtils.getResource( "/snb/interactive/" ).getAbsolutePath() );
+        configuration = (ConsoleAndFileDriverConfiguration) configuration.applyArgs( paramsMap );
+        configuration = (ConsoleAndFileDriverConfiguration) configuration.applyArgs(
+                MapUtils.loadPropertiesToMap( TestUtils.getResource( "/snb/interactive/updateStream.properties" ) )
+        );
+
+        Workload workload = new LdbcSnbInteractiveWorkload();
+        workload.init( configuration );
+
+        GeneratorFactory gf = new GeneratorFactory( new RandomDataGeneratorFactory( 42l ) );
+        Iterator<ValidationParam> validationParams = gf.limit(
+                gf.repeating( buildParams().iterator() ),
+                10000
+        );
+
+        Db db = new DummyLdbcSnbInteractiveDb();
+        db.init(
+                new HashMap<String,String>(),
+                loggingService,
+                workload.operationTypeToClassMapping()
+        );
+
+        DbValidator dbValidator = new DbValidator( 4 );
+
+        // When
+        DbValidationResult validationResult = dbValidator.validate(
+                validationParams,
+                db,
+                10000,
+                workload
+        );
+
+        // Then
+        System.out.println( validationResult.resultMessage() );
+        assertThat( format( "Validation Result\n%s", validationResult.resultMessage() ),
+                validationResult.isSuccessful(), is( true ) );
+    }
+
     List<ValidationParam> buildParams()
     {
         ValidationParam validationParamLong1 = ValidationParam.createTyped(
@@ -2,6 +2,9 @@ package com.ldbc.driver.validation;
 
 import com.google.common.collect.Lists;
 import com.ldbc.driver.csv.simple.SimpleCsvFileWriter;
+import com.ldbc.driver.runtime.metrics.ResultsLogFormat;
+import com.ldbc.driver.runtime.metrics.ResultsLogWriter;
+import com.ldbc.driver.runtime.metrics.SimpleResultsLogWriter;
 import com.ldbc.driver.util.Tuple;
 import com.ldbc.driver.util.Tuple2;
 import org.junit.Assert;
@@ -11,9 +14,12 @@ import org.junit.rules.TemporaryFolder;
 
 import java.io.File;
 import java.io.IOException;
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
 
 import static java.lang.String.format;
 import static org.hamcrest.MatcherAssert.assertThat;
@@ -260,6 +266,110 @@ public class ResultsLogValidationTest
         doSummaryAsserts( summaryAfterMarshal );
     }
 
+    @Test
+    public void shouldDetectExcessiveDelaysAtSubMillisecondResolution() throws Exception
+    {
+        // Given
+        long excessiveDelayThresholdAsMilli = 5;
+        File file = temporaryFolder.newFile();
+        try ( ResultsLogWriter writer =
+                      new SimpleResultsLogWriter( file, TimeUnit.MICROSECONDS, TimeUnit.MICROSECONDS ) )
+        {
+            // 5 milliseconds late, not excessive
+            writer.writeAsNano( "A", 0, TimeUnit.MILLISECONDS.toNanos( 5 ), 0, 0, 0 );
+            // 5.5 milliseconds late, would not be excessive at millisecond resolution
+            writer.writeAsNano( "A", 0, TimeUnit.MICROSECONDS.toNanos( 5_500 ), 0, 0, 0 );
+        }
+
+        // When
+        ResultsLogValidationSummary summary = new ResultsLogValidator().compute( file, excessiveDelayThresholdAsMilli );
+
+        // Then
+        assertThat( summary.excessiveDelayCount(), equalTo( 1l ) );
+        assertThat( summary.excessiveDelayCountPerType().get( "A" ), equalTo( 1l ) );
+        assertThat( summary.maxDelayAsMilli(), equalTo( 5l ) );
+    }
+
+    @Test
+    public void shouldComputeSameSummaryFromBinaryResultsLog() throws Exception
+    {
+        // Given
+        long excessiveDelayThresholdAsMilli = 5;
+        File file = temporaryFolder.newFile();
+        try ( ResultsLogWriter writer = ResultsLogFormat.BINARY_COMPRESSED.newWriter(
+                file, TimeUnit.MICROSECONDS, TimeUnit.MICROSECONDS ) )
+        {
+            // 5 milliseconds late, not excessive
+            writer.writeAsNano( "A", 0, TimeUnit.MILLISECONDS.toNanos( 5 ), 0, 0, 0 );
+            // 5.5 milliseconds late, would not be excessive at millisecond resolution
+            writer.writeAsNano( "A", 0, TimeUnit.MICROSECONDS.toNanos( 5_500 ), 0, 0, 0 );
+        }
+
+        // When
+        ResultsLogValidationSummary summary = new ResultsLogValidator().compute( file, excessiveDelayThresholdAsMilli );
+
+        // Then
+        assertThat( summary.excessiveDelayCount(), equalTo( 1l ) );
+        assertThat( summary.excessiveDelayCountPerType().get( "A" ), equalTo( 1l ) );
+        assertThat( summary.maxDelayAsMilli(), equalTo( 5l ) );
+    }
+
+    @Test
+    public void shouldComputeSameSummaryWhenCsvResultsLogIsParsedInParallelChunks() throws Exception
+    {
+        // Given
+        long excessiveDelayThresholdAsMilli = 5;
+        File file = temporaryFolder.newFile();
+        Random random = new Random( 42 );
+        String[] operationTypes = {"A", "B", "C", "D"};
+        List<Tuple2<String,Long>> delaysAsNano = new ArrayList<>();
+        try ( ResultsLogWriter writer =
+                      new SimpleResultsLogWriter( file, TimeUnit.MICROSECONDS, TimeUnit.MICROSECONDS ) )
+        {
+            for ( int i = 0; i < 20_000; i++ )
+            {
+                String operationType = operationTypes[random.nextInt( operationTypes.length )];
+                // mostly short delays, some longer than the densely counted range
+                long delayAsMicro = (0 == i % 1000)
+                                    ? TimeUnit.MILLISECONDS.toMicros( 100_000 + random.nextInt( 100_000 ) )
+                                    : random.nextInt( 20_000 );
+                long scheduledStartTimeAsNano = TimeUnit.MILLISECONDS.toNanos( i );
+                long actualStartTimeAsNano = scheduledStartTimeAsNano + TimeUnit.MICROSECONDS.toNanos( delayAsMicro );
+                writer.writeAsNano( operationType, scheduledStartTimeAsNano, actualStartTimeAsNano, 0, 0, 0 );
+                delaysAsNano.add( Tuple.tuple2( operationType, TimeUnit.MICROSECONDS.toNanos( delayAsMicro ) ) );
+            }
+        }
+        long maxDelayAsNano = 0;
+        for ( Tuple2<String,Long> delayAsNano : delaysAsNano )
+        {
+            maxDelayAsNano = Math.max( maxDelayAsNano, delayAsNano._2() );
+        }
+        ResultsLogValidationSummaryCalculator calculator = new ResultsLogValidationSummaryCalculator(
+                TimeUnit.NANOSECONDS.toMillis( maxDelayAsNano ),
+                excessiveDelayThresholdAsMilli
+        );
+        for ( Tuple2<String,Long> delayAsNano : delaysAsNano )
+        {
+            calculator.recordDelayAsNano( delayAsNano._1(), delayAsNano._2() );
+        }
+        ResultsLogValidationSummary expectedSummary = calculator.snapshot();
+
+        // When
+        ResultsLogDelayCounts delayCounts =
+                new ResultsLogAnalyser( 4 ).countDelays( file, excessiveDelayThresholdAsMilli );
+        ResultsLogValidationSummaryCalculator chunkedCalculator = new ResultsLogValidationSummaryCalculator(
+                TimeUnit.NANOSECONDS.toMillis( delayCounts.maxDelayAsNano() ),
+                excessiveDelayThresholdAsMilli
+        );
+        delayCounts.recordInto( chunkedCalculator );
+        ResultsLogValidationSummary summary = chunkedCalculator.snapshot();
+
+        // Then
+        assertThat( summary, equalTo( expectedSummary ) );
+        assertThat( new ResultsLogValidator().compute( file, excessiveDelayThresholdAsMilli ),
+                equalTo( expectedSummary ) );
+    }
+
     private void doSummaryAsserts( ResultsLogValidationSummary summary )
     {
         assertThat( summary.excessiveDelayThresholdAsMilli(), equalTo( 5l ) );
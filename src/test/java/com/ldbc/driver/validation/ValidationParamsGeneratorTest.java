@@ -0,0 +1,130 @@
+package com.ldbc.driver.validation;
+
+import com.google.common.collect.Lists;
+import com.ldbc.driver.Db;
+import com.ldbc.driver.DbException;
+import com.ldbc.driver.Operation;
+import com.ldbc.driver.Workload;
+import com.ldbc.driver.WorkloadException;
+import com.ldbc.driver.control.ConsoleAndFileDriverConfiguration;
+import com.ldbc.driver.control.DriverConfigurationException;
+import com.ldbc.driver.control.Log4jLoggingServiceFactory;
+import com.ldbc.driver.control.LoggingService;
+import com.ldbc.driver.generator.GeneratorFactory;
+import com.ldbc.driver.generator.RandomDataGeneratorFactory;
+import com.ldbc.driver.testutils.TestUtils;
+import com.ldbc.driver.util.MapUtils;
+import com.ldbc.driver.workloads.ldbc.snb.interactive.LdbcSnbInteractiveWorkload;
+import com.ldbc.driver.workloads.ldbc.snb.interactive.LdbcSnbInteractiveWorkloadConfiguration;
+import com.ldbc.driver.workloads.ldbc.snb.interactive.db.DummyLdbcSnbInteractiveDb;
+import com.ldbc.driver.workloads.ldbc.snb.interactive.db.DummyLdbcSnbInteractiveOperationInstances;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+public class ValidationParamsGeneratorTest
+{
+    @Test
+    public void shouldGenerateSameValidationParamsWhenExecutingOperationsOnMultipleThreads()
+            throws DbException, WorkloadException, IOException, DriverConfigurationException
+    {
+        // Given
+        int validationSetSize = 500;
+        Workload workload = workload();
+
+        // When
+        List<ValidationParam> sequentialValidationParams = generate( workload, validationSetSize, 1 );
+        List<ValidationParam> concurrentValidationParams = generate( workload, validationSetSize, 4 );
+
+        // Then
+        assertThat( sequentialValidationParams.isEmpty(), is( false ) );
+        assertThat( concurrentValidationParams, equalTo( sequentialValidationParams ) );
+        workload.close();
+    }
+
+    private List<ValidationParam> generate( Workload workload, int validationSetSize, int threadCount )
+            throws DbException, IOException
+    {
+        LoggingService loggingService = new Log4jLoggingServiceFactory( false ).loggingServiceFor( "Test" );
+        Db db = new DummyLdbcSnbInteractiveDb();
+        db.init(
+                new HashMap<String,String>(),
+                loggingService,
+                workload.operationTypeToClassMapping()
+        );
+        GeneratorFactory gf = new GeneratorFactory( new RandomDataGeneratorFactory( 42l ) );
+        Iterator<Operation> operations = gf.limit( gf.repeating( operations().iterator() ), 100000 );
+        ValidationParamsGenerator validationParamsGenerator = new ValidationParamsGenerator(
+                db,
+                workload.getDbValidationParametersFilter( validationSetSize ),
+                operations,
+                threadCount
+        );
+        try
+        {
+            return Lists.newArrayList( validationParamsGenerator );
+        }
+        finally
+        {
+            validationParamsGenerator.shutdown();
+            db.close();
+        }
+    }
+
+    private Workload workload() throws DriverConfigurationException, IOException, WorkloadException
+    {
+        ConsoleAndFileDriverConfiguration configuration = ConsoleAndFileDriverConfiguration.fromDefaults(
+                DummyLdbcSnbInteractiveDb.class.getName(),
+                LdbcSnbInteractiveWorkload.class.getName(),
+                1
+        );
+        Map<String,String> paramsMap = LdbcSnbInteractiveWorkloadConfiguration.defaultConfigSF1();
+        paramsMap.put( LdbcSnbInteractiveWorkloadConfiguration.PARAMETERS_DIRECTORY,
+                TestUtils.getResource( "/snb/interactive/" ).getAbsolutePath() );
+        paramsMap.put( LdbcSnbInteractiveWorkloadConfiguration.UPDATES_DIRECTORY,
+                TestUtils.getResource( "/snb/interactive/" ).getAbsolutePath() );
+        configuration = (ConsoleAndFileDriverConfiguration) configuration.applyArgs( paramsMap );
+        configuration = (ConsoleAndFileDriverConfiguration) configuration.applyArgs(
+                MapUtils.loadPropertiesToMap( TestUtils.getResource( "/snb/interactive/updateStream.properties" ) )
+        );
+        Workload workload = new LdbcSnbInteractiveWorkload();
+        workload.init( configuration );
+        return workload;
+    }
+
+    private List<Operation> operations()
+    {
+        return Lists.<Operation>newArrayList(
+                DummyLdbcSnbInteractiveOperationInstances.read1(),
+                DummyLdbcSnbInteractiveOperationInstances.read2(),
+                DummyLdbcSnbInteractiveOperationInstances.write1(),
+                DummyLdbcSnbInteractiveOperationInstances.read3(),
+                DummyLdbcSnbInteractiveOperationInstances.read4(),
+                DummyLdbcSnbInteractiveOperationInstances.write2(),
+                DummyLdbcSnbInteractiveOperationInstances.read5(),
+                DummyLdbcSnbInteractiveOperationInstances.read6(),
+                DummyLdbcSnbInteractiveOperationInstances.read7(),
+                DummyLdbcSnbInteractiveOperationInstances.write3(),
+                DummyLdbcSnbInteractiveOperationInstances.read8(),
+                DummyLdbcSnbInteractiveOperationInstances.read9(),
+                DummyLdbcSnbInteractiveOperationInstances.write4(),
+                DummyLdbcSnbInteractiveOperationInstances.read10(),
+                DummyLdbcSnbInteractiveOperationInstances.read11(),
+                DummyLdbcSnbInteractiveOperationInstances.write5(),
+                DummyLdbcSnbInteractiveOperationInstances.read12(),
+                DummyLdbcSnbInteractiveOperationInstances.write6(),
+                DummyLdbcSnbInteractiveOperationInstances.read13(),
+                DummyLdbcSnbInteractiveOperationInstances.write7(),
+                DummyLdbcSnbInteractiveOperationInstances.read14(),
+                DummyLdbcSnbInteractiveOperationInstances.write8()
+        );
+    }
+}
@@ -1,12 +1,16 @@
 package com.ldbc.driver.workloads.ldbc.snb.bi;
 
+import com.google.common.collect.Iterators;
 import com.google.common.collect.Lists;
 import com.ldbc.driver.Operation;
 import com.ldbc.driver.Workload;
 import com.ldbc.driver.WorkloadException;
+import com.ldbc.driver.WorkloadStreams;
 import com.ldbc.driver.control.ConsoleAndFileDriverConfiguration;
 import com.ldbc.driver.control.DriverConfiguration;
 import com.ldbc.driver.control.DriverConfigurationException;
+import com.ldbc.driver.generator.GeneratorFactory;
+import com.ldbc.driver.generator.RandomDataGeneratorFactory;
 import com.ldbc.driver.testutils.TestUtils;
 import com.ldbc.driver.util.Bucket;
 import com.ldbc.driver.util.Histogram;
@@ -24,11 +28,15 @@ import com.ldbc.driver.workloads.ldbc.snb.bi.db.DummyLdbcSnbBiOperationResultSet
 import org.junit.Test;
 
 import java.io.IOException;
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 import static org.hamcrest.CoreMatchers.equalTo;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertThat;
 import static org.junit.Assert.assertTrue;
 
@@ -173,6 +181,23 @@ public class BiWorkloadTest extends WorkloadTest
                                 TestUtils.getResource( "/snb/bi/" ).getAbsolutePath()
                         )
                         .applyArg( ConsoleAndFileDriverConfiguration.TIME_COMPRESSION_RATIO_ARG, "0.2" )
+                        .applyArg(
+                                ConsoleAndFileDriverConfiguration.IGNORE_SCHEDULED_START_TIMES_ARG,
+                                "true"
+                        ),
+                ConsoleAndFileDriverConfiguration
+                        .fromDefaults(
+                                DummyLdbcSnbBiDb.class.getName(),
+                                LdbcSnbBiWorkload.class.getName(),
+                                100_000
+                        )
+                        .applyArg( ConsoleAndFileDriverConfiguration.WARMUP_COUNT_ARG, Long.toString( 0 ) )
+                        .applyArgs( LdbcSnbBiWorkloadConfiguration.defaultConfigSF1() )
+                        .applyArg(
+                                LdbcSnbBiWorkloadConfiguration.PARAMETERS_DIRECTORY,
+                                TestUtils.getResource( "/snb/bi/" ).getAbsolutePath()
+                        )
+                        .applyArg( LdbcSnbBiWorkloadConfiguration.THROUGHPUT_STREAMS, "4" )
                         .applyArg(
                                 ConsoleAndFileDriverConfiguration.IGNORE_SCHEDULED_START_TIMES_ARG,
                                 "true"
@@ -587,4 +612,109 @@ public class BiWorkloadTest extends WorkloadTest
                     equalTo( "200" ) );
         }
     }
+
+    @Test
+    public void shouldCreateOneBlockingStreamPerThroughputStreamEachRunningEveryQueryOncePerRound() throws Exception
+    {
+        // Given
+        int throughputStreamCount = 3;
+        int roundCount = 5;
+        DriverConfiguration configuration = ConsoleAndFileDriverConfiguration.fromDefaults(
+                DummyLdbcSnbBiDb.class.getName(),
+                LdbcSnbBiWorkload.class.getName(),
+                1 )
+                .applyArgs( LdbcSnbBiWorkloadConfiguration.defaultConfigSF1() )
+                .applyArg(
+                        LdbcSnbBiWorkloadConfiguration.PARAMETERS_DIRECTORY,
+                        TestUtils.getResource( "/snb/bi/" ).getAbsolutePath() )
+                .applyArg(
+                        LdbcSnbBiWorkloadConfiguration.THROUGHPUT_STREAMS,
+                        Integer.toString( throughputStreamCount ) );
+
+        // When
+        List<List<Operation>> streams = throughputTestStreams( configuration, roundCount );
+        List<List<Operation>> streamsOfSecondRun = throughputTestStreams( configuration, roundCount );
+
+        // Then
+        assertThat( streams.size(), equalTo( throughputStreamCount ) );
+        Set<Integer> allOperationTypes =
+                LdbcSnbBiWorkloadConfiguration.operationTypeToClassMapping().keySet();
+        for ( List<Operation> stream : streams )
+        {
+            for ( int round = 0; round < roundCount; round++ )
+            {
+                Set<Integer> roundOperationTypes = new HashSet<>();
+                for ( Operation operation : stream.subList(
+                        round * allOperationTypes.size(),
+                        (round + 1) * allOperationTypes.size() ) )
+                {
+                    roundOperationTypes.add( operation.type() );
+                }
+                assertThat( roundOperationTypes, equalTo( allOperationTypes ) );
+            }
+        }
+        assertFalse( operationTypes( streams.get( 0 ) ).equals( operationTypes( streams.get( 1 ) ) ) );
+        assertThat( streamsOfSecondRun, equalTo( streams ) );
+    }
+
+    @Test
+    public void shouldRejectThroughputStreamsThatWouldBeMultiplexedOntoFewerThreads() throws Exception
+    {
+        // Given
+        DriverConfiguration configuration = ConsoleAndFileDriverConfiguration.fromDefaults(
+                DummyLdbcSnbBiDb.class.getName(),
+                LdbcSnbBiWorkload.class.getName(),
+                1 )
+                .applyArgs( LdbcSnbBiWorkloadConfiguration.defaultConfigSF1() )
+                .applyArg(
+                        LdbcSnbBiWorkloadConfiguration.PARAMETERS_DIRECTORY,
+                        TestUtils.getResource( "/snb/bi/" ).getAbsolutePath() )
+                .applyArg( LdbcSnbBiWorkloadConfiguration.THROUGHPUT_STREAMS, "3" )
+                .applyArg( ConsoleAndFileDriverConfiguration.BLOCKING_STREAM_THREAD_COUNT_ARG, "1" );
+
+        // When
+        boolean rejected = false;
+        try ( Workload workload = new LdbcSnbBiWorkload() )
+        {
+            workload.init( configuration );
+        }
+        catch ( WorkloadException e )
+        {
+            rejected = true;
+        }
+
+        // Then
+        assertThat( rejected, equalTo( true ) );
+    }
+
+    private static List<List<Operation>> throughputTestStreams( DriverConfiguration configuration, int roundCount )
+            throws Exception
+    {
+        List<List<Operation>> streams = new ArrayList<>();
+        try ( Workload workload = new LdbcSnbBiWorkload() )
+        {
+            workload.init( configuration );
+            assertThat( workload.blockingStreamsAreSessions(), equalTo( true ) );
+            WorkloadStreams workloadStreams =
+                    workload.streams( new GeneratorFactory( new RandomDataGeneratorFactory( 42L ) ), false );
+            assertFalse( workloadStreams.asynchronousStream().nonDependencyOperations().hasNext() );
+            int operationCount = roundCount * LdbcSnbBiWorkloadConfiguration.operationTypeToClassMapping().size();
+            for ( WorkloadStreams.WorkloadStreamDefinition stream : workloadStreams.blockingStreamDefinitions() )
+            {
+                assertFalse( stream.dependencyOperations().hasNext() );
+                streams.add( Lists.newArrayList( Iterators.limit( stream.nonDependencyOperations(), operationCount ) ) );
+            }
+        }
+        return streams;
+    }
+
+    private static List<Integer> operationTypes( List<Operation> operations )
+    {
+        List<Integer> operationTypes = new ArrayList<>();
+        for ( Operation operation : operations )
+        {
+            operationTypes.add( operation.type() );
+        }
+        return operationTypes;
+    }
 }
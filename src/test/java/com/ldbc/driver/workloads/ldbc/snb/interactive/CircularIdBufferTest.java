@@ -0,0 +1,129 @@
+package com.ldbc.driver.workloads.ldbc.snb.interactive;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+public class CircularIdBufferTest {
+
+    @Test
+    public void shouldRoundCapacityUpToPowerOfTwo() {
+        assertThat(new CircularIdBuffer(1).capacity(), is(1));
+        assertThat(new CircularIdBuffer(100).capacity(), is(128));
+        assertThat(new CircularIdBuffer(1024).capacity(), is(1024));
+    }
+
+    @Test
+    public void shouldReturnIdsInOrderAddedAndNoIdWhenEmpty() {
+        // Given
+        CircularIdBuffer buffer = new CircularIdBuffer(4);
+
+        // When
+        buffer.add(1);
+        buffer.add(2);
+        buffer.add(3);
+
+        // Then
+        assertThat(buffer.poll(), equalTo(1L));
+        assertThat(buffer.poll(), equalTo(2L));
+        assertThat(buffer.poll(), equalTo(3L));
+        assertThat(buffer.poll(), equalTo(LdbcSnbShortReadGenerator.IdBuffer.NO_ID));
+    }
+
+    @Test
+    public void shouldEvictOldestIdsWhenFull() {
+        // Given
+        CircularIdBuffer buffer = new CircularIdBuffer(4);
+
+        // When
+        for (long id = 1; id <= 10; id++) {
+            buffer.add(id);
+        }
+
+        // Then
+        assertThat(buffer.poll(), equalTo(7L));
+        assertThat(buffer.poll(), equalTo(8L));
+        assertThat(buffer.poll(), equalTo(9L));
+        assertThat(buffer.poll(), equalTo(10L));
+        assertThat(buffer.poll(), equalTo(LdbcSnbShortReadGenerator.IdBuffer.NO_ID));
+    }
+
+    @Test
+    public void shouldNeitherLoseNorDuplicateIdsWithConcurrentProducersAndConsumers() throws InterruptedException {
+        // Given
+        final int threadCount = 4;
+        final int idsPerProducer = 100_000;
+        // large enough to never be full, so no ID is evicted
+        final CircularIdBuffer buffer = new CircularIdBuffer(threadCount * idsPerProducer);
+        final CountDownLatch start = new CountDownLatch(1);
+        final AtomicInteger producersRunning = new AtomicInteger(threadCount);
+        final List<BitSet> polledIdsPerConsumer = new ArrayList<>();
+        final AtomicInteger duplicateCount = new AtomicInteger(0);
+        List<Thread> threads = new ArrayList<>();
+        for (int i = 0; i < threadCount; i++) {
+            final long firstId = (long) i * idsPerProducer;
+            threads.add(new Thread(() -> {
+                awaitQuietly(start);
+                for (long id = firstId; id < firstId + idsPerProducer; id++) {
+                    buffer.add(id);
+                }
+                producersRunning.decrementAndGet();
+            }));
+            final BitSet polledIds = new BitSet();
+            polledIdsPerConsumer.add(polledIds);
+            threads.add(new Thread(() -> {
+                awaitQuietly(start);
+                while (true) {
+                    boolean producersDone = 0 == producersRunning.get();
+                    long id = buffer.poll();
+                    if (LdbcSnbShortReadGenerator.IdBuffer.NO_ID == id) {
+                        if (producersDone) {
+                            return;
+                        }
+                        continue;
+                    }
+                    if (polledIds.get((int) id)) {
+                        duplicateCount.incrementAndGet();
+                    }
+                    polledIds.set((int) id);
+                }
+            }));
+        }
+
+        // When
+        for (Thread thread : threads) {
+            thread.start();
+        }
+        start.countDown();
+        for (Thread thread : threads) {
+            thread.join();
+        }
+
+        // Then
+        BitSet allPolledIds = new BitSet();
+        int polledCount = 0;
+        for (BitSet polledIds : polledIdsPerConsumer) {
+            polledCount += polledIds.cardinality();
+            allPolledIds.or(polledIds);
+        }
+        assertThat(duplicateCount.get(), is(0));
+        assertThat(polledCount, is(threadCount * idsPerProducer));
+        assertThat(allPolledIds.cardinality(), is(threadCount * idsPerProducer));
+    }
+
+    private static void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -1,6 +1,5 @@
 package com.ldbc.driver.workloads.ldbc.snb.interactive;
 
-import com.google.common.collect.EvictingQueue;
 import com.google.common.collect.Lists;
 import com.google.common.collect.Sets;
 import com.ldbc.driver.Operation;
@@ -55,10 +54,14 @@ public class InteractiveShortReadGeneratorTest
         double initialProbability = Double.MAX_VALUE;
         double probabilityDegradationFactor = 0.1;
         double compressionRatio = 1.0;
-        EvictingQueue<Long> personIdBuffer = EvictingQueue.create(100);
-        personIdBuffer.addAll(Lists.newArrayList(1l, 2l, 3l, 4l, 5l));
-        EvictingQueue<Long> messageIdBuffer = EvictingQueue.create(100);
-        messageIdBuffer.addAll(Lists.newArrayList(1l, 2l, 3l, 4l, 5l));
+        LdbcSnbShortReadGenerator.IdBuffer personIdBuffer = LdbcSnbShortReadGenerator.circularBuffer(100);
+        for (long id = 1; id <= 5; id++) {
+            personIdBuffer.add(id);
+        }
+        LdbcSnbShortReadGenerator.IdBuffer messageIdBuffer = LdbcSnbShortReadGenerator.circularBuffer(100);
+        for (long id = 1; id <= 5; id++) {
+            messageIdBuffer.add(id);
+        }
         RandomDataGeneratorFactory randomFactory = new RandomDataGeneratorFactory(1l);
         LdbcSnbShortReadGenerator shortReadGenerator = new LdbcSnbShortReadGenerator(
                 initialProbability,
@@ -286,10 +289,14 @@ public class InteractiveShortReadGeneratorTest
                 LdbcShortQuery7MessageReplies.class
         );
         double compressionRatio = 0.9;
-        EvictingQueue<Long> personIdBuffer = EvictingQueue.create(100);
-        personIdBuffer.addAll(Lists.newArrayList(1l, 2l, 3l, 4l, 5l));
-        EvictingQueue<Long> messageIdBuffer = EvictingQueue.create(100);
-        messageIdBuffer.addAll(Lists.newArrayList(1l, 2l, 3l, 4l, 5l));
+        LdbcSnbShortReadGenerator.IdBuffer personIdBuffer = LdbcSnbShortReadGenerator.circularBuffer(100);
+        for (long id = 1; id <= 5; id++) {
+            personIdBuffer.add(id);
+        }
+        LdbcSnbShortReadGenerator.IdBuffer messageIdBuffer = LdbcSnbShortReadGenerator.circularBuffer(100);
+        for (long id = 1; id <= 5; id++) {
+            messageIdBuffer.add(id);
+        }
         RandomDataGeneratorFactory randomFactory = new RandomDataGeneratorFactory(1l);
         LdbcSnbShortReadGenerator shortReadGenerator = new LdbcSnbShortReadGenerator(
                 initialProbability,
@@ -434,10 +441,14 @@ public class InteractiveShortReadGeneratorTest
                 LdbcShortQuery7MessageReplies.class
         );
         double compressionRatio = 2.5;
-        EvictingQueue<Long> personIdBuffer = EvictingQueue.create(100);
-        personIdBuffer.addAll(Lists.newArrayList(1l, 2l, 3l, 4l, 5l));
-        EvictingQueue<Long> messageIdBuffer = EvictingQueue.create(100);
-        messageIdBuffer.addAll(Lists.newArrayList(1l, 2l, 3l, 4l, 5l));
+        LdbcSnbShortReadGenerator.IdBuffer personIdBuffer = LdbcSnbShortReadGenerator.circularBuffer(100);
+        for (long id = 1; id <= 5; id++) {
+            personIdBuffer.add(id);
+        }
+        LdbcSnbShortReadGenerator.IdBuffer messageIdBuffer = LdbcSnbShortReadGenerator.circularBuffer(100);
+        for (long id = 1; id <= 5; id++) {
+            messageIdBuffer.add(id);
+        }
         RandomDataGeneratorFactory randomFactory = new RandomDataGeneratorFactory(1l);
         LdbcSnbShortReadGenerator shortReadGenerator = new LdbcSnbShortReadGenerator(
                 initialProbability,
@@ -566,10 +577,14 @@ public class InteractiveShortReadGeneratorTest
                 LdbcShortQuery7MessageReplies.class
         );
         double compressionRatio = 0.2;
-        EvictingQueue<Long> personIdBuffer = EvictingQueue.create(100);
-        personIdBuffer.addAll(Lists.newArrayList(1l, 2l, 3l, 4l, 5l));
-        EvictingQueue<Long> messageIdBuffer = EvictingQueue.create(100);
-        messageIdBuffer.addAll(Lists.newArrayList(1l, 2l, 3l, 4l, 5l));
+        LdbcSnbShortReadGenerator.IdBuffer personIdBuffer = LdbcSnbShortReadGenerator.circularBuffer(100);
+        for (long id = 1; id <= 5; id++) {
+            personIdBuffer.add(id);
+        }
+        LdbcSnbShortReadGenerator.IdBuffer messageIdBuffer = LdbcSnbShortReadGenerator.circularBuffer(100);
+        for (long id = 1; id <= 5; id++) {
+            messageIdBuffer.add(id);
+        }
         RandomDataGeneratorFactory randomFactory = new RandomDataGeneratorFactory(1l);
         LdbcSnbShortReadGenerator shortReadGenerator = new LdbcSnbShortReadGenerator(
                 initialProbability,
@@ -701,10 +716,14 @@ public class InteractiveShortReadGeneratorTest
 //                LdbcShortQuery7MessageReplies.class
         );
         double compressionRatio = 1.0;
-        EvictingQueue<Long> personIdBuffer = EvictingQueue.create(100);
-        personIdBuffer.addAll(Lists.newArrayList(1l, 2l, 3l, 4l, 5l));
-        EvictingQueue<Long> messageIdBuffer = EvictingQueue.create(100);
-        messageIdBuffer.addAll(Lists.newArrayList(1l, 2l, 3l, 4l, 5l));
+        LdbcSnbShortReadGenerator.IdBuffer personIdBuffer = LdbcSnbShortReadGenerator.circularBuffer(100);
+        for (long id = 1; id <= 5; id++) {
+            personIdBuffer.add(id);
+        }
+        LdbcSnbShortReadGenerator.IdBuffer messageIdBuffer = LdbcSnbShortReadGenerator.circularBuffer(100);
+        for (long id = 1; id <= 5; id++) {
+            messageIdBuffer.add(id);
+        }
         RandomDataGeneratorFactory randomFactory = new RandomDataGeneratorFactory(1l);
         LdbcSnbShortReadGenerator shortReadGenerator = new LdbcSnbShortReadGenerator(
                 initialProbability,
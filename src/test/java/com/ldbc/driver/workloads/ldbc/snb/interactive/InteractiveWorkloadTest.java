@@ -4,8 +4,11 @@ import com.google.common.collect.Lists;
 import com.ldbc.driver.Operation;
 import com.ldbc.driver.Workload;
 import com.ldbc.driver.WorkloadException;
+import com.ldbc.driver.WorkloadStreams;
 import com.ldbc.driver.control.ConsoleAndFileDriverConfiguration;
 import com.ldbc.driver.control.DriverConfiguration;
+import com.ldbc.driver.generator.GeneratorFactory;
+import com.ldbc.driver.generator.RandomDataGeneratorFactory;
 import com.ldbc.driver.testutils.TestUtils;
 import com.ldbc.driver.util.Bucket;
 import com.ldbc.driver.util.Histogram;
@@ -21,10 +24,12 @@ import com.ldbc.driver.workloads.ldbc.snb.interactive.db.DummyLdbcSnbInteractive
 import org.junit.Test;
 
 import java.util.HashMap;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 
 import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.is;
 import static org.junit.Assert.assertThat;
 import static org.junit.Assert.assertTrue;
 
@@ -426,6 +431,73 @@ public class InteractiveWorkloadTest extends WorkloadTest
         );
     }
 
+    @Test
+    public void shouldReturnOperationsFromTimeStampWhenStreamsAreOpenedAtStreamFileOffsets() throws Exception
+    {
+        // Given
+        GeneratorFactory gf = new GeneratorFactory( new RandomDataGeneratorFactory( 42L ) );
+        long fromTimeStamp = 1295000000000L;
+        Workload workload = workload();
+        Workload workloadOpenedAtOffsets = workload();
+        long[][] streamFileOffsets = workloadOpenedAtOffsets.operationStreamFileOffsets( new long[]{fromTimeStamp} );
+
+        // When
+        WorkloadStreams streams = workload.streams( gf, false );
+        WorkloadStreams streamsOpenedAtOffsets =
+                workloadOpenedAtOffsets.streams( gf, false, fromTimeStamp, streamFileOffsets[0] );
+
+        // Then
+        assertThat( streamFileOffsets[0].length > 0, is( true ) );
+        assertThat( streamsOpenedAtOffsets.blockingStreamDefinitions().size(),
+                is( streams.blockingStreamDefinitions().size() ) );
+        for ( int i = 0; i < streams.blockingStreamDefinitions().size(); i++ )
+        {
+            assertSameOperationsFrom(
+                    fromTimeStamp,
+                    streams.blockingStreamDefinitions().get( i ).dependencyOperations(),
+                    streamsOpenedAtOffsets.blockingStreamDefinitions().get( i ).dependencyOperations(),
+                    Long.MAX_VALUE
+            );
+            assertSameOperationsFrom(
+                    fromTimeStamp,
+                    streams.blockingStreamDefinitions().get( i ).nonDependencyOperations(),
+                    streamsOpenedAtOffsets.blockingStreamDefinitions().get( i ).nonDependencyOperations(),
+                    Long.MAX_VALUE
+            );
+        }
+        // read operations are generated indefinitely
+        assertSameOperationsFrom(
+                fromTimeStamp,
+                streams.asynchronousStream().nonDependencyOperations(),
+                streamsOpenedAtOffsets.asynchronousStream().nonDependencyOperations(),
+                10_000
+        );
+        workload.close();
+        workloadOpenedAtOffsets.close();
+    }
+
+    private static void assertSameOperationsFrom( long fromTimeStamp, Iterator<Operation> operations,
+            Iterator<Operation> operationsOpenedAtOffsets, long limit )
+    {
+        long count = 0;
+        while ( operations.hasNext() && count < limit )
+        {
+            Operation operation = operations.next();
+            if ( operation.timeStamp() >= fromTimeStamp )
+            {
+                assertThat( operationsOpenedAtOffsets.hasNext(), is( true ) );
+                Operation operationOpenedAtOffsets = operationsOpenedAtOffsets.next();
+                assertThat( operationOpenedAtOffsets, equalTo( operation ) );
+                assertThat( operationOpenedAtOffsets.timeStamp(), is( operation.timeStamp() ) );
+                count++;
+            }
+        }
+        if ( Long.MAX_VALUE == limit )
+        {
+            assertThat( operationsOpenedAtOffsets.hasNext(), is( false ) );
+        }
+    }
+
     @Test
     public void shouldConvertFrequenciesToInterleavesWhenAllFrequenciesProvidedAndAllUpdatesEnabled() throws Exception
     {
@@ -1,5 +1,6 @@
 package com.ldbc.driver.workloads.ldbc.snb.interactive;
 
+import com.google.common.base.Charsets;
 import com.google.common.collect.Lists;
 import com.ldbc.driver.Operation;
 import com.ldbc.driver.csv.charseeker.BufferedCharSeeker;
@@ -8,22 +9,34 @@ import com.ldbc.driver.csv.charseeker.Extractors;
 import com.ldbc.driver.csv.charseeker.Readables;
 import com.ldbc.driver.csv.simple.SimpleCsvFileReader;
 import com.ldbc.driver.workloads.OperationTest;
+import org.junit.Rule;
 import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
 
 import java.io.BufferedReader;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
 import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
 import java.io.StringReader;
+import java.io.Writer;
 import java.text.ParseException;
+import java.util.ArrayList;
 import java.util.Date;
 import java.util.Iterator;
 import java.util.List;
 
 import static org.hamcrest.CoreMatchers.equalTo;
 import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
 import static org.junit.Assert.assertThat;
 
 public class InteractiveWriteEventStreamReaderTest
 {
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
 
     @Test
     public void shouldParseAllEventTypesWithWriteEventStreamReaderRegex_DATE() throws IOException, ParseException {
@@ -1051,4 +1064,133 @@ public class InteractiveWriteEventStreamReaderTest
         assertThat(writeEventStreamReader.hasNext(), is(false));
     }
 
+    @Test
+    public void shouldParseAllEventTypesWithWriteEventStreamReaderBinary_DATE() throws IOException, ParseException {
+        File binaryFile = binaryUpdateStreamFor(InteractiveWriteEventStreamReaderTestData.ROWS_FOR_ALL_EVENT_TYPES);
+        WriteEventStreamReaderBinary writeEventStreamReader = WriteEventStreamReaderBinary.create(binaryFile);
+        doShouldParseAllEventTypes(writeEventStreamReader);
+        writeEventStreamReader.close();
+    }
+
+    @Test
+    public void shouldParseDeletePerson1WithWriteEventStreamReaderBinary_DATE() throws IOException, ParseException {
+        File binaryFile = binaryUpdateStreamFor(InteractiveWriteEventStreamReaderTestData.DELETE_1_REMOVE_PERSON);
+        WriteEventStreamReaderBinary writeEventStreamReader = WriteEventStreamReaderBinary.create(binaryFile);
+        doShouldParseDelete1RemovePerson(writeEventStreamReader);
+        writeEventStreamReader.close();
+    }
+
+    @Test
+    public void shouldReadSameOperationsFromBinaryAsFromCsvUpdateStreamWhenRecordsSpanMappedSegments() throws IOException {
+        for (String updateStreamName : Lists.newArrayList("updateStream_0_0_forum.csv", "updateStream_0_0_person.csv")) {
+            // Given
+            File csvFile = new File("src/test/resources/snb/interactive/", updateStreamName);
+            File binaryFile = WriteEventStreamWriterBinary.binaryFileFor(csvFile, temporaryFolder.newFolder());
+            long convertedOperationCount = WriteEventStreamWriterBinary.convert(csvFile, binaryFile);
+
+            // When
+            CharSeeker charSeeker = new BufferedCharSeeker(
+                    Readables.wrap(new InputStreamReader(new FileInputStream(csvFile), Charsets.UTF_8)));
+            Iterator<Operation> csvReader = WriteEventStreamReaderCharSeeker.create(charSeeker, new Extractors(';', ','), '|');
+            // small segments, so most records are read after the mapped segment has moved
+            WriteEventStreamReaderBinary binaryReader = new WriteEventStreamReaderBinary(binaryFile, 100);
+
+            // Then
+            long operationCount = 0;
+            while (csvReader.hasNext()) {
+                Operation expected = csvReader.next();
+                assertThat(binaryReader.hasNext(), is(true));
+                Operation actual = binaryReader.next();
+                assertThat(actual, equalTo(expected));
+                assertThat(actual.scheduledStartTimeAsMilli(), is(expected.scheduledStartTimeAsMilli()));
+                assertThat(actual.timeStamp(), is(expected.timeStamp()));
+                assertThat(actual.dependencyTimeStamp(), is(expected.dependencyTimeStamp()));
+                operationCount++;
+            }
+            assertThat(binaryReader.hasNext(), is(false));
+            assertThat(operationCount, is(convertedOperationCount));
+            assertThat(operationCount > 0, is(true));
+            charSeeker.close();
+            binaryReader.close();
+        }
+    }
+
+    @Test
+    public void shouldReadOperationsFromTimeStampWhenStartedAtOffsetOfFirstOperationFromIt() throws IOException {
+        // Given
+        File csvFile = new File("src/test/resources/snb/interactive/", "updateStream_0_0_forum.csv");
+        File binaryFile = WriteEventStreamWriterBinary.binaryFileFor(csvFile, temporaryFolder.newFolder());
+        WriteEventStreamWriterBinary.convert(csvFile, binaryFile);
+        CharSeeker charSeeker = new BufferedCharSeeker(
+                Readables.wrap(new InputStreamReader(new FileInputStream(csvFile), Charsets.UTF_8)));
+        List<Operation> operations =
+                Lists.newArrayList(WriteEventStreamReaderCharSeeker.create(charSeeker, new Extractors(';', ','), '|'));
+        charSeeker.close();
+        Operation lastOperation = operations.get(operations.size() - 1);
+        long[] timeStamps = new long[]{
+                operations.get(0).timeStamp() - 1,
+                operations.get(0).timeStamp(),
+                operations.get(100).timeStamp(),
+                operations.get(100).timeStamp() + 1,
+                operations.get(operations.size() / 2).timeStamp(),
+                lastOperation.timeStamp(),
+                lastOperation.timeStamp() + 1
+        };
+
+        // When
+        long[] csvOffsets = WriteEventStreamReaderCharSeeker.offsetsOfFirstOperationsFrom(csvFile, timeStamps, '|');
+        long[] binaryOffsets = WriteEventStreamReaderBinary.offsetsOfFirstOperationsFrom(binaryFile, timeStamps);
+
+        // Then
+        for (int i = 0; i < timeStamps.length; i++) {
+            List<Operation> expected = new ArrayList<>();
+            for (Operation operation : operations) {
+                if (operation.timeStamp() >= timeStamps[i]) {
+                    expected.add(operation);
+                }
+            }
+            FileInputStream csvInputStream = new FileInputStream(csvFile);
+            csvInputStream.getChannel().position(csvOffsets[i]);
+            charSeeker = new BufferedCharSeeker(Readables.wrap(new InputStreamReader(csvInputStream, Charsets.UTF_8)));
+            List<Operation> csvOperations =
+                    Lists.newArrayList(WriteEventStreamReaderCharSeeker.create(charSeeker, new Extractors(';', ','), '|'));
+            charSeeker.close();
+            WriteEventStreamReaderBinary binaryReader = WriteEventStreamReaderBinary.create(binaryFile, binaryOffsets[i]);
+            List<Operation> binaryOperations = Lists.newArrayList(binaryReader);
+            binaryReader.close();
+
+            assertThat(csvOperations, equalTo(expected));
+            assertThat(binaryOperations, equalTo(expected));
+        }
+        assertThat(csvOffsets[0], is(0L));
+        assertThat(csvOffsets[timeStamps.length - 1], is(csvFile.length()));
+        assertThat(binaryOffsets[timeStamps.length - 1], is(binaryFile.length()));
+    }
+
+    @Test
+    public void shouldNotReturnOffsetsWhenOperationsAreNotInTimeStampOrder() throws IOException {
+        // Given
+        File csvFile = temporaryFolder.newFile();
+        try (Writer writer = new OutputStreamWriter(new FileOutputStream(csvFile), "UTF-8")) {
+            writer.write("10|0|9|1\n20|0|9|2\n15|0|9|3\n30|0|9|4\n");
+        }
+
+        // When / Then
+        assertThat(WriteEventStreamReaderCharSeeker.offsetsOfFirstOperationsFrom(csvFile, new long[]{12}, '|'),
+                equalTo(new long[]{9}));
+        assertThat(WriteEventStreamReaderCharSeeker.offsetsOfFirstOperationsFrom(csvFile, new long[]{12, 25}, '|'),
+                nullValue());
+    }
+
+    private File binaryUpdateStreamFor(String data) throws IOException {
+        File directory = temporaryFolder.newFolder();
+        File csvFile = new File(directory, "updateStream_0_0_person.csv");
+        try (Writer writer = new OutputStreamWriter(new FileOutputStream(csvFile), "UTF-8")) {
+            writer.write(data);
+        }
+        WriteEventStreamWriterBinary.convertDirectory(directory, directory);
+        File binaryFile = new File(directory, "updateStream_0_0_person" + WriteEventStreamWriterBinary.FILE_SUFFIX);
+        assertThat(binaryFile.exists(), is(true));
+        return binaryFile;
+    }
 }
@@ -33,8 +33,10 @@ import com.ldbc.driver.workloads.ldbc.snb.interactive.Query6EventStreamReader;
 import com.ldbc.driver.workloads.ldbc.snb.interactive.Query7EventStreamReader;
 import com.ldbc.driver.workloads.ldbc.snb.interactive.Query8EventStreamReader;
 import com.ldbc.driver.workloads.ldbc.snb.interactive.Query9EventStreamReader;
+import com.ldbc.driver.workloads.ldbc.snb.interactive.WriteEventStreamReaderBinary;
 import com.ldbc.driver.workloads.ldbc.snb.interactive.WriteEventStreamReaderCharSeeker;
 import com.ldbc.driver.workloads.ldbc.snb.interactive.WriteEventStreamReaderRegex;
+import com.ldbc.driver.workloads.ldbc.snb.interactive.WriteEventStreamWriterBinary;
 import org.junit.Ignore;
 import org.junit.Test;
 
@@ -1104,6 +1106,95 @@ public class InteractiveEventStreamReaderPerformanceTest
         }
     }
 
+    @Ignore
+    @Test
+    public void csvVersusBinaryUpdateStreamReadingPerformanceTest() throws IOException
+    {
+        File parentStreamsDir = new File( "/Users/alexaverbuch/IdeaProjects/scale_factor_streams/current/" );
+        List<File> csvUpdateStreams = Lists.newArrayList(
+                new File( parentStreamsDir, "sf10_partitions_01/updateStream_0_0_forum.csv" ),
+                new File( parentStreamsDir, "sf10_partitions_01/updateStream_0_0_person.csv" )
+        );
+
+        int repetitions = 2;
+        int bufferSize = 2 * 1024 * 1024;
+        for ( File csvUpdateStream : csvUpdateStreams )
+        {
+            File binaryUpdateStream =
+                    WriteEventStreamWriterBinary.binaryFileFor( csvUpdateStream, csvUpdateStream.getParentFile() );
+            {
+                long startTimeAsMilli = timeSource.nowAsMilli();
+                long operations = WriteEventStreamWriterBinary.convert( csvUpdateStream, binaryUpdateStream );
+                long durationAsMilli = timeSource.nowAsMilli() - startTimeAsMilli;
+
+                System.out.println(
+                        format( "%s took %s to convert %s operations from %s (%s bytes) to %s (%s bytes)",
+                                WriteEventStreamWriterBinary.class.getSimpleName(),
+                                TEMPORAL_UTIL.milliDurationToString( durationAsMilli ),
+                                numberFormatter.format( operations ),
+                                csvUpdateStream.getName(),
+                                numberFormatter.format( csvUpdateStream.length() ),
+                                binaryUpdateStream.getName(),
+                                numberFormatter.format( binaryUpdateStream.length() )
+                        )
+                );
+            }
+
+            {
+                long lines = 0;
+                long startTimeAsMilli = timeSource.nowAsMilli();
+                for ( int i = 0; i < repetitions; i++ )
+                {
+                    CharSeeker charSeeker = new BufferedCharSeeker( Readables
+                            .wrap( new InputStreamReader( new FileInputStream( csvUpdateStream ), Charsets.UTF_8 ) ),
+                            bufferSize );
+                    int columnDelimiter = '|';
+                    Extractors extractors = new Extractors( ';', ',' );
+                    Iterator<Operation> writeEventStreamReader =
+                            WriteEventStreamReaderCharSeeker.create( charSeeker, extractors, columnDelimiter );
+                    lines += readingStreamPerformanceTest( writeEventStreamReader );
+                    charSeeker.close();
+                }
+                long endTimeAsMilli = timeSource.nowAsMilli();
+                long durationAsMilli = (endTimeAsMilli - startTimeAsMilli) / repetitions;
+                lines = lines / repetitions;
+
+                System.out.println(
+                        format( "%s took %s to read %s line: %s lines/s",
+                                WriteEventStreamReaderCharSeeker.class.getSimpleName() + "-" + bufferSize,
+                                TEMPORAL_UTIL.milliDurationToString( durationAsMilli ),
+                                numberFormatter.format( lines ),
+                                numberFormatter.format( (double) lines / durationAsMilli * 1000 )
+                        )
+                );
+            }
+
+            {
+                long lines = 0;
+                long startTimeAsMilli = timeSource.nowAsMilli();
+                for ( int i = 0; i < repetitions; i++ )
+                {
+                    WriteEventStreamReaderBinary writeEventStreamReader =
+                            WriteEventStreamReaderBinary.create( binaryUpdateStream );
+                    lines += readingStreamPerformanceTest( writeEventStreamReader );
+                    writeEventStreamReader.close();
+                }
+                long endTimeAsMilli = timeSource.nowAsMilli();
+                long durationAsMilli = (endTimeAsMilli - startTimeAsMilli) / repetitions;
+                lines = lines / repetitions;
+
+                System.out.println(
+                        format( "%s took %s to read %s line: %s lines/s",
+                                WriteEventStreamReaderBinary.class.getSimpleName(),
+                                TEMPORAL_UTIL.milliDurationToString( durationAsMilli ),
+                                numberFormatter.format( lines ),
+                                numberFormatter.format( (double) lines / durationAsMilli * 1000 )
+                        )
+                );
+            }
+        }
+    }
+
     public long readingStreamPerformanceTest( Iterator parser ) throws FileNotFoundException
     {
         long lines = 0;
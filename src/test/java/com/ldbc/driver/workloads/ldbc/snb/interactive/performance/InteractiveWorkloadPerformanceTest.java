@@ -139,7 +139,16 @@ public class InteractiveWorkloadPerformanceTest
                     printHelp,
                     ignoreScheduledStartTimes,
                     warmupCount,
-                    skipCount
+                    skipCount,
+                    ConsoleAndFileDriverConfiguration.OPERATION_EXECUTOR_DEFAULT,
+                    ConsoleAndFileDriverConfiguration.TIMESTAMP_UNIT_DEFAULT,
+                    ConsoleAndFileDriverConfiguration.METRICS_RING_SIZE_DEFAULT,
+                    ConsoleAndFileDriverConfiguration.METRICS_WAIT_STRATEGY_DEFAULT,
+                    ConsoleAndFileDriverConfiguration.METRICS_RING_PER_CPU_DEFAULT,
+                    ConsoleAndFileDriverConfiguration.METRICS_SERVICE_DEFAULT,
+                    ConsoleAndFileDriverConfiguration.RESULTS_LOG_FORMAT_DEFAULT,
+                    ConsoleAndFileDriverConfiguration.BLOCKING_STREAM_THREAD_COUNT_DEFAULT,
+                    ConsoleAndFileDriverConfiguration.TELEMETRY_PORT_DEFAULT
             );
 
             configuration = (ConsoleAndFileDriverConfiguration) configuration
@@ -305,7 +314,16 @@ public class InteractiveWorkloadPerformanceTest
                     printHelp,
                     ignoreScheduledStartTimes,
                     warmupCount,
-                    skipCount
+                    skipCount,
+                    ConsoleAndFileDriverConfiguration.OPERATION_EXECUTOR_DEFAULT,
+                    ConsoleAndFileDriverConfiguration.TIMESTAMP_UNIT_DEFAULT,
+                    ConsoleAndFileDriverConfiguration.METRICS_RING_SIZE_DEFAULT,
+                    ConsoleAndFileDriverConfiguration.METRICS_WAIT_STRATEGY_DEFAULT,
+                    ConsoleAndFileDriverConfiguration.METRICS_RING_PER_CPU_DEFAULT,
+                    ConsoleAndFileDriverConfiguration.METRICS_SERVICE_DEFAULT,
+                    ConsoleAndFileDriverConfiguration.RESULTS_LOG_FORMAT_DEFAULT,
+                    ConsoleAndFileDriverConfiguration.BLOCKING_STREAM_THREAD_COUNT_DEFAULT,
+                    ConsoleAndFileDriverConfiguration.TELEMETRY_PORT_DEFAULT
             );
 
             configuration = (ConsoleAndFileDriverConfiguration) configuration